@@ -25,6 +25,7 @@ import boofcv.io.UtilIO;
 import boofcv.io.calibration.CalibrationIO;
 import boofcv.io.image.ConvertBufferedImage;
 import boofcv.io.image.UtilImageIO;
+import boofcv.io.wrapper.images.PrefetchImageSequence;
 import boofcv.misc.BoofMiscOps;
 import boofcv.struct.border.BorderType;
 import boofcv.struct.calib.CameraPinhole;
@@ -145,13 +146,18 @@ public class BatchRemoveLensDistortion {
 
 		int numDigits = BoofMiscOps.numDigits(paths.size() - 1);
 		String format = "%0" + numDigits + "d";
+		// Images are loaded and converted in the background while the previous image is being processed
+		var sequence = new PrefetchImageSequence<>(paths, distoredImg.getImageType());
 		for (int i = 0; i < paths.size(); i++) {
 			File file = new File(paths.get(i));
 			System.out.println("processing " + file.getName());
-			BufferedImage orig = UtilImageIO.loadImage(file.getAbsolutePath());
-			if (orig == null) {
-				throw new RuntimeException("Can't load file: " + file.getAbsolutePath());
+			Planar<GrayF32> loaded;
+			try {
+				loaded = sequence.next();
+			} catch (RuntimeException e) {
+				throw new RuntimeException("Can't load file: " + file.getAbsolutePath(), e);
 			}
+			BufferedImage orig = sequence.getGuiImage();
 
 			if (orig.getWidth() != param.width || orig.getHeight() != param.height) {
 				System.err.println("intrinsic parameters and image size do not match!");
@@ -161,8 +167,7 @@ public class BatchRemoveLensDistortion {
 			if (listener != null)
 				listener.loadedImage(orig, file.getName());
 
-			ConvertBufferedImage.convertFromPlanar(orig, distoredImg, true, GrayF32.class);
-			distort.apply(distoredImg, undistoredImg);
+			distort.apply(loaded, undistoredImg);
 			ConvertBufferedImage.convertTo(undistoredImg, out, true);
 
 			String nameOut;
@@ -178,6 +183,7 @@ public class BatchRemoveLensDistortion {
 				break;
 			}
 		}
+		sequence.close();
 		if (listener != null)
 			listener.finishedConverting();
 	}
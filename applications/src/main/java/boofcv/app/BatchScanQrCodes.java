@@ -23,14 +23,13 @@ import boofcv.alg.fiducial.qrcode.QrCode;
 import boofcv.app.batch.BatchControlPanel;
 import boofcv.factory.fiducial.FactoryFiducial;
 import boofcv.io.UtilIO;
-import boofcv.io.image.ConvertBufferedImage;
-import boofcv.io.image.UtilImageIO;
+import boofcv.io.wrapper.images.PrefetchImageSequence;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
 import org.kohsuke.args4j.CmdLineException;
 import org.kohsuke.args4j.CmdLineParser;
 import org.kohsuke.args4j.Option;
 
-import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.PrintStream;
@@ -59,8 +58,6 @@ public class BatchScanQrCodes {
 	boolean guiMode = false;
 
 	QrCodeDetector<GrayU8> scanner = FactoryFiducial.qrcode(null, GrayU8.class);
-	GrayU8 gray = new GrayU8(1, 1);
-
 	PrintStream output;
 
 	BatchControlPanel.Listener listener;
@@ -88,25 +85,28 @@ public class BatchScanQrCodes {
 			return;
 		}
 
-		for (String path : inputs) {
-			processFile(new File(path));
+		// Images are loaded in the background while the previous image is being scanned
+		var sequence = new PrefetchImageSequence<>(inputs, ImageType.SB_U8);
+		while (sequence.hasNext()) {
+			GrayU8 gray;
+			try {
+				gray = sequence.next();
+			} catch (RuntimeException e) {
+				System.err.println("Can't open " + sequence.getCurrentPath());
+				continue;
+			}
+			processImage(new File(sequence.getCurrentPath()), gray);
 		}
+		sequence.close();
 		if (verbose)
 			System.out.println("\n\nDone! Images Count = " + total);
 	}
 
-	private void processFile( File f ) throws UnsupportedEncodingException {
-		BufferedImage buffered = UtilImageIO.loadImage(f.getAbsolutePath());
-		if (buffered == null) {
-			System.err.println("Can't open " + f.getPath());
-			return;
-		}
+	private void processImage( File f, GrayU8 gray ) throws UnsupportedEncodingException {
 		if (listener != null) {
 			listener.batchUpdate(f.getName());
 		}
 
-		ConvertBufferedImage.convertFrom(buffered, gray);
-
 		scanner.process(gray);
 		output.printf("%d %s\n", scanner.getDetections().size(), f.getPath());
 
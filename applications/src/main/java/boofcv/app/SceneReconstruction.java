@@ -22,8 +22,6 @@ import boofcv.BoofVerbose;
 import boofcv.abst.geo.bundle.SceneStructureMetric;
 import boofcv.abst.tracker.PointTrack;
 import boofcv.abst.tracker.PointTracker;
-import boofcv.alg.cloud.PointCloudReader;
-import boofcv.alg.cloud.PointCloudUtils_F64;
 import boofcv.alg.geo.bundle.cameras.BundlePinholeSimplified;
 import boofcv.alg.misc.PixelMath;
 import boofcv.alg.mvs.DisparityParameters;
@@ -51,10 +49,10 @@ import boofcv.io.geo.MultiViewIO;
 import boofcv.io.image.UtilImageIO;
 import boofcv.io.points.PointCloudIO;
 import boofcv.io.wrapper.images.LoadFileImageSequence2;
+import boofcv.io.wrapper.images.PrefetchImageSequence;
 import boofcv.misc.BoofMiscOps;
 import boofcv.misc.LookUpImages;
 import boofcv.struct.Configuration;
-import boofcv.struct.Point3dRgbI_F64;
 import boofcv.struct.image.*;
 import boofcv.visualize.PointCloudViewer;
 import boofcv.visualize.VisualizeData;
@@ -64,7 +62,6 @@ import georegression.struct.point.Point3D_F64;
 import georegression.struct.so.Rodrigues_F64;
 import gnu.trove.map.hash.TIntObjectHashMap;
 import org.ddogleg.DDoglegConcurrency;
-import org.ddogleg.struct.DogArray;
 import org.ddogleg.struct.DogArray_I32;
 import org.jetbrains.annotations.NotNull;
 import org.kohsuke.args4j.CmdLineException;
@@ -137,6 +134,9 @@ public class SceneReconstruction {
 	@Option(name = "--AllScenes", usage = "If true, a dense reconstruction will be done for all scenes. Not just the largest")
 	boolean allScenes = false;
 
+	@Option(name = "--Binary", usage = "Save intermediate results in a binary format instead of YAML. Much faster for large scenes.")
+	boolean binary = false;
+
 	@Option(name = "--SaveFusedDisparity", usage = "If true, it will save the fused disparity images")
 	boolean saveFusedDisparity = false;
 
@@ -246,19 +246,23 @@ public class SceneReconstruction {
 
 			if (loadSimilar) {
 				System.out.println("Loading similar from disk");
-				loadImageSizes();
-				dbSimilar = MultiViewIO.loadSimilarImages(new File(outputPath, "similar.yaml").getPath());
+				loadImageSizes(paths);
+				dbSimilar = MultiViewIO.loadSimilarImages(checkpointFile(new File(outputPath), "similar", true));
 			} else {
 				if (ordered)
-					findSimilarImagesSequence();
+					findSimilarImagesSequence(paths);
+				else
+					findSimilarImagesUnsorted(paths);
+				String path = checkpointFile(new File(outputPath), "similar", false);
+				if (binary)
+					MultiViewIO.saveBinary(dbSimilar, path);
 				else
-					findSimilarImagesUnsorted();
-				MultiViewIO.save(dbSimilar, new File(outputPath, "similar.yaml").getPath());
+					MultiViewIO.save(dbSimilar, path);
 			}
 
 			if (loadPairwise) {
 				System.out.println("Loading pairwise from disk");
-				pairwise = MultiViewIO.load(new File(outputPath, "pairwise.yaml").getPath(), (PairwiseImageGraph)null);
+				pairwise = MultiViewIO.load(checkpointFile(new File(outputPath), "pairwise", true), (PairwiseImageGraph)null);
 			} else {
 				computePairwise();
 			}
@@ -315,7 +319,7 @@ public class SceneReconstruction {
 		for (String sceneDirectory : sceneDirs) {
 			File f = new File(sceneDirectory);
 			System.out.println("Loading scene=" + f.getName());
-			listScenes.add(MultiViewIO.load(new File(f, "working.yaml").getPath(), pairwise, (SceneWorkingGraph)null));
+			listScenes.add(MultiViewIO.load(checkpointFile(f, "working", true), pairwise, (SceneWorkingGraph)null));
 		}
 		return false;
 	}
@@ -341,9 +345,13 @@ public class SceneReconstruction {
 		if (!loadSparseScene) {
 			UtilIO.mkdirs(sceneDirectory);
 			bundleAdjustmentRefine(sceneDirectory, working);
-			MultiViewIO.save(working, new File(sceneDirectory, "working.yaml").getPath());
+			String path = checkpointFile(sceneDirectory, "working", false);
+			if (binary)
+				MultiViewIO.saveBinary(working, path);
+			else
+				MultiViewIO.save(working, path);
 		} else {
-			scene = MultiViewIO.load(new File(sceneDirectory, "structure.yaml").getPath(), (SceneStructureMetric)null);
+			scene = MultiViewIO.load(checkpointFile(sceneDirectory, "structure", true), (SceneStructureMetric)null);
 		}
 		printSparseSummary(working);
 
@@ -428,19 +436,20 @@ public class SceneReconstruction {
 		}
 	}
 
-	private void findSimilarImagesUnsorted() {
+	private void findSimilarImagesUnsorted( List<String> paths ) {
+		PrefetchImageSequence<Planar<GrayU8>> sequence = prefetchImages(paths);
 		final var similarImages = FactorySceneReconstruction.createSimilarImages(configSimilarUnordered, ImageType.SB_U8);
 
 		similarImages.setVerbose(out, BoofMiscOps.hashSet(BoofVerbose.RECURSIVE));
 
 		// Track features across the entire sequence and save the results
 		BoofMiscOps.profile(() -> {
-			GrayU8 gray = new GrayU8(images.getWidth(), images.getHeight());
+			GrayU8 gray = new GrayU8(sequence.getWidth(), sequence.getHeight());
 			dbCams.addCameraCanonical(gray.width, gray.height, 60.0);
-			while (images.hasNext()) {
-				Planar<GrayU8> color = images.next();
+			while (sequence.hasNext()) {
+				Planar<GrayU8> color = sequence.next();
 				ConvertImage.average(color, gray);
-				String viewID = images.getFrameNumber() + "";
+				String viewID = sequence.getFrameNumber() + "";
 				similarImages.addImage(viewID, gray);
 				listDimensions.add(new ImageDimension(gray.width, gray.height));
 
@@ -452,23 +461,36 @@ public class SceneReconstruction {
 		}, "Finding Similar");
 
 		this.dbSimilar = similarImages;
+		sequence.close();
+	}
+
+	/**
+	 * Creates a sequence which loads and rescales images in the background while the current image is processed
+	 */
+	private PrefetchImageSequence<Planar<GrayU8>> prefetchImages( List<String> paths ) {
+		var sequence = new PrefetchImageSequence<>(paths, ImageType.PL_U8);
+		sequence.setTargetPixels(maxPixels);
+		return sequence;
 	}
 
 	/**
 	 * Loads each image and saves its size.
 	 */
-	private void loadImageSizes() {
-		dbCams.addCameraCanonical(images.getWidth(), images.getHeight(), 60);
+	private void loadImageSizes( List<String> paths ) {
+		PrefetchImageSequence<Planar<GrayU8>> sequence = prefetchImages(paths);
+		dbCams.addCameraCanonical(sequence.getWidth(), sequence.getHeight(), 60);
 		int frameID = 0;
-		while (images.hasNext()) {
-			Planar<GrayU8> color = images.next();
+		while (sequence.hasNext()) {
+			Planar<GrayU8> color = sequence.next();
 			listDimensions.add(new ImageDimension(color.width, color.height));
 			dbCams.addView(frameID + "", 0);
 			frameID += 1;
 		}
+		sequence.close();
 	}
 
-	private void findSimilarImagesSequence() {
+	private void findSimilarImagesSequence( List<String> paths ) {
+		PrefetchImageSequence<Planar<GrayU8>> sequence = prefetchImages(paths);
 		PointTracker<GrayU8> tracker = FactoryPointTracker.tracker(configTracker, GrayU8.class, null);
 		var activeTracks = new ArrayList<PointTrack>();
 
@@ -478,11 +500,11 @@ public class SceneReconstruction {
 
 		// Track features across the entire sequence and save the results
 		BoofMiscOps.profile(() -> {
-			GrayU8 gray = new GrayU8(images.getWidth(), images.getHeight());
-			similarImages.initialize(images.getWidth(), images.getHeight());
-			dbCams.addCameraCanonical(images.getWidth(), images.getHeight(), 60);
-			while (images.hasNext()) {
-				Planar<GrayU8> color = images.next();
+			GrayU8 gray = new GrayU8(sequence.getWidth(), sequence.getHeight());
+			similarImages.initialize(sequence.getWidth(), sequence.getHeight());
+			dbCams.addCameraCanonical(sequence.getWidth(), sequence.getHeight(), 60);
+			while (sequence.hasNext()) {
+				Planar<GrayU8> color = sequence.next();
 				ConvertImage.average(color, gray);
 
 				tracker.process(gray);
@@ -498,6 +520,7 @@ public class SceneReconstruction {
 		}, "Finding Similar");
 
 		this.dbSimilar = similarImages;
+		sequence.close();
 	}
 
 	private void computePairwise() {
@@ -508,7 +531,11 @@ public class SceneReconstruction {
 		}, "Created Pairwise graph");
 		pairwise = generatePairwise.getGraph();
 
-		MultiViewIO.save(pairwise, new File(outputPath, "pairwise.yaml").getPath());
+		String path = checkpointFile(new File(outputPath), "pairwise", false);
+		if (binary)
+			MultiViewIO.saveBinary(pairwise, path);
+		else
+			MultiViewIO.save(pairwise, path);
 	}
 
 	private void computeMetric() {
@@ -537,7 +564,36 @@ public class SceneReconstruction {
 		}, "Bundle Adjustment refine");
 		scene = refine.metricSba.structure;
 
-		MultiViewIO.save(scene, new File(sceneDirectory, "structure.yaml").getPath());
+		String path = checkpointFile(sceneDirectory, "structure", false);
+		if (binary)
+			MultiViewIO.saveBinary(scene, path);
+		else
+			MultiViewIO.save(scene, path);
+	}
+
+	/**
+	 * Path to the file an intermediate result is saved in. When loading, the most recently modified of the
+	 * binary and YAML files is used, since either one could have been written by a previous run. When saving,
+	 * the file in the other format is deleted so that it can't be loaded by mistake later on.
+	 */
+	private String checkpointFile( File directory, String name, boolean loading ) {
+		var fileBinary = new File(directory, name + ".bin");
+		var fileYaml = new File(directory, name + ".yaml");
+
+		if (loading) {
+			if (!fileBinary.exists())
+				return fileYaml.getPath();
+			if (!fileYaml.exists() || fileBinary.lastModified() >= fileYaml.lastModified())
+				return fileBinary.getPath();
+			return fileYaml.getPath();
+		}
+
+		// Remove the stale checkpoint in the format which isn't being saved
+		File selected = binary ? fileBinary : fileYaml;
+		File other = binary ? fileYaml : fileBinary;
+		if (other.exists() && !other.delete())
+			System.err.println("Failed to delete old checkpoint: " + other.getPath());
+		return selected.getPath();
 	}
 
 	private void printSparseSummary( SceneWorkingGraph working ) {
@@ -595,7 +651,8 @@ public class SceneReconstruction {
 	}
 
 	/**
-	 * Loads images by calling internal functions in the image sequence. Uses previously saved dimensions.	 * @return
+	 * Loads images by calling internal functions in the image sequence. Uses previously saved dimensions.
+	 * Dense reconstruction can load images from multiple threads, so nothing is shared between calls.
 	 */
 	@NotNull private LookUpImages lookupAndRescale( List<String> paths ) {
 		return new LookUpImages() {
@@ -607,8 +664,9 @@ public class SceneReconstruction {
 
 			@Override public <LT extends ImageBase<LT>> boolean loadImage( String name, LT output ) {
 				int index = Integer.parseInt(name);
-				GConvertImage.convert(images.loadImage(paths.get(index)), output);
-//				output.setTo((LT)images.loadImage(paths.get(index)));
+				Planar<GrayU8> image = images.getImageType().createImage(1, 1);
+				images.loadImage(paths.get(index), image);
+				GConvertImage.convert(image, output);
 				return true;
 			}
 		};
@@ -618,24 +676,22 @@ public class SceneReconstruction {
 		List<Point3D_F64> cloud = sparseToDense.getCloud();
 		DogArray_I32 colorsRgb = sparseToDense.getColorRgb();
 
-		// Save everything
-		try (FileOutputStream out = new FileOutputStream(new File(outputDirectory, "cloud.ply"))) {
-			PointCloudIO.save3D(PointCloudIO.Format.PLY, PointCloudReader.wrapF64(cloud, colorsRgb.data), true, out);
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-
-		// Save the dense point cloud to disk in PLY format
-		try (FileOutputStream out = new FileOutputStream(new File(outputDirectory, "cloud_clipped.ply"))) {
+		// Points are streamed to disk, which avoids creating a filtered copy of the cloud
+		File fileAll = new File(outputDirectory, "cloud.ply");
+		File fileClipped = new File(outputDirectory, "cloud_clipped.ply");
+		try (PointCloudIO.StreamWriter all = PointCloudIO.createStreamWriter(PointCloudIO.Format.PLY, fileAll, true);
+			 PointCloudIO.StreamWriter clipped = PointCloudIO.createStreamWriter(PointCloudIO.Format.PLY, fileClipped, true)) {
 			// Filter points which are far away to make it easier to view in 3rd party viewers that auto scale
 			// You might need to adjust the threshold for your application if too many points are cut
 			double distanceThreshold = 50.0;
 
-			DogArray<Point3dRgbI_F64> filtered = PointCloudUtils_F64.filter(
-					( idx, p ) -> p.setTo(cloud.get(idx)), colorsRgb::get, cloud.size(),
-					( idx ) -> cloud.get(idx).norm() <= distanceThreshold, null);
-
-			PointCloudIO.save3D(PointCloudIO.Format.PLY, PointCloudReader.wrapF64RGB(filtered.toList()), true, out);
+			for (int i = 0; i < cloud.size(); i++) {
+				Point3D_F64 p = cloud.get(i);
+				int rgb = colorsRgb.get(i);
+				all.add(p.x, p.y, p.z, rgb);
+				if (p.norm() <= distanceThreshold)
+					clipped.add(p.x, p.y, p.z, rgb);
+			}
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
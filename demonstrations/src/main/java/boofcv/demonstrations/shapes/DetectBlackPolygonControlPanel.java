@@ -101,7 +101,7 @@ public class DetectBlackPolygonControlPanel extends StandardAlgConfigPanel
 		setBorder.addActionListener(this);
 		setBorder.setSelected(configPolygon.detector.canTouchBorder);
 
-		setConcurrent = checkbox("Concurrent", BoofConcurrency.USE_CONCURRENT);
+		setConcurrent = checkbox("Concurrent", BoofConcurrency.isUseConcurrent());
 
 		setRefineContour = checkbox("Refine Contour",configPolygon.refineContour);
 		setRefineGray = checkbox("Refine Gray",configPolygon.refineGray != null);
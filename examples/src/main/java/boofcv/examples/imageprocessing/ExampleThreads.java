@@ -21,6 +21,7 @@ package boofcv.examples.imageprocessing;
 import boofcv.abst.filter.blur.BlurFilter;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ConcurrencyContext;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
 import boofcv.struct.image.GrayU8;
 
@@ -61,6 +62,14 @@ public class ExampleThreads {
 		}
 		// if the final average time you see is faster than the default that's likely caused by the hotspot compiler
 		// warming up. The first iteration is always slower.
+
+		// If multiple pipelines are running at the same time you can give each one its own thread pool by
+		// binding a context to it. Code invoked inside of runWith() will only use the context's 2 threads
+		// and won't compete with other pipelines for the global thread pool
+		System.out.println("\nContext with 2 threads");
+		try (var context = new ConcurrencyContext(2)) {
+			BoofConcurrency.runWith(context, () -> blur(image, blurred));
+		}
 	}
 
 	public static void blur( GrayU8 image, GrayU8 blurred ) {
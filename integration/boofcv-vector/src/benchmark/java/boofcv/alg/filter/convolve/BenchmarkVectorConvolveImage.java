@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.filter.convolve.noborder.ConvolveImageStandard_SB;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import boofcv.vector.VectorConvolveImage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ConvolveImageStandard_SB} against the Vector API implementation in {@link VectorConvolveImage}
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@SuppressWarnings({"UnusedDeclaration"})
+public class BenchmarkVectorConvolveImage {
+	@Param({"5"})
+	private int radius;
+
+	@Param({"1000"})
+	public int size;
+
+	Kernel1D_F32 kernelF32;
+	Kernel1D_S32 kernelI32;
+	GrayF32 input_F32 = new GrayF32(1, 1);
+	GrayU8 input_U8 = new GrayU8(1, 1);
+	GrayF32 out_F32 = new GrayF32(1, 1);
+	GrayS16 out_S16 = new GrayS16(1, 1);
+
+	@Setup public void setup() {
+		BoofConcurrency.USE_CONCURRENT = false;
+		Random rand = new Random(234);
+
+		kernelF32 = FactoryKernel.random1D_F32(radius*2 + 1, radius, -1, 1, rand);
+		kernelI32 = FactoryKernel.random1D_I32(radius*2 + 1, radius, -20, 20, rand);
+
+		input_F32.reshape(size, size);
+		input_U8.reshape(size, size);
+		out_F32.reshape(size, size);
+		out_S16.reshape(size, size);
+
+		GImageMiscOps.fillUniform(input_F32, rand, 0, 200);
+		GImageMiscOps.fillUniform(input_U8, rand, 0, 200);
+	}
+
+	// @formatter:off
+	@Benchmark public void horizontal_F32() {ConvolveImageStandard_SB.horizontal(kernelF32, input_F32, out_F32);}
+	@Benchmark public void horizontal_F32_Vector() {VectorConvolveImage.horizontal(kernelF32, input_F32, out_F32);}
+	@Benchmark public void horizontal_U8_I16() {ConvolveImageStandard_SB.horizontal(kernelI32, input_U8, out_S16);}
+	@Benchmark public void horizontal_U8_I16_Vector() {VectorConvolveImage.horizontal(kernelI32, input_U8, out_S16);}
+	@Benchmark public void vertical_F32() {ConvolveImageStandard_SB.vertical(kernelF32, input_F32, out_F32);}
+	@Benchmark public void vertical_F32_Vector() {VectorConvolveImage.vertical(kernelF32, input_F32, out_F32);}
+	@Benchmark public void vertical_U8_I16() {ConvolveImageStandard_SB.vertical(kernelI32, input_U8, out_S16);}
+	@Benchmark public void vertical_U8_I16_Vector() {VectorConvolveImage.vertical(kernelI32, input_U8, out_S16);}
+	// @formatter:on
+
+	public static void main( String[] args ) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkVectorConvolveImage.class.getSimpleName())
+				.warmupTime(TimeValue.seconds(1))
+				.measurementTime(TimeValue.seconds(1))
+				.build();
+
+		new Runner(opt).run();
+	}
+}
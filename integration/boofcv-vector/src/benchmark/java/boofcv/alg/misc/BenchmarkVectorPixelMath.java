@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.vector.BoofVector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the default implementation of {@link PixelMath} and {@link ConvertImage} against the Vector API
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class BenchmarkVectorPixelMath {
+	@Param({"true", "false"})
+	public boolean vector;
+
+	@Param({"false"})
+	public boolean concurrent;
+
+	@Param({"1000"})
+	public int size;
+
+	GrayU8 inputU8 = new GrayU8(size, size);
+	GrayF32 input = new GrayF32(size, size);
+	GrayF32 input2 = new GrayF32(size, size);
+	GrayF32 output = new GrayF32(size, size);
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		if (vector)
+			BoofVector.install();
+		else
+			BoofVector.uninstall();
+		Random rand = new Random(234);
+
+		inputU8.reshape(size, size);
+		input.reshape(size, size);
+		input2.reshape(size, size);
+		output.reshape(size, size);
+
+		GImageMiscOps.fillUniform(inputU8, rand, 0, 200);
+		GImageMiscOps.fillUniform(input, rand, 0, 200);
+		GImageMiscOps.fillUniform(input2, rand, 1, 200);
+	}
+
+	// @formatter:off
+	@Benchmark public void add() {PixelMath.add(input, input2, output);}
+	@Benchmark public void divide() {PixelMath.divide(input, input2, output);}
+	@Benchmark public void plus_scalar() {PixelMath.plus(input, 2.0f, output);}
+	@Benchmark public void multiply_scalar() {PixelMath.multiply(input, 2.0f, output);}
+	@Benchmark public void multiply_U8_F32() {PixelMath.multiply(inputU8, 2.0f, output);}
+	@Benchmark public void convert_U8_F32() {ConvertImage.convert(inputU8, output);}
+	// @formatter:on
+
+	public static void main( String[] args ) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkVectorPixelMath.class.getSimpleName())
+				.warmupTime(TimeValue.seconds(1))
+				.measurementTime(TimeValue.seconds(1))
+				.build();
+
+		new Runner(opt).run();
+	}
+}
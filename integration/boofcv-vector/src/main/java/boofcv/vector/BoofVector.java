@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.vector;
+
+import boofcv.alg.filter.convolve.BOverrideConvolveImage;
+import boofcv.alg.filter.convolve.BOverrideConvolveImageNormalized;
+import boofcv.alg.misc.BOverridePixelMath;
+import boofcv.core.image.BOverrideConvertImage;
+
+/**
+ * Installs SIMD implementations written with the Vector API (jdk.incubator.vector) into BoofCV's override hooks.
+ * Once installed, calls to {@link boofcv.alg.misc.PixelMath}, {@link boofcv.core.image.ConvertImage}, and
+ * {@link boofcv.alg.filter.convolve.ConvolveImage} which have a SIMD implementation are routed to it. Everything
+ * else is handled by the regular code. The JVM must be started with "--add-modules jdk.incubator.vector".
+ *
+ * @author Peter Abeles
+ */
+public class BoofVector {
+	/**
+	 * Returns true if the Vector API is available in this JVM
+	 */
+	public static boolean isAvailable() {
+		return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+	}
+
+	/**
+	 * Replaces the default implementations with SIMD implementations
+	 *
+	 * @return true if the SIMD implementations were installed
+	 */
+	public static boolean install() {
+		if (!isAvailable())
+			return false;
+
+		BOverridePixelMath.scalar = VectorPixelMath::scalar;
+		BOverridePixelMath.twoImages = VectorPixelMath::twoImages;
+		BOverrideConvertImage.convert = VectorConvertImage::convert;
+		BOverrideConvolveImage.horizontal = VectorConvolveImage::horizontal;
+		BOverrideConvolveImage.vertical = VectorConvolveImage::vertical;
+		BOverrideConvolveImageNormalized.horizontal = VectorConvolveImage::horizontalNormalized;
+		BOverrideConvolveImageNormalized.vertical = VectorConvolveImage::verticalNormalized;
+		return true;
+	}
+
+	/**
+	 * Removes the SIMD implementations and reverts to the default implementations
+	 */
+	public static void uninstall() {
+		BOverridePixelMath.scalar = null;
+		BOverridePixelMath.twoImages = null;
+		BOverrideConvertImage.convert = null;
+		BOverrideConvolveImage.horizontal = null;
+		BOverrideConvolveImage.vertical = null;
+		BOverrideConvolveImageNormalized.horizontal = null;
+		BOverrideConvolveImageNormalized.vertical = null;
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.vector;
+
+import boofcv.struct.image.*;
+import jdk.incubator.vector.*;
+
+import static boofcv.vector.VectorPixelMath.*;
+
+/**
+ * SIMD implementations of functions in {@link boofcv.core.image.ConvertImage} using the Vector API. Results are
+ * identical to the scalar implementation. Conversions which are not supported throw an IllegalArgumentException
+ * so that the default implementation is used instead.
+ *
+ * @author Peter Abeles
+ */
+public class VectorConvertImage {
+	/**
+	 * Implementation of {@link boofcv.core.image.BOverrideConvertImage.Convert}
+	 */
+	public static void convert( ImageBase input, ImageBase output ) {
+		if (input instanceof GrayU8) {
+			if (output instanceof GrayF32) {
+				convert((GrayU8)input, (GrayF32)output);
+				return;
+			} else if (output instanceof GrayS32) {
+				convert((GrayU8)input, (GrayS32)output);
+				return;
+			} else if (output instanceof GrayI16) {
+				convert((GrayU8)input, (GrayI16<?>)output);
+				return;
+			}
+		} else if (input instanceof InterleavedU8 && output instanceof InterleavedF32) {
+			convert((InterleavedU8)input, (InterleavedF32)output);
+			return;
+		} else if (input instanceof GrayI16 && output instanceof GrayF32) {
+			convert((GrayI16<?>)input, (GrayF32)output);
+			return;
+		}
+		throw new IllegalArgumentException("Unsupported image types");
+	}
+
+	public static void convert( GrayU8 input, GrayF32 output ) {
+		u8ToF32(input.data, input.startIndex, input.stride,
+				output.data, output.startIndex, output.stride, input.height, input.width);
+	}
+
+	public static void convert( InterleavedU8 input, InterleavedF32 output ) {
+		u8ToF32(input.data, input.startIndex, input.stride,
+				output.data, output.startIndex, output.stride, input.height, input.width*input.numBands);
+	}
+
+	public static void convert( GrayU8 input, GrayS32 output ) {
+		final int cols = input.width;
+		final int upper = B_8.loopBound(cols);
+
+		loopRows(input.height, cols, ( y0, y1 ) -> {
+			for (int y = y0; y < y1; y++) {
+				int indexSrc = input.startIndex + y*input.stride;
+				int indexDst = output.startIndex + y*output.stride;
+
+				int x = 0;
+				for (; x < upper; x += B_8.length()) {
+					u8ToS32(input.data, indexSrc + x).intoArray(output.data, indexDst + x);
+				}
+				for (; x < cols; x++) {
+					output.data[indexDst + x] = input.data[indexSrc + x] & 0xFF;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Converts into either {@link GrayU16} or {@link GrayS16}. The value is the same in both cases.
+	 */
+	public static void convert( GrayU8 input, GrayI16<?> output ) {
+		final int cols = input.width;
+		final int upper = B_8.loopBound(cols);
+
+		loopRows(input.height, cols, ( y0, y1 ) -> {
+			for (int y = y0; y < y1; y++) {
+				int indexSrc = input.startIndex + y*input.stride;
+				int indexDst = output.startIndex + y*output.stride;
+
+				int x = 0;
+				for (; x < upper; x += B_8.length()) {
+					u8ToS16(input.data, indexSrc + x).intoArray(output.data, indexDst + x);
+				}
+				for (; x < cols; x++) {
+					output.data[indexDst + x] = (short)(input.data[indexSrc + x] & 0xFF);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Converts {@link GrayU16} or {@link GrayS16} into a float image. How the bits are interpreted depends on
+	 * if the input is signed or not.
+	 */
+	public static void convert( GrayI16<?> input, GrayF32 output ) {
+		final int cols = input.width;
+		final int upper = S_8.loopBound(cols);
+		final int mask = input.getDataType().isSigned() ? 0xFFFFFFFF : 0xFFFF;
+
+		loopRows(input.height, cols, ( y0, y1 ) -> {
+			for (int y = y0; y < y1; y++) {
+				int indexSrc = input.startIndex + y*input.stride;
+				int indexDst = output.startIndex + y*output.stride;
+
+				int x = 0;
+				for (; x < upper; x += S_8.length()) {
+					ShortVector s = ShortVector.fromArray(S_8, input.data, indexSrc + x);
+					IntVector i = ((IntVector)s.convertShape(VectorOperators.S2I, I_8, 0)).lanewise(VectorOperators.AND, mask);
+					((FloatVector)i.convert(VectorOperators.I2F, 0)).intoArray(output.data, indexDst + x);
+				}
+				for (; x < cols; x++) {
+					output.data[indexDst + x] = input.data[indexSrc + x] & mask;
+				}
+			}
+		});
+	}
+
+	static void u8ToF32( byte[] input, int inputStart, int inputStride,
+						 float[] output, int outputStart, int outputStride, int rows, int cols ) {
+		final int upper = B_8.loopBound(cols);
+
+		loopRows(rows, cols, ( y0, y1 ) -> {
+			for (int y = y0; y < y1; y++) {
+				int indexSrc = inputStart + y*inputStride;
+				int indexDst = outputStart + y*outputStride;
+
+				int x = 0;
+				for (; x < upper; x += B_8.length()) {
+					VectorPixelMath.u8ToF32(input, indexSrc + x).intoArray(output, indexDst + x);
+				}
+				for (; x < cols; x++) {
+					output[indexDst + x] = input[indexSrc + x] & 0xFF;
+				}
+			}
+		});
+	}
+}
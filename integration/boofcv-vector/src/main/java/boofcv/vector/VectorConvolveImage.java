@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.vector;
+
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General_SB;
+import boofcv.alg.filter.convolve.normalized.ConvolveNormalized_JustBorder_SB;
+import boofcv.alg.filter.kernel.KernelMath;
+import boofcv.struct.border.ImageBorder;
+import boofcv.struct.border.ImageBorder_F32;
+import boofcv.struct.border.ImageBorder_S32;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayI16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import org.jetbrains.annotations.Nullable;
+
+import static boofcv.vector.VectorPixelMath.*;
+
+/**
+ * SIMD implementations of 1D convolutions using the Vector API. The inner portion of the image is processed
+ * by vectorizing across pixels, then the border is handled by the regular scalar code. Results are identical to
+ * the scalar implementation in {@link boofcv.alg.filter.convolve.noborder.ConvolveImageStandard_SB}. Image types
+ * which are not supported throw an IllegalArgumentException so that the default implementation is used instead.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class VectorConvolveImage {
+	/**
+	 * Implementation of {@link boofcv.alg.filter.convolve.BOverrideConvolveImage.Horizontal}
+	 */
+	public static void horizontal( Kernel1D kernel, ImageBase input, ImageBase output, @Nullable ImageBorder border ) {
+		if (kernel instanceof Kernel1D_F32 && input instanceof GrayF32 && output instanceof GrayF32) {
+			horizontal((Kernel1D_F32)kernel, (GrayF32)input, (GrayF32)output);
+			if (border != null) {
+				border.setImage(input);
+				ConvolveJustBorder_General_SB.horizontal((Kernel1D_F32)kernel, (ImageBorder_F32)border, (GrayF32)output);
+			}
+		} else if (kernel instanceof Kernel1D_S32 && input instanceof GrayU8 && output instanceof GrayI16) {
+			horizontal((Kernel1D_S32)kernel, (GrayU8)input, (GrayI16)output);
+			if (border != null) {
+				border.setImage(input);
+				ConvolveJustBorder_General_SB.horizontal((Kernel1D_S32)kernel, (ImageBorder_S32)border, (GrayI16)output);
+			}
+		} else {
+			throw new IllegalArgumentException("Unsupported image types");
+		}
+	}
+
+	/**
+	 * Implementation of {@link boofcv.alg.filter.convolve.BOverrideConvolveImage.Vertical}
+	 */
+	public static void vertical( Kernel1D kernel, ImageBase input, ImageBase output, @Nullable ImageBorder border ) {
+		if (kernel instanceof Kernel1D_F32 && input instanceof GrayF32 && output instanceof GrayF32) {
+			vertical((Kernel1D_F32)kernel, (GrayF32)input, (GrayF32)output);
+			if (border != null) {
+				border.setImage(input);
+				ConvolveJustBorder_General_SB.vertical((Kernel1D_F32)kernel, (ImageBorder_F32)border, (GrayF32)output);
+			}
+		} else if (kernel instanceof Kernel1D_S32 && input instanceof GrayU8 && output instanceof GrayI16) {
+			vertical((Kernel1D_S32)kernel, (GrayU8)input, (GrayI16)output);
+			if (border != null) {
+				border.setImage(input);
+				ConvolveJustBorder_General_SB.vertical((Kernel1D_S32)kernel, (ImageBorder_S32)border, (GrayI16)output);
+			}
+		} else {
+			throw new IllegalArgumentException("Unsupported image types");
+		}
+	}
+
+	/**
+	 * Implementation of {@link boofcv.alg.filter.convolve.BOverrideConvolveImageNormalized.Horizontal}
+	 */
+	public static void horizontalNormalized( Kernel1D kernel, ImageBase input, ImageBase output ) {
+		if (!(kernel instanceof Kernel1D_F32 && input instanceof GrayF32 && output instanceof GrayF32))
+			throw new IllegalArgumentException("Unsupported image types");
+		// the naive implementation is used when the kernel is larger than the image
+		if (kernel.width >= input.width)
+			throw new IllegalArgumentException("Kernel is too large");
+
+		Kernel1D_F32 k = normalized((Kernel1D_F32)kernel);
+		horizontal(k, (GrayF32)input, (GrayF32)output);
+		ConvolveNormalized_JustBorder_SB.horizontal(k, (GrayF32)input, (GrayF32)output);
+	}
+
+	/**
+	 * Implementation of {@link boofcv.alg.filter.convolve.BOverrideConvolveImageNormalized.Vertical}
+	 */
+	public static void verticalNormalized( Kernel1D kernel, ImageBase input, ImageBase output ) {
+		if (!(kernel instanceof Kernel1D_F32 && input instanceof GrayF32 && output instanceof GrayF32))
+			throw new IllegalArgumentException("Unsupported image types");
+		// the naive implementation is used when the kernel is larger than the image
+		if (kernel.width >= input.height)
+			throw new IllegalArgumentException("Kernel is too large");
+
+		Kernel1D_F32 k = normalized((Kernel1D_F32)kernel);
+		vertical(k, (GrayF32)input, (GrayF32)output);
+		ConvolveNormalized_JustBorder_SB.vertical(k, (GrayF32)input, (GrayF32)output);
+	}
+
+	/**
+	 * Horizontal convolution of the inner image. Each lane is a different output pixel.
+	 */
+	public static void horizontal( Kernel1D_F32 kernel, GrayF32 src, GrayF32 dst ) {
+		final float[] dataSrc = src.data;
+		final float[] dataDst = dst.data;
+		final float[] dataKer = kernel.data;
+
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int count = src.width - (kernelWidth - 1);
+		if (count <= 0)
+			return;
+		final int upper = F_PREF.loopBound(count);
+
+		loopRows(src.height, src.width, ( y0, y1 ) -> {
+			for (int y = y0; y < y1; y++) {
+				final int indexDst = dst.startIndex + y*dst.stride + offset;
+				final int indexSrc = src.startIndex + y*src.stride;
+
+				int x = 0;
+				for (; x < upper; x += F_PREF.length()) {
+					FloatVector total = FloatVector.zero(F_PREF);
+					for (int k = 0; k < kernelWidth; k++) {
+						total = total.add(FloatVector.fromArray(F_PREF, dataSrc, indexSrc + x + k).mul(dataKer[k]));
+					}
+					total.intoArray(dataDst, indexDst + x);
+				}
+				for (; x < count; x++) {
+					float total = 0;
+					for (int k = 0; k < kernelWidth; k++) {
+						total += dataSrc[indexSrc + x + k]*dataKer[k];
+					}
+					dataDst[indexDst + x] = total;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Vertical convolution of the inner image. Each lane is a different output pixel in the same row.
+	 */
+	public static void vertical( Kernel1D_F32 kernel, GrayF32 src, GrayF32 dst ) {
+		final float[] dataSrc = src.data;
+		final float[] dataDst = dst.data;
+		final float[] dataKer = kernel.data;
+
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int width = dst.width;
+		final int yEnd = dst.height - (kernelWidth - offset - 1);
+		if (yEnd <= offset)
+			return;
+		final int upper = F_PREF.loopBound(width);
+
+		loopRows(yEnd - offset, width, ( i0, i1 ) -> {
+			for (int y = offset + i0; y < offset + i1; y++) {
+				final int indexDst = dst.startIndex + y*dst.stride;
+				final int indexSrc = src.startIndex + (y - offset)*src.stride;
+
+				int x = 0;
+				for (; x < upper; x += F_PREF.length()) {
+					FloatVector total = FloatVector.zero(F_PREF);
+					for (int k = 0; k < kernelWidth; k++) {
+						total = total.add(FloatVector.fromArray(F_PREF, dataSrc, indexSrc + k*src.stride + x).mul(dataKer[k]));
+					}
+					total.intoArray(dataDst, indexDst + x);
+				}
+				for (; x < width; x++) {
+					float total = 0;
+					for (int k = 0; k < kernelWidth; k++) {
+						total += dataSrc[indexSrc + k*src.stride + x]*dataKer[k];
+					}
+					dataDst[indexDst + x] = total;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Horizontal convolution of the inner image. Pixels are zero extended into 32-bit lanes so the sum
+	 * can't overflow, then truncated to 16-bits just like the scalar code.
+	 */
+	public static void horizontal( Kernel1D_S32 kernel, GrayU8 src, GrayI16<?> dst ) {
+		final byte[] dataSrc = src.data;
+		final short[] dataDst = dst.data;
+		final int[] dataKer = kernel.data;
+
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int count = src.width - (kernelWidth - 1);
+		if (count <= 0)
+			return;
+		final int upper = B_8.loopBound(count);
+
+		loopRows(src.height, src.width, ( y0, y1 ) -> {
+			for (int y = y0; y < y1; y++) {
+				final int indexDst = dst.startIndex + y*dst.stride + offset;
+				final int indexSrc = src.startIndex + y*src.stride;
+
+				int x = 0;
+				for (; x < upper; x += B_8.length()) {
+					IntVector total = IntVector.zero(I_8);
+					for (int k = 0; k < kernelWidth; k++) {
+						total = total.add(u8ToS32(dataSrc, indexSrc + x + k).mul(dataKer[k]));
+					}
+					((ShortVector)total.convertShape(VectorOperators.I2S, S_8, 0)).intoArray(dataDst, indexDst + x);
+				}
+				for (; x < count; x++) {
+					int total = 0;
+					for (int k = 0; k < kernelWidth; k++) {
+						total += (dataSrc[indexSrc + x + k] & 0xFF)*dataKer[k];
+					}
+					dataDst[indexDst + x] = (short)total;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Vertical convolution of the inner image. See {@link #horizontal(Kernel1D_S32, GrayU8, GrayI16)}.
+	 */
+	public static void vertical( Kernel1D_S32 kernel, GrayU8 src, GrayI16<?> dst ) {
+		final byte[] dataSrc = src.data;
+		final short[] dataDst = dst.data;
+		final int[] dataKer = kernel.data;
+
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int width = dst.width;
+		final int yEnd = dst.height - (kernelWidth - offset - 1);
+		if (yEnd <= offset)
+			return;
+		final int upper = B_8.loopBound(width);
+
+		loopRows(yEnd - offset, width, ( i0, i1 ) -> {
+			for (int y = offset + i0; y < offset + i1; y++) {
+				final int indexDst = dst.startIndex + y*dst.stride;
+				final int indexSrc = src.startIndex + (y - offset)*src.stride;
+
+				int x = 0;
+				for (; x < upper; x += B_8.length()) {
+					IntVector total = IntVector.zero(I_8);
+					for (int k = 0; k < kernelWidth; k++) {
+						total = total.add(u8ToS32(dataSrc, indexSrc + k*src.stride + x).mul(dataKer[k]));
+					}
+					((ShortVector)total.convertShape(VectorOperators.I2S, S_8, 0)).intoArray(dataDst, indexDst + x);
+				}
+				for (; x < width; x++) {
+					int total = 0;
+					for (int k = 0; k < kernelWidth; k++) {
+						total += (dataSrc[indexSrc + k*src.stride + x] & 0xFF)*dataKer[k];
+					}
+					dataDst[indexDst + x] = (short)total;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Makes sure the kernel sums up to one, the same way {@link boofcv.alg.filter.convolve.ConvolveImageNormalized} does
+	 */
+	static Kernel1D_F32 normalized( Kernel1D_F32 kernel ) {
+		if (Math.abs(kernel.computeSum() - 1.0f) > 1e-4f) {
+			Kernel1D_F32 k = kernel.copy();
+			KernelMath.normalizeSumToOne(k);
+			return k;
+		}
+		return kernel;
+	}
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.vector;
+
+import boofcv.alg.misc.BOverridePixelMath.Operation;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+import jdk.incubator.vector.*;
+import pabeles.concurrency.IntRangeConsumer;
+
+/**
+ * SIMD implementations of functions in {@link boofcv.alg.misc.PixelMath} using the Vector API. Results are
+ * identical to the scalar implementation. Functions which are not supported throw an IllegalArgumentException
+ * so that the default implementation is used instead.
+ *
+ * @author Peter Abeles
+ */
+public class VectorPixelMath {
+	static final VectorSpecies<Float> F_PREF = FloatVector.SPECIES_PREFERRED;
+
+	// Species with 8 lanes. Used when mixing data types
+	static final VectorSpecies<Byte> B_8 = ByteVector.SPECIES_64;
+	static final VectorSpecies<Short> S_8 = ShortVector.SPECIES_128;
+	static final VectorSpecies<Integer> I_8 = IntVector.SPECIES_256;
+
+	/**
+	 * Implementation of {@link boofcv.alg.misc.BOverridePixelMath.Scalar}
+	 */
+	public static void scalar( Operation op, ImageBase input, double value, ImageBase output ) {
+		if (input instanceof GrayF32 && output instanceof GrayF32) {
+			scalar(op, (GrayF32)input, (float)value, (GrayF32)output);
+		} else if (input instanceof InterleavedF32 && output instanceof InterleavedF32) {
+			scalar(op, (InterleavedF32)input, (float)value, (InterleavedF32)output);
+		} else if (input instanceof GrayU8 && output instanceof GrayF32) {
+			scalar(op, (GrayU8)input, (float)value, (GrayF32)output);
+		} else if (input instanceof InterleavedU8 && output instanceof InterleavedF32) {
+			scalar(op, (InterleavedU8)input, (float)value, (InterleavedF32)output);
+		} else {
+			throw new IllegalArgumentException("Unsupported image types");
+		}
+	}
+
+	/**
+	 * Implementation of {@link boofcv.alg.misc.BOverridePixelMath.TwoImages}
+	 */
+	public static void twoImages( Operation op, ImageBase imgA, ImageBase imgB, ImageBase output ) {
+		if (imgA instanceof GrayF32 && output instanceof GrayF32) {
+			twoImages(op, (GrayF32)imgA, (GrayF32)imgB, (GrayF32)output);
+		} else if (op == Operation.ADD && imgA instanceof GrayU8 && output instanceof GrayU16) {
+			add((GrayU8)imgA, (GrayU8)imgB, (GrayU16)output);
+		} else if (op == Operation.SUBTRACT && imgA instanceof GrayU8 && output instanceof GrayI16) {
+			subtract((GrayU8)imgA, (GrayU8)imgB, (GrayI16)output);
+		} else {
+			throw new IllegalArgumentException("Unsupported image types");
+		}
+	}
+
+	public static void scalar( Operation op, GrayF32 input, float value, GrayF32 output ) {
+		scalar(op, input.data, input.startIndex, input.stride, value,
+				output.data, output.startIndex, output.stride, input.height, input.width);
+	}
+
+	public static void scalar( Operation op, InterleavedF32 input, float value, InterleavedF32 output ) {
+		scalar(op, input.data, input.startIndex, input.stride, value,
+				output.data, output.startIndex, output.stride, input.height, input.width*input.numBands);
+	}
+
+	public static void scalar( Operation op, GrayU8 input, float value, GrayF32 output ) {
+		scalar(op, input.data, input.startIndex, input.stride, value,
+				output.data, output.startIndex, output.stride, input.height, input.width);
+	}
+
+	public static void scalar( Operation op, InterleavedU8 input, float value, InterleavedF32 output ) {
+		scalar(op, input.data, input.startIndex, input.stride, value,
+				output.data, output.startIndex, output.stride, input.height, input.width*input.numBands);
+	}
+
+	public static void scalar( Operation op, float[] input, int inputStart, int inputStride, float value,
+							   float[] output, int outputStart, int outputStride, int rows, int cols ) {
+		final VectorOperators.Binary vop = toVector(op);
+		final int upper = F_PREF.loopBound(cols);
+
+		loopRows(rows, cols, ( y0, y1 ) -> {
+			for (int y = y0; y < y1; y++) {
+				int indexSrc = inputStart + y*inputStride;
+				int indexDst = outputStart + y*outputStride;
+
+				int x = 0;
+				for (; x < upper; x += F_PREF.length()) {
+					FloatVector.fromArray(F_PREF, input, indexSrc + x).lanewise(vop, value).intoArray(output, indexDst + x);
+				}
+				for (; x < cols; x++) {
+					output[indexDst + x] = apply(op, input[indexSrc + x], value);
+				}
+			}
+		});
+	}
+
+	public static void scalar( Operation op, byte[] input, int inputStart, int inputStride, float value,
+							   float[] output, int outputStart, int outputStride, int rows, int cols ) {
+		final VectorOperators.Binary vop = toVector(op);
+		final int upper = B_8.loopBound(cols);
+
+		loopRows(rows, cols, ( y0, y1 ) -> {
+			for (int y = y0; y < y1; y++) {
+				int indexSrc = inputStart + y*inputStride;
+				int indexDst = outputStart + y*outputStride;
+
+				int x = 0;
+				for (; x < upper; x += B_8.length()) {
+					u8ToF32(input, indexSrc + x).lanewise(vop, value).intoArray(output, indexDst + x);
+				}
+				for (; x < cols; x++) {
+					output[indexDst + x] = apply(op, input[indexSrc + x] & 0xFF, value);
+				}
+			}
+		});
+	}
+
+	public static void twoImages( Operation op, GrayF32 imgA, GrayF32 imgB, GrayF32 output ) {
+		final VectorOperators.Binary vop = toVector(op);
+		final int cols = imgA.width;
+		final int upper = F_PREF.loopBound(cols);
+
+		loopRows(imgA.height, cols, ( y0, y1 ) -> {
+			for (int y = y0; y < y1; y++) {
+				int indexA = imgA.startIndex + y*imgA.stride;
+				int indexB = imgB.startIndex + y*imgB.stride;
+				int indexDst = output.startIndex + y*output.stride;
+
+				int x = 0;
+				for (; x < upper; x += F_PREF.length()) {
+					FloatVector a = FloatVector.fromArray(F_PREF, imgA.data, indexA + x);
+					FloatVector b = FloatVector.fromArray(F_PREF, imgB.data, indexB + x);
+					a.lanewise(vop, b).intoArray(output.data, indexDst + x);
+				}
+				for (; x < cols; x++) {
+					output.data[indexDst + x] = apply(op, imgA.data[indexA + x], imgB.data[indexB + x]);
+				}
+			}
+		});
+	}
+
+	public static void add( GrayU8 imgA, GrayU8 imgB, GrayU16 output ) {
+		u8ToI16(VectorOperators.ADD, imgA, imgB, output);
+	}
+
+	public static void subtract( GrayU8 imgA, GrayU8 imgB, GrayI16<?> output ) {
+		u8ToI16(VectorOperators.SUB, imgA, imgB, output);
+	}
+
+	/**
+	 * The U8 values are zero extended into 16-bit lanes so that the operation can't overflow
+	 */
+	private static void u8ToI16( VectorOperators.Binary vop, GrayU8 imgA, GrayU8 imgB, GrayI16<?> output ) {
+		final int cols = imgA.width;
+		final int upper = B_8.loopBound(cols);
+		final boolean add = vop == VectorOperators.ADD;
+
+		loopRows(imgA.height, cols, ( y0, y1 ) -> {
+			for (int y = y0; y < y1; y++) {
+				int indexA = imgA.startIndex + y*imgA.stride;
+				int indexB = imgB.startIndex + y*imgB.stride;
+				int indexDst = output.startIndex + y*output.stride;
+
+				int x = 0;
+				for (; x < upper; x += B_8.length()) {
+					ShortVector a = u8ToS16(imgA.data, indexA + x);
+					ShortVector b = u8ToS16(imgB.data, indexB + x);
+					a.lanewise(vop, b).intoArray(output.data, indexDst + x);
+				}
+				for (; x < cols; x++) {
+					int a = imgA.data[indexA + x] & 0xFF;
+					int b = imgB.data[indexB + x] & 0xFF;
+					output.data[indexDst + x] = (short)(add ? a + b : a - b);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Loads 8 bytes, treats them as unsigned, and converts them into floats
+	 */
+	static FloatVector u8ToF32( byte[] data, int index ) {
+		return (FloatVector)u8ToS32(data, index).convert(VectorOperators.I2F, 0);
+	}
+
+	/**
+	 * Loads 8 bytes, treats them as unsigned, and converts them into ints
+	 */
+	static IntVector u8ToS32( byte[] data, int index ) {
+		ByteVector b = ByteVector.fromArray(B_8, data, index);
+		return ((IntVector)b.convertShape(VectorOperators.B2I, I_8, 0)).lanewise(VectorOperators.AND, 0xFF);
+	}
+
+	/**
+	 * Loads 8 bytes, treats them as unsigned, and converts them into shorts
+	 */
+	static ShortVector u8ToS16( byte[] data, int index ) {
+		ByteVector b = ByteVector.fromArray(B_8, data, index);
+		return ((ShortVector)b.convertShape(VectorOperators.B2S, S_8, 0)).lanewise(VectorOperators.AND, (short)0xFF);
+	}
+
+	static VectorOperators.Binary toVector( Operation op ) {
+		switch (op) {
+			case ADD: return VectorOperators.ADD;
+			case SUBTRACT: return VectorOperators.SUB;
+			case MULTIPLY: return VectorOperators.MUL;
+			case DIVIDE: return VectorOperators.DIV;
+			default: throw new IllegalArgumentException("Unknown operation " + op);
+		}
+	}
+
+	static float apply( Operation op, float a, float b ) {
+		switch (op) {
+			case ADD: return a + b;
+			case SUBTRACT: return a - b;
+			case MULTIPLY: return a*b;
+			case DIVIDE: return a/b;
+			default: throw new IllegalArgumentException("Unknown operation " + op);
+		}
+	}
+
+	/**
+	 * Processes the rows in blocks across threads if the image is large enough, otherwise it's done in
+	 * the calling thread.
+	 */
+	static void loopRows( int rows, int cols, IntRangeConsumer consumer ) {
+		if (BoofConcurrency.isUseConcurrent() && rows*cols > BoofConcurrency.getSmallImage()) {
+			BoofConcurrency.loopBlocks(0, rows, consumer);
+		} else {
+			consumer.accept(0, rows);
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.vector;
+
+import boofcv.BoofTesting;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Peter Abeles
+ */
+class TestVectorConvertImage extends BoofStandardJUnit {
+	int width = 37;
+	int height = 21;
+
+	@AfterEach void after() {BoofVector.uninstall();}
+
+	@Test void U8_F32() {
+		for (boolean sub : new boolean[]{false, true}) {
+			GrayU8 input = create(new GrayU8(width, height), sub);
+			GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+			GrayF32 expected = ConvertImage.convert(input, (GrayF32)null);
+			BoofVector.install();
+			GrayF32 found = ConvertImage.convert(input, create(new GrayF32(width, height), sub));
+			BoofVector.uninstall();
+			BoofTesting.assertEquals(expected, found, 0.0);
+		}
+	}
+
+	@Test void U8_S32() {
+		for (boolean sub : new boolean[]{false, true}) {
+			GrayU8 input = create(new GrayU8(width, height), sub);
+			GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+			GrayS32 expected = ConvertImage.convert(input, (GrayS32)null);
+			BoofVector.install();
+			GrayS32 found = ConvertImage.convert(input, create(new GrayS32(width, height), sub));
+			BoofVector.uninstall();
+			BoofTesting.assertEquals(expected, found, 0.0);
+		}
+	}
+
+	@Test void U8_I16() {
+		for (boolean sub : new boolean[]{false, true}) {
+			GrayU8 input = create(new GrayU8(width, height), sub);
+			GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+			GrayU16 expected = ConvertImage.convert(input, (GrayU16)null);
+			BoofVector.install();
+			GrayU16 found = ConvertImage.convert(input, create(new GrayU16(width, height), sub));
+			BoofVector.uninstall();
+			BoofTesting.assertEquals(expected, found, 0.0);
+		}
+	}
+
+	/**
+	 * Signed and unsigned 16-bit images need to be interpreted differently
+	 */
+	@Test void I16_F32() {
+		var inputU = new GrayU16(width, height);
+		var inputS = new GrayS16(width, height);
+		GImageMiscOps.fillUniform(inputU, rand, 0, 65535);
+		GImageMiscOps.fillUniform(inputS, rand, -32768, 32767);
+
+		GrayF32 expectedU = ConvertImage.convert(inputU, (GrayF32)null);
+		GrayF32 expectedS = ConvertImage.convert(inputS, (GrayF32)null);
+		BoofVector.install();
+		GrayF32 foundU = ConvertImage.convert(inputU, (GrayF32)null);
+		GrayF32 foundS = ConvertImage.convert(inputS, (GrayF32)null);
+		BoofTesting.assertEquals(expectedU, foundU, 0.0);
+		BoofTesting.assertEquals(expectedS, foundS, 0.0);
+	}
+
+	@Test void InterleavedU8_F32() {
+		var input = new InterleavedU8(width, height, 3);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		InterleavedF32 expected = ConvertImage.convert(input, (InterleavedF32)null);
+		BoofVector.install();
+		InterleavedF32 found = ConvertImage.convert(input, (InterleavedF32)null);
+		BoofTesting.assertEquals(expected, found, 0.0);
+	}
+
+	private static <T extends ImageGray<T>> T create( T image, boolean sub ) {
+		return sub ? BoofTesting.createSubImageOf(image) : image;
+	}
+}
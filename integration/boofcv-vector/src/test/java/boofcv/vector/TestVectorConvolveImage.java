@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.vector;
+
+import boofcv.BoofTesting;
+import boofcv.alg.filter.convolve.ConvolveImage;
+import boofcv.alg.filter.convolve.ConvolveImageNormalized;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.border.BorderType;
+import boofcv.struct.border.ImageBorder_F32;
+import boofcv.struct.border.ImageBorder_S32;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Peter Abeles
+ */
+class TestVectorConvolveImage extends BoofStandardJUnit {
+	int width = 37;
+	int height = 21;
+
+	@AfterEach void after() {BoofVector.uninstall();}
+
+	@Test void F32() {
+		for (int offset : new int[]{0, 2, 4}) {
+			for (boolean sub : new boolean[]{false, true}) {
+				Kernel1D_F32 kernel = FactoryKernel.random1D_F32(5, offset, -1, 1, rand);
+				GrayF32 input = create(new GrayF32(width, height), sub);
+				GImageMiscOps.fillUniform(input, rand, 0, 100);
+				ImageBorder_F32 border = FactoryImageBorder.single(BorderType.EXTENDED, GrayF32.class);
+
+				var expectedH = new GrayF32(width, height);
+				var expectedV = new GrayF32(width, height);
+				var foundH = create(new GrayF32(width, height), sub);
+				var foundV = create(new GrayF32(width, height), sub);
+
+				ConvolveImage.horizontal(kernel, input, expectedH, border);
+				ConvolveImage.vertical(kernel, input, expectedV, border);
+				BoofVector.install();
+				ConvolveImage.horizontal(kernel, input, foundH, border);
+				ConvolveImage.vertical(kernel, input, foundV, border);
+				BoofVector.uninstall();
+
+				BoofTesting.assertEquals(expectedH, foundH, 1e-4);
+				BoofTesting.assertEquals(expectedV, foundV, 1e-4);
+			}
+		}
+	}
+
+	@Test void U8_I16() {
+		for (int offset : new int[]{0, 3, 6}) {
+			for (boolean sub : new boolean[]{false, true}) {
+				Kernel1D_S32 kernel = FactoryKernel.random1D_I32(7, offset, -20, 20, rand);
+				GrayU8 input = create(new GrayU8(width, height), sub);
+				GImageMiscOps.fillUniform(input, rand, 0, 255);
+				ImageBorder_S32<GrayU8> border = FactoryImageBorder.single(BorderType.REFLECT, GrayU8.class);
+
+				var expectedH = new GrayS16(width, height);
+				var expectedV = new GrayS16(width, height);
+				var foundH = create(new GrayS16(width, height), sub);
+				var foundV = create(new GrayS16(width, height), sub);
+
+				ConvolveImage.horizontal(kernel, input, expectedH, border);
+				ConvolveImage.vertical(kernel, input, expectedV, border);
+				BoofVector.install();
+				ConvolveImage.horizontal(kernel, input, foundH, border);
+				ConvolveImage.vertical(kernel, input, foundV, border);
+				BoofVector.uninstall();
+
+				BoofTesting.assertEquals(expectedH, foundH, 0.0);
+				BoofTesting.assertEquals(expectedV, foundV, 0.0);
+			}
+		}
+	}
+
+	/**
+	 * The kernel doesn't sum up to one so it will need to be normalized
+	 */
+	@Test void normalized_F32() {
+		Kernel1D_F32 kernel = FactoryKernel.random1D_F32(9, 4, 0.1f, 1, rand);
+		GrayF32 input = new GrayF32(width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		var expectedH = new GrayF32(width, height);
+		var expectedV = new GrayF32(width, height);
+		var foundH = new GrayF32(width, height);
+		var foundV = new GrayF32(width, height);
+
+		ConvolveImageNormalized.horizontal(kernel, input, expectedH);
+		ConvolveImageNormalized.vertical(kernel, input, expectedV);
+		BoofVector.install();
+		ConvolveImageNormalized.horizontal(kernel, input, foundH);
+		ConvolveImageNormalized.vertical(kernel, input, foundV);
+
+		BoofTesting.assertEquals(expectedH, foundH, 1e-4);
+		BoofTesting.assertEquals(expectedV, foundV, 1e-4);
+	}
+
+	/**
+	 * If the kernel is larger than the image the default implementation should be used
+	 */
+	@Test void normalized_kernelTooLarge() {
+		Kernel1D_F32 kernel = FactoryKernel.random1D_F32(9, 4, 0.1f, 1, rand);
+		GrayF32 input = new GrayF32(6, 5);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		var expected = new GrayF32(6, 5);
+		var found = new GrayF32(6, 5);
+
+		ConvolveImageNormalized.horizontal(kernel, input, expected);
+		BoofVector.install();
+		ConvolveImageNormalized.horizontal(kernel, input, found);
+
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	private static <T extends ImageGray<T>> T create( T image, boolean sub ) {
+		return sub ? BoofTesting.createSubImageOf(image) : image;
+	}
+}
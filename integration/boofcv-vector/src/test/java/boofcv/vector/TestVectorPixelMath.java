@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.vector;
+
+import boofcv.BoofTesting;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.PixelMath;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Compares the SIMD results against the regular implementation. Odd sized images and sub-images are used to make
+ * sure the scalar tail and strides are handled correctly.
+ *
+ * @author Peter Abeles
+ */
+class TestVectorPixelMath extends BoofStandardJUnit {
+	int width = 37;
+	int height = 21;
+
+	@BeforeEach void before() {BoofVector.uninstall();}
+
+	@AfterEach void after() {BoofVector.uninstall();}
+
+	@Test void scalar_F32() {
+		for (boolean sub : new boolean[]{false, true}) {
+			GrayF32 input = create(new GrayF32(width, height), sub);
+			GImageMiscOps.fillUniform(input, rand, -10, 10);
+
+			GrayF32 expected = new GrayF32(width, height);
+			GrayF32 found = create(new GrayF32(width, height), sub);
+
+			for (int op = 0; op < 4; op++) {
+				BoofVector.uninstall();
+				scalar(op, input, 2.5f, expected);
+				BoofVector.install();
+				scalar(op, input, 2.5f, found);
+				BoofTesting.assertEquals(expected, found, 0.0);
+			}
+		}
+	}
+
+	@Test void scalar_U8_F32() {
+		for (boolean sub : new boolean[]{false, true}) {
+			GrayU8 input = create(new GrayU8(width, height), sub);
+			GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+			GrayF32 expected = new GrayF32(width, height);
+			GrayF32 found = create(new GrayF32(width, height), sub);
+
+			BoofVector.uninstall();
+			PixelMath.multiply(input, 1.5f, expected);
+			BoofVector.install();
+			PixelMath.multiply(input, 1.5f, found);
+			BoofTesting.assertEquals(expected, found, 0.0);
+
+			BoofVector.uninstall();
+			PixelMath.divide(input, 3.0f, expected);
+			BoofVector.install();
+			PixelMath.divide(input, 3.0f, found);
+			BoofTesting.assertEquals(expected, found, 0.0);
+		}
+	}
+
+	@Test void scalar_InterleavedF32() {
+		var input = new InterleavedF32(width, height, 3);
+		GImageMiscOps.fillUniform(input, rand, -10, 10);
+
+		var expected = new InterleavedF32(width, height, 3);
+		var found = new InterleavedF32(width, height, 3);
+
+		PixelMath.minus(input, 1.2f, expected);
+		BoofVector.install();
+		PixelMath.minus(input, 1.2f, found);
+		BoofTesting.assertEquals(expected, found, 0.0);
+	}
+
+	@Test void twoImages_F32() {
+		for (boolean sub : new boolean[]{false, true}) {
+			GrayF32 imgA = create(new GrayF32(width, height), sub);
+			GrayF32 imgB = create(new GrayF32(width, height), sub);
+			GImageMiscOps.fillUniform(imgA, rand, -10, 10);
+			GImageMiscOps.fillUniform(imgB, rand, 1, 10);
+
+			GrayF32 expected = new GrayF32(width, height);
+			GrayF32 found = create(new GrayF32(width, height), sub);
+
+			for (int op = 0; op < 4; op++) {
+				BoofVector.uninstall();
+				twoImages(op, imgA, imgB, expected);
+				BoofVector.install();
+				twoImages(op, imgA, imgB, found);
+				BoofTesting.assertEquals(expected, found, 0.0);
+			}
+		}
+	}
+
+	@Test void twoImages_U8() {
+		for (boolean sub : new boolean[]{false, true}) {
+			GrayU8 imgA = create(new GrayU8(width, height), sub);
+			GrayU8 imgB = create(new GrayU8(width, height), sub);
+			GImageMiscOps.fillUniform(imgA, rand, 0, 255);
+			GImageMiscOps.fillUniform(imgB, rand, 0, 255);
+
+			var expectedAdd = new GrayU16(width, height);
+			var foundAdd = create(new GrayU16(width, height), sub);
+			var expectedSub = new GrayS16(width, height);
+			var foundSub = create(new GrayS16(width, height), sub);
+
+			BoofVector.uninstall();
+			PixelMath.add(imgA, imgB, expectedAdd);
+			PixelMath.subtract(imgA, imgB, expectedSub);
+			BoofVector.install();
+			PixelMath.add(imgA, imgB, foundAdd);
+			PixelMath.subtract(imgA, imgB, foundSub);
+			BoofTesting.assertEquals(expectedAdd, foundAdd, 0.0);
+			BoofTesting.assertEquals(expectedSub, foundSub, 0.0);
+		}
+	}
+
+	/**
+	 * Types without a SIMD implementation should be rejected so that the default code is used
+	 */
+	@Test void unsupported() {
+		assertThrows(IllegalArgumentException.class, () -> VectorPixelMath.scalar(
+				boofcv.alg.misc.BOverridePixelMath.Operation.ADD, new GrayF64(5, 5), 1.0, new GrayF64(5, 5)));
+
+		// Make sure the fallback is used when installed
+		BoofVector.install();
+		var input = new GrayF64(5, 5);
+		var output = new GrayF64(5, 5);
+		GImageMiscOps.fill(input, 2.0);
+		PixelMath.multiply(input, 3.0, output);
+		assertEquals(6.0, output.get(2, 3));
+	}
+
+	private static <T extends ImageGray<T>> T create( T image, boolean sub ) {
+		return sub ? BoofTesting.createSubImageOf(image) : image;
+	}
+
+	private static void scalar( int op, GrayF32 input, float value, GrayF32 output ) {
+		switch (op) {
+			case 0 -> PixelMath.plus(input, value, output);
+			case 1 -> PixelMath.minus(input, value, output);
+			case 2 -> PixelMath.multiply(input, value, output);
+			default -> PixelMath.divide(input, value, output);
+		}
+	}
+
+	private static void twoImages( int op, GrayF32 imgA, GrayF32 imgB, GrayF32 output ) {
+		switch (op) {
+			case 0 -> PixelMath.add(imgA, imgB, output);
+			case 1 -> PixelMath.subtract(imgA, imgB, output);
+			case 2 -> PixelMath.multiply(imgA, imgB, output);
+			default -> PixelMath.divide(imgA, imgB, output);
+		}
+	}
+}
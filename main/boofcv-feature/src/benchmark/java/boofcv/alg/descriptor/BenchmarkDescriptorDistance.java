@@ -18,6 +18,7 @@
 
 package boofcv.alg.descriptor;
 
+import boofcv.struct.feature.PackedTupleArray_B;
 import boofcv.struct.feature.TupleDesc_B;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
@@ -41,8 +42,13 @@ public class BenchmarkDescriptorDistance {
 
 	static int NUM_FEATURES = 10000;
 
+	// Number of features in A which are compared against all of B in the one-vs-many benchmarks
+	static int NUM_QUERY = 20;
+
 	List<TupleDesc_B> binaryA = new ArrayList<>();
 	List<TupleDesc_B> binaryB = new ArrayList<>();
+	PackedTupleArray_B packedB = new PackedTupleArray_B(512);
+	double[] scores = new double[NUM_FEATURES];
 	HammingTable16 table = new HammingTable16();
 
 	@Setup public void setup() {
@@ -53,6 +59,10 @@ public class BenchmarkDescriptorDistance {
 			binaryA.add(randomFeature(rand));
 			binaryB.add(randomFeature(rand));
 		}
+		packedB.reset();
+		for (int i = 0; i < binaryB.size(); i++) {
+			packedB.append(binaryB.get(i));
+		}
 	}
 
 	@Benchmark public void hammingTable() {
@@ -87,6 +97,21 @@ public class BenchmarkDescriptorDistance {
 		}
 	}
 
+	@Benchmark public void oneVsManyObjects() {
+		for (int i = 0; i < NUM_QUERY; i++) {
+			TupleDesc_B a = binaryA.get(i);
+			for (int j = 0; j < binaryB.size(); j++) {
+				scores[j] = DescriptorDistance.hamming(a, binaryB.get(j));
+			}
+		}
+	}
+
+	@Benchmark public void oneVsManyPacked() {
+		for (int i = 0; i < NUM_QUERY; i++) {
+			DescriptorDistance.hamming(binaryA.get(i), packedB, 0, packedB.size(), scores, 0);
+		}
+	}
+
 	private TupleDesc_B randomFeature( Random rand ) {
 		TupleDesc_B feat = new TupleDesc_B(512);
 		for (int j = 0; j < feat.data.length; j++) {
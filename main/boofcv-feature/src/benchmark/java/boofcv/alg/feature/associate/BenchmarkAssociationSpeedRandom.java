@@ -23,6 +23,8 @@ import boofcv.abst.feature.associate.ScoreAssociation;
 import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.associate.ConfigAssociateGreedy;
 import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.struct.feature.PackedTupleArray_F64;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.DogArray;
 import org.openjdk.jmh.annotations.*;
@@ -54,6 +56,8 @@ public class BenchmarkAssociationSpeedRandom {
 
 	Random rand = new Random(234234);
 	DogArray<TupleDesc_F64> listA, listB;
+	PackedTupleArray_F64 packedB;
+	double[] distances;
 
 	ScoreAssociation<TupleDesc_F64> score = FactoryAssociation.scoreEuclidean(TupleDesc_F64.class, true);
 
@@ -67,6 +71,11 @@ public class BenchmarkAssociationSpeedRandom {
 
 		listA = createSet(rand);
 		listB = createSet(rand);
+		packedB = new PackedTupleArray_F64(DOF);
+		for (int i = 0; i < listB.size; i++) {
+			packedB.append(listB.get(i));
+		}
+		distances = new double[NUM_FEATURES];
 
 		greedy = FactoryAssociation.greedy(new ConfigAssociateGreedy(false), score);
 		greedyBackwards = FactoryAssociation.greedy(new ConfigAssociateGreedy(true), score);
@@ -98,6 +107,48 @@ public class BenchmarkAssociationSpeedRandom {
 		kdtree.associate();
 	}
 
+	/**
+	 * Brute force nearest neighbor where the destination is a list of descriptor objects
+	 */
+	@Benchmark public int bruteForceObjects() {
+		int total = 0;
+		for (int i = 0; i < listA.size; i++) {
+			TupleDesc_F64 a = listA.get(i);
+			double best = Double.MAX_VALUE;
+			int bestIdx = -1;
+			for (int j = 0; j < listB.size; j++) {
+				double d = DescriptorDistance.euclideanSq(a, listB.get(j));
+				if (d < best) {
+					best = d;
+					bestIdx = j;
+				}
+			}
+			total += bestIdx;
+		}
+		return total;
+	}
+
+	/**
+	 * Brute force nearest neighbor where the destination is stored in a packed array and the batched
+	 * distance function is used
+	 */
+	@Benchmark public int bruteForcePacked() {
+		int total = 0;
+		for (int i = 0; i < listA.size; i++) {
+			DescriptorDistance.euclideanSq(listA.get(i), packedB, 0, packedB.size(), distances, 0);
+			double best = Double.MAX_VALUE;
+			int bestIdx = -1;
+			for (int j = 0; j < packedB.size(); j++) {
+				if (distances[j] < best) {
+					best = distances[j];
+					bestIdx = j;
+				}
+			}
+			total += bestIdx;
+		}
+		return total;
+	}
+
 	private DogArray<TupleDesc_F64> createSet( Random rand ) {
 		DogArray<TupleDesc_F64> ret = new DogArray<>(() -> new TupleDesc_F64(DOF));
 
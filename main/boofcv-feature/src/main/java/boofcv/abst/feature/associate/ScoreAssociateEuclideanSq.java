@@ -19,9 +19,8 @@
 package boofcv.abst.feature.associate;
 
 import boofcv.alg.descriptor.DescriptorDistance;
-import boofcv.struct.feature.MatchScoreType;
-import boofcv.struct.feature.TupleDesc_F32;
-import boofcv.struct.feature.TupleDesc_F64;
+import boofcv.struct.PackedArray;
+import boofcv.struct.feature.*;
 
 /**
  * Scores based on Euclidean distance squared
@@ -32,16 +31,28 @@ import boofcv.struct.feature.TupleDesc_F64;
 public interface ScoreAssociateEuclideanSq<Desc> extends ScoreAssociation<Desc> {
 
 	// @formatter:off
-	class F32 implements ScoreAssociateEuclideanSq<TupleDesc_F32> {
+	class F32 implements ScoreAssociateEuclideanSq<TupleDesc_F32>, ScoreAssociationBatch<TupleDesc_F32> {
 		@Override public double score(TupleDesc_F32 a, TupleDesc_F32 b) { return DescriptorDistance.euclideanSq(a, b); }
 		@Override public MatchScoreType getScoreType()                  { return MatchScoreType.NORM_ERROR; }
 		@Override public Class<TupleDesc_F32> getDescriptorType()       { return TupleDesc_F32.class; }
+		@Override public PackedArray<TupleDesc_F32> createPacked(TupleDesc_F32 template) {
+			return new PackedTupleArray_F32(template.size());
+		}
+		@Override public void scoreBatch(TupleDesc_F32 a, PackedArray<TupleDesc_F32> set, double[] output, int offset) {
+			DescriptorDistance.euclideanSq(a, (PackedTupleArray_F32)set, 0, set.size(), output, offset);
+		}
 	}
 
-	class F64 implements ScoreAssociateEuclideanSq<TupleDesc_F64> {
+	class F64 implements ScoreAssociateEuclideanSq<TupleDesc_F64>, ScoreAssociationBatch<TupleDesc_F64> {
 		@Override public double score(TupleDesc_F64 a, TupleDesc_F64 b) { return DescriptorDistance.euclideanSq(a, b); }
 		@Override public MatchScoreType getScoreType()                  { return MatchScoreType.NORM_ERROR; }
 		@Override public Class<TupleDesc_F64> getDescriptorType()       { return TupleDesc_F64.class; }
+		@Override public PackedArray<TupleDesc_F64> createPacked(TupleDesc_F64 template) {
+			return new PackedTupleArray_F64(template.size());
+		}
+		@Override public void scoreBatch(TupleDesc_F64 a, PackedArray<TupleDesc_F64> set, double[] output, int offset) {
+			DescriptorDistance.euclideanSq(a, (PackedTupleArray_F64)set, 0, set.size(), output, offset);
+		}
 	}
 	// @formatter:on
 }
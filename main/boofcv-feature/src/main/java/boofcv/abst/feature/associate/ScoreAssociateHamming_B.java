@@ -19,7 +19,9 @@
 package boofcv.abst.feature.associate;
 
 import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.struct.PackedArray;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray_B;
 import boofcv.struct.feature.TupleDesc_B;
 
 /**
@@ -28,13 +30,22 @@ import boofcv.struct.feature.TupleDesc_B;
  *
  * @author Peter Abeles
  */
-public class ScoreAssociateHamming_B implements ScoreAssociation<TupleDesc_B> {
+public class ScoreAssociateHamming_B implements ScoreAssociationBatch<TupleDesc_B> {
 
 	@Override
 	public double score( TupleDesc_B a, TupleDesc_B b ) {
 		return DescriptorDistance.hamming(a, b);
 	}
 
+	@Override public PackedArray<TupleDesc_B> createPacked( TupleDesc_B template ) {
+		return new PackedTupleArray_B(template.numBits);
+	}
+
+	@Override
+	public void scoreBatch( TupleDesc_B a, PackedArray<TupleDesc_B> set, double[] output, int offset ) {
+		DescriptorDistance.hamming(a, (PackedTupleArray_B)set, 0, set.size(), output, offset);
+	}
+
 	@Override
 	public MatchScoreType getScoreType() {
 		return MatchScoreType.NORM_ERROR;
@@ -19,6 +19,7 @@
 package boofcv.abst.feature.associate;
 
 import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.struct.PackedArray;
 import boofcv.struct.feature.*;
 
 /**
@@ -35,27 +36,54 @@ public interface ScoreAssociateSad<Desc> extends ScoreAssociation<Desc> {
 		@Override public Class<TupleDesc_F32> getDescriptorType() {return TupleDesc_F32.class;}
 	}
 
-	class F64 implements ScoreAssociateSad<TupleDesc_F64> {
+	class F64 implements ScoreAssociateSad<TupleDesc_F64>, ScoreAssociationBatch<TupleDesc_F64> {
 		@Override public double score( TupleDesc_F64 a, TupleDesc_F64 b ) {return DescriptorDistance.sad(a, b);}
 
 		@Override public MatchScoreType getScoreType() {return MatchScoreType.NORM_ERROR;}
 
 		@Override public Class<TupleDesc_F64> getDescriptorType() {return TupleDesc_F64.class;}
+
+		@Override public PackedArray<TupleDesc_F64> createPacked( TupleDesc_F64 template ) {
+			return new PackedTupleArray_F64(template.size());
+		}
+
+		@Override
+		public void scoreBatch( TupleDesc_F64 a, PackedArray<TupleDesc_F64> set, double[] output, int offset ) {
+			DescriptorDistance.sad(a, (PackedTupleArray_F64)set, 0, set.size(), output, offset);
+		}
 	}
 
-	class U8 implements ScoreAssociateSad<TupleDesc_U8> {
+	class U8 implements ScoreAssociateSad<TupleDesc_U8>, ScoreAssociationBatch<TupleDesc_U8> {
 		@Override public double score( TupleDesc_U8 a, TupleDesc_U8 b ) {return DescriptorDistance.sad(a, b);}
 
 		@Override public MatchScoreType getScoreType() {return MatchScoreType.NORM_ERROR;}
 
 		@Override public Class<TupleDesc_U8> getDescriptorType() {return TupleDesc_U8.class;}
+
+		@Override public PackedArray<TupleDesc_U8> createPacked( TupleDesc_U8 template ) {
+			return new PackedTupleArray_U8(template.size());
+		}
+
+		@Override
+		public void scoreBatch( TupleDesc_U8 a, PackedArray<TupleDesc_U8> set, double[] output, int offset ) {
+			DescriptorDistance.sad(a, (PackedTupleArray_U8)set, 0, set.size(), output, offset);
+		}
 	}
 
-	class S8 implements ScoreAssociateSad<TupleDesc_S8> {
+	class S8 implements ScoreAssociateSad<TupleDesc_S8>, ScoreAssociationBatch<TupleDesc_S8> {
 		@Override public double score( TupleDesc_S8 a, TupleDesc_S8 b ) {return DescriptorDistance.sad(a, b);}
 
 		@Override public MatchScoreType getScoreType() {return MatchScoreType.NORM_ERROR;}
 
 		@Override public Class<TupleDesc_S8> getDescriptorType() {return TupleDesc_S8.class;}
+
+		@Override public PackedArray<TupleDesc_S8> createPacked( TupleDesc_S8 template ) {
+			return new PackedTupleArray_S8(template.size());
+		}
+
+		@Override
+		public void scoreBatch( TupleDesc_S8 a, PackedArray<TupleDesc_S8> set, double[] output, int offset ) {
+			DescriptorDistance.sad(a, (PackedTupleArray_S8)set, 0, set.size(), output, offset);
+		}
 	}
 }
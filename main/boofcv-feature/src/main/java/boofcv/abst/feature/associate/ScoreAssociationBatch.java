@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.associate;
+
+import boofcv.struct.PackedArray;
+
+/**
+ * {@link ScoreAssociation} which can also score one description against every description in a set at once.
+ * The set is stored in a {@link PackedArray}, which puts all the descriptions into a single continuous array, and
+ * scored using the batched functions in {@link boofcv.alg.descriptor.DescriptorDistance}. This is much more cache
+ * friendly than scoring each pair individually when the set is large.
+ *
+ * @param <Desc> Feature description type.
+ * @author Peter Abeles
+ */
+public interface ScoreAssociationBatch<Desc> extends ScoreAssociation<Desc> {
+	/**
+	 * Creates an empty packed array which can store descriptions with the same length as 'template'
+	 *
+	 * @param template Description used to determine the length
+	 * @return Packed array that can be passed to {@link #scoreBatch}
+	 */
+	PackedArray<Desc> createPacked( Desc template );
+
+	/**
+	 * Computes the score between 'a' and every description in 'set', i.e. output[offset + i] = score(a, set[i]).
+	 * The results are identical to calling {@link #score}. Nothing is modified other than 'output', so it
+	 * can be called from multiple threads at once.
+	 *
+	 * @param a (Input) Description that's compared against the set
+	 * @param set (Input) Set of descriptions created by {@link #createPacked}
+	 * @param output (Output) Score for each description in the set
+	 * @param offset (Input) Index in output that the first score is written to
+	 */
+	void scoreBatch( Desc a, PackedArray<Desc> set, double[] output, int offset );
+}
@@ -20,6 +20,7 @@ package boofcv.abst.feature.detdesc;
 
 import boofcv.abst.feature.describe.DescriptorInfo;
 import boofcv.abst.feature.detect.interest.InterestPointDetector;
+import boofcv.struct.PackedArray;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.image.ImageBase;
 
@@ -42,4 +43,20 @@ public interface DetectDescribePoint<T extends ImageBase<T>, Desc extends TupleD
 	 * @return Feature descriptor
 	 */
 	Desc getDescription( int index );
+
+	/**
+	 * Copies all the detected descriptions into a packed array, where every descriptor is stored in a single
+	 * continuous array. This is more memory efficient and cache friendly than a list of descriptor objects
+	 * and can be used with the batched distance functions in {@link boofcv.alg.descriptor.DescriptorDistance}.
+	 *
+	 * @param dst (Output) Storage for the descriptions. Reset before the descriptions are added.
+	 */
+	default void copyDescriptions( PackedArray<Desc> dst ) {
+		int N = getNumberOfFeatures();
+		dst.reset();
+		dst.reserve(N);
+		for (int i = 0; i < N; i++) {
+			dst.append(getDescription(i));
+		}
+	}
 }
@@ -27,6 +27,7 @@ import boofcv.alg.transform.pyramid.PyramidOps;
 import boofcv.struct.ConfigLength;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.PyramidDiscrete;
 import georegression.struct.point.Point2D_F64;
@@ -330,29 +331,7 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>, D extends ImageGray<
 		currPyr.update(image);
 
 		// track features
-		tracker.setImage(currPyr.basePyramid, currPyr.derivX, currPyr.derivY);
-		for (int i = active.size() - 1; i >= 0; i--) {
-			PyramidKltFeature t = active.get(i);
-			KltTrackFault ret = tracker.track(t);
-
-			boolean success = false;
-
-			if (ret == KltTrackFault.SUCCESS) {
-				// discard a track if its center drifts outside the image.
-				if (image.isInBounds((int)t.x, (int)t.y) && tracker.setDescription(t)) {
-					PointTrack p = t.getCookie();
-					p.pixel.setTo(t.x, t.y);
-					p.lastSeenFrameID = frameID;
-					success = true;
-				}
-			}
-
-			if (!success) {
-				active.remove(i);
-				dropped.add(t);
-				unused.add(t);
-			}
-		}
+		trackActiveForwards(image);
 
 		if (toleranceFB >= 0) {
 			// If there are no tracks it must have been reset or this is the first frame
@@ -369,6 +348,43 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>, D extends ImageGray<
 		}
 	}
 
+	/**
+	 * Tracks all the active features into the current frame. Tracks which fail are moved into the dropped list.
+	 */
+	protected void trackActiveForwards( I image ) {
+		tracker.setImage(currPyr.basePyramid, currPyr.derivX, currPyr.derivY);
+		for (int i = active.size() - 1; i >= 0; i--) {
+			PyramidKltFeature t = active.get(i);
+			if (!trackForwards(tracker, image, t)) {
+				active.remove(i);
+				dropped.add(t);
+				unused.add(t);
+			}
+		}
+	}
+
+	/**
+	 * Tracks a single feature into the current frame and updates its description. Only modifies the feature
+	 * and its track, so it can be safely called in parallel if each thread has its own tracker.
+	 *
+	 * @param tracker KLT tracker with the current image pyramid already set
+	 * @return true if successful or false if the track should be dropped
+	 */
+	protected boolean trackForwards( PyramidKltTracker<I, D> tracker, I image, PyramidKltFeature t ) {
+		KltTrackFault ret = tracker.track(t);
+		if (ret != KltTrackFault.SUCCESS)
+			return false;
+
+		// discard a track if its center drifts outside the image.
+		if (!image.isInBounds((int)t.x, (int)t.y) || !tracker.setDescription(t))
+			return false;
+
+		PointTrack p = t.getCookie();
+		p.pixel.setTo(t.x, t.y);
+		p.lastSeenFrameID = frameID;
+		return true;
+	}
+
 	/**
 	 * Prune tracks which are too close and adds them to the dropped list
 	 */
@@ -389,24 +405,39 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>, D extends ImageGray<
 		tracker.setImage(prevPyr.basePyramid, prevPyr.derivX, prevPyr.derivY);
 		for (int i = active.size() - 1; i >= 0; i--) {
 			PyramidKltFeature t = active.get(i);
-			PointTrackMod p = t.getCookie();
-
-			KltTrackFault ret = tracker.track(t);
-
-			if (ret != KltTrackFault.SUCCESS || p.prev.distance2(t.x, t.y) > tol2) {
+			if (!trackBackwards(tracker, t, tol2)) {
 				active.remove(i);
 				dropped.add(t);
 				unused.add(t);
-			} else {
-				// the new previous will be the current location
-				p.prev.setTo(p.pixel);
-				// Revert the update by KLT
-				t.x = (float)p.pixel.x;
-				t.y = (float)p.pixel.y;
 			}
 		}
 	}
 
+	/**
+	 * Tracks a single feature back into the previous frame and checks to see if it ends up where it started.
+	 * Only modifies the feature and its track, so it can be safely called in parallel if each thread has its
+	 * own tracker.
+	 *
+	 * @param tracker KLT tracker with the previous image pyramid already set
+	 * @param tol2 Maximum allowed distance squared
+	 * @return true if the track passed validation
+	 */
+	protected boolean trackBackwards( PyramidKltTracker<I, D> tracker, PyramidKltFeature t, double tol2 ) {
+		PointTrackMod p = t.getCookie();
+
+		KltTrackFault ret = tracker.track(t);
+
+		if (ret != KltTrackFault.SUCCESS || p.prev.distance2(t.x, t.y) > tol2)
+			return false;
+
+		// the new previous will be the current location
+		p.prev.setTo(p.pixel);
+		// Revert the update by KLT
+		t.x = (float)p.pixel.x;
+		t.y = (float)p.pixel.y;
+		return true;
+	}
+
 	@Override
 	public boolean dropTrack( PointTrack track ) {
 		if (active.remove((PyramidKltFeature)track.getDescription())) {
@@ -517,18 +548,35 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>, D extends ImageGray<
 		}
 
 		public void update( I image ) {
+			// The pyramid and derivatives are only referenced by the tracker, so when the image changes shape
+			// they can be recycled through the ImagePool
+			if (basePyramid.isInitialized() &&
+					(basePyramid.getInputWidth() != image.width || basePyramid.getInputHeight() != image.height)) {
+				basePyramid.releaseLayers();
+			}
 			basePyramid.process(image);
 			if (derivX == null || derivX.length != basePyramid.layers.length) {
+				releaseDerivatives();
 				derivX = PyramidOps.declareOutput(basePyramid, derivType);
 				derivY = PyramidOps.declareOutput(basePyramid, derivType);
 			}
 
-			if (derivX[0].width != basePyramid.getLayer(0).width ||
-					derivX[0].height != basePyramid.getLayer(0).height) {
-				PyramidOps.reshapeOutput(basePyramid, derivX);
-				PyramidOps.reshapeOutput(basePyramid, derivY);
+			for (int i = 0; i < derivX.length; i++) {
+				int width = basePyramid.getWidth(i);
+				int height = basePyramid.getHeight(i);
+				derivX[i] = ImagePool.reshapeGlobal(derivX[i], width, height);
+				derivY[i] = ImagePool.reshapeGlobal(derivY[i], width, height);
 			}
 			PyramidOps.gradient(basePyramid, gradient, derivX, derivY);
 		}
+
+		void releaseDerivatives() {
+			if (derivX == null)
+				return;
+			for (int i = 0; i < derivX.length; i++) {
+				ImagePool.releaseGlobal(derivX[i]);
+				ImagePool.releaseGlobal(derivY[i]);
+			}
+		}
 	}
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.tracker;
+
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
+import boofcv.alg.interpolate.InterpolateRectangle;
+import boofcv.alg.tracker.klt.ConfigKlt;
+import boofcv.alg.tracker.klt.KltTracker;
+import boofcv.alg.tracker.klt.PyramidKltFeature;
+import boofcv.alg.tracker.klt.PyramidKltTracker;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.misc.BoofLambdas;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.pyramid.PyramidDiscrete;
+import org.ddogleg.struct.DogArray_B;
+import pabeles.concurrency.GrowArray;
+
+/**
+ * Concurrent implementation of {@link PointTrackerKltPyramid}. Active tracks are split into blocks and each thread
+ * tracks its block using its own {@link PyramidKltTracker}, since the tracker contains internal workspace.
+ * Forwards tracking and forwards-backwards validation are both done concurrently. Tracks are dropped afterwards in
+ * the same order as the single threaded implementation, so the results are identical. Spawning is single threaded.
+ *
+ * @author Peter Abeles
+ */
+public class PointTrackerKltPyramid_MT<I extends ImageGray<I>, D extends ImageGray<D>>
+		extends PointTrackerKltPyramid<I, D> {
+
+	/** If there are fewer than this number of active tracks it will use the single threaded algorithm */
+	public int minimumTracksThread = 50;
+
+	// Tracker for each thread
+	final GrowArray<PyramidKltTracker<I, D>> trackers;
+
+	// Indicates if tracking was successful for each active track
+	final DogArray_B success = new DogArray_B();
+
+	/**
+	 * Specifies the configuration. See {@link PointTrackerKltPyramid} for a description of each parameter.
+	 *
+	 * @param factoryInterpInput Creates interpolation for the input image. One is needed for each thread.
+	 * @param factoryInterpDeriv Creates interpolation for gradient images. One is needed for each thread.
+	 */
+	public PointTrackerKltPyramid_MT( ConfigKlt config,
+									  double toleranceFB,
+									  int templateRadius,
+									  boolean performPruneClose,
+									  PyramidDiscrete<I> pyramid,
+									  GeneralFeatureDetector<I, D> detector,
+									  ImageGradient<I, D> gradient,
+									  BoofLambdas.Factory<InterpolateRectangle<I>> factoryInterpInput,
+									  BoofLambdas.Factory<InterpolateRectangle<D>> factoryInterpDeriv,
+									  Class<D> derivType ) {
+		super(config, toleranceFB, templateRadius, performPruneClose, pyramid, detector, gradient,
+				factoryInterpInput.newInstance(), factoryInterpDeriv.newInstance(), derivType);
+
+		trackers = new GrowArray<>(() -> new PyramidKltTracker<>(
+				new KltTracker<>(factoryInterpInput.newInstance(), factoryInterpDeriv.newInstance(), config)));
+	}
+
+	@Override protected void trackActiveForwards( I image ) {
+		if (active.size() < minimumTracksThread) {
+			super.trackActiveForwards(image);
+			return;
+		}
+
+		success.resize(active.size());
+		BoofConcurrency.loopBlocks(0, active.size(), trackers, ( tracker, idx0, idx1 ) -> {
+			tracker.setImage(currPyr.basePyramid, currPyr.derivX, currPyr.derivY);
+			for (int i = idx0; i < idx1; i++) {
+				success.data[i] = trackForwards(tracker, image, active.get(i));
+			}
+		});
+
+		dropFailed();
+	}
+
+	@Override protected void backwardsTrackValidate() {
+		if (active.size() < minimumTracksThread) {
+			super.backwardsTrackValidate();
+			return;
+		}
+
+		double tol2 = toleranceFB*toleranceFB;
+
+		success.resize(active.size());
+		BoofConcurrency.loopBlocks(0, active.size(), trackers, ( tracker, idx0, idx1 ) -> {
+			tracker.setImage(prevPyr.basePyramid, prevPyr.derivX, prevPyr.derivY);
+			for (int i = idx0; i < idx1; i++) {
+				success.data[i] = trackBackwards(tracker, active.get(i), tol2);
+			}
+		});
+
+		dropFailed();
+	}
+
+	/**
+	 * Drops all the tracks which were marked as failures. Done in reverse order to match the single threaded
+	 * implementation.
+	 */
+	void dropFailed() {
+		for (int i = active.size() - 1; i >= 0; i--) {
+			if (success.data[i])
+				continue;
+			PyramidKltFeature t = active.remove(i);
+			dropped.add(t);
+			unused.add(t);
+		}
+	}
+}
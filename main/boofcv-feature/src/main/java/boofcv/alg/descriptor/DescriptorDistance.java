@@ -258,4 +258,142 @@ public class DescriptorDistance {
 	public static int hamming( long val ) {
 		return hamming((int)val) + hamming((int)(val >> 32));
 	}
+
+	/**
+	 * Computes the Euclidean distance squared between 'a' and every descriptor in the set from idx0 to idx1.
+	 * Since the set is stored in a single continuous array this is much more cache friendly than computing
+	 * the distance to each descriptor individually.
+	 *
+	 * @param a (Input) The descriptor which is compared against the set
+	 * @param set (Input) Set of descriptors
+	 * @param idx0 (Input) First descriptor in the set, inclusive
+	 * @param idx1 (Input) Last descriptor in the set, exclusive
+	 * @param output (Output) Distance for each descriptor is written to output[offset + i - idx0]
+	 * @param offset (Input) Index in output that the first distance is written to
+	 */
+	public static void euclideanSq( TupleDesc_F64 a, PackedTupleArray_F64 set,
+									int idx0, int idx1, double[] output, int offset ) {
+		final int N = set.dof;
+		final double[] dataA = a.data;
+		final double[] dataB = set.array.data;
+		for (int idx = idx0, indexB = idx0*N; idx < idx1; idx++) {
+			double total = 0;
+			for (int i = 0; i < N; i++, indexB++) {
+				double d = dataA[i] - dataB[indexB];
+				total += d*d;
+			}
+			output[offset + idx - idx0] = total;
+		}
+	}
+
+	/**
+	 * Batched version of {@link #euclideanSq(TupleDesc_F32, TupleDesc_F32)}. See
+	 * {@link #euclideanSq(TupleDesc_F64, PackedTupleArray_F64, int, int, double[], int)}.
+	 */
+	public static void euclideanSq( TupleDesc_F32 a, PackedTupleArray_F32 set,
+									int idx0, int idx1, double[] output, int offset ) {
+		final int N = set.dof;
+		final float[] dataA = a.data;
+		final float[] dataB = set.array.data;
+		for (int idx = idx0, indexB = idx0*N; idx < idx1; idx++) {
+			float total = 0;
+			for (int i = 0; i < N; i++, indexB++) {
+				float d = dataA[i] - dataB[indexB];
+				total += d*d;
+			}
+			output[offset + idx - idx0] = total;
+		}
+	}
+
+	/**
+	 * Batched version of {@link #euclideanSq(TupleDesc_U8, TupleDesc_U8)}. See
+	 * {@link #euclideanSq(TupleDesc_F64, PackedTupleArray_F64, int, int, double[], int)}.
+	 */
+	public static void euclideanSq( TupleDesc_U8 a, PackedTupleArray_U8 set,
+									int idx0, int idx1, double[] output, int offset ) {
+		final int N = set.dof;
+		final byte[] dataA = a.data;
+		final byte[] dataB = set.array.data;
+		for (int idx = idx0, indexB = idx0*N; idx < idx1; idx++) {
+			int total = 0;
+			for (int i = 0; i < N; i++, indexB++) {
+				int d = (dataA[i] & 0xFF) - (dataB[indexB] & 0xFF);
+				total += d*d;
+			}
+			output[offset + idx - idx0] = total;
+		}
+	}
+
+	/**
+	 * Batched version of {@link #sad(TupleDesc_U8, TupleDesc_U8)}. See
+	 * {@link #euclideanSq(TupleDesc_F64, PackedTupleArray_F64, int, int, double[], int)}.
+	 */
+	public static void sad( TupleDesc_U8 a, PackedTupleArray_U8 set,
+							int idx0, int idx1, double[] output, int offset ) {
+		final int N = set.dof;
+		final byte[] dataA = a.data;
+		final byte[] dataB = set.array.data;
+		for (int idx = idx0, indexB = idx0*N; idx < idx1; idx++) {
+			int total = 0;
+			for (int i = 0; i < N; i++, indexB++) {
+				total += Math.abs((dataA[i] & 0xFF) - (dataB[indexB] & 0xFF));
+			}
+			output[offset + idx - idx0] = total;
+		}
+	}
+
+	/**
+	 * Batched version of {@link #sad(TupleDesc_S8, TupleDesc_S8)}. See
+	 * {@link #euclideanSq(TupleDesc_F64, PackedTupleArray_F64, int, int, double[], int)}.
+	 */
+	public static void sad( TupleDesc_S8 a, PackedTupleArray_S8 set,
+							int idx0, int idx1, double[] output, int offset ) {
+		final int N = set.dof;
+		final byte[] dataA = a.data;
+		final byte[] dataB = set.array.data;
+		for (int idx = idx0, indexB = idx0*N; idx < idx1; idx++) {
+			int total = 0;
+			for (int i = 0; i < N; i++, indexB++) {
+				total += Math.abs(dataA[i] - dataB[indexB]);
+			}
+			output[offset + idx - idx0] = total;
+		}
+	}
+
+	/**
+	 * Batched version of {@link #sad(TupleDesc_F64, TupleDesc_F64)}. See
+	 * {@link #euclideanSq(TupleDesc_F64, PackedTupleArray_F64, int, int, double[], int)}.
+	 */
+	public static void sad( TupleDesc_F64 a, PackedTupleArray_F64 set,
+							int idx0, int idx1, double[] output, int offset ) {
+		final int N = set.dof;
+		final double[] dataA = a.data;
+		final double[] dataB = set.array.data;
+		for (int idx = idx0, indexB = idx0*N; idx < idx1; idx++) {
+			double total = 0;
+			for (int i = 0; i < N; i++, indexB++) {
+				total += Math.abs(dataA[i] - dataB[indexB]);
+			}
+			output[offset + idx - idx0] = total;
+		}
+	}
+
+	/**
+	 * Batched version of {@link #hamming(TupleDesc_B, TupleDesc_B)}. Bits are counted with
+	 * {@link Integer#bitCount(int)}, which the JVM replaces with a single popcount instruction on
+	 * hardware that supports it. See {@link #euclideanSq(TupleDesc_F64, PackedTupleArray_F64, int, int, double[], int)}.
+	 */
+	public static void hamming( TupleDesc_B a, PackedTupleArray_B set,
+								int idx0, int idx1, double[] output, int offset ) {
+		final int N = set.temp.data.length;
+		final int[] dataA = a.data;
+		final int[] dataB = set.array.data;
+		for (int idx = idx0, indexB = idx0*N; idx < idx1; idx++) {
+			int score = 0;
+			for (int i = 0; i < N; i++, indexB++) {
+				score += Integer.bitCount(dataA[i] ^ dataB[indexB]);
+			}
+			output[offset + idx - idx0] = score;
+		}
+	}
 }
@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.descriptor;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.TupleDesc_B;
+import lombok.Getter;
+import org.ddogleg.nn.NearestNeighbor;
+import org.ddogleg.nn.NnData;
+import org.ddogleg.struct.DogArray;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * Exact nearest neighbor search in Hamming space for binary descriptors using Multi-Index Hashing [1]. Each
+ * descriptor is split into m disjoint substrings and each substring is indexed by its own table. If two
+ * descriptors have a Hamming distance of d then, by the pigeonhole principle, at least one of their substrings
+ * has a distance no more than floor(d/m). The search enumerates substring values with an increasing radius r
+ * around the query's substrings and stops once all descriptors with a distance less than m*(r+1) have been
+ * examined and the k-best are known. Results are exact and identical to a brute force search.
+ * </p>
+ *
+ * <p>
+ * Distance is the number of bits which are different. The maximum distance passed into the search is in the same
+ * units and a negative value means there is no limit. If the total number of hash lookups would exceed the number
+ * of points then the search falls back to a linear scan of the remaining points. Search is fastest when the
+ * neighbors are close to the query, relative to the number of bits.
+ * </p>
+ *
+ * <p>Only a reference to the list of points is kept. Each table requires 4*N bytes plus 8 bytes for each
+ * unique substring value.</p>
+ *
+ * <p>
+ * [1] Norouzi, Mohammad, Ali Punjani, and David J. Fleet. "Fast exact search in hamming space with multi-index
+ * hashing." IEEE transactions on pattern analysis and machine intelligence 36.6 (2013): 1107-1119.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MultiIndexHashing_B implements NearestNeighbor<TupleDesc_B> {
+	/** Maximum number of bits in a substring */
+	public static final int MAX_SUBSTRING_BITS = 31;
+
+	/** Number of bits in the descriptor */
+	final @Getter int numBits;
+
+	// Number of tables requested by the user. If <= 0 it's selected automatically
+	final int requestedTables;
+
+	/** One table for each substring */
+	final DogArray<Table> tables = new DogArray<>(Table::new);
+
+	// Reference to the points being searched
+	List<TupleDesc_B> points;
+
+	// The longest substring in any table
+	int maxSubstringBits;
+
+	/**
+	 * @param numBits Number of bits in the descriptor
+	 * @param numTables Number of substrings/tables. If &le; 0 then it's selected based on the number of points.
+	 */
+	public MultiIndexHashing_B( int numBits, int numTables ) {
+		if (numBits <= 0)
+			throw new IllegalArgumentException("numBits must be positive");
+		if (numTables > numBits)
+			throw new IllegalArgumentException("More tables than bits");
+		if (numTables > 0 && (numBits + numTables - 1)/numTables > MAX_SUBSTRING_BITS)
+			throw new IllegalArgumentException("Too few tables. Substrings can have at most " + MAX_SUBSTRING_BITS + " bits");
+		this.numBits = numBits;
+		this.requestedTables = numTables;
+	}
+
+	/**
+	 * Selects the number of tables using the heuristic from the paper, substrings should have log2(N) bits.
+	 */
+	public static int selectNumberOfTables( int numBits, int numPoints ) {
+		int substringBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, numPoints)));
+		substringBits = Math.min(MAX_SUBSTRING_BITS, substringBits);
+		return Math.max(1, Math.min(numBits, (numBits + substringBits - 1)/substringBits));
+	}
+
+	@Override public void setPoints( List<TupleDesc_B> points, boolean trackIndicies ) {
+		this.points = points;
+
+		int numTables = requestedTables > 0 ? requestedTables : selectNumberOfTables(numBits, points.size());
+
+		// Split the bits as evenly as possible
+		tables.resize(numTables);
+		maxSubstringBits = 0;
+		for (int tableIdx = 0, bit0 = 0; tableIdx < numTables; tableIdx++) {
+			int bit1 = (int)((long)numBits*(tableIdx + 1)/numTables);
+			Table t = tables.get(tableIdx);
+			t.bit0 = bit0;
+			t.length = bit1 - bit0;
+			maxSubstringBits = Math.max(maxSubstringBits, t.length);
+			bit0 = bit1;
+		}
+
+		if (BoofConcurrency.isUseConcurrent()) {
+			BoofConcurrency.loopFor(0, numTables, tableIdx -> tables.get(tableIdx).build(points));
+		} else {
+			for (int tableIdx = 0; tableIdx < numTables; tableIdx++) {
+				tables.get(tableIdx).build(points);
+			}
+		}
+	}
+
+	@Override public Search<TupleDesc_B> createSearch() {
+		return new InternalSearch();
+	}
+
+	/**
+	 * Extracts a substring of bits from the descriptor. Bits are ordered the same as in
+	 * {@link TupleDesc_B#isBitTrue(int)}
+	 */
+	static int extractBits( int[] data, int bit0, int length ) {
+		int word = bit0 >> 5;
+		int offset = bit0 & 0x1F;
+		long value = (data[word] & 0xFFFFFFFFL) >>> offset;
+		if (offset + length > 32)
+			value |= (data[word + 1] & 0xFFFFFFFFL) << (32 - offset);
+		return (int)(value & ((1L << length) - 1));
+	}
+
+	/**
+	 * Hash table for a single substring. Point indexes are sorted by their substring's value and stored in a
+	 * single array. The range of indexes which match a value is found using a binary search.
+	 */
+	static class Table {
+		// First bit in the substring and the number of bits
+		int bit0, length;
+		// Sorted unique substring values
+		int[] keys = new int[0];
+		int numKeys;
+		// Index of the first point with keys[i] is offsets[i]. Has numKeys+1 elements
+		int[] offsets = new int[1];
+		// Point indexes sorted by key
+		int[] indexes = new int[0];
+
+		void build( List<TupleDesc_B> points ) {
+			final int N = points.size();
+
+			// Sort using the key in the upper bits and the index in the lower bits
+			long[] sorted = new long[N];
+			for (int i = 0; i < N; i++) {
+				long key = extractBits(points.get(i).data, bit0, length);
+				sorted[i] = (key << 32) | i;
+			}
+			Arrays.sort(sorted);
+
+			indexes = new int[N];
+			int[] workKeys = new int[N];
+			int[] workOffsets = new int[N + 1];
+
+			numKeys = 0;
+			for (int i = 0; i < N; i++) {
+				int key = (int)(sorted[i] >>> 32);
+				indexes[i] = (int)sorted[i];
+				if (numKeys == 0 || workKeys[numKeys - 1] != key) {
+					workKeys[numKeys] = key;
+					workOffsets[numKeys] = i;
+					numKeys++;
+				}
+			}
+			workOffsets[numKeys] = N;
+
+			// Only keep what's needed since there can be a very large number of points
+			keys = Arrays.copyOf(workKeys, numKeys);
+			offsets = Arrays.copyOf(workOffsets, numKeys + 1);
+		}
+
+		/**
+		 * Returns the location of the bucket in the keys array or a negative number if there is no match
+		 */
+		int lookup( int key ) {
+			return Arrays.binarySearch(keys, 0, numKeys, key);
+		}
+	}
+
+	private class InternalSearch implements Search<TupleDesc_B> {
+		// Used to mark which points have already been examined for the current query
+		int[] visited = new int[0];
+		int queryID = 0;
+
+		// Substring values for the query
+		int[] queryKeys = new int[0];
+
+		// Indexes of bits which are flipped when enumerating substrings at a fixed radius
+		int[] flips = new int[MAX_SUBSTRING_BITS + 1];
+
+		// The k-best found so far, sorted by distance
+		int[] bestIndex = new int[0];
+		int[] bestDistance = new int[0];
+		int numBest, numNeighbors, maxDistance;
+
+		DogArray<NnData<TupleDesc_B>> storage = new DogArray<>(NnData::new);
+
+		@Override public boolean findNearest( TupleDesc_B point, double maxDistance, NnData<TupleDesc_B> result ) {
+			findNearest(point, maxDistance, 1, storage);
+			if (storage.isEmpty())
+				return false;
+			NnData<TupleDesc_B> best = storage.get(0);
+			result.index = best.index;
+			result.point = best.point;
+			result.distance = best.distance;
+			return true;
+		}
+
+		@Override
+		public void findNearest( TupleDesc_B point, double maxDistance, int numNeighbors,
+								 DogArray<NnData<TupleDesc_B>> results ) {
+			results.reset();
+			final int N = points.size();
+			if (N == 0 || numNeighbors <= 0)
+				return;
+
+			initialize(N, numNeighbors, maxDistance);
+
+			final int numTables = tables.size;
+			for (int tableIdx = 0; tableIdx < numTables; tableIdx++) {
+				Table t = tables.get(tableIdx);
+				queryKeys[tableIdx] = extractBits(point.data, t.bit0, t.length);
+			}
+
+			// Only need to search substrings within this radius to find every point within the max distance
+			int maxRadius = Math.min(maxSubstringBits, this.maxDistance/numTables);
+
+			// Total number of hash lookups, which is used to decide when a linear scan would be faster
+			long lookups = 0;
+			for (int radius = 0; radius <= maxRadius; radius++) {
+				// If the hash lookups would cost more than looking at every point then do that instead
+				lookups += numTables*binomial(maxSubstringBits, radius);
+				if (lookups > N) {
+					for (int i = 0; i < N; i++) {
+						considerPoint(point, i);
+					}
+					break;
+				}
+
+				for (int tableIdx = 0; tableIdx < numTables; tableIdx++) {
+					Table t = tables.get(tableIdx);
+					if (radius <= t.length)
+						searchTable(point, t, queryKeys[tableIdx], radius);
+				}
+
+				// Every point with a distance less than numTables*(radius+1) has been found
+				if (numBest == this.numNeighbors && bestDistance[numBest - 1] < numTables*(radius + 1))
+					break;
+			}
+
+			for (int i = 0; i < numBest; i++) {
+				NnData<TupleDesc_B> r = results.grow();
+				r.index = bestIndex[i];
+				r.point = points.get(bestIndex[i]);
+				r.distance = bestDistance[i];
+			}
+		}
+
+		void initialize( int numPoints, int numNeighbors, double maxDistance ) {
+			if (visited.length < numPoints) {
+				visited = new int[numPoints];
+				queryID = 0;
+			}
+			// Handle overflow by clearing the marks
+			if (++queryID == Integer.MAX_VALUE) {
+				Arrays.fill(visited, 0);
+				queryID = 1;
+			}
+			if (queryKeys.length < tables.size)
+				queryKeys = new int[tables.size];
+			if (bestIndex.length < numNeighbors) {
+				bestIndex = new int[numNeighbors];
+				bestDistance = new int[numNeighbors];
+			}
+			this.numBest = 0;
+			this.numNeighbors = numNeighbors;
+			this.maxDistance = maxDistance < 0 ? numBits : (int)Math.min(numBits, Math.floor(maxDistance));
+		}
+
+		/**
+		 * Examines every point in the table whose substring is exactly 'radius' bits from the query's
+		 */
+		void searchTable( TupleDesc_B query, Table table, int queryKey, int radius ) {
+			if (radius == 0) {
+				searchBucket(query, table, queryKey);
+				return;
+			}
+
+			// Enumerate all combinations of 'radius' bits out of 'length'
+			for (int i = 0; i < radius; i++) {
+				flips[i] = i;
+			}
+			while (true) {
+				int key = queryKey;
+				for (int i = 0; i < radius; i++) {
+					key ^= 1 << flips[i];
+				}
+				searchBucket(query, table, key);
+
+				// advance to the next combination
+				int i = radius - 1;
+				while (i >= 0 && flips[i] == table.length - radius + i) {
+					i--;
+				}
+				if (i < 0)
+					break;
+				flips[i]++;
+				for (int j = i + 1; j < radius; j++) {
+					flips[j] = flips[j - 1] + 1;
+				}
+			}
+		}
+
+		void searchBucket( TupleDesc_B query, Table table, int key ) {
+			int bucket = table.lookup(key);
+			if (bucket < 0)
+				return;
+			int idx1 = table.offsets[bucket + 1];
+			for (int i = table.offsets[bucket]; i < idx1; i++) {
+				considerPoint(query, table.indexes[i]);
+			}
+		}
+
+		/**
+		 * Computes the distance to the point if it hasn't already been examined and adds it to the k-best
+		 */
+		void considerPoint( TupleDesc_B query, int index ) {
+			if (visited[index] == queryID)
+				return;
+			visited[index] = queryID;
+
+			int distance = DescriptorDistance.hamming(query, points.get(index));
+			if (distance > maxDistance)
+				return;
+			if (numBest == numNeighbors && distance >= bestDistance[numBest - 1])
+				return;
+
+			// insertion sort into the list of best
+			int location = numBest < numNeighbors ? numBest++ : numBest - 1;
+			while (location > 0 && bestDistance[location - 1] > distance) {
+				bestDistance[location] = bestDistance[location - 1];
+				bestIndex[location] = bestIndex[location - 1];
+				location--;
+			}
+			bestDistance[location] = distance;
+			bestIndex[location] = index;
+		}
+	}
+
+	/**
+	 * Number of ways to choose k items from n. Saturates instead of overflowing.
+	 */
+	static long binomial( int n, int k ) {
+		if (k < 0 || k > n)
+			return 0;
+		k = Math.min(k, n - k);
+		long result = 1;
+		for (int i = 1; i <= k; i++) {
+			result = result*(n - k + i)/i;
+			if (result > Integer.MAX_VALUE)
+				return 1L << 40;
+		}
+		return result;
+	}
+}
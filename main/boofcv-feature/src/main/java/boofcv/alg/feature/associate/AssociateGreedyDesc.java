@@ -19,6 +19,7 @@
 package boofcv.alg.feature.associate;
 
 import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.struct.PackedArray;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastAccess;
 
@@ -28,7 +29,9 @@ import org.ddogleg.struct.FastAccess;
  * <p>
  * Brute force greedy association for objects described by a {@link TupleDesc_F64}. An
  * object is associated with whichever object has the best fit score and every possible combination
- * is examined. If there are a large number of features this can be quite slow.
+ * is examined. If there are a large number of features this can be quite slow. If the score implements
+ * {@link boofcv.abst.feature.associate.ScoreAssociationBatch} then dst is packed into a single array and scored
+ * against each src feature in one pass, which is more cache friendly.
  * </p>
  *
  * <p>
@@ -63,6 +66,7 @@ public class AssociateGreedyDesc<D> extends AssociateGreedyDescBase<D> {
 		setupForAssociate(src.size, dst.size);
 
 		final double ratioTest = this.ratioTest;
+		final PackedArray<D> packedDst = packForBatch(dst);
 
 		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, src.size, i -> {
 		for (int i = 0; i < src.size; i++) {
@@ -72,11 +76,10 @@ public class AssociateGreedyDesc<D> extends AssociateGreedyDescBase<D> {
 			int bestIndex = -1;
 
 			final int workIdx = i*dst.size;
-			for (int j = 0; j < dst.size; j++) {
-				D b = dst.data[j];
+			scoreAgainstAll(a, dst, packedDst, workIdx);
 
-				double fit = score.score(a, b);
-				scoreMatrix.set(workIdx + j, fit);
+			for (int j = 0; j < dst.size; j++) {
+				double fit = scoreMatrix.data[workIdx + j];
 
 				if (fit <= bestScore) {
 					bestIndex = j;
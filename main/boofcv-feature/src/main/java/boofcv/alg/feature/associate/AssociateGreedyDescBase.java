@@ -19,7 +19,10 @@
 package boofcv.alg.feature.associate;
 
 import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.abst.feature.associate.ScoreAssociationBatch;
+import boofcv.struct.PackedArray;
 import org.ddogleg.struct.FastAccess;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Greedy association for matching descriptors
@@ -38,4 +41,40 @@ public abstract class AssociateGreedyDescBase<D> extends AssociateGreedyBase<D>
 	 * @param dst Destination list.
 	 */
 	public abstract void associate( FastAccess<D> src, FastAccess<D> dst );
+
+	/**
+	 * If the score supports batch scoring then dst is copied into a packed array, which allows every src
+	 * description to be scored against all of dst in a single pass.
+	 *
+	 * @param dst Destination list.
+	 * @return The packed dst list or null if batch scoring isn't supported.
+	 */
+	protected @Nullable PackedArray<D> packForBatch( FastAccess<D> dst ) {
+		if (!(score instanceof ScoreAssociationBatch) || dst.size == 0)
+			return null;
+
+		PackedArray<D> packed = ((ScoreAssociationBatch<D>)score).createPacked(dst.get(0));
+		packed.reserve(dst.size);
+		for (int i = 0; i < dst.size; i++) {
+			packed.append(dst.get(i));
+		}
+		return packed;
+	}
+
+	/**
+	 * Computes the score between 'a' and every description in dst and writes it into scoreMatrix starting at
+	 * 'workIdx'. Only writes to the score matrix, so it can be called concurrently.
+	 *
+	 * @param packedDst dst in a packed array, see {@link #packForBatch}. If null each pair is scored individually.
+	 */
+	protected void scoreAgainstAll( D a, FastAccess<D> dst, @Nullable PackedArray<D> packedDst, int workIdx ) {
+		if (packedDst != null) {
+			((ScoreAssociationBatch<D>)score).scoreBatch(a, packedDst, scoreMatrix.data, workIdx);
+			return;
+		}
+
+		for (int j = 0; j < dst.size; j++) {
+			scoreMatrix.data[workIdx + j] = score.score(a, dst.data[j]);
+		}
+	}
 }
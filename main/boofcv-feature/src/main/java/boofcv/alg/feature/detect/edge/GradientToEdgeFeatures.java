@@ -62,7 +62,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX, derivY);
 		intensity.reshape(derivX.width, derivX.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplGradientToEdgeFeatures_MT.intensityE(derivX, derivY, intensity);
 		} else {
 			ImplGradientToEdgeFeatures.intensityE(derivX, derivY, intensity);
@@ -80,7 +80,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX, derivY);
 		intensity.reshape(derivX.width, derivX.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplGradientToEdgeFeatures_MT.intensityAbs(derivX, derivY, intensity);
 		} else {
 			ImplGradientToEdgeFeatures.intensityAbs(derivX, derivY, intensity);
@@ -98,7 +98,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX, derivY);
 		angle.reshape(derivX.width, derivX.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplGradientToEdgeFeatures_MT.direction(derivX, derivY, angle);
 		} else {
 			ImplGradientToEdgeFeatures.direction(derivX, derivY, angle);
@@ -116,7 +116,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX, derivY);
 		angle.reshape(derivX.width, derivX.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplGradientToEdgeFeatures_MT.direction2(derivX, derivY, angle);
 		} else {
 			ImplGradientToEdgeFeatures.direction2(derivX, derivY, angle);
@@ -140,7 +140,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(intensity, derivX, derivY);
 		output = InputSanityCheck.declareOrReshape(intensity, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplEdgeNonMaxSuppressionCrude_MT.inner4(intensity, derivX, derivY, output);
 			ImplEdgeNonMaxSuppressionCrude_MT.border4(intensity, derivX, derivY, output);
 		} else {
@@ -162,7 +162,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX, derivY);
 		intensity.reshape(derivX.width, derivX.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplGradientToEdgeFeatures_MT.intensityE(derivX, derivY, intensity);
 		} else {
 			ImplGradientToEdgeFeatures.intensityE(derivX, derivY, intensity);
@@ -180,7 +180,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX, derivY);
 		intensity.reshape(derivX.width, derivX.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplGradientToEdgeFeatures_MT.intensityAbs(derivX, derivY, intensity);
 		} else {
 			ImplGradientToEdgeFeatures.intensityAbs(derivX, derivY, intensity);
@@ -198,7 +198,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX, derivY);
 		angle.reshape(derivX.width, derivX.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplGradientToEdgeFeatures_MT.direction(derivX, derivY, angle);
 		} else {
 			ImplGradientToEdgeFeatures.direction(derivX, derivY, angle);
@@ -216,7 +216,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX, derivY);
 		angle.reshape(derivX.width, derivX.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplGradientToEdgeFeatures_MT.direction2(derivX, derivY, angle);
 		} else {
 			ImplGradientToEdgeFeatures.direction2(derivX, derivY, angle);
@@ -240,7 +240,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(intensity, derivX, derivY);
 		output = InputSanityCheck.declareOrReshape(intensity, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplEdgeNonMaxSuppressionCrude_MT.inner4(intensity, derivX, derivY, output);
 			ImplEdgeNonMaxSuppressionCrude_MT.border4(intensity, derivX, derivY, output);
 		} else {
@@ -262,7 +262,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX, derivY);
 		intensity.reshape(derivX.width, derivX.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplGradientToEdgeFeatures_MT.intensityE(derivX, derivY, intensity);
 		} else {
 			ImplGradientToEdgeFeatures.intensityE(derivX, derivY, intensity);
@@ -280,7 +280,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX, derivY);
 		intensity.reshape(derivX.width, derivX.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplGradientToEdgeFeatures_MT.intensityAbs(derivX, derivY, intensity);
 		} else {
 			ImplGradientToEdgeFeatures.intensityAbs(derivX, derivY, intensity);
@@ -298,7 +298,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX, derivY);
 		angle.reshape(derivX.width, derivX.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplGradientToEdgeFeatures_MT.direction(derivX, derivY, angle);
 		} else {
 			ImplGradientToEdgeFeatures.direction(derivX, derivY, angle);
@@ -316,7 +316,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(derivX, derivY);
 		angle.reshape(derivX.width, derivX.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplGradientToEdgeFeatures_MT.direction2(derivX, derivY, angle);
 		} else {
 			ImplGradientToEdgeFeatures.direction2(derivX, derivY, angle);
@@ -340,7 +340,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(intensity, derivX, derivY);
 		output = InputSanityCheck.declareOrReshape(intensity, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplEdgeNonMaxSuppressionCrude_MT.inner4(intensity, derivX, derivY, output);
 			ImplEdgeNonMaxSuppressionCrude_MT.border4(intensity, derivX, derivY, output);
 		} else {
@@ -452,7 +452,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(intensity, direction);
 		output = InputSanityCheck.declareOrReshape(intensity, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplEdgeNonMaxSuppression_MT.inner4(intensity, direction, output);
 			ImplEdgeNonMaxSuppression_MT.border4(intensity, direction, output);
 		} else {
@@ -478,7 +478,7 @@ public class GradientToEdgeFeatures {
 		InputSanityCheck.checkSameShape(intensity, direction);
 		output = InputSanityCheck.declareOrReshape(intensity, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplEdgeNonMaxSuppression_MT.inner8(intensity, direction, output);
 			ImplEdgeNonMaxSuppression_MT.border8(intensity, direction, output);
 		} else {
@@ -54,7 +54,7 @@ public class IntegralImageFeatureIntensity {
 		// todo check size with skip
 //		InputSanityCheck.checkSameShape(integral,intensity);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageFeatureIntensity_MT.hessianBorder(integral, skip, size, intensity,
 					storageKerXX, storageKerYY, storageKerXY);
 			ImplIntegralImageFeatureIntensity_MT.hessianInner(integral, skip, size, intensity);
@@ -87,7 +87,7 @@ public class IntegralImageFeatureIntensity {
 		// todo check size with skip
 //		InputSanityCheck.checkSameShape(integral,intensity);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageFeatureIntensity_MT.hessianBorder(integral, skip, size, intensity,
 					storageKerXX, storageKerYY, storageKerXY);
 			ImplIntegralImageFeatureIntensity_MT.hessianInner(integral, skip, size, intensity);
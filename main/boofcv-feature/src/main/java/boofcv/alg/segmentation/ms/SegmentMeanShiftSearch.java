@@ -167,6 +167,21 @@ public abstract class SegmentMeanShiftSearch<T extends ImageBase<T>>
 	 */
 	public abstract void process( T image );
 
+	/**
+	 * Specifies the input image without modifying any of the output data structures
+	 */
+	protected abstract void setSearchImage( T image );
+
+	/**
+	 * Runs mean-shift starting at the specified pixel. The mode's location is saved in modeX and modeY and its
+	 * color is written into 'color'. Must be called after {@link #setSearchImage}. Used by {@link #process} for
+	 * each pixel. If the 'fast' approximation is on the result depends on the pixels which have already been
+	 * processed.
+	 *
+	 * @param color (Output) Storage for the mode's color
+	 */
+	protected abstract void findPixelMode( int x, int y, float[] color );
+
 	/**
 	 * Returns the Euclidean distance squared between the two vectors
 	 */
@@ -102,8 +102,7 @@ public class SegmentMeanShiftSearchColor<T extends ImageMultiBand<T>> extends Se
 					continue;
 				}
 
-				interpolate.get(x, y, meanColor);
-				findPeak(x, y, meanColor);
+				findPixelMode(x, y, meanColor);
 
 				// convert mean-shift location into pixel index
 				int modeX = (int)(this.modeX + 0.5f);
@@ -144,6 +143,20 @@ public class SegmentMeanShiftSearchColor<T extends ImageMultiBand<T>> extends Se
 		}
 	}
 
+	@Override
+	protected void setSearchImage( T image ) {
+		this.image = image;
+		interpolate.setImage(image);
+	}
+
+	@Override
+	protected void findPixelMode( int x, int y, float[] color ) {
+		interpolate.get(x, y, meanColor);
+		findPeak(x, y, meanColor);
+		if (color != meanColor)
+			System.arraycopy(meanColor, 0, color, 0, meanColor.length);
+	}
+
 	@Override
 	public ImageType<T> getImageType() {
 		return imageType;
@@ -41,6 +41,9 @@ public class SegmentMeanShiftSearchGray<T extends ImageGray<T>> extends SegmentM
 
 	protected float meanGray;
 
+	// storage for the color of the mode a pixel converged to
+	protected float[] peakColor = new float[1];
+
 	// Mean-shift trajectory history
 	protected DogArray<Point2D_F32> history = new DogArray<>(Point2D_F32::new);
 
@@ -88,8 +91,7 @@ public class SegmentMeanShiftSearchGray<T extends ImageGray<T>> extends SegmentM
 					continue;
 				}
 
-				float meanColor = interpolate.get(x, y);
-				findPeak(x, y, meanColor);
+				findPixelMode(x, y, peakColor);
 
 				// convert mean-shift location into pixel index
 				int modeX = (int)(this.modeX + 0.5f);
@@ -104,7 +106,7 @@ public class SegmentMeanShiftSearchGray<T extends ImageGray<T>> extends SegmentM
 					modeIndex = this.modeLocation.size();
 					this.modeLocation.grow().setTo(modeX, modeY);
 					// Save the peak's color
-					modeColor.grow()[0] = meanGray;
+					modeColor.grow()[0] = peakColor[0];
 					// Mark the mode in the segment image
 					quickMode.data[modePixelIndex] = modeIndex;
 					// Set the initial count to zero. This will be incremented when it is traversed later on
@@ -130,6 +132,19 @@ public class SegmentMeanShiftSearchGray<T extends ImageGray<T>> extends SegmentM
 		}
 	}
 
+	@Override
+	protected void setSearchImage( T image ) {
+		this.image = image;
+		interpolate.setImage(image);
+	}
+
+	@Override
+	protected void findPixelMode( int x, int y, float[] color ) {
+		float meanColor = interpolate.get(x, y);
+		findPeak(x, y, meanColor);
+		color[0] = meanGray;
+	}
+
 	@Override
 	public ImageType<T> getImageType() {
 		return interpolate.getImageType();
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.segmentation.ms;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.misc.BoofLambdas;
+import boofcv.struct.feature.ColorQueue_F32;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+import org.ddogleg.struct.DogArray_F32;
+import org.ddogleg.struct.DogArray_I32;
+import pabeles.concurrency.GrowArray;
+
+/**
+ * Concurrent implementation of {@link SegmentMeanShiftSearch}. The mean-shift search for each pixel is independent
+ * and is done concurrently with one search instance for each thread. The modes are then assigned in a single
+ * thread, in the same order as the single threaded implementation, which ensures the output is identical.
+ *
+ * The 'fast' approximation depends on the results from previously processed pixels and can't be done
+ * concurrently.
+ *
+ * @author Peter Abeles
+ */
+public class SegmentMeanShiftSearch_MT<T extends ImageBase<T>> extends SegmentMeanShiftSearch<T> {
+
+	// Search for each thread
+	protected final GrowArray<SegmentMeanShiftSearch<T>> searches;
+
+	// Search used when a single pixel is requested with findPixelMode()
+	protected final SegmentMeanShiftSearch<T> search;
+
+	// Type of input image
+	protected final ImageType<T> imageType;
+
+	// For each pixel, the index of the pixel its mode is at
+	protected final DogArray_I32 pixelModeIndex = new DogArray_I32();
+	// For each pixel, the color of its mode
+	protected final DogArray_F32 pixelModeColor = new DogArray_F32();
+
+	/**
+	 * @param factory Creates a new single threaded search. The 'fast' approximation must be off.
+	 */
+	public SegmentMeanShiftSearch_MT( BoofLambdas.Factory<SegmentMeanShiftSearch<T>> factory ) {
+		this(factory, factory.newInstance());
+	}
+
+	private SegmentMeanShiftSearch_MT( BoofLambdas.Factory<SegmentMeanShiftSearch<T>> factory,
+									   SegmentMeanShiftSearch<T> template ) {
+		super(template.maxIterations, template.convergenceTol, template.radiusX, template.radiusY,
+				(float)Math.sqrt(template.maxColorDistanceSq), template.fast);
+		if (template.fast)
+			throw new IllegalArgumentException("The fast approximation can't be computed concurrently");
+
+		this.search = template;
+		this.imageType = template.getImageType();
+		this.modeColor = new ColorQueue_F32(imageType.getNumBands());
+		this.searches = new GrowArray<>(factory::newInstance);
+	}
+
+	@Override public void process( T image ) {
+		// initialize data structures
+		this.image = image;
+		this.stopRequested = false;
+
+		modeLocation.reset();
+		modeColor.reset();
+		modeMemberCount.reset();
+
+		pixelToMode.reshape(image.width, image.height);
+		quickMode.reshape(image.width, image.height);
+		// mark all pixels are not being a mode
+		ImageMiscOps.fill(quickMode, -1);
+
+		final int numBands = imageType.getNumBands();
+		pixelModeIndex.resize(image.width*image.height);
+		pixelModeColor.resize(image.width*image.height*numBands);
+
+		// use mean shift to find the peak of each pixel in the image
+		BoofConcurrency.loopBlocks(0, image.height, searches, ( search, y0, y1 ) -> {
+			search.setSearchImage(image);
+			float[] color = new float[numBands];
+
+			for (int y = y0; y < y1 && !stopRequested; y++) {
+				int indexImg = y*image.width;
+				for (int x = 0; x < image.width; x++, indexImg++) {
+					search.findPixelMode(x, y, color);
+
+					// convert mean-shift location into pixel index
+					int modeX = (int)(search.modeX + 0.5f);
+					int modeY = (int)(search.modeY + 0.5f);
+
+					pixelModeIndex.data[indexImg] = modeY*image.width + modeX;
+					System.arraycopy(color, 0, pixelModeColor.data, indexImg*numBands, numBands);
+				}
+			}
+		});
+
+		if (stopRequested)
+			return;
+
+		// Assign modes in the same order as the single threaded implementation
+		final int N = image.width*image.height;
+		for (int indexImg = 0; indexImg < N; indexImg++) {
+			int modePixelIndex = pixelModeIndex.data[indexImg];
+
+			// get index in the list of peaks
+			int modeIndex = quickMode.data[modePixelIndex];
+			// If the mode is new add it to the list
+			if (modeIndex < 0) {
+				modeIndex = this.modeLocation.size();
+				this.modeLocation.grow().setTo(modePixelIndex%image.width, modePixelIndex/image.width);
+				// Save the peak's color
+				System.arraycopy(pixelModeColor.data, indexImg*numBands, modeColor.grow(), 0, numBands);
+				// Mark the mode in the segment image
+				quickMode.data[modePixelIndex] = modeIndex;
+				// Set the initial count to zero. This will be incremented when it is traversed later on
+				modeMemberCount.add(0);
+			}
+
+			// add this pixel to the membership list
+			modeMemberCount.data[modeIndex]++;
+			pixelToMode.data[indexImg] = modeIndex;
+		}
+	}
+
+	@Override protected void setSearchImage( T image ) {
+		this.image = image;
+		search.setSearchImage(image);
+	}
+
+	@Override protected void findPixelMode( int x, int y, float[] color ) {
+		search.findPixelMode(x, y, color);
+		this.modeX = search.modeX;
+		this.modeY = search.modeY;
+	}
+
+	@Override public ImageType<T> getImageType() {
+		return imageType;
+	}
+}
@@ -84,7 +84,7 @@ public abstract class SegmentSlic<T extends ImageBase<T>>
 	// Space between superpixel centers. S in the paper
 	protected int gridInterval;
 	// Adjustment to spacial distance. Computed from m and gridInterval
-	private float adjustSpacial;
+	protected float adjustSpacial;
 
 	// The image being processed
 	protected T input;
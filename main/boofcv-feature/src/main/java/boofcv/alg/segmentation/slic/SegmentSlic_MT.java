@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.segmentation.slic;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.ImageBase;
+import org.ddogleg.struct.DogArray_I32;
+
+/**
+ * Concurrent implementation of {@link SegmentSlic}. The image is split into blocks of rows when computing the
+ * distance of each pixel from the clusters, so each pixel is only modified by one thread and sees clusters in
+ * the same order. When updating the clusters each thread owns a set of clusters and sums up the pixels inside each
+ * cluster's search window in the same order as the single threaded code. The output is identical to
+ * the single threaded implementation.
+ *
+ * Image type specific operations are handled by a single threaded instance of {@link SegmentSlic}, which must
+ * be thread safe. This is true for all the implementations in BoofCV.
+ *
+ * @author Peter Abeles
+ */
+public class SegmentSlic_MT<T extends ImageBase<T>> extends SegmentSlic<T> {
+
+	// Provides access to pixel values for the specific image type
+	protected final SegmentSlic<T> pixelOps;
+
+	// The search window for each cluster. (x0,y0,x1,y1) with the upper extents exclusive
+	protected final DogArray_I32 windows = new DogArray_I32();
+
+	/**
+	 * @param pixelOps Single threaded implementation for the same image type. Used to access pixel values.
+	 */
+	public SegmentSlic_MT( int numberOfRegions, float m, int totalIterations,
+						   ConnectRule connectRule, SegmentSlic<T> pixelOps ) {
+		super(numberOfRegions, m, totalIterations, connectRule, pixelOps.getImageType());
+		this.pixelOps = pixelOps;
+	}
+
+	@Override protected void initalize( T input ) {
+		super.initalize(input);
+		pixelOps.input = input;
+	}
+
+	@Override protected void computeClusterDistance() {
+		// Save the search window so that it can be used later on when updating the clusters
+		windows.resize(clusters.size*4);
+		for (int i = 0; i < clusters.size; i++) {
+			Cluster c = clusters.data[i];
+
+			int centerX = (int)(c.x + 0.5f);
+			int centerY = (int)(c.y + 0.5f);
+
+			windows.data[i*4] = Math.max(0, centerX - gridInterval);
+			windows.data[i*4 + 1] = Math.max(0, centerY - gridInterval);
+			windows.data[i*4 + 2] = Math.min(input.width, centerX + gridInterval + 1);
+			windows.data[i*4 + 3] = Math.min(input.height, centerY + gridInterval + 1);
+		}
+
+		BoofConcurrency.loopBlocks(0, input.height, ( blockY0, blockY1 ) -> {
+			for (int i = blockY0*input.width; i < blockY1*input.width; i++) {
+				pixels.data[i].reset();
+			}
+
+			for (int i = 0; i < clusters.size && !isStopRequested(); i++) {
+				Cluster c = clusters.data[i];
+
+				int centerX = (int)(c.x + 0.5f);
+				int centerY = (int)(c.y + 0.5f);
+
+				// only consider the rows in this block
+				int x0 = windows.data[i*4];
+				int y0 = Math.max(blockY0, windows.data[i*4 + 1]);
+				int x1 = windows.data[i*4 + 2];
+				int y1 = Math.min(blockY1, windows.data[i*4 + 3]);
+
+				for (int y = y0; y < y1; y++) {
+					int indexPixel = y*input.width + x0;
+					int indexInput = input.startIndex + y*input.stride + x0;
+
+					int dy = y - centerY;
+
+					for (int x = x0; x < x1; x++) {
+						int dx = x - centerX;
+
+						float distanceColor = colorDistance(c.color, indexInput++);
+						float distanceSpacial = dx*dx + dy*dy;
+						pixels.data[indexPixel++].add(c, distanceColor + adjustSpacial*distanceSpacial);
+					}
+				}
+			}
+		});
+	}
+
+	@Override protected void updateClusters() {
+		// convert the distance each cluster is from the pixel into weights
+		BoofConcurrency.loopBlocks(0, pixels.size, ( idx0, idx1 ) -> {
+			for (int i = idx0; i < idx1; i++) {
+				pixels.data[i].computeWeights();
+			}
+		});
+
+		// Each cluster is only updated by a single thread. Pixels are traversed in the same order as the single
+		// threaded code, ensuring the floating point sums are identical
+		BoofConcurrency.loopBlocks(0, clusters.size, ( idx0, idx1 ) -> {
+			for (int clusterIdx = idx0; clusterIdx < idx1 && !isStopRequested(); clusterIdx++) {
+				Cluster c = clusters.data[clusterIdx];
+				c.reset();
+
+				int x0 = windows.data[clusterIdx*4];
+				int y0 = windows.data[clusterIdx*4 + 1];
+				int x1 = windows.data[clusterIdx*4 + 2];
+				int y1 = windows.data[clusterIdx*4 + 3];
+
+				for (int y = y0; y < y1; y++) {
+					int indexPixel = y*input.width + x0;
+					int indexInput = input.startIndex + y*input.stride + x0;
+					for (int x = x0; x < x1; x++, indexPixel++, indexInput++) {
+						Pixel p = pixels.data[indexPixel];
+
+						// find this cluster's weight. A cluster is only added to a pixel once
+						for (int i = 0; i < p.clusters.size; i++) {
+							ClusterDistance d = p.clusters.data[i];
+							if (d.cluster != c)
+								continue;
+							c.x += x*d.distance;
+							c.y += y*d.distance;
+							c.totalWeight += d.distance;
+							addColor(c.color, indexInput, d.distance);
+							break;
+						}
+					}
+				}
+
+				c.update();
+			}
+		});
+	}
+
+	@Override public void setColor( float[] color, int x, int y ) {
+		pixelOps.setColor(color, x, y);
+	}
+
+	@Override public void addColor( float[] color, int index, float weight ) {
+		pixelOps.addColor(color, index, weight);
+	}
+
+	@Override public float colorDistance( float[] color, int index ) {
+		return pixelOps.colorDistance(color, index);
+	}
+
+	@Override public float getIntensity( int x, int y ) {
+		return pixelOps.getIntensity(x, y);
+	}
+}
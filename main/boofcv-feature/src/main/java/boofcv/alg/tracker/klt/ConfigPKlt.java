@@ -60,6 +60,12 @@ public class ConfigPKlt implements Configuration {
 	 */
 	public ConfigLength maximumTracks = ConfigLength.relative(0.002, 50);
 
+	/**
+	 * If true and concurrency is enabled in {@link boofcv.concurrency.BoofConcurrency} then a multi-threaded
+	 * tracker will be used. Results are identical to the single threaded tracker.
+	 */
+	public boolean concurrent = true;
+
 	public ConfigPKlt() {}
 
 	public ConfigPKlt( int templateRadius ) {
@@ -88,6 +94,7 @@ public class ConfigPKlt implements Configuration {
 		this.pyramidLevels.setTo(src.pyramidLevels);
 		this.pruneClose = src.pruneClose;
 		this.maximumTracks.setTo(src.maximumTracks);
+		this.concurrent = src.concurrent;
 		return this;
 	}
 
@@ -22,6 +22,7 @@ import boofcv.abst.feature.associate.*;
 import boofcv.abst.feature.describe.DescriptorInfo;
 import boofcv.alg.descriptor.KdTreeTuple_F32;
 import boofcv.alg.descriptor.KdTreeTuple_F64;
+import boofcv.alg.descriptor.MultiIndexHashing_B;
 import boofcv.alg.feature.associate.*;
 import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConfigLength;
@@ -112,7 +113,7 @@ public class FactoryAssociation {
 			config = new ConfigAssociateGreedy();
 		AssociateGreedyDescBase<D> alg;
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			alg = new AssociateGreedyDesc_MT<>(score);
 		} else {
 			alg = new AssociateGreedyDesc<>(score);
@@ -142,7 +143,7 @@ public class FactoryAssociation {
 		AssociateImageDistanceFunction distance = new AssociateImageDistanceEuclideanSq();
 
 		AssociateGreedyBase2D<D> alg;
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			alg = new AssociateGreedyBruteForce2D_MT<>(score, distance);
 		} else {
 			alg = new AssociateGreedyBruteForce2D<>(score, distance);
@@ -202,6 +203,36 @@ public class FactoryAssociation {
 		return associateNearestNeighbor(configNN, nn);
 	}
 
+	/**
+	 * Exact association for binary descriptors using Multi-Index Hashing. Scales to a much larger number of
+	 * descriptors than brute force association.
+	 *
+	 * @param numBits Number of bits in the descriptor
+	 * @param numTables Number of hash tables. If &le; 0 it will be selected automatically.
+	 * @return Association using exact nearest neighbor in Hamming space
+	 * @see MultiIndexHashing_B
+	 */
+	public static AssociateNearestNeighbor<TupleDesc_B> multiIndexHashing(
+			@Nullable ConfigAssociateNearestNeighbor config, int numBits, int numTables ) {
+		if (config == null)
+			config = new ConfigAssociateNearestNeighbor();
+
+		config.checkValidity();
+
+		var nn = new MultiIndexHashing_B(numBits, numTables);
+		AssociateNearestNeighbor<TupleDesc_B> assoc;
+		if (BoofConcurrency.isUseConcurrent()) {
+			assoc = new AssociateNearestNeighbor_MT<>(nn, TupleDesc_B.class);
+		} else {
+			assoc = new AssociateNearestNeighbor_ST<>(nn, TupleDesc_B.class);
+		}
+		// Hamming distance is not squared
+		assoc.setRatioUsesSqrt(false);
+		assoc.setMaxScoreThreshold(config.maxErrorThreshold);
+		assoc.setScoreRatioThreshold(config.scoreRatioThreshold);
+		return assoc;
+	}
+
 	public static <TD extends TupleDesc<TD>> KdTreeDistance<TD> kdtreeDistance( int dof, Class<TD> type ) {
 		if (type == TupleDesc_F64.class) {
 			return (KdTreeDistance)new KdTreeTuple_F64(dof);
@@ -220,7 +251,7 @@ public class FactoryAssociation {
 		config.checkValidity();
 
 		AssociateNearestNeighbor<TupleDesc_F64> assoc;
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			assoc = new AssociateNearestNeighbor_MT<>(nn, TupleDesc_F64.class);
 		} else {
 			assoc = new AssociateNearestNeighbor_ST<>(nn, TupleDesc_F64.class);
@@ -179,7 +179,7 @@ public class FactoryDetectDescribe {
 		DescribePointSurf<II> describe = FactoryDescribeAlgs.surfSpeed(configDesc, integralType);
 		OrientationIntegral<II> orientation = FactoryOrientationAlgs.average_ii(configOrientation, integralType);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			return new Surf_DetectDescribe_MT<>(detector, orientation, describe, imageType);
 		} else {
 			return new Surf_DetectDescribe<>(detector, orientation, describe, imageType);
@@ -230,7 +230,7 @@ public class FactoryDetectDescribe {
 	createDescribeSurfPlanar( FastHessianFeatureDetector<II> detector, OrientationIntegral<II> orientation,
 							  DescribePointSurfPlanar<II> describeMulti ) {
 		DetectDescribeSurfPlanar<II> detectDesc;
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			detectDesc = new DetectDescribeSurfPlanar_MT<>(detector, orientation, describeMulti);
 		} else {
 			detectDesc = new DetectDescribeSurfPlanar<>(detector, orientation, describeMulti);
@@ -270,7 +270,7 @@ public class FactoryDetectDescribe {
 		DescribePointSurfMod<II> describe = FactoryDescribeAlgs.surfStability(configDescribe, integralType);
 		OrientationIntegral<II> orientation = FactoryOrientationAlgs.sliding_ii(configOrientation, integralType);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			return new Surf_DetectDescribe_MT<>(detector, orientation, describe, imageType);
 		} else {
 			return new Surf_DetectDescribe<>(detector, orientation, describe, imageType);
@@ -54,7 +54,7 @@ public class FactoryDetectDescribeAlgs {
 		detector.maxFeaturesAll = configDetector.maxFeaturesAll;
 
 		// Create the threaded variant if requested
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			return new CompleteSift_MT(ss, detector,
 					() -> new OrientationHistogramSift<>(
 							configOri.histogramSize, configOri.sigmaEnlarge, GrayF32.class),
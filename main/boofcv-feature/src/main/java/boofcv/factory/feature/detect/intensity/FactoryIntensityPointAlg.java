@@ -93,7 +93,7 @@ public class FactoryIntensityPointAlg {
 	public static <D extends ImageGray<D>>
 	GradientCornerIntensity<D> harris( int windowRadius, float kappa, boolean weighted, Class<D> derivType ) {
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (derivType == GrayF32.class) {
 				if (weighted)
 					return (GradientCornerIntensity)new ImplSsdCornerWeighted_F32_MT(windowRadius, new HarrisCorner_F32(kappa));
@@ -133,7 +133,7 @@ public class FactoryIntensityPointAlg {
 	public static <D extends ImageGray<D>>
 	GradientCornerIntensity<D> shiTomasi( int windowRadius, boolean weighted, Class<D> derivType ) {
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (derivType == GrayF32.class) {
 				if (weighted)
 					return (GradientCornerIntensity)new ImplSsdCornerWeighted_F32_MT(windowRadius, new ShiTomasiCorner_F32());
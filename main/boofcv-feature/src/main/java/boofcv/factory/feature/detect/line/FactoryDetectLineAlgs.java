@@ -119,7 +119,7 @@ public class FactoryDetectLineAlgs {
 				new ConfigExtract(configHough.localMaxRadius, configHough.minCounts, 0, true));
 
 		HoughTransformGradient<D> hough;
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			hough = new HoughTransformGradient_MT<>(extractor, param, derivType);
 		} else {
 			hough = new HoughTransformGradient<>(extractor, param, derivType);
@@ -141,7 +141,7 @@ public class FactoryDetectLineAlgs {
 				new ConfigExtract(configHough.localMaxRadius, configHough.minCounts, 0, true));
 
 		HoughTransformGradient<D> hough;
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			hough = new HoughTransformGradient_MT<>(extractor, param, derivType);
 		} else {
 			hough = new HoughTransformGradient<>(extractor, param, derivType);
@@ -161,7 +161,7 @@ public class FactoryDetectLineAlgs {
 				new ConfigExtract(configHough.localMaxRadius, 0, 0, false));
 
 		HoughTransformBinary hough;
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			hough = new HoughTransformBinary_MT(extractor, param);
 		} else {
 			hough = new HoughTransformBinary(extractor, param);
@@ -28,6 +28,7 @@ import boofcv.alg.segmentation.fh04.impl.*;
 import boofcv.alg.segmentation.ms.*;
 import boofcv.alg.segmentation.slic.*;
 import boofcv.alg.segmentation.watershed.WatershedVincentSoille1991;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.border.BorderType;
@@ -87,20 +88,14 @@ public class FactorySegmentationAlg {
 		int spacialRadius = config.spacialRadius;
 		float colorRadius = config.colorRadius;
 
-		int maxIterations = 20;
-		float convergenceTol = 0.1f;
-
 		SegmentMeanShiftSearch<T> search;
 
-		if (imageType.getFamily() == ImageType.Family.GRAY) {
-			InterpolatePixelS interp = FactoryInterpolation.bilinearPixelS(imageType.getImageClass(), BorderType.EXTENDED);
-			search = new SegmentMeanShiftSearchGray(maxIterations, convergenceTol, interp,
-					spacialRadius, spacialRadius, colorRadius, config.fast);
+		// The fast approximation is inherently sequential
+		if (!config.fast && BoofConcurrency.isUseConcurrent()) {
+			final ConfigSegmentMeanShift configFinal = config;
+			search = new SegmentMeanShiftSearch_MT<>(() -> meanShiftSearch(configFinal, imageType));
 		} else {
-			InterpolatePixelMB interp = FactoryInterpolation.createPixelMB(0, 255,
-					InterpolationType.BILINEAR, BorderType.EXTENDED, (ImageType)imageType);
-			search = new SegmentMeanShiftSearchColor(maxIterations, convergenceTol, interp,
-					spacialRadius, spacialRadius, colorRadius, config.fast, imageType);
+			search = meanShiftSearch(config, imageType);
 		}
 
 		ComputeRegionMeanColor<T> regionColor = regionMeanColor(imageType);
@@ -112,6 +107,33 @@ public class FactorySegmentationAlg {
 		return new SegmentMeanShift<>(search, merge, prune, config.connectRule);
 	}
 
+	/**
+	 * Creates a single threaded instance of {@link SegmentMeanShiftSearch}.
+	 *
+	 * @param config Specify configuration for mean-shift
+	 * @param imageType Type of input image
+	 * @return SegmentMeanShiftSearch
+	 */
+	public static <T extends ImageBase<T>>
+	SegmentMeanShiftSearch<T> meanShiftSearch( ConfigSegmentMeanShift config, ImageType<T> imageType ) {
+		int spacialRadius = config.spacialRadius;
+		float colorRadius = config.colorRadius;
+
+		int maxIterations = 20;
+		float convergenceTol = 0.1f;
+
+		if (imageType.getFamily() == ImageType.Family.GRAY) {
+			InterpolatePixelS interp = FactoryInterpolation.bilinearPixelS(imageType.getImageClass(), BorderType.EXTENDED);
+			return new SegmentMeanShiftSearchGray(maxIterations, convergenceTol, interp,
+					spacialRadius, spacialRadius, colorRadius, config.fast);
+		} else {
+			InterpolatePixelMB interp = FactoryInterpolation.createPixelMB(0, 255,
+					InterpolationType.BILINEAR, BorderType.EXTENDED, (ImageType)imageType);
+			return new SegmentMeanShiftSearchColor(maxIterations, convergenceTol, interp,
+					spacialRadius, spacialRadius, colorRadius, config.fast, imageType);
+		}
+	}
+
 	public static <T extends ImageBase<T>>
 	FhEdgeWeights<T> weightsFelzenszwalb04( ConnectRule rule, ImageType<T> imageType ) {
 		if (imageType.getFamily() == ImageType.Family.GRAY) {
@@ -174,6 +196,19 @@ public class FactorySegmentationAlg {
 		if (config == null)
 			throw new IllegalArgumentException("No default configuration since the number of segments must be specified.");
 
+		SegmentSlic<T> alg = slicSingleThread(config, imageType);
+		if (!BoofConcurrency.isUseConcurrent())
+			return alg;
+
+		return new SegmentSlic_MT<>(config.numberOfRegions,
+				config.spacialWeight, config.totalIterations, config.connectRule, alg);
+	}
+
+	/**
+	 * Creates a single threaded instance of {@link SegmentSlic}
+	 */
+	public static <T extends ImageBase<T>>
+	SegmentSlic<T> slicSingleThread( ConfigSlic config, ImageType<T> imageType ) {
 		if (imageType.getFamily() == ImageType.Family.GRAY) {
 			switch (imageType.getDataType()) {
 				case U8:
@@ -26,6 +26,7 @@ import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.tracker.klt.*;
 import boofcv.factory.tracker.FactoryPointTracker;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.pyramid.ConfigDiscreteLevels;
 import org.junit.jupiter.api.Test;
 
@@ -148,6 +149,33 @@ class TestPointTrackerKltPyramid extends GenericChecksPointTracker<GrayF32> {
 		assertEquals(N - 2, alg.getActiveTracks(null).size());
 	}
 
+	/**
+	 * When the input image changes shape, the old pyramid should be recycled through the global ImagePool
+	 * and used to create the new pyramid
+	 */
+	@Test void imagePool_changeShape() {
+		var pool = new ImagePool(100_000_000);
+		ImagePool.setGlobal(pool);
+		try {
+			PointTracker<GrayF32> alg = createTracker();
+			var large = new GrayF32(320, 240);
+			var small = new GrayF32(160, 120);
+			GImageMiscOps.fillUniform(large, rand, 0, 255);
+			GImageMiscOps.fillUniform(small, rand, 0, 255);
+
+			alg.process(large);
+			alg.process(large);
+			assertEquals(0, pool.getHits());
+
+			// Layers in the large pyramid have the same shape as layers in the small pyramid
+			alg.process(small);
+			alg.process(small);
+			assertTrue(pool.getHits() > 0);
+		} finally {
+			ImagePool.setGlobal(null);
+		}
+	}
+
 	@Test void validateRightLeft() {
 		var config = new ConfigPKlt();
 		// disable almost all error checking so that without R to L check it will pass
@@ -185,6 +213,9 @@ class TestPointTrackerKltPyramid extends GenericChecksPointTracker<GrayF32> {
 		configDetector.general.radius = 3;
 		configDetector.general.threshold = 1000;
 
+		// The concurrent variant is tested in its own class
+		config.concurrent = false;
+
 		return FactoryPointTracker.klt(config, configDetector, GrayF32.class, GrayF32.class);
 	}
 
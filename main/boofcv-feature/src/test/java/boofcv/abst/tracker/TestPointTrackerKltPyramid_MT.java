@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.tracker;
+
+import boofcv.abst.distort.FDistort;
+import boofcv.abst.feature.detect.interest.ConfigPointDetector;
+import boofcv.abst.feature.detect.interest.PointDetectorTypes;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.tracker.klt.ConfigPKlt;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.tracker.FactoryPointTracker;
+import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestPointTrackerKltPyramid_MT extends BoofStandardJUnit {
+
+	int width = 160;
+	int height = 120;
+
+	/**
+	 * The single and multi-threaded trackers should produce identical results across several frames
+	 */
+	@Test void compareToSingleThread() {
+		compareToSingleThread(-1);
+		compareToSingleThread(0.5);
+	}
+
+	void compareToSingleThread( double toleranceFB ) {
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = true;
+			var config = new ConfigPKlt();
+			config.toleranceFB = toleranceFB;
+			config.maximumTracks.setFixed(0);
+
+			PointTrackerKltPyramid<GrayF32, GrayF32> alg = createKLT(config);
+			assertTrue(alg instanceof PointTrackerKltPyramid_MT);
+			// make sure the threaded code is always exercised
+			((PointTrackerKltPyramid_MT<GrayF32, GrayF32>)alg).minimumTracksThread = 0;
+
+			config.concurrent = false;
+			PointTrackerKltPyramid<GrayF32, GrayF32> expected = createKLT(config);
+			assertFalse(expected instanceof PointTrackerKltPyramid_MT);
+
+			var image = new GrayF32(width, height);
+			GImageMiscOps.fillUniform(image, rand, 0, 255);
+			var shifted = image.createSameShape();
+
+			for (int frame = 0; frame < 5; frame++) {
+				// Move the image a little bit each frame so that tracks move and some get dropped
+				new FDistort(image, shifted).affine(1, 0, 0, 1, frame*1.5, frame*0.5).borderExt().apply();
+
+				alg.process(shifted);
+				expected.process(shifted);
+				alg.spawnTracks();
+				expected.spawnTracks();
+
+				compare(expected.getActiveTracks(null), alg.getActiveTracks(null));
+				compare(expected.getDroppedTracks(null), alg.getDroppedTracks(null));
+				compare(expected.getNewTracks(null), alg.getNewTracks(null));
+			}
+			assertTrue(alg.getTotalActive() > 20);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	void compare( List<PointTrack> expected, List<PointTrack> found ) {
+		assertEquals(expected.size(), found.size());
+		for (int i = 0; i < expected.size(); i++) {
+			PointTrack e = expected.get(i);
+			PointTrack f = found.get(i);
+			assertEquals(e.featureId, f.featureId);
+			assertEquals(e.lastSeenFrameID, f.lastSeenFrameID);
+			assertEquals(0.0, e.pixel.distance(f.pixel));
+		}
+	}
+
+	private PointTrackerKltPyramid<GrayF32, GrayF32> createKLT( ConfigPKlt config ) {
+		var configDetector = new ConfigPointDetector();
+		configDetector.type = PointDetectorTypes.SHI_TOMASI;
+		configDetector.general.maxFeatures = 200;
+		configDetector.general.radius = 3;
+		configDetector.general.threshold = 1000;
+
+		return FactoryPointTracker.klt(config, configDetector, GrayF32.class, GrayF32.class);
+	}
+}
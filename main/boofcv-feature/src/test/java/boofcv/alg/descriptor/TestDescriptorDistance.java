@@ -190,6 +190,94 @@ public class TestDescriptorDistance extends BoofStandardJUnit {
 		assertEquals(8,DescriptorDistance.hamming(0xF000000F));
 	}
 
+	/**
+	 * Compare batched functions against computing the distance one at a time
+	 */
+	@Test void batched_F64() {
+		var a = new TupleDesc_F64(7);
+		var set = new PackedTupleArray_F64(7);
+		for (int i = 0; i < a.size(); i++) {
+			a.data[i] = rand.nextGaussian();
+		}
+		for (int trial = 0; trial < 12; trial++) {
+			var b = new TupleDesc_F64(7);
+			for (int i = 0; i < b.size(); i++) {
+				b.data[i] = rand.nextGaussian();
+			}
+			set.append(b);
+		}
+
+		var found = new double[8];
+		DescriptorDistance.euclideanSq(a, set, 2, 10, found, 0);
+		for (int i = 2; i < 10; i++) {
+			assertEquals(DescriptorDistance.euclideanSq(a, set.getTemp(i)), found[i - 2], 1e-8);
+		}
+		DescriptorDistance.sad(a, set, 2, 10, found, 0);
+		for (int i = 2; i < 10; i++) {
+			assertEquals(DescriptorDistance.sad(a, set.getTemp(i)), found[i - 2], 1e-8);
+		}
+	}
+
+	@Test void batched_U8() {
+		var a = new TupleDesc_U8(9);
+		var set = new PackedTupleArray_U8(9);
+		rand.nextBytes(a.data);
+		for (int trial = 0; trial < 12; trial++) {
+			var b = new TupleDesc_U8(9);
+			rand.nextBytes(b.data);
+			set.append(b);
+		}
+
+		var found = new double[12];
+		DescriptorDistance.euclideanSq(a, set, 0, 12, found, 0);
+		for (int i = 0; i < 12; i++) {
+			assertEquals(DescriptorDistance.euclideanSq(a, set.getTemp(i)), found[i], 0.0);
+		}
+		DescriptorDistance.sad(a, set, 0, 12, found, 0);
+		for (int i = 0; i < 12; i++) {
+			assertEquals(DescriptorDistance.sad(a, set.getTemp(i)), found[i], 0.0);
+		}
+	}
+
+	@Test void batched_S8() {
+		var a = new TupleDesc_S8(9);
+		var set = new PackedTupleArray_S8(9);
+		rand.nextBytes(a.data);
+		for (int trial = 0; trial < 12; trial++) {
+			var b = new TupleDesc_S8(9);
+			rand.nextBytes(b.data);
+			set.append(b);
+		}
+
+		var found = new double[5];
+		DescriptorDistance.sad(a, set, 7, 12, found, 0);
+		for (int i = 7; i < 12; i++) {
+			assertEquals(DescriptorDistance.sad(a, set.getTemp(i)), found[i - 7], 0.0);
+		}
+	}
+
+	@Test void batched_hamming() {
+		var a = new TupleDesc_B(100);
+		var set = new PackedTupleArray_B(100);
+		for (int i = 0; i < a.data.length; i++) {
+			a.data[i] = rand.nextInt();
+		}
+		for (int trial = 0; trial < 12; trial++) {
+			var b = new TupleDesc_B(100);
+			for (int i = 0; i < b.data.length; i++) {
+				b.data[i] = rand.nextInt();
+			}
+			set.append(b);
+		}
+
+		// write to the middle of the output array
+		var found = new double[14];
+		DescriptorDistance.hamming(a, set, 1, 12, found, 3);
+		for (int i = 1; i < 12; i++) {
+			assertEquals(hamming(a, set.getTemp(i)), found[i + 2], 0.0);
+		}
+	}
+
 	private int hamming( TupleDesc_B a, TupleDesc_B b) {
 		int ret = 0;
 		for(int i = 0; i < a.data.length; i++ ) {
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.descriptor;
+
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.testing.BoofStandardJUnit;
+import org.ddogleg.nn.NearestNeighbor;
+import org.ddogleg.nn.NnData;
+import org.ddogleg.struct.DogArray;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestMultiIndexHashing_B extends BoofStandardJUnit {
+	/**
+	 * Results should be identical to a brute force search. Points are created by perturbing a few seed
+	 * points so that there are many points at a small distance.
+	 */
+	@Test void compareToBruteForce() {
+		int numBits = 100;
+		List<TupleDesc_B> points = createClusteredPoints(numBits, 2000);
+
+		for (int numTables : new int[]{0, 4, 7, 20}) {
+			var alg = new MultiIndexHashing_B(numBits, numTables);
+			alg.setPoints(points, true);
+			NearestNeighbor.Search<TupleDesc_B> search = alg.createSearch();
+
+			var found = new DogArray<>(NnData<TupleDesc_B>::new);
+			for (int trial = 0; trial < 30; trial++) {
+				TupleDesc_B query = perturb(points.get(rand.nextInt(points.size())), 1 + rand.nextInt(15));
+
+				for (int maxDistance : new int[]{-1, 10}) {
+					for (int numNeighbors : new int[]{1, 5}) {
+						search.findNearest(query, maxDistance, numNeighbors, found);
+						int[] expected = bruteForce(points, query, maxDistance, numNeighbors);
+						assertEquals(expected.length, found.size);
+						for (int i = 0; i < found.size; i++) {
+							// there can be ties in the distance so compare distances not indexes
+							assertEquals(expected[i], found.get(i).distance);
+							assertSame(points.get(found.get(i).index), found.get(i).point);
+							assertEquals(DescriptorDistance.hamming(query, found.get(i).point), found.get(i).distance);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test void findNearest_single() {
+		List<TupleDesc_B> points = createClusteredPoints(64, 200);
+		var alg = new MultiIndexHashing_B(64, 4);
+		alg.setPoints(points, true);
+		NearestNeighbor.Search<TupleDesc_B> search = alg.createSearch();
+
+		var result = new NnData<TupleDesc_B>();
+		for (int i = 0; i < points.size(); i += 10) {
+			assertTrue(search.findNearest(points.get(i), -1, result));
+			assertEquals(0.0, result.distance);
+			assertEquals(0, DescriptorDistance.hamming(points.get(i), points.get(result.index)));
+		}
+
+		// Nothing should be within the max distance of the inverted point
+		TupleDesc_B inverted = new TupleDesc_B(64);
+		for (int i = 0; i < inverted.data.length; i++) {
+			inverted.data[i] = ~points.get(0).data[i];
+		}
+		int[] expected = bruteForce(points, inverted, -1, 1);
+		assertFalse(search.findNearest(inverted, expected[0] - 1, result));
+		assertTrue(search.findNearest(inverted, expected[0], result));
+	}
+
+	@Test void noPoints() {
+		var alg = new MultiIndexHashing_B(64, 4);
+		alg.setPoints(new ArrayList<>(), true);
+		assertFalse(alg.createSearch().findNearest(new TupleDesc_B(64), -1, new NnData<>()));
+	}
+
+	@Test void extractBits() {
+		var desc = new TupleDesc_B(96);
+		for (int i = 0; i < 96; i++) {
+			desc.setBit(i, rand.nextBoolean());
+		}
+
+		for (int bit0 : new int[]{0, 5, 30, 60}) {
+			for (int length : new int[]{1, 7, 16, 31}) {
+				int found = MultiIndexHashing_B.extractBits(desc.data, bit0, length);
+				for (int i = 0; i < length; i++) {
+					assertEquals(desc.isBitTrue(bit0 + i), ((found >> i) & 1) == 1);
+				}
+				assertEquals(0, found >>> length);
+			}
+		}
+	}
+
+	@Test void binomial() {
+		assertEquals(1, MultiIndexHashing_B.binomial(10, 0));
+		assertEquals(10, MultiIndexHashing_B.binomial(10, 1));
+		assertEquals(252, MultiIndexHashing_B.binomial(10, 5));
+		assertEquals(0, MultiIndexHashing_B.binomial(10, 11));
+	}
+
+	private int[] bruteForce( List<TupleDesc_B> points, TupleDesc_B query, int maxDistance, int numNeighbors ) {
+		List<Integer> distances = new ArrayList<>();
+		for (TupleDesc_B p : points) {
+			int d = DescriptorDistance.hamming(query, p);
+			if (maxDistance < 0 || d <= maxDistance)
+				distances.add(d);
+		}
+		distances.sort(Integer::compare);
+		int N = Math.min(numNeighbors, distances.size());
+		int[] results = new int[N];
+		for (int i = 0; i < N; i++) {
+			results[i] = distances.get(i);
+		}
+		return results;
+	}
+
+	private List<TupleDesc_B> createClusteredPoints( int numBits, int count ) {
+		List<TupleDesc_B> seeds = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			var d = new TupleDesc_B(numBits);
+			for (int bit = 0; bit < numBits; bit++) {
+				d.setBit(bit, rand.nextBoolean());
+			}
+			seeds.add(d);
+		}
+		List<TupleDesc_B> points = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			points.add(perturb(seeds.get(rand.nextInt(seeds.size())), rand.nextInt(numBits/4)));
+		}
+		return points;
+	}
+
+	private TupleDesc_B perturb( TupleDesc_B src, int numFlips ) {
+		var dst = new TupleDesc_B(src.numBits);
+		System.arraycopy(src.data, 0, dst.data, 0, src.data.length);
+		for (int i = 0; i < numFlips; i++) {
+			int bit = rand.nextInt(src.numBits);
+			dst.setBit(bit, !dst.isBitTrue(bit));
+		}
+		return dst;
+	}
+}
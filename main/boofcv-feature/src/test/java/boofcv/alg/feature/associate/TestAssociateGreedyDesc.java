@@ -18,10 +18,15 @@
 
 package boofcv.alg.feature.associate;
 
-import boofcv.abst.feature.associate.ScoreAssociateEuclidean_F64;
-import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.abst.feature.associate.*;
+import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.DogArray;
 import org.ddogleg.struct.FastAccess;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * @author Peter Abeles
@@ -41,4 +46,63 @@ class TestAssociateGreedyDesc extends GenericAssociateGreedyChecks {
 							  FastAccess<TupleDesc_F64> dst ) {
 		((AssociateGreedyDesc<TupleDesc_F64>)alg).associate(src, dst);
 	}
+
+	/**
+	 * Scores which support batch scoring should produce the same results as scoring each pair individually
+	 */
+	@Test void batchScore() {
+		var srcF64 = new DogArray<>(() -> new TupleDesc_F64(5));
+		var dstF64 = new DogArray<>(() -> new TupleDesc_F64(5));
+		fillRandom(srcF64, 30);
+		fillRandom(dstF64, 25);
+		checkBatchScore(new ScoreAssociateEuclideanSq.F64(), srcF64, dstF64);
+
+		var srcB = new DogArray<>(() -> new TupleDesc_B(70));
+		var dstB = new DogArray<>(() -> new TupleDesc_B(70));
+		for (int i = 0; i < 30; i++) {
+			TupleDesc_B a = srcB.grow();
+			TupleDesc_B b = dstB.grow();
+			for (int j = 0; j < a.data.length; j++) {
+				a.data[j] = rand.nextInt();
+				b.data[j] = rand.nextInt();
+			}
+		}
+		checkBatchScore(new ScoreAssociateHamming_B(), srcB, dstB);
+	}
+
+	private void fillRandom( DogArray<TupleDesc_F64> list, int count ) {
+		for (int i = 0; i < count; i++) {
+			TupleDesc_F64 d = list.grow();
+			for (int j = 0; j < d.size(); j++) {
+				d.data[j] = rand.nextGaussian();
+			}
+		}
+	}
+
+	private <D> void checkBatchScore( ScoreAssociationBatch<D> batch, FastAccess<D> src, FastAccess<D> dst ) {
+		// Hides the batch interface so that each pair is scored individually
+		var single = new ScoreAssociation<D>() {
+			@Override public double score( D a, D b ) {return batch.score(a, b);}
+
+			@Override public MatchScoreType getScoreType() {return batch.getScoreType();}
+
+			@Override public Class<D> getDescriptorType() {return batch.getDescriptorType();}
+		};
+
+		var expected = new AssociateGreedyDesc<>(single);
+		var found = new AssociateGreedyDesc<>(batch);
+		expected.setRatioTest(0.9);
+		found.setRatioTest(0.9);
+		expected.associate(src, dst);
+		found.associate(src, dst);
+
+		assertEquals(src.size*dst.size, found.scoreMatrix.getNumElements());
+		for (int i = 0; i < src.size*dst.size; i++) {
+			assertEquals(expected.scoreMatrix.data[i], found.scoreMatrix.data[i], 0.0);
+		}
+		for (int i = 0; i < src.size; i++) {
+			assertEquals(expected.pairs.get(i), found.pairs.get(i));
+			assertEquals(expected.fitQuality.get(i), found.fitQuality.get(i), 0.0);
+		}
+	}
 }
@@ -67,6 +67,12 @@ public class TestSegmentMeanShiftSearch extends BoofStandardJUnit {
 		@Override
 		public void process(ImageBase image) {}
 
+		@Override
+		protected void setSearchImage( ImageBase image ) {}
+
+		@Override
+		protected void findPixelMode( int x, int y, float[] color ) {}
+
 		@Override
 		public ImageType getImageType() {
 			return null;
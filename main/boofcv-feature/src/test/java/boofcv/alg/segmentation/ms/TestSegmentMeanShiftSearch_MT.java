@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.segmentation.ms;
+
+import boofcv.BoofTesting;
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.misc.BoofLambdas;
+import boofcv.struct.border.BorderType;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.Planar;
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSegmentMeanShiftSearch_MT extends BoofStandardJUnit {
+
+	/**
+	 * Output should be identical to the single threaded implementation
+	 */
+	@Test void compareToSingleThread() {
+		compareToSingleThread(new GrayF32(30, 35), () -> new SegmentMeanShiftSearchGray<>(30, 0.05f,
+				FactoryInterpolation.bilinearPixelS(GrayF32.class, BorderType.EXTENDED), 2, 2, 100, false));
+
+		ImageType<Planar<GrayF32>> imageType = ImageType.pl(2, GrayF32.class);
+		compareToSingleThread(imageType.createImage(30, 35), () -> new SegmentMeanShiftSearchColor<>(30, 0.05f,
+				FactoryInterpolation.createPixelMB(0, 255, InterpolationType.BILINEAR, BorderType.EXTENDED, imageType),
+				2, 2, 200, false, imageType));
+	}
+
+	<T extends ImageBase<T>> void compareToSingleThread( T image, BoofLambdas.Factory<SegmentMeanShiftSearch<T>> factory ) {
+		GImageMiscOps.fillUniform(image, rand, 0, 256);
+
+		SegmentMeanShiftSearch<T> expected = factory.newInstance();
+		var alg = new SegmentMeanShiftSearch_MT<>(factory);
+
+		expected.process(image);
+		alg.process(image);
+
+		BoofTesting.assertEquals(expected.getPixelToRegion(), alg.getPixelToRegion(), 0);
+
+		assertEquals(expected.getModeLocation().size, alg.getModeLocation().size);
+		assertTrue(expected.getModeLocation().size > 10);
+		for (int i = 0; i < expected.getModeLocation().size; i++) {
+			assertEquals(expected.getModeLocation().get(i), alg.getModeLocation().get(i));
+			assertEquals(expected.getRegionMemberCount().get(i), alg.getRegionMemberCount().get(i));
+			assertArrayEquals(expected.getModeColor().get(i), alg.getModeColor().get(i), 0.0f);
+		}
+	}
+
+	/**
+	 * Searching from a single pixel should produce the same results as the single threaded implementation
+	 */
+	@Test void findPixelMode() {
+		var image = new GrayF32(30, 35);
+		GImageMiscOps.fillUniform(image, rand, 0, 256);
+
+		BoofLambdas.Factory<SegmentMeanShiftSearch<GrayF32>> factory = () -> new SegmentMeanShiftSearchGray<>(30, 0.05f,
+				FactoryInterpolation.bilinearPixelS(GrayF32.class, BorderType.EXTENDED), 2, 2, 100, false);
+
+		SegmentMeanShiftSearch<GrayF32> expected = factory.newInstance();
+		var alg = new SegmentMeanShiftSearch_MT<>(factory);
+		expected.setSearchImage(image);
+		alg.setSearchImage(image);
+
+		float[] expectedColor = new float[1];
+		float[] foundColor = new float[1];
+		for (int y = 0; y < image.height; y += 5) {
+			for (int x = 0; x < image.width; x += 5) {
+				expected.findPixelMode(x, y, expectedColor);
+				alg.findPixelMode(x, y, foundColor);
+
+				assertEquals(expected.modeX, alg.modeX, 0.0f);
+				assertEquals(expected.modeY, alg.modeY, 0.0f);
+				assertEquals(expectedColor[0], foundColor[0], 0.0f);
+			}
+		}
+	}
+
+	/**
+	 * The fast approximation depends on the order pixels are processed in
+	 */
+	@Test void fastNotAllowed() {
+		assertThrows(IllegalArgumentException.class, () -> new SegmentMeanShiftSearch_MT<>(() ->
+				new SegmentMeanShiftSearchGray<>(30, 0.05f,
+						FactoryInterpolation.bilinearPixelS(GrayF32.class, BorderType.EXTENDED), 2, 2, 100, true)));
+	}
+}
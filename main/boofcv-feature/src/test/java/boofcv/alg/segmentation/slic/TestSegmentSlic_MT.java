@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.segmentation.slic;
+
+import boofcv.BoofTesting;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.*;
+import org.ddogleg.struct.DogArray;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSegmentSlic_MT extends GeneralSegmentSlicColorChecks<Planar<GrayU8>> {
+
+	public TestSegmentSlic_MT() {
+		super(ImageType.pl(3, GrayU8.class));
+	}
+
+	@Override
+	public SegmentSlic<Planar<GrayU8>> createAlg( int numberOfRegions, float m, int totalIterations, ConnectRule rule ) {
+		return new SegmentSlic_MT<>(numberOfRegions, m, totalIterations, rule,
+				new SegmentSlic_PlU8(numberOfRegions, m, totalIterations, rule, 3));
+	}
+
+	/**
+	 * Output should be identical to the single threaded implementation
+	 */
+	@Test void compareToSingleThread() {
+		compareToSingleThread(
+				new SegmentSlic_U8(40, 200, 10, ConnectRule.EIGHT),
+				new SegmentSlic_U8(40, 200, 10, ConnectRule.EIGHT));
+		compareToSingleThread(
+				new SegmentSlic_PlF32(40, 200, 10, ConnectRule.FOUR, 2),
+				new SegmentSlic_PlF32(40, 200, 10, ConnectRule.FOUR, 2));
+	}
+
+	<T extends ImageBase<T>> void compareToSingleThread( SegmentSlic<T> expected, SegmentSlic<T> pixelOps ) {
+		T input = expected.getImageType().createImage(80, 65);
+		GImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		SegmentSlic<T> alg = new SegmentSlic_MT<>(40, 200, 10, expected.getConnectRule(), pixelOps);
+
+		var outputExpected = new GrayS32(input.width, input.height);
+		var outputFound = new GrayS32(input.width, input.height);
+
+		expected.process(input, outputExpected);
+		alg.process(input, outputFound);
+
+		BoofTesting.assertEquals(outputExpected, outputFound, 0);
+		assertEquals(expected.getRegionMemberCount().size, alg.getRegionMemberCount().size);
+		for (int i = 0; i < expected.getRegionMemberCount().size; i++) {
+			assertEquals(expected.getRegionMemberCount().get(i), alg.getRegionMemberCount().get(i));
+		}
+
+		DogArray<SegmentSlic.Cluster> clustersExpected = expected.getClusters();
+		DogArray<SegmentSlic.Cluster> clustersFound = alg.getClusters();
+		assertEquals(clustersExpected.size, clustersFound.size);
+		for (int i = 0; i < clustersExpected.size; i++) {
+			SegmentSlic.Cluster e = clustersExpected.get(i);
+			SegmentSlic.Cluster f = clustersFound.get(i);
+			assertEquals(e.x, f.x, 0.0f);
+			assertEquals(e.y, f.y, 0.0f);
+			assertArrayEquals(e.color, f.color, 0.0f);
+		}
+	}
+}
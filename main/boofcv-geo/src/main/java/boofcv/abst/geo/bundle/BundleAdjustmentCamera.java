@@ -25,6 +25,9 @@ import org.jetbrains.annotations.Nullable;
  * Generalized camera model for bundle adjustment. By implementing this function you can swap in and out
  * arbitrary camera models.
  *
+ * Once the intrinsic parameters have been set, {@link #project} and {@link #jacobian} can be invoked by
+ * multiple threads at the same time. Implementations must not modify internal state inside those functions.
+ *
  * @author Peter Abeles
  */
 public interface BundleAdjustmentCamera {
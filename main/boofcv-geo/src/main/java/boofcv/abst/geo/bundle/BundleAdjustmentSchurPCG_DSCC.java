@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.geo.bundle;
+
+import boofcv.abst.geo.bundle.BundleAdjustmentSchur.Codec;
+import boofcv.abst.geo.bundle.BundleAdjustmentSchur.FunctionResiduals;
+import boofcv.abst.geo.bundle.BundleAdjustmentSchur.Jacobian;
+import boofcv.alg.geo.bundle.SchurComplementPCG_DSCC;
+import boofcv.factory.geo.ConfigSchurPCG;
+import lombok.Getter;
+import org.ejml.data.DMatrixSparseCSC;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.PrintStream;
+import java.util.Set;
+
+/**
+ * Sparse bundle adjustment using Levenberg-Marquardt where each step is found using an inexact Newton method.
+ * The reduced camera system is solved with preconditioned conjugate gradient (PCG) and a block-Jacobi
+ * preconditioner, see {@link SchurComplementPCG_DSCC}. Unlike {@link BundleAdjustmentSchur_DSCC}, the Schur complement
+ * is never explicitly computed or decomposed, so memory doesn't grow with fill-in. This makes it well suited for
+ * problems with thousands of views.
+ *
+ * @author Peter Abeles
+ */
+public class BundleAdjustmentSchurPCG_DSCC<Structure extends SceneStructure>
+		implements BundleAdjustment<Structure> {
+
+	private final FunctionResiduals<Structure> function;
+	private final Jacobian<Structure, DMatrixSparseCSC> jacobian;
+	private final Codec<Structure> codec;
+
+	/** Solver for the linear system */
+	private final @Getter SchurComplementPCG_DSCC solver = new SchurComplementPCG_DSCC();
+
+	/** Configuration */
+	private final ConfigSchurPCG config = new ConfigSchurPCG();
+
+	/** Total number of PCG iterations since parameters were last set */
+	private @Getter int totalIterationsPCG;
+
+	/** Number of Levenberg-Marquardt steps which were accepted since parameters were last set */
+	private @Getter int totalStepsAccepted;
+
+	/** Number of Levenberg-Marquardt steps which were rejected since parameters were last set */
+	private @Getter int totalStepsRejected;
+
+	private int maxIterations;
+	private double ftol, gtol;
+
+	private volatile boolean stopRequested = false;
+
+	// Jacobian for left and right side
+	private final DMatrixSparseCSC left = new DMatrixSparseCSC(1, 1);
+	private final DMatrixSparseCSC right = new DMatrixSparseCSC(1, 1);
+
+	// Current state and candidate state
+	private double[] parameters = new double[0];
+	private double[] candidate = new double[0];
+	private double[] residuals = new double[0];
+	private double[] candidateResiduals = new double[0];
+	private double[] gradient = new double[0];
+	private double[] step = new double[0];
+
+	// Cost function at the current state. 0.5*||f(x)||^2
+	private double cost;
+	// Levenberg-Marquardt dampening and the rate it increases after a rejected step
+	private double lambda;
+	private double nu;
+	// If true the Jacobian and gradient need to be computed at the current state
+	private boolean computeJacobian;
+	// Number of parameters
+	private int N;
+
+	@Nullable PrintStream verbose;
+
+	public BundleAdjustmentSchurPCG_DSCC( @Nullable ConfigSchurPCG config,
+										  FunctionResiduals<Structure> function,
+										  Jacobian<Structure, DMatrixSparseCSC> jacobian,
+										  Codec<Structure> codec ) {
+		if (config != null)
+			this.config.setTo(config);
+		this.config.checkValidity();
+		this.function = function;
+		this.jacobian = jacobian;
+		this.codec = codec;
+	}
+
+	@Override
+	public void configure( double ftol, double gtol, int maxIterations ) {
+		this.ftol = ftol;
+		this.gtol = gtol;
+		this.maxIterations = maxIterations;
+	}
+
+	@Override
+	public void setParameters( Structure structure, SceneObservations observations ) {
+		function.configure(structure, observations);
+		jacobian.configure(structure, observations);
+
+		N = structure.getParameterCount();
+		int M = function.getNumOfOutputsM();
+		if (parameters.length < N) {
+			parameters = new double[N];
+			candidate = new double[N];
+			gradient = new double[N];
+			step = new double[N];
+		}
+		if (residuals.length < M) {
+			residuals = new double[M];
+			candidateResiduals = new double[M];
+		}
+		codec.encode(structure, parameters);
+
+		solver.setMaxIterations(config.maxIterationsPCG);
+		solver.setTolerance(config.toleranceRelativePCG);
+		solver.setHessianScaling(config.hessianScaling);
+
+		function.process(parameters, residuals);
+		cost = computeCost(residuals, M);
+		lambda = config.dampeningInitial;
+		nu = 2.0;
+		computeJacobian = true;
+		totalIterationsPCG = 0;
+		totalStepsAccepted = 0;
+		totalStepsRejected = 0;
+	}
+
+	@Override
+	public boolean optimize( Structure output ) {
+		stopRequested = false;
+
+		double before = cost;
+		for (int i = 0; i < maxIterations && !stopRequested; i++) {
+			if (iterate())
+				break;
+		}
+
+		codec.decode(parameters, output);
+		return cost < before;
+	}
+
+	/**
+	 * Performs a single Levenberg-Marquardt iteration
+	 *
+	 * @return true if it has converged
+	 */
+	protected boolean iterate() {
+		final int M = function.getNumOfOutputsM();
+
+		if (computeJacobian) {
+			jacobian.process(parameters, left, right);
+			solver.setJacobian(left, right);
+			solver.computeGradient(residuals, gradient);
+			computeJacobian = false;
+
+			double gmax = 0.0;
+			for (int i = 0; i < N; i++) {
+				gmax = Math.max(gmax, Math.abs(gradient[i]));
+			}
+			if (gmax <= gtol) {
+				if (verbose != null) verbose.printf("converged: gtol, gmax=%.2e\n", gmax);
+				return true;
+			}
+		}
+
+		solver.solve(lambda, gradient, step);
+		totalIterationsPCG += solver.getIterations();
+
+		for (int i = 0; i < N; i++) {
+			candidate[i] = parameters[i] + step[i];
+		}
+		function.process(candidate, candidateResiduals);
+		double candidateCost = computeCost(candidateResiduals, M);
+
+		double actualReduction = cost - candidateCost;
+		double predictedReduction = solver.predictedReduction(gradient, step);
+		boolean accepted = actualReduction > 0.0 && predictedReduction > 0.0;
+
+		if (verbose != null) {
+			verbose.printf("cost=%.6e candidate=%.6e lambda=%.2e pcg={iter=%3d residual=%.2e} %s\n",
+					cost, candidateCost, lambda, solver.getIterations(), solver.getRelativeResidual(),
+					accepted ? "accepted" : "rejected");
+		}
+
+		if (!accepted) {
+			totalStepsRejected++;
+			lambda *= nu;
+			nu *= 2.0;
+			return false;
+		}
+		totalStepsAccepted++;
+
+		// Update dampening using the ratio of actual to predicted reduction. See Nielsen 1999
+		double ratio = actualReduction/predictedReduction;
+		double tmp = 2.0*ratio - 1.0;
+		lambda *= Math.max(1.0/3.0, 1.0 - tmp*tmp*tmp);
+		nu = 2.0;
+
+		double[] swap = parameters;
+		parameters = candidate;
+		candidate = swap;
+		swap = residuals;
+		residuals = candidateResiduals;
+		candidateResiduals = swap;
+
+		double previousCost = cost;
+		cost = candidateCost;
+		computeJacobian = true;
+
+		if (ftol*previousCost >= actualReduction) {
+			if (verbose != null) verbose.println("converged: ftol");
+			return true;
+		}
+		return false;
+	}
+
+	private static double computeCost( double[] residuals, int M ) {
+		double sum = 0.0;
+		for (int i = 0; i < M; i++) {
+			sum += residuals[i]*residuals[i];
+		}
+		return 0.5*sum;
+	}
+
+	@Override
+	public double getFitScore() {
+		return cost;
+	}
+
+	@Override
+	public void requestStop() {
+		stopRequested = true;
+	}
+
+	@Override
+	public boolean isStopRequested() {
+		return stopRequested;
+	}
+
+	@Override
+	public void setVerbose( @Nullable PrintStream out, @Nullable Set<String> configuration ) {
+		this.verbose = out;
+	}
+}
@@ -52,23 +52,16 @@ import java.util.Objects;
 @SuppressWarnings({"NullAway.Init"})
 public class BundleAdjustmentMetricResidualFunction
 		implements BundleAdjustmentSchur.FunctionResiduals<SceneStructureMetric> {
-	private SceneStructureMetric structure;
-	private SceneObservations observations;
-
-	// feature location in world coordinates
-	private final Point3D_F64 worldPt = new Point3D_F64();
+	protected SceneStructureMetric structure;
+	protected SceneObservations observations;
 
 	// number of parameters being optimised
 	private int numParameters;
 	// number of observations. 2 for each point in each view
 	private int numObservations;
 
-	// local variable which stores the predicted location of the feature in the camera frame
-	private final Point3D_F64 cameraPt = new Point3D_F64();
-
-	// Storage for rendered output
-	private final Point2D_F64 predictedPixel = new Point2D_F64();
-	private final PointIndex2D_F64 observedPixel = new PointIndex2D_F64();
+	// index of the first observation in each view
+	protected int[] viewObservationIndexes = new int[0];
 
 	// Used to write the "unknown" parameters into the scene
 	private final CodecSceneStructureMetric codec = new CodecSceneStructureMetric();
@@ -78,9 +71,8 @@ public class BundleAdjustmentMetricResidualFunction
 	// Look up workspace by view ID when relative view
 	private final Map<SceneStructureMetric.View, Se3_F64> mapWorldToView = new HashMap<>();
 
-	// Storage for 3D points in Cartesian and homogenous coordinates
-	private final Point3D_F64 p3 = new Point3D_F64();
-	private final Point4D_F64 p4 = new Point4D_F64();
+	// Workspace used when processing in a single thread
+	protected final Workspace workspace = new Workspace();
 
 	/**
 	 * Specifies the scenes structure and observed feature locations
@@ -105,6 +97,15 @@ public class BundleAdjustmentMetricResidualFunction
 			Se3_F64 world_to_view = storageSe3.grow();
 			mapWorldToView.put(v, world_to_view);
 		}
+
+		// Location of the first observation in each view
+		viewObservationIndexes = new int[structure.views.size + 1];
+		for (int viewIdx = 0; viewIdx < structure.views.size; viewIdx++) {
+			int count = observations.views.get(viewIdx).size();
+			if (observations.hasRigid())
+				count += observations.viewsRigid.get(viewIdx).size();
+			viewObservationIndexes[viewIdx + 1] = viewObservationIndexes[viewIdx] + count;
+		}
 	}
 
 	@Override
@@ -119,27 +120,54 @@ public class BundleAdjustmentMetricResidualFunction
 
 	@Override
 	public void process( double[] input, double[] output ) {
+		decodeParameters(input);
+		projectViews(workspace, output, 0, structure.views.size);
+	}
 
-		// write the current parameters into the scene's structure
+	/**
+	 * Writes the current parameters into the scene's structure and computes the world to view transform for
+	 * all relative views. Must be called before {@link #projectViews}.
+	 */
+	protected void decodeParameters( double[] input ) {
 		codec.decode(input, structure);
 
-		// Project the general scene now
+		// A parent always has a lower index so its transform will already be known
+		for (int viewIndex = 0; viewIndex < structure.views.size; viewIndex++) {
+			lookupWorldToView(structure.views.get(viewIndex));
+		}
+	}
+
+	/**
+	 * Computes the residuals for all observations in the specified range of views. Only the elements in
+	 * output which belong to these views are modified.
+	 *
+	 * @param w Workspace that's exclusively used by the caller
+	 * @param output Storage for residuals
+	 * @param viewIdx0 first view, inclusive
+	 * @param viewIdx1 last view, exclusive
+	 */
+	protected void projectViews( Workspace w, double[] output, int viewIdx0, int viewIdx1 ) {
 		if (structure.isHomogenous())
-			project4(output);
+			project4(w, output, viewIdx0, viewIdx1);
 		else
-			project3(output);
+			project3(w, output, viewIdx0, viewIdx1);
 	}
 
 	/**
 	 * projection from 3D coordinates
 	 */
-	private void project3( double[] output ) {
-		int observationIndex = 0;
-		for (int viewIndex = 0; viewIndex < structure.views.size; viewIndex++) {
+	private void project3( Workspace w, double[] output, int viewIdx0, int viewIdx1 ) {
+		final Point3D_F64 cameraPt = w.cameraPt;
+		final Point2D_F64 predictedPixel = w.predictedPixel;
+		final PointIndex2D_F64 observedPixel = w.observedPixel;
+		final Point3D_F64 p3 = w.p3;
+
+		int observationIndex = viewObservationIndexes[viewIdx0];
+		for (int viewIndex = viewIdx0; viewIndex < viewIdx1; viewIndex++) {
 			SceneStructureMetric.View view = structure.views.get(viewIndex);
 			SceneStructureCommon.Camera camera = structure.cameras.get(view.camera);
 
-			Se3_F64 world_to_view = lookupWorldToView(view);
+			Se3_F64 world_to_view = getWorldToView(view);
 
 			//=========== Project General Points in this View
 			{
@@ -177,8 +205,8 @@ public class BundleAdjustmentMetricResidualFunction
 					objectPt.get(p3);
 
 					// Transform to world frame and from world to camera
-					SePointOps_F64.transform(rigid.object_to_world, p3, worldPt);
-					SePointOps_F64.transform(world_to_view, worldPt, cameraPt);
+					SePointOps_F64.transform(rigid.object_to_world, p3, w.worldPt);
+					SePointOps_F64.transform(world_to_view, w.worldPt, cameraPt);
 
 					// Project and compute residual
 					camera.model.project(cameraPt.x, cameraPt.y, cameraPt.z, predictedPixel);
@@ -195,13 +223,18 @@ public class BundleAdjustmentMetricResidualFunction
 	/**
 	 * projection from homogenous coordinates
 	 */
-	private void project4( double[] output ) {
-		int observationIndex = 0;
-		for (int viewIndex = 0; viewIndex < structure.views.size; viewIndex++) {
+	private void project4( Workspace w, double[] output, int viewIdx0, int viewIdx1 ) {
+		final Point3D_F64 cameraPt = w.cameraPt;
+		final Point2D_F64 predictedPixel = w.predictedPixel;
+		final PointIndex2D_F64 observedPixel = w.observedPixel;
+		final Point4D_F64 p4 = w.p4;
+
+		int observationIndex = viewObservationIndexes[viewIdx0];
+		for (int viewIndex = viewIdx0; viewIndex < viewIdx1; viewIndex++) {
 			SceneStructureMetric.View view = structure.views.get(viewIndex);
 			SceneStructureCommon.Camera camera = structure.cameras.get(view.camera);
 
-			Se3_F64 world_to_view = lookupWorldToView(view);
+			Se3_F64 world_to_view = getWorldToView(view);
 
 			//=========== Project General Points in this View
 			{
@@ -242,8 +275,8 @@ public class BundleAdjustmentMetricResidualFunction
 					objectPt.get(p4);
 
 					// Transform to world frame and from world to camera
-					SePointOps_F64.transformV(rigid.object_to_world, p4, worldPt);
-					SePointOps_F64.transform(world_to_view, worldPt, cameraPt);
+					SePointOps_F64.transformV(rigid.object_to_world, p4, w.worldPt);
+					SePointOps_F64.transform(world_to_view, w.worldPt, cameraPt);
 
 					camera.model.project(cameraPt.x, cameraPt.y, cameraPt.z, predictedPixel);
 
@@ -279,4 +312,32 @@ public class BundleAdjustmentMetricResidualFunction
 		}
 		return world_to_view;
 	}
+
+	/**
+	 * Returns the world to view transform that was found previously in {@link #decodeParameters}
+	 */
+	private Se3_F64 getWorldToView( SceneStructureMetric.View v ) {
+		if (v.parent == null)
+			return structure.getParentToView(v);
+		return Objects.requireNonNull(mapWorldToView.get(v));
+	}
+
+	/**
+	 * Workspace for computing residuals. Each thread must have its own instance.
+	 */
+	public static class Workspace {
+		// feature location in world coordinates
+		final Point3D_F64 worldPt = new Point3D_F64();
+
+		// local variable which stores the predicted location of the feature in the camera frame
+		final Point3D_F64 cameraPt = new Point3D_F64();
+
+		// Storage for rendered output
+		final Point2D_F64 predictedPixel = new Point2D_F64();
+		final PointIndex2D_F64 observedPixel = new PointIndex2D_F64();
+
+		// Storage for 3D points in Cartesian and homogenous coordinates
+		final Point3D_F64 p3 = new Point3D_F64();
+		final Point4D_F64 p4 = new Point4D_F64();
+	}
 }
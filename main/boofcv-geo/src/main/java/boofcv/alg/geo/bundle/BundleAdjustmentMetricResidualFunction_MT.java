@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo.bundle;
+
+import boofcv.concurrency.BoofConcurrency;
+import pabeles.concurrency.GrowArray;
+
+/**
+ * Concurrent implementation of {@link BundleAdjustmentMetricResidualFunction}. Parameters are decoded in a single
+ * thread then the views are split into blocks and residuals are computed in parallel. Each view writes to its own
+ * range in the output array so the results are identical to the single threaded version.
+ *
+ * Requires all the camera models to be thread safe, see {@link boofcv.abst.geo.bundle.BundleAdjustmentCamera}.
+ *
+ * @author Peter Abeles
+ */
+public class BundleAdjustmentMetricResidualFunction_MT extends BundleAdjustmentMetricResidualFunction {
+
+	// Workspace for each thread
+	protected final GrowArray<Workspace> workspaces = new GrowArray<>(Workspace::new);
+
+	@Override
+	public void process( double[] input, double[] output ) {
+		decodeParameters(input);
+
+		BoofConcurrency.loopBlocks(0, structure.views.size, workspaces, ( w, idx0, idx1 ) ->
+				projectViews(w, output, idx0, idx1));
+	}
+}
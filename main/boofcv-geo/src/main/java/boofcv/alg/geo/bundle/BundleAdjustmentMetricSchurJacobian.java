@@ -29,8 +29,6 @@ import georegression.struct.point.Point4D_F64;
 import georegression.struct.point.Vector3D_F64;
 import georegression.struct.se.Se3_F64;
 import georegression.transform.se.SePointOps_F64;
-import gnu.trove.map.TIntObjectMap;
-import gnu.trove.map.hash.TIntObjectHashMap;
 import lombok.Getter;
 import lombok.Setter;
 import org.ddogleg.struct.DogArray;
@@ -47,13 +45,18 @@ import java.util.Objects;
  * Computes the Jacobian for bundle adjustment with a Schur implementation. This is the base class
  * for specific types of matrices
  *
+ * The computation is split into two steps. First the parameters for all the views, cameras, and rigid objects
+ * are decoded in {@link #decodeParameters}. Then the partials for observations in a range of views are computed
+ * in {@link #processViews}. Only the second step depends on the number of observations and it can be called
+ * from multiple threads, each with its own {@link Workspace}.
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"NullAway.Init"})
 public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 		implements BundleAdjustmentSchur.Jacobian<SceneStructureMetric, M> {
-	private SceneStructureMetric structure;
-	private SceneObservations observations;
+	protected SceneStructureMetric structure;
+	protected SceneObservations observations;
 
 	// number of views with parameters that are going to be adjusted
 	private int numMotionsUnknown;
@@ -70,27 +73,14 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 
 	// Recycled data structures for use in the maps below
 	private final DogArray<Se3_F64> storageSe3 = new DogArray<>(Se3_F64::new);
+	// Partials of SO3 for each motion. Only filled in for motions which are not known
 	private final DogArray<DMatrixRMaj[]> storageSO3Jac = new DogArray<>(this::declareRotJacStorage);
 	// Look up workspace by view ID when relative view. Only filled in when a relative view is encountered
 	private final Map<SceneStructureMetric.View, Se3_F64> mapWorldToView = new HashMap<>();
-	private final TIntObjectMap<DMatrixRMaj[]> mapSO3Jac = new TIntObjectHashMap<>();
-	// If only one view will use a particular motion then we don't want to store the Jacobian for future use
-
-	// Workspace for world to view transform
-	private final Se3_F64 world_to_view = new Se3_F64();
 
 	// Jacobians for rigid objects
 	private JacobianSo3[] jacRigidS03;
 
-	// feature location in world coordinates
-	private final Point3D_F64 worldPt3 = new Point3D_F64();
-	private final Point4D_F64 worldPt4 = new Point4D_F64();
-	// feature location in rigid body coordinates
-	private final Point3D_F64 rigidPt3 = new Point3D_F64();
-	private final Point4D_F64 rigidPt4 = new Point4D_F64();
-	// feature location in camera coordinates
-	private final Point3D_F64 cameraPt = new Point3D_F64();
-
 	// Number of parameters to describe SE3 (rotation + translation)
 	private int lengthSE3;
 	// first index for rigid body parameters
@@ -104,25 +94,13 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 	private int[] motionParameterIndexes;
 	// first index in input/parameters vector for each camera. Right side
 	private int[] cameraParameterIndexes;
+	// index of the first observation in each view
+	protected int[] viewObservationIndexes;
+	// Largest number of intrinsic parameters in a camera which is not known
+	private int largestCameraSize;
 
-	// Jacobian matrix index of x and y partial
-	private int jacRowX, jacRowY;
-
-	// Storage for gradients
-	private final double[] pointGradX = new double[3];
-	private final double[] pointGradY = new double[3];
-	private double[] calibGradX = new double[0];
-	private double[] calibGradY = new double[0];
-
-	// work space for R2*R1
-	DMatrixRMaj RR = new DMatrixRMaj(3, 3);
-
-	// Storage for current view's partials of SO3
-	private DMatrixRMaj[] arraySO3 = new DMatrixRMaj[0];
-	private final DMatrixRMaj accumulatedR = new DMatrixRMaj(3, 3);
-	private final Point4D_F64 worldX = new Point4D_F64();
-	private final Point3D_F64 pt3 = new Point3D_F64();
-	private final DMatrixRMaj tmp3x3 = new DMatrixRMaj(3, 3);
+	// Workspace used when processing in a single thread
+	protected final Workspace workspace = new Workspace();
 
 	@Override
 	public void configure( SceneStructureMetric structure, SceneObservations observations ) {
@@ -170,7 +148,7 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 
 		// Create a lookup table for each camera. Camera ID to location in parameter vector
 		cameraParameterIndexes = new int[structure.cameras.size];
-		int largestCameraSize = 0;
+		largestCameraSize = 0;
 		for (int i = 0, index = 0; i < structure.cameras.size; i++) {
 			if (!structure.cameras.get(i).known) {
 				cameraParameterIndexes[i] = index;
@@ -180,8 +158,16 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 			}
 		}
 
-		calibGradX = new double[largestCameraSize];
-		calibGradY = new double[largestCameraSize];
+		// Location of the first observation in each view
+		viewObservationIndexes = new int[structure.views.size + 1];
+		for (int viewIdx = 0; viewIdx < structure.views.size; viewIdx++) {
+			int count = observations.views.get(viewIdx).size();
+			if (observations.hasRigid())
+				count += observations.viewsRigid.get(viewIdx).size();
+			viewObservationIndexes[viewIdx + 1] = viewObservationIndexes[viewIdx] + count;
+		}
+
+		workspace.configure();
 
 		// Storage for relative views
 		declareStorageWorldToView(structure);
@@ -204,14 +190,12 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 	}
 
 	/**
-	 * Pre-declare storage for all the SO3 Jacobians that will need to be retrieved as part of a relative view
-	 * in the future. This is needed when relative views are in use. When there are no regular views then
-	 * these sparse data structures will be empty.
+	 * Pre-declare storage for the SO3 Jacobians of every motion. These are computed once when the parameters
+	 * are decoded and then looked up when computing the partials of regular and relative views.
 	 */
 	private void declareStoragePartialsSE3( SceneStructureMetric structure ) {
 		int lengthParam = storageSO3Jac.grow().length;
 
-		mapSO3Jac.clear();
 		// see if the parameterization changed. If so discard all the old data
 		if (jacSO3.getParameterLength() != lengthParam) {
 			storageSO3Jac.data = new DMatrixRMaj[0][];
@@ -219,22 +203,7 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 		} else {
 			storageSO3Jac.reset();
 		}
-		arraySO3 = arraySO3.length != lengthParam ? new DMatrixRMaj[lengthParam] : arraySO3;
-		for (int viewIdx = 0; viewIdx < structure.views.size; viewIdx++) {
-			SceneStructureMetric.View v = structure.views.get(viewIdx);
-			if (v.parent == null)
-				continue;
-
-			// if this view is relative to another we don't need to store the Jacobian since we already have it
-			// However, the parent it refers to needs to be stored. We do not need to traverse back any more due
-			// since all potential ancestors have already been processed
-			SceneStructureMetric.View vp = v.parent;
-			SceneStructureMetric.Motion mp = structure.motions.get(vp.parent_to_view);
-			if (mp.known || mapSO3Jac.containsKey(vp.parent_to_view))
-				continue;
-
-			mapSO3Jac.put(vp.parent_to_view, storageSO3Jac.grow());
-		}
+		storageSO3Jac.resize(structure.motions.size);
 	}
 
 	@Override
@@ -247,7 +216,14 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 		return observations.getObservationCount()*2;
 	}
 
-	private int computeGeneralPoints( DMatrix leftPoint, DMatrix rightView,
+	/**
+	 * Number of columns in the left (point) Jacobian
+	 */
+	protected int getNumOfLeftColumns() {
+		return structure.points.size*lengthPoint + numRigidUnknown*lengthSE3;
+	}
+
+	private int computeGeneralPoints( Workspace w, DMatrix leftPoint, DMatrix rightView,
 									  double[] input, int observationIndex, int viewIndex,
 									  SceneStructureCommon.Camera camera,
 									  int cameraParamStartIndex ) {
@@ -259,43 +235,43 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 			int columnOfPointInJac = featureIndex*lengthPoint;
 
 			if (structure.isHomogenous()) {
-				worldPt4.x = input[columnOfPointInJac];
-				worldPt4.y = input[columnOfPointInJac + 1];
-				worldPt4.z = input[columnOfPointInJac + 2];
-				worldPt4.w = input[columnOfPointInJac + 3];
+				w.worldPt4.x = input[columnOfPointInJac];
+				w.worldPt4.y = input[columnOfPointInJac + 1];
+				w.worldPt4.z = input[columnOfPointInJac + 2];
+				w.worldPt4.w = input[columnOfPointInJac + 3];
 
-				SePointOps_F64.transformV(world_to_view, worldPt4, cameraPt);
+				SePointOps_F64.transformV(w.world_to_view, w.worldPt4, w.cameraPt);
 			} else {
-				worldPt3.x = input[columnOfPointInJac];
-				worldPt3.y = input[columnOfPointInJac + 1];
-				worldPt3.z = input[columnOfPointInJac + 2];
+				w.worldPt3.x = input[columnOfPointInJac];
+				w.worldPt3.y = input[columnOfPointInJac + 1];
+				w.worldPt3.z = input[columnOfPointInJac + 2];
 
-				SePointOps_F64.transform(world_to_view, worldPt3, cameraPt);
+				SePointOps_F64.transform(w.world_to_view, w.worldPt3, w.cameraPt);
 			}
 
-			jacRowX = observationIndex*2;
-			jacRowY = jacRowX + 1;
+			w.jacRowX = observationIndex*2;
+			w.jacRowY = w.jacRowX + 1;
 
 			//============ Partial of camera parameters
 			if (!camera.known) {
 				int N = camera.model.getIntrinsicCount();
-				camera.model.jacobian(cameraPt.x, cameraPt.y, cameraPt.z,
-						pointGradX, pointGradY, true, calibGradX, calibGradY);
+				camera.model.jacobian(w.cameraPt.x, w.cameraPt.y, w.cameraPt.z,
+						w.pointGradX, w.pointGradY, true, w.calibGradX, w.calibGradY);
 
 				int location = indexLastMotion - indexFirstMotion + cameraParamStartIndex;
 				for (int j = 0; j < N; j++) {
-					set(rightView, jacRowX, location + j, calibGradX[j]);
-					set(rightView, jacRowY, location + j, calibGradY[j]);
+					set(rightView, w.jacRowX, location + j, w.calibGradX[j]);
+					set(rightView, w.jacRowY, location + j, w.calibGradY[j]);
 				}
 			} else {
-				camera.model.jacobian(cameraPt.x, cameraPt.y, cameraPt.z, pointGradX, pointGradY,
+				camera.model.jacobian(w.cameraPt.x, w.cameraPt.y, w.cameraPt.z, w.pointGradX, w.pointGradY,
 						false, null, null);
 			}
 			//============ Partial of worldPt
 			if (structure.isHomogenous()) {
-				partialPointH(leftPoint, rightView, strView, columnOfPointInJac);
+				partialPointH(w, leftPoint, rightView, strView, columnOfPointInJac);
 			} else {
-				partialPoint3(leftPoint, rightView, strView, columnOfPointInJac);
+				partialPoint3(w, leftPoint, rightView, strView, columnOfPointInJac);
 			}
 
 			observationIndex++;
@@ -311,9 +287,18 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 	 * @param rightView Storage for right Jacobian
 	 */
 	public void internalProcess( double[] input, DMatrix leftPoint, DMatrix rightView ) {
+		reshapeAndZero(leftPoint, rightView);
+		decodeParameters(input);
+		processViews(workspace, input, leftPoint, rightView, 0, structure.views.size);
+	}
+
+	/**
+	 * Reshapes the two Jacobian matrices to the expected size and sets all the elements to zero
+	 */
+	protected void reshapeAndZero( DMatrix leftPoint, DMatrix rightView ) {
 		int numRows = getNumOfOutputsM();
 		// number of parameters on left. All points
-		int numPointParam = structure.points.size*lengthPoint + numRigidUnknown*lengthSE3;
+		int numPointParam = getNumOfLeftColumns();
 		// Number of parameters on right. views + camera
 		int numViewParam = numParameters - numPointParam; // view + camera
 
@@ -321,7 +306,15 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 		((ReshapeMatrix)rightView).reshape(numRows, numViewParam);
 		leftPoint.zero();
 		rightView.zero();
+	}
 
+	/**
+	 * Decodes parameters which are shared by multiple views, i.e. rigid objects, motions, and cameras. The world
+	 * to view transform for relative views is also computed here. Must be called before {@link #processViews}.
+	 *
+	 * @param input Input parameters describing the current state of the optimization
+	 */
+	protected void decodeParameters( double[] input ) {
 		// parse parameters for rigid bodies. the translation + rotation is the same for all views
 		for (int rigidIndex = 0; rigidIndex < structure.rigids.size; rigidIndex++) {
 			if (!structure.rigids.get(rigidIndex).known) {
@@ -329,47 +322,74 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 			}
 		}
 
-		int observationIndex = 0;
-		// first decode the transformation
-		for (int viewIndex = 0; viewIndex < structure.views.size; viewIndex++) {
-			SceneStructureMetric.View view = structure.views.data[viewIndex];
-			SceneStructureCommon.Camera camera = structure.cameras.data[view.camera];
-			SceneStructureMetric.Motion motion = structure.motions.data[view.parent_to_view];
+		// decode the motions and save their Jacobian
+		for (int motionIndex = 0; motionIndex < structure.motions.size; motionIndex++) {
+			SceneStructureMetric.Motion motion = structure.motions.data[motionIndex];
+			if (motion.known)
+				continue;
 
-			if (!motion.known) {
-				int paramIndex = motionParameterIndexes[view.parent_to_view] + indexFirstMotion;
-				jacSO3.setParameters(input, paramIndex);
-				paramIndex += jacSO3.getParameterLength();
+			int paramIndex = motionParameterIndexes[motionIndex] + indexFirstMotion;
+			jacSO3.setParameters(input, paramIndex);
+			paramIndex += jacSO3.getParameterLength();
 
-				motion.motion.T.x = input[paramIndex];
-				motion.motion.T.y = input[paramIndex + 1];
-				motion.motion.T.z = input[paramIndex + 2];
+			motion.motion.T.x = input[paramIndex];
+			motion.motion.T.y = input[paramIndex + 1];
+			motion.motion.T.z = input[paramIndex + 2];
 
-				motion.motion.getR().setTo(jacSO3.getRotationMatrix());
+			motion.motion.getR().setTo(jacSO3.getRotationMatrix());
 
-				// save the Jacobian if we need to
-				DMatrixRMaj[] savedJac = mapSO3Jac.get(view.parent_to_view);
-				if (savedJac != null) {
-					for (int i = 0; i < savedJac.length; i++) {
-						savedJac[i].setTo(jacSO3.getPartial(i));
-					}
-				}
+			DMatrixRMaj[] savedJac = storageSO3Jac.get(motionIndex);
+			for (int i = 0; i < savedJac.length; i++) {
+				savedJac[i].setTo(jacSO3.getPartial(i));
 			}
+		}
 
-			lookupWorldToView(view, world_to_view);
+		// Relative views. A parent always has a lower index so its transform will already be known
+		for (int viewIndex = 0; viewIndex < structure.views.size; viewIndex++) {
+			SceneStructureMetric.View view = structure.views.data[viewIndex];
+			if (view.parent != null)
+				lookupWorldToView(view, workspace.world_to_view);
+		}
 
-			int cameraParamStartIndex = cameraParameterIndexes[view.camera];
+		// Intrinsic parameters of cameras
+		for (int cameraIndex = 0; cameraIndex < structure.cameras.size; cameraIndex++) {
+			SceneStructureCommon.Camera camera = structure.cameras.data[cameraIndex];
 			if (!camera.known) {
-				camera.model.setIntrinsic(input, indexLastMotion + cameraParamStartIndex);
+				camera.model.setIntrinsic(input, indexLastMotion + cameraParameterIndexes[cameraIndex]);
 			}
+		}
+	}
 
-			observationIndex = computeGeneralPoints(leftPoint, rightView, input, observationIndex, viewIndex, camera, cameraParamStartIndex);
+	/**
+	 * Computes the partials for all observations in the specified range of views. Only the rows which belong to
+	 * these views are modified.
+	 *
+	 * @param w Workspace that's exclusively used by the caller
+	 * @param input Input parameters describing the current state of the optimization
+	 * @param leftPoint Storage for left Jacobian
+	 * @param rightView Storage for right Jacobian
+	 * @param viewIdx0 first view, inclusive
+	 * @param viewIdx1 last view, exclusive
+	 */
+	protected void processViews( Workspace w, double[] input, DMatrix leftPoint, DMatrix rightView,
+								 int viewIdx0, int viewIdx1 ) {
+		int observationIndex = viewObservationIndexes[viewIdx0];
+		for (int viewIndex = viewIdx0; viewIndex < viewIdx1; viewIndex++) {
+			SceneStructureMetric.View view = structure.views.data[viewIndex];
+			SceneStructureCommon.Camera camera = structure.cameras.data[view.camera];
+
+			w.world_to_view.setTo(getWorldToView(view));
+
+			int cameraParamStartIndex = cameraParameterIndexes[view.camera];
+			observationIndex = computeGeneralPoints(w, leftPoint, rightView, input, observationIndex, viewIndex,
+					camera, cameraParamStartIndex);
 			if (observations.hasRigid())
-				observationIndex = computeRigidPoints(leftPoint, rightView, observationIndex, viewIndex, camera, cameraParamStartIndex);
+				observationIndex = computeRigidPoints(w, leftPoint, rightView, observationIndex, viewIndex,
+						camera, cameraParamStartIndex);
 		}
 	}
 
-	private int computeRigidPoints( DMatrix leftPoint, DMatrix rightView,
+	private int computeRigidPoints( Workspace w, DMatrix leftPoint, DMatrix rightView,
 									int observationIndex, int viewIndex,
 									SceneStructureCommon.Camera camera,
 									int cameraParamStartIndex ) {
@@ -383,35 +403,35 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 			int pointIndex = featureIndex - rigid.indexFirst; // index of point in rigid body
 
 			if (structure.isHomogenous()) {
-				rigid.getPoint(pointIndex, rigidPt4);
-				SePointOps_F64.transformV(rigid.object_to_world, rigidPt4, worldPt3);
+				rigid.getPoint(pointIndex, w.rigidPt4);
+				SePointOps_F64.transformV(rigid.object_to_world, w.rigidPt4, w.worldPt3);
 			} else {
-				rigid.getPoint(pointIndex, rigidPt3);
-				SePointOps_F64.transform(rigid.object_to_world, rigidPt3, worldPt3);
+				rigid.getPoint(pointIndex, w.rigidPt3);
+				SePointOps_F64.transform(rigid.object_to_world, w.rigidPt3, w.worldPt3);
 			}
-			SePointOps_F64.transform(world_to_view, worldPt3, cameraPt);
+			SePointOps_F64.transform(w.world_to_view, w.worldPt3, w.cameraPt);
 
-			jacRowX = observationIndex*2;
-			jacRowY = jacRowX + 1;
+			w.jacRowX = observationIndex*2;
+			w.jacRowY = w.jacRowX + 1;
 
 			//============ Partial of camera parameters
 			if (!camera.known) {
 				int N = camera.model.getIntrinsicCount();
-				camera.model.jacobian(cameraPt.x, cameraPt.y, cameraPt.z,
-						pointGradX, pointGradY, true, calibGradX, calibGradY);
+				camera.model.jacobian(w.cameraPt.x, w.cameraPt.y, w.cameraPt.z,
+						w.pointGradX, w.pointGradY, true, w.calibGradX, w.calibGradY);
 
 				int location = indexLastMotion - indexFirstMotion + cameraParamStartIndex;
 				for (int j = 0; j < N; j++) {
-					set(rightView, jacRowX, location + j, calibGradX[j]);
-					set(rightView, jacRowY, location + j, calibGradY[j]);
+					set(rightView, w.jacRowX, location + j, w.calibGradX[j]);
+					set(rightView, w.jacRowY, location + j, w.calibGradY[j]);
 				}
 			} else {
-				camera.model.jacobian(cameraPt.x, cameraPt.y, cameraPt.z, pointGradX, pointGradY,
+				camera.model.jacobian(w.cameraPt.x, w.cameraPt.y, w.cameraPt.z, w.pointGradX, w.pointGradY,
 						false, null, null);
 			}
 
 			//============ Partial of world to view
-			partialViewSE3(rightView, view, worldPt3.x, worldPt3.y, worldPt3.z, 1);
+			partialViewSE3(w, rightView, view, w.worldPt3.x, w.worldPt3.y, w.worldPt3.z, 1);
 
 			//============ Partial of body to world
 			// R2*(R1*X+T1)+T2
@@ -421,9 +441,9 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 			// partial T1 is R2*(@T1)
 			if (!rigid.known) {
 				if (structure.isHomogenous()) {
-					partialRigidSE3(leftPoint, rigidIndex, rigidPt4.x, rigidPt4.y, rigidPt4.z, rigidPt4.w);
+					partialRigidSE3(w, leftPoint, rigidIndex, w.rigidPt4.x, w.rigidPt4.y, w.rigidPt4.z, w.rigidPt4.w);
 				} else {
-					partialRigidSE3(leftPoint, rigidIndex, rigidPt3.x, rigidPt3.y, rigidPt3.z, 1);
+					partialRigidSE3(w, leftPoint, rigidIndex, w.rigidPt3.x, w.rigidPt3.y, w.rigidPt3.z, 1);
 				}
 			}
 
@@ -432,25 +452,25 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 		return observationIndex;
 	}
 
-	private void partialPoint3( DMatrix leftPoint, DMatrix rightView,
+	private void partialPoint3( Workspace w, DMatrix leftPoint, DMatrix rightView,
 								SceneStructureMetric.View view, int columnOfPointInJac ) {
 		// partial of (R*X + T) with respect to X is a 3 by 3 matrix
 		// This turns out to be just R
 		// grad F(G(X)) = 2 x 3 matrix which is then multiplied by R
-		addToJacobian(leftPoint, columnOfPointInJac, pointGradX, pointGradY, world_to_view.R);
+		addToJacobian(w, leftPoint, columnOfPointInJac, w.pointGradX, w.pointGradY, w.world_to_view.R);
 
-		partialViewSE3(rightView, view, worldPt3.x, worldPt3.y, worldPt3.z, 1);
+		partialViewSE3(w, rightView, view, w.worldPt3.x, w.worldPt3.y, w.worldPt3.z, 1);
 	}
 
-	private void partialPointH( DMatrix leftPoint, DMatrix rightView,
+	private void partialPointH( Workspace w, DMatrix leftPoint, DMatrix rightView,
 								SceneStructureMetric.View view, int columnOfPointInJac ) {
 		// partial of (R*[x,y,z]' + T*w) with respect to X=[x,y,z,w] is a 3 by 4 matrix, [R|T]
 		//
 		// grad F(G(X)) = 2 x 4 matrix which is then multiplied by R
-		addToJacobian(leftPoint, columnOfPointInJac, pointGradX, pointGradY, world_to_view.R);
-		addToJacobian(leftPoint, columnOfPointInJac + 3, pointGradX, pointGradY, world_to_view.T);
+		addToJacobian(w, leftPoint, columnOfPointInJac, w.pointGradX, w.pointGradY, w.world_to_view.R);
+		addToJacobian(w, leftPoint, columnOfPointInJac + 3, w.pointGradX, w.pointGradY, w.world_to_view.T);
 
-		partialViewSE3(rightView, view, worldPt4.x, worldPt4.y, worldPt4.z, worldPt4.w);
+		partialViewSE3(w, rightView, view, w.worldPt4.x, w.worldPt4.y, w.worldPt4.z, w.worldPt4.w);
 	}
 
 	/**
@@ -474,7 +494,7 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 	 * </pre>
 	 * The chained view can be writen as a recursive formula where a rotation matrix is updated each iteration.
 	 */
-	private void partialViewSE3( DMatrix rightView,
+	private void partialViewSE3( Workspace w, DMatrix rightView,
 								 SceneStructureMetric.View view,
 								 double X, double Y, double Z, double W ) {
 		{ // Abort if there is no partial derivative to compute
@@ -483,11 +503,10 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 				return;
 		}
 
-		boolean firstView = true;
-		worldX.setTo(X, Y, Z, W);
+		w.worldX.setTo(X, Y, Z, W);
 
 		// Recursively computed rotation R[i]*R[i-1] ... etc
-		CommonOps_DDRM.setIdentity(accumulatedR);
+		CommonOps_DDRM.setIdentity(w.accumulatedR);
 
 		while (true) {
 			// Column in output matrix for this view
@@ -500,36 +519,26 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 				view = view.parent;
 				if (view == null)
 					break;
-				CommonOps_DDRM.mult(accumulatedR, motion.motion.R, tmp3x3);
-				accumulatedR.setTo(tmp3x3);
+				CommonOps_DDRM.mult(w.accumulatedR, motion.motion.R, w.tmp3x3);
+				w.accumulatedR.setTo(w.tmp3x3);
 				continue;
 			}
 			// look up the SO3 Jacobian
-			DMatrixRMaj[] jacobianSO3;
-			if (firstView) {
-				firstView = false;
-				// Current view isn't saved in storage and needs to have a reference copied to the array
-				for (int i = 0; i < arraySO3.length; i++) {
-					arraySO3[i] = jacSO3.getPartial(i);
-				}
-				jacobianSO3 = arraySO3;
-			} else {
-				jacobianSO3 = mapSO3Jac.get(view.parent_to_view);
-			}
+			DMatrixRMaj[] jacobianSO3 = storageSO3Jac.get(view.parent_to_view);
 
 			//============== Partial of view rotation parameters
 			final int paramLength = jacSO3.getParameterLength();
 			if (view.parent == null) {
 				for (int i = 0; i < paramLength; i++) {
-					CommonOps_DDRM.mult(accumulatedR, jacobianSO3[i], tmp3x3);
-					addToJacobian(rightView, col + i, pointGradX, pointGradY, tmp3x3, X, Y, Z);
+					CommonOps_DDRM.mult(w.accumulatedR, jacobianSO3[i], w.tmp3x3);
+					addToJacobian(w, rightView, col + i, w.pointGradX, w.pointGradY, w.tmp3x3, X, Y, Z);
 				}
 			} else {
 				Se3_F64 world_to_parent = getWorldToView(view.parent);
 				for (int i = 0; i < paramLength; i++) {
-					SePointOps_F64.transformV(world_to_parent, worldX, pt3);
-					CommonOps_DDRM.mult(accumulatedR, jacobianSO3[i], tmp3x3);
-					addToJacobian(rightView, col + i, pointGradX, pointGradY, tmp3x3, pt3.x, pt3.y, pt3.z);
+					SePointOps_F64.transformV(world_to_parent, w.worldX, w.pt3);
+					CommonOps_DDRM.mult(w.accumulatedR, jacobianSO3[i], w.tmp3x3);
+					addToJacobian(w, rightView, col + i, w.pointGradX, w.pointGradY, w.tmp3x3, w.pt3.x, w.pt3.y, w.pt3.z);
 				}
 			}
 
@@ -538,12 +547,12 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 				double sumX = 0.0;
 				double sumY = 0.0;
 				for (int j = 0; j < 3; j++) {
-					double r_ji = accumulatedR.unsafe_get(j, i);
-					sumX += r_ji*pointGradX[j];
-					sumY += r_ji*pointGradY[j];
+					double r_ji = w.accumulatedR.unsafe_get(j, i);
+					sumX += r_ji*w.pointGradX[j];
+					sumY += r_ji*w.pointGradY[j];
 				}
-				add(rightView, jacRowX, col + paramLength + i, sumX*W);
-				add(rightView, jacRowY, col + paramLength + i, sumY*W);
+				add(rightView, w.jacRowX, col + paramLength + i, sumX*W);
+				add(rightView, w.jacRowY, col + paramLength + i, sumY*W);
 			}
 
 			// If there is a parent then traverse to it next
@@ -552,8 +561,8 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 				break;
 
 			// accumulatedR = R[i,j]*R[j-1]
-			CommonOps_DDRM.mult(accumulatedR, motion.motion.R, tmp3x3);
-			accumulatedR.setTo(tmp3x3);
+			CommonOps_DDRM.mult(w.accumulatedR, motion.motion.R, w.tmp3x3);
+			w.accumulatedR.setTo(w.tmp3x3);
 		}
 	}
 
@@ -570,7 +579,7 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 		return Objects.requireNonNull(world_to_view);
 	}
 
-	private void partialRigidSE3( DMatrix leftPoint, int rigidIndex,
+	private void partialRigidSE3( Workspace w, DMatrix leftPoint, int rigidIndex,
 								  double X, double Y, double Z, double W ) {
 		int col = rigidParameterIndexes[rigidIndex] + indexFirstRigid;
 
@@ -579,56 +588,59 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 		//============== Partial of view rotation parameters
 		final int N = jac.getParameterLength();
 		for (int i = 0; i < N; i++) {
-			CommonOps_DDRM.mult(world_to_view.R, jac.getPartial(i), RR);
-			addToJacobian(leftPoint, col + i, pointGradX, pointGradY, RR, X, Y, Z);
+			CommonOps_DDRM.mult(w.world_to_view.R, jac.getPartial(i), w.RR);
+			addToJacobian(w, leftPoint, col + i, w.pointGradX, w.pointGradY, w.RR, X, Y, Z);
 		}
 
 		//============== Partial of view translation parameters
 		// Apply rotation matrix to gradX and gradY.
+		final DMatrixRMaj R = w.world_to_view.R;
+		final double[] pointGradX = w.pointGradX;
+		final double[] pointGradY = w.pointGradY;
 		// RX = gradX'*R
-		double RX0 = world_to_view.R.data[0]*pointGradX[0] + world_to_view.R.data[3]*pointGradX[1] + world_to_view.R.data[6]*pointGradX[2];
-		double RX1 = world_to_view.R.data[1]*pointGradX[0] + world_to_view.R.data[4]*pointGradX[1] + world_to_view.R.data[7]*pointGradX[2];
-		double RX2 = world_to_view.R.data[2]*pointGradX[0] + world_to_view.R.data[5]*pointGradX[1] + world_to_view.R.data[8]*pointGradX[2];
+		double RX0 = R.data[0]*pointGradX[0] + R.data[3]*pointGradX[1] + R.data[6]*pointGradX[2];
+		double RX1 = R.data[1]*pointGradX[0] + R.data[4]*pointGradX[1] + R.data[7]*pointGradX[2];
+		double RX2 = R.data[2]*pointGradX[0] + R.data[5]*pointGradX[1] + R.data[8]*pointGradX[2];
 		// RY = gradY'*R
-		double RY0 = world_to_view.R.data[0]*pointGradY[0] + world_to_view.R.data[3]*pointGradY[1] + world_to_view.R.data[6]*pointGradY[2];
-		double RY1 = world_to_view.R.data[1]*pointGradY[0] + world_to_view.R.data[4]*pointGradY[1] + world_to_view.R.data[7]*pointGradY[2];
-		double RY2 = world_to_view.R.data[2]*pointGradY[0] + world_to_view.R.data[5]*pointGradY[1] + world_to_view.R.data[8]*pointGradY[2];
-
-		set(leftPoint, jacRowX, col + N, RX0*W);
-		set(leftPoint, jacRowY, col + N, RY0*W);
-		set(leftPoint, jacRowX, col + N + 1, RX1*W);
-		set(leftPoint, jacRowY, col + N + 1, RY1*W);
-		set(leftPoint, jacRowX, col + N + 2, RX2*W);
-		set(leftPoint, jacRowY, col + N + 2, RY2*W);
+		double RY0 = R.data[0]*pointGradY[0] + R.data[3]*pointGradY[1] + R.data[6]*pointGradY[2];
+		double RY1 = R.data[1]*pointGradY[0] + R.data[4]*pointGradY[1] + R.data[7]*pointGradY[2];
+		double RY2 = R.data[2]*pointGradY[0] + R.data[5]*pointGradY[1] + R.data[8]*pointGradY[2];
+
+		set(leftPoint, w.jacRowX, col + N, RX0*W);
+		set(leftPoint, w.jacRowY, col + N, RY0*W);
+		set(leftPoint, w.jacRowX, col + N + 1, RX1*W);
+		set(leftPoint, w.jacRowY, col + N + 1, RY1*W);
+		set(leftPoint, w.jacRowX, col + N + 2, RX2*W);
+		set(leftPoint, w.jacRowY, col + N + 2, RY2*W);
 	}
 
 	/**
 	 * J[rows,col:(col+3)] =  [a;b]*R
 	 */
-	private void addToJacobian( DMatrix matrix, int col, double[] a, double[] b, DMatrixRMaj R ) {
-		set(matrix, jacRowX, col + 0, a[0]*R.data[0] + a[1]*R.data[3] + a[2]*R.data[6]);
-		set(matrix, jacRowX, col + 1, a[0]*R.data[1] + a[1]*R.data[4] + a[2]*R.data[7]);
-		set(matrix, jacRowX, col + 2, a[0]*R.data[2] + a[1]*R.data[5] + a[2]*R.data[8]);
-
-		set(matrix, jacRowY, col + 0, b[0]*R.data[0] + b[1]*R.data[3] + b[2]*R.data[6]);
-		set(matrix, jacRowY, col + 1, b[0]*R.data[1] + b[1]*R.data[4] + b[2]*R.data[7]);
-		set(matrix, jacRowY, col + 2, b[0]*R.data[2] + b[1]*R.data[5] + b[2]*R.data[8]);
+	private void addToJacobian( Workspace w, DMatrix matrix, int col, double[] a, double[] b, DMatrixRMaj R ) {
+		set(matrix, w.jacRowX, col + 0, a[0]*R.data[0] + a[1]*R.data[3] + a[2]*R.data[6]);
+		set(matrix, w.jacRowX, col + 1, a[0]*R.data[1] + a[1]*R.data[4] + a[2]*R.data[7]);
+		set(matrix, w.jacRowX, col + 2, a[0]*R.data[2] + a[1]*R.data[5] + a[2]*R.data[8]);
+
+		set(matrix, w.jacRowY, col + 0, b[0]*R.data[0] + b[1]*R.data[3] + b[2]*R.data[6]);
+		set(matrix, w.jacRowY, col + 1, b[0]*R.data[1] + b[1]*R.data[4] + b[2]*R.data[7]);
+		set(matrix, w.jacRowY, col + 2, b[0]*R.data[2] + b[1]*R.data[5] + b[2]*R.data[8]);
 	}
 
-	private void addToJacobian( DMatrix matrix, int col, double[] a, double[] b,
+	private void addToJacobian( Workspace w, DMatrix matrix, int col, double[] a, double[] b,
 								DMatrixRMaj R, double X, double Y, double Z ) {
 
 		double x = R.data[0]*X + R.data[1]*Y + R.data[2]*Z;
 		double y = R.data[3]*X + R.data[4]*Y + R.data[5]*Z;
 		double z = R.data[6]*X + R.data[7]*Y + R.data[8]*Z;
 
-		add(matrix, jacRowX, col, a[0]*x + a[1]*y + a[2]*z);
-		add(matrix, jacRowY, col, b[0]*x + b[1]*y + b[2]*z);
+		add(matrix, w.jacRowX, col, a[0]*x + a[1]*y + a[2]*z);
+		add(matrix, w.jacRowY, col, b[0]*x + b[1]*y + b[2]*z);
 	}
 
-	private void addToJacobian( DMatrix matrix, int col, double[] a, double[] b, Vector3D_F64 X ) {
-		set(matrix, jacRowX, col, a[0]*X.x + a[1]*X.y + a[2]*X.z);
-		set(matrix, jacRowY, col, b[0]*X.x + b[1]*X.y + b[2]*X.z);
+	private void addToJacobian( Workspace w, DMatrix matrix, int col, double[] a, double[] b, Vector3D_F64 X ) {
+		set(matrix, w.jacRowX, col, a[0]*X.x + a[1]*X.y + a[2]*X.z);
+		set(matrix, w.jacRowY, col, b[0]*X.x + b[1]*X.y + b[2]*X.z);
 	}
 
 	/**
@@ -668,7 +680,7 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 	}
 
 	/**
-	 * Declare storage SO3 partials in relative views
+	 * Declare storage for SO3 partials of a motion
 	 */
 	private DMatrixRMaj[] declareRotJacStorage() {
 		DMatrixRMaj[] partials = new DMatrixRMaj[jacSO3.getParameterLength()];
@@ -677,4 +689,48 @@ public abstract class BundleAdjustmentMetricSchurJacobian<M extends DMatrix>
 		}
 		return partials;
 	}
+
+	/**
+	 * Workspace for computing the partials of observations. Each thread must have its own instance.
+	 */
+	public class Workspace {
+		// Workspace for world to view transform
+		final Se3_F64 world_to_view = new Se3_F64();
+
+		// feature location in world coordinates
+		final Point3D_F64 worldPt3 = new Point3D_F64();
+		final Point4D_F64 worldPt4 = new Point4D_F64();
+		// feature location in rigid body coordinates
+		final Point3D_F64 rigidPt3 = new Point3D_F64();
+		final Point4D_F64 rigidPt4 = new Point4D_F64();
+		// feature location in camera coordinates
+		final Point3D_F64 cameraPt = new Point3D_F64();
+
+		// Jacobian matrix index of x and y partial
+		int jacRowX, jacRowY;
+
+		// Storage for gradients
+		final double[] pointGradX = new double[3];
+		final double[] pointGradY = new double[3];
+		double[] calibGradX = new double[0];
+		double[] calibGradY = new double[0];
+
+		// work space for R2*R1
+		final DMatrixRMaj RR = new DMatrixRMaj(3, 3);
+
+		final DMatrixRMaj accumulatedR = new DMatrixRMaj(3, 3);
+		final Point4D_F64 worldX = new Point4D_F64();
+		final Point3D_F64 pt3 = new Point3D_F64();
+		final DMatrixRMaj tmp3x3 = new DMatrixRMaj(3, 3);
+
+		/**
+		 * Declares storage which depends on the scene. Must be called after the Jacobian has been configured.
+		 */
+		public void configure() {
+			if (calibGradX.length != largestCameraSize) {
+				calibGradX = new double[largestCameraSize];
+				calibGradY = new double[largestCameraSize];
+			}
+		}
+	}
 }
@@ -34,14 +34,20 @@ import org.ejml.sparse.csc.CommonOps_DSCC;
  */
 public class BundleAdjustmentMetricSchurJacobian_DSCC
 		extends BundleAdjustmentMetricSchurJacobian<DMatrixSparseCSC> {
-	DMatrixSparseTriplet leftTriplet = new DMatrixSparseTriplet(1, 1, 1);
-	DMatrixSparseTriplet rightTriplet = new DMatrixSparseTriplet(1, 1, 1);
-	IGrowArray work = new IGrowArray();
+	protected final DMatrixSparseTriplet leftTriplet = new DMatrixSparseTriplet(1, 1, 1);
+	protected final DMatrixSparseTriplet rightTriplet = new DMatrixSparseTriplet(1, 1, 1);
+	protected final IGrowArray work = new IGrowArray();
 
 	@Override
 	public void process( double[] input, DMatrixSparseCSC left, DMatrixSparseCSC right ) {
 		internalProcess(input, leftTriplet, rightTriplet);
+		convertToCSC(left, right);
+	}
 
+	/**
+	 * Converts the triplet Jacobians into the output format
+	 */
+	protected void convertToCSC( DMatrixSparseCSC left, DMatrixSparseCSC right ) {
 		DConvertMatrixStruct.convert(leftTriplet, left, work);
 		DConvertMatrixStruct.convert(rightTriplet, right, work);
 
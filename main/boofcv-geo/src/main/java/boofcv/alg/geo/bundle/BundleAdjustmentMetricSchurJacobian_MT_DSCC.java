@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo.bundle;
+
+import boofcv.concurrency.BoofConcurrency;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.data.DMatrixSparseTriplet;
+import pabeles.concurrency.GrowArray;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Concurrent implementation of {@link BundleAdjustmentMetricSchurJacobian_DSCC}. Parameters which are shared
+ * between views are decoded in a single thread. Then views are split into blocks and the partials for each block
+ * are computed in a thread with its own sparse triplet matrices. The triplets are merged in the same order that
+ * the single threaded implementation would have added them, so the output is identical.
+ *
+ * Requires all the camera models to be thread safe, see {@link boofcv.abst.geo.bundle.BundleAdjustmentCamera}.
+ *
+ * @author Peter Abeles
+ */
+public class BundleAdjustmentMetricSchurJacobian_MT_DSCC extends BundleAdjustmentMetricSchurJacobian_DSCC {
+
+	// Workspace for each thread
+	protected final GrowArray<ThreadData> threadData = new GrowArray<>(ThreadData::new);
+
+	// Used to put the thread data into the order of the views
+	private final List<ThreadData> sorted = new ArrayList<>();
+
+	@Override
+	public void process( double[] input, DMatrixSparseCSC left, DMatrixSparseCSC right ) {
+		decodeParameters(input);
+
+		BoofConcurrency.loopBlocks(0, structure.views.size, threadData, ( data, idx0, idx1 ) -> {
+			data.workspace.configure();
+			data.viewIdx0 = idx0;
+			reshapeAndZero(data.left, data.right);
+			processViews(data.workspace, input, data.left, data.right, idx0, idx1);
+		});
+
+		// Combine results from all the threads in the order of the views
+		sorted.clear();
+		for (int i = 0; i < threadData.size(); i++) {
+			sorted.add(threadData.get(i));
+		}
+		sorted.sort(Comparator.comparingInt(a -> a.viewIdx0));
+
+		reshapeAndZero(leftTriplet, rightTriplet);
+		for (int i = 0; i < sorted.size(); i++) {
+			ThreadData data = sorted.get(i);
+			appendTriplet(data.left, leftTriplet);
+			appendTriplet(data.right, rightTriplet);
+		}
+
+		convertToCSC(left, right);
+	}
+
+	/**
+	 * Adds all the elements in src to the end of dst
+	 */
+	private static void appendTriplet( DMatrixSparseTriplet src, DMatrixSparseTriplet dst ) {
+		int[] rowcol = src.nz_rowcol.data;
+		double[] values = src.nz_value.data;
+		for (int i = 0; i < src.nz_length; i++) {
+			dst.addItem(rowcol[i*2], rowcol[i*2 + 1], values[i]);
+		}
+	}
+
+	/**
+	 * Storage for a single thread
+	 */
+	protected class ThreadData {
+		public final Workspace workspace = new Workspace();
+		public final DMatrixSparseTriplet left = new DMatrixSparseTriplet(1, 1, 1);
+		public final DMatrixSparseTriplet right = new DMatrixSparseTriplet(1, 1, 1);
+		// index of the first view processed by this thread
+		public int viewIdx0;
+	}
+}
@@ -0,0 +1,580 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo.bundle;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.ddogleg.struct.DogArray;
+import org.ddogleg.struct.DogArray_F64;
+import org.ddogleg.struct.DogArray_I32;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.CommonOps_DDRM;
+
+/**
+ * <p>
+ * Solves the damped normal equations for a sparse least-squares problem with the structure found in bundle
+ * adjustment, using preconditioned conjugate gradient (PCG) on the reduced system. The Schur complement is never
+ * explicitly computed. Only products of it with a vector are, using the Jacobian. Memory usage is proportional
+ * to the number of non-zero elements in the Jacobian.
+ * </p>
+ *
+ * <pre>
+ * J = [A B], A = Jacobian of points, B = Jacobian of views and cameras
+ *
+ * [ U  W ] [dA]   [-gA]    U = A'A + &lambda;D<sub>A</sub>
+ * [ W' V ] [dB] = [-gB]    V = B'B + &lambda;D<sub>B</sub>
+ *                          W = A'B
+ *
+ * S = V - W'*inv(U)*W
+ * S*dB = -gB + W'*inv(U)*gA
+ * dA = -inv(U)*(gA + W*dB)
+ * </pre>
+ *
+ * <p>
+ * U must be block diagonal, e.g. each observation only depends on one point. Blocks are found automatically by
+ * grouping adjacent columns in A that have the same sparsity pattern. The preconditioner is block-Jacobi using
+ * the block diagonal of S, where blocks are found in B the same way. Each block is typically all the parameters
+ * for a single view or camera.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SchurComplementPCG_DSCC {
+	/** Maximum number of PCG iterations */
+	@Getter @Setter int maxIterations = 500;
+
+	/** PCG stops when ||S*x-b|| &le; tolerance*||b|| */
+	@Getter @Setter double tolerance = 1e-6;
+
+	/** If true the dampening is scaled by the diagonal of J'J, otherwise by an identity matrix */
+	@Getter @Setter boolean hessianScaling = true;
+
+	/** When scaling, the diagonal is at least this large. Avoids a singular matrix */
+	@Getter @Setter double minimumDiagonal = 1e-6;
+
+	/** Number of PCG iterations in the most recent solve */
+	@Getter int iterations;
+
+	/** Relative residual ||S*x-b||/||b|| of the reduced system after the most recent solve */
+	@Getter double relativeResidual;
+
+	/** True if PCG reached the tolerance in the most recent solve */
+	@Getter boolean converged;
+
+	// Left and right side of the Jacobian
+	DMatrixSparseCSC A, B;
+
+	// Index of the first column in each block. Last element is the number of columns
+	final DogArray_I32 blocksA = new DogArray_I32();
+	final DogArray_I32 blocksB = new DogArray_I32();
+	// Offset in the flattened array of each block's matrix
+	final DogArray_I32 offsetsA = new DogArray_I32();
+	final DogArray_I32 offsetsB = new DogArray_I32();
+
+	// Undamped block diagonal of A'A and B'B
+	final DogArray_F64 gramA = new DogArray_F64();
+	final DogArray_F64 gramB = new DogArray_F64();
+	// Diagonal elements of A'A and B'B
+	final DogArray_F64 diagA = new DogArray_F64();
+	final DogArray_F64 diagB = new DogArray_F64();
+
+	// Inverse of each block in U
+	final DogArray_F64 inverseU = new DogArray_F64();
+	// Inverse of each block in the block diagonal of S, i.e. the preconditioner
+	final DogArray_F64 inversePrecon = new DogArray_F64();
+
+	// For each row, which block in A does it belong to and what's its index in the block's sparsity pattern
+	final DogArray_I32 rowBlockA = new DogArray_I32();
+	final DogArray_I32 rowPositionA = new DogArray_I32();
+
+	// Workspace for computing blocks in S
+	final DogArray_I32 blockToActive = new DogArray_I32();
+	final DogArray_I32 activeBlocks = new DogArray_I32();
+	final DogArray<DMatrixRMaj> activeW = new DogArray<>(DMatrixRMaj::new);
+	final DMatrixRMaj block = new DMatrixRMaj(1, 1);
+	final DMatrixRMaj blockInv = new DMatrixRMaj(1, 1);
+
+	// Vectors used in PCG
+	final DogArray_F64 b = new DogArray_F64();
+	final DogArray_F64 x = new DogArray_F64();
+	final DogArray_F64 r = new DogArray_F64();
+	final DogArray_F64 z = new DogArray_F64();
+	final DogArray_F64 p = new DogArray_F64();
+	final DogArray_F64 q = new DogArray_F64();
+	final DogArray_F64 tmpA = new DogArray_F64();
+	final DogArray_F64 tmpA2 = new DogArray_F64();
+	final DogArray_F64 tmpM0 = new DogArray_F64();
+	final DogArray_F64 tmpM1 = new DogArray_F64();
+
+	/**
+	 * Specifies the Jacobian. Block structure is found and the block diagonal of J'J is computed.
+	 *
+	 * @param left Left side of the Jacobian. Partials for points. Not modified.
+	 * @param right Right side of the Jacobian. Partials for views and cameras. Not modified.
+	 */
+	public void setJacobian( DMatrixSparseCSC left, DMatrixSparseCSC right ) {
+		if (left.numRows != right.numRows)
+			throw new IllegalArgumentException("Left and right must have the same number of rows");
+		if (!left.indicesSorted)
+			left.sortIndices(null);
+		if (!right.indicesSorted)
+			right.sortIndices(null);
+
+		this.A = left;
+		this.B = right;
+
+		findBlocks(A, blocksA, offsetsA);
+		findBlocks(B, blocksB, offsetsB);
+
+		computeGram(A, blocksA, offsetsA, gramA, diagA);
+		computeGram(B, blocksB, offsetsB, gramB, diagB);
+
+		// Look up table from row to the block in A
+		rowBlockA.resize(A.numRows, -1);
+		rowPositionA.resize(A.numRows);
+		for (int blockIdx = 0; blockIdx < blocksA.size - 1; blockIdx++) {
+			int col = blocksA.data[blockIdx];
+			int idx0 = A.col_idx[col];
+			int idx1 = A.col_idx[col + 1];
+			for (int idx = idx0; idx < idx1; idx++) {
+				int row = A.nz_rows[idx];
+				if (rowBlockA.data[row] != -1)
+					throw new IllegalArgumentException("Left side of the Jacobian is not block diagonal. row=" + row);
+				rowBlockA.data[row] = blockIdx;
+				rowPositionA.data[row] = idx - idx0;
+			}
+		}
+	}
+
+	/**
+	 * Computes the gradient J'*f
+	 *
+	 * @param residuals (Input) residuals f. Length = number of rows
+	 * @param gradient (Output) gradient. Length = number of columns in A and B.
+	 */
+	public void computeGradient( double[] residuals, double[] gradient ) {
+		multTransA(A, residuals, gradient, 0);
+		multTransA(B, residuals, gradient, A.numCols);
+	}
+
+	/**
+	 * Solves for the step in the damped normal equations, (J'J + &lambda;D)*step = -gradient
+	 *
+	 * @param lambda Dampening parameter
+	 * @param gradient (Input) gradient J'*f
+	 * @param step (Output) step
+	 */
+	public void solve( double lambda, double[] gradient, double[] step ) {
+		final int numA = A.numCols;
+		final int numB = B.numCols;
+
+		computeInverseU(lambda);
+		computePreconditioner(lambda);
+
+		b.resize(numB);
+		x.resize(numB);
+		r.resize(numB);
+		z.resize(numB);
+		p.resize(numB);
+		q.resize(numB);
+		tmpA.resize(numA);
+		tmpA2.resize(numA);
+		tmpM0.resize(A.numRows);
+		tmpM1.resize(A.numRows);
+
+		// b = -gB + W'*inv(U)*gA = -gB + B'*A*inv(U)*gA
+		multBlocks(blocksA, offsetsA, inverseU, gradient, 0, tmpA.data);
+		multA(A, tmpA.data, 0, tmpM0.data);
+		multTransA(B, tmpM0.data, b.data, 0);
+		for (int i = 0; i < numB; i++) {
+			b.data[i] -= gradient[numA + i];
+		}
+
+		conjugateGradient(lambda);
+
+		// dA = -inv(U)*(gA + W*dB) = -inv(U)*(gA + A'*B*dB)
+		multA(B, x.data, 0, tmpM0.data);
+		multTransA(A, tmpM0.data, tmpA.data, 0);
+		for (int i = 0; i < numA; i++) {
+			tmpA.data[i] += gradient[i];
+		}
+		multBlocks(blocksA, offsetsA, inverseU, tmpA.data, 0, step);
+		for (int i = 0; i < numA; i++) {
+			step[i] = -step[i];
+		}
+		System.arraycopy(x.data, 0, step, numA, numB);
+	}
+
+	/**
+	 * Computes the reduction in cost predicted by the linear model, -g'*step - 0.5*||J*step||<sup>2</sup>.
+	 * Since the step is only approximately solved for this is computed directly from the Jacobian.
+	 */
+	public double predictedReduction( double[] gradient, double[] step ) {
+		tmpM0.resize(A.numRows);
+		multA(A, step, 0, tmpM0.data);
+		tmpM1.resize(A.numRows);
+		multA(B, step, A.numCols, tmpM1.data);
+
+		double normJ = 0.0;
+		for (int i = 0; i < A.numRows; i++) {
+			double v = tmpM0.data[i] + tmpM1.data[i];
+			normJ += v*v;
+		}
+		double dot = 0.0;
+		int N = A.numCols + B.numCols;
+		for (int i = 0; i < N; i++) {
+			dot += gradient[i]*step[i];
+		}
+		return -dot - 0.5*normJ;
+	}
+
+	/**
+	 * Solves S*x = b using PCG
+	 */
+	void conjugateGradient( double lambda ) {
+		final int N = b.size;
+		final double[] x = this.x.data, r = this.r.data, z = this.z.data, p = this.p.data, q = this.q.data;
+
+		double normB = Math.sqrt(dot(b.data, b.data, N));
+		iterations = 0;
+		converged = true;
+		relativeResidual = 0.0;
+		if (normB == 0.0) {
+			this.x.fill(0.0);
+			return;
+		}
+
+		this.x.fill(0.0);
+		System.arraycopy(b.data, 0, r, 0, N);
+		multBlocks(blocksB, offsetsB, inversePrecon, r, 0, z);
+		System.arraycopy(z, 0, p, 0, N);
+		double rz = dot(r, z, N);
+
+		converged = false;
+		relativeResidual = 1.0;
+		while (iterations < maxIterations) {
+			multiplySchur(lambda, p, q);
+			double pq = dot(p, q, N);
+			// S should be positive definite. Numerical issues if it's not
+			if (pq <= 0.0)
+				break;
+			double alpha = rz/pq;
+			for (int i = 0; i < N; i++) {
+				x[i] += alpha*p[i];
+				r[i] -= alpha*q[i];
+			}
+			iterations++;
+
+			relativeResidual = Math.sqrt(dot(r, r, N))/normB;
+			if (relativeResidual <= tolerance) {
+				converged = true;
+				break;
+			}
+
+			multBlocks(blocksB, offsetsB, inversePrecon, r, 0, z);
+			double rzNext = dot(r, z, N);
+			double beta = rzNext/rz;
+			rz = rzNext;
+			for (int i = 0; i < N; i++) {
+				p[i] = z[i] + beta*p[i];
+			}
+		}
+	}
+
+	/**
+	 * Computes output = S*input without forming S
+	 *
+	 * <pre>
+	 * S*x = B'*B*x + &lambda;D<sub>B</sub>*x - B'*A*inv(U)*A'*B*x
+	 *     = B'*(y - A*inv(U)*A'*y) + &lambda;D<sub>B</sub>*x, where y = B*x
+	 * </pre>
+	 */
+	void multiplySchur( double lambda, double[] input, double[] output ) {
+		final double[] y = tmpM0.data;
+		final double[] u = tmpM1.data;
+
+		multA(B, input, 0, y);
+		multTransA(A, y, tmpA.data, 0);
+		multBlocks(blocksA, offsetsA, inverseU, tmpA.data, 0, tmpA2.data);
+		multA(A, tmpA2.data, 0, u);
+		for (int i = 0; i < A.numRows; i++) {
+			y[i] -= u[i];
+		}
+		multTransA(B, y, output, 0);
+		for (int i = 0; i < B.numCols; i++) {
+			output[i] += lambda*damping(diagB.data[i])*input[i];
+		}
+	}
+
+	/**
+	 * Inverts each block in U = A'A + &lambda;D<sub>A</sub>
+	 */
+	void computeInverseU( double lambda ) {
+		inverseU.resize(gramA.size);
+		for (int blockIdx = 0; blockIdx < blocksA.size - 1; blockIdx++) {
+			int col0 = blocksA.data[blockIdx];
+			int n = blocksA.data[blockIdx + 1] - col0;
+			int offset = offsetsA.data[blockIdx];
+
+			block.reshape(n, n);
+			System.arraycopy(gramA.data, offset, block.data, 0, n*n);
+			for (int i = 0; i < n; i++) {
+				block.data[i*n + i] += lambda*damping(diagA.data[col0 + i]);
+			}
+			invertBlock(block, inverseU.data, offset);
+		}
+	}
+
+	/**
+	 * Computes the inverse of each block in the block diagonal of S. For view block j:
+	 * S<sub>jj</sub> = V<sub>jj</sub> - &sum;<sub>i</sub> W<sub>ij</sub>'*inv(U<sub>i</sub>)*W<sub>ij</sub>
+	 */
+	void computePreconditioner( double lambda ) {
+		inversePrecon.resize(gramB.size);
+		blockToActive.resize(blocksA.size, -1);
+
+		for (int blockIdx = 0; blockIdx < blocksB.size - 1; blockIdx++) {
+			int col0 = blocksB.data[blockIdx];
+			int n = blocksB.data[blockIdx + 1] - col0;
+			int offset = offsetsB.data[blockIdx];
+
+			block.reshape(n, n);
+			System.arraycopy(gramB.data, offset, block.data, 0, n*n);
+			for (int i = 0; i < n; i++) {
+				block.data[i*n + i] += lambda*damping(diagB.data[col0 + i]);
+			}
+
+			// Compute W[i,j] = A[:,i]'*B[:,j] for all point blocks i which share rows with this block
+			activeBlocks.reset();
+			activeW.reset();
+			int idx0B = B.col_idx[col0];
+			int idx1B = B.col_idx[col0 + 1];
+			for (int idxB = idx0B; idxB < idx1B; idxB++) {
+				int row = B.nz_rows[idxB];
+				int blockA = rowBlockA.data[row];
+				if (blockA < 0)
+					continue;
+				int colA0 = blocksA.data[blockA];
+				int nA = blocksA.data[blockA + 1] - colA0;
+
+				int active = blockToActive.data[blockA];
+				DMatrixRMaj W;
+				if (active < 0) {
+					blockToActive.data[blockA] = activeBlocks.size;
+					activeBlocks.add(blockA);
+					W = activeW.grow();
+					W.reshape(nA, n);
+					W.zero();
+				} else {
+					W = activeW.get(active);
+				}
+
+				int positionA = rowPositionA.data[row];
+				int positionB = idxB - idx0B;
+				for (int i = 0; i < nA; i++) {
+					double valueA = A.nz_values[A.col_idx[colA0 + i] + positionA];
+					for (int j = 0; j < n; j++) {
+						W.data[i*n + j] += valueA*B.nz_values[B.col_idx[col0 + j] + positionB];
+					}
+				}
+			}
+
+			// S[j,j] -= W'*inv(U)*W
+			for (int activeIdx = 0; activeIdx < activeBlocks.size; activeIdx++) {
+				int blockA = activeBlocks.data[activeIdx];
+				blockToActive.data[blockA] = -1;
+				DMatrixRMaj W = activeW.get(activeIdx);
+				int nA = W.numRows;
+				int offsetU = offsetsA.data[blockA];
+
+				for (int i = 0; i < n; i++) {
+					for (int j = i; j < n; j++) {
+						double sum = 0.0;
+						for (int k = 0; k < nA; k++) {
+							double wki = W.data[k*n + i];
+							if (wki == 0.0)
+								continue;
+							for (int l = 0; l < nA; l++) {
+								sum += wki*inverseU.data[offsetU + k*nA + l]*W.data[l*n + j];
+							}
+						}
+						block.data[i*n + j] -= sum;
+						if (i != j)
+							block.data[j*n + i] -= sum;
+					}
+				}
+			}
+
+			invertBlock(block, inversePrecon.data, offset);
+		}
+	}
+
+	/**
+	 * Inverts a symmetric positive definite block and saves the results. If it's singular then only the diagonal
+	 * elements are inverted.
+	 */
+	void invertBlock( DMatrixRMaj block, double[] output, int offset ) {
+		int n = block.numRows;
+		blockInv.reshape(n, n);
+		if (CommonOps_DDRM.invert(block, blockInv)) {
+			System.arraycopy(blockInv.data, 0, output, offset, n*n);
+		} else {
+			for (int i = 0; i < n; i++) {
+				for (int j = 0; j < n; j++) {
+					double v = block.data[i*n + j];
+					output[offset + i*n + j] = (i == j && v != 0.0) ? 1.0/v : 0.0;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Value along the diagonal of the dampening matrix D
+	 */
+	double damping( double diagonal ) {
+		return hessianScaling ? Math.max(diagonal, minimumDiagonal) : 1.0;
+	}
+
+	/**
+	 * Groups adjacent columns which have identical sparsity patterns into blocks. Empty columns are always put
+	 * into their own block.
+	 */
+	static void findBlocks( DMatrixSparseCSC M, DogArray_I32 blocks, DogArray_I32 offsets ) {
+		blocks.reset();
+		offsets.reset();
+		for (int col = 0; col < M.numCols; col++) {
+			if (col == 0 || !isSamePattern(M, col - 1, col))
+				blocks.add(col);
+		}
+		blocks.add(M.numCols);
+
+		int offset = 0;
+		for (int blockIdx = 0; blockIdx < blocks.size - 1; blockIdx++) {
+			int n = blocks.data[blockIdx + 1] - blocks.data[blockIdx];
+			offsets.add(offset);
+			offset += n*n;
+		}
+		offsets.add(offset);
+	}
+
+	/**
+	 * True if the two columns have the same non-zero rows and are not empty
+	 */
+	static boolean isSamePattern( DMatrixSparseCSC M, int colA, int colB ) {
+		int idxA = M.col_idx[colA];
+		int idxB = M.col_idx[colB];
+		int length = M.col_idx[colA + 1] - idxA;
+		if (length == 0 || length != M.col_idx[colB + 1] - idxB)
+			return false;
+		for (int i = 0; i < length; i++) {
+			if (M.nz_rows[idxA + i] != M.nz_rows[idxB + i])
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the block diagonal of M'M. Columns in the same block have the same sparsity pattern.
+	 */
+	static void computeGram( DMatrixSparseCSC M, DogArray_I32 blocks, DogArray_I32 offsets,
+							 DogArray_F64 gram, DogArray_F64 diag ) {
+		gram.resize(offsets.get(offsets.size - 1));
+		diag.resize(M.numCols);
+		for (int blockIdx = 0; blockIdx < blocks.size - 1; blockIdx++) {
+			int col0 = blocks.data[blockIdx];
+			int n = blocks.data[blockIdx + 1] - col0;
+			int offset = offsets.data[blockIdx];
+			int length = M.col_idx[col0 + 1] - M.col_idx[col0];
+
+			for (int i = 0; i < n; i++) {
+				int idxI = M.col_idx[col0 + i];
+				for (int j = i; j < n; j++) {
+					int idxJ = M.col_idx[col0 + j];
+					double sum = 0.0;
+					for (int k = 0; k < length; k++) {
+						sum += M.nz_values[idxI + k]*M.nz_values[idxJ + k];
+					}
+					gram.data[offset + i*n + j] = sum;
+					gram.data[offset + j*n + i] = sum;
+				}
+				diag.data[col0 + i] = gram.data[offset + i*n + i];
+			}
+		}
+	}
+
+	/**
+	 * output = M*input[offset:]
+	 */
+	static void multA( DMatrixSparseCSC M, double[] input, int offset, double[] output ) {
+		for (int row = 0; row < M.numRows; row++) {
+			output[row] = 0.0;
+		}
+		for (int col = 0; col < M.numCols; col++) {
+			double v = input[offset + col];
+			if (v == 0.0)
+				continue;
+			int idx1 = M.col_idx[col + 1];
+			for (int idx = M.col_idx[col]; idx < idx1; idx++) {
+				output[M.nz_rows[idx]] += M.nz_values[idx]*v;
+			}
+		}
+	}
+
+	/**
+	 * output[offset:] = M'*input
+	 */
+	static void multTransA( DMatrixSparseCSC M, double[] input, double[] output, int offset ) {
+		for (int col = 0; col < M.numCols; col++) {
+			double sum = 0.0;
+			int idx1 = M.col_idx[col + 1];
+			for (int idx = M.col_idx[col]; idx < idx1; idx++) {
+				sum += M.nz_values[idx]*input[M.nz_rows[idx]];
+			}
+			output[offset + col] = sum;
+		}
+	}
+
+	/**
+	 * output = blockDiag*input[offset:]
+	 */
+	static void multBlocks( DogArray_I32 blocks, DogArray_I32 offsets, DogArray_F64 matrices,
+							double[] input, int offset, double[] output ) {
+		for (int blockIdx = 0; blockIdx < blocks.size - 1; blockIdx++) {
+			int col0 = blocks.data[blockIdx];
+			int n = blocks.data[blockIdx + 1] - col0;
+			int index = offsets.data[blockIdx];
+			for (int i = 0; i < n; i++) {
+				double sum = 0.0;
+				for (int j = 0; j < n; j++) {
+					sum += matrices.data[index++]*input[offset + col0 + j];
+				}
+				output[col0 + i] = sum;
+			}
+		}
+	}
+
+	static double dot( double[] a, double[] b, int length ) {
+		double sum = 0.0;
+		for (int i = 0; i < length; i++) {
+			sum += a[i]*b[i];
+		}
+		return sum;
+	}
+}
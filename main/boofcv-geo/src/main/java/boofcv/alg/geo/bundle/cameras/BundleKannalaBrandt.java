@@ -46,13 +46,6 @@ public class BundleKannalaBrandt implements BundleAdjustmentCamera {
 	// Number of degrees of freedom in the model
 	int dof;
 
-	// Storage for asymmetric distortion polynomial results
-	double polyRad, polyRadTrig; // model.radial and model.radialTrig
-	double polyTan, polyTanTrig; // model.tangent and model.tangentTrig
-
-	// Gradient of polyTrig function generated by differentiated by coefficients
-	double[] polyTrigGradient = new double[4];
-
 	public BundleKannalaBrandt( CameraKannalaBrandt model ) {
 		configure(model.skew == 0.0, model.symmetric.length, model.radial.length);
 		this.model.setTo(model);
@@ -215,6 +208,10 @@ public class BundleKannalaBrandt implements BundleAdjustmentCamera {
 		double distX = r*cosphi;
 		double distY = r*sinphi;
 
+		// Storage for asymmetric distortion polynomial results. Local variables so that this function is thread safe
+		double polyRad = 0.0, polyRadTrig = 0.0; // model.radial and model.radialTrig
+		double polyTan = 0.0, polyTanTrig = 0.0; // model.tangent and model.tangentTrig
+
 		// Add asymmetric component
 		if (isAsymmetric) {
 			double polyRad_dTheta = polynomialDerivative(model.radial, theta);
@@ -308,6 +305,8 @@ public class BundleKannalaBrandt implements BundleAdjustmentCamera {
 		if (!isAsymmetric)
 			return;
 
+		// Gradient of polyTrig function generated by differentiated by coefficients
+		double[] polyTrigGradient = new double[4];
 		polytrigGradient(cosphi, sinphi, polyTrigGradient);
 
 		double powr = theta;
@@ -0,0 +1,505 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo.robust;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.misc.BoofMiscOps;
+import lombok.Getter;
+import lombok.Setter;
+import org.ddogleg.fitting.modelset.DistanceFromModel;
+import org.ddogleg.fitting.modelset.ModelGenerator;
+import org.ddogleg.fitting.modelset.ModelManager;
+import org.ddogleg.fitting.modelset.ModelMatcher;
+import org.ddogleg.struct.DogArray_I32;
+import org.ddogleg.struct.Factory;
+import org.jetbrains.annotations.Nullable;
+import pabeles.concurrency.GrowArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * <p>
+ * RANSAC with adaptive termination and early rejection of hypotheses using a Sequential Probability Ratio
+ * Test (SPRT) [1]. Works with any {@link ModelGenerator} and {@link DistanceFromModel}.
+ * </p>
+ *
+ * <ul>
+ *     <li>Adaptive termination: The number of iterations is recomputed each time a better model is found
+ *     so that with probability {@link #confidence} at least one all inlier sample has been drawn. Never more than
+ *     {@link #maxIterations} are performed.</li>
+ *     <li>SPRT: Points are evaluated in a random order. After each point the likelihood ratio of the hypothesis
+ *     being "bad" vs "good" is updated and the hypothesis is discarded once it exceeds a threshold. The threshold
+ *     is adjusted as estimates of the inlier ratio and the fraction of points consistent with bad models
+ *     improve.</li>
+ *     <li>Batches: Hypotheses are generated and scored in batches. The samples are drawn before the batch is
+ *     scored and the test's parameters are only updated between batches. If {@link #concurrent} is true then
+ *     each batch is scored across threads and the results are identical to the single threaded case.</li>
+ * </ul>
+ *
+ * <p>
+ * [1] Chum, Ondrej, and Jiri Matas. "Optimal randomized RANSAC." IEEE Transactions on Pattern Analysis
+ * and Machine Intelligence 30.8 (2008): 1472-1482.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"NullAway.Init"})
+public class RansacAdaptive<Model, Point> implements ModelMatcher<Model, Point> {
+	// Status for each hypothesis in a batch
+	protected static final int FAILED = 0;
+	protected static final int ACCEPTED = 1;
+	protected static final int REJECTED_SPRT = 2;
+	protected static final int REJECTED_BOUND = 3;
+
+	/** Maximum number of iterations (hypotheses) which will be considered */
+	@Getter @Setter protected int maxIterations;
+
+	/** Points with a distance less than this are inliers */
+	@Getter @Setter protected double thresholdFit;
+
+	/** Probability that an all inlier sample was drawn when it terminates. If &le; 0 then it's not adaptive. */
+	@Getter @Setter protected double confidence = 0.99;
+
+	/** If true then SPRT will be used to discard hypotheses before all the points have been evaluated */
+	@Getter @Setter protected boolean sprt = true;
+
+	/** Cost of generating a hypothesis relative to evaluating the distance for a single point */
+	@Getter @Setter protected double sprtTimeModel = 200.0;
+
+	/** Initial estimate of the fraction of points which are inliers */
+	@Getter @Setter protected double sprtInitialEpsilon = 0.1;
+
+	/** Initial estimate of the fraction of points which are consistent with a bad model */
+	@Getter @Setter protected double sprtInitialDelta = 0.01;
+
+	/** Number of hypotheses in each batch */
+	@Getter @Setter protected int batchSize = 50;
+
+	/** If true then hypotheses in a batch will be scored concurrently */
+	@Getter @Setter protected boolean concurrent = false;
+
+	/** Number of hypotheses that were generated in the most recent call to process */
+	@Getter protected int iterationsPerformed;
+
+	/** Number of hypotheses which were rejected by SPRT in the most recent call to process */
+	@Getter protected int totalRejectedSprt;
+
+	protected final long randSeed;
+	protected Random rand;
+
+	protected final ModelManager<Model> modelManager;
+	protected final Factory<ModelGenerator<Model, Point>> factoryGenerator;
+	protected final Factory<DistanceFromModel<Model, Point>> factoryDistance;
+
+	// Number of points needed to generate a hypothesis
+	protected final int sampleSize;
+
+	// Worker used in single threaded code and when computing the final match set
+	protected final Worker serialWorker;
+	protected final GrowArray<Worker> workers;
+
+	// the points being processed
+	protected List<Point> dataSet;
+	// order that points are evaluated in. Randomized so that SPRT isn't biased by how the input is ordered
+	protected final DogArray_I32 order = new DogArray_I32();
+	// indexes of points in each sample in the current batch
+	protected final DogArray_I32 samples = new DogArray_I32();
+	// used to draw a sample without replacement
+	protected final DogArray_I32 shuffle = new DogArray_I32();
+
+	// Results for each hypothesis in a batch
+	protected final DogArray_I32 hypothesisStatus = new DogArray_I32();
+	protected final DogArray_I32 hypothesisConsistent = new DogArray_I32();
+	protected final DogArray_I32 hypothesisTested = new DogArray_I32();
+
+	// Current parameters for SPRT
+	protected double epsilon, delta, decisionA;
+	protected double ratioConsistent, ratioInconsistent;
+
+	// Statistics from hypotheses rejected by SPRT, used to estimate delta
+	protected long rejectedConsistent, rejectedTested;
+
+	// Best model found so far
+	protected final Model bestModel;
+	protected int bestInliers;
+
+	// Points which match the best model and their index in the input list
+	protected final List<Point> matchSet = new ArrayList<>();
+	protected final DogArray_I32 matchToInput = new DogArray_I32();
+
+	public RansacAdaptive( long randSeed, int maxIterations, double thresholdFit,
+						   ModelManager<Model> modelManager,
+						   Factory<ModelGenerator<Model, Point>> factoryGenerator,
+						   Factory<DistanceFromModel<Model, Point>> factoryDistance ) {
+		this.randSeed = randSeed;
+		this.rand = new Random(randSeed);
+		this.maxIterations = maxIterations;
+		this.thresholdFit = thresholdFit;
+		this.modelManager = modelManager;
+		this.factoryGenerator = factoryGenerator;
+		this.factoryDistance = factoryDistance;
+		this.bestModel = modelManager.createModelInstance();
+		this.serialWorker = new Worker();
+		this.workers = new GrowArray<>(Worker::new);
+		this.sampleSize = serialWorker.generator.getMinimumPoints();
+	}
+
+	@Override
+	public boolean process( List<Point> dataSet ) {
+		BoofMiscOps.checkTrue(batchSize > 0, "batchSize must be positive");
+
+		this.dataSet = dataSet;
+		matchSet.clear();
+		matchToInput.reset();
+		bestInliers = 0;
+		iterationsPerformed = 0;
+		totalRejectedSprt = 0;
+
+		final int N = dataSet.size();
+		if (N < sampleSize)
+			return false;
+
+		// Randomize the order points are evaluated in
+		order.resize(N);
+		for (int i = 0; i < N; i++) {
+			order.data[i] = i;
+		}
+		for (int i = N - 1; i > 0; i--) {
+			int selected = rand.nextInt(i + 1);
+			int tmp = order.data[i];
+			order.data[i] = order.data[selected];
+			order.data[selected] = tmp;
+		}
+
+		epsilon = sprtInitialEpsilon;
+		delta = sprtInitialDelta;
+		rejectedConsistent = 0;
+		rejectedTested = 0;
+		updateDecisionThreshold();
+
+		int requiredIterations = maxIterations;
+		while (iterationsPerformed < requiredIterations) {
+			int batch = Math.min(batchSize, requiredIterations - iterationsPerformed);
+			drawSamples(batch);
+			scoreBatch(batch);
+			boolean improved = selectBestInBatch(batch);
+			iterationsPerformed += batch;
+
+			if (sprt)
+				updateSprtParameters(improved);
+			if (improved)
+				requiredIterations = computeRequiredIterations();
+		}
+
+		if (bestInliers < sampleSize)
+			return false;
+
+		selectMatchSet();
+		return true;
+	}
+
+	/**
+	 * Randomly draws the points used to create each hypothesis in the batch. All the random numbers are generated
+	 * here so that results don't depend on how the batch is split up
+	 */
+	protected void drawSamples( int batch ) {
+		final int N = dataSet.size();
+		shuffle.resize(N);
+		for (int i = 0; i < N; i++) {
+			shuffle.data[i] = i;
+		}
+
+		samples.resize(batch*sampleSize);
+		for (int hypothesis = 0; hypothesis < batch; hypothesis++) {
+			// partial Fisher-Yates shuffle
+			for (int i = 0; i < sampleSize; i++) {
+				int selected = i + rand.nextInt(N - i);
+				int tmp = shuffle.data[i];
+				shuffle.data[i] = shuffle.data[selected];
+				shuffle.data[selected] = tmp;
+				samples.data[hypothesis*sampleSize + i] = shuffle.data[i];
+			}
+		}
+	}
+
+	/**
+	 * Generates and scores every hypothesis in the batch
+	 */
+	protected void scoreBatch( int batch ) {
+		hypothesisStatus.resize(batch);
+		hypothesisConsistent.resize(batch);
+		hypothesisTested.resize(batch);
+
+		if (concurrent) {
+			BoofConcurrency.loopBlocks(0, batch, workers, ( worker, idx0, idx1 ) -> worker.score(idx0, idx1));
+		} else {
+			workers.reset();
+			serialWorker.score(0, batch);
+		}
+	}
+
+	/**
+	 * Selects the best model from all the workers. Ties are broken by selecting the hypothesis which was
+	 * generated first.
+	 *
+	 * @return true if a better model was found
+	 */
+	protected boolean selectBestInBatch( int batch ) {
+		@Nullable Worker best = null;
+		if (concurrent) {
+			for (int i = 0; i < workers.size(); i++) {
+				best = selectBetter(best, workers.get(i));
+			}
+		} else {
+			best = selectBetter(null, serialWorker);
+		}
+
+		// Gather statistics from hypotheses which were rejected by SPRT
+		for (int i = 0; i < batch; i++) {
+			if (hypothesisStatus.data[i] != REJECTED_SPRT)
+				continue;
+			totalRejectedSprt++;
+			rejectedConsistent += hypothesisConsistent.data[i];
+			rejectedTested += hypothesisTested.data[i];
+		}
+
+		if (best == null || best.batchBestInliers <= bestInliers)
+			return false;
+
+		bestInliers = best.batchBestInliers;
+		modelManager.copyModel(best.batchBestModel, bestModel);
+		return true;
+	}
+
+	private @Nullable Worker selectBetter( @Nullable Worker best, Worker candidate ) {
+		if (candidate.batchBestHypothesis < 0)
+			return best;
+		if (best == null || candidate.batchBestInliers > best.batchBestInliers)
+			return candidate;
+		if (candidate.batchBestInliers == best.batchBestInliers &&
+				candidate.batchBestHypothesis < best.batchBestHypothesis)
+			return candidate;
+		return best;
+	}
+
+	/**
+	 * Updates the estimates of epsilon and delta then recomputes the decision threshold
+	 *
+	 * @param improved true if a better model was found in the last batch
+	 */
+	protected void updateSprtParameters( boolean improved ) {
+		boolean changed = false;
+		if (improved) {
+			epsilon = bestInliers/(double)dataSet.size();
+			changed = true;
+		}
+		if (rejectedTested > 0) {
+			double estimated = Math.max(1e-6, rejectedConsistent/(double)rejectedTested);
+			// only update when it's changed by a significant amount, as suggested in the paper
+			if (Math.abs(estimated - delta) > 0.05*delta) {
+				delta = estimated;
+				changed = true;
+			}
+		}
+		if (changed)
+			updateDecisionThreshold();
+	}
+
+	/**
+	 * Computes the SPRT decision threshold A using the recursive formula in [1]
+	 */
+	protected void updateDecisionThreshold() {
+		// The test is only meaningful if bad models are consistent with fewer points than good models
+		if (!sprt || delta >= epsilon) {
+			decisionA = Double.MAX_VALUE;
+			ratioConsistent = ratioInconsistent = 1.0;
+			return;
+		}
+
+		ratioConsistent = delta/epsilon;
+		ratioInconsistent = (1.0 - delta)/(1.0 - epsilon);
+
+		double C = (1.0 - delta)*Math.log((1.0 - delta)/(1.0 - epsilon)) + delta*Math.log(delta/epsilon);
+		double K = sprtTimeModel/C;
+		double A = K + 1.0;
+		for (int i = 0; i < 20; i++) {
+			double next = K + 1.0 + Math.log(A);
+			if (Math.abs(next - A) <= 1e-6*A) {
+				A = next;
+				break;
+			}
+			A = next;
+		}
+		decisionA = A;
+	}
+
+	/**
+	 * Number of iterations needed to draw an all inlier sample with the specified confidence given the
+	 * current best estimate of the inlier ratio.
+	 */
+	protected int computeRequiredIterations() {
+		if (confidence <= 0.0 || confidence >= 1.0)
+			return maxIterations;
+
+		double inlierRatio = bestInliers/(double)dataSet.size();
+		double probGoodSample = Math.pow(inlierRatio, sampleSize);
+		// a good hypothesis can be incorrectly rejected by SPRT with a probability of at most 1/A
+		if (sprt && decisionA != Double.MAX_VALUE)
+			probGoodSample *= 1.0 - 1.0/decisionA;
+
+		if (probGoodSample <= 0.0)
+			return maxIterations;
+		if (probGoodSample >= 1.0)
+			return Math.min(maxIterations, 1);
+
+		double required = Math.ceil(Math.log(1.0 - confidence)/Math.log1p(-probGoodSample));
+		return (int)Math.min(maxIterations, Math.max(1.0, required));
+	}
+
+	/**
+	 * Finds all the points which are inliers to the best model. Points are in the same order as the input
+	 */
+	protected void selectMatchSet() {
+		serialWorker.prepare();
+		DistanceFromModel<Model, Point> distance = serialWorker.distance;
+		distance.setModel(bestModel);
+		for (int i = 0; i < dataSet.size(); i++) {
+			Point p = dataSet.get(i);
+			if (distance.distance(p) < thresholdFit) {
+				matchSet.add(p);
+				matchToInput.add(i);
+			}
+		}
+	}
+
+	/**
+	 * Called before a worker is used so that the distance function can be configured
+	 */
+	protected void configureDistance( DistanceFromModel<Model, Point> distance ) {}
+
+	@Override public Model getModelParameters() {return bestModel;}
+
+	@Override public List<Point> getMatchSet() {return matchSet;}
+
+	@Override public int getInputIndex( int matchIndex ) {return matchToInput.get(matchIndex);}
+
+	/**
+	 * Number of inliers in the best model
+	 */
+	@Override public double getFitQuality() {return bestInliers;}
+
+	@Override public int getMinimumSize() {return sampleSize;}
+
+	@Override public void reset() {rand = new Random(randSeed);}
+
+	@Override public Class<Point> getPointType() {return serialWorker.distance.getPointType();}
+
+	@Override public Class<Model> getModelType() {return serialWorker.distance.getModelType();}
+
+	/**
+	 * Everything needed to generate and score hypotheses in a single thread
+	 */
+	protected class Worker {
+		public final ModelGenerator<Model, Point> generator = factoryGenerator.newInstance();
+		public final DistanceFromModel<Model, Point> distance = factoryDistance.newInstance();
+		public final List<Point> sample = new ArrayList<>();
+		public final Model hypothesis = modelManager.createModelInstance();
+
+		// best hypothesis scored by this worker in the current batch
+		public final Model batchBestModel = modelManager.createModelInstance();
+		public int batchBestHypothesis;
+		public int batchBestInliers;
+
+		public void prepare() {
+			configureDistance(distance);
+		}
+
+		/**
+		 * Generates and scores hypotheses in the specified range
+		 */
+		public void score( int idx0, int idx1 ) {
+			prepare();
+			batchBestHypothesis = -1;
+			batchBestInliers = 0;
+
+			for (int hypothesisIdx = idx0; hypothesisIdx < idx1; hypothesisIdx++) {
+				sample.clear();
+				for (int i = 0; i < sampleSize; i++) {
+					sample.add(dataSet.get(samples.data[hypothesisIdx*sampleSize + i]));
+				}
+
+				if (!generator.generate(sample, hypothesis)) {
+					hypothesisStatus.data[hypothesisIdx] = FAILED;
+					continue;
+				}
+
+				evaluate(hypothesisIdx);
+
+				if (hypothesisStatus.data[hypothesisIdx] != ACCEPTED)
+					continue;
+
+				int inliers = hypothesisConsistent.data[hypothesisIdx];
+				if (inliers > batchBestInliers) {
+					batchBestInliers = inliers;
+					batchBestHypothesis = hypothesisIdx;
+					modelManager.copyModel(hypothesis, batchBestModel);
+				}
+			}
+		}
+
+		/**
+		 * Counts the number of inliers. Stops early if SPRT rejects the hypothesis or if it can't possibly
+		 * have more inliers than the best model found in previous batches.
+		 */
+		private void evaluate( int hypothesisIdx ) {
+			distance.setModel(hypothesis);
+
+			final int N = order.size;
+			// best model found before this batch. Can't replace it without more inliers
+			final int minimumInliers = RansacAdaptive.this.bestInliers;
+			double lambda = 1.0;
+			int consistent = 0;
+			int status = ACCEPTED;
+			int tested = 0;
+			while (tested < N) {
+				Point p = dataSet.get(order.data[tested++]);
+				if (distance.distance(p) < thresholdFit) {
+					consistent++;
+					lambda *= ratioConsistent;
+				} else {
+					lambda *= ratioInconsistent;
+					if (lambda > decisionA) {
+						status = REJECTED_SPRT;
+						break;
+					}
+					if (consistent + (N - tested) <= minimumInliers) {
+						status = REJECTED_BOUND;
+						break;
+					}
+				}
+			}
+
+			hypothesisStatus.data[hypothesisIdx] = status;
+			hypothesisConsistent.data[hypothesisIdx] = consistent;
+			hypothesisTested.data[hypothesisIdx] = tested;
+		}
+	}
+}
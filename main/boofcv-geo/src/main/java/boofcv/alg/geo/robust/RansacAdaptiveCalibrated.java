@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo.robust;
+
+import boofcv.alg.geo.DistanceFromModelMultiView;
+import boofcv.struct.calib.CameraPinhole;
+import org.ddogleg.fitting.modelset.DistanceFromModel;
+import org.ddogleg.fitting.modelset.ModelGenerator;
+import org.ddogleg.fitting.modelset.ModelManager;
+import org.ddogleg.struct.Factory;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Extension of {@link RansacAdaptive} for calibrated camera views. Input point will be in normalized image
+ * coordinates. Intrinsic parameters are passed to the distance function used by every thread.
+ *
+ * @author Peter Abeles
+ */
+public class RansacAdaptiveCalibrated<Model, Point> extends RansacAdaptive<Model, Point>
+		implements ModelMatcherMultiview<Model, Point> {
+
+	// intrinsic parameters for each view. null if not specified
+	private final @Nullable CameraPinhole[] intrinsics;
+
+	public RansacAdaptiveCalibrated( long randSeed, int maxIterations, double thresholdFit,
+									 ModelManager<Model> modelManager,
+									 Factory<ModelGenerator<Model, Point>> factoryGenerator,
+									 Factory<DistanceFromModelMultiView<Model, Point>> factoryDistance ) {
+		super(randSeed, maxIterations, thresholdFit, modelManager, factoryGenerator, factoryDistance::newInstance);
+		this.intrinsics = new CameraPinhole[getNumberOfViews()];
+	}
+
+	@Override
+	protected void configureDistance( DistanceFromModel<Model, Point> distance ) {
+		var multiview = (DistanceFromModelMultiView<Model, Point>)distance;
+		for (int view = 0; view < intrinsics.length; view++) {
+			CameraPinhole intrinsic = intrinsics[view];
+			if (intrinsic != null)
+				multiview.setIntrinsic(view, intrinsic);
+		}
+	}
+
+	@Override
+	public void setIntrinsic( int view, CameraPinhole intrinsic ) {
+		intrinsics[view] = new CameraPinhole(intrinsic);
+	}
+
+	@Override
+	public int getNumberOfViews() {
+		return ((DistanceFromModelMultiView<Model, Point>)serialWorker.distance).getNumberOfViews();
+	}
+}
@@ -32,6 +32,7 @@ public class ConfigBundleAdjustment {
 	 *
 	 * @see ConfigLevenbergMarquardt
 	 * @see org.ddogleg.optimization.trustregion.ConfigTrustRegion
+	 * @see ConfigSchurPCG
 	 */
 	public Object configOptimizer = new ConfigLevenbergMarquardt();
 
@@ -40,6 +40,26 @@ public class ConfigRansac implements Configuration {
 	 */
 	public double inlierThreshold;
 
+	/**
+	 * If true then {@link boofcv.alg.geo.robust.RansacAdaptive} is used. The number of iterations is then
+	 * selected based on the inlier ratio and {@link #iterations} becomes the maximum. Not all estimators support
+	 * this option.
+	 */
+	public boolean adaptive = false;
+
+	/**
+	 * Probability that an all inlier sample has been drawn when adaptive RANSAC terminates. Only used if
+	 * {@link #adaptive} is true. If &le; 0 then the number of iterations isn't adapted and {@link #iterations}
+	 * hypotheses are always considered.
+	 */
+	public double confidence = 0.99;
+
+	/**
+	 * If true and adaptive, then a Sequential Probability Ratio Test (SPRT) is used to discard bad hypotheses
+	 * before all the points have been evaluated.
+	 */
+	public boolean sprt = true;
+
 	public ConfigRansac( int iterations, double inlierThreshold ) {
 		this.iterations = iterations;
 		this.inlierThreshold = inlierThreshold;
@@ -51,12 +71,17 @@ public class ConfigRansac implements Configuration {
 	@Override
 	public void checkValidity() {
 		BoofMiscOps.checkTrue(iterations >= 0, "Must specify a non-negative number for number of iterations");
+		if (adaptive)
+			BoofMiscOps.checkTrue(confidence < 1.0, "confidence must be less than 1");
 	}
 
 	public ConfigRansac setTo( ConfigRansac src ) {
 		this.randSeed = src.randSeed;
 		this.iterations = src.iterations;
 		this.inlierThreshold = src.inlierThreshold;
+		this.adaptive = src.adaptive;
+		this.confidence = src.confidence;
+		this.sprt = src.sprt;
 		return this;
 	}
 }
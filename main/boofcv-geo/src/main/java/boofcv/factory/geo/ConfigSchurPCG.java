@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.geo;
+
+import boofcv.misc.BoofMiscOps;
+import boofcv.struct.Configuration;
+
+/**
+ * Configuration for sparse bundle adjustment which uses Levenberg-Marquardt and solves the reduced camera system
+ * with preconditioned conjugate gradient (PCG). The Schur complement is never formed explicitly, which keeps memory
+ * usage proportional to the number of non-zero elements in the Jacobian. Recommended for problems with thousands
+ * of cameras, where a direct sparse Cholesky decomposition has too much fill-in.
+ *
+ * Assign an instance to {@link ConfigBundleAdjustment#configOptimizer} to select it.
+ *
+ * @author Peter Abeles
+ * @see boofcv.abst.geo.bundle.BundleAdjustmentSchurPCG_DSCC
+ */
+public class ConfigSchurPCG implements Configuration {
+	/** Initial value of the Levenberg-Marquardt dampening parameter */
+	public double dampeningInitial = 1e-3;
+
+	/**
+	 * If true the dampening is scaled by the diagonal of J'J, otherwise an identity matrix is used.
+	 * Scaling improves convergence when parameters have very different magnitudes.
+	 */
+	public boolean hessianScaling = true;
+
+	/** Maximum number of PCG iterations for each linear solve */
+	public int maxIterationsPCG = 500;
+
+	/**
+	 * PCG stops when the residual of the reduced system has been reduced by this fraction, i.e.
+	 * ||S*x-b|| &le; tolerance*||b||. This is the forcing term of an inexact Newton method. Larger values take
+	 * less time per iteration but might need more iterations.
+	 */
+	public double toleranceRelativePCG = 0.1;
+
+	@Override public void checkValidity() {
+		BoofMiscOps.checkTrue(dampeningInitial >= 0.0, "dampeningInitial must be non-negative");
+		BoofMiscOps.checkTrue(maxIterationsPCG > 0, "maxIterationsPCG must be positive");
+		BoofMiscOps.checkTrue(toleranceRelativePCG > 0.0 && toleranceRelativePCG < 1.0,
+				"toleranceRelativePCG must be between 0 and 1");
+	}
+
+	public ConfigSchurPCG setTo( ConfigSchurPCG src ) {
+		this.dampeningInitial = src.dampeningInitial;
+		this.hessianScaling = src.hessianScaling;
+		this.maxIterationsPCG = src.maxIterationsPCG;
+		this.toleranceRelativePCG = src.toleranceRelativePCG;
+		return this;
+	}
+}
@@ -43,6 +43,7 @@ import boofcv.alg.geo.selfcalib.*;
 import boofcv.alg.geo.triangulate.*;
 import boofcv.alg.geo.trifocal.RefineThreeViewProjectiveGeometric;
 import boofcv.alg.geo.trifocal.TrifocalAlgebraicPoint7;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.misc.ConfigConverge;
 import boofcv.struct.calib.ElevateViewInfo;
 import boofcv.struct.geo.AssociatedPair;
@@ -74,6 +75,7 @@ public class FactoryMultiView {
 	/**
 	 * Returns bundle adjustment with a sparse implementation for metric reconstruction. In most situations this is
 	 * what you want to use, however dense bundle adjustment is available if the problem is small and degenerate.
+	 * For very large problems set {@link ConfigBundleAdjustment#configOptimizer} to {@link ConfigSchurPCG}.
 	 *
 	 * @param config (Optional) configuration
 	 * @return bundle adjustment
@@ -82,6 +84,21 @@ public class FactoryMultiView {
 		if (config == null)
 			config = new ConfigBundleAdjustment();
 
+		BundleAdjustmentMetricResidualFunction residuals;
+		BundleAdjustmentMetricSchurJacobian_DSCC jacobian;
+		if (BoofConcurrency.isUseConcurrent()) {
+			residuals = new BundleAdjustmentMetricResidualFunction_MT();
+			jacobian = new BundleAdjustmentMetricSchurJacobian_MT_DSCC();
+		} else {
+			residuals = new BundleAdjustmentMetricResidualFunction();
+			jacobian = new BundleAdjustmentMetricSchurJacobian_DSCC();
+		}
+
+		if (config.configOptimizer instanceof ConfigSchurPCG) {
+			return new BundleAdjustmentSchurPCG_DSCC<>((ConfigSchurPCG)config.configOptimizer,
+					residuals, jacobian, new CodecSceneStructureMetric());
+		}
+
 		UnconstrainedLeastSquaresSchur<DMatrixSparseCSC> minimizer;
 
 		if (config.configOptimizer instanceof ConfigTrustRegion)
@@ -89,15 +106,13 @@ public class FactoryMultiView {
 		else
 			minimizer = FactoryOptimizationSparse.levenbergMarquardtSchur((ConfigLevenbergMarquardt)config.configOptimizer);
 
-		return new BundleAdjustmentSchur_DSCC<>(minimizer,
-				new BundleAdjustmentMetricResidualFunction(),
-				new BundleAdjustmentMetricSchurJacobian_DSCC(),
-				new CodecSceneStructureMetric());
+		return new BundleAdjustmentSchur_DSCC<>(minimizer, residuals, jacobian, new CodecSceneStructureMetric());
 	}
 
 	/**
 	 * Returns bundle adjustment with a sparse implementation for projective reconstruction. In most situations this is
 	 * what you want to use, however dense bundle adjustment is available if the problem is small and degenerate.
+	 * For very large problems set {@link ConfigBundleAdjustment#configOptimizer} to {@link ConfigSchurPCG}.
 	 *
 	 * @param config (Optional) configuration
 	 * @return bundle adjustment
@@ -106,6 +121,13 @@ public class FactoryMultiView {
 		if (config == null)
 			config = new ConfigBundleAdjustment();
 
+		if (config.configOptimizer instanceof ConfigSchurPCG) {
+			return new BundleAdjustmentSchurPCG_DSCC<>((ConfigSchurPCG)config.configOptimizer,
+					new BundleAdjustmentProjectiveResidualFunction(),
+					new BundleAdjustmentProjectiveSchurJacobian_DSCC(),
+					new CodecSceneStructureProjective());
+		}
+
 		UnconstrainedLeastSquaresSchur<DMatrixSparseCSC> minimizer;
 
 		if (config.configOptimizer instanceof ConfigTrustRegion)
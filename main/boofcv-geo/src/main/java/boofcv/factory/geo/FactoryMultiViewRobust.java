@@ -118,18 +118,16 @@ public class FactoryMultiViewRobust {
 		configPnP.checkValidity();
 		configRansac.checkValidity();
 
-		Estimate1ofPnP estimatorPnP = FactoryMultiView.pnp_1(
-				configPnP.which, configPnP.epnpIterations, configPnP.numResolve);
-		DistanceFromModelMultiView<Se3_F64, Point2D3D> distance = new PnPDistanceReprojectionSq();
-
+		ConfigPnP _configPnP = configPnP;
 		ModelManagerSe3_F64 manager = new ModelManagerSe3_F64();
-		EstimatorToGenerator<Se3_F64, Point2D3D> generator = new EstimatorToGenerator<>(estimatorPnP);
 
 		// convert from pixels to pixels squared
 		double threshold = configRansac.inlierThreshold*configRansac.inlierThreshold;
 
-		return new RansacCalibrated<>(
-				configRansac.randSeed, configRansac.iterations, threshold, manager, generator, distance);
+		return createRansacCalibrated(configRansac, threshold, manager,
+				() -> new EstimatorToGenerator<>(FactoryMultiView.pnp_1(
+						_configPnP.which, _configPnP.epnpIterations, _configPnP.numResolve)),
+				PnPDistanceReprojectionSq::new);
 	}
 
 	/**
@@ -217,22 +215,21 @@ public class FactoryMultiViewRobust {
 			throw new RuntimeException("Error model has to be Euclidean");
 		}
 
-		Estimate1ofEpipolar epipolar = FactoryMultiView.
-				essential_1(configEssential.which, configEssential.numResolve);
-
-		Triangulate2ViewsMetricH triangulate = FactoryMultiView.triangulate2ViewMetricH(
-				new ConfigTriangulation(ConfigTriangulation.Type.GEOMETRIC));
+		ConfigEssential _configEssential = configEssential;
+		var configTriangulation = new ConfigTriangulation(ConfigTriangulation.Type.GEOMETRIC);
 		ModelManager<Se3_F64> manager = new ModelManagerSe3_F64();
-		ModelGenerator<Se3_F64, AssociatedPair> generateEpipolarMotion =
-				new Se3FromEssentialGenerator(epipolar, triangulate);
-
-		DistanceFromModelMultiView<Se3_F64, AssociatedPair> distanceSe3 =
-				new DistanceSe3SymmetricSq(triangulate);
 
 		double ransacTOL = configRansac.inlierThreshold*configRansac.inlierThreshold*2.0;
 
-		return new RansacCalibrated<>(configRansac.randSeed, configRansac.iterations, ransacTOL,
-				manager, generateEpipolarMotion, distanceSe3);
+		return createRansacCalibrated(configRansac, ransacTOL, manager,
+				() -> {
+					Estimate1ofEpipolar epipolar = FactoryMultiView.
+							essential_1(_configEssential.which, _configEssential.numResolve);
+					Triangulate2ViewsMetricH triangulate =
+							FactoryMultiView.triangulate2ViewMetricH(configTriangulation);
+					return new Se3FromEssentialGenerator(epipolar, triangulate);
+				},
+				() -> new DistanceSe3SymmetricSq(FactoryMultiView.triangulate2ViewMetricH(configTriangulation)));
 	}
 
 	public static ModelMatcherMultiview<DMatrixRMaj, AssociatedPair>
@@ -248,18 +245,16 @@ public class FactoryMultiViewRobust {
 			return new MmmvSe3ToEssential(baselineRansac(configEssential, configRansac));
 		}
 
+		ConfigEssential _configEssential = configEssential;
 		ModelManager<DMatrixRMaj> managerE = new ModelManagerEpipolarMatrix();
-		Estimate1ofEpipolar estimateF = FactoryMultiView.essential_1(configEssential.which,
-				configEssential.numResolve);
-		GenerateEpipolarMatrix generateE = new GenerateEpipolarMatrix(estimateF);
 
-		// How the error is measured
-		DistanceFromModelMultiView<DMatrixRMaj, AssociatedPair> errorMetric =
-				new DistanceMultiView_EssentialSampson();
 		double ransacTOL = configRansac.inlierThreshold*configRansac.inlierThreshold;
 
-		return new RansacCalibrated<>(configRansac.randSeed, configRansac.iterations, ransacTOL,
-				managerE, generateE, errorMetric);
+		return createRansacCalibrated(configRansac, ransacTOL, managerE,
+				() -> new GenerateEpipolarMatrix(FactoryMultiView.essential_1(_configEssential.which,
+						_configEssential.numResolve)),
+				// How the error is measured
+				DistanceMultiView_EssentialSampson::new);
 	}
 
 	public static ModelMatcher<DMatrixRMaj, AssociatedPair> fundamentalRansac(
@@ -273,19 +268,27 @@ public class FactoryMultiViewRobust {
 
 		double ransacTol = configRansac.inlierThreshold*configRansac.inlierThreshold;
 
-		Ransac<DMatrixRMaj, AssociatedPair> ransac =
-				createRansac(configRansac, ransacTol, manager, AssociatedPair.class);
-
-		ransac.setModel(
-				() -> {
-					Estimate1ofEpipolar estimateF = FactoryMultiView.fundamental_1(configFundamental.which,
-							configFundamental.numResolve);
-					return new GenerateEpipolarMatrix(estimateF);
-				},
+		Factory<ModelGenerator<DMatrixRMaj, AssociatedPair>> factoryGenerator = () -> {
+			Estimate1ofEpipolar estimateF = FactoryMultiView.fundamental_1(configFundamental.which,
+					configFundamental.numResolve);
+			return new GenerateEpipolarMatrix(estimateF);
+		};
+		Factory<DistanceFromModel<DMatrixRMaj, AssociatedPair>> factoryDistance =
 				() -> switch (configFundamental.errorModel) {
 					case SAMPSON -> new DistanceFromModelResidual<>(new FundamentalResidualSampson());
 					case GEOMETRIC -> new DistanceFundamentalGeometric();
-				});
+				};
+
+		if (configRansac.adaptive) {
+			var ransac = new RansacAdaptive<>(configRansac.randSeed, configRansac.iterations, ransacTol,
+					manager, factoryGenerator, factoryDistance);
+			configureAdaptive(configRansac, ransac);
+			return ransac;
+		}
+
+		Ransac<DMatrixRMaj, AssociatedPair> ransac =
+				createRansac(configRansac, ransacTol, manager, AssociatedPair.class);
+		ransac.setModel(factoryGenerator, factoryDistance);
 		return ransac;
 	}
 
@@ -484,4 +487,31 @@ public class FactoryMultiViewRobust {
 				:
 				new Ransac<>(configRansac.randSeed, configRansac.iterations, ransacTol, manager, pointType);
 	}
+
+	/**
+	 * Returns a new instance of RANSAC for calibrated views. If {@link ConfigRansac#adaptive} is true then
+	 * {@link RansacAdaptiveCalibrated} is returned, which scores hypotheses concurrently if concurrency is turned on.
+	 *
+	 * @param ransacTol inlier tolerance. Same units as the distance function.
+	 */
+	public static <Model, Point> ModelMatcherMultiview<Model, Point>
+	createRansacCalibrated( ConfigRansac configRansac, double ransacTol, ModelManager<Model> manager,
+							Factory<ModelGenerator<Model, Point>> factoryGenerator,
+							Factory<DistanceFromModelMultiView<Model, Point>> factoryDistance ) {
+		if (!configRansac.adaptive) {
+			return new RansacCalibrated<>(configRansac.randSeed, configRansac.iterations, ransacTol,
+					manager, factoryGenerator.newInstance(), factoryDistance.newInstance());
+		}
+
+		var ransac = new RansacAdaptiveCalibrated<>(configRansac.randSeed, configRansac.iterations, ransacTol,
+				manager, factoryGenerator, factoryDistance);
+		configureAdaptive(configRansac, ransac);
+		return ransac;
+	}
+
+	private static void configureAdaptive( ConfigRansac configRansac, RansacAdaptive<?, ?> ransac ) {
+		ransac.setConfidence(configRansac.confidence);
+		ransac.setSprt(configRansac.sprt);
+		ransac.setConcurrent(BoofConcurrency.isUseConcurrent());
+	}
 }
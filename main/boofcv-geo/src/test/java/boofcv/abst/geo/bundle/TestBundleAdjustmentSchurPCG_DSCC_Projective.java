@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.geo.bundle;
+
+import boofcv.factory.geo.ConfigBundleAdjustment;
+import boofcv.factory.geo.ConfigSchurPCG;
+import boofcv.factory.geo.FactoryMultiView;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBundleAdjustmentSchurPCG_DSCC_Projective extends GenericBundleAdjustmentProjectiveChecks {
+
+	@Override
+	public BundleAdjustment<SceneStructureProjective> createAlg() {
+		var configPCG = new ConfigSchurPCG();
+		configPCG.toleranceRelativePCG = 1e-8;
+		var config = new ConfigBundleAdjustment();
+		config.configOptimizer = configPCG;
+
+		BundleAdjustment<SceneStructureProjective> ret = FactoryMultiView.bundleSparseProjective(config);
+//		ret.setVerbose(System.out,null);
+		ret.configure(1e-5,1e-5,50);
+		return ret;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo.bundle;
+
+import boofcv.abst.geo.bundle.SceneObservations;
+import boofcv.abst.geo.bundle.SceneStructureMetric;
+import org.ddogleg.optimization.wrap.SchurJacobian_to_NtoMxN;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.ops.MatrixFeatures_D;
+import org.junit.jupiter.api.Test;
+
+import static boofcv.alg.geo.bundle.TestBundleAdjustmentMetricResidualFunction.createObservations;
+import static boofcv.alg.geo.bundle.TestCodecSceneStructureMetric.createScene;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBundleAdjustmentMetricSchurJacobian_MT_DSCC
+		extends CommonBundleAdjustmentMetricSchurJacobian<DMatrixSparseCSC> {
+
+	@Override
+	protected BundleAdjustmentMetricSchurJacobian<DMatrixSparseCSC> createAlg() {
+		return new BundleAdjustmentMetricSchurJacobian_MT_DSCC();
+	}
+
+	@Override
+	protected SchurJacobian_to_NtoMxN<DMatrixSparseCSC>
+	createJacobian( BundleAdjustmentMetricSchurJacobian<DMatrixSparseCSC> alg ) {
+		return new SchurJacobian_to_NtoMxN.DSCC(alg);
+	}
+
+	/**
+	 * The concurrent implementation should produce the same output as the single threaded one
+	 */
+	@Test void compareToSingleThread() {
+		compareToSingleThread(true, false, false);
+		compareToSingleThread(false, false, false);
+		compareToSingleThread(false, true, false);
+		compareToSingleThread(false, true, true);
+		compareToSingleThread(true, true, true);
+	}
+
+	void compareToSingleThread( boolean homogenous, boolean hasRigid, boolean hasRelative ) {
+		SceneStructureMetric structure = createScene(rand, homogenous, hasRigid, hasRelative);
+		SceneObservations observations = createObservations(rand, structure);
+
+		var param = new double[structure.getParameterCount()];
+		new CodecSceneStructureMetric().encode(structure, param);
+
+		var single = new BundleAdjustmentMetricSchurJacobian_DSCC();
+		var multi = new BundleAdjustmentMetricSchurJacobian_MT_DSCC();
+
+		single.configure(structure, observations);
+		multi.configure(structure, observations);
+
+		var expectedLeft = new DMatrixSparseCSC(1, 1);
+		var expectedRight = new DMatrixSparseCSC(1, 1);
+		var foundLeft = new DMatrixSparseCSC(1, 1);
+		var foundRight = new DMatrixSparseCSC(1, 1);
+
+		single.process(param, expectedLeft, expectedRight);
+		// call it twice to make sure the workspace is correctly reset
+		multi.process(param, foundLeft, foundRight);
+		multi.process(param, foundLeft, foundRight);
+
+		assertTrue(MatrixFeatures_D.isIdentical(expectedLeft, foundLeft, UtilEjml.TEST_F64));
+		assertTrue(MatrixFeatures_D.isIdentical(expectedRight, foundRight, UtilEjml.TEST_F64));
+	}
+}
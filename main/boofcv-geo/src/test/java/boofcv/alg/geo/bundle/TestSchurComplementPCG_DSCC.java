@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo.bundle;
+
+import boofcv.testing.BoofStandardJUnit;
+import org.ejml.UtilEjml;
+import org.ejml.data.DMatrixRMaj;
+import org.ejml.data.DMatrixSparseCSC;
+import org.ejml.dense.row.CommonOps_DDRM;
+import org.ejml.ops.DConvertMatrixStruct;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestSchurComplementPCG_DSCC extends BoofStandardJUnit {
+	int numPoints = 30;
+	int numViews = 6;
+	int numCameras = 2;
+
+	int numA = numPoints*3;
+	int numB = numViews*6 + numCameras*3;
+
+	/**
+	 * Compare the solution against solving the dense damped normal equations
+	 */
+	@Test void compareToDense() {
+		for (boolean scaling : new boolean[]{true, false}) {
+			DMatrixRMaj J = createJacobian();
+			DMatrixRMaj f = DMatrixRMaj.wrap(J.numRows, 1, randomArray(J.numRows));
+			double lambda = 0.05;
+
+			var alg = new SchurComplementPCG_DSCC();
+			alg.setHessianScaling(scaling);
+			alg.setTolerance(1e-12);
+			alg.setJacobian(left(J), right(J));
+
+			var gradient = new double[numA + numB];
+			var step = new double[numA + numB];
+			alg.computeGradient(f.data, gradient);
+			alg.solve(lambda, gradient, step);
+			assertTrue(alg.isConverged());
+			assertTrue(alg.getIterations() > 0);
+
+			// Solve it using dense matrices
+			var H = new DMatrixRMaj(1, 1);
+			var g = new DMatrixRMaj(1, 1);
+			CommonOps_DDRM.multTransA(J, J, H);
+			CommonOps_DDRM.multTransA(J, f, g);
+			for (int i = 0; i < H.numRows; i++) {
+				double d = H.get(i, i);
+				H.add(i, i, lambda*(scaling ? Math.max(d, alg.getMinimumDiagonal()) : 1.0));
+			}
+			CommonOps_DDRM.scale(-1, g);
+			var expected = new DMatrixRMaj(1, 1);
+			assertTrue(CommonOps_DDRM.solve(H, g, expected));
+
+			for (int i = 0; i < step.length; i++) {
+				assertEquals(-g.data[i], gradient[i], UtilEjml.TEST_F64);
+				assertEquals(expected.data[i], step[i], 1e-8);
+			}
+		}
+	}
+
+	/**
+	 * Compares the predicted reduction to what's found using the dense Jacobian
+	 */
+	@Test void predictedReduction() {
+		DMatrixRMaj J = createJacobian();
+		var alg = new SchurComplementPCG_DSCC();
+		alg.setJacobian(left(J), right(J));
+
+		DMatrixRMaj gradient = DMatrixRMaj.wrap(numA + numB, 1, randomArray(numA + numB));
+		DMatrixRMaj step = DMatrixRMaj.wrap(numA + numB, 1, randomArray(numA + numB));
+
+		var Jstep = new DMatrixRMaj(1, 1);
+		CommonOps_DDRM.mult(J, step, Jstep);
+		double expected = -CommonOps_DDRM.dot(gradient, step) - 0.5*CommonOps_DDRM.dot(Jstep, Jstep);
+
+		assertEquals(expected, alg.predictedReduction(gradient.data, step.data), UtilEjml.TEST_F64);
+	}
+
+	/**
+	 * If an observation depends on two points then U isn't block diagonal
+	 */
+	@Test void notBlockDiagonal() {
+		DMatrixRMaj J = createJacobian();
+
+		// Make the first row depend on a second point too
+		int pointIdx = 0;
+		while (J.get(0, pointIdx*3) == 0.0)
+			pointIdx++;
+		int otherIdx = (pointIdx + 1)%numPoints;
+		for (int k = 0; k < 3; k++) {
+			J.set(0, otherIdx*3 + k, 1.0);
+		}
+
+		var alg = new SchurComplementPCG_DSCC();
+		assertThrows(IllegalArgumentException.class, () -> alg.setJacobian(left(J), right(J)));
+	}
+
+	/**
+	 * Creates a Jacobian with the same structure as in bundle adjustment. Each observation depends on one point,
+	 * one view, and one camera.
+	 */
+	DMatrixRMaj createJacobian() {
+		int numObservations = 0;
+		boolean[][] observed = new boolean[numViews][numPoints];
+		for (int viewIdx = 0; viewIdx < numViews; viewIdx++) {
+			for (int pointIdx = 0; pointIdx < numPoints; pointIdx++) {
+				if (rand.nextDouble() < 0.6) {
+					observed[viewIdx][pointIdx] = true;
+					numObservations++;
+				}
+			}
+		}
+
+		var J = new DMatrixRMaj(numObservations*2, numA + numB);
+		int row = 0;
+		for (int viewIdx = 0; viewIdx < numViews; viewIdx++) {
+			int cameraIdx = viewIdx%numCameras;
+			for (int pointIdx = 0; pointIdx < numPoints; pointIdx++) {
+				if (!observed[viewIdx][pointIdx])
+					continue;
+				for (int i = 0; i < 2; i++, row++) {
+					for (int k = 0; k < 3; k++) {
+						J.set(row, pointIdx*3 + k, rand.nextGaussian());
+					}
+					for (int k = 0; k < 6; k++) {
+						J.set(row, numA + viewIdx*6 + k, rand.nextGaussian());
+					}
+					for (int k = 0; k < 3; k++) {
+						J.set(row, numA + numViews*6 + cameraIdx*3 + k, rand.nextGaussian());
+					}
+				}
+			}
+		}
+		return J;
+	}
+
+	DMatrixSparseCSC left( DMatrixRMaj J ) {
+		return DConvertMatrixStruct.convert(CommonOps_DDRM.extract(J, 0, J.numRows, 0, numA), (DMatrixSparseCSC)null, 0.0);
+	}
+
+	DMatrixSparseCSC right( DMatrixRMaj J ) {
+		return DConvertMatrixStruct.convert(CommonOps_DDRM.extract(J, 0, J.numRows, numA, J.numCols), (DMatrixSparseCSC)null, 0.0);
+	}
+
+	double[] randomArray( int length ) {
+		var array = new double[length];
+		for (int i = 0; i < length; i++) {
+			array[i] = rand.nextGaussian();
+		}
+		return array;
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.geo.robust;
+
+import boofcv.struct.geo.AssociatedPair;
+import boofcv.testing.BoofStandardJUnit;
+import georegression.fitting.se.ModelManagerSe2_F64;
+import georegression.fitting.se.MotionSe2PointSVD_F64;
+import georegression.struct.point.Point2D_F64;
+import georegression.struct.se.Se2_F64;
+import georegression.transform.se.SePointOps_F64;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestRansacAdaptive extends BoofStandardJUnit {
+	Se2_F64 truth = new Se2_F64(1.5, -0.5, 0.4);
+
+	/** which observations are inliers */
+	List<Boolean> inliers = new ArrayList<>();
+
+	@Test void findModel() {
+		List<AssociatedPair> observations = createObservations(400, 0.4);
+
+		for (boolean sprt : new boolean[]{false, true}) {
+			RansacAdaptive<Se2_F64, AssociatedPair> alg = createAlg();
+			alg.setSprt(sprt);
+			assertTrue(alg.process(observations));
+
+			Se2_F64 found = alg.getModelParameters();
+			assertEquals(truth.T.x, found.T.x, 1e-2);
+			assertEquals(truth.T.y, found.T.y, 1e-2);
+			assertEquals(truth.getYaw(), found.getYaw(), 1e-2);
+
+			// The match set should be the inliers in the same order as the input
+			List<AssociatedPair> matches = alg.getMatchSet();
+			assertEquals(matches.size(), (int)alg.getFitQuality());
+			for (int i = 0; i < matches.size(); i++) {
+				int index = alg.getInputIndex(i);
+				assertSame(observations.get(index), matches.get(i));
+				assertTrue(inliers.get(index));
+				if (i > 0)
+					assertTrue(index > alg.getInputIndex(i - 1));
+			}
+		}
+	}
+
+	/**
+	 * With a high inlier ratio it should stop well before the maximum number of iterations
+	 */
+	@Test void adaptiveTermination() {
+		List<AssociatedPair> observations = createObservations(200, 0.9);
+
+		RansacAdaptive<Se2_F64, AssociatedPair> alg = createAlg();
+		assertTrue(alg.process(observations));
+		assertTrue(alg.getIterationsPerformed() < 100);
+
+		// If not adaptive it should go through every iteration
+		alg.setConfidence(0.0);
+		assertTrue(alg.process(observations));
+		assertEquals(alg.getMaxIterations(), alg.getIterationsPerformed());
+	}
+
+	/**
+	 * SPRT should reject most of the hypotheses without looking at all the points when there are many outliers
+	 */
+	@Test void sprtRejectsHypotheses() {
+		List<AssociatedPair> observations = createObservations(500, 0.2);
+
+		RansacAdaptive<Se2_F64, AssociatedPair> alg = createAlg();
+		assertTrue(alg.process(observations));
+		assertTrue(alg.getTotalRejectedSprt() > alg.getIterationsPerformed()/2);
+
+		alg.setSprt(false);
+		assertTrue(alg.process(observations));
+		assertEquals(0, alg.getTotalRejectedSprt());
+	}
+
+	/**
+	 * The concurrent and single threaded code should produce identical results
+	 */
+	@Test void compareConcurrent() {
+		List<AssociatedPair> observations = createObservations(300, 0.3);
+
+		for (boolean sprt : new boolean[]{false, true}) {
+			RansacAdaptive<Se2_F64, AssociatedPair> single = createAlg();
+			RansacAdaptive<Se2_F64, AssociatedPair> multi = createAlg();
+			single.setSprt(sprt);
+			multi.setSprt(sprt);
+			multi.setConcurrent(true);
+			// several batches with a size that doesn't evenly divide the iterations
+			single.setBatchSize(7);
+			multi.setBatchSize(7);
+
+			assertTrue(single.process(observations));
+			assertTrue(multi.process(observations));
+
+			assertEquals(single.getIterationsPerformed(), multi.getIterationsPerformed());
+			assertEquals(single.getTotalRejectedSprt(), multi.getTotalRejectedSprt());
+			assertEquals(single.getFitQuality(), multi.getFitQuality());
+			assertEquals(0.0, single.getModelParameters().T.distance(multi.getModelParameters().T));
+			assertEquals(single.getModelParameters().getYaw(), multi.getModelParameters().getYaw());
+		}
+	}
+
+	/**
+	 * Calling reset should cause it to produce the same results again
+	 */
+	@Test void reset() {
+		List<AssociatedPair> observations = createObservations(200, 0.3);
+
+		RansacAdaptive<Se2_F64, AssociatedPair> alg = createAlg();
+		assertTrue(alg.process(observations));
+		int iterations = alg.getIterationsPerformed();
+		double quality = alg.getFitQuality();
+
+		alg.reset();
+		assertTrue(alg.process(observations));
+		assertEquals(iterations, alg.getIterationsPerformed());
+		assertEquals(quality, alg.getFitQuality());
+	}
+
+	@Test void tooFewPoints() {
+		RansacAdaptive<Se2_F64, AssociatedPair> alg = createAlg();
+		assertFalse(alg.process(createObservations(alg.getMinimumSize() - 1, 1.0)));
+		assertEquals(0, alg.getMatchSet().size());
+	}
+
+	private RansacAdaptive<Se2_F64, AssociatedPair> createAlg() {
+		return new RansacAdaptive<>(234, 2000, 0.05*0.05, new ModelManagerSe2_F64(),
+				() -> new GenerateSe2_AssociatedPair(new MotionSe2PointSVD_F64()), DistanceSe2Sq::new);
+	}
+
+	private List<AssociatedPair> createObservations( int total, double inlierFraction ) {
+		inliers.clear();
+		List<AssociatedPair> list = new ArrayList<>();
+		for (int i = 0; i < total; i++) {
+			var p1 = new Point2D_F64(rand.nextGaussian()*5, rand.nextGaussian()*5);
+			var p2 = new Point2D_F64();
+			boolean inlier = rand.nextDouble() < inlierFraction;
+			if (inlier) {
+				SePointOps_F64.transform(truth, p1, p2);
+				p2.x += rand.nextGaussian()*0.005;
+				p2.y += rand.nextGaussian()*0.005;
+			} else {
+				p2.setTo(rand.nextGaussian()*5, rand.nextGaussian()*5);
+			}
+			list.add(new AssociatedPair(p1, p2));
+			inliers.add(inlier);
+		}
+		return list;
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.geo;
+
+import boofcv.abst.geo.bundle.BundleAdjustment;
+import boofcv.abst.geo.bundle.BundleAdjustmentSchurPCG_DSCC;
+import boofcv.abst.geo.bundle.ScaleSceneStructure;
+import boofcv.abst.geo.bundle.SceneStructureMetric;
+import boofcv.factory.geo.ConfigBundleAdjustment;
+import boofcv.factory.geo.ConfigSchurPCG;
+import boofcv.factory.geo.FactoryMultiView;
+import boofcv.io.UtilIO;
+import org.ddogleg.optimization.lm.ConfigLevenbergMarquardt;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the direct and PCG solvers for sparse bundle adjustment on problems from Bundle Adjustment in the Large.
+ * Other problems from the data set can be used by passing in their path with -p path=...
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkBundleAdjustmentInTheLarge {
+	@Param({"sfm/problem-16-22106-pre.txt"})
+	public String path;
+
+	@Param({"CHOLESKY", "PCG"})
+	public String solver;
+
+	/** Number of Levenberg-Marquardt iterations */
+	@Param({"10"})
+	public int iterations;
+
+	CodecBundleAdjustmentInTheLarge parser = new CodecBundleAdjustmentInTheLarge();
+	BundleAdjustment<SceneStructureMetric> bundleAdjustment;
+
+	@Setup(Level.Iteration) public void setup() throws IOException {
+		File file = new File(path);
+		parser.parse(file.exists() ? file : new File(UtilIO.pathExample(path)));
+		new ScaleSceneStructure().applyScale(parser.scene, parser.observations);
+
+		bundleAdjustment = createBundleAdjustment(solver);
+		bundleAdjustment.configure(1e-6, 1e-6, iterations);
+		bundleAdjustment.setParameters(parser.scene, parser.observations);
+	}
+
+	@Benchmark public void optimize() {
+		bundleAdjustment.optimize(parser.scene);
+	}
+
+	static BundleAdjustment<SceneStructureMetric> createBundleAdjustment( String solver ) {
+		var config = new ConfigBundleAdjustment();
+		switch (solver) {
+			case "CHOLESKY" -> {
+				var configLM = new ConfigLevenbergMarquardt();
+				configLM.dampeningInitial = 1e-3;
+				configLM.hessianScaling = true;
+				config.configOptimizer = configLM;
+			}
+			case "PCG" -> config.configOptimizer = new ConfigSchurPCG();
+			default -> throw new RuntimeException("Unknown solver " + solver);
+		}
+		return FactoryMultiView.bundleSparseMetric(config);
+	}
+
+	/**
+	 * Prints the reduction in error and the PCG statistics for a single run of each solver
+	 */
+	static void printStatistics( String path, int iterations ) throws IOException {
+		for (String solver : new String[]{"CHOLESKY", "PCG"}) {
+			var parser = new CodecBundleAdjustmentInTheLarge();
+			parser.parse(new File(UtilIO.pathExample(path)));
+			new ScaleSceneStructure().applyScale(parser.scene, parser.observations);
+
+			BundleAdjustment<SceneStructureMetric> alg = createBundleAdjustment(solver);
+			alg.configure(1e-6, 1e-6, iterations);
+			alg.setParameters(parser.scene, parser.observations);
+			double before = alg.getFitScore();
+			long time0 = System.currentTimeMillis();
+			alg.optimize(parser.scene);
+			long time1 = System.currentTimeMillis();
+
+			System.out.printf("%-8s time=%6d (ms) before=%.4e after=%.4e", solver, time1 - time0, before, alg.getFitScore());
+			if (alg instanceof BundleAdjustmentSchurPCG_DSCC) {
+				var pcg = (BundleAdjustmentSchurPCG_DSCC<?>)alg;
+				System.out.printf(" steps={accepted=%d rejected=%d} pcg_iterations=%d",
+						pcg.getTotalStepsAccepted(), pcg.getTotalStepsRejected(), pcg.getTotalIterationsPCG());
+			}
+			System.out.println();
+		}
+	}
+
+	public static void main( String[] args ) throws RunnerException, IOException {
+		printStatistics("sfm/problem-16-22106-pre.txt", 10);
+
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkBundleAdjustmentInTheLarge.class.getSimpleName())
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.image;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.InterleavedU8;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding images directly into a BoofCV image against javax.imageio followed by a conversion.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 2)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkDirectDecoders {
+	@Param({"png", "jpg"})
+	public String format;
+
+	@Param({"true", "false"})
+	public boolean concurrent;
+
+	@Param({"2000"})
+	public int size;
+
+	byte[] encoded = new byte[0];
+	InterleavedU8 output = new InterleavedU8(1, 1, 3);
+	ImageDirectDecoder decoder;
+
+	@Setup public void setup() throws IOException {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		// Smooth image so that it compresses like a real image
+		var image = new BufferedImage(size, size, BufferedImage.TYPE_3BYTE_BGR);
+		for (int y = 0; y < size; y++) {
+			for (int x = 0; x < size; x++) {
+				int r = (int)(127 + 120*Math.sin(x*0.011 + y*0.003));
+				int g = (int)(127 + 120*Math.cos(x*0.005 - y*0.009));
+				int b = (x + y)%256;
+				image.setRGB(x, y, (r << 16) | (g << 8) | b);
+			}
+		}
+
+		var bytes = new ByteArrayOutputStream();
+		ImageIO.write(image, format, bytes);
+		encoded = bytes.toByteArray();
+		decoder = format.equals("png") ? new PngDirectDecoder() : new JpegDirectDecoder();
+	}
+
+	@Benchmark public void imageio() throws IOException {
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(encoded));
+		ConvertBufferedImage.convertFrom(image, output, true);
+	}
+
+	@Benchmark public void direct() {
+		decoder.decode(encoded, encoded.length, output);
+	}
+
+	public static void main( String[] args ) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkDirectDecoders.class.getSimpleName())
+				.warmupTime(TimeValue.seconds(1))
+				.measurementTime(TimeValue.seconds(1))
+				.build();
+
+		new Runner(opt).run();
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.points;
+
+import boofcv.alg.cloud.PointCloudWriter;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.io.points.impl.PlyCodec;
+import boofcv.struct.packed.PackedBigArrayPoint3D_F64;
+import org.ddogleg.struct.BigDogArray_I32;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a binary PLY file through a stream against memory mapping it.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 2)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkPlyCodec {
+	@Param({"true", "false"})
+	public boolean concurrent;
+
+	@Param({"5000000"})
+	public int size;
+
+	File file;
+	PackedBigArrayPoint3D_F64 points = new PackedBigArrayPoint3D_F64();
+	BigDogArray_I32 colors = new BigDogArray_I32();
+
+	@Setup public void setup() throws IOException {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		var rand = new Random(234);
+		file = File.createTempFile("BenchmarkPlyCodec", ".ply");
+		try (var writer = new PlyCodec.StreamWriter(file, ByteOrder.LITTLE_ENDIAN, true, true)) {
+			for (int i = 0; i < size; i++) {
+				writer.add(rand.nextGaussian(), rand.nextGaussian(), rand.nextGaussian(), rand.nextInt(0xFFFFFF));
+			}
+		}
+	}
+
+	@TearDown public void teardown() {
+		if (!file.delete())
+			System.err.println("Failed to delete " + file.getPath());
+	}
+
+	@Benchmark public void stream() throws IOException {
+		points.reset();
+		colors.reset();
+		try (var input = new BufferedInputStream(new FileInputStream(file))) {
+			PlyCodec.read(input, new PointCloudWriter() {
+				@Override public void initialize( int size, boolean hasColor ) {
+					points.reserve(size);
+				}
+
+				@Override public void add( double x, double y, double z, int rgb ) {
+					points.append(x, y, z);
+					colors.add(rgb);
+				}
+			});
+		}
+	}
+
+	@Benchmark public void mapped() throws IOException {
+		PlyCodec.readMapped(file, points, colors);
+	}
+
+	public static void main( String[] args ) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkPlyCodec.class.getSimpleName())
+				.warmupTime(TimeValue.seconds(1))
+				.measurementTime(TimeValue.seconds(1))
+				.build();
+
+		new Runner(opt).run();
+	}
+}
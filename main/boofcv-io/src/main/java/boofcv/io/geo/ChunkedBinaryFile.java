@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.geo;
+
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.*;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Versioned binary file which is divided into named chunks. Chunks are written one after another and are followed
+ * by a table of contents, so a chunk can be written without knowing its size in advance. When read, each chunk is
+ * memory mapped on demand, which allows a reader to only load the chunks it needs and to decode several chunks
+ * at once. A single chunk is limited to 2 GB. Large arrays should be split across several chunks,
+ * see {@link Writer#getChunkBytes()}.
+ *
+ * File format:
+ * <pre>
+ * int     MAGIC ("BCNK")
+ * int     VERSION of the container
+ * long    Offset of the table of contents
+ * byte[]  Chunks
+ * Table of contents:
+ *   String  Type of data in the file
+ *   int     Version of the data's encoding
+ *   int     Number of chunks
+ *   For each chunk:
+ *     String  Name
+ *     long    Offset of the chunk
+ *     long    Number of bytes in the chunk
+ * </pre>
+ *
+ * All values are big endian. Strings are saved as the number of bytes followed by the string in UTF-8.
+ *
+ * @author Peter Abeles
+ */
+public class ChunkedBinaryFile {
+	/** Identifies the file */
+	public static final int MAGIC = 0x42434E4B;
+	/** Version of the container format */
+	public static final int VERSION = 1;
+
+	/**
+	 * Returns true if the file starts with {@link #MAGIC}
+	 */
+	public static boolean isChunkedFile( File file ) {
+		if (!file.isFile() || file.length() < 16)
+			return false;
+		try (var raf = new RandomAccessFile(file, "r")) {
+			return raf.readInt() == MAGIC;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Reads a string which was written by {@link Writer#writeString(String)}
+	 */
+	public static String readString( ByteBuffer buffer ) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+	/**
+	 * Reads a boolean which was written by {@link Writer#writeBoolean(boolean)}
+	 */
+	public static boolean readBoolean( ByteBuffer buffer ) {
+		return buffer.get() != 0;
+	}
+
+	/**
+	 * Writes a chunked file. Chunks are written sequentially and the table of contents is written when closed.
+	 */
+	public static class Writer implements Closeable {
+		final FileChannel channel;
+		final ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+
+		final String dataType;
+		final int dataVersion;
+
+		final List<String> names = new ArrayList<>();
+		final List<long[]> locations = new ArrayList<>();
+
+		// Offset of the chunk being written. -1 if no chunk is being written
+		long chunkStart = -1;
+
+		/**
+		 * Creates the file. If it already exists it's overwritten
+		 *
+		 * @param file Location of the file
+		 * @param dataType Type of data being saved
+		 * @param dataVersion Version of the data's encoding
+		 */
+		public Writer( File file, String dataType, int dataVersion ) throws IOException {
+			this.dataType = dataType;
+			this.dataVersion = dataVersion;
+			var raf = new RandomAccessFile(file, "rw");
+			raf.setLength(0);
+			channel = raf.getChannel();
+
+			// The location of the table of contents is filled in when closed
+			buffer.putInt(MAGIC);
+			buffer.putInt(VERSION);
+			buffer.putLong(0);
+		}
+
+		/**
+		 * Starts a new chunk. The previous chunk is ended if it hasn't been already.
+		 *
+		 * @param name Unique name of the chunk
+		 */
+		public void beginChunk( String name ) throws IOException {
+			if (chunkStart >= 0)
+				endChunk();
+			if (names.contains(name))
+				throw new IllegalArgumentException("Chunk already exists: " + name);
+			names.add(name);
+			chunkStart = position();
+		}
+
+		/**
+		 * Ends the chunk being written
+		 */
+		public void endChunk() throws IOException {
+			if (chunkStart < 0)
+				throw new IllegalStateException("No chunk is being written");
+			long length = position() - chunkStart;
+			if (length > Integer.MAX_VALUE)
+				throw new IOException("Chunk is too large: " + names.get(names.size() - 1));
+			locations.add(new long[]{chunkStart, length});
+			chunkStart = -1;
+		}
+
+		/**
+		 * Number of bytes written to the current chunk
+		 */
+		public long getChunkBytes() throws IOException {
+			return chunkStart < 0 ? 0 : position() - chunkStart;
+		}
+
+		public void writeInt( int value ) throws IOException {
+			ensure(4);
+			buffer.putInt(value);
+		}
+
+		public void writeLong( long value ) throws IOException {
+			ensure(8);
+			buffer.putLong(value);
+		}
+
+		public void writeDouble( double value ) throws IOException {
+			ensure(8);
+			buffer.putDouble(value);
+		}
+
+		public void writeBoolean( boolean value ) throws IOException {
+			ensure(1);
+			buffer.put((byte)(value ? 1 : 0));
+		}
+
+		public void writeString( String value ) throws IOException {
+			byte[] bytes = value.getBytes(UTF_8);
+			writeInt(bytes.length);
+			if (bytes.length > buffer.capacity()) {
+				flush();
+				channel.write(ByteBuffer.wrap(bytes));
+			} else {
+				ensure(bytes.length);
+				buffer.put(bytes);
+			}
+		}
+
+		public void writeInts( int[] values, int offset, int length ) throws IOException {
+			for (int i = 0; i < length; i++) {
+				writeInt(values[offset + i]);
+			}
+		}
+
+		public void writeDoubles( double[] values, int offset, int length ) throws IOException {
+			for (int i = 0; i < length; i++) {
+				writeDouble(values[offset + i]);
+			}
+		}
+
+		/**
+		 * Ends the last chunk, writes the table of contents, and closes the file
+		 */
+		@Override public void close() throws IOException {
+			try {
+				if (chunkStart >= 0)
+					endChunk();
+
+				long tocOffset = position();
+				writeString(dataType);
+				writeInt(dataVersion);
+				writeInt(names.size());
+				for (int i = 0; i < names.size(); i++) {
+					writeString(names.get(i));
+					writeLong(locations.get(i)[0]);
+					writeLong(locations.get(i)[1]);
+				}
+				flush();
+
+				ByteBuffer header = ByteBuffer.allocate(8);
+				header.putLong(tocOffset);
+				header.flip();
+				channel.write(header, 8);
+			} finally {
+				channel.close();
+			}
+		}
+
+		long position() throws IOException {
+			return channel.position() + buffer.position();
+		}
+
+		void ensure( int bytes ) throws IOException {
+			if (buffer.remaining() < bytes)
+				flush();
+		}
+
+		void flush() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			buffer.clear();
+		}
+	}
+
+	/**
+	 * Reads a chunked file. Chunks are memory mapped when requested. Mapped chunks remain valid after the reader has
+	 * been closed.
+	 */
+	public static class Reader implements Closeable {
+		final FileChannel channel;
+
+		/** Type of data in the file */
+		@Getter final String dataType;
+		/** Version of the data's encoding */
+		@Getter final int dataVersion;
+
+		// Location of each chunk. Iteration order is the order they were written in
+		final Map<String, long[]> chunks = new LinkedHashMap<>();
+
+		public Reader( File file ) throws IOException {
+			channel = new RandomAccessFile(file, "r").getChannel();
+			try {
+				ByteBuffer header = ByteBuffer.allocate(16);
+				while (header.hasRemaining()) {
+					if (channel.read(header) < 0)
+						throw new IOException("File is too short");
+				}
+				header.flip();
+				if (header.getInt() != MAGIC)
+					throw new IOException("Not a chunked binary file");
+				int version = header.getInt();
+				if (version != VERSION)
+					throw new IOException("Unsupported version. Expected=" + VERSION + " found=" + version);
+				long tocOffset = header.getLong();
+				if (tocOffset <= 0 || tocOffset >= channel.size())
+					throw new IOException("Bad table of contents location. File was not closed?");
+
+				ByteBuffer toc = map(tocOffset, channel.size() - tocOffset);
+				dataType = readString(toc);
+				dataVersion = toc.getInt();
+				int numChunks = toc.getInt();
+				for (int i = 0; i < numChunks; i++) {
+					String name = readString(toc);
+					chunks.put(name, new long[]{toc.getLong(), toc.getLong()});
+				}
+			} catch (IOException | RuntimeException e) {
+				channel.close();
+				throw e;
+			}
+		}
+
+		/**
+		 * Throws an exception if the type of data in the file isn't the expected type and version
+		 */
+		public void checkDataType( String expectedType, int expectedVersion ) throws IOException {
+			if (!dataType.equals(expectedType))
+				throw new IOException("Expected " + expectedType + " but file contains " + dataType);
+			if (dataVersion != expectedVersion)
+				throw new IOException("Unsupported version of " + dataType + ". Expected=" +
+						expectedVersion + " found=" + dataVersion);
+		}
+
+		public boolean hasChunk( String name ) {
+			return chunks.containsKey(name);
+		}
+
+		/**
+		 * Names of all the chunks in the order they were written
+		 */
+		public List<String> getChunkNames() {
+			return new ArrayList<>(chunks.keySet());
+		}
+
+		/**
+		 * Memory maps the chunk
+		 *
+		 * @param name Name of the chunk
+		 * @return Read only buffer which contains the chunk
+		 */
+		public ByteBuffer getChunk( String name ) throws IOException {
+			long[] location = chunks.get(name);
+			if (location == null)
+				throw new IOException("No chunk with the name: " + name);
+			return map(location[0], location[1]);
+		}
+
+		ByteBuffer map( long offset, long length ) throws IOException {
+			if (length > Integer.MAX_VALUE)
+				throw new IOException("Chunk is too large to map");
+			return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+		}
+
+		@Override public void close() throws IOException {
+			channel.close();
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.geo;
+
+import boofcv.alg.structure.LookUpSimilarImages;
+import boofcv.misc.BoofLambdas;
+import boofcv.struct.feature.AssociatedIndex;
+import georegression.struct.point.Point2D_F64;
+import lombok.Getter;
+import org.ddogleg.struct.DogArray;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link LookUpSimilarImages} which reads from a {@link SimilarImagesDiskStore}. This class is
+ * light weight and not thread safe, since it remembers the target of the most recent call to findSimilar(). Multiple
+ * instances can read from the same store at once.
+ *
+ * @author Peter Abeles
+ */
+public class LookUpSimilarImagesDisk implements LookUpSimilarImages {
+	/** The store which is being read from */
+	@Getter final SimilarImagesDiskStore store;
+
+	// Record of the target in the most recent call to findSimilar()
+	@Nullable SimilarImagesDiskStore.Record target;
+
+	public LookUpSimilarImagesDisk( SimilarImagesDiskStore store ) {
+		this.store = store;
+	}
+
+	@Override public List<String> getImageIDs() {
+		return store.getImageIDs();
+	}
+
+	@Override
+	public void findSimilar( String target, @Nullable BoofLambdas.Filter<String> filter, List<String> similarImages ) {
+		SimilarImagesDiskStore.Record record = store.lookupRecord(store.indexOf(target));
+		List<String> ids = store.getImageIDs();
+
+		similarImages.clear();
+		for (int i = 0; i < record.similar.length; i++) {
+			String id = ids.get(record.similar[i]);
+			if (filter == null || filter.keep(id)) {
+				similarImages.add(id);
+			}
+		}
+
+		this.target = record;
+	}
+
+	@Override public void lookupPixelFeats( String target, DogArray<Point2D_F64> features ) {
+		SimilarImagesDiskStore.Record record = store.lookupRecord(store.indexOf(target));
+
+		features.resize(record.pixels.length/2);
+		for (int i = 0; i < features.size; i++) {
+			features.get(i).setTo(record.pixels[i*2], record.pixels[i*2 + 1]);
+		}
+	}
+
+	@Override public boolean lookupAssociated( String similarD, DogArray<AssociatedIndex> pairs ) {
+		SimilarImagesDiskStore.Record record = Objects.requireNonNull(target, "Must call findSimilar first");
+		int similarIdx = store.indexOf(similarD);
+
+		for (int i = 0; i < record.similar.length; i++) {
+			if (record.similar[i] != similarIdx)
+				continue;
+
+			if (record.pairCounts[i] < 0)
+				return false;
+
+			int offset = record.pairOffsets[i];
+			pairs.resize(record.pairCounts[i]);
+			for (int j = 0; j < pairs.size; j++) {
+				pairs.get(j).setTo(record.pairs[offset + j*2], record.pairs[offset + j*2 + 1]);
+			}
+			return true;
+		}
+
+		return false;
+	}
+}
@@ -27,8 +27,10 @@ import boofcv.alg.structure.LookUpSimilarImages;
 import boofcv.alg.structure.PairwiseImageGraph;
 import boofcv.alg.structure.SceneWorkingGraph;
 import boofcv.alg.structure.SceneWorkingGraph.InlierInfo;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.io.calibration.CalibrationIO;
 import boofcv.misc.BoofMiscOps;
+import boofcv.struct.calib.CameraPinholeBrown;
 import boofcv.struct.feature.AssociatedIndex;
 import boofcv.struct.image.ImageDimension;
 import georegression.struct.point.Point2D_F64;
@@ -43,21 +45,26 @@ import org.jetbrains.annotations.Nullable;
 import org.yaml.snakeyaml.Yaml;
 
 import java.io.*;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.*;
 
 import static boofcv.io.calibration.CalibrationIO.*;
+import static boofcv.io.geo.ChunkedBinaryFile.readBoolean;
+import static boofcv.io.geo.ChunkedBinaryFile.readString;
 import static boofcv.misc.BoofMiscOps.getOrThrow;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
- * For loading and saving data structures related to multiview reconstruction.
+ * For loading and saving data structures related to multiview reconstruction. Data structures can be saved in
+ * YAML or, for large data structures, a compact binary format, see saveBinary(). Functions which load from a path
+ * detect which format was used.
  *
  * @author Peter Abeles
  */
 public class MultiViewIO {
+	/** Binary files split large arrays across chunks. A new chunk is started after it has this many bytes. */
+	public static long binaryChunkBytes = 64L*1024L*1024L;
 
 	public static void save( LookUpSimilarImages db, String path ) {
 		try {
@@ -364,6 +371,8 @@ public class MultiViewIO {
 	}
 
 	public static SceneStructureMetric load( String path, @Nullable SceneStructureMetric graph ) {
+		if (isBinary(path))
+			return loadBinary(path, graph);
 		try {
 			Reader reader = new InputStreamReader(new FileInputStream(path), UTF_8);
 			return load(reader, graph);
@@ -443,6 +452,8 @@ public class MultiViewIO {
 	}
 
 	public static LookUpSimilarImages loadSimilarImages( String path ) {
+		if (isBinary(path))
+			return loadSimilarImagesBinary(path);
 		try {
 			Reader reader = new InputStreamReader(new FileInputStream(path), UTF_8);
 			return loadSimilarImages(reader);
@@ -515,6 +526,8 @@ public class MultiViewIO {
 	}
 
 	public static PairwiseImageGraph load( String path, @Nullable PairwiseImageGraph graph ) {
+		if (isBinary(path))
+			return loadBinary(path, graph);
 		try {
 			Reader reader = new InputStreamReader(new FileInputStream(path), UTF_8);
 			return load(reader, graph);
@@ -660,6 +673,8 @@ public class MultiViewIO {
 	}
 
 	public static SceneWorkingGraph load( String path, PairwiseImageGraph pairwise, @Nullable SceneWorkingGraph working ) {
+		if (isBinary(path))
+			return loadBinary(path, pairwise, working);
 		try {
 			Reader reader = new InputStreamReader(new FileInputStream(path), UTF_8);
 			return load(reader, pairwise, working);
@@ -720,6 +735,676 @@ public class MultiViewIO {
 		return working;
 	}
 
+	/**
+	 * Returns true if the file was saved using one of the saveBinary() functions
+	 */
+	public static boolean isBinary( String path ) {
+		return ChunkedBinaryFile.isChunkedFile(new File(path));
+	}
+
+	/**
+	 * Saves a {@link SceneStructureMetric} in a binary format. Much faster and more compact than YAML. Points are
+	 * split across several chunks, which are decoded concurrently when loaded.
+	 *
+	 * @param scene (Input) The scene
+	 * @param path (Output) Where the scene is writen to
+	 * @see ChunkedBinaryFile
+	 */
+	public static void saveBinary( SceneStructureMetric scene, String path ) {
+		try (var out = new ChunkedBinaryFile.Writer(new File(path), "SceneStructureMetric", 0)) {
+			out.beginChunk("header");
+			out.writeBoolean(scene.isHomogenous());
+			out.writeInt(scene.cameras.size);
+			out.writeInt(scene.views.size);
+			out.writeInt(scene.motions.size);
+			out.writeInt(scene.points.size);
+			out.writeInt(scene.rigids.size);
+
+			out.beginChunk("cameras");
+			for (int i = 0; i < scene.cameras.size; i++) {
+				SceneStructureCommon.Camera c = scene.cameras.get(i);
+				out.writeBoolean(c.known);
+				if (!(c.model instanceof BundlePinholeSimplified))
+					throw new RuntimeException("BundleAdjustmentCamera type not yet supported. " +
+							c.model.getClass().getSimpleName());
+				out.writeString("PinholeSimplified");
+				writePinholeSimplified(out, (BundlePinholeSimplified)c.model);
+			}
+
+			// Look up table to find the index of parent views
+			Map<SceneStructureMetric.View, Integer> viewToIndex = new IdentityHashMap<>();
+			scene.views.forIdx(( i, v ) -> viewToIndex.put(v, i));
+
+			out.beginChunk("views");
+			for (int i = 0; i < scene.views.size; i++) {
+				SceneStructureMetric.View v = scene.views.get(i);
+				out.writeInt(v.camera);
+				out.writeInt(v.parent_to_view);
+				out.writeInt(v.parent == null ? -1 : Objects.requireNonNull(viewToIndex.get(v.parent)));
+			}
+
+			out.beginChunk("motions");
+			for (int i = 0; i < scene.motions.size; i++) {
+				SceneStructureMetric.Motion m = scene.motions.get(i);
+				out.writeBoolean(m.known);
+				writeSE3(out, m.motion);
+			}
+
+			out.beginChunk("rigids");
+			for (int i = 0; i < scene.rigids.size; i++) {
+				SceneStructureMetric.Rigid r = scene.rigids.get(i);
+				out.writeInt(r.points.length);
+				out.writeBoolean(r.known);
+				writeSE3(out, r.object_to_world);
+				out.writeInt(r.indexFirst);
+				for (int j = 0; j < r.points.length; j++) {
+					writePoint(out, r.points[j]);
+				}
+			}
+
+			writeSplit(out, "points", scene.points.size, i -> writePoint(out, scene.points.get(i)));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Loads a {@link SceneStructureMetric} which was saved with {@link #saveBinary(SceneStructureMetric, String)}
+	 *
+	 * @param path (Input) Location of the file
+	 * @param scene (Output) Optional storage for the scene. If null a new instance is created.
+	 * @return The decoded scene
+	 */
+	public static SceneStructureMetric loadBinary( String path, @Nullable SceneStructureMetric scene ) {
+		try (var in = new ChunkedBinaryFile.Reader(new File(path))) {
+			in.checkDataType("SceneStructureMetric", 0);
+
+			ByteBuffer header = in.getChunk("header");
+			boolean homogenous = readBoolean(header);
+			int numCameras = header.getInt();
+			int numViews = header.getInt();
+			int numMotions = header.getInt();
+			int numPoints = header.getInt();
+			int numRigids = header.getInt();
+
+			if (scene != null && scene.isHomogenous() != homogenous)
+				scene = null;
+			if (scene == null)
+				scene = new SceneStructureMetric(homogenous);
+			scene.initialize(numCameras, numViews, numMotions, numPoints, numRigids);
+
+			ByteBuffer cameras = in.getChunk("cameras");
+			for (int i = 0; i < numCameras; i++) {
+				SceneStructureCommon.Camera c = scene.cameras.get(i);
+				c.known = readBoolean(cameras);
+				String type = readString(cameras);
+				c.model = switch (type) {
+					case "PinholeSimplified" -> readPinholeSimplified(cameras, null);
+					default -> throw new IOException("Unknown camera. " + type);
+				};
+			}
+
+			ByteBuffer views = in.getChunk("views");
+			for (int i = 0; i < numViews; i++) {
+				SceneStructureMetric.View v = scene.views.get(i);
+				v.camera = views.getInt();
+				v.parent_to_view = views.getInt();
+				int parent = views.getInt();
+				v.parent = parent >= 0 ? scene.views.get(parent) : null;
+			}
+
+			ByteBuffer motions = in.getChunk("motions");
+			for (int i = 0; i < numMotions; i++) {
+				SceneStructureMetric.Motion m = scene.motions.grow();
+				m.known = readBoolean(motions);
+				readSE3(motions, m.motion);
+			}
+
+			ByteBuffer rigids = in.getChunk("rigids");
+			for (int i = 0; i < numRigids; i++) {
+				SceneStructureMetric.Rigid r = scene.rigids.get(i);
+				r.init(rigids.getInt(), homogenous ? 4 : 3);
+				r.known = readBoolean(rigids);
+				readSE3(rigids, r.object_to_world);
+				r.indexFirst = rigids.getInt();
+				for (int j = 0; j < r.points.length; j++) {
+					readPoint(rigids, r.points[j]);
+				}
+			}
+
+			final SceneStructureMetric _scene = scene;
+			readSplit(in, "points", numPoints, true, ( buffer, i ) -> readPoint(buffer, _scene.points.get(i)));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (BufferUnderflowException e) {
+			throw new UncheckedIOException(new IOException("Truncated chunk", e));
+		}
+
+		return scene;
+	}
+
+	/**
+	 * Saves a {@link PairwiseImageGraph} in a binary format. Much faster and more compact than YAML. Motions are
+	 * split across several chunks, which are decoded concurrently when loaded.
+	 *
+	 * @param graph (Input) The graph which is to be saved
+	 * @param path (Output) Where the graph is writen to
+	 * @see ChunkedBinaryFile
+	 */
+	public static void saveBinary( PairwiseImageGraph graph, String path ) {
+		try (var out = new ChunkedBinaryFile.Writer(new File(path), "PairwiseImageGraph", 0)) {
+			out.beginChunk("header");
+			out.writeInt(graph.nodes.size);
+			out.writeInt(graph.edges.size);
+
+			writeSplit(out, "views", graph.nodes.size, viewIdx -> {
+				PairwiseImageGraph.View pview = graph.nodes.get(viewIdx);
+				out.writeString(pview.id);
+				out.writeInt(pview.totalObservations);
+				out.writeInt(pview.connections.size);
+				for (int i = 0; i < pview.connections.size; i++) {
+					out.writeInt(pview.connections.get(i).index);
+				}
+			});
+
+			writeSplit(out, "motions", graph.edges.size, motionIdx -> {
+				PairwiseImageGraph.Motion pmotion = graph.edges.get(motionIdx);
+				BoofMiscOps.checkEq(pmotion.index, motionIdx);
+				out.writeBoolean(pmotion.is3D);
+				out.writeDouble(pmotion.score3D);
+				out.writeInt(pmotion.src.index);
+				out.writeInt(pmotion.dst.index);
+				writeAssociated(out, pmotion.inliers);
+			});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Loads a {@link PairwiseImageGraph} which was saved with {@link #saveBinary(PairwiseImageGraph, String)}
+	 *
+	 * @param path (Input) Location of the file
+	 * @param graph (Output) Optional storage for the graph. If null a new instance is created.
+	 * @return The decoded graph
+	 */
+	public static PairwiseImageGraph loadBinary( String path, @Nullable PairwiseImageGraph graph ) {
+		if (graph == null)
+			graph = new PairwiseImageGraph();
+		else
+			graph.reset();
+		final var _graph = graph;
+
+		try (var in = new ChunkedBinaryFile.Reader(new File(path))) {
+			in.checkDataType("PairwiseImageGraph", 0);
+
+			ByteBuffer header = in.getChunk("header");
+			int numViews = header.getInt();
+			int numMotions = header.getInt();
+
+			graph.nodes.resize(numViews);
+			graph.edges.resize(numMotions);
+
+			// Views are added to a HashMap, so they can't be decoded concurrently
+			readSplit(in, "views", numViews, false, ( buffer, viewIdx ) -> {
+				PairwiseImageGraph.View v = _graph.nodes.get(viewIdx);
+				v.index = viewIdx;
+				v.id = readString(buffer);
+				v.totalObservations = buffer.getInt();
+				int numConnections = buffer.getInt();
+				v.connections.resize(numConnections);
+				for (int i = 0; i < numConnections; i++) {
+					v.connections.set(i, _graph.edges.get(buffer.getInt()));
+				}
+				_graph.mapNodes.put(v.id, v);
+			});
+
+			readSplit(in, "motions", numMotions, true, ( buffer, motionIdx ) -> {
+				PairwiseImageGraph.Motion m = _graph.edges.get(motionIdx);
+				m.index = motionIdx;
+				m.is3D = readBoolean(buffer);
+				m.score3D = buffer.getDouble();
+				m.src = _graph.nodes.get(buffer.getInt());
+				m.dst = _graph.nodes.get(buffer.getInt());
+				readAssociated(buffer, m.inliers);
+			});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (BufferUnderflowException e) {
+			throw new UncheckedIOException(new IOException("Truncated chunk", e));
+		}
+
+		return graph;
+	}
+
+	/**
+	 * Saves a {@link SceneWorkingGraph} in a binary format. Much faster and more compact than YAML. Along with
+	 * everything saved in YAML, the state of the search (explored and open views) is saved, allowing it to be used
+	 * as a checkpoint.
+	 *
+	 * @param working (Input) The graph which is to be saved
+	 * @param path (Output) Where the graph is writen to
+	 * @see ChunkedBinaryFile
+	 */
+	public static void saveBinary( SceneWorkingGraph working, String path ) {
+		try (var out = new ChunkedBinaryFile.Writer(new File(path), "SceneWorkingGraph", 0)) {
+			out.beginChunk("header");
+			out.writeInt(working.listCameras.size);
+			out.writeInt(working.listViews.size());
+			out.writeInt(working.index);
+			out.writeInt(working.numSeedViews);
+
+			out.beginChunk("cameras");
+			for (int cameraIdx = 0; cameraIdx < working.listCameras.size; cameraIdx++) {
+				SceneWorkingGraph.Camera camera = working.listCameras.get(cameraIdx);
+				out.writeInt(camera.indexDB);
+				writePinholeBrown(out, camera.prior);
+				writePinholeSimplified(out, camera.intrinsic);
+			}
+
+			// Views are declared first, so that views can be decoded in any order
+			out.beginChunk("view_ids");
+			for (int viewIdx = 0; viewIdx < working.listViews.size(); viewIdx++) {
+				SceneWorkingGraph.View wview = working.listViews.get(viewIdx);
+				out.writeString(wview.pview.id);
+				out.writeInt(working.getViewCamera(wview).localIndex);
+			}
+
+			writeSplit(out, "views", working.listViews.size(), viewIdx -> {
+				SceneWorkingGraph.View wview = working.listViews.get(viewIdx);
+				out.writeDoubles(wview.projective.data, 0, 12);
+				writeSE3(out, wview.world_to_view);
+				out.writeInt(wview.inliers.size);
+				for (int infoIdx = 0; infoIdx < wview.inliers.size; infoIdx++) {
+					InlierInfo inliers = wview.inliers.get(infoIdx);
+					out.writeDouble(inliers.scoreGeometric);
+					out.writeInt(inliers.views.size);
+					for (int i = 0; i < inliers.views.size; i++) {
+						out.writeString(inliers.views.get(i).id);
+						DogArray_I32 obs = inliers.observations.get(i);
+						out.writeInt(obs.size);
+						out.writeInts(obs.data, 0, obs.size);
+					}
+				}
+			});
+
+			out.beginChunk("search");
+			out.writeInt(working.exploredViews.size());
+			for (String id : working.exploredViews) {
+				out.writeString(id);
+			}
+			out.writeInt(working.open.size);
+			for (int i = 0; i < working.open.size; i++) {
+				out.writeString(working.open.get(i).id);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Loads a {@link SceneWorkingGraph} which was saved with {@link #saveBinary(SceneWorkingGraph, String)}
+	 *
+	 * @param path (Input) Location of the file
+	 * @param pairwise (Input) Pairwise graph which is referenced by the SceneWorkingGraph.
+	 * @param working (Output) Optional storage for the working graph. If null a new instance is created.
+	 * @return The decoded graph
+	 */
+	public static SceneWorkingGraph loadBinary( String path, PairwiseImageGraph pairwise,
+												@Nullable SceneWorkingGraph working ) {
+		if (working == null)
+			working = new SceneWorkingGraph();
+		else
+			working.reset();
+		final var _working = working;
+
+		try (var in = new ChunkedBinaryFile.Reader(new File(path))) {
+			in.checkDataType("SceneWorkingGraph", 0);
+
+			ByteBuffer header = in.getChunk("header");
+			int numCameras = header.getInt();
+			int numViews = header.getInt();
+			working.index = header.getInt();
+			working.numSeedViews = header.getInt();
+
+			ByteBuffer cameras = in.getChunk("cameras");
+			for (int cameraIdx = 0; cameraIdx < numCameras; cameraIdx++) {
+				SceneWorkingGraph.Camera camera = working.addCamera(cameras.getInt());
+				readPinholeBrown(cameras, camera.prior);
+				readPinholeSimplified(cameras, camera.intrinsic);
+			}
+
+			ByteBuffer viewIds = in.getChunk("view_ids");
+			for (int viewIdx = 0; viewIdx < numViews; viewIdx++) {
+				PairwiseImageGraph.View pview = pairwise.lookupNode(readString(viewIds));
+				working.addView(pview, working.listCameras.get(viewIds.getInt()));
+			}
+
+			readSplit(in, "views", numViews, true, ( buffer, viewIdx ) -> {
+				SceneWorkingGraph.View wview = _working.listViews.get(viewIdx);
+				for (int i = 0; i < 12; i++) {
+					wview.projective.data[i] = buffer.getDouble();
+				}
+				readSE3(buffer, wview.world_to_view);
+				wview.inliers.resetResize(buffer.getInt());
+				for (int infoIdx = 0; infoIdx < wview.inliers.size; infoIdx++) {
+					InlierInfo inliers = wview.inliers.get(infoIdx);
+					inliers.scoreGeometric = buffer.getDouble();
+					int numInlierViews = buffer.getInt();
+					inliers.views.resize(numInlierViews);
+					inliers.observations.resize(numInlierViews);
+					for (int i = 0; i < numInlierViews; i++) {
+						inliers.views.set(i, pairwise.lookupNode(readString(buffer)));
+						DogArray_I32 obs = inliers.observations.get(i);
+						obs.resize(buffer.getInt());
+						for (int j = 0; j < obs.size; j++) {
+							obs.data[j] = buffer.getInt();
+						}
+					}
+				}
+			});
+
+			ByteBuffer search = in.getChunk("search");
+			int numExplored = search.getInt();
+			for (int i = 0; i < numExplored; i++) {
+				working.exploredViews.add(readString(search));
+			}
+			int numOpen = search.getInt();
+			for (int i = 0; i < numOpen; i++) {
+				working.open.add(pairwise.lookupNode(readString(search)));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (BufferUnderflowException e) {
+			throw new UncheckedIOException(new IOException("Truncated chunk", e));
+		}
+
+		return working;
+	}
+
+	/**
+	 * Saves a {@link LookUpSimilarImages} in a binary format. Much faster and more compact than YAML.
+	 *
+	 * @param db (Input) Information on similar images
+	 * @param path (Output) Where the graph is writen to
+	 * @see ChunkedBinaryFile
+	 */
+	public static void saveBinary( LookUpSimilarImages db, String path ) {
+		List<String> imageIds = db.getImageIDs();
+
+		// Only need to save associations of lower views
+		TObjectIntMap<String> viewToIndex = new TObjectIntHashMap<>();
+		for (int i = 0; i < imageIds.size(); i++) {
+			viewToIndex.put(imageIds.get(i), i);
+		}
+
+		try (var out = new ChunkedBinaryFile.Writer(new File(path), "SimilarImages", 0)) {
+			out.beginChunk("images");
+			out.writeInt(imageIds.size());
+			for (int i = 0; i < imageIds.size(); i++) {
+				out.writeString(imageIds.get(i));
+			}
+
+			DogArray<Point2D_F64> features = new DogArray<>(Point2D_F64::new);
+			writeSplit(out, "features", imageIds.size(), viewIndex -> {
+				db.lookupPixelFeats(imageIds.get(viewIndex), features);
+				out.writeInt(features.size);
+				for (int i = 0; i < features.size; i++) {
+					Point2D_F64 p = features.get(i);
+					out.writeDouble(p.x);
+					out.writeDouble(p.y);
+				}
+			});
+
+			List<String> similarIds = new ArrayList<>();
+			DogArray<AssociatedIndex> matches = new DogArray<>(AssociatedIndex::new);
+			DogArray_I32 related = new DogArray_I32();
+			writeSplit(out, "similar", imageIds.size(), viewIndex -> {
+				db.findSimilar(imageIds.get(viewIndex), ( s ) -> true, similarIds);
+				related.reset();
+				for (int i = 0; i < similarIds.size(); i++) {
+					int similarViewIndex = viewToIndex.get(similarIds.get(i));
+					if (similarViewIndex >= viewIndex)
+						related.add(i);
+				}
+				out.writeInt(related.size);
+				for (int i = 0; i < related.size; i++) {
+					String similarId = similarIds.get(related.get(i));
+					db.lookupAssociated(similarId, matches);
+					out.writeInt(viewToIndex.get(similarId));
+					writeAssociated(out, matches);
+				}
+			});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Loads a {@link LookUpSimilarImages} which was saved with {@link #saveBinary(LookUpSimilarImages, String)}
+	 *
+	 * @param path (Input) Location of the file
+	 * @return The decoded graph
+	 */
+	public static LookUpSimilarImages loadSimilarImagesBinary( String path ) {
+		var ret = new SimilarImagesData();
+
+		try (var in = new ChunkedBinaryFile.Reader(new File(path))) {
+			in.checkDataType("SimilarImages", 0);
+
+			ByteBuffer images = in.getChunk("images");
+			int numImages = images.getInt();
+			List<String> listImages = new ArrayList<>(numImages);
+			for (int i = 0; i < numImages; i++) {
+				listImages.add(readString(images));
+			}
+
+			// SimilarImagesData isn't thread safe
+			DogArray<Point2D_F64> features = new DogArray<>(Point2D_F64::new);
+			readSplit(in, "features", numImages, false, ( buffer, imageIdx ) -> {
+				features.resize(buffer.getInt());
+				for (int i = 0; i < features.size; i++) {
+					features.get(i).setTo(buffer.getDouble(), buffer.getDouble());
+				}
+				ret.add(listImages.get(imageIdx), features.toList());
+			});
+
+			DogArray<AssociatedIndex> pairs = new DogArray<>(AssociatedIndex::new);
+			readSplit(in, "similar", numImages, false, ( buffer, imageIdx ) -> {
+				int numRelated = buffer.getInt();
+				for (int i = 0; i < numRelated; i++) {
+					String similarID = listImages.get(buffer.getInt());
+					readAssociated(buffer, pairs);
+					ret.setRelationship(listImages.get(imageIdx), similarID, pairs.toList());
+				}
+			});
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (BufferUnderflowException e) {
+			throw new UncheckedIOException(new IOException("Truncated chunk", e));
+		}
+
+		return ret;
+	}
+
+	/**
+	 * Encodes the elements in an array, starting a new chunk every time the current chunk has more than
+	 * {@link #binaryChunkBytes}. Chunks are named "name.0", "name.1", ... and are followed by a chunk called "name"
+	 * which specifies the first element in each chunk.
+	 */
+	private static void writeSplit( ChunkedBinaryFile.Writer out, String name, int count, BinaryEncoder encoder )
+			throws IOException {
+		var firstElements = new DogArray_I32();
+		for (int i = 0; i < count; i++) {
+			if (i == 0 || out.getChunkBytes() >= binaryChunkBytes) {
+				out.beginChunk(name + "." + firstElements.size);
+				firstElements.add(i);
+			}
+			encoder.encode(i);
+		}
+
+		out.beginChunk(name);
+		out.writeInt(count);
+		out.writeInt(firstElements.size);
+		out.writeInts(firstElements.data, 0, firstElements.size);
+		out.endChunk();
+	}
+
+	/**
+	 * Decodes an array which was written by {@link #writeSplit}.
+	 *
+	 * @param concurrent If true, chunks are decoded concurrently and the decoder must be thread safe
+	 */
+	private static void readSplit( ChunkedBinaryFile.Reader in, String name, int expectedCount,
+								   boolean concurrent, BinaryDecoder decoder ) throws IOException {
+		ByteBuffer index = in.getChunk(name);
+		int count = index.getInt();
+		if (count != expectedCount)
+			throw new IOException("Unexpected number of elements in " + name + ". " + count + " vs " + expectedCount);
+		int numChunks = index.getInt();
+		int[] firstElements = new int[numChunks + 1];
+		for (int i = 0; i < numChunks; i++) {
+			firstElements[i] = index.getInt();
+		}
+		firstElements[numChunks] = count;
+
+		var chunks = new ByteBuffer[numChunks];
+		for (int i = 0; i < numChunks; i++) {
+			chunks[i] = in.getChunk(name + "." + i);
+		}
+
+		if (concurrent && numChunks > 1 && BoofConcurrency.isUseConcurrent()) {
+			BoofConcurrency.loopFor(0, numChunks, chunkIdx -> {
+				for (int i = firstElements[chunkIdx]; i < firstElements[chunkIdx + 1]; i++) {
+					decoder.decode(chunks[chunkIdx], i);
+				}
+			});
+		} else {
+			for (int chunkIdx = 0; chunkIdx < numChunks; chunkIdx++) {
+				for (int i = firstElements[chunkIdx]; i < firstElements[chunkIdx + 1]; i++) {
+					decoder.decode(chunks[chunkIdx], i);
+				}
+			}
+		}
+	}
+
+	private static void writePoint( ChunkedBinaryFile.Writer out, SceneStructureCommon.Point p ) throws IOException {
+		out.writeDoubles(p.coordinate, 0, p.coordinate.length);
+		out.writeInt(p.views.size);
+		out.writeInts(p.views.data, 0, p.views.size);
+	}
+
+	private static void readPoint( ByteBuffer buffer, SceneStructureCommon.Point p ) {
+		for (int i = 0; i < p.coordinate.length; i++) {
+			p.coordinate[i] = buffer.getDouble();
+		}
+		p.views.resize(buffer.getInt());
+		for (int i = 0; i < p.views.size; i++) {
+			p.views.data[i] = buffer.getInt();
+		}
+	}
+
+	private static void writeAssociated( ChunkedBinaryFile.Writer out, FastAccess<AssociatedIndex> pairs )
+			throws IOException {
+		out.writeInt(pairs.size);
+		for (int i = 0; i < pairs.size; i++) {
+			AssociatedIndex a = pairs.get(i);
+			out.writeInt(a.src);
+			out.writeInt(a.dst);
+		}
+	}
+
+	private static void readAssociated( ByteBuffer buffer, DogArray<AssociatedIndex> pairs ) {
+		pairs.resetResize(buffer.getInt());
+		for (int i = 0; i < pairs.size; i++) {
+			pairs.get(i).setTo(buffer.getInt(), buffer.getInt());
+		}
+	}
+
+	private static void writeSE3( ChunkedBinaryFile.Writer out, Se3_F64 m ) throws IOException {
+		out.writeDoubles(m.R.data, 0, 9);
+		out.writeDouble(m.T.x);
+		out.writeDouble(m.T.y);
+		out.writeDouble(m.T.z);
+	}
+
+	private static void readSE3( ByteBuffer buffer, Se3_F64 m ) {
+		for (int i = 0; i < 9; i++) {
+			m.R.data[i] = buffer.getDouble();
+		}
+		m.T.x = buffer.getDouble();
+		m.T.y = buffer.getDouble();
+		m.T.z = buffer.getDouble();
+	}
+
+	private static void writePinholeSimplified( ChunkedBinaryFile.Writer out, BundlePinholeSimplified intrinsic )
+			throws IOException {
+		out.writeDouble(intrinsic.f);
+		out.writeDouble(intrinsic.k1);
+		out.writeDouble(intrinsic.k2);
+	}
+
+	private static BundlePinholeSimplified readPinholeSimplified( ByteBuffer buffer,
+																  @Nullable BundlePinholeSimplified intrinsic ) {
+		if (intrinsic == null)
+			intrinsic = new BundlePinholeSimplified();
+		intrinsic.f = buffer.getDouble();
+		intrinsic.k1 = buffer.getDouble();
+		intrinsic.k2 = buffer.getDouble();
+		return intrinsic;
+	}
+
+	private static void writePinholeBrown( ChunkedBinaryFile.Writer out, CameraPinholeBrown intrinsic )
+			throws IOException {
+		out.writeInt(intrinsic.width);
+		out.writeInt(intrinsic.height);
+		out.writeDouble(intrinsic.fx);
+		out.writeDouble(intrinsic.fy);
+		out.writeDouble(intrinsic.skew);
+		out.writeDouble(intrinsic.cx);
+		out.writeDouble(intrinsic.cy);
+		if (intrinsic.radial == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(intrinsic.radial.length);
+			out.writeDoubles(intrinsic.radial, 0, intrinsic.radial.length);
+		}
+		out.writeDouble(intrinsic.t1);
+		out.writeDouble(intrinsic.t2);
+	}
+
+	private static void readPinholeBrown( ByteBuffer buffer, CameraPinholeBrown intrinsic ) {
+		intrinsic.width = buffer.getInt();
+		intrinsic.height = buffer.getInt();
+		intrinsic.fx = buffer.getDouble();
+		intrinsic.fy = buffer.getDouble();
+		intrinsic.skew = buffer.getDouble();
+		intrinsic.cx = buffer.getDouble();
+		intrinsic.cy = buffer.getDouble();
+		int numRadial = buffer.getInt();
+		if (numRadial < 0) {
+			intrinsic.radial = null;
+		} else {
+			double[] radial = new double[numRadial];
+			for (int i = 0; i < numRadial; i++) {
+				radial[i] = buffer.getDouble();
+			}
+			intrinsic.radial = radial;
+		}
+		intrinsic.t1 = buffer.getDouble();
+		intrinsic.t2 = buffer.getDouble();
+	}
+
+	/** Encodes a single element in an array */
+	private interface BinaryEncoder {
+		void encode( int index ) throws IOException;
+	}
+
+	/** Decodes a single element in an array */
+	private interface BinaryDecoder {
+		void decode( ByteBuffer buffer, int index );
+	}
+
 	public static List<Object> putInlierInfo( FastAccess<InlierInfo> listInliers ) {
 		List<Object> list = new ArrayList<>();
 		for (int infoIdx = 0; infoIdx < listInliers.size; infoIdx++) {
@@ -0,0 +1,581 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.geo;
+
+import boofcv.alg.structure.LookUpSimilarImages;
+import boofcv.struct.feature.AssociatedIndex;
+import georegression.struct.point.Point2D_F64;
+import lombok.Getter;
+import lombok.Setter;
+import org.ddogleg.struct.DogArray;
+import org.ddogleg.struct.DogArray_F32;
+import org.ddogleg.struct.DogArray_I32;
+import org.ddogleg.struct.DogArray_I64;
+import org.ddogleg.struct.FastAccess;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Disk backed storage for the information in {@link LookUpSimilarImages}. It's intended for image collections where
+ * the features and associations are too large to fit on the heap. Each image's information is saved in a compact
+ * binary record. Records are split across several shard files so that no single file is excessively large. Records
+ * are decoded on demand and the most recently used are kept in a LRU cache with a size limit in bytes.
+ *
+ * The store is thread safe. Since {@link LookUpSimilarImages} remembers the target of the most recent call to
+ * findSimilar(), each thread should have its own {@link LookUpSimilarImagesDisk}, see {@link #createLookUp()}. All
+ * of them share the same cache.
+ *
+ * A store can be created from an existing {@link LookUpSimilarImages} using {@link #save} or built one image at a
+ * time using {@link Writer}.
+ *
+ * Directory layout:
+ * <pre>
+ * index.bin        Image IDs and the location of each image's record
+ * shard_00000.bin  The first imagesPerShard records which were written
+ * shard_00001.bin  ...
+ * </pre>
+ *
+ * Format of index.bin:
+ * <pre>
+ * int     MAGIC ("BSIM")
+ * int     VERSION
+ * int     Number of images
+ * int     Images per shard
+ * For each image:
+ *   UTF   Image ID
+ *   int   Shard the record is in
+ *   long  Offset of the record inside its shard
+ *   int   Number of bytes in the record
+ * </pre>
+ *
+ * Format of a record:
+ * <pre>
+ * int     Number of features
+ * float[] Pixel coordinates (x,y) of each feature
+ * int     Number of similar images
+ * int[]   Index of each similar image
+ * int[]   Number of associated features for each similar image. -1 if there are no known associations.
+ * int[]   Associated features (src,dst) for each similar image
+ * </pre>
+ *
+ * All values are big endian. Pixel coordinates are stored as floats to reduce the size.
+ *
+ * @author Peter Abeles
+ */
+public class SimilarImagesDiskStore implements Closeable {
+	/** Identifies the index file */
+	public static final int MAGIC = 0x4253494D;
+	/** Version of the file format */
+	public static final int VERSION = 2;
+	/** Name of the index file inside the directory */
+	public static final String INDEX_NAME = "index.bin";
+
+	/** Maximum number of bytes used by decoded records in the cache */
+	@Getter @Setter long maxCacheBytes;
+
+	/** Number of bytes used by decoded records in the cache */
+	@Getter long cacheBytes;
+	/** Number of times a record was found in the cache */
+	@Getter long cacheHits;
+	/** Number of times a record had to be read from disk */
+	@Getter long cacheMisses;
+
+	/** Number of images in each shard */
+	@Getter final int imagesPerShard;
+
+	final File directory;
+	final List<String> imageIDs;
+	final Map<String, Integer> idToIndex = new HashMap<>();
+	final int[] recordShards;
+	final long[] recordOffsets;
+	final int[] recordLengths;
+
+	// Shard files are opened the first time they are accessed
+	final FileChannel[] shards;
+
+	// Decoded records in order of least recently used first
+	final LinkedHashMap<Integer, Record> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Opens a store which was previously saved
+	 *
+	 * @param directory Directory the store was saved to
+	 * @param maxCacheBytes Maximum number of bytes decoded records in the cache can use
+	 */
+	public SimilarImagesDiskStore( File directory, long maxCacheBytes ) {
+		this.directory = directory;
+		this.maxCacheBytes = maxCacheBytes;
+
+		try (var in = new DataInputStream(new BufferedInputStream(
+				new FileInputStream(new File(directory, INDEX_NAME))))) {
+			if (in.readInt() != MAGIC)
+				throw new IOException("Not a similar images index file");
+			int version = in.readInt();
+			if (version != VERSION)
+				throw new IOException("Unsupported version. Expected=" + VERSION + " found=" + version);
+			int numImages = in.readInt();
+			imagesPerShard = in.readInt();
+
+			var ids = new ArrayList<String>(numImages);
+			recordShards = new int[numImages];
+			recordOffsets = new long[numImages];
+			recordLengths = new int[numImages];
+			for (int i = 0; i < numImages; i++) {
+				String id = in.readUTF();
+				ids.add(id);
+				idToIndex.put(id, i);
+				recordShards[i] = in.readInt();
+				recordOffsets[i] = in.readLong();
+				recordLengths[i] = in.readInt();
+			}
+			imageIDs = Collections.unmodifiableList(ids);
+			shards = new FileChannel[numShards(numImages, imagesPerShard)];
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Saves the contents of {@link LookUpSimilarImages} into a directory. Images are processed one at a time so
+	 * only a single image's information needs to be in memory.
+	 *
+	 * @param db (Input) Information on similar images
+	 * @param directory (Output) Directory it's saved to. Created if it doesn't exist.
+	 * @param imagesPerShard (Input) Number of images saved in each shard file
+	 */
+	public static void save( LookUpSimilarImages db, File directory, int imagesPerShard ) {
+		var features = new DogArray<>(Point2D_F64::new);
+		var pairs = new DogArray<>(AssociatedIndex::new);
+		var similar = new ArrayList<String>();
+
+		try (var writer = new Writer(directory, imagesPerShard)) {
+			// Declare the images first so that they are in the same order as the input
+			List<String> ids = db.getImageIDs();
+			for (int i = 0; i < ids.size(); i++) {
+				writer.declareImage(ids.get(i));
+			}
+
+			for (int imageIdx = 0; imageIdx < ids.size(); imageIdx++) {
+				String id = ids.get(imageIdx);
+				db.findSimilar(id, null, similar);
+				db.lookupPixelFeats(id, features);
+
+				writer.addImage(id, features);
+				for (int i = 0; i < similar.size(); i++) {
+					String similarID = similar.get(i);
+					writer.addSimilar(similarID, db.lookupAssociated(similarID, pairs) ? pairs : null);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates a new {@link LookUpSimilarImages} which reads from this store. Each thread should have its own.
+	 */
+	public LookUpSimilarImagesDisk createLookUp() {
+		return new LookUpSimilarImagesDisk(this);
+	}
+
+	/** Returns the ID of every image in the store */
+	public List<String> getImageIDs() {
+		return imageIDs;
+	}
+
+	/**
+	 * Returns the index of the image with the specified ID
+	 *
+	 * @throws IllegalArgumentException If the image is not known
+	 */
+	public int indexOf( String id ) {
+		Integer index = idToIndex.get(id);
+		if (index == null)
+			throw new IllegalArgumentException("Unknown image. id='" + id + "'");
+		return index;
+	}
+
+	/**
+	 * Returns the decoded record for an image. If it's not in the cache it's read from disk and added to the cache,
+	 * which can cause the least recently used records to be discarded.
+	 */
+	Record lookupRecord( int imageIndex ) {
+		synchronized (cache) {
+			Record record = cache.get(imageIndex);
+			if (record != null) {
+				cacheHits++;
+				return record;
+			}
+			cacheMisses++;
+		}
+
+		// Read outside the lock so that multiple threads can read from disk at the same time
+		Record record = readRecord(imageIndex);
+
+		synchronized (cache) {
+			Record previous = cache.put(imageIndex, record);
+			if (previous != null)
+				cacheBytes -= previous.bytes;
+			cacheBytes += record.bytes;
+
+			// Discard the least recently used records, but never the one which was just added
+			Iterator<Record> iter = cache.values().iterator();
+			while (cacheBytes > maxCacheBytes && cache.size() > 1) {
+				Record r = iter.next();
+				cacheBytes -= r.bytes;
+				iter.remove();
+			}
+		}
+		return record;
+	}
+
+	/**
+	 * Reads and decodes a record from its shard
+	 */
+	Record readRecord( int imageIndex ) {
+		ByteBuffer buffer = ByteBuffer.allocate(recordLengths[imageIndex]);
+		try {
+			FileChannel channel = getShard(recordShards[imageIndex]);
+			long position = recordOffsets[imageIndex];
+			// Positional reads don't modify the channel's state and can be done concurrently
+			while (buffer.hasRemaining()) {
+				int read = channel.read(buffer, position + buffer.position());
+				if (read < 0)
+					throw new EOFException("Unexpected end of shard. image=" + imageIndex);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		buffer.flip();
+
+		var record = new Record();
+		int numFeatures = buffer.getInt();
+		record.pixels = new float[numFeatures*2];
+		buffer.asFloatBuffer().get(record.pixels);
+		buffer.position(buffer.position() + 4*record.pixels.length);
+
+		int numSimilar = buffer.getInt();
+		record.similar = new int[numSimilar];
+		record.pairCounts = new int[numSimilar];
+		buffer.asIntBuffer().get(record.similar);
+		buffer.position(buffer.position() + 4*numSimilar);
+		buffer.asIntBuffer().get(record.pairCounts);
+		buffer.position(buffer.position() + 4*numSimilar);
+
+		record.pairOffsets = new int[numSimilar + 1];
+		for (int i = 0; i < numSimilar; i++) {
+			record.pairOffsets[i + 1] = record.pairOffsets[i] + 2*Math.max(0, record.pairCounts[i]);
+		}
+		record.pairs = new int[record.pairOffsets[numSimilar]];
+		buffer.asIntBuffer().get(record.pairs);
+
+		record.bytes = 64L + 4L*(record.pixels.length + 3L*numSimilar + record.pairs.length);
+		return record;
+	}
+
+	FileChannel getShard( int shardIdx ) throws IOException {
+		synchronized (shards) {
+			if (shards[shardIdx] == null) {
+				File file = new File(directory, shardName(shardIdx));
+				shards[shardIdx] = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+			}
+			return shards[shardIdx];
+		}
+	}
+
+	/**
+	 * Discards all records in the cache and resets the statistics
+	 */
+	public void clearCache() {
+		synchronized (cache) {
+			cache.clear();
+			cacheBytes = 0;
+			cacheHits = 0;
+			cacheMisses = 0;
+		}
+	}
+
+	/** Number of records which are in the cache */
+	public int getCacheSize() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	@Override public void close() throws IOException {
+		synchronized (shards) {
+			for (int i = 0; i < shards.length; i++) {
+				if (shards[i] == null)
+					continue;
+				shards[i].close();
+				shards[i] = null;
+			}
+		}
+	}
+
+	static String shardName( int shardIdx ) {
+		return String.format("shard_%05d.bin", shardIdx);
+	}
+
+	static int numShards( int numImages, int imagesPerShard ) {
+		return (numImages + imagesPerShard - 1)/imagesPerShard;
+	}
+
+	/**
+	 * Builds a new store by appending one image at a time, e.g. as the similarity stage processes each image. Only
+	 * the record of the image which is currently being added is kept in memory. For each image, call
+	 * {@link #addImage} followed by {@link #addSimilar} for every image it's similar to. A record is written to disk
+	 * when the next image is added or when the writer is closed. The index is written by {@link #close()}.
+	 *
+	 * Similar images can be referenced before they have been added, but all of them must be added before the writer
+	 * is closed. Images are assigned an index, which determines their order in {@link #getImageIDs()}, the first
+	 * time they are seen. Call {@link #declareImage} in advance to control the order.
+	 */
+	public static class Writer implements Closeable {
+		final File directory;
+		final int imagesPerShard;
+
+		final List<String> imageIDs = new ArrayList<>();
+		final Map<String, Integer> idToIndex = new HashMap<>();
+		// Location of each image's record. Shard is -1 if it has not been written yet
+		final DogArray_I32 recordShards = new DogArray_I32();
+		final DogArray_I64 recordOffsets = new DogArray_I64();
+		final DogArray_I32 recordLengths = new DogArray_I32();
+
+		// Shard which is being written to and the location of the next record inside of it
+		@Nullable DataOutputStream out;
+		long location;
+		// Number of records which have been written
+		int numWritten;
+		boolean closed;
+
+		// Record for the image which is currently being added. -1 if there is none
+		int currentIndex = -1;
+		final DogArray_F32 currentPixels = new DogArray_F32();
+		final DogArray_I32 currentSimilar = new DogArray_I32();
+		final DogArray_I32 currentCounts = new DogArray_I32();
+		final DogArray_I32 currentPairs = new DogArray_I32();
+
+		/**
+		 * @param directory (Output) Directory it's saved to. Created if it doesn't exist.
+		 * @param imagesPerShard (Input) Number of images saved in each shard file
+		 */
+		public Writer( File directory, int imagesPerShard ) {
+			if (imagesPerShard <= 0)
+				throw new IllegalArgumentException("imagesPerShard must be positive");
+			if (!directory.exists() && !directory.mkdirs())
+				throw new UncheckedIOException(new IOException("Failed to create " + directory.getPath()));
+			this.directory = directory;
+			this.imagesPerShard = imagesPerShard;
+		}
+
+		/**
+		 * Assigns an index to the image if it doesn't already have one. Optional, see class description.
+		 *
+		 * @return Index of the image
+		 */
+		public int declareImage( String id ) {
+			Integer index = idToIndex.get(id);
+			if (index != null)
+				return index;
+			index = imageIDs.size();
+			imageIDs.add(id);
+			idToIndex.put(id, index);
+			recordShards.add(-1);
+			recordOffsets.add(0);
+			recordLengths.add(0);
+			return index;
+		}
+
+		/**
+		 * Starts the record of a new image. The record of the previous image is written to disk.
+		 *
+		 * @param id (Input) The image's ID
+		 * @param features (Input) Pixel coordinates of the image's features
+		 */
+		public void addImage( String id, FastAccess<Point2D_F64> features ) {
+			if (closed)
+				throw new IllegalStateException("Writer has been closed");
+			writeCurrent();
+
+			int index = declareImage(id);
+			if (recordShards.get(index) != -1)
+				throw new IllegalArgumentException("Image has already been added. id='" + id + "'");
+
+			currentIndex = index;
+			currentPixels.reset();
+			currentSimilar.reset();
+			currentCounts.reset();
+			currentPairs.reset();
+			for (int i = 0; i < features.size; i++) {
+				Point2D_F64 p = features.get(i);
+				currentPixels.add((float)p.x);
+				currentPixels.add((float)p.y);
+			}
+		}
+
+		/**
+		 * Specifies that the most recently added image is similar to another image
+		 *
+		 * @param similarID (Input) ID of the similar image. Doesn't need to have been added yet.
+		 * @param pairs (Input) Associated features between the two images or null if they are not known
+		 */
+		public void addSimilar( String similarID, @Nullable FastAccess<AssociatedIndex> pairs ) {
+			if (currentIndex == -1)
+				throw new IllegalStateException("Must call addImage() first");
+
+			currentSimilar.add(declareImage(similarID));
+			if (pairs == null) {
+				currentCounts.add(-1);
+				return;
+			}
+			currentCounts.add(pairs.size);
+			for (int i = 0; i < pairs.size; i++) {
+				AssociatedIndex a = pairs.get(i);
+				currentPairs.add(a.src);
+				currentPairs.add(a.dst);
+			}
+		}
+
+		/** Returns the ID of every image which has been added or referenced so far */
+		public List<String> getImageIDs() {
+			return Collections.unmodifiableList(imageIDs);
+		}
+
+		/**
+		 * Writes the record of the current image, if there is one, to the end of the current shard
+		 */
+		void writeCurrent() {
+			if (currentIndex == -1)
+				return;
+
+			long length = 4L + 4L*currentPixels.size + 4L + 8L*currentSimilar.size + 4L*currentPairs.size;
+			try {
+				if (length > Integer.MAX_VALUE)
+					throw new IOException("Record is too large. id='" + imageIDs.get(currentIndex) + "' bytes=" + length);
+
+				// Start a new shard
+				if (out == null || numWritten%imagesPerShard == 0) {
+					if (out != null)
+						out.close();
+					File file = new File(directory, shardName(numWritten/imagesPerShard));
+					out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+					location = 0;
+				}
+
+				out.writeInt(currentPixels.size/2);
+				for (int i = 0; i < currentPixels.size; i++) {
+					out.writeFloat(currentPixels.data[i]);
+				}
+				out.writeInt(currentSimilar.size);
+				for (int i = 0; i < currentSimilar.size; i++) {
+					out.writeInt(currentSimilar.data[i]);
+				}
+				for (int i = 0; i < currentCounts.size; i++) {
+					out.writeInt(currentCounts.data[i]);
+				}
+				for (int i = 0; i < currentPairs.size; i++) {
+					out.writeInt(currentPairs.data[i]);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			recordShards.set(currentIndex, numWritten/imagesPerShard);
+			recordOffsets.set(currentIndex, location);
+			recordLengths.set(currentIndex, (int)length);
+			location += length;
+			numWritten++;
+			currentIndex = -1;
+		}
+
+		/**
+		 * Writes the last record and the index.
+		 *
+		 * @throws IllegalStateException If a similar image was referenced but never added
+		 */
+		@Override public void close() {
+			if (closed)
+				return;
+			closed = true;
+
+			try {
+				writeCurrent();
+			} finally {
+				closeShard();
+			}
+
+			for (int i = 0; i < imageIDs.size(); i++) {
+				if (recordShards.get(i) == -1)
+					throw new IllegalStateException("Image was referenced but never added. id='" + imageIDs.get(i) + "'");
+			}
+
+			try (var index = new DataOutputStream(new BufferedOutputStream(
+					new FileOutputStream(new File(directory, INDEX_NAME))))) {
+				index.writeInt(MAGIC);
+				index.writeInt(VERSION);
+				index.writeInt(imageIDs.size());
+				index.writeInt(imagesPerShard);
+				for (int i = 0; i < imageIDs.size(); i++) {
+					index.writeUTF(imageIDs.get(i));
+					index.writeInt(recordShards.get(i));
+					index.writeLong(recordOffsets.get(i));
+					index.writeInt(recordLengths.get(i));
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		void closeShard() {
+			if (out == null)
+				return;
+			try {
+				out.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			} finally {
+				out = null;
+			}
+		}
+	}
+
+	/**
+	 * Decoded information for a single image. Never modified after it has been created so that it can be shared
+	 * between threads.
+	 */
+	@SuppressWarnings({"NullAway.Init"})
+	static class Record {
+		// Pixel coordinates of each feature (x,y)
+		float[] pixels;
+		// Index of each similar image
+		int[] similar;
+		// Number of associations with each similar image. -1 if unknown
+		int[] pairCounts;
+		// Location of the first association of each similar image in pairs
+		int[] pairOffsets;
+		// Associated features (src,dst)
+		int[] pairs;
+		// Estimated number of bytes used by this record
+		long bytes;
+	}
+}
@@ -38,7 +38,7 @@ import java.lang.reflect.Method;
 public class ConvertRaster {
 
 	public static void bufferedToGray(DataBufferUShort buffer , WritableRaster src, GrayI16 dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToGray(buffer,src,dst);
 		} else {
 			ImplConvertRaster.bufferedToGray(buffer,src,dst);
@@ -46,7 +46,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToGray(BufferedImage src, GrayI16 dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToGray(src,dst);
 		} else {
 			ImplConvertRaster.bufferedToGray(src,dst);
@@ -54,7 +54,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToGray(DataBufferInt buffer, WritableRaster src, GrayF32 dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToGray(buffer,src,dst);
 		} else {
 			ImplConvertRaster.bufferedToGray(buffer,src,dst);
@@ -76,7 +76,7 @@ public class ConvertRaster {
 		int srcOffset = getOffset(src);
 		int srcStrideDiff = srcStride-src.getNumDataElements()*dst.width;
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			if (numBands == 3) {
 				ImplConvertRaster_MT.from_3BU8_to_U8(srcData, srcStride, srcOffset, dst);
 			} else if (numBands == 1) {
@@ -110,7 +110,7 @@ public class ConvertRaster {
 		int srcStride = stride(src);
 		int srcOffset = getOffset(src);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			if (numBands == 3) {
 				ImplConvertRaster_MT.from_3BU8_to_F32(srcData, srcStride, srcOffset, dst);
 			} else if (numBands == 1) {
@@ -151,7 +151,7 @@ public class ConvertRaster {
 		int srcStride = stride(src);
 		int srcOffset = getOffset(src);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			if (numBands == 3) {
 				ImplConvertRaster_MT.from_3BU8_to_PLU8(srcData, srcStride, srcOffset, dst);
 			} else if (numBands == 1) {
@@ -185,7 +185,7 @@ public class ConvertRaster {
 		int srcStride = stride(src);
 		int srcOffset = getOffset(src);
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			if (numBands == 3) {
 				ImplConvertRaster_MT.from_3BU8_to_PLF32(srcData, srcStride, srcOffset, dst);
 			} else if (numBands == 1) {
@@ -212,7 +212,7 @@ public class ConvertRaster {
 	 * A faster convert that works directly with a specific raster
 	 */
 	public static void planarToBuffered_F32(Planar<GrayF32> src, DataBuffer buffer, BufferedImage dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			try {
 				if (buffer.getDataType() == DataBuffer.TYPE_BYTE && isKnownByteFormat(dst)) {
 					ImplConvertRaster_MT.planarToBuffered_F32(src, (DataBufferByte) buffer, dst.getRaster());
@@ -244,7 +244,7 @@ public class ConvertRaster {
 	}
 
 	public static void interleavedToBuffered(InterleavedU8 src, DataBuffer buffer, BufferedImage dst, boolean orderRgb) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			try {
 				if (buffer.getDataType() == DataBuffer.TYPE_BYTE && isKnownByteFormat(dst)) {
 					ImplConvertRaster_MT.interleavedToBuffered(src, (DataBufferByte) buffer, dst.getRaster());
@@ -388,7 +388,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToGray(BufferedImage src, float[] data, int dstStartIndex , int dstStride ) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToGray(src, data, dstStartIndex, dstStride);
 		} else {
 			ImplConvertRaster.bufferedToGray(src, data, dstStartIndex, dstStride);
@@ -396,7 +396,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToGray(BufferedImage src, byte[] data, int dstStartIndex , int dstStride ) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToGray(src, data, dstStartIndex, dstStride);
 		} else {
 			ImplConvertRaster.bufferedToGray(src, data, dstStartIndex, dstStride);
@@ -404,7 +404,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToGray(DataBufferInt buffer, WritableRaster src, GrayU8 dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToGray(buffer, src, dst);
 		} else {
 			ImplConvertRaster.bufferedToGray(buffer, src, dst);
@@ -412,7 +412,7 @@ public class ConvertRaster {
 	}
 
 	public static void orderBandsIntoRGB( ImageInterleaved image , BufferedImage input ) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			if (image instanceof InterleavedU8) {
 				ImplConvertRaster_MT.orderBandsIntoRGB((InterleavedU8) image, input);
 			} else if (image instanceof InterleavedF32) {
@@ -441,7 +441,7 @@ public class ConvertRaster {
 	}
 
 	public static void interleavedToBuffered( InterleavedU8 src, BufferedImage dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.interleavedToBuffered(src,dst);
 		} else {
 			ImplConvertRaster.interleavedToBuffered(src,dst);
@@ -449,7 +449,7 @@ public class ConvertRaster {
 	}
 
 	public static void orderBandsBufferedFromRGB( DataBufferByte buffer , WritableRaster raster , int type ) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.orderBandsBufferedFromRGB(buffer,raster,type);
 		} else {
 			ImplConvertRaster.orderBandsBufferedFromRGB(buffer,raster,type);
@@ -457,7 +457,7 @@ public class ConvertRaster {
 	}
 
 	public static void orderBandsBufferedFromRGB( DataBufferInt buffer, WritableRaster raster , int type ) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.orderBandsBufferedFromRGB(buffer,raster,type);
 		} else {
 			ImplConvertRaster.orderBandsBufferedFromRGB(buffer,raster,type);
@@ -465,7 +465,7 @@ public class ConvertRaster {
 	}
 
 	public static void interleavedToBuffered(InterleavedU8 src, DataBufferByte buffer , WritableRaster dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.interleavedToBuffered(src,buffer,dst);
 		} else {
 			ImplConvertRaster.interleavedToBuffered(src,buffer,dst);
@@ -473,7 +473,7 @@ public class ConvertRaster {
 	}
 
 	public static void interleavedToBuffered(InterleavedU8 src, DataBufferInt buffer, WritableRaster dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.interleavedToBuffered(src,buffer,dst);
 		} else {
 			ImplConvertRaster.interleavedToBuffered(src,buffer,dst);
@@ -481,7 +481,7 @@ public class ConvertRaster {
 	}
 
 	public static void interleavedToBuffered(InterleavedF32 src, DataBufferByte buffer , WritableRaster dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.interleavedToBuffered(src,buffer,dst);
 		} else {
 			ImplConvertRaster.interleavedToBuffered(src,buffer,dst);
@@ -489,14 +489,14 @@ public class ConvertRaster {
 	}
 
 	public static void interleavedToBuffered(InterleavedF32 src, DataBufferInt buffer, WritableRaster dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.interleavedToBuffered(src,buffer,dst);
 		} else {
 			ImplConvertRaster.interleavedToBuffered(src,buffer,dst);
 		}
 	}
 	public static void interleavedToBuffered( InterleavedF32 src, BufferedImage dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.interleavedToBuffered(src,dst);
 		} else {
 			ImplConvertRaster.interleavedToBuffered(src,dst);
@@ -504,7 +504,7 @@ public class ConvertRaster {
 	}
 
 	public static void planarToBuffered_U8(Planar<GrayU8> src, DataBufferByte buffer , WritableRaster dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.planarToBuffered_U8(src,buffer,dst);
 		} else {
 			ImplConvertRaster.planarToBuffered_U8(src,buffer,dst);
@@ -512,7 +512,7 @@ public class ConvertRaster {
 	}
 
 	public static void planarToBuffered_U8(Planar<GrayU8> src, DataBufferInt buffer, WritableRaster dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.planarToBuffered_U8(src,buffer,dst);
 		} else {
 			ImplConvertRaster.planarToBuffered_U8(src,buffer,dst);
@@ -520,7 +520,7 @@ public class ConvertRaster {
 	}
 
 	public static void planarToBuffered_U8(Planar<GrayU8> src, BufferedImage dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.planarToBuffered_U8(src,dst);
 		} else {
 			ImplConvertRaster.planarToBuffered_U8(src,dst);
@@ -528,7 +528,7 @@ public class ConvertRaster {
 	}
 
 	public static void grayToBuffered(GrayF32 src, DataBufferByte buffer , WritableRaster dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.grayToBuffered(src,buffer,dst);
 		} else {
 			ImplConvertRaster.grayToBuffered(src,buffer,dst);
@@ -536,7 +536,7 @@ public class ConvertRaster {
 	}
 
 	public static void grayToBuffered(GrayF32 src, DataBufferInt buffer, WritableRaster dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.grayToBuffered(src,buffer,dst);
 		} else {
 			ImplConvertRaster.grayToBuffered(src,buffer,dst);
@@ -544,7 +544,7 @@ public class ConvertRaster {
 	}
 
 	public static void grayToBuffered(GrayF32 src, BufferedImage dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.grayToBuffered(src,dst);
 		} else {
 			ImplConvertRaster.grayToBuffered(src,dst);
@@ -552,7 +552,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToPlanar_U8(DataBufferInt buffer, WritableRaster src, Planar<GrayU8> dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToPlanar_U8(buffer,src,dst);
 		} else {
 			ImplConvertRaster.bufferedToPlanar_U8(buffer,src,dst);
@@ -560,7 +560,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToPlanar_U8(BufferedImage src, Planar<GrayU8> dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToPlanar_U8(src,dst);
 		} else {
 			ImplConvertRaster.bufferedToPlanar_U8(src,dst);
@@ -568,7 +568,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToPlanar_F32(DataBufferInt buffer, WritableRaster src, Planar<GrayF32> dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToPlanar_F32(buffer,src,dst);
 		} else {
 			ImplConvertRaster.bufferedToPlanar_F32(buffer,src,dst);
@@ -576,7 +576,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToPlanar_F32(BufferedImage src, Planar<GrayF32> dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToPlanar_F32(src,dst);
 		} else {
 			ImplConvertRaster.bufferedToPlanar_F32(src,dst);
@@ -584,7 +584,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToInterleaved(DataBufferByte buffer, WritableRaster src, InterleavedU8 dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToInterleaved(buffer,src,dst);
 		} else {
 			ImplConvertRaster.bufferedToInterleaved(buffer,src,dst);
@@ -592,7 +592,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToInterleaved(BufferedImage src, InterleavedU8 dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToInterleaved(src,dst);
 		} else {
 			ImplConvertRaster.bufferedToInterleaved(src,dst);
@@ -600,7 +600,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToInterleaved(DataBufferInt buffer, WritableRaster src, InterleavedU8 dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToInterleaved(buffer,src,dst);
 		} else {
 			ImplConvertRaster.bufferedToInterleaved(buffer,src,dst);
@@ -608,7 +608,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToInterleaved(DataBufferByte buffer, WritableRaster src, InterleavedF32 dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToInterleaved(buffer,src,dst);
 		} else {
 			ImplConvertRaster.bufferedToInterleaved(buffer,src,dst);
@@ -616,7 +616,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToInterleaved(BufferedImage src, InterleavedF32 dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToInterleaved(src,dst);
 		} else {
 			ImplConvertRaster.bufferedToInterleaved(src,dst);
@@ -624,7 +624,7 @@ public class ConvertRaster {
 	}
 
 	public static void bufferedToInterleaved(DataBufferInt buffer, WritableRaster src, InterleavedF32 dst ) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.bufferedToInterleaved(buffer,src,dst);
 		} else {
 			ImplConvertRaster.bufferedToInterleaved(buffer,src,dst);
@@ -632,7 +632,7 @@ public class ConvertRaster {
 	}
 
 	public static void grayToBuffered(GrayU8 src, DataBufferByte buffer , WritableRaster dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.grayToBuffered(src,buffer,dst);
 		} else {
 			ImplConvertRaster.grayToBuffered(src,buffer,dst);
@@ -640,7 +640,7 @@ public class ConvertRaster {
 	}
 
 	public static void grayToBuffered(GrayU8 src, DataBufferInt buffer, WritableRaster dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.grayToBuffered(src,buffer,dst);
 		} else {
 			ImplConvertRaster.grayToBuffered(src,buffer,dst);
@@ -648,14 +648,14 @@ public class ConvertRaster {
 	}
 
 	public static void grayToBuffered(GrayU8 src, BufferedImage dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.grayToBuffered(src,dst);
 		} else {
 			ImplConvertRaster.grayToBuffered(src,dst);
 		}
 	}
 	public static void grayToBuffered(GrayI16 src, DataBufferByte buffer , WritableRaster dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.grayToBuffered(src,buffer,dst);
 		} else {
 			ImplConvertRaster.grayToBuffered(src,buffer,dst);
@@ -663,7 +663,7 @@ public class ConvertRaster {
 	}
 
 	public static void grayToBuffered(GrayI16 src, DataBufferUShort buffer , WritableRaster dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.grayToBuffered(src,buffer,dst);
 		} else {
 			ImplConvertRaster.grayToBuffered(src,buffer,dst);
@@ -671,7 +671,7 @@ public class ConvertRaster {
 	}
 
 	public static void grayToBuffered(GrayI16 src, DataBufferInt buffer, WritableRaster dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.grayToBuffered(src,buffer,dst);
 		} else {
 			ImplConvertRaster.grayToBuffered(src,buffer,dst);
@@ -679,7 +679,7 @@ public class ConvertRaster {
 	}
 
 	public static void grayToBuffered(GrayI16 src, BufferedImage dst) {
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertRaster_MT.grayToBuffered(src,dst);
 		} else {
 			ImplConvertRaster.grayToBuffered(src,dst);
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.image;
+
+import boofcv.struct.image.*;
+import org.ddogleg.struct.DogArray_I8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Base class for decoders which read a compressed image directly into a BoofCV image, skipping the intermediate
+ * BufferedImage that javax.imageio would create. The output image is reshaped and reused. The decoder's internal
+ * workspace is also reused, so decoding many images with the same instance avoids most memory allocations.
+ *
+ * Supported output images are {@link GrayU8}, {@link GrayU16}, {@link InterleavedU8} and {@link Planar} of
+ * {@link GrayU8}. Color bands are always in RGB order. Color images which are written into a gray image have their
+ * color bands averaged, the same as {@link ConvertBufferedImage}. If an image uses a feature which isn't supported
+ * or can't be written into the output then decode returns false and the caller should fall back to javax.imageio.
+ *
+ * @author Peter Abeles
+ */
+public abstract class ImageDirectDecoder {
+	// Storage for the compressed image when read from a stream
+	protected final DogArray_I8 encoded = new DogArray_I8();
+
+	/**
+	 * Decodes the image
+	 *
+	 * @param data Array containing the compressed image, starting at index 0
+	 * @param length Number of bytes in the compressed image
+	 * @param output (Output) Where the image is written to. Reshaped.
+	 * @return true if it was decoded or false if the image or output type isn't supported
+	 * @throws IllegalArgumentException If the image is corrupted
+	 */
+	public abstract boolean decode( byte[] data, int length, ImageBase<?> output );
+
+	/**
+	 * Returns true if the data has the signature of an image this decoder understands
+	 */
+	public abstract boolean isSignature( byte[] data, int length );
+
+	/**
+	 * Reads the entire stream then decodes the image. The stream isn't closed.
+	 *
+	 * @see #decode(byte[], int, ImageBase)
+	 */
+	public boolean decode( InputStream input, ImageBase<?> output ) {
+		try {
+			encoded.reset();
+			while (true) {
+				encoded.reserve(encoded.size + 8192);
+				int read = input.read(encoded.data, encoded.size, encoded.data.length - encoded.size);
+				if (read < 0)
+					break;
+				encoded.size += read;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return decode(encoded.data, encoded.size, output);
+	}
+
+	/**
+	 * Checks to see if the output image can store an 8-bit image
+	 *
+	 * @param numColor Number of color channels. 1 = gray, 3 = RGB
+	 * @param hasAlpha If there is an alpha channel after the color channels
+	 */
+	public static boolean isSupportedU8( ImageBase<?> output, int numColor, boolean hasAlpha ) {
+		if (output instanceof GrayU8)
+			return true;
+		if (output instanceof GrayU16)
+			return numColor == 1;
+		if (hasAlpha)
+			return false;
+		if (output instanceof InterleavedU8)
+			return true;
+		return output instanceof Planar && ((Planar<?>)output).getBandType() == GrayU8.class;
+	}
+
+	/**
+	 * Reshapes the output so that it can store the image
+	 *
+	 * @param numColor Number of color channels. 1 = gray, 3 = RGB
+	 */
+	public static void reshape( ImageBase<?> output, int width, int height, int numColor ) {
+		if (output instanceof ImageMultiBand) {
+			((ImageMultiBand<?>)output).reshape(width, height, numColor);
+		} else {
+			output.reshape(width, height);
+		}
+	}
+
+	/**
+	 * Writes a row of interleaved 8-bit pixels into the output image
+	 *
+	 * @param row Array with the pixels
+	 * @param offset Index of the first pixel in the row
+	 * @param numChannels Number of channels in each pixel
+	 * @param numColor Number of color channels. Any channels after the color channels are ignored
+	 * @param output The image being written to
+	 * @param y Which row in the image
+	 */
+	public static void writeRowU8( byte[] row, int offset, int numChannels, int numColor,
+								   ImageBase<?> output, int y ) {
+		final int width = output.width;
+		if (output instanceof GrayU8) {
+			GrayU8 gray = (GrayU8)output;
+			int indexOut = gray.startIndex + y*gray.stride;
+			if (numColor == 1) {
+				for (int x = 0, indexIn = offset; x < width; x++, indexIn += numChannels) {
+					gray.data[indexOut++] = row[indexIn];
+				}
+			} else {
+				for (int x = 0, indexIn = offset; x < width; x++, indexIn += numChannels) {
+					int sum = (row[indexIn] & 0xFF) + (row[indexIn + 1] & 0xFF) + (row[indexIn + 2] & 0xFF);
+					gray.data[indexOut++] = (byte)(sum/3);
+				}
+			}
+		} else if (output instanceof GrayU16) {
+			GrayU16 gray = (GrayU16)output;
+			int indexOut = gray.startIndex + y*gray.stride;
+			for (int x = 0, indexIn = offset; x < width; x++, indexIn += numChannels) {
+				gray.data[indexOut++] = (short)(row[indexIn] & 0xFF);
+			}
+		} else if (output instanceof InterleavedU8) {
+			InterleavedU8 inter = (InterleavedU8)output;
+			int indexOut = inter.startIndex + y*inter.stride;
+			if (numChannels == numColor) {
+				System.arraycopy(row, offset, inter.data, indexOut, width*numColor);
+			} else {
+				for (int x = 0, indexIn = offset; x < width; x++, indexIn += numChannels) {
+					for (int band = 0; band < numColor; band++) {
+						inter.data[indexOut++] = row[indexIn + band];
+					}
+				}
+			}
+		} else {
+			@SuppressWarnings("unchecked")
+			Planar<GrayU8> planar = (Planar<GrayU8>)output;
+			for (int band = 0; band < numColor; band++) {
+				byte[] data = planar.getBand(band).data;
+				int indexOut = planar.startIndex + y*planar.stride;
+				for (int x = 0, indexIn = offset + band; x < width; x++, indexIn += numChannels) {
+					data[indexOut++] = row[indexIn];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads a big endian 32-bit integer
+	 */
+	protected static int readInt( byte[] data, int index ) {
+		return ((data[index] & 0xFF) << 24) | ((data[index + 1] & 0xFF) << 16) |
+				((data[index + 2] & 0xFF) << 8) | (data[index + 3] & 0xFF);
+	}
+
+	/**
+	 * Reads a big endian unsigned 16-bit integer
+	 */
+	protected static int readShort( byte[] data, int index ) {
+		return ((data[index] & 0xFF) << 8) | (data[index + 1] & 0xFF);
+	}
+}
@@ -0,0 +1,794 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.image;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageBase;
+import lombok.Getter;
+import lombok.Setter;
+import org.ddogleg.struct.DogArray;
+import org.ddogleg.struct.DogArray_I32;
+
+import java.util.Arrays;
+
+/**
+ * Decodes baseline JPEG images directly into a BoofCV image. Gray and 3-channel YCbCr or RGB images with any chroma
+ * sub-sampling are supported. Progressive, lossless, arithmetic coded, 12-bit, CMYK, and multi-scan images are not
+ * supported and decode returns false.
+ *
+ * The inverse DCT, chroma up-sampling, and YCbCr to RGB conversion use the same integer arithmetic as libjpeg's
+ * default settings, which javax.imageio uses, so decoded images match it closely.
+ *
+ * If the image has restart markers then each restart interval is entropy decoded independently on the thread pool.
+ * Converting to RGB and writing into the output image is always done in blocks of rows on the thread pool.
+ *
+ * @author Peter Abeles
+ */
+public class JpegDirectDecoder extends ImageDirectDecoder {
+	/** Index of the coefficient in natural order for each index in zigzag order */
+	static final int[] ZIGZAG = {
+			0, 1, 8, 16, 9, 2, 3, 10, 17, 24, 32, 25, 18, 11, 4, 5,
+			12, 19, 26, 33, 40, 48, 41, 34, 27, 20, 13, 6, 7, 14, 21, 28,
+			35, 42, 49, 56, 57, 50, 43, 36, 29, 22, 15, 23, 30, 37, 44, 51,
+			58, 59, 52, 45, 38, 31, 39, 46, 53, 60, 61, 54, 47, 55, 62, 63};
+
+	// Fixed point constants used by the inverse DCT
+	static final int CONST_BITS = 13;
+	static final int PASS1_BITS = 2;
+	static final int FIX_0_298631336 = 2446;
+	static final int FIX_0_390180644 = 3196;
+	static final int FIX_0_541196100 = 4433;
+	static final int FIX_0_765366865 = 6270;
+	static final int FIX_0_899976223 = 7373;
+	static final int FIX_1_175875602 = 9633;
+	static final int FIX_1_501321110 = 12299;
+	static final int FIX_1_847759065 = 15137;
+	static final int FIX_1_961570560 = 16069;
+	static final int FIX_2_053119869 = 16819;
+	static final int FIX_2_562915447 = 20995;
+	static final int FIX_3_072711026 = 25172;
+
+	// Tables for converting YCbCr into RGB. Fixed point with 16 fractional bits for green
+	static final int[] CR_R = new int[256];
+	static final int[] CB_B = new int[256];
+	static final int[] CR_G = new int[256];
+	static final int[] CB_G = new int[256];
+
+	static {
+		final int half = 1 << 15;
+		for (int i = 0; i < 256; i++) {
+			int v = i - 128;
+			CR_R[i] = (fix(1.40200)*v + half) >> 16;
+			CB_B[i] = (fix(1.77200)*v + half) >> 16;
+			CR_G[i] = -fix(0.71414)*v;
+			CB_G[i] = -fix(0.34414)*v + half;
+		}
+	}
+
+	/** Width of the most recently decoded image */
+	@Getter int width;
+	/** Height of the most recently decoded image */
+	@Getter int height;
+	/** Number of MCUs between restart markers. 0 if there are no restart markers */
+	@Getter int restartInterval;
+
+	/** If true then it will use the thread pool. Only has an effect if concurrency is turned on */
+	@Getter @Setter boolean concurrent = true;
+
+	/**
+	 * If true, only images which are decoded identically to javax.imageio followed by {@link ConvertBufferedImage}
+	 * are accepted. Images with an embedded color profile or which are not YCbCr or gray are rejected.
+	 */
+	@Getter @Setter boolean matchImageIO = false;
+
+	// Quantization tables in zigzag order
+	final int[][] quantization = new int[4][64];
+	final HuffmanTable[] tablesDC = new HuffmanTable[4];
+	final HuffmanTable[] tablesAC = new HuffmanTable[4];
+
+	final DogArray<Component> components = new DogArray<>(Component::new);
+	int maxH, maxV;
+	int mcusX, mcusY;
+
+	// true if the color channels are RGB and not YCbCr
+	boolean colorRgb;
+
+	// Start and end of each restart interval inside the data
+	final DogArray_I32 segmentStarts = new DogArray_I32();
+	final DogArray_I32 segmentEnds = new DogArray_I32();
+
+	// Workspace used when decoding on the calling thread
+	final Workspace workspace = new Workspace();
+
+	// The image being decoded
+	byte[] data = new byte[0];
+
+	public JpegDirectDecoder() {
+		for (int i = 0; i < 4; i++) {
+			tablesDC[i] = new HuffmanTable();
+			tablesAC[i] = new HuffmanTable();
+		}
+	}
+
+	@Override public boolean isSignature( byte[] data, int length ) {
+		return length >= 3 && data[0] == (byte)0xFF && data[1] == (byte)0xD8 && data[2] == (byte)0xFF;
+	}
+
+	@Override public boolean decode( byte[] data, int length, ImageBase<?> output ) {
+		if (!isSignature(data, length))
+			throw new IllegalArgumentException("Not a JPEG image");
+
+		this.data = data;
+		try {
+			return decodeMarkers(length, output);
+		} catch (ArrayIndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("Corrupted JPEG", e);
+		} finally {
+			this.data = new byte[0];
+		}
+	}
+
+	/**
+	 * Goes through each marker in the file until the image has been decoded
+	 */
+	boolean decodeMarkers( int length, ImageBase<?> output ) {
+		restartInterval = 0;
+		colorRgb = false;
+		components.reset();
+		boolean frameFound = false;
+		boolean adobeFound = false;
+
+		int index = 2;
+		while (index + 4 <= length) {
+			if (data[index] != (byte)0xFF) {
+				index++;
+				continue;
+			}
+			int marker = data[index + 1] & 0xFF;
+			index += 2;
+			// fill bytes or markers without a length
+			if (marker == 0xFF) {
+				index--;
+				continue;
+			}
+			if (marker == 0x01 || marker == 0xD8 || (marker >= 0xD0 && marker <= 0xD7))
+				continue;
+			if (marker == 0xD9)
+				break;
+
+			int start = index + 2;
+			int end = index + readShort(data, index);
+			if (end > length)
+				throw new IllegalArgumentException("Truncated segment. marker=" + marker);
+
+			switch (marker) {
+				case 0xDB -> parseQuantization(start, end);
+				case 0xC4 -> parseHuffman(start, end);
+				case 0xDD -> restartInterval = readShort(data, start);
+				case 0xC0, 0xC1 -> {
+					if (!parseFrame(start))
+						return false;
+					frameFound = true;
+				}
+				case 0xE2 -> {
+					// javax.imageio applies the embedded color profile
+					if (matchImageIO && end - start >= 11 && data[start] == 'I' && data[start + 1] == 'C' &&
+							data[start + 2] == 'C')
+						return false;
+				}
+				case 0xEE -> {
+					// Adobe marker. Transform = 0 means the channels are not YCbCr
+					if (end - start >= 12 && data[start] == 'A' && data[start + 1] == 'd') {
+						adobeFound = true;
+						colorRgb = data[start + 11] == 0;
+					}
+				}
+				case 0xDA -> {
+					if (!frameFound)
+						throw new IllegalArgumentException("Scan before frame");
+					if (!parseScan(start))
+						return false;
+
+					int numColor = components.size == 1 ? 1 : 3;
+					if (!isSupportedU8(output, numColor, false))
+						return false;
+					if (!adobeFound && numColor == 3)
+						colorRgb = components.get(0).id == 'R' && components.get(1).id == 'G' &&
+								components.get(2).id == 'B';
+					if (matchImageIO && colorRgb)
+						return false;
+
+					decodeScan(end, length);
+					reshape(output, width, height, numColor);
+					convertToOutput(output);
+					return true;
+				}
+				default -> {
+					// Other types of frames aren't supported
+					if (marker >= 0xC2 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC)
+						return false;
+				}
+			}
+			index = end;
+		}
+		throw new IllegalArgumentException("No image data found");
+	}
+
+	void parseQuantization( int index, int end ) {
+		while (index < end) {
+			int precision = (data[index] & 0xFF) >> 4;
+			int[] table = quantization[data[index] & 0x03];
+			index++;
+			for (int i = 0; i < 64; i++) {
+				if (precision == 0) {
+					table[i] = data[index++] & 0xFF;
+				} else {
+					table[i] = readShort(data, index);
+					index += 2;
+				}
+			}
+		}
+	}
+
+	void parseHuffman( int index, int end ) {
+		while (index < end) {
+			int type = (data[index] & 0xFF) >> 4;
+			HuffmanTable table = (type == 0 ? tablesDC : tablesAC)[data[index] & 0x03];
+			index += 1;
+			index += 16 + table.build(data, index);
+		}
+	}
+
+	/**
+	 * Reads the frame header and declares storage for each component
+	 *
+	 * @return false if the frame isn't supported
+	 */
+	boolean parseFrame( int index ) {
+		int precision = data[index] & 0xFF;
+		height = readShort(data, index + 1);
+		width = readShort(data, index + 3);
+		int numComponents = data[index + 5] & 0xFF;
+		if (precision != 8 || height == 0 || width == 0 || (numComponents != 1 && numComponents != 3))
+			return false;
+
+		components.reset();
+		maxH = maxV = 1;
+		index += 6;
+		for (int i = 0; i < numComponents; i++, index += 3) {
+			Component c = components.grow();
+			c.id = data[index] & 0xFF;
+			c.h = (data[index + 1] & 0xFF) >> 4;
+			c.v = data[index + 1] & 0x0F;
+			c.quant = quantization[data[index + 2] & 0x03];
+			if (c.h < 1 || c.h > 4 || c.v < 1 || c.v > 4)
+				throw new IllegalArgumentException("Bad sampling factor");
+			maxH = Math.max(maxH, c.h);
+			maxV = Math.max(maxV, c.v);
+		}
+
+		// A single component is never interleaved and each MCU is one block
+		if (numComponents == 1) {
+			Component c = components.get(0);
+			c.h = c.v = maxH = maxV = 1;
+		}
+
+		mcusX = (width + 8*maxH - 1)/(8*maxH);
+		mcusY = (height + 8*maxV - 1)/(8*maxV);
+
+		for (int i = 0; i < numComponents; i++) {
+			Component c = components.get(i);
+			c.stride = mcusX*c.h*8;
+			c.downWidth = (width*c.h + maxH - 1)/maxH;
+			c.downHeight = (height*c.v + maxV - 1)/maxV;
+			int size = c.stride*mcusY*c.v*8;
+			if (c.plane.length < size)
+				c.plane = new byte[size];
+		}
+		return true;
+	}
+
+	/**
+	 * Reads the scan header
+	 *
+	 * @return false if the scan isn't supported
+	 */
+	boolean parseScan( int index ) {
+		int numComponents = data[index] & 0xFF;
+		// Only a single scan which contains every component is supported
+		if (numComponents != components.size)
+			return false;
+		index++;
+		for (int i = 0; i < numComponents; i++, index += 2) {
+			int id = data[index] & 0xFF;
+			Component c = null;
+			for (int j = 0; j < components.size; j++) {
+				if (components.get(j).id == id)
+					c = components.get(j);
+			}
+			if (c == null || c != components.get(i))
+				return false;
+			c.tableDC = tablesDC[(data[index + 1] & 0xFF) >> 4];
+			c.tableAC = tablesAC[data[index + 1] & 0x03];
+		}
+		return true;
+	}
+
+	/**
+	 * Decodes all the entropy coded data. Restart intervals are decoded in parallel.
+	 *
+	 * @param start Index of the first byte of entropy coded data
+	 */
+	void decodeScan( int start, int length ) {
+		findSegments(start, length);
+
+		int numSegments = segmentStarts.size;
+		if (concurrent && numSegments > 1 && BoofConcurrency.isUseConcurrent()) {
+			BoofConcurrency.loopBlocks(0, numSegments, ( idx0, idx1 ) -> {
+				var ws = new Workspace();
+				for (int i = idx0; i < idx1; i++) {
+					decodeSegment(i, ws);
+				}
+			});
+		} else {
+			for (int i = 0; i < numSegments; i++) {
+				decodeSegment(i, workspace);
+			}
+		}
+	}
+
+	/**
+	 * Finds where each restart interval starts and ends
+	 */
+	void findSegments( int start, int length ) {
+		segmentStarts.reset();
+		segmentEnds.reset();
+		segmentStarts.add(start);
+		int i = start;
+		while (i + 1 < length) {
+			if (data[i] != (byte)0xFF) {
+				i++;
+				continue;
+			}
+			int marker = data[i + 1] & 0xFF;
+			if (marker == 0x00) {
+				i += 2;
+			} else if (marker == 0xFF) {
+				i++;
+			} else if (restartInterval > 0 && marker >= 0xD0 && marker <= 0xD7) {
+				segmentEnds.add(i);
+				segmentStarts.add(i + 2);
+				i += 2;
+			} else {
+				break;
+			}
+		}
+		segmentEnds.add(Math.min(i, length));
+	}
+
+	/**
+	 * Decodes all the MCUs inside a restart interval
+	 */
+	void decodeSegment( int segment, Workspace ws ) {
+		int totalMcus = mcusX*mcusY;
+		int mcu0 = restartInterval > 0 ? segment*restartInterval : 0;
+		int mcu1 = restartInterval > 0 ? Math.min(totalMcus, mcu0 + restartInterval) : totalMcus;
+
+		ws.bits.initialize(data, segmentStarts.get(segment), segmentEnds.get(segment));
+		Arrays.fill(ws.predictors, 0);
+		for (int mcu = mcu0; mcu < mcu1; mcu++) {
+			decodeMcu(mcu, ws);
+		}
+	}
+
+	void decodeMcu( int mcu, Workspace ws ) {
+		int mcuX = mcu%mcusX;
+		int mcuY = mcu/mcusX;
+		for (int compIdx = 0; compIdx < components.size; compIdx++) {
+			Component c = components.get(compIdx);
+			for (int v = 0; v < c.v; v++) {
+				for (int h = 0; h < c.h; h++) {
+					boolean onlyDC = decodeBlock(c, compIdx, ws);
+					int x = (mcuX*c.h + h)*8;
+					int y = (mcuY*c.v + v)*8;
+					inverseDct(ws, onlyDC, c.plane, y*c.stride + x, c.stride);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Decodes the coefficients for a single block and dequantizes them
+	 *
+	 * @return true if only the DC coefficient is non-zero
+	 */
+	boolean decodeBlock( Component c, int compIdx, Workspace ws ) {
+		int[] coef = ws.coef;
+		Arrays.fill(coef, 0);
+		BitReader bits = ws.bits;
+
+		int t = bits.decode(c.tableDC);
+		ws.predictors[compIdx] += bits.receiveExtend(t);
+		coef[0] = ws.predictors[compIdx]*c.quant[0];
+
+		boolean onlyDC = true;
+		int k = 1;
+		while (k < 64) {
+			int rs = bits.decode(c.tableAC);
+			int r = rs >> 4;
+			int s = rs & 0x0F;
+			if (s == 0) {
+				if (r != 15)
+					break;
+				k += 16;
+				continue;
+			}
+			k += r;
+			if (k > 63)
+				break;
+			coef[ZIGZAG[k]] = bits.receiveExtend(s)*c.quant[k];
+			onlyDC = false;
+			k++;
+		}
+		return onlyDC;
+	}
+
+	/**
+	 * Applies the inverse DCT to the block and writes the results into the plane. Integer implementation of the
+	 * Loeffler-Ligtenberg-Moschytz algorithm, the same as libjpeg's default.
+	 */
+	static void inverseDct( Workspace ws, boolean onlyDC, byte[] plane, int index, int stride ) {
+		int[] in = ws.coef;
+		if (onlyDC) {
+			byte value = clamp255(((in[0] + 4) >> 3) + 128);
+			for (int y = 0; y < 8; y++) {
+				Arrays.fill(plane, index + y*stride, index + y*stride + 8, value);
+			}
+			return;
+		}
+
+		// Columns first. Results are scaled up by PASS1_BITS
+		int[] work = ws.work;
+		for (int col = 0; col < 8; col++) {
+			if (in[8 + col] == 0 && in[16 + col] == 0 && in[24 + col] == 0 && in[32 + col] == 0 &&
+					in[40 + col] == 0 && in[48 + col] == 0 && in[56 + col] == 0) {
+				int dc = in[col] << PASS1_BITS;
+				for (int row = 0; row < 8; row++) {
+					work[row*8 + col] = dc;
+				}
+				continue;
+			}
+			idct1D(in, col, 8, work, col, 8, CONST_BITS - PASS1_BITS, 0);
+		}
+
+		// Then rows, removing the scaling and shifting into the range of a byte
+		int[] out = ws.row;
+		for (int row = 0; row < 8; row++) {
+			idct1D(work, row*8, 1, out, 0, 1, CONST_BITS + PASS1_BITS + 3, 128);
+			int indexOut = index + row*stride;
+			for (int x = 0; x < 8; x++) {
+				plane[indexOut + x] = clamp255(out[x]);
+			}
+		}
+	}
+
+	/**
+	 * One dimensional inverse DCT of 8 values
+	 *
+	 * @param shift Number of bits the output is scaled down by, with rounding
+	 * @param offset Value added to the output after scaling
+	 */
+	static void idct1D( int[] in, int i0, int stepIn, int[] out, int o0, int stepOut, int shift, int offset ) {
+		// Even part
+		int z2 = in[i0 + 2*stepIn];
+		int z3 = in[i0 + 6*stepIn];
+		int z1 = (z2 + z3)*FIX_0_541196100;
+		int tmp2 = z1 - z3*FIX_1_847759065;
+		int tmp3 = z1 + z2*FIX_0_765366865;
+
+		z2 = in[i0];
+		z3 = in[i0 + 4*stepIn];
+		int tmp0 = (z2 + z3) << CONST_BITS;
+		int tmp1 = (z2 - z3) << CONST_BITS;
+
+		int tmp10 = tmp0 + tmp3;
+		int tmp13 = tmp0 - tmp3;
+		int tmp11 = tmp1 + tmp2;
+		int tmp12 = tmp1 - tmp2;
+
+		// Odd part
+		tmp0 = in[i0 + 7*stepIn];
+		tmp1 = in[i0 + 5*stepIn];
+		tmp2 = in[i0 + 3*stepIn];
+		tmp3 = in[i0 + stepIn];
+
+		z1 = tmp0 + tmp3;
+		z2 = tmp1 + tmp2;
+		z3 = tmp0 + tmp2;
+		int z4 = tmp1 + tmp3;
+		int z5 = (z3 + z4)*FIX_1_175875602;
+
+		tmp0 *= FIX_0_298631336;
+		tmp1 *= FIX_2_053119869;
+		tmp2 *= FIX_3_072711026;
+		tmp3 *= FIX_1_501321110;
+		z1 *= -FIX_0_899976223;
+		z2 *= -FIX_2_562915447;
+		z3 *= -FIX_1_961570560;
+		z4 *= -FIX_0_390180644;
+
+		z3 += z5;
+		z4 += z5;
+
+		tmp0 += z1 + z3;
+		tmp1 += z2 + z4;
+		tmp2 += z2 + z3;
+		tmp3 += z1 + z4;
+
+		int round = 1 << (shift - 1);
+		out[o0] = ((tmp10 + tmp3 + round) >> shift) + offset;
+		out[o0 + 7*stepOut] = ((tmp10 - tmp3 + round) >> shift) + offset;
+		out[o0 + stepOut] = ((tmp11 + tmp2 + round) >> shift) + offset;
+		out[o0 + 6*stepOut] = ((tmp11 - tmp2 + round) >> shift) + offset;
+		out[o0 + 2*stepOut] = ((tmp12 + tmp1 + round) >> shift) + offset;
+		out[o0 + 5*stepOut] = ((tmp12 - tmp1 + round) >> shift) + offset;
+		out[o0 + 3*stepOut] = ((tmp13 + tmp0 + round) >> shift) + offset;
+		out[o0 + 4*stepOut] = ((tmp13 - tmp0 + round) >> shift) + offset;
+	}
+
+	static int fix( double value ) {
+		return (int)(value*65536 + 0.5);
+	}
+
+	/**
+	 * Up-samples, converts into RGB, and writes the results into the output image
+	 */
+	void convertToOutput( ImageBase<?> output ) {
+		if (concurrent && BoofConcurrency.isUseConcurrent()) {
+			BoofConcurrency.loopBlocks(0, height, ( y0, y1 ) -> convertRows(y0, y1, output));
+		} else {
+			convertRows(0, height, output);
+		}
+	}
+
+	void convertRows( int y0, int y1, ImageBase<?> output ) {
+		if (components.size == 1) {
+			Component c = components.get(0);
+			for (int y = y0; y < y1; y++) {
+				writeRowU8(c.plane, y*c.stride, 1, 1, output, y);
+			}
+			return;
+		}
+
+		byte[] row = new byte[width*3];
+		int[] row0 = new int[width];
+		int[] row1 = new int[width];
+		int[] row2 = new int[width];
+		for (int y = y0; y < y1; y++) {
+			upsampleRow(components.get(0), y, row0);
+			upsampleRow(components.get(1), y, row1);
+			upsampleRow(components.get(2), y, row2);
+			for (int x = 0, indexOut = 0; x < width; x++) {
+				int a = row0[x];
+				int b = row1[x];
+				int c = row2[x];
+				if (colorRgb) {
+					row[indexOut++] = (byte)a;
+					row[indexOut++] = (byte)b;
+					row[indexOut++] = (byte)c;
+				} else {
+					row[indexOut++] = clamp255(a + CR_R[c]);
+					row[indexOut++] = clamp255(a + ((CB_G[b] + CR_G[c]) >> 16));
+					row[indexOut++] = clamp255(a + CB_B[b]);
+				}
+			}
+			writeRowU8(row, 0, 3, 3, output, y);
+		}
+	}
+
+	/**
+	 * Computes the values of a component along a row at full resolution. 2x1 and 2x2 sub-sampling use a triangle
+	 * filter, the same as libjpeg's "fancy" up-sampling, and other ratios replicate pixels.
+	 */
+	void upsampleRow( Component c, int y, int[] output ) {
+		byte[] plane = c.plane;
+		boolean fancy = maxH == 2*c.h && c.downWidth > 2;
+
+		if (maxH == c.h && maxV == c.v) {
+			int index = y*c.stride;
+			for (int x = 0; x < width; x++) {
+				output[x] = plane[index + x] & 0xFF;
+			}
+		} else if (fancy && maxV == c.v) {
+			// Horizontal triangle filter
+			int index = y*c.stride;
+			int n = c.downWidth;
+			for (int x = 0; x < n; x++) {
+				int value = plane[index + x] & 0xFF;
+				if (2*x < width)
+					output[2*x] = x == 0 ? value : (value*3 + (plane[index + x - 1] & 0xFF) + 1) >> 2;
+				if (2*x + 1 < width)
+					output[2*x + 1] = x == n - 1 ? value : (value*3 + (plane[index + x + 1] & 0xFF) + 2) >> 2;
+			}
+		} else if (fancy && maxV == 2*c.v) {
+			// Triangle filter in both directions. The nearest row is above for even rows and below for odd rows
+			int inY = y/2;
+			int nearY = (y & 1) == 0 ? Math.max(0, inY - 1) : Math.min(c.downHeight - 1, inY + 1);
+			int index0 = inY*c.stride;
+			int index1 = nearY*c.stride;
+			int n = c.downWidth;
+			int last = 0;
+			int curr = 3*(plane[index0] & 0xFF) + (plane[index1] & 0xFF);
+			for (int x = 0; x < n; x++) {
+				int next = x + 1 < n ? 3*(plane[index0 + x + 1] & 0xFF) + (plane[index1 + x + 1] & 0xFF) : 0;
+				if (2*x < width)
+					output[2*x] = x == 0 ? (curr*4 + 8) >> 4 : (curr*3 + last + 8) >> 4;
+				if (2*x + 1 < width)
+					output[2*x + 1] = x == n - 1 ? (curr*4 + 7) >> 4 : (curr*3 + next + 7) >> 4;
+				last = curr;
+				curr = next;
+			}
+		} else {
+			int index = (y*c.v/maxV)*c.stride;
+			for (int x = 0; x < width; x++) {
+				output[x] = plane[index + x*c.h/maxH] & 0xFF;
+			}
+		}
+	}
+
+	static byte clamp255( int value ) {
+		return (byte)(value < 0 ? 0 : Math.min(value, 255));
+	}
+
+	/** Information on a color component */
+	static class Component {
+		int id;
+		// sampling factors
+		int h, v;
+		int[] quant = new int[64];
+		HuffmanTable tableDC = new HuffmanTable();
+		HuffmanTable tableAC = new HuffmanTable();
+		// Decoded samples. Padded to a multiple of the MCU size
+		byte[] plane = new byte[0];
+		int stride;
+		// Size of the component without padding
+		int downWidth, downHeight;
+	}
+
+	/** Canonical Huffman table with a lookup table for short codes */
+	static class HuffmanTable {
+		static final int FAST_BITS = 9;
+
+		// (length << 8) | symbol for codes which are FAST_BITS or less. 0 for longer codes
+		final int[] fast = new int[1 << FAST_BITS];
+		// largest code of each length. -1 if there are no codes with that length
+		final int[] maxCode = new int[17];
+		// smallest code of each length
+		final int[] minCode = new int[17];
+		// index of the first symbol with each length
+		final int[] offsets = new int[17];
+		final byte[] symbols = new byte[256];
+
+		/**
+		 * Builds the table from the 16 code length counts followed by the symbols
+		 *
+		 * @return Number of symbols
+		 */
+		int build( byte[] data, int index ) {
+			Arrays.fill(fast, 0);
+			int code = 0;
+			int k = 0;
+			int symbolStart = index + 16;
+			for (int length = 1; length <= 16; length++) {
+				int count = data[index + length - 1] & 0xFF;
+				offsets[length] = k;
+				minCode[length] = code;
+				for (int i = 0; i < count; i++, k++, code++) {
+					if (k >= symbols.length)
+						throw new IllegalArgumentException("Too many Huffman symbols");
+					symbols[k] = data[symbolStart + k];
+					if (length <= FAST_BITS) {
+						int shift = FAST_BITS - length;
+						int first = code << shift;
+						for (int j = 0; j < (1 << shift); j++) {
+							fast[first + j] = (length << 8) | (symbols[k] & 0xFF);
+						}
+					}
+				}
+				maxCode[length] = count > 0 ? code - 1 : -1;
+				code <<= 1;
+			}
+			return k;
+		}
+	}
+
+	/** Reads bits from the entropy coded data, removing stuffed bytes */
+	static class BitReader {
+		byte[] data = new byte[0];
+		int index;
+		int end;
+		// bits which have been read but not consumed. The next bit is the most significant bit
+		int buffer;
+		int count;
+
+		void initialize( byte[] data, int start, int end ) {
+			this.data = data;
+			this.index = start;
+			this.end = end;
+			this.buffer = 0;
+			this.count = 0;
+		}
+
+		/** Ensures there are at least 25 bits in the buffer. Zeros are added after the end of the data */
+		void fill() {
+			while (count <= 24) {
+				int b = 0;
+				if (index < end) {
+					b = data[index] & 0xFF;
+					index += b == 0xFF ? 2 : 1;
+				}
+				buffer |= b << (24 - count);
+				count += 8;
+			}
+		}
+
+		void consume( int bits ) {
+			buffer <<= bits;
+			count -= bits;
+		}
+
+		int decode( HuffmanTable table ) {
+			fill();
+			int f = table.fast[buffer >>> (32 - HuffmanTable.FAST_BITS)];
+			if (f != 0) {
+				consume(f >> 8);
+				return f & 0xFF;
+			}
+			for (int length = HuffmanTable.FAST_BITS + 1; length <= 16; length++) {
+				int code = buffer >>> (32 - length);
+				if (code <= table.maxCode[length]) {
+					consume(length);
+					return table.symbols[table.offsets[length] + code - table.minCode[length]] & 0xFF;
+				}
+			}
+			throw new IllegalArgumentException("Bad Huffman code");
+		}
+
+		/** Reads the next s bits and converts them into a signed value */
+		int receiveExtend( int s ) {
+			if (s == 0)
+				return 0;
+			fill();
+			int value = buffer >>> (32 - s);
+			consume(s);
+			if (value < (1 << (s - 1)))
+				value += (-1 << s) + 1;
+			return value;
+		}
+	}
+
+	/** Storage used when decoding a restart interval */
+	static class Workspace {
+		final int[] coef = new int[64];
+		final int[] work = new int[64];
+		final int[] row = new int[8];
+		final int[] predictors = new int[4];
+		final BitReader bits = new BitReader();
+	}
+}
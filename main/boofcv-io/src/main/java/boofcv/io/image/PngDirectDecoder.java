@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.image;
+
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.ImageBase;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decodes PNG images directly into a BoofCV image. Non-interlaced images with 8-bit gray, gray + alpha, RGB, and RGBA
+ * are supported, as are palette images of any bit depth and 16-bit gray images, which require a {@link GrayU16}
+ * output. Alpha is discarded when writing into a gray image. Interlaced images, transparency chunks, and all other
+ * bit depths are not supported and decode returns false.
+ *
+ * Decompressing and unfiltering a row depends on the previous row, so the image is decoded one row at a time on
+ * the calling thread.
+ *
+ * @author Peter Abeles
+ */
+public class PngDirectDecoder extends ImageDirectDecoder {
+	/** First 8 bytes in every PNG */
+	public static final byte[] SIGNATURE = {(byte)137, 80, 78, 71, 13, 10, 26, 10};
+
+	// Chunk types
+	static final int IHDR = 0x49484452;
+	static final int PLTE = 0x504C5445;
+	static final int IDAT = 0x49444154;
+	static final int IEND = 0x49454E44;
+	static final int TRNS = 0x74524E53;
+
+	// Color types
+	static final int GRAY = 0;
+	static final int RGB = 2;
+	static final int PALETTE = 3;
+	static final int GRAY_ALPHA = 4;
+	static final int RGBA = 6;
+
+	/** Width of the most recently decoded image */
+	@Getter int width;
+	/** Height of the most recently decoded image */
+	@Getter int height;
+	/** Bits per sample */
+	@Getter int bitDepth;
+	/** PNG color type */
+	@Getter int colorType;
+
+	/**
+	 * If true, only images which are decoded identically to javax.imageio followed by {@link ConvertBufferedImage}
+	 * are accepted. Palette images and images with alpha are rejected.
+	 */
+	@Getter @Setter boolean matchImageIO = false;
+
+	// RGB for each palette entry
+	byte[] palette = new byte[256*3];
+	int paletteSize;
+	boolean transparency;
+
+	// The compressed image data from every IDAT chunk
+	byte[] compressed = new byte[0];
+	int compressedLength;
+
+	// The row being decoded and the row before it, both with a filter type byte at the start
+	byte[] rowCurr = new byte[0];
+	byte[] rowPrev = new byte[0];
+	// Row after samples have been expanded into 8-bit channels
+	byte[] rowPixels = new byte[0];
+
+	final Inflater inflater = new Inflater();
+
+	@Override public boolean isSignature( byte[] data, int length ) {
+		if (length < SIGNATURE.length)
+			return false;
+		for (int i = 0; i < SIGNATURE.length; i++) {
+			if (data[i] != SIGNATURE[i])
+				return false;
+		}
+		return true;
+	}
+
+	@Override public boolean decode( byte[] data, int length, ImageBase<?> output ) {
+		if (!isSignature(data, length))
+			throw new IllegalArgumentException("Not a PNG image");
+
+		paletteSize = 0;
+		transparency = false;
+		compressedLength = 0;
+
+		// Go through all the chunks and collect the image data
+		int index = SIGNATURE.length;
+		boolean foundHeader = false;
+		while (index + 8 <= length) {
+			int chunkLength = readInt(data, index);
+			int type = readInt(data, index + 4);
+			int start = index + 8;
+			if (chunkLength < 0 || start + chunkLength > length)
+				throw new IllegalArgumentException("Truncated chunk");
+
+			switch (type) {
+				case IHDR -> {
+					width = readInt(data, start);
+					height = readInt(data, start + 4);
+					bitDepth = data[start + 8] & 0xFF;
+					colorType = data[start + 9] & 0xFF;
+					int interlace = data[start + 12] & 0xFF;
+					if (interlace != 0)
+						return false;
+					foundHeader = true;
+				}
+				case PLTE -> {
+					paletteSize = chunkLength/3;
+					System.arraycopy(data, start, palette, 0, Math.min(palette.length, paletteSize*3));
+				}
+				case TRNS -> transparency = true;
+				case IDAT -> {
+					if (compressed.length < compressedLength + chunkLength) {
+						byte[] tmp = new byte[Math.max(compressedLength + chunkLength, compressed.length*2)];
+						System.arraycopy(compressed, 0, tmp, 0, compressedLength);
+						compressed = tmp;
+					}
+					System.arraycopy(data, start, compressed, compressedLength, chunkLength);
+					compressedLength += chunkLength;
+				}
+				default -> {
+				}
+			}
+
+			// skip over the data and the CRC
+			index = start + chunkLength + 4;
+			if (type == IEND)
+				break;
+		}
+		if (!foundHeader)
+			throw new IllegalArgumentException("No IHDR chunk");
+
+		// Make sure it can handle this image
+		int numChannels = numberOfChannels();
+		if (numChannels == 0 || transparency)
+			return false;
+		int numColor = colorType == GRAY || colorType == GRAY_ALPHA ? 1 : 3;
+		boolean hasAlpha = colorType == GRAY_ALPHA || colorType == RGBA;
+		if (matchImageIO && (hasAlpha || colorType == PALETTE))
+			return false;
+		if (bitDepth == 16) {
+			if (colorType != GRAY || !(output instanceof GrayU16))
+				return false;
+		} else if (!isSupportedU8(output, numColor, hasAlpha)) {
+			return false;
+		}
+
+		reshape(output, width, height, numColor);
+		decodeRows(output, numChannels, numColor);
+		return true;
+	}
+
+	/**
+	 * Number of channels in each pixel after it has been expanded or 0 if the format isn't supported
+	 */
+	int numberOfChannels() {
+		return switch (colorType) {
+			case GRAY -> bitDepth == 8 || bitDepth == 16 ? 1 : 0;
+			case RGB -> bitDepth == 8 ? 3 : 0;
+			case PALETTE -> bitDepth <= 8 ? 3 : 0;
+			case GRAY_ALPHA -> bitDepth == 8 ? 2 : 0;
+			case RGBA -> bitDepth == 8 ? 4 : 0;
+			default -> 0;
+		};
+	}
+
+	/**
+	 * Decompresses and unfilters one row at a time and writes it into the output
+	 */
+	void decodeRows( ImageBase<?> output, int numChannels, int numColor ) {
+		int samplesPerPixel = colorType == PALETTE ? 1 : numChannels;
+		int bitsPerPixel = samplesPerPixel*bitDepth;
+		int bytesPerPixel = Math.max(1, bitsPerPixel/8);
+		int rowBytes = (width*bitsPerPixel + 7)/8;
+
+		if (rowCurr.length < rowBytes + 1) {
+			rowCurr = new byte[rowBytes + 1];
+			rowPrev = new byte[rowBytes + 1];
+		}
+		if (rowPixels.length < width*numChannels)
+			rowPixels = new byte[width*numChannels];
+
+		// The row before the first row is all zeros
+		Arrays.fill(rowPrev, 0, rowBytes + 1, (byte)0);
+
+		inflater.reset();
+		inflater.setInput(compressed, 0, compressedLength);
+		try {
+			for (int y = 0; y < height; y++) {
+				int offset = 0;
+				while (offset < rowBytes + 1) {
+					int read = inflater.inflate(rowCurr, offset, rowBytes + 1 - offset);
+					if (read == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary()))
+						throw new IllegalArgumentException("Image data ended early. row=" + y);
+					offset += read;
+				}
+				unfilter(rowCurr, rowPrev, rowBytes, bytesPerPixel);
+
+				if (bitDepth == 16) {
+					GrayU16 gray = (GrayU16)output;
+					int indexOut = gray.startIndex + y*gray.stride;
+					for (int x = 0; x < width; x++) {
+						gray.data[indexOut++] = (short)readShort(rowCurr, 1 + x*2);
+					}
+				} else if (colorType == PALETTE) {
+					expandPalette(rowCurr);
+					writeRowU8(rowPixels, 0, 3, numColor, output, y);
+				} else {
+					writeRowU8(rowCurr, 1, numChannels, numColor, output, y);
+				}
+
+				byte[] tmp = rowPrev;
+				rowPrev = rowCurr;
+				rowCurr = tmp;
+			}
+		} catch (DataFormatException e) {
+			throw new IllegalArgumentException("Bad compressed data", e);
+		}
+	}
+
+	/**
+	 * Reverses the filter applied to the row. The first element in each row is the filter type.
+	 */
+	static void unfilter( byte[] curr, byte[] prev, int rowBytes, int bpp ) {
+		int filter = curr[0];
+		switch (filter) {
+			case 0 -> {
+			}
+			case 1 -> {
+				for (int i = 1 + bpp; i <= rowBytes; i++) {
+					curr[i] = (byte)(curr[i] + curr[i - bpp]);
+				}
+			}
+			case 2 -> {
+				for (int i = 1; i <= rowBytes; i++) {
+					curr[i] = (byte)(curr[i] + prev[i]);
+				}
+			}
+			case 3 -> {
+				for (int i = 1; i <= rowBytes; i++) {
+					int left = i > bpp ? curr[i - bpp] & 0xFF : 0;
+					curr[i] = (byte)(curr[i] + ((left + (prev[i] & 0xFF)) >> 1));
+				}
+			}
+			case 4 -> {
+				for (int i = 1; i <= rowBytes; i++) {
+					int a = i > bpp ? curr[i - bpp] & 0xFF : 0;
+					int b = prev[i] & 0xFF;
+					int c = i > bpp ? prev[i - bpp] & 0xFF : 0;
+					curr[i] = (byte)(curr[i] + paeth(a, b, c));
+				}
+			}
+			default -> throw new IllegalArgumentException("Unknown filter type " + filter);
+		}
+	}
+
+	static int paeth( int a, int b, int c ) {
+		int p = a + b - c;
+		int pa = Math.abs(p - a);
+		int pb = Math.abs(p - b);
+		int pc = Math.abs(p - c);
+		if (pa <= pb && pa <= pc)
+			return a;
+		if (pb <= pc)
+			return b;
+		return c;
+	}
+
+	/**
+	 * Looks up the RGB color of each palette index in the row
+	 */
+	void expandPalette( byte[] row ) {
+		int mask = (1 << bitDepth) - 1;
+		int pixelsPerByte = 8/bitDepth;
+		for (int x = 0, indexOut = 0; x < width; x++) {
+			int packed = row[1 + x/pixelsPerByte] & 0xFF;
+			int shift = 8 - bitDepth*(1 + x%pixelsPerByte);
+			int entry = (packed >> shift) & mask;
+			if (entry >= paletteSize)
+				throw new IllegalArgumentException("Palette index out of bounds");
+			rowPixels[indexOut++] = palette[entry*3];
+			rowPixels[indexOut++] = palette[entry*3 + 1];
+			rowPixels[indexOut++] = palette[entry*3 + 2];
+		}
+	}
+}
@@ -171,7 +171,13 @@ public class UtilImageIO {
 	}
 
 	public static <T extends ImageBase<T>> @Nullable T loadImage( File image, boolean orderRgb, ImageType<T> imageType ) {
-		BufferedImage img = loadImage(image.getPath());
+		// The file is only read once, even if it has to be decoded by javax.imageio
+		byte[] data = readDirectFile(image.getPath());
+		T direct = imageType.createImage(1, 1);
+		if (loadImageExact(data, orderRgb, direct))
+			return direct;
+
+		BufferedImage img = loadImage(image.getPath(), data);
 		if (img == null)
 			return null;
 
@@ -181,7 +187,11 @@ public class UtilImageIO {
 	}
 
 	public static <T extends ImageBase<T>> @Nullable T loadImage( String imagePath, boolean orderRgb, T output ) {
-		BufferedImage buffered = loadImage(imagePath);
+		byte[] data = readDirectFile(imagePath);
+		if (loadImageExact(data, orderRgb, output))
+			return output;
+
+		BufferedImage buffered = loadImage(imagePath, data);
 		if (buffered == null)
 			return null;
 
@@ -190,6 +200,107 @@ public class UtilImageIO {
 		return output;
 	}
 
+	/**
+	 * Decodes the image directly into the output, if the result is identical to going through a BufferedImage. Used
+	 * for PNG, baseline JPEG, and 16-bit PGM.
+	 *
+	 * @param data Contents of the file. If null then it couldn't be read directly.
+	 */
+	private static boolean loadImageExact( @Nullable byte[] data, boolean orderRgb, ImageBase<?> output ) {
+		// Band order is always RGB
+		if (data == null || (!orderRgb && !(output instanceof ImageGray)))
+			return false;
+
+		try {
+			var png = new PngDirectDecoder();
+			png.setMatchImageIO(true);
+			if (png.isSignature(data, data.length))
+				return png.decode(data, data.length, output);
+			var jpeg = new JpegDirectDecoder();
+			jpeg.setMatchImageIO(true);
+			if (jpeg.isSignature(data, data.length))
+				return jpeg.decode(data, data.length, output);
+			if (output instanceof GrayU16 && isPgm(data)) {
+				loadPGM_U16(new ByteArrayInputStream(data), (GrayU16)output);
+				return true;
+			}
+		} catch (RuntimeException | IOException ignore) {
+			// Let javax.imageio decide what to do with it
+		}
+		return false;
+	}
+
+	/**
+	 * Loads an image directly into the output without creating a BufferedImage. PNG, baseline JPEG, and PGM (into
+	 * {@link GrayU16} only) are supported. The output image is reshaped. Color bands are in RGB order. Unlike
+	 * {@link #loadImage(String, boolean, ImageBase)}, embedded color profiles are ignored and alpha or palette
+	 * images are accepted.
+	 *
+	 * @param path Path to the image file
+	 * @param output (Output) Where the image is written to
+	 * @return true if it was decoded. false if the file couldn't be read or the format or output isn't supported.
+	 * @see PngDirectDecoder
+	 * @see JpegDirectDecoder
+	 */
+	public static boolean loadImageDirect( String path, ImageBase<?> output ) {
+		byte[] data = readDirectFile(path);
+		if (data == null)
+			return false;
+
+		try {
+			var png = new PngDirectDecoder();
+			if (png.isSignature(data, data.length))
+				return png.decode(data, data.length, output);
+			var jpeg = new JpegDirectDecoder();
+			if (jpeg.isSignature(data, data.length))
+				return jpeg.decode(data, data.length, output);
+			if (output instanceof GrayU16 && isPgm(data)) {
+				loadPGM_U16(new ByteArrayInputStream(data), (GrayU16)output);
+				return true;
+			}
+		} catch (IOException | IllegalArgumentException ignore) {
+		}
+		return false;
+	}
+
+	/**
+	 * Decodes an image with javax.imageio from the contents of a file which has already been read. PPM and PGM are
+	 * decoded by BoofCV if javax.imageio can't. If the contents are null then it's loaded from the path.
+	 */
+	private static @Nullable BufferedImage loadImage( String path, @Nullable byte[] data ) {
+		if (data == null)
+			return loadImage(path);
+
+		try {
+			BufferedImage buffered = ImageIO.read(new ByteArrayInputStream(data));
+			if (buffered != null)
+				return buffered;
+			String lower = path.toLowerCase();
+			if (lower.endsWith("ppm")) {
+				return loadPPM(new ByteArrayInputStream(data), null);
+			} else if (lower.endsWith("pgm")) {
+				return loadPGM(new ByteArrayInputStream(data), null);
+			}
+		} catch (IOException ignore) {
+		}
+		return null;
+	}
+
+	private static @Nullable byte[] readDirectFile( String path ) {
+		File file = new File(path);
+		if (!file.isFile())
+			return null;
+		try {
+			return Files.readAllBytes(file.toPath());
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static boolean isPgm( byte[] data ) {
+		return data.length > 2 && data[0] == 'P' && data[1] == '5';
+	}
+
 	/**
 	 * Saves the {@link BufferedImage} to the specified file. The image type of the output is determined by
 	 * the name's extension. By default the file is saved using {@link ImageIO#write(RenderedImage, String, File)}}
@@ -496,6 +607,66 @@ public class UtilImageIO {
 		return storage;
 	}
 
+	/**
+	 * Loads a PGM image into a {@link GrayU16}. Both 8-bit and 16-bit images can be read. 16-bit values are stored
+	 * most significant byte first.
+	 *
+	 * @param fileName Location of PGM file
+	 * @param storage (Optional) Storage for output image. Reshaped to match the image.
+	 * @return The read in image
+	 * @throws IOException Thrown if there is a problem reading the image
+	 */
+	public static GrayU16 loadPGM_U16( String fileName, @Nullable GrayU16 storage ) throws IOException {
+		try (var input = new BufferedInputStream(new FileInputStream(fileName))) {
+			return loadPGM_U16(input, storage);
+		}
+	}
+
+	/**
+	 * Loads a PGM image into a {@link GrayU16}. Both 8-bit and 16-bit images can be read. 16-bit values are stored
+	 * most significant byte first.
+	 *
+	 * @param inputStream InputStream for PGM image
+	 * @param storage (Optional) Storage for output image. Reshaped to match the image.
+	 * @return The read in image
+	 * @throws IOException Thrown if there is a problem reading the image
+	 */
+	public static GrayU16 loadPGM_U16( InputStream inputStream, @Nullable GrayU16 storage ) throws IOException {
+		DataInputStream in = new DataInputStream(inputStream);
+
+		readLine(in);
+		String line = readLine(in);
+		while (line.charAt(0) == '#')
+			line = readLine(in);
+		String[] s = line.split(" ");
+		int w = Integer.parseInt(s[0]);
+		int h = Integer.parseInt(s[1]);
+		int maxValue = Integer.parseInt(readLine(in).trim());
+
+		if (storage == null)
+			storage = new GrayU16(w, h);
+		else
+			storage.reshape(w, h);
+
+		int bytesPerPixel = maxValue < 256 ? 1 : 2;
+		byte[] row = new byte[w*bytesPerPixel];
+		for (int y = 0; y < h; y++) {
+			read(in, row, row.length);
+			int indexOut = storage.startIndex + y*storage.stride;
+			if (bytesPerPixel == 1) {
+				for (int x = 0; x < w; x++) {
+					storage.data[indexOut++] = (short)(row[x] & 0xFF);
+				}
+			} else {
+				for (int x = 0; x < w; x++) {
+					storage.data[indexOut++] = (short)(((row[x*2] & 0xFF) << 8) | (row[x*2 + 1] & 0xFF));
+				}
+			}
+		}
+
+		return storage;
+	}
+
 	/**
 	 * Saves an image in PPM format.
 	 *
@@ -554,6 +725,31 @@ public class UtilImageIO {
 		os.close();
 	}
 
+	/**
+	 * Saves a 16-bit image in PGM format. Values are saved most significant byte first.
+	 *
+	 * @param gray Gray scale image
+	 * @param fileName Location where the image is to be written to.
+	 * @throws IOException Thrown if there is a problem writing the image
+	 */
+	public static void savePGM( GrayU16 gray, String fileName ) throws IOException {
+		try (var os = new BufferedOutputStream(new FileOutputStream(fileName))) {
+			String header = String.format("P5\n%d %d\n65535\n", gray.width, gray.height);
+			os.write(header.getBytes(UTF_8));
+
+			byte[] row = new byte[gray.width*2];
+			for (int y = 0; y < gray.height; y++) {
+				int indexIn = gray.startIndex + y*gray.stride;
+				for (int x = 0; x < gray.width; x++) {
+					int value = gray.data[indexIn++] & 0xFFFF;
+					row[x*2] = (byte)(value >> 8);
+					row[x*2 + 1] = (byte)value;
+				}
+				os.write(row);
+			}
+		}
+	}
+
 	/**
 	 * Saves a labeled image in a RLE format.
 	 *
@@ -602,7 +798,10 @@ public class UtilImageIO {
 	private static void read( DataInputStream in, byte[] data, int length ) throws IOException {
 		int total = 0;
 		while (total < length) {
-			total += in.read(data, total, length - total);
+			int read = in.read(data, total, length - total);
+			if (read < 0)
+				throw new EOFException("Image data ended early");
+			total += read;
 		}
 	}
 
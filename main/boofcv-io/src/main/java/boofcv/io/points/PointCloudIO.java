@@ -24,14 +24,14 @@ import boofcv.alg.cloud.PointCloudReader;
 import boofcv.alg.cloud.PointCloudWriter;
 import boofcv.io.points.impl.PlyCodec;
 import boofcv.struct.Point3dRgbI_F64;
+import boofcv.struct.packed.PackedBigArrayPoint3D_F64;
 import georegression.struct.point.Point3D_F32;
 import georegression.struct.point.Point3D_F64;
+import org.ddogleg.struct.BigDogArray_I32;
 import org.ddogleg.struct.DogArray;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.*;
 import java.nio.ByteOrder;
 
 /**
@@ -120,6 +120,47 @@ public class PointCloudIO {
 		}
 	}
 
+	/**
+	 * Reads a point cloud file directly into packed arrays. Intended for very large clouds. Binary PLY files are
+	 * memory mapped and decoded concurrently.
+	 *
+	 * @param format Storage format
+	 * @param file The file being read
+	 * @param points (Output) Storage for the points
+	 * @param colors (Output) Storage for RGB values. Can be null.
+	 * @see PlyCodec#readMapped
+	 */
+	public static void load( Format format, File file,
+							 PackedBigArrayPoint3D_F64 points, @Nullable BigDogArray_I32 colors ) throws IOException {
+		switch (format) {
+			case PLY -> PlyCodec.readMapped(file, points, colors);
+		}
+	}
+
+	/**
+	 * Creates a writer which saves points to disk as they are added, avoiding the need to have the entire cloud
+	 * in memory. The file is written when the writer is closed.
+	 *
+	 * @param format Storage format
+	 * @param file The file being written
+	 * @param saveRGB if true it will save RGB information
+	 * @see PlyCodec.StreamWriter
+	 */
+	public static StreamWriter createStreamWriter( Format format, File file, boolean saveRGB ) throws IOException {
+		return switch (format) {
+			case PLY -> {
+				var writer = new PlyCodec.StreamWriter(file, ByteOrder.BIG_ENDIAN, saveRGB, false);
+				yield new StreamWriter() {
+					@Override public void initialize( int size, boolean hasColor ) {}
+
+					@Override public void add( double x, double y, double z, int rgb ) {writer.add(x, y, z, rgb);}
+
+					@Override public void close() throws IOException {writer.close();}
+				};
+			}
+		};
+	}
+
 	/**
 	 * The same as {@link #load(Format, InputStream, PointCloudWriter)}, but with a simplified writer that
 	 * removes the initialization function. Result is more concise code with less flexibility
@@ -143,6 +184,11 @@ public class PointCloudIO {
 		void add( double x, double y, double z, int rgb );
 	}
 
+	/**
+	 * Writes points as they are added. Must be closed to finish writing the file.
+	 */
+	public interface StreamWriter extends PointCloudWriter, Closeable {}
+
 	public enum Format {
 		/**
 		 * https://en.wikipedia.org/wiki/PLY_(file_format)
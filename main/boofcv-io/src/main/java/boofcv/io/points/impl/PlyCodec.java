@@ -20,24 +20,35 @@ package boofcv.io.points.impl;
 
 import boofcv.alg.cloud.PointCloudReader;
 import boofcv.alg.cloud.PointCloudWriter;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.io.UtilIO;
+import boofcv.struct.packed.PackedBigArrayPoint3D_F64;
 import georegression.struct.point.Point3D_F64;
+import org.ddogleg.struct.BigDogArray_I32;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.io.Writer;
+import java.io.*;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntConsumer;
 
 /**
- * For reading PLY point files
+ * For reading PLY point files. Binary files can also be memory mapped and decoded concurrently with
+ * {@link #readMapped}, while {@link StreamWriter} saves points as they are created without knowing the size
+ * of the cloud in advance.
  *
  * @author Peter Abeles
  */
 public class PlyCodec {
+	/** Number of bytes in each block that's mapped and decoded by {@link #readMapped} */
+	public static int mappedBlockBytes = 32*1024*1024;
+
 	public static void saveAscii( PointCloudReader cloud, boolean saveRgb, Writer outputWriter ) throws IOException {
 		outputWriter.write("ply\n");
 		outputWriter.write("format ascii 1.0\n");
@@ -81,24 +92,9 @@ public class PlyCodec {
 	 */
 	public static void saveBinary( PointCloudReader cloud, ByteOrder order, boolean saveRgb, boolean saveAsFloat,
 								   OutputStream outputWriter ) throws IOException {
-		String format = "UTF-8";
-		String dataType = saveAsFloat ? "float" : "double";
 		int dataLength = saveAsFloat ? 4 : 8;
-		outputWriter.write("ply\n".getBytes(format));
-		outputWriter.write("format binary_big_endian 1.0\n".getBytes(format));
-		outputWriter.write("comment Created using BoofCV!\n".getBytes(format));
-		outputWriter.write(("element vertex " + cloud.size() + "\n").getBytes(format));
-		outputWriter.write((
-				"property " + dataType + " x\n" +
-				"property " + dataType + " y\n" +
-				"property " + dataType + " z\n").getBytes(format));
-		if (saveRgb) {
-			outputWriter.write(
-					("property uchar red\n" +
-					 "property uchar green\n" +
-					 "property uchar blue\n").getBytes(format));
-		}
-		outputWriter.write("end_header\n".getBytes(format));
+		outputWriter.write(binaryHeader(order, saveRgb, saveAsFloat, Integer.toString(cloud.size()))
+				.getBytes(StandardCharsets.UTF_8));
 
 		int end = dataLength*3;
 		var bytes = ByteBuffer.allocate(dataLength*3 + (saveRgb ? 3 : 0));
@@ -130,6 +126,29 @@ public class PlyCodec {
 		outputWriter.flush();
 	}
 
+	/**
+	 * Creates the header for a binary PLY file
+	 *
+	 * @param vertexCount String containing the number of vertexes
+	 */
+	private static String binaryHeader( ByteOrder order, boolean saveRgb, boolean saveAsFloat, String vertexCount ) {
+		String dataType = saveAsFloat ? "float" : "double";
+		String endian = order == ByteOrder.BIG_ENDIAN ? "binary_big_endian" : "binary_little_endian";
+		String header = "ply\n" +
+				"format " + endian + " 1.0\n" +
+				"comment Created using BoofCV!\n" +
+				"element vertex " + vertexCount + "\n" +
+				"property " + dataType + " x\n" +
+				"property " + dataType + " y\n" +
+				"property " + dataType + " z\n";
+		if (saveRgb) {
+			header += "property uchar red\n" +
+					"property uchar green\n" +
+					"property uchar blue\n";
+		}
+		return header + "end_header\n";
+	}
+
 	private static String readNextPly( InputStream reader, boolean failIfNull, StringBuilder buffer ) throws IOException {
 		String line = UtilIO.readLine(reader, buffer);
 		while (line.length() != 0) {
@@ -146,7 +165,114 @@ public class PlyCodec {
 
 	public static void read( InputStream input, PointCloudWriter output ) throws IOException {
 		StringBuilder buffer = new StringBuilder();
+		Header header = readHeader(input, buffer);
+
+		output.initialize(header.vertexCount, header.rgb);
+
+		switch (header.format) {
+			case ASCII -> readAscii(output, input, header.dataWords, buffer, header.vertexCount, header.rgb);
+			case BINARY_LITTLE -> readBinary(output, input, header.dataWords, ByteOrder.LITTLE_ENDIAN,
+					header.vertexCount, header.rgb);
+			case BINARY_BIG -> readBinary(output, input, header.dataWords, ByteOrder.BIG_ENDIAN,
+					header.vertexCount, header.rgb);
+			default -> throw new RuntimeException("BUG!");
+		}
+	}
+
+	/**
+	 * Reads a PLY file directly into packed arrays. Binary files are memory mapped and split into blocks of
+	 * vertexes, which are decoded concurrently if {@link BoofConcurrency} is enabled. Large files can be read
+	 * this way since only a block at a time needs to be mapped. ASCII files are read sequentially.
+	 *
+	 * @param file (Input) The PLY file
+	 * @param points (Output) Storage for the 3D points. Resized to the number of vertexes.
+	 * @param colors (Output) Storage for RGB colors. Set to 0 if the file has no color. Can be null.
+	 */
+	public static void readMapped( File file, PackedBigArrayPoint3D_F64 points, @Nullable BigDogArray_I32 colors )
+			throws IOException {
+		Header header;
+		long dataStart;
+		try (var input = new FileInputStream(file)) {
+			var buffer = new StringBuilder();
+			header = readHeader(input, buffer);
+
+			if (header.format == Format.ASCII) {
+				points.reset();
+				points.reserve(header.vertexCount);
+				if (colors != null) {
+					colors.reset();
+					colors.reserve(header.vertexCount);
+				}
+				readAscii(new PointCloudWriter() {
+					@Override public void initialize( int size, boolean hasColor ) {}
+
+					@Override public void add( double x, double y, double z, int rgb ) {
+						points.append(x, y, z);
+						if (colors != null)
+							colors.add(rgb);
+					}
+				}, input, header.dataWords, buffer, header.vertexCount, header.rgb);
+				return;
+			}
 
+			// The header is read one byte at a time so the stream is at the start of the data
+			dataStart = input.getChannel().position();
+		}
+
+		final int vertexCount = header.vertexCount;
+		final int vertexBytes = header.vertexBytes();
+		final ByteOrder order = header.format == Format.BINARY_BIG ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+		final int blockVertexes = Math.max(1, mappedBlockBytes/vertexBytes);
+		final int numBlocks = (vertexCount + blockVertexes - 1)/blockVertexes;
+
+		points.resize(vertexCount);
+		if (colors != null)
+			colors.resize(vertexCount);
+
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long expectedSize = dataStart + (long)vertexBytes*vertexCount;
+			if (channel.size() < expectedSize)
+				throw new IOException("File is truncated. size=" + channel.size() + " expected=" + expectedSize);
+
+			IntConsumer decodeBlock = ( block ) -> {
+				int idx0 = block*blockVertexes;
+				int idx1 = Math.min(vertexCount, idx0 + blockVertexes);
+
+				MappedByteBuffer bb;
+				try {
+					bb = channel.map(FileChannel.MapMode.READ_ONLY,
+							dataStart + (long)idx0*vertexBytes, (long)(idx1 - idx0)*vertexBytes);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				bb.order(order);
+
+				var decoder = new VertexDecoder(header.dataWords);
+				for (int i = idx0, location = 0; i < idx1; i++, location += vertexBytes) {
+					decoder.decode(bb, location);
+					points.set(i, decoder.x, decoder.y, decoder.z);
+					if (colors != null)
+						colors.set(i, header.rgb ? decoder.rgb() : 0);
+				}
+			};
+
+			if (BoofConcurrency.isUseConcurrent()) {
+				BoofConcurrency.loopFor(0, numBlocks, decodeBlock);
+			} else {
+				for (int block = 0; block < numBlocks; block++) {
+					decodeBlock.accept(block);
+				}
+			}
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Reads the header and leaves the input at the start of the vertex data. Only properties which belong to the
+	 * vertex element are kept.
+	 */
+	private static Header readHeader( InputStream input, StringBuilder buffer ) throws IOException {
 		String line = UtilIO.readLine(input, buffer);
 		if (line.length() == 0) throw new IOException("Missing first line");
 		if (line.compareToIgnoreCase("ply") != 0) throw new IOException("Expected PLY at start of file");
@@ -157,6 +283,7 @@ public class PlyCodec {
 
 		Format format = null;
 		boolean rgb = false;
+		String element = "";
 		line = readNextPly(input, true, buffer);
 		while (line.length() != 0) {
 			if (line.equals("end_header"))
@@ -172,32 +299,39 @@ public class PlyCodec {
 					default -> throw new IOException("Unknown format " + words[1]);
 				};
 			} else if (line.startsWith("element")) {
+				element = words[1];
 				if (words[1].equals("vertex")) {
 					vertexCount = Integer.parseInt(words[2]);
+				} else if (vertexCount == -1) {
+					// Vertex data is assumed to be at the start of the data block
+					throw new IOException("Vertex must be the first element");
 				}
 			} else if (words[0].equals("property")) {
-				DataType d = switch (words[1].toLowerCase()) {
-					case "float" -> DataType.FLOAT;
-					case "double" -> DataType.DOUBLE;
-					case "char" -> DataType.CHAR;
-					case "short" -> DataType.SHORT;
-					case "int" -> DataType.INT;
-					case "uchar" -> DataType.UCHAR;
-					case "ushort" -> DataType.USHORT;
-					case "uint" -> DataType.UINT;
-					default -> throw new RuntimeException("Add support for " + words[1]);
-				};
-				VarType v;
-				switch (words[2].toLowerCase()) {
-					case "x" -> v = VarType.X;
-					case "y" -> v = VarType.Y;
-					case "z" -> v = VarType.Z;
-					case "red" -> { v = VarType.R; rgb = true; }
-					case "green" -> { v = VarType.G; rgb = true; }
-					case "blue" -> { v = VarType.B; rgb = true; }
-					default -> v = VarType.UNKNOWN;
+				// properties of other elements, e.g. faces, are skipped
+				if (element.equals("vertex")) {
+					DataType d = switch (words[1].toLowerCase()) {
+						case "float" -> DataType.FLOAT;
+						case "double" -> DataType.DOUBLE;
+						case "char" -> DataType.CHAR;
+						case "short" -> DataType.SHORT;
+						case "int" -> DataType.INT;
+						case "uchar" -> DataType.UCHAR;
+						case "ushort" -> DataType.USHORT;
+						case "uint" -> DataType.UINT;
+						default -> throw new RuntimeException("Add support for " + words[1]);
+					};
+					VarType v;
+					switch (words[2].toLowerCase()) {
+						case "x" -> v = VarType.X;
+						case "y" -> v = VarType.Y;
+						case "z" -> v = VarType.Z;
+						case "red" -> { v = VarType.R; rgb = true; }
+						case "green" -> { v = VarType.G; rgb = true; }
+						case "blue" -> { v = VarType.B; rgb = true; }
+						default -> v = VarType.UNKNOWN;
+					}
+					dataWords.add(new DataWord(v, d));
 				}
-				dataWords.add(new DataWord(v, d));
 			} else {
 				throw new IOException("Unknown header element");
 			}
@@ -208,14 +342,7 @@ public class PlyCodec {
 		if (format == null)
 			throw new IOException("Format is never specified");
 
-		output.initialize(vertexCount, rgb);
-
-		switch (format) {
-			case ASCII -> readAscii(output, input, dataWords, buffer, vertexCount, rgb);
-			case BINARY_LITTLE -> readBinary(output, input, dataWords, ByteOrder.LITTLE_ENDIAN, vertexCount, rgb);
-			case BINARY_BIG -> readBinary(output, input, dataWords, ByteOrder.BIG_ENDIAN, vertexCount, rgb);
-			default -> throw new RuntimeException("BUG!");
-		}
+		return new Header(format, vertexCount, rgb, dataWords);
 	}
 
 	private static void readAscii( PointCloudWriter output, InputStream reader, List<DataWord> dataWords,
@@ -273,23 +400,183 @@ public class PlyCodec {
 		final ByteBuffer bb = ByteBuffer.wrap(line);
 		bb.order(order);
 
-		// storage for read in values
-		int I32 = -1;
-		double F64 = -1;
+		var decoder = new VertexDecoder(dataWords);
+
+		for (int i = 0; i < vertexCount; i++) {
+			int found = reader.readNBytes(line, 0, line.length);
+			if (line.length != found)
+				throw new IOException("Read unexpected number of bytes. " + found + " vs " + line.length);
+
+			decoder.decode(bb, 0);
+
+			if (rgb) {
+				output.add(decoder.x, decoder.y, decoder.z, decoder.rgb());
+			} else {
+				output.add(decoder.x, decoder.y, decoder.z, 0x0);
+			}
+		}
+	}
+
+	/**
+	 * Writes a binary PLY file one point at a time. The number of points doesn't need to be known in advance.
+	 * Space for the vertex count is reserved in the header and it's filled in when the writer is closed.
+	 * Points are buffered and written through a {@link FileChannel}.
+	 */
+	public static class StreamWriter implements PointCloudWriter, Closeable {
+		// Reserves enough space in the header for any int
+		private static final int COUNT_WIDTH = 10;
+
+		final FileChannel channel;
+		final ByteBuffer buffer;
+		final boolean saveRgb;
+		final boolean saveAsFloat;
+		final int vertexBytes;
+
+		// Location of the vertex count in the header
+		final long countLocation;
+
+		// Number of points written so far
+		int count;
+
+		/**
+		 * Creates the file and writes the header
+		 *
+		 * @param file The output file
+		 * @param order The byte order of the binary data
+		 * @param saveRgb if true it will save RGB information
+		 * @param saveAsFloat if true it will save it as a 4-byte float and if false as an 8-byte double
+		 */
+		public StreamWriter( File file, ByteOrder order, boolean saveRgb, boolean saveAsFloat ) throws IOException {
+			this.saveRgb = saveRgb;
+			this.saveAsFloat = saveAsFloat;
+			this.vertexBytes = (saveAsFloat ? 4 : 8)*3 + (saveRgb ? 3 : 0);
+
+			String blank = " ".repeat(COUNT_WIDTH);
+			String header = binaryHeader(order, saveRgb, saveAsFloat, blank);
+			countLocation = header.indexOf("element vertex " + blank) + "element vertex ".length();
+
+			channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING);
+			buffer = ByteBuffer.allocate(1024*1024);
+			buffer.order(order);
+			buffer.put(header.getBytes(StandardCharsets.UTF_8));
+		}
+
+		/**
+		 * Does nothing since the size is only known once all the points have been written
+		 */
+		@Override public void initialize( int size, boolean hasColor ) {}
+
+		@Override public void add( double x, double y, double z, int rgb ) {
+			if (buffer.remaining() < vertexBytes)
+				flush();
+
+			if (saveAsFloat) {
+				buffer.putFloat((float)x);
+				buffer.putFloat((float)y);
+				buffer.putFloat((float)z);
+			} else {
+				buffer.putDouble(x);
+				buffer.putDouble(y);
+				buffer.putDouble(z);
+			}
+
+			if (saveRgb) {
+				buffer.put((byte)(rgb >> 16));
+				buffer.put((byte)(rgb >> 8));
+				buffer.put((byte)rgb);
+			}
+			count++;
+		}
+
+		private void flush() {
+			buffer.flip();
+			try {
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			buffer.clear();
+		}
+
+		/**
+		 * Number of points written so far
+		 */
+		public int size() {
+			return count;
+		}
+
+		/**
+		 * Writes any buffered points, fills in the vertex count, then closes the file
+		 */
+		@Override public void close() throws IOException {
+			try {
+				flush();
+				String text = String.format("%-" + COUNT_WIDTH + "d", count);
+				ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+				while (bytes.hasRemaining()) {
+					channel.write(bytes, countLocation + bytes.position());
+				}
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			} finally {
+				channel.close();
+			}
+		}
+	}
+
+	/**
+	 * Decodes a binary vertex and stores the values which are used
+	 */
+	private static class VertexDecoder {
+		final DataWord[] dataWords;
 
 		// values that are writen to that we care about
 		int r = -1, g = -1, b = -1;
 		double x = -1, y = -1, z = -1;
 
-		for (int i = 0; i < vertexCount; i++) {
-			int found = reader.read(line);
-			if (line.length != found)
-				throw new IOException("Read unexpected number of bytes. " + found + " vs " + line.length);
+		// Type of x,y,z if they are at the start and have the same type. Used to skip the generic decoding
+		@Nullable DataType xyzType;
+		// true if red, green, blue are uchar and immediately follow x,y,z
+		boolean rgbFollows;
+
+		public VertexDecoder( List<DataWord> dataWords ) {
+			this.dataWords = dataWords.toArray(new DataWord[0]);
+
+			// See if this is the layout BoofCV and most other software writes
+			if (dataWords.size() >= 3 && isWord(0, VarType.X, null)) {
+				DataType type = dataWords.get(0).data;
+				if ((type == DataType.FLOAT || type == DataType.DOUBLE) &&
+						isWord(1, VarType.Y, type) && isWord(2, VarType.Z, type)) {
+					xyzType = type;
+					rgbFollows = dataWords.size() >= 6 && isWord(3, VarType.R, DataType.UCHAR) &&
+							isWord(4, VarType.G, DataType.UCHAR) && isWord(5, VarType.B, DataType.UCHAR);
+				}
+			}
+		}
 
-			int location = 0;
+		private boolean isWord( int index, VarType var, @Nullable DataType data ) {
+			DataWord d = dataWords[index];
+			return d.var == var && (data == null || d.data == data);
+		}
 
-			for (int j = 0; j < dataWords.size(); j++) {
-				DataWord d = dataWords.get(j);
+		/**
+		 * Decodes the vertex which starts at 'location' in the buffer
+		 */
+		public void decode( ByteBuffer bb, int location ) {
+			if (xyzType != null && (rgbFollows || dataWords.length == 3)) {
+				decodeFast(bb, location);
+				return;
+			}
+
+			// storage for read in values
+			int I32 = -1;
+			double F64 = -1;
+
+			for (int j = 0; j < dataWords.length; j++) {
+				DataWord d = dataWords[j];
 				switch (d.data) {
 					case FLOAT -> F64 = bb.getFloat(location);
 					case DOUBLE -> F64 = bb.getDouble(location);
@@ -312,12 +599,55 @@ public class PlyCodec {
 					default: break;
 				}
 			}
+		}
 
-			if (rgb) {
-				output.add(x, y, z, r << 16 | g << 8 | b);
+		/**
+		 * Decodes a vertex where the location of each value is known
+		 */
+		private void decodeFast( ByteBuffer bb, int location ) {
+			if (xyzType == DataType.FLOAT) {
+				x = bb.getFloat(location);
+				y = bb.getFloat(location + 4);
+				z = bb.getFloat(location + 8);
+				location += 12;
 			} else {
-				output.add(x, y, z, 0x0);
+				x = bb.getDouble(location);
+				y = bb.getDouble(location + 8);
+				z = bb.getDouble(location + 16);
+				location += 24;
+			}
+			if (rgbFollows) {
+				r = bb.get(location) & 0xFF;
+				g = bb.get(location + 1) & 0xFF;
+				b = bb.get(location + 2) & 0xFF;
+			}
+		}
+
+		public int rgb() {
+			return r << 16 | g << 8 | b;
+		}
+	}
+
+	private static class Header {
+		final Format format;
+		final int vertexCount;
+		final boolean rgb;
+		final List<DataWord> dataWords;
+
+		public Header( Format format, int vertexCount, boolean rgb, List<DataWord> dataWords ) {
+			this.format = format;
+			this.vertexCount = vertexCount;
+			this.rgb = rgb;
+			this.dataWords = dataWords;
+		}
+
+		/** Number of bytes used to encode a single vertex in binary */
+		public int vertexBytes() {
+			int total = 0;
+			for (int i = 0; i < dataWords.size(); i++) {
+				total += dataWords.get(i).data.size;
 			}
+			return total;
 		}
 	}
 
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.recognition;
+
+import boofcv.alg.scene.bow.InvertedFile;
+import boofcv.alg.scene.bow.InvertedFileReader;
+import org.ddogleg.struct.BigDogArray_I32;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.util.function.IntFunction;
+
+/**
+ * Reads inverted files directly from a memory mapped file. The file has a fixed layout so that any inverted file
+ * can be found without parsing the file first, making opening a database almost instant. Since the OS page cache
+ * holds the data, multiple processes which open the same file will share one copy in memory.
+ *
+ * <pre>
+ * int     MAGIC ("BINV")
+ * int     VERSION
+ * int     images.size
+ * int     inverted.size
+ * long    Total number of elements in all inverted files
+ * int[]   images DB. Length = images.size
+ * long[]  Index of the first element in each inverted file. Length = inverted.size + 1
+ * int[]   Image index for every element in every inverted file
+ * float[] Weight for every element in every inverted file
+ * </pre>
+ *
+ * All values are big endian. Each section is mapped independently and must be less than 2 GB.
+ *
+ * @author Peter Abeles
+ */
+public class MappedInvertedFiles implements InvertedFileReader {
+	/** Identifies the start of an inverted file section */
+	public static final int MAGIC = 0x42494E56;
+	/** Version of the file format */
+	public static final int VERSION = 1;
+	/** Number of bytes in the fixed size header */
+	public static final int HEADER_BYTES = 4 + 4 + 4 + 4 + 8;
+
+	final int numImages;
+	final int numInverted;
+
+	final IntBuffer imagesDB;
+	final LongBuffer offsets;
+	final IntBuffer indexes;
+	final FloatBuffer weights;
+
+	/**
+	 * Maps the inverted files section in a file.
+	 *
+	 * @param channel Channel for the file. Can be closed after this returns.
+	 * @param start Location in the file the section begins at
+	 */
+	public MappedInvertedFiles( FileChannel channel, long start ) throws IOException {
+		ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, start, HEADER_BYTES);
+		if (header.getInt() != MAGIC)
+			throw new IOException("Not a mapped inverted file section");
+		int version = header.getInt();
+		if (version != VERSION)
+			throw new IOException("Unsupported version. Expected=" + VERSION + " found=" + version);
+		numImages = header.getInt();
+		numInverted = header.getInt();
+		long numElements = header.getLong();
+
+		long location = start + HEADER_BYTES;
+		imagesDB = map(channel, location, 4L*numImages).asIntBuffer();
+		location += 4L*numImages;
+		offsets = map(channel, location, 8L*(numInverted + 1)).asLongBuffer();
+		location += 8L*(numInverted + 1);
+		indexes = map(channel, location, 4L*numElements).asIntBuffer();
+		location += 4L*numElements;
+		weights = map(channel, location, 4L*numElements).asFloatBuffer();
+	}
+
+	private static ByteBuffer map( FileChannel channel, long location, long length ) throws IOException {
+		if (length > Integer.MAX_VALUE)
+			throw new IOException("Section is too large to memory map. bytes=" + length);
+		return channel.map(FileChannel.MapMode.READ_ONLY, location, length);
+	}
+
+	/**
+	 * Writes inverted files in the format which can be memory mapped
+	 *
+	 * @param imagesDB (Input) Image DB
+	 * @param numInverted (Input) Number of inverted files
+	 * @param lookup (Input) Used to access each inverted file
+	 * @param out (Output) Where it's written to
+	 */
+	public static void write( BigDogArray_I32 imagesDB, int numInverted, IntFunction<InvertedFile> lookup,
+							  DataOutputStream out ) throws IOException {
+		long numElements = 0;
+		for (int i = 0; i < numInverted; i++) {
+			numElements += lookup.apply(i).size;
+		}
+
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(imagesDB.size);
+		out.writeInt(numInverted);
+		out.writeLong(numElements);
+		for (int i = 0; i < imagesDB.size; i++) {
+			out.writeInt(imagesDB.get(i));
+		}
+		long offset = 0;
+		for (int i = 0; i < numInverted; i++) {
+			out.writeLong(offset);
+			offset += lookup.apply(i).size;
+		}
+		out.writeLong(offset);
+		for (int i = 0; i < numInverted; i++) {
+			InvertedFile inv = lookup.apply(i);
+			for (int j = 0; j < inv.size; j++) {
+				out.writeInt(inv.data[j]);
+			}
+		}
+		for (int i = 0; i < numInverted; i++) {
+			InvertedFile inv = lookup.apply(i);
+			for (int j = 0; j < inv.size; j++) {
+				out.writeFloat(inv.weights.data[j]);
+			}
+		}
+	}
+
+	/**
+	 * Copies the image DB into the provided array
+	 */
+	public void readImagesDB( BigDogArray_I32 dst ) {
+		dst.resize(numImages);
+		for (int i = 0; i < numImages; i++) {
+			dst.set(i, imagesDB.get(i));
+		}
+	}
+
+	@Override public int size() {
+		return numInverted;
+	}
+
+	@Override public void read( int index, InvertedFile dst ) {
+		int idx0 = (int)offsets.get(index);
+		int N = (int)offsets.get(index + 1) - idx0;
+
+		dst.resize(N);
+		dst.weights.resize(N);
+		// duplicate() so that the shared buffer's position is never modified
+		indexes.duplicate().position(idx0).get(dst.data, 0, N);
+		weights.duplicate().position(idx0).get(dst.weights.data, 0, N);
+	}
+
+	public int getNumImages() {
+		return numImages;
+	}
+}
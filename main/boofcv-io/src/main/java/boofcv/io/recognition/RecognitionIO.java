@@ -45,7 +45,11 @@ import org.ddogleg.struct.FastAccess;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -64,6 +68,13 @@ public class RecognitionIO {
 	public static final String DATABASE_NAME = "database.bin";
 	public static final String DICTIONARY_NAME = "dictionary.bin";
 	public static final String INVERTED_NAME = "inverted_files.bin";
+	public static final String DATABASE_MAPPED_NAME = "database_mapped.bin";
+	public static final String INVERTED_MAPPED_NAME = "inverted_files_mapped.bin";
+
+	/** Identifies a vocabulary tree database which can be memory mapped. "BVTM" */
+	public static final int TREE_MAPPED_MAGIC = 0x4256544D;
+	/** Version of the memory mapped vocabulary tree database format */
+	public static final int TREE_MAPPED_VERSION = 1;
 
 	/**
 	 * Downloads then loads the pre-built default scene recognition model. The image DB will of course be empty.
@@ -97,6 +108,18 @@ public class RecognitionIO {
 	 */
 	public static <TD extends TupleDesc<TD>>
 	void saveFeatureToScene( WrapFeatureToSceneRecognition<?, TD> def, File dir ) {
+		saveFeatureToScene(def, dir, false);
+	}
+
+	/**
+	 * Saves {@link WrapFeatureToSceneRecognition} to disk inside of the specified directory
+	 *
+	 * @param def What is to be saved
+	 * @param dir Direction that it is to be saved
+	 * @param mapped If true the database is saved in a format which can be memory mapped and lazily loaded
+	 */
+	public static <TD extends TupleDesc<TD>>
+	void saveFeatureToScene( WrapFeatureToSceneRecognition<?, TD> def, File dir, boolean mapped ) {
 		if (dir.exists() && !dir.isDirectory())
 			throw new IllegalArgumentException("Destination must not exist or be a directory");
 		if (!dir.exists())
@@ -109,7 +132,14 @@ public class RecognitionIO {
 		switch (def.getConfig().typeRecognize) {
 			case NISTER_2006 -> {
 				FeatureSceneRecognitionNister2006<TD> recognizer = def.getRecognizer();
-				saveTreeBin(recognizer.getDatabase(), new File(dir, DATABASE_NAME));
+				// Delete the other format after saving since the database might be lazily loaded from it
+				if (mapped) {
+					saveTreeMapped(recognizer.getDatabase(), new File(dir, DATABASE_MAPPED_NAME));
+					deleteIfExists(new File(dir, DATABASE_NAME));
+				} else {
+					saveTreeBin(recognizer.getDatabase(), new File(dir, DATABASE_NAME));
+					deleteIfExists(new File(dir, DATABASE_MAPPED_NAME));
+				}
 				listImageIds = recognizer.getImageIds();
 			}
 
@@ -119,7 +149,13 @@ public class RecognitionIO {
 				saveDictionaryBin(recognizer.getDictionary(),
 						recognizer.getTupleDOF(),
 						recognizer.getDescriptorType(), new File(dir, DICTIONARY_NAME));
-				saveNearestNeighborBin(recognizer.getDatabase(), new File(dir, INVERTED_NAME));
+				if (mapped) {
+					saveNearestNeighborMapped(recognizer.getDatabase(), new File(dir, INVERTED_MAPPED_NAME));
+					deleteIfExists(new File(dir, INVERTED_NAME));
+				} else {
+					saveNearestNeighborBin(recognizer.getDatabase(), new File(dir, INVERTED_NAME));
+					deleteIfExists(new File(dir, INVERTED_MAPPED_NAME));
+				}
 				listImageIds = recognizer.getImageIds();
 			}
 		}
@@ -130,6 +166,13 @@ public class RecognitionIO {
 		}
 	}
 
+	/**
+	 * Loads {@link WrapFeatureToSceneRecognition} from a directory. If the database was saved in the memory mapped
+	 * format then it will be memory mapped and inverted files will be loaded the first time they are accessed.
+	 *
+	 * @param dir Directory it was saved to
+	 * @param imageType Type of image the resulting algorithm will process
+	 */
 	public static <Image extends ImageBase<Image>, TD extends TupleDesc<TD>>
 	WrapFeatureToSceneRecognition<Image, TD> loadFeatureToScene( File dir, ImageType<Image> imageType ) {
 		if (!dir.exists())
@@ -147,7 +190,11 @@ public class RecognitionIO {
 			case NISTER_2006 -> {
 				FeatureSceneRecognitionNister2006<TD> recognizer = alg.getRecognizer();
 
-				loadTreeBin(new File(dir, DATABASE_NAME), recognizer.getDatabase());
+				File fileMapped = new File(dir, DATABASE_MAPPED_NAME);
+				if (fileMapped.exists())
+					loadTreeMapped(fileMapped, recognizer.getDatabase());
+				else
+					loadTreeBin(new File(dir, DATABASE_NAME), recognizer.getDatabase());
 				if (loadImagesIDs)
 					recognizer.getImageIds().addAll(UtilIO.loadListStringYaml(new File(dir, IMAGE_ID_NAME)));
 
@@ -161,7 +208,11 @@ public class RecognitionIO {
 				// Add the dictionary
 				List<TD> dictionary = loadDictionaryBin(new File(dir, DICTIONARY_NAME));
 				recognizer.setDictionary(dictionary);
-				loadNearestNeighborBin(new File(dir, INVERTED_NAME), recognizer.getDatabase());
+				File fileMapped = new File(dir, INVERTED_MAPPED_NAME);
+				if (fileMapped.exists())
+					loadNearestNeighborMapped(fileMapped, recognizer.getDatabase());
+				else
+					loadNearestNeighborBin(new File(dir, INVERTED_NAME), recognizer.getDatabase());
 
 				// Add the images now
 				if (loadImagesIDs) {
@@ -190,6 +241,7 @@ public class RecognitionIO {
 
 		UtilIO.saveConfig(def.getConfig(), new File(dir, CONFIG_NAME));
 		saveTreeBin(def.getDatabase(), new File(dir, DATABASE_NAME));
+		deleteIfExists(new File(dir, DATABASE_MAPPED_NAME));
 		UtilIO.saveListStringYaml(def.getImageIds(), new File(dir, IMAGE_ID_NAME));
 	}
 
@@ -206,7 +258,11 @@ public class RecognitionIO {
 		if (!dir.isDirectory())
 			throw new IllegalArgumentException("Path is not a directory: " + dir.getPath());
 
-		loadTreeBin(new File(dir, DATABASE_NAME), recognizer.getDatabase());
+		File fileMapped = new File(dir, DATABASE_MAPPED_NAME);
+		if (fileMapped.exists())
+			loadTreeMapped(fileMapped, recognizer.getDatabase());
+		else
+			loadTreeBin(new File(dir, DATABASE_NAME), recognizer.getDatabase());
 		recognizer.getImageIds().addAll(UtilIO.loadListStringYaml(new File(dir, IMAGE_ID_NAME)));
 
 		// Need to do this so that the tree reference is correctly set up
@@ -535,7 +591,7 @@ public class RecognitionIO {
 
 			DataOutputStream dout = new DataOutputStream(out);
 			for (int invertedIdx = 0; invertedIdx < inverted.size(); invertedIdx++) {
-				InvertedFile inv = inverted.get(invertedIdx);
+				InvertedFile inv = nn.getInvertedFile(invertedIdx);
 				dout.writeInt(inv.size);
 				for (int imageIdx = 0; imageIdx < inv.size; imageIdx++) {
 					dout.writeInt(inv.get(imageIdx));
@@ -561,6 +617,7 @@ public class RecognitionIO {
 		DogArray<InvertedFile> inverted = nn.getInvertedFiles();
 		BigDogArray_I32 imageDB = nn.getImagesDB();
 
+		nn.setLazyInvertedFiles(null);
 		inverted.reset();
 		imageDB.reset();
 
@@ -714,7 +771,7 @@ public class RecognitionIO {
 			dout.writeUTF("BEGIN_INVERTED_FILES");
 			BoofMiscOps.checkEq(db.invertedFiles.size(), tree.nodes.size);
 			for (int nodeIdx = 0; nodeIdx < db.invertedFiles.size(); nodeIdx++) {
-				InvertedFile node = db.invertedFiles.get(nodeIdx);
+				InvertedFile node = db.getInvertedFile(nodeIdx);
 				BoofMiscOps.checkEq(node.size, node.weights.size);
 
 				dout.writeInt(node.size());
@@ -769,6 +826,7 @@ public class RecognitionIO {
 			}
 
 			readCheckUTF(input, "BEGIN_INVERTED_FILES");
+			db.setLazyInvertedFiles(null);
 			db.invertedFiles.reset();
 			db.invertedFiles.resize(db.tree.nodes.size());
 			for (int nodeIdx = 0; nodeIdx < db.invertedFiles.size(); nodeIdx++) {
@@ -790,6 +848,143 @@ public class RecognitionIO {
 		}
 	}
 
+	/**
+	 * Saves {@link RecognitionNearestNeighborInvertedFile} in a fixed layout format which can be memory mapped.
+	 *
+	 * @param nn (Input) Structure to be encoded
+	 * @param file File it's written to. Can be the same file the inverted files are being lazily read from.
+	 * @see MappedInvertedFiles
+	 */
+	public static void saveNearestNeighborMapped( RecognitionNearestNeighborInvertedFile<?> nn, File file ) {
+		File tmp = temporaryFile(file);
+		try (var out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp), 1024*1024))) {
+			MappedInvertedFiles.write(nn.getImagesDB(), nn.getInvertedFiles().size, nn::getInvertedFile, out);
+		} catch (IOException e) {
+			BoofMiscOps.checkTrue(!tmp.exists() || tmp.delete());
+			throw new UncheckedIOException(e);
+		}
+		replaceFile(tmp, file);
+	}
+
+	/**
+	 * Memory maps a file created by {@link #saveNearestNeighborMapped}. The image DB is read immediately while
+	 * inverted files are read the first time they are accessed. The nearest neighbor search must already
+	 * have been initialized.
+	 *
+	 * @param file File that's memory mapped
+	 * @param nn (Output) Structure the file is loaded into
+	 */
+	public static void loadNearestNeighborMapped( File file, RecognitionNearestNeighborInvertedFile<?> nn ) {
+		try (var raf = new RandomAccessFile(file, "r")) {
+			var reader = new MappedInvertedFiles(raf.getChannel(), 0);
+			reader.readImagesDB(nn.getImagesDB());
+			nn.setLazyInvertedFiles(reader);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Saves {@link RecognitionVocabularyTreeNister2006} in a format which can be memory mapped. The tree is
+	 * encoded using {@link #saveTreeBin(HierarchicalVocabularyTree, OutputStream)} and is followed by the
+	 * inverted files.
+	 *
+	 * <pre>
+	 * int    {@link #TREE_MAPPED_MAGIC}
+	 * int    {@link #TREE_MAPPED_VERSION}
+	 * long   Number of bytes in the encoded tree
+	 * byte[] Encoded tree
+	 * Inverted files, see {@link MappedInvertedFiles}
+	 * </pre>
+	 *
+	 * @param db (Input) Structure to be encoded
+	 * @param file File it's written to. Can be the same file the inverted files are being lazily read from.
+	 */
+	public static <TD extends TupleDesc<TD>> void saveTreeMapped( RecognitionVocabularyTreeNister2006<TD> db, File file ) {
+		HierarchicalVocabularyTree<TD> tree = db.getTree();
+		Objects.requireNonNull(tree, "Tree must be specified before it can be saved");
+		BoofMiscOps.checkEq(db.invertedFiles.size(), tree.nodes.size);
+
+		File tmp = temporaryFile(file);
+		try (var stream = new FileOutputStream(tmp)) {
+			var out = new DataOutputStream(new BufferedOutputStream(stream, 1024*1024));
+			out.writeInt(TREE_MAPPED_MAGIC);
+			out.writeInt(TREE_MAPPED_VERSION);
+			out.writeLong(0); // place holder until the tree's size is known
+			saveTreeBin(tree, out);
+			out.flush();
+			long treeBytes = stream.getChannel().position() - 16;
+
+			MappedInvertedFiles.write(db.getImagesDB(), db.invertedFiles.size(), db::getInvertedFile, out);
+			out.flush();
+
+			ByteBuffer buffer = ByteBuffer.allocate(8);
+			buffer.putLong(treeBytes);
+			buffer.flip();
+			stream.getChannel().write(buffer, 8);
+		} catch (IOException e) {
+			BoofMiscOps.checkTrue(!tmp.exists() || tmp.delete());
+			throw new UncheckedIOException(e);
+		}
+		replaceFile(tmp, file);
+	}
+
+	/**
+	 * File that a memory mapped database is written to before it replaces the original. The original can't be
+	 * written to directly since it might be memory mapped and lazily read from while it's being saved.
+	 */
+	static File temporaryFile( File file ) {
+		return new File(file.getPath() + ".tmp");
+	}
+
+	/**
+	 * Moves the temporary file on top of the destination file
+	 */
+	static void replaceFile( File tmp, File file ) {
+		try {
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Deletes a file if it exists. Used to remove a database saved in the other format so that it isn't loaded
+	 * instead of the one which was just saved.
+	 */
+	static void deleteIfExists( File file ) {
+		if (file.exists() && !file.delete())
+			throw new UncheckedIOException(new IOException("Failed to delete " + file.getPath()));
+	}
+
+	/**
+	 * Loads a file created by {@link #saveTreeMapped}. The tree and image DB are read immediately while inverted
+	 * files are memory mapped and read the first time they are accessed.
+	 *
+	 * @param file File that's memory mapped
+	 * @param db (Output) Structure the file is loaded into
+	 */
+	public static <TD extends TupleDesc<TD>>
+	void loadTreeMapped( File file, RecognitionVocabularyTreeNister2006<TD> db ) {
+		try (var raf = new RandomAccessFile(file, "r")) {
+			if (raf.readInt() != TREE_MAPPED_MAGIC)
+				throw new IOException("Not a memory mapped vocabulary tree database");
+			int version = raf.readInt();
+			if (version != TREE_MAPPED_VERSION)
+				throw new IOException("Unsupported version. Expected=" + TREE_MAPPED_VERSION + " found=" + version);
+			long treeBytes = raf.readLong();
+
+			db.tree = loadTreeBin(new BufferedInputStream(Channels.newInputStream(raf.getChannel()), 1024*1024), null);
+
+			var reader = new MappedInvertedFiles(raf.getChannel(), 16 + treeBytes);
+			BoofMiscOps.checkEq(reader.size(), db.tree.nodes.size, "Number of inverted files and nodes do not match");
+			reader.readImagesDB(db.getImagesDB());
+			db.setLazyInvertedFiles(reader);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
 	private static void readCheckUTF( DataInputStream input, String expected ) throws IOException {
 		String line = input.readUTF();
 		if (!line.equals(expected))
@@ -19,25 +19,24 @@
 package boofcv.io.video;
 
 import boofcv.io.image.SimpleImageSequence;
-import boofcv.io.wrapper.images.MjpegStreamSequence;
+import boofcv.io.wrapper.images.MjpegMappedSequence;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 import org.jetbrains.annotations.Nullable;
 
-import java.io.FileNotFoundException;
+import java.io.File;
 
 /**
- * Loads a MJPEG wrapped inside a {@link SimpleImageSequence}.
+ * Loads a MJPEG wrapped inside a {@link SimpleImageSequence}. The file is memory mapped and frames are decoded
+ * ahead of time, see {@link MjpegMappedSequence}.
  *
  * @author Peter Abeles
  */
 public class BoofMjpegVideo implements VideoInterface {
 	@Override
 	public <T extends ImageBase<T>> @Nullable SimpleImageSequence<T> load( String fileName, ImageType<T> imageType ) {
-		try {
-			return new MjpegStreamSequence<>(fileName, imageType);
-		} catch (FileNotFoundException e) {
+		if (!new File(fileName).isFile())
 			return null;
-		}
+		return new MjpegMappedSequence<>(fileName, imageType);
 	}
 }
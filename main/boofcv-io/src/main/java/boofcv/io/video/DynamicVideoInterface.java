@@ -65,21 +65,26 @@ public class DynamicVideoInterface implements VideoInterface {
 
 		String protocol = url.getProtocol();
 
+		String lowerName = fileName.toLowerCase();
+		boolean isMjpeg = lowerName.endsWith("mjpeg") || lowerName.endsWith("mjpg");
+
 		// See if it's a directory and then assume it's an image sequence
 		if (protocol.equals("file")) {
 			File f = new File(url.getFile());
 			if (f.isDirectory())
 				return new LoadFileImageSequence<>(imageType, url.getFile(), null);
-		}
 
-		String lowerName = fileName.toLowerCase();
+			// Local MJPEG files are memory mapped instead of being read into memory
+			if (isMjpeg && f.isFile())
+				return mjpeg.load(f.getPath(), imageType);
+		}
 
 		InputStream stream = null;
 		try {
 			stream = url.openStream();
 
 			// Use built in movie readers for these file types
-			if (lowerName.endsWith("mjpeg") || lowerName.endsWith("mjpg")) {
+			if (isMjpeg) {
 				VideoMjpegCodec codec = new VideoMjpegCodec();
 				List<byte[]> data = codec.read(stream);
 				return new JpegByteImageSequence<>(imageType, data, false);
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.video;
+
+import lombok.Getter;
+import org.ddogleg.struct.DogArray_I32;
+import org.ddogleg.struct.DogArray_I64;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Location of every JPEG frame inside an MJPEG file. Frames are found by scanning for the start of image (SOI)
+ * and end of image (EOI) markers. Once the index has been built any frame can be accessed directly. Building the
+ * index requires reading the entire file, so it can be saved next to the video and loaded the next time.
+ *
+ * Format of a saved index:
+ * <pre>
+ * int   MAGIC ("MJPI")
+ * int   VERSION
+ * long  Size of the video file in bytes
+ * long  Time the video file was last modified
+ * int   Number of frames
+ * For each frame:
+ *   long  Offset of the frame's SOI marker
+ *   int   Number of bytes in the frame, including the SOI and EOI markers
+ * </pre>
+ *
+ * @author Peter Abeles
+ */
+public class MjpegFrameIndex {
+	/** Identifies a saved index */
+	public static final int MAGIC = 0x4D4A5049;
+	/** Version of the file format */
+	public static final int VERSION = 1;
+	/** Suffix added to the video's file name when the index is saved next to it */
+	public static final String SUFFIX = ".idx";
+
+	// Number of bytes mapped at once when scanning the file
+	static final int SCAN_BLOCK = 64*1024*1024;
+
+	/** Location of the first byte in each frame */
+	@Getter final DogArray_I64 offsets = new DogArray_I64();
+	/** Number of bytes in each frame */
+	@Getter final DogArray_I32 lengths = new DogArray_I32();
+
+	// state of the scanner. Saved so that a marker can be split across two blocks
+	boolean foundFF;
+	boolean insideFrame;
+	long frameStart;
+
+	/**
+	 * Loads the index if one has been saved for this video and is up to date, otherwise the video is scanned.
+	 *
+	 * @param video The MJPEG file
+	 * @param cache If true then a newly built index will be saved next to the video
+	 */
+	public static MjpegFrameIndex loadOrBuild( File video, boolean cache ) {
+		File fileIndex = new File(video.getPath() + SUFFIX);
+		var index = new MjpegFrameIndex();
+		if (fileIndex.exists() && index.load(fileIndex, video)) {
+			return index;
+		}
+
+		try (FileChannel channel = FileChannel.open(video.toPath(), StandardOpenOption.READ)) {
+			index.build(channel);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		if (cache) {
+			index.save(fileIndex, video);
+		}
+		return index;
+	}
+
+	/**
+	 * Scans the entire file for frames. The file is memory mapped one block at a time.
+	 */
+	public void build( FileChannel channel ) throws IOException {
+		reset();
+		long size = channel.size();
+		for (long location = 0; location < size; location += SCAN_BLOCK) {
+			long length = Math.min(SCAN_BLOCK, size - location);
+			MappedByteBuffer block = channel.map(FileChannel.MapMode.READ_ONLY, location, length);
+			scan(block, location);
+		}
+		finish(size);
+	}
+
+	/**
+	 * Scans a buffer which contains the entire video. Useful for videos which are already in memory.
+	 */
+	public void build( ByteBuffer data ) {
+		reset();
+		scan(data, 0);
+		finish(data.limit());
+	}
+
+	/**
+	 * Scans a block of the file for markers.
+	 *
+	 * @param block Data in the block. Absolute gets are used so the buffer's position is not modified.
+	 * @param location Location of the block's first byte in the file
+	 */
+	void scan( ByteBuffer block, long location ) {
+		final int end = block.limit();
+		for (int i = 0; i < end; i++) {
+			byte b = block.get(i);
+			if (!foundFF) {
+				foundFF = b == (byte)0xFF;
+				continue;
+			}
+
+			if (b == (byte)0xFF)
+				continue;
+			foundFF = false;
+
+			if (!insideFrame && b == VideoMjpegCodec.SOI) {
+				insideFrame = true;
+				frameStart = location + i - 1;
+			} else if (insideFrame && b == VideoMjpegCodec.EOI) {
+				insideFrame = false;
+				addFrame(frameStart, location + i + 1);
+			}
+		}
+	}
+
+	/**
+	 * Called after the whole file has been scanned. A frame which is missing its EOI marker is cut off at the end
+	 * of the file.
+	 */
+	void finish( long size ) {
+		if (insideFrame && size - frameStart > 2) {
+			addFrame(frameStart, size);
+		}
+		insideFrame = false;
+	}
+
+	void addFrame( long start, long end ) {
+		if (end - start > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Frame is too large. offset=" + start);
+		offsets.add(start);
+		lengths.add((int)(end - start));
+	}
+
+	/**
+	 * Saves the index
+	 *
+	 * @param fileIndex Where the index is saved to
+	 * @param video The video it was built from. Used to detect if the index is out of date when loaded.
+	 */
+	public void save( File fileIndex, File video ) {
+		try (var out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fileIndex)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(video.length());
+			out.writeLong(video.lastModified());
+			out.writeInt(offsets.size);
+			for (int i = 0; i < offsets.size; i++) {
+				out.writeLong(offsets.get(i));
+				out.writeInt(lengths.get(i));
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Loads a saved index
+	 *
+	 * @param fileIndex The saved index
+	 * @param video The video it was built from
+	 * @return true if it was loaded. false if it was not an index or the video has changed since it was saved.
+	 */
+	public boolean load( File fileIndex, File video ) {
+		reset();
+		try (var in = new DataInputStream(new BufferedInputStream(new FileInputStream(fileIndex)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+				return false;
+			if (in.readLong() != video.length() || in.readLong() != video.lastModified())
+				return false;
+			int numFrames = in.readInt();
+			offsets.resize(numFrames);
+			lengths.resize(numFrames);
+			for (int i = 0; i < numFrames; i++) {
+				offsets.data[i] = in.readLong();
+				lengths.data[i] = in.readInt();
+			}
+			return true;
+		} catch (EOFException e) {
+			reset();
+			return false;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void reset() {
+		offsets.reset();
+		lengths.reset();
+		foundFF = false;
+		insideFrame = false;
+		frameStart = 0;
+	}
+
+	/** Number of frames in the video */
+	public int size() {
+		return offsets.size;
+	}
+}
@@ -21,7 +21,9 @@ package boofcv.io.video;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -35,19 +37,21 @@ public class VideoMjpegCodec {
 	// end of image
 	public static final byte EOI = (byte)0xD9;
 
+	/**
+	 * Reads every frame in the stream. Each frame includes its SOI and EOI markers.
+	 */
 	public List<byte[]> read( InputStream streamIn ) {
 		// read the whole movie in at once to make it faster
 
 		List<byte[]> ret = new ArrayList<>();
 		try {
 			byte[] b = convertToByteArray(streamIn);
-//			System.out.println("MJPEG file is "+b.length+" bytes");
-
-			DataInputStream in = new DataInputStream(new ByteArrayInputStream(b));
 
-			while (findMarker(in, SOI) && in.available() > 0) {
-				byte data[] = readJpegData(in, EOI);
-				ret.add(data);
+			var index = new MjpegFrameIndex();
+			index.build(ByteBuffer.wrap(b));
+			for (int i = 0; i < index.size(); i++) {
+				int offset = (int)index.getOffsets().get(i);
+				ret.add(Arrays.copyOfRange(b, offset, offset + index.getLengths().get(i)));
 			}
 		} catch (IOException ignore) {
 		}
@@ -148,22 +148,44 @@ public class LoadFileImageSequence2<T extends ImageBase<T>> implements SimpleIma
 		if (imageGUI == null)
 			throw new RuntimeException("Could not load image at " + path);
 
+		convertAndScale(imageGUI, image, work);
+		return image;
+	}
+
+	/**
+	 * Loads and optionally scales the image at the specified path into the provided image. Unlike
+	 * {@link #loadImage(String)} this doesn't modify any internal state and can be called by multiple threads at once.
+	 *
+	 * @param path Path to the image
+	 * @param output (Output) Storage for the loaded image
+	 */
+	public void loadImage( String path, T output ) {
+		BufferedImage buffered = UtilImageIO.loadImage(path);
+
+		if (buffered == null)
+			throw new RuntimeException("Could not load image at " + path);
+
+		convertAndScale(buffered, output, type.createImage(1, 1));
+	}
+
+	/**
+	 * Converts the image and scales it down if it has more than {@link #targetPixels} pixels
+	 */
+	void convertAndScale( BufferedImage buffered, T output, T work ) {
 		// If it doesn't need to scale the image just convert it
-		int numPixels = imageGUI.getWidth()*imageGUI.getHeight();
+		int numPixels = buffered.getWidth()*buffered.getHeight();
 		if (targetPixels <= 0 || numPixels <= targetPixels) {
-			ConvertBufferedImage.convertFrom(imageGUI, image, true);
-			return image;
+			ConvertBufferedImage.convertFrom(buffered, output, true);
+			return;
 		}
 
 		// Convert the image
-		ConvertBufferedImage.convertFrom(imageGUI, work, true);
+		ConvertBufferedImage.convertFrom(buffered, work, true);
 
 		// Scale it
 		double scale = Math.sqrt(targetPixels)/Math.sqrt(numPixels);
-		image.reshape((int)(scale*work.width), (int)(scale*work.height));
-		AverageDownSampleOps.down(work, image);
-
-		return image;
+		output.reshape((int)(scale*work.width), (int)(scale*work.height));
+		AverageDownSampleOps.down(work, output);
 	}
 
 	public void seek( int index ) {
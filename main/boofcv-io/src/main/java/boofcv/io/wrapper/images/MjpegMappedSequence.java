@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.wrapper.images;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.io.image.ConvertBufferedImage;
+import boofcv.io.image.SimpleImageSequence;
+import boofcv.io.video.MjpegFrameIndex;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads an MJPEG file which has been memory mapped. The location of every frame is found first using
+ * {@link MjpegFrameIndex}, which can be saved next to the video so that the file only needs to be scanned once.
+ * Since every frame's location is known, jumping to any frame is a constant time operation, see {@link #seek(int)}.
+ *
+ * While the user is processing the current frame the next few frames are decoded on the BoofCV thread pool. Decoded
+ * images are recycled. This means the images returned by {@link #getImage()} and {@link #getGuiImage()} are only
+ * valid until the next call to {@link #next()}. If concurrency is turned off, frames are decoded on the calling thread.
+ *
+ * @author Peter Abeles
+ */
+public class MjpegMappedSequence<T extends ImageBase<T>> implements SimpleImageSequence<T> {
+	// Largest region of the file which is mapped at once
+	static final long MAX_SEGMENT_BYTES = 1024L*1024L*1024L;
+
+	/** Location of every frame in the file */
+	@Getter final MjpegFrameIndex index;
+
+	/** Number of frames decoded ahead of the current frame */
+	@Getter final int lookAhead;
+
+	final ImageType<T> imageType;
+	final FileChannel channel;
+
+	// The file is mapped in segments. Each frame is entirely inside of a single segment
+	final List<Segment> segments = new ArrayList<>();
+	final int[] frameToSegment;
+
+	// Frames which are being decoded in the order they will be returned
+	final ArrayDeque<Pending> pending = new ArrayDeque<>();
+	// Decoded frames which are not in use
+	final ArrayDeque<Frame> available = new ArrayDeque<>();
+
+	// The frame which the user is looking at
+	@Nullable Frame current;
+	// Index of the next frame which will be decoded
+	int nextToDecode;
+	// Index of the current frame
+	int frameNumber = -1;
+
+	boolean loop = false;
+
+	/**
+	 * Opens the video
+	 *
+	 * @param fileName Path to the MJPEG file
+	 * @param imageType Type of image that's output
+	 * @param lookAhead Number of frames which will be decoded ahead of time. Can be zero.
+	 * @param cacheIndex If true then the frame index will be saved next to the video and loaded next time
+	 */
+	public MjpegMappedSequence( String fileName, ImageType<T> imageType, int lookAhead, boolean cacheIndex ) {
+		if (lookAhead < 0)
+			throw new IllegalArgumentException("lookAhead can't be negative");
+		this.imageType = imageType;
+		this.lookAhead = lookAhead;
+
+		File file = new File(fileName);
+		this.index = MjpegFrameIndex.loadOrBuild(file, cacheIndex);
+
+		try {
+			this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		frameToSegment = new int[index.size()];
+		createSegments();
+
+		// One frame for the user, one for each frame being decoded ahead
+		for (int i = 0; i < lookAhead + 1; i++) {
+			available.add(new Frame());
+		}
+		startDecoding(0);
+	}
+
+	public MjpegMappedSequence( String fileName, ImageType<T> imageType ) {
+		this(fileName, imageType, 4, false);
+	}
+
+	/**
+	 * Splits the file into segments which are no larger than {@link #MAX_SEGMENT_BYTES}, unless a single frame is
+	 * larger, and start on a frame.
+	 */
+	void createSegments() {
+		Segment segment = null;
+		for (int frame = 0; frame < index.size(); frame++) {
+			long start = index.getOffsets().get(frame);
+			long end = start + index.getLengths().get(frame);
+			if (segment == null || end - segment.offset > MAX_SEGMENT_BYTES) {
+				segment = new Segment();
+				segment.offset = start;
+				segments.add(segment);
+			}
+			segment.length = end - segment.offset;
+			frameToSegment[frame] = segments.size() - 1;
+		}
+	}
+
+	/**
+	 * Discards all frames which have been decoded and starts decoding at the specified frame
+	 */
+	void startDecoding( int frame ) {
+		discardPending();
+		nextToDecode = frame;
+		decodeAhead();
+	}
+
+	/**
+	 * Waits for all frames being decoded to finish, then recycles them
+	 */
+	void discardPending() {
+		while (!pending.isEmpty()) {
+			Pending p = pending.removeFirst();
+			try {
+				waitForFrame(p);
+			} catch (RuntimeException ignore) {
+				// The frame is being discarded so it doesn't matter if it failed
+			}
+			available.add(p.frame);
+		}
+	}
+
+	/**
+	 * Starts decoding frames until there are no more frames available to decode into
+	 */
+	void decodeAhead() {
+		while (!available.isEmpty() && hasFrameToDecode()) {
+			decodeNext();
+		}
+	}
+
+	boolean hasFrameToDecode() {
+		// Looping can't produce a frame if there are no frames
+		if (index.size() == 0)
+			return false;
+		return loop || nextToDecode < index.size();
+	}
+
+	/**
+	 * Starts decoding the next frame using a frame which is not in use
+	 */
+	void decodeNext() {
+		if (nextToDecode >= index.size())
+			nextToDecode = 0;
+
+		final Frame frame = available.removeFirst();
+		final int frameIndex = nextToDecode++;
+		var task = new FutureTask<>(() -> decode(frameIndex, frame));
+		if (lookAhead > 0 && BoofConcurrency.isUseConcurrent()) {
+			BoofConcurrency.getThreadPool().execute(task);
+		} else {
+			task.run();
+		}
+		pending.add(new Pending(frameIndex, frame, task));
+	}
+
+	/**
+	 * Decodes the frame. Called from a worker thread.
+	 */
+	Frame decode( int frameIndex, Frame frame ) throws IOException {
+		int length = index.getLengths().get(frameIndex);
+		if (frame.jpeg.length < length)
+			frame.jpeg = new byte[length];
+
+		// Copy the compressed data out of the mapped file. The duplicate is needed since other threads might be
+		// reading from the same segment
+		Segment segment = segments.get(frameToSegment[frameIndex]);
+		int location = (int)(index.getOffsets().get(frameIndex) - segment.offset);
+		MappedByteBuffer mapped = mapSegment(segment);
+		mapped.duplicate().position(location).get(frame.jpeg, 0, length);
+
+		if (frame.reader == null)
+			frame.reader = ImageIO.getImageReadersByFormatName("jpeg").next();
+		ImageReader reader = requireNonNull(frame.reader);
+
+		try (ImageInputStream stream = ImageIO.createImageInputStream(
+				new ByteArrayInputStream(frame.jpeg, 0, length))) {
+			reader.setInput(stream, true, true);
+
+			// Decode into the previous image if possible to avoid declaring a new one
+			ImageReadParam param = reader.getDefaultReadParam();
+			BufferedImage previous = frame.gui;
+			if (previous != null && previous.getWidth() == reader.getWidth(0) &&
+					previous.getHeight() == reader.getHeight(0)) {
+				param.setDestination(previous);
+			}
+			try {
+				frame.gui = reader.read(0, param);
+			} catch (IllegalArgumentException e) {
+				// the previous image wasn't compatible
+				frame.gui = reader.read(0, reader.getDefaultReadParam());
+			}
+		} finally {
+			reader.setInput(null);
+		}
+
+		BufferedImage gui = requireNonNull(frame.gui);
+		frame.image.reshape(gui.getWidth(), gui.getHeight());
+		ConvertBufferedImage.convertFrom(gui, frame.image, true);
+		return frame;
+	}
+
+	MappedByteBuffer mapSegment( Segment segment ) throws IOException {
+		synchronized (segment) {
+			if (segment.mapped == null)
+				segment.mapped = channel.map(FileChannel.MapMode.READ_ONLY, segment.offset, segment.length);
+			return segment.mapped;
+		}
+	}
+
+	Frame waitForFrame( Pending p ) {
+		try {
+			return p.task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException)e.getCause();
+			if (e.getCause() instanceof IOException)
+				throw new UncheckedIOException((IOException)e.getCause());
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	/**
+	 * Jumps to the specified frame. The next call to {@link #next()} will return this frame.
+	 */
+	public void seek( int frame ) {
+		if (frame < 0 || frame >= index.size())
+			throw new IllegalArgumentException("Frame out of bounds. frame=" + frame + " total=" + index.size());
+		if (current != null) {
+			available.add(current);
+			current = null;
+		}
+		startDecoding(frame);
+		frameNumber = frame - 1;
+	}
+
+	/** Total number of frames in the video */
+	public int getTotalFrames() {
+		return index.size();
+	}
+
+	@Override public int getWidth() {
+		return requireNonNull(peekGui()).getWidth();
+	}
+
+	@Override public int getHeight() {
+		return requireNonNull(peekGui()).getHeight();
+	}
+
+	/**
+	 * Returns the image which will be returned next or the current image if there are no more
+	 */
+	private @Nullable BufferedImage peekGui() {
+		if (!pending.isEmpty())
+			return waitForFrame(pending.getFirst()).gui;
+		return current != null ? current.gui : null;
+	}
+
+	@Override public boolean hasNext() {
+		return !pending.isEmpty() || hasFrameToDecode();
+	}
+
+	@Override public T next() {
+		// The user is done with the previous frame so it can be used to decode another
+		if (current != null) {
+			available.add(current);
+			current = null;
+		}
+		decodeAhead();
+
+		if (pending.isEmpty())
+			throw new IllegalArgumentException("No more frames");
+
+		Pending p = pending.removeFirst();
+		current = waitForFrame(p);
+		frameNumber = p.frameIndex;
+		return current.image;
+	}
+
+	@Override public T getImage() {
+		return requireNonNull(current).image;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override public <InternalImage> InternalImage getGuiImage() {
+		return (InternalImage)requireNonNull(requireNonNull(current).gui);
+	}
+
+	@Override public void close() {
+		// Wait for any decoding to finish so that nothing reads from the file after it's closed
+		discardPending();
+		if (current != null) {
+			available.add(current);
+			current = null;
+		}
+		for (Frame f : available) {
+			if (f.reader != null)
+				f.reader.dispose();
+		}
+		try {
+			channel.close();
+		} catch (IOException ignore) {
+		}
+	}
+
+	@Override public int getFrameNumber() {
+		return frameNumber;
+	}
+
+	@Override public void setLoop( boolean loop ) {
+		this.loop = loop;
+		// Frames after the end might need to be decoded now
+		decodeAhead();
+	}
+
+	@Override public ImageType<T> getImageType() {
+		return imageType;
+	}
+
+	@Override public void reset() {
+		// There's nothing to go back to
+		if (index.size() == 0)
+			return;
+		seek(0);
+	}
+
+	/** A region of the file which is memory mapped */
+	static class Segment {
+		long offset;
+		long length;
+		@Nullable MappedByteBuffer mapped;
+	}
+
+	/** Storage for a decoded frame. Recycled. */
+	class Frame {
+		byte[] jpeg = new byte[0];
+		@Nullable ImageReader reader;
+		@Nullable BufferedImage gui;
+		final T image = imageType.createImage(1, 1);
+	}
+
+	/** A frame which is being decoded */
+	class Pending {
+		final int frameIndex;
+		final Frame frame;
+		final Future<Frame> task;
+
+		Pending( int frameIndex, Frame frame, Future<Frame> task ) {
+			this.frameIndex = frameIndex;
+			this.frame = frame;
+			this.task = task;
+		}
+	}
+}
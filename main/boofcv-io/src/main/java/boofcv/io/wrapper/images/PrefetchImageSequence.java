@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.wrapper.images;
+
+import boofcv.alg.filter.misc.AverageDownSampleOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.io.image.ConvertBufferedImage;
+import boofcv.io.image.SimpleImageSequence;
+import boofcv.io.image.UtilImageIO;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+import lombok.Getter;
+import lombok.Setter;
+import org.jetbrains.annotations.Nullable;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Image sequence for a list of image files which loads the next few images in the background. While the user is
+ * processing the current image, the following images are read, decoded, and converted on the BoofCV thread pool.
+ * Images are always returned in the same order as the list.
+ *
+ * There is a fixed number of frames, one for the user and one for each image being prefetched. A new image is only
+ * loaded when the user is done with a frame, which prevents it from getting too far ahead and using too much memory.
+ * Since frames are recycled, the images returned by {@link #getImage()} and {@link #getGuiImage()} are only valid until
+ * the next call to {@link #next()}. If concurrency is turned off images are loaded on the calling thread.
+ *
+ * If an image can't be loaded then {@link #next()} will throw an exception. The sequence can still be used after
+ * that and the next call to {@link #next()} will return the following image.
+ *
+ * @author Peter Abeles
+ */
+public class PrefetchImageSequence<T extends ImageBase<T>> implements SimpleImageSequence<T> {
+	/** Paths to the images */
+	@Getter final List<String> paths;
+
+	/** Number of images which are loaded ahead of the current image */
+	@Getter final int prefetch;
+
+	/** If > 0 then the input image will be rescaled down. Set before any images are requested. */
+	@Getter @Setter int targetPixels = 0;
+
+	/** Loads the image from disk. Must be thread safe. Set before any images are requested. */
+	@Getter @Setter LoadImage loader = UtilImageIO::loadImage;
+
+	final ImageType<T> type;
+
+	// Images which are being loaded in the order they will be returned
+	final ArrayDeque<Pending> pending = new ArrayDeque<>();
+	// Frames which are not in use
+	final ArrayDeque<Frame> available = new ArrayDeque<>();
+
+	// The frame which the user is looking at
+	@Nullable Frame current;
+	// Index of the next image which will be loaded
+	int nextToLoad;
+	// Index of the current image
+	int frameNumber = -1;
+
+	/**
+	 * @param paths Paths to the images
+	 * @param type Type of image that's output
+	 * @param prefetch Number of images which are loaded ahead of time. Can be zero.
+	 */
+	public PrefetchImageSequence( List<String> paths, ImageType<T> type, int prefetch ) {
+		if (prefetch < 0)
+			throw new IllegalArgumentException("prefetch can't be negative");
+		this.paths = paths;
+		this.type = type;
+		this.prefetch = prefetch;
+
+		for (int i = 0; i < prefetch + 1; i++) {
+			available.add(new Frame());
+		}
+	}
+
+	/**
+	 * Prefetches images using the number of threads in the thread pool
+	 */
+	public PrefetchImageSequence( List<String> paths, ImageType<T> type ) {
+		this(paths, type, Math.max(2, BoofConcurrency.getEffectiveActiveThreads()));
+	}
+
+	/**
+	 * Starts loading images until there are no more frames to load into
+	 */
+	void loadAhead() {
+		while (!available.isEmpty() && nextToLoad < paths.size()) {
+			final Frame frame = available.removeFirst();
+			final int index = nextToLoad++;
+			var task = new FutureTask<>(() -> load(index, frame));
+			if (prefetch > 0 && BoofConcurrency.isUseConcurrent()) {
+				BoofConcurrency.getThreadPool().execute(task);
+			} else {
+				task.run();
+			}
+			pending.add(new Pending(index, frame, task));
+		}
+	}
+
+	/**
+	 * Loads the image and converts it into the output format. Called from a worker thread.
+	 */
+	Frame load( int index, Frame frame ) {
+		String path = paths.get(index);
+		BufferedImage buffered = loader.load(path);
+		if (buffered == null)
+			throw new RuntimeException("Could not load image at " + path);
+		frame.gui = buffered;
+
+		// If it doesn't need to scale the image just convert it
+		int numPixels = buffered.getWidth()*buffered.getHeight();
+		if (targetPixels <= 0 || numPixels <= targetPixels) {
+			ConvertBufferedImage.convertFrom(buffered, true, frame.image);
+			return frame;
+		}
+
+		ConvertBufferedImage.convertFrom(buffered, true, frame.work);
+
+		double scale = Math.sqrt(targetPixels)/Math.sqrt(numPixels);
+		frame.image.reshape((int)(scale*frame.work.width), (int)(scale*frame.work.height));
+		AverageDownSampleOps.down(frame.work, frame.image);
+		return frame;
+	}
+
+	Frame waitForFrame( Pending p ) {
+		try {
+			return p.task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException)e.getCause();
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	/**
+	 * Waits for all images being loaded to finish, then recycles their frames
+	 */
+	void discardPending() {
+		while (!pending.isEmpty()) {
+			Pending p = pending.removeFirst();
+			try {
+				waitForFrame(p);
+			} catch (RuntimeException ignore) {
+				// The image is being discarded so it doesn't matter if it failed
+			}
+			available.add(p.frame);
+		}
+	}
+
+	/**
+	 * Jumps to the specified image. The next call to {@link #next()} will return it.
+	 */
+	public void seek( int index ) {
+		if (index < 0 || index > paths.size())
+			throw new IllegalArgumentException("Index out of bounds. index=" + index + " total=" + paths.size());
+		if (current != null) {
+			available.add(current);
+			current = null;
+		}
+		discardPending();
+		nextToLoad = index;
+		frameNumber = index - 1;
+	}
+
+	/** Path to the current image */
+	public String getCurrentPath() {
+		return paths.get(frameNumber);
+	}
+
+	@Override public int getWidth() {
+		return peekImage().getWidth();
+	}
+
+	@Override public int getHeight() {
+		return peekImage().getHeight();
+	}
+
+	/**
+	 * Returns the image which will be returned next or the current image if there are no more
+	 */
+	private T peekImage() {
+		loadAhead();
+		if (!pending.isEmpty())
+			return waitForFrame(pending.getFirst()).image;
+		return requireNonNull(current).image;
+	}
+
+	@Override public boolean hasNext() {
+		return !pending.isEmpty() || nextToLoad < paths.size();
+	}
+
+	@Override public T next() {
+		// The user is done with the previous frame so it can be reused
+		if (current != null) {
+			available.add(current);
+			current = null;
+		}
+		loadAhead();
+
+		if (pending.isEmpty())
+			throw new IllegalArgumentException("No more images");
+
+		Pending p = pending.removeFirst();
+		frameNumber = p.index;
+		try {
+			current = waitForFrame(p);
+		} catch (RuntimeException e) {
+			available.add(p.frame);
+			throw e;
+		}
+		return current.image;
+	}
+
+	@Override public T getImage() {
+		return requireNonNull(current).image;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override public <InternalImage> InternalImage getGuiImage() {
+		return (InternalImage)requireNonNull(requireNonNull(current).gui);
+	}
+
+	@Override public void close() {
+		// Wait for any loading to finish so that nothing is running in the background
+		discardPending();
+	}
+
+	@Override public int getFrameNumber() {
+		return frameNumber;
+	}
+
+	@Override public void setLoop( boolean loop ) {
+		if (loop)
+			throw new IllegalArgumentException("Looping isn't supported");
+	}
+
+	@Override public ImageType<T> getImageType() {
+		return type;
+	}
+
+	@Override public void reset() {
+		seek(0);
+	}
+
+	/** Used to load images. Must be thread safe. */
+	@FunctionalInterface
+	public interface LoadImage {
+		@Nullable BufferedImage load( String path );
+	}
+
+	/** Storage for a loaded image. Recycled. */
+	class Frame {
+		@Nullable BufferedImage gui;
+		final T image = type.createImage(1, 1);
+		// workspace if the image needs to be resized
+		final T work = type.createImage(1, 1);
+	}
+
+	/** An image which is being loaded */
+	class Pending {
+		final int index;
+		final Frame frame;
+		final Future<Frame> task;
+
+		Pending( int index, Frame frame, Future<Frame> task ) {
+			this.index = index;
+			this.frame = frame;
+			this.task = task;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.geo;
+
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestChunkedBinaryFile extends BoofStandardJUnit {
+	File file;
+
+	@BeforeEach void createFile() throws IOException {
+		file = File.createTempFile("chunked", ".bin");
+	}
+
+	@AfterEach void deleteFile() {
+		file.delete();
+	}
+
+	@Test void write_read() throws IOException {
+		// Make one of the strings larger than the internal buffer
+		String longString = "a".repeat((1 << 20) + 10);
+		double[] doubles = new double[]{1.5, -2.0, Double.NaN};
+		int[] ints = new int[]{5, 6, 7, 8};
+
+		try (var writer = new ChunkedBinaryFile.Writer(file, "Foo", 3)) {
+			writer.beginChunk("first");
+			writer.writeInt(-12);
+			writer.writeLong(Long.MAX_VALUE);
+			writer.writeBoolean(true);
+			writer.writeString("h\u00e9llo");
+			assertEquals(4 + 8 + 1 + 4 + 6, writer.getChunkBytes());
+
+			// previous chunk is automatically ended
+			writer.beginChunk("second");
+			writer.writeString(longString);
+			writer.writeDoubles(doubles, 1, 2);
+			writer.endChunk();
+			assertEquals(0, writer.getChunkBytes());
+
+			writer.beginChunk("empty");
+			writer.endChunk();
+
+			writer.beginChunk("third");
+			writer.writeInts(ints, 0, ints.length);
+		}
+
+		assertTrue(ChunkedBinaryFile.isChunkedFile(file));
+
+		try (var reader = new ChunkedBinaryFile.Reader(file)) {
+			assertEquals("Foo", reader.getDataType());
+			assertEquals(3, reader.getDataVersion());
+			reader.checkDataType("Foo", 3);
+			assertThrows(IOException.class, () -> reader.checkDataType("Bar", 3));
+			assertThrows(IOException.class, () -> reader.checkDataType("Foo", 2));
+
+			assertEquals(List.of("first", "second", "empty", "third"), reader.getChunkNames());
+			assertFalse(reader.hasChunk("fourth"));
+			assertThrows(IOException.class, () -> reader.getChunk("fourth"));
+
+			// Read them out of order
+			ByteBuffer third = reader.getChunk("third");
+			for (int value : ints) {
+				assertEquals(value, third.getInt());
+			}
+			assertFalse(third.hasRemaining());
+
+			ByteBuffer first = reader.getChunk("first");
+			assertEquals(-12, first.getInt());
+			assertEquals(Long.MAX_VALUE, first.getLong());
+			assertTrue(ChunkedBinaryFile.readBoolean(first));
+			assertEquals("h\u00e9llo", ChunkedBinaryFile.readString(first));
+			assertFalse(first.hasRemaining());
+
+			ByteBuffer second = reader.getChunk("second");
+			assertEquals(longString, ChunkedBinaryFile.readString(second));
+			assertEquals(-2.0, second.getDouble());
+			assertTrue(Double.isNaN(second.getDouble()));
+
+			assertEquals(0, reader.getChunk("empty").remaining());
+		}
+	}
+
+	@Test void duplicateChunkName() throws IOException {
+		try (var writer = new ChunkedBinaryFile.Writer(file, "Foo", 0)) {
+			writer.beginChunk("a");
+			assertThrows(IllegalArgumentException.class, () -> writer.beginChunk("a"));
+		}
+	}
+
+	@Test void notChunkedFile() throws IOException {
+		try (var out = new FileOutputStream(file)) {
+			out.write(new byte[100]);
+		}
+		assertFalse(ChunkedBinaryFile.isChunkedFile(file));
+		assertThrows(IOException.class, () -> new ChunkedBinaryFile.Reader(file));
+	}
+}
@@ -37,10 +37,7 @@ import org.ejml.dense.row.MatrixFeatures_DDRM;
 import org.ejml.dense.row.RandomMatrices_DDRM;
 import org.junit.jupiter.api.Test;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
+import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -52,6 +49,30 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class TestMultiViewIO extends BoofStandardJUnit {
 	@Test void save_load_SimilarImages() {
+		SimilarImagesData expected = createSimilarImages();
+
+		var output = new ByteArrayOutputStream();
+		MultiViewIO.save(expected, new OutputStreamWriter(output, UTF_8));
+
+		var input = new ByteArrayInputStream(output.toByteArray());
+
+		LookUpSimilarImages found = MultiViewIO.loadSimilarImages(new InputStreamReader(input, UTF_8));
+		checkIdentical(expected, found);
+	}
+
+	@Test void saveBinary_loadBinary_SimilarImages() throws IOException {
+		File file = File.createTempFile("similar", ".bin");
+		try {
+			SimilarImagesData expected = createSimilarImages();
+			MultiViewIO.saveBinary(expected, file.getPath());
+			checkIdentical(expected, MultiViewIO.loadSimilarImagesBinary(file.getPath()));
+			checkIdentical(expected, MultiViewIO.loadSimilarImages(file.getPath()));
+		} finally {
+			file.delete();
+		}
+	}
+
+	private SimilarImagesData createSimilarImages() {
 		SimilarImagesData expected = new SimilarImagesData();
 		for (int i = 0; i < 4; i++) {
 			String id = "" + i;
@@ -69,14 +90,10 @@ class TestMultiViewIO extends BoofStandardJUnit {
 			matches12.add( new AssociatedIndex(rand.nextInt(), rand.nextInt()));
 		}
 		expected.setRelationship("2","1", matches12);
+		return expected;
+	}
 
-		var output = new ByteArrayOutputStream();
-		MultiViewIO.save(expected, new OutputStreamWriter(output, UTF_8));
-
-		var input = new ByteArrayInputStream(output.toByteArray());
-
-		LookUpSimilarImages found = MultiViewIO.loadSimilarImages(new InputStreamReader(input, UTF_8));
-
+	private void checkIdentical( SimilarImagesData expected, LookUpSimilarImages found ) {
 		assertEquals(expected.listImages.size(), found.getImageIDs().size());
 
 		DogArray<Point2D_F64> features = new DogArray<>(Point2D_F64::new);
@@ -121,6 +138,21 @@ class TestMultiViewIO extends BoofStandardJUnit {
 		}
 	}
 
+	@Test void saveBinary_loadBinary_PairwiseImageGraph() throws IOException {
+		File file = File.createTempFile("pairwise", ".bin");
+		try {
+			for (int trial = 0; trial < 20; trial++) {
+				PairwiseImageGraph expected = createPairwise();
+				MultiViewIO.saveBinary(expected, file.getPath());
+				checkIdentical(expected, MultiViewIO.loadBinary(file.getPath(), (PairwiseImageGraph)null));
+				// format should be automatically detected
+				checkIdentical(expected, MultiViewIO.load(file.getPath(), (PairwiseImageGraph)null));
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
 	private void checkIdentical( PairwiseImageGraph a, PairwiseImageGraph b ) {
 		assertEquals(a.edges.size, b.edges.size);
 		assertEquals(a.nodes.size, b.nodes.size);
@@ -216,6 +248,36 @@ class TestMultiViewIO extends BoofStandardJUnit {
 		}
 	}
 
+	@Test void saveBinary_loadBinary_SceneWorkingGraph() throws IOException {
+		File file = File.createTempFile("working", ".bin");
+		try {
+			for (int trial = 0; trial < 20; trial++) {
+				PairwiseImageGraph pairwise = createPairwise();
+				SceneWorkingGraph expected = createWorkingGraph(pairwise);
+				expected.numSeedViews = rand.nextInt(5);
+				expected.exploredViews.add(pairwise.nodes.get(0).id);
+				expected.open.add(pairwise.nodes.get(pairwise.nodes.size - 1));
+
+				MultiViewIO.saveBinary(expected, file.getPath());
+				SceneWorkingGraph found = MultiViewIO.loadBinary(file.getPath(), pairwise, null);
+				checkIdentical(expected, found);
+
+				// Additional information that's only saved in the binary format
+				assertEquals(expected.numSeedViews, found.numSeedViews);
+				assertEquals(expected.exploredViews, found.exploredViews);
+				assertEquals(1, found.open.size);
+				assertSame(expected.open.get(0), found.open.get(0));
+				assertEquals(expected.listCameras.get(0).prior.fx, found.listCameras.get(0).prior.fx);
+				for (int viewIdx = 0; viewIdx < expected.listViews.size(); viewIdx++) {
+					assertTrue(MatrixFeatures_DDRM.isEquals(expected.listViews.get(viewIdx).projective,
+							found.listViews.get(viewIdx).projective));
+				}
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
 	private void checkIdentical( SceneWorkingGraph a, SceneWorkingGraph b ) {
 		assertEquals(a.listCameras.size(), b.listCameras.size());
 		assertEquals(a.listViews.size(), b.listViews.size());
@@ -323,6 +385,53 @@ class TestMultiViewIO extends BoofStandardJUnit {
 		}
 	}
 
+	@Test void saveBinary_loadBinary_SceneStructureMetric() throws IOException {
+		File file = File.createTempFile("scene", ".bin");
+		try {
+			for (int trial = 0; trial < 20; trial++) {
+				SceneStructureMetric expected = createSceneStructureMetric();
+				MultiViewIO.saveBinary(expected, file.getPath());
+				assertTrue(MultiViewIO.isBinary(file.getPath()));
+				SceneStructureMetric found = MultiViewIO.loadBinary(file.getPath(), (SceneStructureMetric)null);
+				assertTrue(expected.isIdentical(found, 0.0));
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Make chunks very small so that points are split across many chunks, which are decoded concurrently
+	 */
+	@Test void saveBinary_loadBinary_SceneStructureMetric_ManyChunks() throws IOException {
+		long originalBytes = MultiViewIO.binaryChunkBytes;
+		File file = File.createTempFile("scene", ".bin");
+		try {
+			MultiViewIO.binaryChunkBytes = 100;
+
+			var expected = new SceneStructureMetric(false);
+			expected.initialize(1, 2, 1000);
+			expected.setCamera(0, true, new BundlePinholeSimplified(500, 0.1, 0.01));
+			expected.setView(0, 0, true, SpecialEuclideanOps_F64.eulerXyz(1, 0, 0, 0, 0, 0, null));
+			expected.setView(1, 0, false, SpecialEuclideanOps_F64.eulerXyz(0, 1, 0, 0, 0, 0, null));
+			for (int i = 0; i < expected.points.size; i++) {
+				randomizePoint(expected.points.get(i));
+			}
+
+			MultiViewIO.saveBinary(expected, file.getPath());
+			SceneStructureMetric found = MultiViewIO.load(file.getPath(), (SceneStructureMetric)null);
+			assertTrue(expected.isIdentical(found, 0.0));
+
+			// Sanity check to make sure it really was split
+			try (var reader = new ChunkedBinaryFile.Reader(file)) {
+				assertTrue(reader.hasChunk("points.10"));
+			}
+		} finally {
+			MultiViewIO.binaryChunkBytes = originalBytes;
+			file.delete();
+		}
+	}
+
 	private SceneStructureMetric createSceneStructureMetric() {
 		var ret = new SceneStructureMetric(rand.nextBoolean());
 
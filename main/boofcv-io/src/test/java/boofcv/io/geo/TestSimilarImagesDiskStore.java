@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.geo;
+
+import boofcv.alg.similar.SimilarImagesData;
+import boofcv.alg.structure.LookUpSimilarImages;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.io.UtilIO;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.testing.BoofStandardJUnit;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.DogArray;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSimilarImagesDiskStore extends BoofStandardJUnit {
+	File directory;
+
+	@BeforeEach void before() {
+		directory = new File(System.getProperty("java.io.tmpdir"), "similar_store_" + rand.nextInt(1_000_000));
+	}
+
+	@AfterEach void after() {
+		UtilIO.deleteRecursive(directory);
+	}
+
+	/**
+	 * Save then read it back. Multiple shards are used.
+	 */
+	@Test void save_read() {
+		SimilarImagesData expected = createData(7);
+		SimilarImagesDiskStore.save(expected, directory, 3);
+
+		assertTrue(new File(directory, SimilarImagesDiskStore.shardName(2)).exists());
+		assertFalse(new File(directory, SimilarImagesDiskStore.shardName(3)).exists());
+
+		try (var store = new SimilarImagesDiskStore(directory, Long.MAX_VALUE)) {
+			assertEquals(3, store.getImagesPerShard());
+			compare(expected, store.createLookUp());
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * The cache should never exceed its limit and records should be reused when possible
+	 */
+	@Test void cache() {
+		SimilarImagesData expected = createData(6);
+		SimilarImagesDiskStore.save(expected, directory, 4);
+
+		try (var store = new SimilarImagesDiskStore(directory, 0)) {
+			LookUpSimilarImagesDisk alg = store.createLookUp();
+			var similar = new ArrayList<String>();
+
+			// Cache can hold only one record
+			alg.findSimilar("0", null, similar);
+			alg.findSimilar("0", null, similar);
+			alg.findSimilar("1", null, similar);
+			assertEquals(1, store.getCacheSize());
+			assertEquals(1, store.getCacheHits());
+			assertEquals(2, store.getCacheMisses());
+
+			// Make it large enough to hold everything
+			store.clearCache();
+			store.setMaxCacheBytes(Long.MAX_VALUE);
+			for (int trial = 0; trial < 2; trial++) {
+				for (String id : expected.getImageIDs()) {
+					alg.findSimilar(id, null, similar);
+				}
+			}
+			assertEquals(6, store.getCacheSize());
+			assertEquals(6, store.getCacheHits());
+			assertEquals(6, store.getCacheMisses());
+			assertTrue(store.getCacheBytes() > 0);
+
+			// Shrink it and make sure the limit is respected after the next access
+			store.setMaxCacheBytes(store.getCacheBytes()/2);
+			alg.findSimilar("0", null, similar);
+			assertTrue(store.getCacheBytes() <= store.getMaxCacheBytes());
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Read from multiple threads at once with a cache which is too small to hold everything
+	 */
+	@Test void concurrentReads() {
+		SimilarImagesData expected = createData(10);
+		SimilarImagesDiskStore.save(expected, directory, 3);
+
+		try (var store = new SimilarImagesDiskStore(directory, 500)) {
+			BoofConcurrency.loopFor(0, 20, trial -> {
+				LookUpSimilarImages found = store.createLookUp();
+				compare(expected, found);
+			});
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Test void unknownImage() {
+		SimilarImagesDiskStore.save(createData(3), directory, 3);
+
+		try (var store = new SimilarImagesDiskStore(directory, 500)) {
+			assertThrows(IllegalArgumentException.class,
+					() -> store.createLookUp().findSimilar("asdf", null, new ArrayList<>()));
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Stream images into the writer in reverse order so that similar images are referenced before they are added
+	 * and records are in a different order inside the shards than in the index
+	 */
+	@Test void writer_streaming() {
+		SimilarImagesData expected = createData(7);
+		List<String> ids = expected.getImageIDs();
+
+		var features = new DogArray<>(Point2D_F64::new);
+		var pairs = new DogArray<>(AssociatedIndex::new);
+		var similar = new ArrayList<String>();
+		try (var writer = new SimilarImagesDiskStore.Writer(directory, 3)) {
+			ids.forEach(writer::declareImage);
+			for (int imageIdx = ids.size() - 1; imageIdx >= 0; imageIdx--) {
+				String id = ids.get(imageIdx);
+				expected.findSimilar(id, null, similar);
+				expected.lookupPixelFeats(id, features);
+				writer.addImage(id, features);
+				for (String similarID : similar) {
+					assertTrue(expected.lookupAssociated(similarID, pairs));
+					writer.addSimilar(similarID, pairs);
+				}
+			}
+		}
+
+		try (var store = new SimilarImagesDiskStore(directory, Long.MAX_VALUE)) {
+			compare(expected, store.createLookUp());
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Images are ordered by when they are first seen and associations can be unknown
+	 */
+	@Test void writer_orderAndUnknownPairs() {
+		var features = new DogArray<>(Point2D_F64::new);
+		features.grow().setTo(1, 2);
+		try (var writer = new SimilarImagesDiskStore.Writer(directory, 3)) {
+			writer.addImage("b", features);
+			writer.addSimilar("a", null);
+			writer.addImage("a", features);
+			writer.addSimilar("b", null);
+		}
+
+		try (var store = new SimilarImagesDiskStore(directory, Long.MAX_VALUE)) {
+			LookUpSimilarImages found = store.createLookUp();
+			assertEquals(List.of("b", "a"), found.getImageIDs());
+
+			var similar = new ArrayList<String>();
+			found.findSimilar("a", null, similar);
+			assertEquals(List.of("b"), similar);
+			assertFalse(found.lookupAssociated("b", new DogArray<>(AssociatedIndex::new)));
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Every image which is referenced must be added
+	 */
+	@Test void writer_missingImage() {
+		var writer = new SimilarImagesDiskStore.Writer(directory, 3);
+		writer.addImage("a", new DogArray<>(Point2D_F64::new));
+		writer.addSimilar("b", null);
+		assertThrows(IllegalStateException.class, writer::close);
+
+		// Adding the same image twice is an error
+		var writer2 = new SimilarImagesDiskStore.Writer(directory, 3);
+		writer2.addImage("a", new DogArray<>(Point2D_F64::new));
+		assertThrows(IllegalArgumentException.class, () -> writer2.addImage("a", new DogArray<>(Point2D_F64::new)));
+		writer2.close();
+	}
+
+	/**
+	 * Creates a data set where each image is similar to the next two images
+	 */
+	SimilarImagesData createData( int numImages ) {
+		var data = new SimilarImagesData();
+		for (int i = 0; i < numImages; i++) {
+			List<Point2D_F64> features = new ArrayList<>();
+			for (int j = 0; j < 4 + i; j++) {
+				features.add(new Point2D_F64(rand.nextDouble()*600, rand.nextDouble()*400));
+			}
+			data.add("" + i, features);
+		}
+
+		for (int i = 0; i < numImages; i++) {
+			for (int offset = 1; offset <= 2 && i + offset < numImages; offset++) {
+				var matches = new ArrayList<AssociatedIndex>();
+				for (int j = 0; j < 3 + i; j++) {
+					matches.add(new AssociatedIndex(rand.nextInt(4 + i), rand.nextInt(4 + i + offset)));
+				}
+				data.setRelationship("" + i, "" + (i + offset), matches);
+			}
+		}
+
+		return data;
+	}
+
+	/**
+	 * Compares the store against the original. The original isn't thread safe so it's only accessed while locked.
+	 */
+	void compare( SimilarImagesData expected, LookUpSimilarImages found ) {
+		assertEquals(expected.getImageIDs(), found.getImageIDs());
+
+		var expectedFeats = new DogArray<>(Point2D_F64::new);
+		var foundFeats = new DogArray<>(Point2D_F64::new);
+		var expectedPairs = new ArrayList<DogArray<AssociatedIndex>>();
+		var foundPairs = new DogArray<>(AssociatedIndex::new);
+		var expectedSimilar = new ArrayList<String>();
+		var foundSimilar = new ArrayList<String>();
+
+		for (String id : expected.getImageIDs()) {
+			synchronized (expected) {
+				expected.lookupPixelFeats(id, expectedFeats);
+				expected.findSimilar(id, null, expectedSimilar);
+				expectedPairs.clear();
+				for (String similarID : expectedSimilar) {
+					var pairs = new DogArray<>(AssociatedIndex::new);
+					assertTrue(expected.lookupAssociated(similarID, pairs));
+					expectedPairs.add(pairs);
+				}
+			}
+
+			found.lookupPixelFeats(id, foundFeats);
+			assertEquals(expectedFeats.size, foundFeats.size);
+			for (int i = 0; i < expectedFeats.size; i++) {
+				assertEquals(0.0, expectedFeats.get(i).distance(foundFeats.get(i)), 1e-3);
+			}
+
+			found.findSimilar(id, null, foundSimilar);
+			assertEquals(expectedSimilar, foundSimilar);
+
+			for (int similarIdx = 0; similarIdx < expectedSimilar.size(); similarIdx++) {
+				DogArray<AssociatedIndex> pairs = expectedPairs.get(similarIdx);
+				assertTrue(found.lookupAssociated(expectedSimilar.get(similarIdx), foundPairs));
+				assertEquals(pairs.size, foundPairs.size);
+				for (int i = 0; i < pairs.size; i++) {
+					assertEquals(pairs.get(i).src, foundPairs.get(i).src);
+					assertEquals(pairs.get(i).dst, foundPairs.get(i).dst);
+				}
+			}
+
+			// The filter should be applied
+			found.findSimilar(id, ( s ) -> !s.equals("0"), foundSimilar);
+			assertFalse(foundSimilar.contains("0"));
+		}
+	}
+}
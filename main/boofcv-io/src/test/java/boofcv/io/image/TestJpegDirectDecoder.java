@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.image;
+
+import boofcv.BoofTesting;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestJpegDirectDecoder extends BoofStandardJUnit {
+	/**
+	 * The decoded image should be identical to javax.imageio. Sizes which aren't a multiple of the MCU are included
+	 */
+	@Test void compareToImageIO() throws IOException {
+		var alg = new JpegDirectDecoder();
+		for (int[] shape : new int[][]{{64, 48}, {101, 77}}) {
+			for (int type : new int[]{BufferedImage.TYPE_BYTE_GRAY, BufferedImage.TYPE_3BYTE_BGR}) {
+				byte[] encoded = encode(createImage(shape[0], shape[1], type), 0);
+				BufferedImage expected = ImageIO.read(new ByteArrayInputStream(encoded));
+
+				var gray = new GrayU8(1, 1);
+				assertTrue(alg.decode(encoded, encoded.length, gray));
+				BoofTesting.assertEquals(ConvertBufferedImage.convertFrom(expected, true, ImageType.SB_U8), gray, 0);
+
+				var interleaved = new InterleavedU8(1, 1, 1);
+				assertTrue(alg.decode(encoded, encoded.length, interleaved));
+				BoofTesting.assertEquals(ConvertBufferedImage.convertFrom(expected, true,
+						ImageType.il(interleaved.numBands, InterleavedU8.class)), interleaved, 0);
+
+				var planar = new Planar<>(GrayU8.class, 1, 1, 1);
+				assertTrue(alg.decode(encoded, encoded.length, planar));
+				BoofTesting.assertEquals(ConvertBufferedImage.convertFrom(expected, true,
+						ImageType.pl(planar.getNumBands(), GrayU8.class)), planar, 0);
+			}
+		}
+	}
+
+	/**
+	 * Color images with 4:4:4 and 4:2:2 (h2v1) chroma sampling. Odd widths and heights test the edges of the
+	 * up-sampling filter.
+	 */
+	@Test void compareToImageIO_sampling() throws IOException {
+		var alg = new JpegDirectDecoder();
+		for (int[] sampling : new int[][]{{1, 1}, {2, 1}}) {
+			for (int[] shape : new int[][]{{101, 77}, {33, 9}, {17, 40}}) {
+				BufferedImage image = createImage(shape[0], shape[1], BufferedImage.TYPE_3BYTE_BGR);
+				byte[] encoded = encode(image, 0, sampling[0], sampling[1]);
+				BufferedImage expected = ImageIO.read(new ByteArrayInputStream(encoded));
+
+				var interleaved = new InterleavedU8(1, 1, 1);
+				assertTrue(alg.decode(encoded, encoded.length, interleaved));
+				BoofTesting.assertEquals(ConvertBufferedImage.convertFrom(expected, true,
+						ImageType.il(3, InterleavedU8.class)), interleaved, 0);
+
+				var gray = new GrayU8(1, 1);
+				assertTrue(alg.decode(encoded, encoded.length, gray));
+				BoofTesting.assertEquals(ConvertBufferedImage.convertFrom(expected, true, ImageType.SB_U8), gray, 0);
+			}
+		}
+	}
+
+	/**
+	 * Restart intervals are decoded independently. Results should be the same with and without threads
+	 */
+	@Test void restartIntervals() throws IOException {
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			for (int interval : new int[]{1, 7}) {
+				byte[] encoded = encode(createImage(160, 120, BufferedImage.TYPE_3BYTE_BGR), interval);
+				BufferedImage expected = ImageIO.read(new ByteArrayInputStream(encoded));
+
+				var alg = new JpegDirectDecoder();
+				var found = new InterleavedU8(1, 1, 3);
+
+				BoofConcurrency.USE_CONCURRENT = false;
+				assertTrue(alg.decode(encoded, encoded.length, found));
+				assertEquals(interval, alg.getRestartInterval());
+				BoofTesting.assertEquals(ConvertBufferedImage.convertFrom(expected, true,
+						ImageType.il(3, InterleavedU8.class)), found, 0);
+
+				BoofConcurrency.USE_CONCURRENT = true;
+				found.reshape(1, 1);
+				assertTrue(alg.decode(encoded, encoded.length, found));
+				BoofTesting.assertEquals(ConvertBufferedImage.convertFrom(expected, true,
+						ImageType.il(3, InterleavedU8.class)), found, 0);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	/**
+	 * Progressive images aren't supported
+	 */
+	@Test void progressive() throws IOException {
+		BufferedImage image = createImage(40, 30, BufferedImage.TYPE_3BYTE_BGR);
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ImageWriteParam param = writer.getDefaultWriteParam();
+		param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+		byte[] encoded = write(writer, new IIOImage(image, null, null), param);
+
+		assertFalse(new JpegDirectDecoder().decode(encoded, encoded.length, new GrayU8(1, 1)));
+	}
+
+	@Test void notJpeg() {
+		byte[] data = new byte[100];
+		var alg = new JpegDirectDecoder();
+		assertFalse(alg.isSignature(data, data.length));
+		assertThrows(IllegalArgumentException.class, () -> alg.decode(data, data.length, new GrayU8(1, 1)));
+	}
+
+	/**
+	 * Smooth image so that it compresses like a real image
+	 */
+	BufferedImage createImage( int width, int height, int type ) {
+		var image = new BufferedImage(width, height, type);
+		double offset = rand.nextDouble()*10;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int r = (int)(127 + 120*Math.sin(x*0.11 + y*0.03 + offset));
+				int g = (int)(127 + 120*Math.cos(x*0.05 - y*0.09));
+				int b = (x*3 + y*5)%256;
+				image.setRGB(x, y, (r << 16) | (g << 8) | b);
+			}
+		}
+		return image;
+	}
+
+	/**
+	 * Encodes the image as a JPEG with the specified restart interval
+	 */
+	static byte[] encode( BufferedImage image, int restartInterval ) throws IOException {
+		return encode(image, restartInterval, 0, 0);
+	}
+
+	/**
+	 * Encodes the image as a JPEG with the specified restart interval and luminance sampling factors. Chroma always
+	 * has a sampling factor of 1. If the sampling factors are zero then the writer's default is used.
+	 */
+	static byte[] encode( BufferedImage image, int restartInterval, int lumaH, int lumaV ) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ImageWriteParam param = writer.getDefaultWriteParam();
+		param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+		param.setCompressionQuality(0.9f);
+		IIOMetadata metadata = writer.getDefaultImageMetadata(new ImageTypeSpecifier(image), param);
+
+		if (restartInterval > 0) {
+			String format = "javax_imageio_jpeg_image_1.0";
+			var root = (IIOMetadataNode)metadata.getAsTree(format);
+			var sequence = (IIOMetadataNode)root.getElementsByTagName("markerSequence").item(0);
+			var dri = new IIOMetadataNode("dri");
+			dri.setAttribute("interval", "" + restartInterval);
+			sequence.insertBefore(dri, sequence.getFirstChild());
+			metadata.setFromTree(format, root);
+		}
+
+		if (lumaH > 0) {
+			String format = "javax_imageio_jpeg_image_1.0";
+			var root = (IIOMetadataNode)metadata.getAsTree(format);
+			// The first component is luminance
+			var luma = (IIOMetadataNode)root.getElementsByTagName("componentSpec").item(0);
+			luma.setAttribute("HsamplingFactor", "" + lumaH);
+			luma.setAttribute("VsamplingFactor", "" + lumaV);
+			metadata.setFromTree(format, root);
+		}
+
+		return write(writer, new IIOImage(image, null, metadata), param);
+	}
+
+	static byte[] write( ImageWriter writer, IIOImage image, ImageWriteParam param ) throws IOException {
+		var bytes = new ByteArrayOutputStream();
+		try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+			writer.setOutput(output);
+			writer.write(null, image, param);
+		} finally {
+			writer.dispose();
+		}
+		return bytes.toByteArray();
+	}
+}
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -64,6 +65,26 @@ public class TestLookUpImageFilesByIndex extends BoofStandardJUnit {
 		assertFalse(alg.loadImage("10", image));
 	}
 
+	/**
+	 * Load images from multiple threads at once and make sure the shape check doesn't fail
+	 */
+	@Test void loadImage_concurrent() {
+		List<String> paths = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			paths.add("" + i);
+		}
+
+		var alg = new LookUpImageFilesByIndex(paths, ( path, out ) -> out.reshape(10, 15));
+		IntStream.range(0, 2000).parallel().forEach(i -> {
+			var image = new GrayU8(1, 1);
+			var dimension = new ImageDimension();
+			assertTrue(alg.loadImage("" + (i%paths.size()), image));
+			assertTrue(alg.loadShape("" + (i%paths.size()), dimension));
+			assertEquals(10, dimension.width);
+			assertEquals(15, dimension.height);
+		});
+	}
+
 	private static class DummyLookupFileByIndex extends LookUpImageFilesByIndex {
 		public List<String> loaded = new ArrayList<>();
 
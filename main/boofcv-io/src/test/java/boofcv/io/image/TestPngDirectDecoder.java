@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.image;
+
+import boofcv.BoofTesting;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestPngDirectDecoder extends BoofStandardJUnit {
+	int width = 47;
+	int height = 31;
+
+	/**
+	 * Compare against javax.imageio for image types which should be identical
+	 */
+	@Test void compareToImageIO() throws IOException {
+		var alg = new PngDirectDecoder();
+		alg.setMatchImageIO(true);
+
+		for (int type : new int[]{BufferedImage.TYPE_BYTE_GRAY, BufferedImage.TYPE_3BYTE_BGR}) {
+			byte[] encoded = encode(createImage(type));
+			BufferedImage expected = ImageIO.read(new ByteArrayInputStream(encoded));
+
+			var gray = new GrayU8(1, 1);
+			assertTrue(alg.decode(encoded, encoded.length, gray));
+			BoofTesting.assertEquals(ConvertBufferedImage.convertFrom(expected, true, ImageType.SB_U8), gray, 0);
+
+			var interleaved = new InterleavedU8(1, 1, 1);
+			assertTrue(alg.decode(encoded, encoded.length, interleaved));
+			BoofTesting.assertEquals(ConvertBufferedImage.convertFrom(expected, true,
+					ImageType.il(interleaved.numBands, InterleavedU8.class)), interleaved, 0);
+
+			var planar = new Planar<>(GrayU8.class, 1, 1, 1);
+			assertTrue(alg.decode(encoded, encoded.length, planar));
+			BoofTesting.assertEquals(ConvertBufferedImage.convertFrom(expected, true,
+					ImageType.pl(planar.getNumBands(), GrayU8.class)), planar, 0);
+		}
+	}
+
+	@Test void gray16() throws IOException {
+		var image = new BufferedImage(width, height, BufferedImage.TYPE_USHORT_GRAY);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.getRaster().setSample(x, y, 0, rand.nextInt(65536));
+			}
+		}
+		byte[] encoded = encode(image);
+
+		var found = new GrayU16(1, 1);
+		assertTrue(new PngDirectDecoder().decode(encoded, encoded.length, found));
+		assertEquals(width, found.width);
+		assertEquals(height, found.height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(image.getRaster().getSample(x, y, 0), found.get(x, y));
+			}
+		}
+
+		// 16-bit images can't be written into an 8-bit image
+		assertFalse(new PngDirectDecoder().decode(encoded, encoded.length, new GrayU8(1, 1)));
+	}
+
+	/**
+	 * Images with alpha or a palette are only rejected if it needs to match javax.imageio
+	 */
+	@Test void matchImageIO() throws IOException {
+		var alg = new PngDirectDecoder();
+		for (int type : new int[]{BufferedImage.TYPE_4BYTE_ABGR, BufferedImage.TYPE_BYTE_INDEXED}) {
+			BufferedImage image = createImage(type);
+			byte[] encoded = encode(image);
+
+			alg.setMatchImageIO(true);
+			assertFalse(alg.decode(encoded, encoded.length, new InterleavedU8(1, 1, 3)));
+
+			alg.setMatchImageIO(false);
+			var found = new InterleavedU8(1, 1, 3);
+			assertTrue(alg.decode(encoded, encoded.length, found));
+			assertEquals(3, found.numBands);
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					int rgb = image.getRGB(x, y);
+					assertEquals((rgb >> 16) & 0xFF, found.getBand(x, y, 0));
+					assertEquals((rgb >> 8) & 0xFF, found.getBand(x, y, 1));
+					assertEquals(rgb & 0xFF, found.getBand(x, y, 2));
+				}
+			}
+		}
+	}
+
+	@Test void inputStream() throws IOException {
+		byte[] encoded = encode(createImage(BufferedImage.TYPE_BYTE_GRAY));
+
+		var expected = new GrayU8(1, 1);
+		var found = new GrayU8(1, 1);
+		var alg = new PngDirectDecoder();
+		assertTrue(alg.decode(encoded, encoded.length, expected));
+		assertTrue(alg.decode(new ByteArrayInputStream(encoded), found));
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	@Test void notPng() {
+		byte[] data = new byte[100];
+		var alg = new PngDirectDecoder();
+		assertFalse(alg.isSignature(data, data.length));
+		assertThrows(IllegalArgumentException.class, () -> alg.decode(data, data.length, new GrayU8(1, 1)));
+	}
+
+	BufferedImage createImage( int type ) {
+		var image = new BufferedImage(width, height, type);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, 0xFF000000 | rand.nextInt(0xFFFFFF));
+			}
+		}
+		return image;
+	}
+
+	static byte[] encode( BufferedImage image ) throws IOException {
+		var output = new ByteArrayOutputStream();
+		assertTrue(ImageIO.write(image, "png", output));
+		return output.toByteArray();
+	}
+}
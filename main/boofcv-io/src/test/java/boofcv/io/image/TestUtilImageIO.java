@@ -18,8 +18,12 @@
 
 package boofcv.io.image;
 
+import boofcv.BoofTesting;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.GrayU16;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
 import boofcv.testing.BoofStandardJUnit;
 import org.junit.jupiter.api.Test;
@@ -30,6 +34,7 @@ import java.io.IOException;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -108,6 +113,83 @@ public class TestUtilImageIO extends BoofStandardJUnit {
 		temp.delete();// no assertTrue() here because in windows it will fail
 	}
 
+	@Test void loadImage_saveImage_PGM_U16() throws IOException {
+		GrayU16 orig = new GrayU16(width, height);
+		GImageMiscOps.fillUniform(orig, rand, 0, 65536);
+
+		File temp = File.createTempFile("temp", ".pgm");
+		UtilImageIO.savePGM(orig, temp.getPath());
+		BoofTesting.assertEquals(orig, UtilImageIO.loadPGM_U16(temp.getPath(), null), 0);
+		BoofTesting.assertEquals(orig, UtilImageIO.loadImage(temp.getPath(), true, new GrayU16(1, 1)), 0);
+
+		// 8-bit images can be read too
+		GrayU8 orig8 = new GrayU8(width, height);
+		GImageMiscOps.fillUniform(orig8, rand, 0, 256);
+		UtilImageIO.savePGM(orig8, temp.getPath());
+		GrayU16 found = UtilImageIO.loadPGM_U16(temp.getPath(), null);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(orig8.get(x, y), found.get(x, y));
+			}
+		}
+
+		// clean up
+		temp.delete();// no assertTrue() here because in windows it will fail
+	}
+
+	/**
+	 * Loading directly into the image should produce the same results as going through a BufferedImage
+	 */
+	@Test void loadImageDirect() throws IOException {
+		BufferedImage orig = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				orig.setRGB(x, y, rand.nextInt(0xFFFFFF));
+			}
+		}
+
+		for (String type : new String[]{"png", "jpg"}) {
+			File temp = File.createTempFile("temp", "." + type);
+			UtilImageIO.saveImage(orig, temp.getPath());
+
+			InterleavedU8 expected = ConvertBufferedImage.convertFrom(
+					UtilImageIO.loadImage(temp.getPath()), true, ImageType.il(3, InterleavedU8.class));
+
+			var found = new InterleavedU8(1, 1, 3);
+			assertTrue(UtilImageIO.loadImageDirect(temp.getPath(), found));
+			BoofTesting.assertEquals(expected, found, 0);
+
+			found.reshape(1, 1);
+			UtilImageIO.loadImage(temp.getPath(), true, found);
+			BoofTesting.assertEquals(expected, found, 0);
+
+			// clean up
+			temp.delete();// no assertTrue() here because in windows it will fail
+		}
+
+		assertFalse(UtilImageIO.loadImageDirect("asdasdasdasd", new GrayU8(1, 1)));
+	}
+
+	/**
+	 * Formats which can't be decoded directly fall back to javax.imageio or the PPM/PGM readers using the contents
+	 * of the file which have already been read
+	 */
+	@Test void loadImage_fallback() throws IOException {
+		Planar<GrayU8> orig = new Planar<>(GrayU8.class, width, height, 3);
+		GImageMiscOps.fillUniform(orig, rand, 0, 256);
+
+		File temp = File.createTempFile("temp", ".ppm");
+		UtilImageIO.savePPM(orig, temp.getPath(), null);
+		BoofTesting.assertEquals(orig, UtilImageIO.loadImage(temp, true, ImageType.pl(3, GrayU8.class)), 0);
+		BoofTesting.assertEquals(orig, UtilImageIO.loadImage(temp.getPath(), true, orig.createSameShape()), 0);
+		temp.delete();// no assertTrue() here because in windows it will fail
+
+		temp = File.createTempFile("temp", ".bmp");
+		UtilImageIO.saveImage(orig, temp.getPath());
+		BoofTesting.assertEquals(orig, UtilImageIO.loadImage(temp, true, ImageType.pl(3, GrayU8.class)), 0);
+		temp.delete();// no assertTrue() here because in windows it will fail
+	}
+
 	/**
 	 * See if load image fails gracefully if an image is not present
 	 */
@@ -21,8 +21,11 @@ package boofcv.io.points.impl;
 import boofcv.alg.cloud.PointCloudReader;
 import boofcv.alg.cloud.PointCloudWriter;
 import boofcv.struct.Point3dRgbI_F64;
+import boofcv.struct.packed.PackedBigArrayPoint3D_F64;
 import boofcv.testing.BoofStandardJUnit;
 import georegression.struct.point.Point3D_F64;
+import org.ddogleg.struct.BigDogArray_I32;
+import org.ddogleg.struct.BigDogGrowth;
 import org.ddogleg.struct.DogArray;
 import org.ejml.UtilEjml;
 import org.junit.jupiter.api.Test;
@@ -34,6 +37,7 @@ import java.util.List;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -136,4 +140,134 @@ class TestPlyCodec extends BoofStandardJUnit {
 			}
 		}
 	}
+
+	/**
+	 * Read binary files using memory mapping. Several blocks are read and both byte orders are tested
+	 */
+	@Test void readMapped_binary() throws IOException {
+		List<Point3dRgbI_F64> expected = createCloudRgb(103);
+
+		int before = PlyCodec.mappedBlockBytes;
+		File file = File.createTempFile("PlyCodec", ".ply");
+		try {
+			PlyCodec.mappedBlockBytes = 100;
+			for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+				for (boolean asFloat : new boolean[]{true, false}) {
+					for (boolean saveRgb : new boolean[]{true, false}) {
+						try (var output = new FileOutputStream(file)) {
+							PlyCodec.saveBinary(PointCloudReader.wrapF64RGB(expected), order, saveRgb, asFloat, output);
+						}
+
+						var points = new PackedBigArrayPoint3D_F64(5, 7, BigDogGrowth.GROW_FIRST);
+						var colors = new BigDogArray_I32();
+						PlyCodec.readMapped(file, points, colors);
+
+						checkPacked(expected, points, colors, saveRgb, asFloat ? UtilEjml.TEST_F32 : UtilEjml.TEST_F64);
+					}
+				}
+			}
+		} finally {
+			PlyCodec.mappedBlockBytes = before;
+			assertTrue(file.delete());
+		}
+	}
+
+	/**
+	 * ASCII files can't be memory mapped but should still be read
+	 */
+	@Test void readMapped_ascii() throws IOException {
+		List<Point3dRgbI_F64> expected = createCloudRgb(10);
+
+		File file = File.createTempFile("PlyCodec", ".ply");
+		try {
+			try (var output = new OutputStreamWriter(new FileOutputStream(file), UTF_8)) {
+				PlyCodec.saveAscii(PointCloudReader.wrapF64RGB(expected), true, output);
+			}
+
+			var points = new PackedBigArrayPoint3D_F64();
+			var colors = new BigDogArray_I32();
+			PlyCodec.readMapped(file, points, colors);
+
+			checkPacked(expected, points, colors, true, 1e-4);
+		} finally {
+			assertTrue(file.delete());
+		}
+	}
+
+	/**
+	 * Properties which belong to other elements should be ignored
+	 */
+	@Test void read_otherElements() throws IOException {
+		String text = """
+				ply
+				format ascii 1.0
+				element vertex 2
+				property float x
+				property float y
+				property float z
+				element face 1
+				property list uchar int vertex_indices
+				end_header
+				1 2 3
+				4 5 6
+				3 0 1 1
+				""";
+
+		DogArray<Point3D_F64> found = new DogArray<>(Point3D_F64::new);
+		PlyCodec.read(new ByteArrayInputStream(text.getBytes(UTF_8)), PointCloudWriter.wrapF64(found));
+
+		assertEquals(2, found.size);
+		assertEquals(0.0, found.get(1).distance(4, 5, 6), UtilEjml.TEST_F64);
+	}
+
+	/**
+	 * The number of points isn't known until the writer is closed. See if the header is correctly updated.
+	 */
+	@Test void streamWriter() throws IOException {
+		List<Point3dRgbI_F64> expected = createCloudRgb(53);
+
+		File file = File.createTempFile("PlyCodec", ".ply");
+		try {
+			for (boolean saveRgb : new boolean[]{true, false}) {
+				try (var writer = new PlyCodec.StreamWriter(file, ByteOrder.LITTLE_ENDIAN, saveRgb, false)) {
+					for (Point3dRgbI_F64 p : expected) {
+						writer.add(p.x, p.y, p.z, p.rgb);
+					}
+					assertEquals(expected.size(), writer.size());
+				}
+
+				DogArray<Point3dRgbI_F64> found = new DogArray<>(Point3dRgbI_F64::new);
+				try (var input = new FileInputStream(file)) {
+					PlyCodec.read(input, PointCloudWriter.wrapF64RGB(found));
+				}
+
+				assertEquals(expected.size(), found.size);
+				for (int i = 0; i < found.size; i++) {
+					assertEquals(0.0, found.get(i).distance(expected.get(i)), UtilEjml.TEST_F64);
+					assertEquals(saveRgb ? expected.get(i).rgb : 0, found.get(i).rgb);
+				}
+			}
+		} finally {
+			assertTrue(file.delete());
+		}
+	}
+
+	private List<Point3dRgbI_F64> createCloudRgb( int count ) {
+		List<Point3dRgbI_F64> cloud = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			cloud.add(new Point3dRgbI_F64(rand.nextGaussian(), rand.nextGaussian(), rand.nextGaussian(),
+					rand.nextInt(0xFFFFFF)));
+		}
+		return cloud;
+	}
+
+	private void checkPacked( List<Point3dRgbI_F64> expected, PackedBigArrayPoint3D_F64 points,
+							  BigDogArray_I32 colors, boolean hasRgb, double tol ) {
+		assertEquals(expected.size(), points.size());
+		assertEquals(expected.size(), colors.size);
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(0.0, points.getTemp(i).distance(expected.get(i)), tol);
+			assertEquals(hasRgb ? expected.get(i).rgb : 0, colors.get(i));
+		}
+	}
 }
@@ -50,6 +50,8 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 public class TestRecognitionIO extends BoofStandardJUnit {
 	/**
@@ -273,6 +275,160 @@ public class TestRecognitionIO extends BoofStandardJUnit {
 		assertEquals(expected.getImagesDB().size, found.getImagesDB().size);
 	}
 
+	@Test void nearestNeighbor_mapped() {
+		var expected = new RecognitionNearestNeighborInvertedFile<>();
+		expected.getImagesDB().resize(45);
+		for (int i = 0; i < expected.getImagesDB().size; i++) {
+			expected.getImagesDB().set(i, rand.nextInt());
+		}
+
+		for (int i = 0; i < 20; i++) {
+			InvertedFile iv = expected.getInvertedFiles().grow();
+			int N = rand.nextInt(10);
+			for (int j = 0; j < N; j++) {
+				iv.addImage(rand.nextInt(1_000_000), rand.nextFloat());
+			}
+		}
+
+		File file = createTempFile("nn_mapped");
+		try {
+			RecognitionIO.saveNearestNeighborMapped(expected, file);
+
+			var found = new RecognitionNearestNeighborInvertedFile<>();
+			RecognitionIO.loadNearestNeighborMapped(file, found);
+
+			assertNotNull(found.getLazyInvertedFiles());
+			assertEquals(expected.getInvertedFiles().size, found.getInvertedFiles().size);
+			for (int i = 0; i < expected.getInvertedFiles().size; i++) {
+				compareInverted(expected.getInvertedFile(i), found.getInvertedFile(i));
+			}
+			assertEquals(expected.getImagesDB().size, found.getImagesDB().size);
+			for (int i = 0; i < expected.getImagesDB().size; i++) {
+				assertEquals(expected.getImagesDB().get(i), found.getImagesDB().get(i));
+			}
+
+			// Save a lazily loaded database in the stream format and see if nothing was lost
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			RecognitionIO.saveNearestNeighborBin(found, stream);
+			var decoded = new RecognitionNearestNeighborInvertedFile<>();
+			RecognitionIO.loadNearestNeighborBin(new ByteArrayInputStream(stream.toByteArray()), decoded);
+			for (int i = 0; i < expected.getInvertedFiles().size; i++) {
+				compareInverted(expected.getInvertedFile(i), decoded.getInvertedFile(i));
+			}
+		} finally {
+			UtilIO.deleteRecursive(file);
+		}
+	}
+
+	/**
+	 * Saves a lazily loaded database on top of the file it's being lazily loaded from
+	 */
+	@Test void nearestNeighbor_mapped_saveOverSource() {
+		var expected = new RecognitionNearestNeighborInvertedFile<>();
+		expected.getImagesDB().resize(10);
+		for (int i = 0; i < 20; i++) {
+			InvertedFile iv = expected.getInvertedFiles().grow();
+			int N = 1 + rand.nextInt(10);
+			for (int j = 0; j < N; j++) {
+				iv.addImage(rand.nextInt(10), rand.nextFloat());
+			}
+		}
+
+		File file = createTempFile("nn_mapped");
+		try {
+			RecognitionIO.saveNearestNeighborMapped(expected, file);
+			var found = new RecognitionNearestNeighborInvertedFile<>();
+			RecognitionIO.loadNearestNeighborMapped(file, found);
+
+			// Modify one inverted file so that it's loaded and leave the others untouched
+			found.getInvertedFile(3).addImage(2, 0.5f);
+			expected.getInvertedFile(3).addImage(2, 0.5f);
+			RecognitionIO.saveNearestNeighborMapped(found, file);
+
+			var decoded = new RecognitionNearestNeighborInvertedFile<>();
+			RecognitionIO.loadNearestNeighborMapped(file, decoded);
+			for (int i = 0; i < expected.getInvertedFiles().size; i++) {
+				compareInverted(expected.getInvertedFile(i), decoded.getInvertedFile(i));
+			}
+			assertFalse(RecognitionIO.temporaryFile(file).exists());
+		} finally {
+			UtilIO.deleteRecursive(file);
+		}
+	}
+
+	/**
+	 * Saves in one format then the other. The most recently saved database should be loaded.
+	 */
+	@Test void saveFeatureToScene_changeFormat() {
+		File dir = new File(System.getProperty("java.io.tmpdir"), "feature_to_scene_format");
+		try {
+			var config = new ConfigFeatureToSceneRecognition();
+			config.typeRecognize = ConfigFeatureToSceneRecognition.Type.NEAREST_NEIGHBOR;
+			ImageType<GrayU8> imageType = ImageType.SB_U8;
+
+			for (boolean mappedFirst : new boolean[]{true, false}) {
+				WrapFeatureToSceneRecognition<GrayU8, TupleDesc_F64> original =
+						FactorySceneRecognition.createFeatureToScene(config, imageType);
+				createNearestNeighbor(original.getRecognizer());
+				RecognitionIO.saveFeatureToScene(original, dir, mappedFirst);
+
+				// Save a different database in the other format
+				FeatureSceneRecognitionNearestNeighbor<TupleDesc_F64> recognizer = original.getRecognizer();
+				recognizer.getDatabase().getImagesDB().resize(7);
+				RecognitionIO.saveFeatureToScene(original, dir, !mappedFirst);
+
+				assertEquals(mappedFirst, new File(dir, RecognitionIO.INVERTED_NAME).exists());
+				assertEquals(!mappedFirst, new File(dir, RecognitionIO.INVERTED_MAPPED_NAME).exists());
+
+				WrapFeatureToSceneRecognition<GrayU8, TupleDesc_F64> found =
+						RecognitionIO.loadFeatureToScene(dir, imageType);
+				FeatureSceneRecognitionNearestNeighbor<TupleDesc_F64> foundRecognizer = found.getRecognizer();
+				assertEquals(7, foundRecognizer.getDatabase().getImagesDB().size);
+			}
+		} finally {
+			if (dir.exists())
+				UtilIO.deleteRecursive(dir);
+		}
+	}
+
+	@Test void recognitionVocabularyTreeNister2006_mapped() {
+		RecognitionVocabularyTreeNister2006<TupleDesc_F64> db = createDefaultNister2006();
+
+		File file = createTempFile("nister_mapped");
+		try {
+			RecognitionIO.saveTreeMapped(db, file);
+
+			var found = new RecognitionVocabularyTreeNister2006<TupleDesc_F64>();
+			RecognitionIO.loadTreeMapped(file, found);
+
+			compareTrees(db.tree, found.tree);
+			assertNotNull(found.getLazyInvertedFiles());
+			assertEquals(db.getImagesDB().size, found.getImagesDB().size);
+			for (int i = 0; i < db.getImagesDB().size; i++) {
+				assertEquals(db.getImagesDB().get(i), found.getImagesDB().get(i));
+			}
+			assertEquals(db.invertedFiles.size(), found.invertedFiles.size());
+			for (int i = 0; i < db.invertedFiles.size(); i++) {
+				compareInverted(db.invertedFiles.get(i), found.getInvertedFile(i));
+			}
+		} finally {
+			UtilIO.deleteRecursive(file);
+		}
+	}
+
+	private File createTempFile( String name ) {
+		return new File(System.getProperty("java.io.tmpdir"), name + "_" + rand.nextInt(1_000_000) + ".bin");
+	}
+
+	private void compareInverted( InvertedFile expected, InvertedFile found ) {
+		assertEquals(expected.size, found.size);
+		assertEquals(expected.weights.size, found.weights.size);
+		for (int i = 0; i < expected.size; i++) {
+			assertEquals(expected.get(i), found.get(i));
+			assertEquals(expected.weights.get(i), found.weights.get(i));
+		}
+	}
+
 	private void compareInverted( FastAccess<InvertedFile> expected, FastAccess<InvertedFile> found ) {
 		assertEquals(expected.size(), found.size());
 		for (int invIdx = 0; invIdx < expected.size(); invIdx++) {
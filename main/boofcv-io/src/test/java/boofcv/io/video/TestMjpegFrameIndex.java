@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.video;
+
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMjpegFrameIndex extends BoofStandardJUnit {
+	/**
+	 * Creates a fake video with three frames and junk between the frames
+	 */
+	byte[] createVideo() {
+		var out = new ByteArrayOutputStream();
+		out.write(0x12);
+		writeFrame(out, 5);
+		out.write(0xFF);
+		out.write(0x00);
+		writeFrame(out, 20);
+		writeFrame(out, 1);
+		return out.toByteArray();
+	}
+
+	void writeFrame( ByteArrayOutputStream out, int length ) {
+		out.write(0xFF);
+		out.write(0xD8);
+		for (int i = 0; i < length; i++) {
+			// Avoid accidentally creating markers
+			out.write(rand.nextInt(0xFE));
+		}
+		out.write(0xFF);
+		out.write(0xD9);
+	}
+
+	@Test void build() {
+		var alg = new MjpegFrameIndex();
+		alg.build(ByteBuffer.wrap(createVideo()));
+
+		assertEquals(3, alg.size());
+		assertEquals(1, alg.getOffsets().get(0));
+		assertEquals(9, alg.getLengths().get(0));
+		assertEquals(12, alg.getOffsets().get(1));
+		assertEquals(24, alg.getLengths().get(1));
+		assertEquals(36, alg.getOffsets().get(2));
+		assertEquals(5, alg.getLengths().get(2));
+	}
+
+	/**
+	 * Markers are split across blocks. Should produce the same results.
+	 */
+	@Test void scan_blocks() {
+		byte[] data = createVideo();
+		var expected = new MjpegFrameIndex();
+		expected.build(ByteBuffer.wrap(data));
+
+		for (int split = 1; split < data.length; split++) {
+			var alg = new MjpegFrameIndex();
+			alg.scan(ByteBuffer.wrap(Arrays.copyOfRange(data, 0, split)), 0);
+			alg.scan(ByteBuffer.wrap(Arrays.copyOfRange(data, split, data.length)), split);
+			alg.finish(data.length);
+
+			assertArrayEquals(expected.getOffsets().toArray(), alg.getOffsets().toArray());
+			assertArrayEquals(expected.getLengths().toArray(), alg.getLengths().toArray());
+		}
+	}
+
+	/**
+	 * Should produce the same frames as the codec
+	 */
+	@Test void compareToCodec() {
+		byte[] data = createVideo();
+		List<byte[]> frames = new VideoMjpegCodec().read(new ByteArrayInputStream(data));
+
+		var alg = new MjpegFrameIndex();
+		alg.build(ByteBuffer.wrap(data));
+		assertEquals(frames.size(), alg.size());
+		for (int i = 0; i < frames.size(); i++) {
+			int offset = (int)alg.getOffsets().get(i);
+			assertArrayEquals(frames.get(i), Arrays.copyOfRange(data, offset, offset + alg.getLengths().get(i)));
+		}
+	}
+
+	@Test void save_load() throws Exception {
+		File video = File.createTempFile("mjpeg_index", ".mjpeg");
+		File fileIndex = new File(video.getPath() + MjpegFrameIndex.SUFFIX);
+		try {
+			java.nio.file.Files.write(video.toPath(), createVideo());
+
+			MjpegFrameIndex expected = MjpegFrameIndex.loadOrBuild(video, true);
+			assertTrue(fileIndex.exists());
+
+			var found = new MjpegFrameIndex();
+			assertTrue(found.load(fileIndex, video));
+			assertArrayEquals(expected.getOffsets().toArray(), found.getOffsets().toArray());
+			assertArrayEquals(expected.getLengths().toArray(), found.getLengths().toArray());
+
+			// If the video changes the index should be rejected
+			java.nio.file.Files.write(video.toPath(), new byte[]{1, 2, 3});
+			assertFalse(found.load(fileIndex, video));
+			assertEquals(0, MjpegFrameIndex.loadOrBuild(video, false).size());
+		} finally {
+			assertTrue(video.delete());
+			assertTrue(fileIndex.delete());
+		}
+	}
+}
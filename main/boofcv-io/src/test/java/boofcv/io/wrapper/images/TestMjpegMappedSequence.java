@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.wrapper.images;
+
+import boofcv.BoofTesting;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.io.image.ConvertBufferedImage;
+import boofcv.io.image.SimpleImageSequence;
+import boofcv.io.video.DynamicVideoInterface;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMjpegMappedSequence extends BoofStandardJUnit {
+	int numFrames = 7;
+
+	File video;
+	// The frames after they have been decoded with ImageIO
+	List<GrayU8> expected = new ArrayList<>();
+
+	@BeforeEach void before() throws IOException {
+		video = File.createTempFile("mapped_sequence", ".mjpeg");
+		try (var out = new FileOutputStream(video)) {
+			for (int i = 0; i < numFrames; i++) {
+				var gray = new GrayU8(30 + i%2, 20);
+				GImageMiscOps.fillUniform(gray, rand, 0, 255);
+
+				var bytes = new ByteArrayOutputStream();
+				ImageIO.write(ConvertBufferedImage.convertTo(gray, null), "jpg", bytes);
+				out.write(bytes.toByteArray());
+
+				BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(bytes.toByteArray()));
+				expected.add(ConvertBufferedImage.convertFrom(decoded, (GrayU8)null));
+			}
+		}
+	}
+
+	@AfterEach void after() {
+		assertTrue(video.delete());
+		new File(video.getPath() + ".idx").delete();
+	}
+
+	/**
+	 * Read every frame with different amounts of look ahead, with and without concurrency
+	 */
+	@Test void readAll() {
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			for (boolean concurrent : new boolean[]{false, true}) {
+				readAll(concurrent);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	void readAll( boolean concurrent ) {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		for (int lookAhead : new int[]{0, 1, 3, 20}) {
+			var alg = new MjpegMappedSequence<>(video.getPath(), ImageType.SB_U8, lookAhead, false);
+			assertEquals(numFrames, alg.getTotalFrames());
+
+			for (int i = 0; i < numFrames; i++) {
+				assertTrue(alg.hasNext());
+				assertEquals(expected.get(i).width, alg.getWidth());
+				GrayU8 found = alg.next();
+				assertEquals(i, alg.getFrameNumber());
+				BoofTesting.assertEquals(expected.get(i), found, 0);
+				BufferedImage gui = alg.getGuiImage();
+				assertEquals(found.width, gui.getWidth());
+			}
+			assertFalse(alg.hasNext());
+			alg.close();
+		}
+	}
+
+	@Test void seek() {
+		var alg = new MjpegMappedSequence<>(video.getPath(), ImageType.SB_U8, 2, false);
+
+		for (int frame : new int[]{4, 0, 6, 2}) {
+			alg.seek(frame);
+			BoofTesting.assertEquals(expected.get(frame), alg.next(), 0);
+			assertEquals(frame, alg.getFrameNumber());
+			if (frame + 1 < numFrames)
+				BoofTesting.assertEquals(expected.get(frame + 1), alg.next(), 0);
+		}
+
+		alg.reset();
+		assertEquals(-1, alg.getFrameNumber());
+		BoofTesting.assertEquals(expected.get(0), alg.next(), 0);
+		alg.close();
+	}
+
+	@Test void loop() {
+		var alg = new MjpegMappedSequence<>(video.getPath(), ImageType.SB_U8, 3, false);
+		alg.setLoop(true);
+		for (int i = 0; i < numFrames*2 + 1; i++) {
+			assertTrue(alg.hasNext());
+			BoofTesting.assertEquals(expected.get(i%numFrames), alg.next(), 0);
+		}
+		alg.close();
+	}
+
+	@Test void cacheIndex() {
+		var alg = new MjpegMappedSequence<>(video.getPath(), ImageType.SB_U8, 1, true);
+		alg.close();
+		assertTrue(new File(video.getPath() + ".idx").exists());
+
+		alg = new MjpegMappedSequence<>(video.getPath(), ImageType.SB_U8, 1, true);
+		assertEquals(numFrames, alg.getTotalFrames());
+		BoofTesting.assertEquals(expected.get(0), alg.next(), 0);
+		alg.close();
+	}
+
+	/**
+	 * Local MJPEG files opened through the generic video interface should use this reader
+	 */
+	@Test void dynamicVideoInterface() {
+		SimpleImageSequence<GrayU8> alg = new DynamicVideoInterface().load(video.getPath(), ImageType.SB_U8);
+		assertTrue(alg instanceof MjpegMappedSequence);
+
+		int count = 0;
+		while (alg.hasNext()) {
+			BoofTesting.assertEquals(expected.get(count++), alg.next(), 0);
+		}
+		assertEquals(numFrames, count);
+		alg.close();
+	}
+
+	/**
+	 * Files with no frames in them should act like an empty video, even when looping
+	 */
+	@Test void noFrames() throws IOException {
+		File file = File.createTempFile("mapped_sequence_empty", ".mjpeg");
+		try {
+			for (int length : new int[]{0, 500}) {
+				// Garbage which doesn't contain any JPEG markers
+				try (var out = new FileOutputStream(file)) {
+					for (int i = 0; i < length; i++) {
+						out.write(rand.nextInt(0xFF));
+					}
+				}
+
+				var alg = new MjpegMappedSequence<>(file.getPath(), ImageType.SB_U8, 2, false);
+				assertEquals(0, alg.getTotalFrames());
+				assertFalse(alg.hasNext());
+				alg.setLoop(true);
+				assertFalse(alg.hasNext());
+				alg.reset();
+				assertFalse(alg.hasNext());
+				assertEquals(-1, alg.getFrameNumber());
+				alg.close();
+			}
+		} finally {
+			assertTrue(file.delete());
+		}
+	}
+}
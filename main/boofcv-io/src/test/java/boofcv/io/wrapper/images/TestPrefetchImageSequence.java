@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.wrapper.images;
+
+import boofcv.BoofTesting;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.io.UtilIO;
+import boofcv.io.image.UtilImageIO;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPrefetchImageSequence extends BoofStandardJUnit {
+	int numImages = 6;
+
+	File directory;
+	List<String> paths = new ArrayList<>();
+	List<GrayU8> expected = new ArrayList<>();
+
+	@BeforeEach void before() {
+		directory = new File(System.getProperty("java.io.tmpdir"), "prefetch_" + rand.nextInt(1_000_000));
+		assertTrue(directory.mkdirs());
+		for (int i = 0; i < numImages; i++) {
+			var gray = new GrayU8(40 + i, 30);
+			GImageMiscOps.fillUniform(gray, rand, 0, 255);
+			String path = new File(directory, "image" + i + ".png").getPath();
+			UtilImageIO.saveImage(gray, path);
+			paths.add(path);
+			expected.add(gray);
+		}
+	}
+
+	@AfterEach void after() {
+		UtilIO.deleteRecursive(directory);
+	}
+
+	/**
+	 * All images should be returned in order for every amount of prefetch, with and without concurrency
+	 */
+	@Test void inOrder() {
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			for (boolean concurrent : new boolean[]{false, true}) {
+				BoofConcurrency.USE_CONCURRENT = concurrent;
+				for (int prefetch : new int[]{0, 1, 3, 20}) {
+					inOrder(prefetch);
+				}
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	void inOrder( int prefetch ) {
+		var alg = new PrefetchImageSequence<>(paths, ImageType.SB_U8, prefetch);
+		assertEquals(expected.get(0).width, alg.getWidth());
+		for (int i = 0; i < numImages; i++) {
+			assertTrue(alg.hasNext());
+			GrayU8 found = alg.next();
+			assertEquals(i, alg.getFrameNumber());
+			assertEquals(paths.get(i), alg.getCurrentPath());
+			BoofTesting.assertEquals(expected.get(i), found, 0);
+		}
+		assertFalse(alg.hasNext());
+		alg.close();
+	}
+
+	/**
+	 * The number of frames which are loaded is bounded
+	 */
+	@Test void backPressure() {
+		var alg = new PrefetchImageSequence<>(paths, ImageType.SB_U8, 2);
+		alg.next();
+		assertEquals(2, alg.pending.size());
+		assertEquals(0, alg.available.size());
+		alg.next();
+		assertEquals(2, alg.pending.size());
+		alg.close();
+		assertEquals(0, alg.pending.size());
+	}
+
+	/**
+	 * An image which can't be loaded should throw an exception but not break the sequence
+	 */
+	@Test void badImage() {
+		paths.set(2, new File(directory, "missing.png").getPath());
+
+		var alg = new PrefetchImageSequence<>(paths, ImageType.SB_U8, 2);
+		for (int i = 0; i < numImages; i++) {
+			if (i == 2) {
+				assertThrows(RuntimeException.class, alg::next);
+				assertEquals(2, alg.getFrameNumber());
+				continue;
+			}
+			BoofTesting.assertEquals(expected.get(i), alg.next(), 0);
+		}
+		assertFalse(alg.hasNext());
+		alg.close();
+	}
+
+	@Test void seek() {
+		var alg = new PrefetchImageSequence<>(paths, ImageType.SB_U8, 2);
+		alg.seek(3);
+		BoofTesting.assertEquals(expected.get(3), alg.next(), 0);
+		alg.reset();
+		BoofTesting.assertEquals(expected.get(0), alg.next(), 0);
+		BoofTesting.assertEquals(expected.get(1), alg.next(), 0);
+		alg.close();
+	}
+
+	/**
+	 * Compare the scaled images against the non-concurrent image sequence
+	 */
+	@Test void targetPixels() {
+		var sequence = new LoadFileImageSequence2<>(paths, ImageType.SB_U8);
+		sequence.setTargetPixels(500);
+
+		var alg = new PrefetchImageSequence<>(paths, ImageType.SB_U8, 3);
+		alg.setTargetPixels(500);
+
+		while (sequence.hasNext()) {
+			assertTrue(alg.hasNext());
+			BoofTesting.assertEquals(sequence.next(), alg.next(), 0);
+		}
+		assertFalse(alg.hasNext());
+		alg.close();
+	}
+}
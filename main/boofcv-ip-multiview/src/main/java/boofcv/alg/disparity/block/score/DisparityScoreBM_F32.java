@@ -79,7 +79,7 @@ public class DisparityScoreBM_F32<DI extends ImageGray<DI>>
 
 		scoreRows.setInput(left, right);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			BoofConcurrency.loopBlocks(0, left.height, regionHeight, workspace, computeBlock);
 		} else {
 			computeBlock.accept((WorkSpace)workspace.get(0), 0, left.height);
@@ -80,7 +80,7 @@ public class DisparityScoreBM_S32<T extends ImageBase<T>, DI extends ImageGray<D
 
 		scoreRows.setInput(left, right);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			BoofConcurrency.loopBlocks(0, left.height, regionHeight, workspace, computeBlock);
 		} else {
 			computeBlock.accept((WorkSpace)workspace.get(0), 0, left.height);
@@ -21,6 +21,7 @@ package boofcv.alg.disparity.sgm;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.Planar;
 import org.ddogleg.struct.DogArray;
 import pabeles.concurrency.GrowArray;
@@ -148,7 +149,7 @@ public class SgmCostAggregation {
 		if (pathsConsidered < 1 || pathsConsidered > 16)
 			throw new IllegalArgumentException("Number of paths must be 1 to 16, inclusive. Not " + pathsConsidered);
 		this.costYXD = costYXD;
-		aggregated.reshape(costYXD);
+		ImagePool.reshapeGlobal(aggregated, costYXD.width, costYXD.height, costYXD.getNumBands());
 		GImageMiscOps.fill(aggregated, 0);
 
 		this.lengthX = costYXD.getHeight();
@@ -195,7 +196,7 @@ public class SgmCostAggregation {
 			}
 		}
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			BoofConcurrency.loopBlocks(0, trajectories.size, 1, workspace, computeBlock);
 		} else {
 			WorkSpace w = workspace.get(0);
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.disparity.sgm;
+
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
+import org.ddogleg.struct.DogArray;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Memory efficient variant of {@link SgmCostAggregation}. The regular implementation requires two tensors of size
+ * H*W*D, one for the cost and another for the aggregated cost. This implementation never declares the cost tensor.
+ * Instead the cost is computed one row at a time, on demand, using {@link SgmDisparityCostRows}. Paths are then
+ * scored in two raster passes, one going down the image and one going up the image. Each path direction only
+ * needs to remember the cost of the previous rows it's connected to, so only a few line buffers are needed for
+ * each direction. The aggregated cost is still a full H*W*D tensor, since every path needs to be summed before
+ * a disparity can be selected, so memory usage is roughly halved. The output is identical to {@link SgmCostAggregation} and can be used by the same
+ * {@link SgmDisparitySelector}.
+ * </p>
+ *
+ * <p>
+ * The price of reducing memory is that the cost for each row is computed twice, once in each pass. This
+ * implementation is also single threaded, since rows need to be processed in order. When processing
+ * multiple stereo pairs at once it's better to process each pair in its own thread.
+ * </p>
+ *
+ * <p>
+ * NOTE: With 16 paths the regular implementation reads uninitialized memory near the left image border,
+ * since the disparity range can grow by two along paths with a step of two along the x-axis. Here the value
+ * at the end of the disparity range is repeated instead. As a result the two will not be identical with 16
+ * paths.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"NullAway.Init"})
+public class SgmCostAggregationLowMemory extends SgmCostAggregation {
+	// Cost for a single row in the image. x=disparity, y=x-axis
+	GrayU16 costXD = new GrayU16(1, 1);
+
+	// Directions which are scored while going down and up the image
+	DogArray<PathDirection> directionsDown = new DogArray<>(PathDirection.class, PathDirection::new);
+	DogArray<PathDirection> directionsUp = new DogArray<>(PathDirection.class, PathDirection::new);
+
+	/**
+	 * Computes the cost one row at a time and aggregates it.
+	 *
+	 * @param cost Computes the cost for a row. Must have already been configured.
+	 * @param left left image
+	 * @param right right image
+	 * @param disparityRange Number of disparity values considered. Must match what cost was configured with.
+	 */
+	public <T extends ImageBase<T>> void process( SgmDisparityCostRows<T> cost, T left, T right, int disparityRange ) {
+		init(left.width, left.height, disparityRange);
+		cost.setImages(left, right);
+
+		// Paths along the x-axis and paths going down the image. This pass also initializes the aggregated cost
+		for (int y = 0; y < lengthY; y++) {
+			cost.processRow(y, costXD);
+			GrayU16 aggrXD = aggregated.getBand(y);
+			Arrays.fill(aggrXD.data, (short)0);
+			for (int i = 0; i < directionsDown.size; i++) {
+				scoreRow(directionsDown.get(i), y, aggrXD);
+			}
+		}
+
+		// Paths going up the image
+		if (directionsUp.size == 0)
+			return;
+		for (int y = lengthY - 1; y >= 0; y--) {
+			cost.processRow(y, costXD);
+			GrayU16 aggrXD = aggregated.getBand(y);
+			for (int i = 0; i < directionsUp.size; i++) {
+				scoreRow(directionsUp.get(i), y, aggrXD);
+			}
+		}
+	}
+
+	/**
+	 * Initializes data structures
+	 */
+	void init( int imageWidth, int imageHeight, int disparityRange ) {
+		if (pathsConsidered < 1 || pathsConsidered > 16)
+			throw new IllegalArgumentException("Number of paths must be 1 to 16, inclusive. Not " + pathsConsidered);
+
+		this.lengthX = imageWidth;
+		this.lengthD = disparityRange;
+		this.lengthY = imageHeight;
+		this.effectiveLengthX = Math.max(0, this.lengthX - disparityMin);
+
+		helper.configure(lengthX, disparityMin, lengthD);
+		ImagePool.reshapeGlobal(aggregated, /* width= */lengthD, /* height= */lengthX, /* numberOfBands= */lengthY);
+		costXD = ImagePool.reshapeGlobal(costXD, lengthD, lengthX);
+
+		// Same directions and same order as the parent
+		directionsDown.reset();
+		directionsUp.reset();
+		if (pathsConsidered >= 1)
+			addDirection(1, 0);
+		if (pathsConsidered >= 2)
+			addDirection(-1, 0);
+		if (pathsConsidered >= 4) {
+			addDirection(0, 1);
+			addDirection(0, -1);
+		}
+		if (pathsConsidered >= 8) {
+			addDirection(1, 1);
+			addDirection(-1, -1);
+			addDirection(-1, 1);
+			addDirection(1, -1);
+		}
+		if (pathsConsidered >= 16) {
+			addDirection(1, 2);
+			addDirection(2, 1);
+			addDirection(2, -1);
+			addDirection(1, -2);
+			addDirection(-1, -2);
+			addDirection(-2, -1);
+			addDirection(-2, 1);
+			addDirection(-1, 2);
+		}
+	}
+
+	private void addDirection( int dx, int dy ) {
+		PathDirection p = dy < 0 ? directionsUp.grow() : directionsDown.grow();
+		p.setTo(dx, dy, lengthX, lengthD);
+	}
+
+	/**
+	 * Computes the path cost for every pixel in row 'y' along a single direction and adds it to the aggregated
+	 * cost. Cost from previous rows along this direction must have already been computed.
+	 */
+	void scoreRow( PathDirection path, int y, GrayU16 aggrXD ) {
+		final int dx = path.dx, dy = path.dy;
+		final short[] workLr = path.rowLr(y);
+		final boolean[] workValid = path.rowValid(y);
+
+		// The previous pixel along this path is in this row if dy=0
+		final int prevY = y - dy;
+		final boolean prevRowInside = prevY >= 0 && prevY < lengthY;
+		final short[] prevLr = prevRowInside ? path.rowLr(prevY) : workLr;
+		final boolean[] prevValid = prevRowInside ? path.rowValid(prevY) : workValid;
+
+		// Traverse the row so that the previous pixel has already been computed when dy=0
+		final int x0 = dx >= 0 ? 0 : effectiveLengthX - 1;
+		final int stepX = dx >= 0 ? 1 : -1;
+		for (int i = 0, x = x0; i < effectiveLengthX; i++, x += stepX) {
+			final int prevX = x - dx;
+			final boolean prevInside = prevRowInside && prevX >= 0 && prevX < effectiveLengthX;
+
+			if (prevInside) {
+				// A pixel is only scored if it's part of a path which started at a valid location
+				workValid[x] = prevValid[prevX];
+				if (!workValid[x])
+					continue;
+				computeCostPath(x, prevX*lengthD, prevLr, workLr);
+			} else {
+				workValid[x] = isPathStart(x, y, dx, dy);
+				if (!workValid[x])
+					continue;
+				computeCostStart(x, workLr);
+			}
+
+			// Add it to the aggregated cost
+			final int localRangeD = helper.localDisparityRangeLeft(x + disparityMin);
+			int idxWork = x*lengthD;
+			int idxAggr = aggrXD.getIndex(0, x);
+			for (int d = 0; d < localRangeD; d++, idxAggr++, idxWork++) {
+				aggrXD.data[idxAggr] = (short)((aggrXD.data[idxAggr] & 0xFFFF) + (workLr[idxWork] & 0xFFFF));
+			}
+		}
+	}
+
+	/**
+	 * Returns true if the parent would have started a path at this pixel. Pixels which are not on a path
+	 * started by the parent are skipped. This only happens with paths that have a step of 2.
+	 */
+	boolean isPathStart( int x, int y, int dx, int dy ) {
+		return (dx > 0 && x == 0) || (dx < 0 && x == effectiveLengthX - 1) ||
+				(dy > 0 && y == 0) || (dy < 0 && y == lengthY - 1);
+	}
+
+	/**
+	 * Cost at the first pixel in a path. There is no previous disparity score so it's just the cost.
+	 */
+	void computeCostStart( int x, short[] workLr ) {
+		final int idxCost = costXD.getIndex(0, x);
+		final int idxLr = x*lengthD;
+		final int localRangeD = helper.localDisparityRangeLeft(x + disparityMin);
+
+		int minCost = Integer.MAX_VALUE;
+		for (int d = 0; d < localRangeD; d++) {
+			int v = costXD.data[idxCost + d] & 0xFFFF;
+			workLr[idxLr + d] = (short)v;
+			minCost = Math.min(minCost, v);
+		}
+		// The modified equation 13. Cost Equation 12 - min[k] Lr(p,k)
+		for (int d = 0; d < localRangeD; d++) {
+			workLr[idxLr + d] = (short)((workLr[idxLr + d] & 0xFFFF) - minCost);
+		}
+		fillOutsideRange(idxLr, localRangeD, workLr);
+	}
+
+	/**
+	 * Computes the cost using equation (12) given the cost at the previous pixel along the path.
+	 * See {@link SgmCostAggregation#scorePath} for a discussion of changes from the paper.
+	 *
+	 * @param idxLrPrev index of Lr(p-r,0)
+	 */
+	void computeCostPath( int x, int idxLrPrev, short[] prevLr, short[] workLr ) {
+		final int idxCost = costXD.getIndex(0, x);
+		final int idxLr = x*lengthD;
+		final int localRangeD = helper.localDisparityRangeLeft(x + disparityMin);
+		final int penalty1 = this.penalty1;
+		final int penalty2 = this.penalty2;
+
+		for (int d = 0; d < localRangeD; d++) {
+			int cost = costXD.data[idxCost + d] & 0xFFFF; // C(p,d)
+
+			int a = prevLr[idxLrPrev + d] & 0xFFFF; // Lr(p-r,d)
+			int b = d > 0 ? prevLr[idxLrPrev + d - 1] & 0xFFFF : SgmDisparityCost.MAX_COST; // Lr(p-r,d-1)
+			int c = d < localRangeD - 1 ? prevLr[idxLrPrev + d + 1] & 0xFFFF : SgmDisparityCost.MAX_COST; // Lr(p-r,d+1)
+
+			// Add penalty terms
+			b += penalty1;
+			c += penalty1;
+
+			// Find the minimum of the three scores
+			if (b < a)
+				a = b;
+			if (c < a)
+				a = c;
+			if (penalty2 < a)
+				a = penalty2;
+
+			workLr[idxLr + d] = (short)(cost + a);
+		}
+
+		// The parent copies the end of the range before the minimum has been subtracted
+		fillOutsideRange(idxLr, localRangeD, workLr);
+
+		// The modified equation 13. Cost Equation 12 - min[k] Lr(p,k)
+		int minCost = Integer.MAX_VALUE;
+		for (int d = 0; d < localRangeD; d++) {
+			minCost = Math.min(minCost, workLr[idxLr + d] & 0xFFFF);
+		}
+		for (int d = 0; d < localRangeD; d++) {
+			workLr[idxLr + d] = (short)((workLr[idxLr + d] & 0xFFFF) - minCost);
+		}
+	}
+
+	/**
+	 * The next pixel in a path can have a larger disparity range. Copy the last value so that
+	 * it's never reading an unassigned value. See comments in {@link SgmCostAggregation#scorePath}.
+	 */
+	private void fillOutsideRange( int idxLr, int localRangeD, short[] workLr ) {
+		final short last = workLr[idxLr + localRangeD - 1];
+		final int end = Math.min(localRangeD + 2, lengthD);
+		for (int d = localRangeD; d < end; d++) {
+			workLr[idxLr + d] = last;
+		}
+	}
+
+	/**
+	 * Storage for the path cost along a single direction. Only the rows which can be referenced by the
+	 * next row are saved.
+	 */
+	static class PathDirection {
+		int dx, dy;
+		// Lr for each of the saved rows. Row major (x, d)
+		short[][] workLr = new short[0][];
+		// If a pixel is on a path or not
+		boolean[][] valid = new boolean[0][];
+
+		void setTo( int dx, int dy, int lengthX, int lengthD ) {
+			this.dx = dx;
+			this.dy = dy;
+			int numRows = Math.abs(dy) + 1;
+			if (workLr.length != numRows || workLr[0].length != lengthX*lengthD) {
+				workLr = new short[numRows][lengthX*lengthD];
+				valid = new boolean[numRows][lengthX];
+			}
+		}
+
+		short[] rowLr( int y ) {
+			return workLr[y%workLr.length];
+		}
+
+		boolean[] rowValid( int y ) {
+			return valid[y%valid.length];
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.disparity.sgm;
+
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.ImageBase;
+
+/**
+ * A {@link SgmDisparityCost} which can compute the cost one image row at a time. This allows the cost to be computed
+ * on demand without ever declaring the entire cost tensor, see {@link SgmCostAggregationLowMemory}.
+ *
+ * @author Peter Abeles
+ */
+public interface SgmDisparityCostRows<T extends ImageBase<T>> extends SgmDisparityCost<T> {
+	/**
+	 * Specifies the images which the cost will be computed from. Must be called before {@link #processRow}.
+	 *
+	 * @param left left image
+	 * @param right right image
+	 */
+	void setImages( T left, T right );
+
+	/**
+	 * Computes the cost for a single row in the image. This is identical to band 'row' in the tensor computed
+	 * by {@link #process}.
+	 *
+	 * @param row The image row
+	 * @param costXD (Output) Cost for the row. Must have a width of disparityRange and height of image width.
+	 */
+	void processRow( int row, GrayU16 costXD );
+}
@@ -61,6 +61,55 @@ public abstract class SgmStereoDisparity<T extends ImageBase<T>, C extends Image
 	 */
 	public abstract void process( T left, T right );
 
+	/**
+	 * Computes the cost and aggregates it. In low memory mode the cost tensor is never declared and
+	 * the cost is computed one row at a time instead.
+	 *
+	 * @param disparityRange The disparity range the cost was configured with
+	 */
+	@SuppressWarnings("unchecked")
+	protected void aggregateCost( C left, C right, int disparityRange ) {
+		if (aggregation instanceof SgmCostAggregationLowMemory) {
+			((SgmCostAggregationLowMemory)aggregation).process(
+					(SgmDisparityCostRows<C>)sgmCost, left, right, disparityRange);
+		} else {
+			// Compute the cost for all pixels and disparities
+			sgmCost.process(left, right, costYXD);
+			// Aggregate the cost along all the paths
+			aggregation.process(costYXD);
+		}
+	}
+
+	/**
+	 * If true then {@link SgmCostAggregationLowMemory} will be used to aggregate the cost. This reduces
+	 * memory usage by not declaring the cost tensor, but the cost is computed twice. Only costs which implement
+	 * {@link SgmDisparityCostRows} are supported. Results are identical for up to 8 paths.
+	 */
+	public void setLowMemory( boolean lowMemory ) {
+		if (lowMemory == isLowMemory())
+			return;
+		if (lowMemory && !(sgmCost instanceof SgmDisparityCostRows))
+			throw new IllegalArgumentException("Low memory requires a cost which can be computed one row at a time. " +
+					sgmCost.getClass().getSimpleName());
+
+		SgmCostAggregation replacement = lowMemory ? new SgmCostAggregationLowMemory() : new SgmCostAggregation();
+		replacement.setPathsConsidered(aggregation.getPathsConsidered());
+		replacement.setPenalty1(aggregation.getPenalty1());
+		replacement.setPenalty2(aggregation.getPenalty2());
+
+		// Give the volumes which are no longer used back to the ImagePool
+		ImagePool.releaseGlobal(aggregation.getAggregated());
+		ImagePool.releaseGlobal(costYXD);
+		aggregation = replacement;
+
+		// Discard the cost tensor since it's no longer used
+		costYXD = new Planar<>(GrayU16.class, 1, 1, 1);
+	}
+
+	public boolean isLowMemory() {
+		return aggregation instanceof SgmCostAggregationLowMemory;
+	}
+
 	// TODO remove need to compute U8 first
 	public void subpixel( GrayU8 src, GrayF32 dst ) {
 		dst.reshape(src);
@@ -103,6 +152,9 @@ public abstract class SgmStereoDisparity<T extends ImageBase<T>, C extends Image
 		return aggregation;
 	}
 
+	/**
+	 * Returns the cost tensor. Not used in low memory mode.
+	 */
 	public Planar<GrayU16> getCostYXD() {
 		return costYXD;
 	}
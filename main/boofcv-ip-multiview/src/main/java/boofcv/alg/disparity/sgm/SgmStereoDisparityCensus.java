@@ -64,10 +64,8 @@ public class SgmStereoDisparityCensus<T extends ImageBase<T>, C extends ImageGra
 		sgmCost.configure(disparityMin, disparityRange);
 		aggregation.configure(disparityMin);
 
-		// Compute the cost using mutual information
-		sgmCost.process(cleft, cright, costYXD);
-		// Aggregate the cost along all the paths
-		aggregation.process(costYXD);
+		// Compute the cost and aggregate it along all the paths
+		aggregateCost(cleft, cright, disparityRange);
 
 		// Select the best disparity for each pixel given the cost
 		selector.setDisparityMin(disparityMin);
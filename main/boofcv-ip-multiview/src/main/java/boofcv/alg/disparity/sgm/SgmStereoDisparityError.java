@@ -46,10 +46,8 @@ public class SgmStereoDisparityError<T extends ImageBase<T>>
 		sgmCost.configure(disparityMin, disparityRange);
 		aggregation.configure(disparityMin);
 
-		// Compute the cost using mutual information
-		sgmCost.process(left, right, costYXD);
-		// Aggregate the cost along all the paths
-		aggregation.process(costYXD);
+		// Compute the cost and aggregate it along all the paths
+		aggregateCost(left, right, disparityRange);
 
 		// Select the best disparity for each pixel given the cost
 		selector.setDisparityMin(disparityMin);
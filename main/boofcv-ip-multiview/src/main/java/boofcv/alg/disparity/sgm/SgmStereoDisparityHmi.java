@@ -140,8 +140,7 @@ public class SgmStereoDisparityHmi extends SgmStereoDisparityError<GrayU8> {
 			}
 			sgmCost.configure(levelDisparityMin, levelDisparityRange);
 			aggregation.configure(levelDisparityMin);
-			sgmCost.process(levelLeft, levelRight, costYXD);
-			aggregation.process(costYXD);
+			aggregateCost(levelLeft, levelRight, levelDisparityRange);
 			selector.setDisparityMin(levelDisparityMin); // todo move to function below
 			selector.select(costYXD, aggregation.getAggregated(), disparity);
 
@@ -157,8 +156,7 @@ public class SgmStereoDisparityHmi extends SgmStereoDisparityError<GrayU8> {
 			stereoMI.precomputeScaledCost(SgmDisparityCost.MAX_COST);
 			sgmCost.configure(disparityMin, disparityRange);
 			aggregation.configure(disparityMin);
-			sgmCost.process(left, right, costYXD);
-			aggregation.process(costYXD);
+			aggregateCost(left, right, disparityRange);
 			selector.setDisparityMin(disparityMin);
 			selector.select(costYXD, aggregation.getAggregated(), disparity);
 		}
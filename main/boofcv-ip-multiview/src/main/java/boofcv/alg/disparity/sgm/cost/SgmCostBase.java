@@ -20,8 +20,10 @@ package boofcv.alg.disparity.sgm.cost;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.disparity.sgm.SgmDisparityCost;
+import boofcv.alg.disparity.sgm.SgmDisparityCostRows;
 import boofcv.struct.image.GrayU16;
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.Planar;
 
 /**
@@ -31,7 +33,7 @@ import boofcv.struct.image.Planar;
  * @author Peter Abeles
  */
 @SuppressWarnings({"NullAway.Init"})
-public abstract class SgmCostBase<T extends ImageBase<T>> implements SgmDisparityCost<T> {
+public abstract class SgmCostBase<T extends ImageBase<T>> implements SgmDisparityCostRows<T> {
 	protected T left, right;
 	protected GrayU16 costXD;
 
@@ -46,35 +48,45 @@ public abstract class SgmCostBase<T extends ImageBase<T>> implements SgmDisparit
 
 	@Override
 	public void process( T left, T right, Planar<GrayU16> costYXD ) {
+		setImages(left, right);
+
+		// Declare the "tensor" with shape (lengthY,lengthX,lengthD)
+		ImagePool.reshapeGlobal(costYXD, /* width= */disparityRange, /* height= */left.width, /* numberOfBands= */left.height);
+
+		for (int y = 0; y < left.height; y++) {
+			processRow(y, costYXD.getBand(y));
+		}
+	}
+
+	@Override
+	public void setImages( T left, T right ) {
 		InputSanityCheck.checkSameShape(left, right);
 		if (disparityRange == 0)
 			throw new IllegalArgumentException("disparityRange is 0. Did you call configure()?");
 		this.left = left;
 		this.right = right;
+	}
 
-		// Declare the "tensor" with shape (lengthY,lengthX,lengthD)
-		costYXD.reshape(/* width= */disparityRange, /* height= */left.width, /* numberOfBands= */left.height);
-
-		for (int y = 0; y < left.height; y++) {
-			costXD = costYXD.getBand(y);
+	@Override
+	public void processRow( int y, GrayU16 costXD ) {
+		this.costXD = costXD;
 
-			int idxLeft = left.startIndex + y*left.stride + disparityMin;
+		int idxLeft = left.startIndex + y*left.stride + disparityMin;
 
-			for (int x = disparityMin; x < left.width; x++, idxLeft++) {
-				int idxOut = costXD.startIndex + (x - disparityMin)*costYXD.stride;
+		for (int x = disparityMin; x < left.width; x++, idxLeft++) {
+			int idxOut = costXD.startIndex + (x - disparityMin)*costXD.stride;
 
-				// The local limits on ranges that can be examined
-				int localRange = Math.min(disparityRange, x - disparityMin + 1);
+			// The local limits on ranges that can be examined
+			int localRange = Math.min(disparityRange, x - disparityMin + 1);
 
-				// start reading the right image at the smallest disparity then increase disparity size
-				int idxRight = right.startIndex + y*right.stride + x - disparityMin;
+			// start reading the right image at the smallest disparity then increase disparity size
+			int idxRight = right.startIndex + y*right.stride + x - disparityMin;
 
-				computeDisparityErrors(idxLeft, idxRight, idxOut, localRange);
+			computeDisparityErrors(idxLeft, idxRight, idxOut, localRange);
 
-				// Fill in the disparity values outside the image with max cost
-				for (int d = localRange; d < disparityRange; d++) {
-					costXD.data[idxOut + d] = SgmDisparityCost.MAX_COST;
-				}
+			// Fill in the disparity values outside the image with max cost
+			for (int d = localRange; d < disparityRange; d++) {
+				costXD.data[idxOut + d] = SgmDisparityCost.MAX_COST;
 			}
 		}
 	}
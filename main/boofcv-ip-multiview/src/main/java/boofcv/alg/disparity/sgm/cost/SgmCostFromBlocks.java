@@ -27,6 +27,7 @@ import boofcv.misc.Compare_S32;
 import boofcv.struct.image.GrayU16;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.Planar;
 
 /**
@@ -57,7 +58,7 @@ public class SgmCostFromBlocks<T extends ImageBase<T>>
 	public void process( T left, T right, Planar<GrayU16> costYXD ) {
 		InputSanityCheck.checkSameShape(left, right);
 		this.costYXD = costYXD;
-		costYXD.reshape(/* width= */disparityRange, /* height= */left.width, /* numberOfBands= */left.height);
+		ImagePool.reshapeGlobal(costYXD, /* width= */disparityRange, /* height= */left.width, /* numberOfBands= */left.height);
 		maxRegionError = blockScore.getMaxRegionError();
 		blockScore.process(left, right, dummy);
 	}
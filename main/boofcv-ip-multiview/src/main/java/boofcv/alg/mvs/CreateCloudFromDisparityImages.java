@@ -19,6 +19,7 @@
 package boofcv.alg.mvs;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.cloud.PointCloudWriter;
 import boofcv.alg.misc.ImageStatistics;
 import boofcv.struct.calib.CameraPinhole;
 import boofcv.struct.distort.PixelTransform;
@@ -34,6 +35,7 @@ import lombok.Getter;
 import org.ddogleg.struct.DogArray;
 import org.ddogleg.struct.DogArray_I32;
 import org.ejml.UtilEjml;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -42,6 +44,10 @@ import java.util.List;
  * to the cloud. Initially the cloud is kept in separate lists to make it easy to see which view contributed
  * what points to the cloud.
  *
+ * Points can also be passed to a {@link PointCloudWriter} along with their color as soon as they are found, e.g.
+ * to stream them to disk. Colors are then never stored. The point locations are always kept in memory since they
+ * are needed to avoid adding the same point twice.
+ *
  * @author Peter Abeles
  */
 public class CreateCloudFromDisparityImages {
@@ -96,6 +102,22 @@ public class CreateCloudFromDisparityImages {
 	public int addDisparity( GrayF32 disparity, GrayU8 mask, Se3_F64 world_to_view, DisparityParameters parameters,
 							 Point2Transform2_F64 rectNorm_to_dispPixel,
 							 PixelTransform<Point2D_F64> dispPixel_to_rectNorm ) {
+		return addDisparity(disparity, mask, world_to_view, parameters,
+				rectNorm_to_dispPixel, dispPixel_to_rectNorm, null, null);
+	}
+
+	/**
+	 * Same as {@link #addDisparity(GrayF32, GrayU8, Se3_F64, DisparityParameters, Point2Transform2_F64, PixelTransform)}
+	 * but each new point is also passed to 'output' with its color as soon as it's found.
+	 *
+	 * @param output (Output) New points are passed to this writer. If null then nothing is written.
+	 * @param pixelColor (Input) Color of a pixel in the disparity image. If null then the color is zero.
+	 * @return The index of the view that can be used to retrieve the specified points added
+	 */
+	public int addDisparity( GrayF32 disparity, GrayU8 mask, Se3_F64 world_to_view, DisparityParameters parameters,
+							 Point2Transform2_F64 rectNorm_to_dispPixel,
+							 PixelTransform<Point2D_F64> dispPixel_to_rectNorm,
+							 @Nullable PointCloudWriter output, @Nullable PixelColor pixelColor ) {
 		InputSanityCheck.checkSameShape(disparity, mask);
 
 		MultiViewStereoOps.maskOutPointsInCloud(cloud.toList(), disparity, parameters, world_to_view,
@@ -145,7 +167,11 @@ public class CreateCloudFromDisparityImages {
 				GeometryMath_F64.multTran(parameters.rotateToRectified, rectP, leftP);
 
 				// Left to world frame
-				SePointOps_F64.transformReverse(world_to_view, leftP, cloud.grow());
+				Point3D_F64 worldP = cloud.grow();
+				SePointOps_F64.transformReverse(world_to_view, leftP, worldP);
+
+				if (output != null)
+					output.add(worldP.x, worldP.y, worldP.z, pixelColor == null ? 0 : pixelColor.rgb(x, y));
 			}
 		}
 
@@ -154,4 +180,13 @@ public class CreateCloudFromDisparityImages {
 
 		return this.viewPointIdx.size - 1;
 	}
+
+	/**
+	 * Looks up the color of a pixel in the disparity image
+	 */
+	@FunctionalInterface
+	public interface PixelColor {
+		/** Returns the RGB color of the pixel in the disparity image */
+		int rgb( int x, int y );
+	}
 }
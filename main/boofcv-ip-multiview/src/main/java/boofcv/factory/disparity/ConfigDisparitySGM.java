@@ -63,8 +63,15 @@ public class ConfigDisparitySGM implements Configuration {
 	public Paths paths = Paths.P8;
 	/** Which error model should it use */
 	public DisparitySgmError errorType = DisparitySgmError.CENSUS;
-	/** If true it will use block variants of errors. */
+	/** If true it will use block variants of errors. Ignored if {@link #lowMemory} is true. */
 	public boolean useBlocks = true;
+	/**
+	 * If true then the cost is computed one row at a time and the full cost tensor is never declared. This
+	 * roughly halves memory usage but is slower. The aggregated cost is still a full H*W*D tensor, since all the
+	 * paths need to be summed before the best disparity can be selected. Block variants of errors can't be
+	 * computed one row at a time, so when true the per-pixel error is used and {@link #useBlocks} is ignored.
+	 */
+	public boolean lowMemory = false;
 	/** Used if error type is Census */
 	public ConfigDisparityError.Census configCensus = new ConfigDisparityError.Census();
 	/** Used if error type is HMI */
@@ -89,6 +96,7 @@ public class ConfigDisparitySGM implements Configuration {
 		this.paths = src.paths;
 		this.errorType = src.errorType;
 		this.useBlocks = src.useBlocks;
+		this.lowMemory = src.lowMemory;
 		this.configCensus.setTo(src.configCensus);
 		this.configHMI.setTo(src.configHMI);
 		this.configBlockMatch.setTo(src.configBlockMatch);
@@ -54,7 +54,7 @@ public class FactoryStereoDisparityAlgs {
 
 		int maxError = config.maxError < 0 ? Integer.MAX_VALUE : config.maxError;
 
-		SgmDisparitySelector selector = BoofConcurrency.USE_CONCURRENT ?
+		SgmDisparitySelector selector = BoofConcurrency.isUseConcurrent() ?
 				new SgmDisparitySelector_MT() : new SgmDisparitySelector();
 		selector.setRightToLeftTolerance(config.validateRtoL);
 		selector.setMaxError(maxError);
@@ -63,13 +63,15 @@ public class FactoryStereoDisparityAlgs {
 		SgmStereoDisparity sgm;
 
 		// There's currently no block variant of MI
-		if (!config.useBlocks)
+		// Block costs can't be computed one row at a time, so low memory always uses the per-pixel cost
+		if (!config.useBlocks || config.lowMemory)
 			sgm = createSgmNativeCost(config, selector);
 		else
 			sgm = createSgmBlockCost(config, selector, GrayU8.class);
 
 		sgm.setDisparityMin(config.disparityMin);
 		sgm.setDisparityRange(config.disparityRange);
+		sgm.setLowMemory(config.lowMemory);
 		sgm.getAggregation().setPathsConsidered(config.paths.getCount());
 		sgm.getAggregation().setPenalty1(config.penaltySmallChange);
 		sgm.getAggregation().setPenalty2(config.penaltyLargeChange);
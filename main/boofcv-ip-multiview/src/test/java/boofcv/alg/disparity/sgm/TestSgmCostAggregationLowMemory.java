@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.disparity.sgm;
+
+import boofcv.BoofTesting;
+import boofcv.alg.disparity.sgm.cost.SgmCostAbsoluteDifference;
+import boofcv.alg.disparity.sgm.cost.SgmCostFromBlocks;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.Planar;
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestSgmCostAggregationLowMemory extends BoofStandardJUnit {
+	int width = 31, height = 23;
+
+	GrayU8 left = new GrayU8(width, height);
+	GrayU8 right = new GrayU8(width, height);
+
+	@BeforeEach
+	void setup() {
+		BoofConcurrency.USE_CONCURRENT = false;
+		ImageMiscOps.fillUniform(left, rand, 0, 255);
+		ImageMiscOps.fillUniform(right, rand, 0, 255);
+	}
+
+	/**
+	 * Output should be identical to the regular implementation
+	 */
+	@Test void compareToRegular() {
+		for (int paths : new int[]{1, 2, 4, 8}) {
+			for (int disparityMin : new int[]{0, 3}) {
+				for (int disparityRange : new int[]{1, 5, 12}) {
+					compareToRegular(paths, disparityMin, disparityRange);
+				}
+			}
+		}
+	}
+
+	void compareToRegular( int paths, int disparityMin, int disparityRange ) {
+		var cost = new SgmCostAbsoluteDifference.U8();
+		cost.configure(disparityMin, disparityRange);
+		var costYXD = new Planar<>(GrayU16.class, 1, 1, 1);
+		cost.process(left, right, costYXD);
+
+		var expected = new SgmCostAggregation();
+		expected.configure(disparityMin);
+		expected.setPathsConsidered(paths);
+		expected.process(costYXD);
+
+		var alg = new SgmCostAggregationLowMemory();
+		alg.configure(disparityMin);
+		alg.setPathsConsidered(paths);
+		alg.process(cost, left, right, disparityRange);
+
+		BoofTesting.assertEquals(expected.getAggregated(), alg.getAggregated(), 0.0);
+	}
+
+	/**
+	 * Does it produce the same results when called multiple times with the same input?
+	 */
+	@Test void process_MultipleCalls() {
+		var cost = new SgmCostAbsoluteDifference.U8();
+		cost.configure(2, 10);
+
+		var alg = new SgmCostAggregationLowMemory();
+		for (int paths : new int[]{1, 2, 4, 8, 16}) {
+			alg.setPathsConsidered(paths);
+			alg.process(cost, left, right, 10);
+			Planar<GrayU16> expected = alg.getAggregated().clone();
+			alg.process(cost, left, right, 10);
+
+			BoofTesting.assertEquals(expected, alg.getAggregated(), 0.0);
+		}
+	}
+
+	/**
+	 * With a step of two along the x-axis the 16 path variant skips pixels which are not on a path. Make sure
+	 * that's done the same as the regular implementation. Differences only appear when the disparity range is
+	 * more than one.
+	 */
+	@Test void paths16_pathCoverage() {
+		compareToRegular(16, 0, 1);
+		compareToRegular(16, 4, 1);
+	}
+
+	@Test void isPathStart() {
+		var alg = new SgmCostAggregationLowMemory();
+		alg.effectiveLengthX = 10;
+		alg.lengthY = 8;
+
+		assertTrue(alg.isPathStart(0, 4, 1, 0));
+		assertFalse(alg.isPathStart(9, 4, 1, 0));
+		assertTrue(alg.isPathStart(9, 4, -1, 0));
+		assertTrue(alg.isPathStart(4, 0, 0, 1));
+		assertTrue(alg.isPathStart(4, 7, 0, -1));
+		assertFalse(alg.isPathStart(1, 4, 2, 1));
+		assertTrue(alg.isPathStart(1, 0, 2, 1));
+	}
+
+	/**
+	 * Switching to low memory in the full pipeline should produce the same disparity
+	 */
+	@Test void stereoDisparity_lowMemory() {
+		SgmStereoDisparity<GrayU8, GrayU8> expected =
+				new SgmStereoDisparityError<>(new SgmCostAbsoluteDifference.U8(), new SgmDisparitySelector());
+		SgmStereoDisparity<GrayU8, GrayU8> alg =
+				new SgmStereoDisparityError<>(new SgmCostAbsoluteDifference.U8(), new SgmDisparitySelector());
+		alg.getAggregation().setPenalty1(150);
+		alg.setLowMemory(true);
+		assertTrue(alg.isLowMemory());
+		assertEquals(150, alg.getAggregation().getPenalty1());
+		expected.getAggregation().setPenalty1(150);
+
+		for (SgmStereoDisparity<GrayU8, GrayU8> a : new SgmStereoDisparity[]{expected, alg}) {
+			a.setDisparityMin(2);
+			a.setDisparityRange(12);
+			a.process(left, right);
+		}
+
+		BoofTesting.assertEquals(expected.getDisparity(), alg.getDisparity(), 0.0);
+	}
+
+	/**
+	 * Costs which can't be computed one row at a time are not allowed
+	 */
+	@Test void stereoDisparity_lowMemory_blocksNotSupported() {
+		SgmStereoDisparity<GrayU8, GrayU8> alg = new SgmStereoDisparityError<>(
+				new SgmCostFromBlocks<>(), new SgmDisparitySelector());
+		assertThrows(IllegalArgumentException.class, () -> alg.setLowMemory(true));
+	}
+}
@@ -18,6 +18,7 @@
 
 package boofcv.alg.mvs;
 
+import boofcv.alg.cloud.PointCloudWriter;
 import boofcv.alg.distort.pinhole.LensDistortionPinhole;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.misc.ImageStatistics;
@@ -124,6 +125,36 @@ public class TestCreateCloudFromDisparityImages extends BoofStandardJUnit {
 		assertEquals(2, alg.viewPointIdx.size);
 	}
 
+	/**
+	 * New points should be passed to the writer with their color as they are added. Points which are already in
+	 * the cloud should not be written again.
+	 */
+	@Test void addDisparity_stream() {
+		var disparity = new GrayF32(width, height);
+		GrayU8 mask = disparity.createSameShape(GrayU8.class);
+		ImageMiscOps.fillUniform(disparity, rand, 0, disparityRange - 1.0f);
+
+		var alg = new CreateCloudFromDisparityImages();
+		alg.reset();
+
+		var found = new PointCloudWriter.CloudArraysF32();
+		alg.addDisparity(disparity, mask, world_to_view, parameters, n_to_p, p_to_n, found, ( x, y ) -> y*width + x);
+		assertEquals(width*height, found.cloudRgb.size);
+		for (int i = 0; i < found.cloudRgb.size; i++) {
+			// Every pixel is valid so the color is the same as the index
+			assertEquals(i, found.cloudRgb.get(i));
+			Point3D_F64 p = alg.cloud.get(i);
+			assertEquals(p.x, found.cloudXyz.get(i*3), 1e-4);
+			assertEquals(p.y, found.cloudXyz.get(i*3 + 1), 1e-4);
+			assertEquals(p.z, found.cloudXyz.get(i*3 + 2), 1e-4);
+		}
+
+		// Nothing new should be written the second time
+		ImageMiscOps.fill(mask, 0);
+		alg.addDisparity(disparity, mask, world_to_view, parameters, n_to_p, p_to_n, found, null);
+		assertEquals(width*height, found.cloudRgb.size);
+	}
+
 	/**
 	 * Checks to see it obeys the similarity tolerance
 	 */
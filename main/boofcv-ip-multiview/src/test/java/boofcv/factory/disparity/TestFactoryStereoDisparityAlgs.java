@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.disparity;
+
+import boofcv.alg.disparity.sgm.SgmStereoDisparity;
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+class TestFactoryStereoDisparityAlgs extends BoofStandardJUnit {
+	/**
+	 * Only setting lowMemory should be enough. Block errors are the default and must be ignored.
+	 */
+	@Test void createSgm_lowMemory() {
+		var config = new ConfigDisparitySGM();
+		assertTrue(config.useBlocks);
+		config.lowMemory = true;
+		config.checkValidity();
+
+		for (DisparitySgmError error : DisparitySgmError.values()) {
+			config.errorType = error;
+			SgmStereoDisparity<?, ?> alg = FactoryStereoDisparityAlgs.createSgm(config);
+			assertTrue(alg.isLowMemory());
+		}
+
+		config.lowMemory = false;
+		assertFalse(FactoryStereoDisparityAlgs.createSgm(config).isLowMemory());
+	}
+}
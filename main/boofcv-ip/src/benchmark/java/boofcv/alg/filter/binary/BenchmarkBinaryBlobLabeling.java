@@ -58,6 +58,8 @@ public class BenchmarkBinaryBlobLabeling {
 
 	LinearContourLabelChang2004 chang4 = new LinearContourLabelChang2004(ConnectRule.FOUR);
 	LinearContourLabelChang2004 chang8 = new LinearContourLabelChang2004(ConnectRule.EIGHT);
+	LinearContourLabelChang2004 chang4_MT = new LinearContourLabelChang2004_MT(ConnectRule.FOUR);
+	LinearContourLabelChang2004 chang8_MT = new LinearContourLabelChang2004_MT(ConnectRule.EIGHT);
 
 	@Setup
 	public void setup() {
@@ -80,6 +82,8 @@ public class BenchmarkBinaryBlobLabeling {
 
 	@Benchmark public void Chang2004_4() { input.setTo(original); chang4.process(input, output); }
 	@Benchmark public void Chang2004_8() { input.setTo(original); chang8.process(input, output); }
+	@Benchmark public void Chang2004_4_MT() { input.setTo(original); chang4_MT.process(input, output); }
+	@Benchmark public void Chang2004_8_MT() { input.setTo(original); chang8_MT.process(input, output); }
 
 	public static void main(String[] args) throws RunnerException {
 		Options opt = new OptionsBuilder()
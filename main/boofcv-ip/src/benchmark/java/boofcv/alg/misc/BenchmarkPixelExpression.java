@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a chain of {@link PixelMath} calls against the same chain in a {@link PixelExpression}
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BenchmarkPixelExpression {
+	@Param({"true", "false"})
+	public boolean concurrent;
+
+	@Param({"2000"})
+	public int size;
+
+	GrayU8 input = new GrayU8(size, size);
+	GrayF32 work = new GrayF32(size, size);
+	GrayU8 output = new GrayU8(size, size);
+
+	PixelExpression expression;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		Random rand = new Random(234);
+
+		input.reshape(size, size);
+		work.reshape(size, size);
+		output.reshape(size, size);
+
+		GImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		expression = PixelExpression.of(input).multiply(1.5).plus(10).bound(0, 255);
+	}
+
+	@Benchmark public void chained() {
+		PixelMath.multiply(input, 1.5f, work);
+		PixelMath.plus(work, 10.0f, work);
+		PixelMath.boundImage(work, 0.0f, 255.0f);
+		ConvertImage.convert(work, output);
+	}
+
+	// @formatter:off
+	@Benchmark public void expression() {expression.process(output);}
+	// @formatter:on
+
+	public static void main( String[] args ) throws RunnerException {
+		Options opt = new OptionsBuilder()
+				.include(BenchmarkPixelExpression.class.getSimpleName())
+				.warmupTime(TimeValue.seconds(1))
+				.measurementTime(TimeValue.seconds(1))
+				.build();
+
+		new Runner(opt).run();
+	}
+}
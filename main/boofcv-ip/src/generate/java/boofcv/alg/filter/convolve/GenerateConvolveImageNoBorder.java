@@ -155,7 +155,7 @@ public class GenerateConvolveImageNoBorder extends CodeGeneratorBase {
 				inputName+" input", outputName+" output"+divideArg,workspaceArg));
 		out.print("\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\n");
-		out.print("\t\tif (BoofConcurrency.USE_CONCURRENT) {\n");
+		out.print("\t\tif (BoofConcurrency.isUseConcurrent()) {\n");
 		if( singleBand ) {
 			if (unrolled)
 				out.print("\t\t\tif (!ConvolveImageUnrolled_SB_MT_"+typeIn+"_"+typeOut+divideSuf+"."+name+"(kernel, input, output"+divideInput+workspaceInput+"))\n\t");
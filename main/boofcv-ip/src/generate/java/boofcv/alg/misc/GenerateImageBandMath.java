@@ -102,7 +102,7 @@ public class GenerateImageBandMath extends CodeGeneratorBase {
 			"\t */\n" +
 			"\tpublic static void "+action+"(Planar<"+band+"> input, "+band+" output) {\n" +
 			"\t\toutput.reshape(input.width,input.height);\n" +
-			"\t\tif (BoofConcurrency.USE_CONCURRENT) {\n" +
+			"\t\tif (BoofConcurrency.isUseConcurrent()) {\n" +
 			"\t\t\tImplImageBandMath_MT."+action+"(input, output, 0, input.getNumBands() - 1);\n" +
 			"\t\t} else {\n" +
 			"\t\t\tImplImageBandMath."+action+"(input, output, 0, input.getNumBands() - 1);\n" +
@@ -120,7 +120,7 @@ public class GenerateImageBandMath extends CodeGeneratorBase {
 			"\tpublic static void "+action+"(Planar<"+band+"> input, "+band+" output, int startBand, int lastBand) {\n" +
 			"\t\tcheckInput(input, startBand, lastBand);\n" +
 			"\t\toutput.reshape(input.width,input.height);\n" +
-			"\t\tif (BoofConcurrency.USE_CONCURRENT) {\n" +
+			"\t\tif (BoofConcurrency.isUseConcurrent()) {\n" +
 			"\t\t\tImplImageBandMath_MT."+action+"(input, output, startBand, lastBand);\n" +
 			"\t\t} else {\n" +
 			"\t\t\tImplImageBandMath."+action+"(input, output, startBand, lastBand);\n" +
@@ -159,7 +159,7 @@ public class GenerateImageBandMath extends CodeGeneratorBase {
 			"\t\t\tavg = new "+band+"(input.width,input.height);\n" +
 			"\t\t\taverage(input,avg,startBand,lastBand);\n" +
 			"\t\t}\n" +
-			"\t\tif (BoofConcurrency.USE_CONCURRENT) {\n" +
+			"\t\tif (BoofConcurrency.isUseConcurrent()) {\n" +
 			"\t\t\tImplImageBandMath_MT.stdDev(input,output,avg,startBand,lastBand);\n" +
 			"\t\t} else {\n" +
 			"\t\t\tImplImageBandMath.stdDev(input,output,avg,startBand,lastBand);\n" +
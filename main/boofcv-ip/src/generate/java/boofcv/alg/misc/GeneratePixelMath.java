@@ -149,7 +149,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 						"\n" +
 						"\t\tint columns = " + columns + ";\n" +
 						"\t\tint N = input.width*input.height;\n" +
-						"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+						"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 						"\t\t\tImplPixelMath_MT." + funcName + "(input.data, input.startIndex, input.stride,\n" +
 						"\t\t\t\t\toutput.data, output.startIndex, output.stride,\n" +
 						"\t\t\t\t\tinput.height, columns);\n" +
@@ -192,7 +192,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 						"\n" +
 						"\t\tint columns = "+columns+";\n" +
 						"\t\tint N = input.width*input.height;\n" +
-						"\t\tif (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+						"\t\tif (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 						"\t\t\tImplPixelMath_MT.operator1(input.data, input.startIndex, input.stride,\n" +
 						"\t\t\t\t\toutput.data, output.startIndex, output.stride,\n" +
 						"\t\t\t\t\tinput.height, columns, function);\n" +
@@ -238,7 +238,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 						"\n" +
 						"\t\tint columns = " + columns + ";\n" +
 						"\t\tint N = imgA.width*imgA.height;\n" +
-						"\t\tif (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+						"\t\tif (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 						"\t\t\tImplPixelMath_MT.operator2(imgA.data, imgA.startIndex, imgA.stride,\n" +
 						"\t\t\t\t\timgB.data, imgB.startIndex, imgB.stride,\n" +
 						"\t\t\t\t\toutput.data, output.startIndex, output.stride,\n" +
@@ -347,7 +347,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 						"\n" +
 						"\t\tint columns = " + columns + ";\n" +
 						"\t\tint N = input.width*input.height;\n" +
-						"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+						"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 						"\t\t\tImplPixelMath_MT." + funcArrayName + "(input.data,input.startIndex,input.stride," + varName + ", lower, upper ,\n" +
 						"\t\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
 						"\t\t\t\t\tinput.height,columns);\n" +
@@ -365,14 +365,24 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 					prototype = "( " + variableType + " " + varName + " , " + inputName + " input , " + outputName + " output )";
 				}
 
+				// Only operations where the image comes first can be overridden
+				String override = "";
+				if (template.isImageFirst()) {
+					override = "\t\tif (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation." +
+							overrideOperation(funcName) + ", input, " + varName + ", output))\n" +
+							"\t\t\treturn;\n" +
+							"\n";
+				}
+
 				out.println(template.getJavaDoc());
 				out.println("\tpublic static void " + funcName + prototype + " {\n" +
 						"\n" +
 						"\t\t" + reshape + "\n" +
 						"\n" +
+						override +
 						"\t\tint columns = " + columns + ";\n" +
 						"\t\tint N = input.width*input.height;\n" +
-						"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+						"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 						"\t\t\tImplPixelMath_MT." + funcArrayName + "(input.data,input.startIndex,input.stride," + varName + " , \n" +
 						"\t\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
 						"\t\t\t\t\tinput.height,columns);\n" +
@@ -386,6 +396,19 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 		}
 	}
 
+	/**
+	 * Returns the name of the operation in {@link BOverridePixelMath.Operation}
+	 */
+	private static String overrideOperation( String funcName ) {
+		switch (funcName) {
+			case "plus": return "ADD";
+			case "minus": return "SUBTRACT";
+			case "multiply": return "MULTIPLY";
+			case "divide": return "DIVIDE";
+			default: throw new IllegalArgumentException("Unknown operation " + funcName);
+		}
+	}
+
 	public void printBoundImage() {
 
 		String sumType = input.getSumType();
@@ -417,7 +440,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
 				"\t\tint N = imgA.width*imgA.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 				"\t\t\tImplPixelMath_MT.diffAbs(imgA, imgB, output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.diffAbs(imgA, imgB, output);\n" +
@@ -439,8 +462,11 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(imgA,imgB);\n" +
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
+				"\t\tif (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.ADD, imgA, imgB, output))\n" +
+				"\t\t\treturn;\n" +
+				"\n" +
 				"\t\tint N = imgA.width*imgA.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 				"\t\t\tImplPixelMath_MT.add(imgA, imgB, output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.add(imgA, imgB, output);\n" +
@@ -463,8 +489,11 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(imgA,imgB);\n" +
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
+				"\t\tif (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.SUBTRACT, imgA, imgB, output))\n" +
+				"\t\t\treturn;\n" +
+				"\n" +
 				"\t\tint N = imgA.width*imgA.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 				"\t\t\tImplPixelMath_MT.subtract(imgA, imgB, output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.subtract(imgA, imgB, output);\n" +
@@ -486,8 +515,11 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(imgA,imgB);\n" +
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
+				"\t\tif (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.MULTIPLY, imgA, imgB, output))\n" +
+				"\t\t\treturn;\n" +
+				"\n" +
 				"\t\tint N = imgA.width*imgA.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 				"\t\t\tImplPixelMath_MT.multiply(imgA, imgB, output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.multiply(imgA, imgB, output);\n" +
@@ -510,8 +542,11 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(imgA,imgB);\n" +
 				"\t\toutput.reshape(imgA.width,imgA.height);\n" +
 				"\n" +
+				"\t\tif (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.DIVIDE, imgA, imgB, output))\n" +
+				"\t\t\treturn;\n" +
+				"\n" +
 				"\t\tint N = imgA.width*imgA.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 				"\t\t\tImplPixelMath_MT.divide(imgA,imgB,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.divide(imgA,imgB,output);\n" +
@@ -576,7 +611,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 						"\n" +
 						columns +
 						"\t\tint N = input.width*input.height;\n" +
-						"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+						"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 						"\t\t\tImplPixelMath_MT." + op + "(\n" +
 						"\t\t\t\t\tinput.data,input.startIndex,input.stride,\n" +
 						"\t\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
@@ -600,7 +635,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 						"\n" +
 						columns +
 						"\t\tint N = input.width*input.height;\n" +
-						"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+						"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 						"\t\t\tImplPixelMath_MT." + op + "(\n" +
 						"\t\t\t\t\tinput.data,input.startIndex,input.stride,val,\n" +
 						"\t\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
@@ -628,7 +663,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\tstdev.reshape(mean.width,mean.height);\n" +
 				"\n" +
 				"\t\tint N = mean.width*mean.height;\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {\n" +
 				"\t\t\tImplPixelMath_MT.stdev(mean,pow2,stdev);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplPixelMath.stdev(mean,pow2,stdev);\n" +
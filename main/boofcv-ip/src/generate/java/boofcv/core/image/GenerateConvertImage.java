@@ -97,6 +97,9 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height);\n" +
 				"\t\t}\n" +
 				"\n" +
+				"\t\tif (BOverrideConvertImage.invokeConvert(input, output))\n" +
+				"\t\t\treturn output;\n" +
+				"\n" +
 				"\t\t// threaded code is not significantly faster here\n" +
 				"\t\tImplConvertImage.convert(input, output);\n" +
 				"\n" +
@@ -122,6 +125,9 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height,input.numBands);\n" +
 				"\t\t}\n" +
 				"\n" +
+				"\t\tif (BOverrideConvertImage.invokeConvert(input, output))\n" +
+				"\t\t\treturn output;\n" +
+				"\n" +
 				"\t\t// threaded code is not significantly faster here\n" +
 				"\t\tImplConvertImage.convert(input, output);\n" +
 				"\n" +
@@ -148,7 +154,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplConvertPlanarToGray_MT.average(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertPlanarToGray.average(input,output);\n" +
@@ -178,7 +184,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tConvertInterleavedToSingle_MT.average(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tConvertInterleavedToSingle.average(input,output);\n" +
@@ -206,7 +212,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height,input.numBands);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplConvertImage_MT.convert(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertImage.convert(input,output);\n" +
@@ -236,7 +242,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height,input.numBands);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplConvertImage_MT.convert"+type+"(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertImage.convert"+type+"(input,output);\n" +
@@ -264,7 +270,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height,input.getNumBands());\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplConvertImage_MT.convert(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertImage.convert(input,output);\n" +
@@ -294,7 +300,7 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\toutput.reshape(input.width,input.height,input.getNumBands());\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\tif( BoofConcurrency.isUseConcurrent() ) {\n" +
 				"\t\t\tImplConvertImage_MT.convert"+type+"(input,output);\n" +
 				"\t\t} else {\n" +
 				"\t\t\tImplConvertImage.convert"+type+"(input,output);\n" +
@@ -36,7 +36,15 @@ import java.util.List;
  */
 public class BinaryLabelContourFinderChang2004 implements BinaryLabelContourFinder {
 
-	LinearContourLabelChang2004 finder = new LinearContourLabelChang2004(ConnectRule.FOUR);
+	final LinearContourLabelChang2004 finder;
+
+	public BinaryLabelContourFinderChang2004( LinearContourLabelChang2004 finder ) {
+		this.finder = finder;
+	}
+
+	public BinaryLabelContourFinderChang2004() {
+		this(new LinearContourLabelChang2004(ConnectRule.FOUR));
+	}
 
 	@Override
 	public void process(GrayU8 binary, GrayS32 labeled) {
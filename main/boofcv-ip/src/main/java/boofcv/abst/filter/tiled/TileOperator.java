@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.tiled;
+
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+/**
+ * An operation which can be applied independently to each tile in a large image. To compute the output
+ * for a pixel the operator can look at input pixels which are up to {@link #getRadiusX()} and
+ * {@link #getRadiusY()} pixels away. The tile is padded by this amount so that the inner part of the tile is
+ * identical to what would have been computed if the entire image had been processed at once. Image borders are
+ * handled by the operator just like they would be with the full image.
+ *
+ * Implementations do not need to be thread safe. A different instance is used by each thread.
+ *
+ * @author Peter Abeles
+ * @see TiledImageProcessor
+ */
+public interface TileOperator<In extends ImageBase<In>, Out extends ImageBase<Out>> {
+	/**
+	 * Processes the input tile and writes the results into the output tile.
+	 *
+	 * @param input (Input) Input tile. Might be a sub-image.
+	 * @param output (Output) Output tile. Will be the same shape as the input.
+	 */
+	void process( In input, Out output );
+
+	/** Number of pixels along the x-axis around a pixel which are needed to compute its value */
+	int getRadiusX();
+
+	/** Number of pixels along the y-axis around a pixel which are needed to compute its value */
+	int getRadiusY();
+
+	/** Type of input image */
+	ImageType<In> getInputType();
+
+	/** Type of output image */
+	ImageType<Out> getOutputType();
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.tiled;
+
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A sequence of {@link TileOperator} which are applied one after another. The output of one operator is the input
+ * into the next. Since errors introduced at the tile's border grow with each operator, the radius of the chain is
+ * the sum of each operator's radius. Intermediate images are only the size of a tile and are recycled.
+ *
+ * <pre>
+ * TileOperatorChain&lt;GrayU8, GrayU8&gt; chain = TileOperatorChain.
+ *     start(FactoryTileOperator.blur(FactoryBlurFilter.gaussian(GrayU8.class, -1, 2))).
+ *     then(FactoryTileOperator.convert(...)).
+ *     then(...);
+ * </pre>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class TileOperatorChain<In extends ImageBase<In>, Out extends ImageBase<Out>>
+		implements TileOperator<In, Out> {
+	// Operators in the order they are applied
+	final List<TileOperator> operators = new ArrayList<>();
+	// Storage for the output of each operator, except for the last
+	final List<ImageBase> intermediate = new ArrayList<>();
+
+	int radiusX, radiusY;
+
+	protected TileOperatorChain( TileOperator<In, Out> first ) {
+		add(first);
+	}
+
+	/**
+	 * Creates a new chain with the specified operator being the first
+	 */
+	public static <A extends ImageBase<A>, B extends ImageBase<B>>
+	TileOperatorChain<A, B> start( TileOperator<A, B> first ) {
+		return new TileOperatorChain<>(first);
+	}
+
+	/**
+	 * Adds a new operator to the end of the chain. Returns 'this' with the new output type.
+	 */
+	public <C extends ImageBase<C>> TileOperatorChain<In, C> then( TileOperator<Out, C> next ) {
+		intermediate.add(operators.get(operators.size() - 1).getOutputType().createImage(1, 1));
+		add(next);
+		return (TileOperatorChain)this;
+	}
+
+	private void add( TileOperator op ) {
+		operators.add(op);
+		radiusX += op.getRadiusX();
+		radiusY += op.getRadiusY();
+	}
+
+	@Override public void process( In input, Out output ) {
+		ImageBase current = input;
+		for (int i = 0; i < intermediate.size(); i++) {
+			ImageBase next = intermediate.get(i);
+			next.reshape(input.width, input.height);
+			operators.get(i).process(current, next);
+			current = next;
+		}
+		operators.get(operators.size() - 1).process(current, output);
+	}
+
+	/** Number of operators in the chain */
+	public int size() {
+		return operators.size();
+	}
+
+	@Override public int getRadiusX() {return radiusX;}
+
+	@Override public int getRadiusY() {return radiusY;}
+
+	@Override public ImageType<In> getInputType() {return operators.get(0).getInputType();}
+
+	@Override public ImageType<Out> getOutputType() {return operators.get(operators.size() - 1).getOutputType();}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.tiled;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.misc.BoofLambdas;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.MappedImageGray;
+import lombok.Getter;
+import lombok.Setter;
+import pabeles.concurrency.GrowArray;
+
+/**
+ * <p>
+ * Applies a {@link TileOperator} to an image by breaking it up into tiles. Each tile is padded by the operator's
+ * radius so that the results are identical to processing the whole image at once. Tiles are processed in parallel
+ * when concurrency is turned on in {@link BoofConcurrency}, with each thread having its own operator and
+ * tile sized work space. Peak memory usage is proportional to the tile size and number of threads, and not the
+ * image size, which allows long filter chains to be applied to very large images. Images stored off the heap in a
+ * {@link MappedImageGray} can also be processed.
+ * </p>
+ *
+ * <p>
+ * NOTE: Operators which compute statistics across the entire image, e.g. Otsu threshold, can't be computed one tile
+ * at a time and will not produce the same results.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class TiledImageProcessor<In extends ImageBase<In>, Out extends ImageBase<Out>> {
+	/** Width of a tile, not including the padding */
+	@Getter @Setter int tileWidth = 512;
+	/** Height of a tile, not including the padding */
+	@Getter @Setter int tileHeight = 512;
+
+	// Storage for each thread
+	final GrowArray<Workspace> workspaces;
+
+	/**
+	 * @param factory Creates a new operator for each thread. A chain is typically created with
+	 * {@link TileOperatorChain}.
+	 */
+	public TiledImageProcessor( BoofLambdas.Factory<TileOperator<In, Out>> factory ) {
+		this.workspaces = new GrowArray<>(() -> new Workspace(factory.newInstance()));
+	}
+
+	/**
+	 * Processes the input image and writes the results to the output image
+	 *
+	 * @param input (Input) Image which is to be processed
+	 * @param output (Output) Storage for the results. Is reshaped.
+	 */
+	public void process( In input, Out output ) {
+		output.reshape(input.width, input.height);
+		loopTiles(input.width, input.height, ( work, x0, y0, x1, y1, ex0, ey0, ex1, ey1 ) -> {
+			work.subInput = input.subimage(ex0, ey0, ex1, ey1, (In)work.subInput);
+			work.output.reshape(ex1 - ex0, ey1 - ey0);
+			work.operator.process(work.subInput, work.output);
+			copyInner(work, output, x0, y0, x1, y1, ex0, ey0);
+		});
+	}
+
+	/**
+	 * Processes an image stored off the heap. Each padded tile is copied onto the heap, processed, then
+	 * the inner portion is written back.
+	 *
+	 * @param input (Input) Image which is to be processed
+	 * @param output (Output) Storage for the results. Must be the same shape as the input.
+	 */
+	public <I extends ImageGray<I>, O extends ImageGray<O>>
+	void process( MappedImageGray<I> input, MappedImageGray<O> output ) {
+		if (input.width != output.width || input.height != output.height)
+			throw new IllegalArgumentException("Input and output must have the same shape");
+		if (input.isSameStorage(output))
+			throw new IllegalArgumentException("Input and output can't share storage");
+
+		loopTiles(input.width, input.height, ( work, x0, y0, x1, y1, ex0, ey0, ex1, ey1 ) -> {
+			if (work.input == null)
+				work.input = work.operator.getInputType().createImage(1, 1);
+			work.input.reshape(ex1 - ex0, ey1 - ey0);
+			work.output.reshape(ex1 - ex0, ey1 - ey0);
+			input.read(ex0, ey0, (I)work.input);
+			work.operator.process(work.input, work.output);
+			output.write(x0, y0, (O)work.output.subimage(x0 - ex0, y0 - ey0, x1 - ex0, y1 - ey0, work.subOutput));
+		});
+	}
+
+	/**
+	 * Goes through each tile and computes the tile's region with and without padding
+	 */
+	void loopTiles( int width, int height, TileConsumer consumer ) {
+		if (tileWidth <= 0 || tileHeight <= 0)
+			throw new IllegalArgumentException("Tile size must be more than zero");
+
+		final int tilesX = (width + tileWidth - 1)/tileWidth;
+		final int tilesY = (height + tileHeight - 1)/tileHeight;
+		final int numTiles = tilesX*tilesY;
+
+		if (BoofConcurrency.isUseConcurrent() && numTiles > 1) {
+			BoofConcurrency.loopBlocks(0, numTiles, 1, workspaces, ( work, idx0, idx1 ) -> {
+				for (int index = idx0; index < idx1; index++) {
+					processTile(work, index, tilesX, width, height, consumer);
+				}
+			});
+		} else {
+			workspaces.reset();
+			Workspace work = workspaces.grow();
+			for (int index = 0; index < numTiles; index++) {
+				processTile(work, index, tilesX, width, height, consumer);
+			}
+		}
+	}
+
+	private void processTile( Workspace work, int index, int tilesX, int width, int height, TileConsumer consumer ) {
+		int radiusX = work.operator.getRadiusX();
+		int radiusY = work.operator.getRadiusY();
+
+		int x0 = (index%tilesX)*tileWidth;
+		int y0 = (index/tilesX)*tileHeight;
+		int x1 = Math.min(width, x0 + tileWidth);
+		int y1 = Math.min(height, y0 + tileHeight);
+
+		// Expand the tile by the radius, but don't go outside the image
+		int ex0 = Math.max(0, x0 - radiusX);
+		int ey0 = Math.max(0, y0 - radiusY);
+		int ex1 = Math.min(width, x1 + radiusX);
+		int ey1 = Math.min(height, y1 + radiusY);
+
+		consumer.process(work, x0, y0, x1, y1, ex0, ey0, ex1, ey1);
+	}
+
+	/**
+	 * Copies the inner portion of the processed tile into the output image
+	 */
+	private void copyInner( Workspace work, Out output, int x0, int y0, int x1, int y1, int ex0, int ey0 ) {
+		work.subOutput = work.output.subimage(x0 - ex0, y0 - ey0, x1 - ex0, y1 - ey0, work.subOutput);
+		work.subDst = output.subimage(x0, y0, x1, y1, work.subDst);
+		work.subDst.setTo(work.subOutput);
+	}
+
+	@FunctionalInterface
+	interface TileConsumer {
+		void process( Workspace work, int x0, int y0, int x1, int y1, int ex0, int ey0, int ex1, int ey1 );
+	}
+
+	/**
+	 * Everything a single thread needs to process a tile
+	 */
+	class Workspace {
+		final TileOperator operator;
+		// Output for the padded tile
+		final ImageBase output;
+		// Used when the input needs to be copied onto the heap
+		ImageBase input;
+		// Sub-images which are recycled
+		ImageBase subInput, subOutput, subDst;
+
+		Workspace( TileOperator operator ) {
+			this.operator = operator;
+			this.output = operator.getOutputType().createImage(1, 1);
+		}
+	}
+}
@@ -203,13 +203,13 @@ public class ColorXyz {
 		xyz.reshape(rgb.width, rgb.height, 3);
 
 		if (rgb.getBandType() == GrayU8.class) {
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplColorXyz_MT.rgbToXyz_U8((Planar<GrayU8>)rgb, xyz);
 			} else {
 				ImplColorXyz.rgbToXyz_U8((Planar<GrayU8>)rgb, xyz);
 			}
 		} else if (rgb.getBandType() == GrayF32.class) {
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplColorXyz_MT.rgbToXyz_F32((Planar<GrayF32>)rgb, xyz);
 			} else {
 				ImplColorXyz.rgbToXyz_F32((Planar<GrayF32>)rgb, xyz);
@@ -232,13 +232,13 @@ public class ColorXyz {
 		xyz.reshape(rgb.width, rgb.height, 3);
 
 		if (rgb.getBandType() == GrayU8.class) {
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplColorXyz_MT.xyzToRgb_U8(xyz, (Planar<GrayU8>)rgb);
 			} else {
 				ImplColorXyz.xyzToRgb_U8(xyz, (Planar<GrayU8>)rgb);
 			}
 		} else if (rgb.getBandType() == GrayF32.class) {
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplColorXyz_MT.xyzToRgb_F32(xyz, (Planar<GrayF32>)rgb);
 			} else {
 				ImplColorXyz.xyzToRgb_F32(xyz, (Planar<GrayF32>)rgb);
@@ -188,13 +188,13 @@ public class ColorYuv {
 		rgb.reshape(rgb.width,rgb.height,3);
 
 		if( rgb.getBandType() == GrayF32.class ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplColorYuv_MT.yuvToRgb_F32((Planar<GrayF32>)yuv,(Planar<GrayF32>)rgb);
 			} else {
 				ImplColorYuv.yuvToRgb_F32((Planar<GrayF32>)yuv,(Planar<GrayF32>)rgb);
 			}
 		} else if( rgb.getBandType() == GrayU8.class ) {
-			if(BoofConcurrency.USE_CONCURRENT ) {
+			if(BoofConcurrency.isUseConcurrent() ) {
 				ImplColorYuv_MT.ycbcrToRgb_U8((Planar<GrayU8>)yuv,(Planar<GrayU8>)rgb);
 			} else {
 				ImplColorYuv.ycbcrToRgb_U8((Planar<GrayU8>)yuv,(Planar<GrayU8>)rgb);
@@ -217,7 +217,7 @@ public class ColorYuv {
 		yuv.reshape(rgb.width,rgb.height,3);
 
 		if( rgb.getBandType() == GrayF32.class ) {
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplColorYuv_MT.rgbToYuv_F32((Planar<GrayF32>) rgb, (Planar<GrayF32>) yuv);
 			} else {
 				ImplColorYuv.rgbToYuv_F32((Planar<GrayF32>) rgb, (Planar<GrayF32>) yuv);
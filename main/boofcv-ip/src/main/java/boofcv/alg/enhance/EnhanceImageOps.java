@@ -85,7 +85,7 @@ public class EnhanceImageOps {
 	public static void applyTransform( GrayU8 input, int[] transform, GrayU8 output ) {
 		output.reshape(input.width, input.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplEnhanceHistogram_MT.applyTransform(input, transform, output);
 		} else {
 			ImplEnhanceHistogram.applyTransform(input, transform, output);
@@ -102,7 +102,7 @@ public class EnhanceImageOps {
 	public static void applyTransform( GrayU16 input, int[] transform, GrayU16 output ) {
 		output.reshape(input.width, input.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplEnhanceHistogram_MT.applyTransform(input, transform, output);
 		} else {
 			ImplEnhanceHistogram.applyTransform(input, transform, output);
@@ -120,7 +120,7 @@ public class EnhanceImageOps {
 	public static void applyTransform( GrayS8 input, int[] transform, int minValue, GrayS8 output ) {
 		output.reshape(input.width, input.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplEnhanceHistogram_MT.applyTransform(input, transform, minValue, output);
 		} else {
 			ImplEnhanceHistogram.applyTransform(input, transform, minValue, output);
@@ -138,7 +138,7 @@ public class EnhanceImageOps {
 	public static void applyTransform( GrayS16 input, int[] transform, int minValue, GrayS16 output ) {
 		output.reshape(input.width, input.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplEnhanceHistogram_MT.applyTransform(input, transform, minValue, output);
 		} else {
 			ImplEnhanceHistogram.applyTransform(input, transform, minValue, output);
@@ -156,7 +156,7 @@ public class EnhanceImageOps {
 	public static void applyTransform( GrayS32 input, int[] transform, int minValue, GrayS32 output ) {
 		output.reshape(input.width, input.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplEnhanceHistogram_MT.applyTransform(input, transform, minValue, output);
 		} else {
 			ImplEnhanceHistogram.applyTransform(input, transform, minValue, output);
@@ -182,7 +182,7 @@ public class EnhanceImageOps {
 
 		// use more efficient algorithms if possible
 		if (input.width >= width && input.height >= width) {
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplEnhanceHistogram_MT.equalizeLocalInner(input, radius, histogramLength, output, workspaces);
 
 				// top border
@@ -217,7 +217,7 @@ public class EnhanceImageOps {
 			equalize(histogram, transform);
 			applyTransform(input, transform, output);
 		} else {
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplEnhanceHistogram_MT.equalizeLocalNaive(input, radius, histogramLength, output, workspaces);
 			} else {
 				ImplEnhanceHistogram.equalizeLocalNaive(input, radius, histogramLength, output, workspaces);
@@ -244,7 +244,7 @@ public class EnhanceImageOps {
 
 		// use more efficient algorithms if possible
 		if (input.width >= width && input.height >= width) {
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplEnhanceHistogram_MT.equalizeLocalInner(input, radius, histogramLength, output, workspaces);
 
 				// top border
@@ -279,7 +279,7 @@ public class EnhanceImageOps {
 			equalize(histogram, transform);
 			applyTransform(input, transform, output);
 		} else {
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplEnhanceHistogram_MT.equalizeLocalNaive(input, radius, histogramLength, output, workspaces);
 			} else {
 				ImplEnhanceHistogram.equalizeLocalNaive(input, radius, histogramLength, output, workspaces);
@@ -296,7 +296,7 @@ public class EnhanceImageOps {
 	public static void sharpen4( GrayU8 input, GrayU8 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplEnhanceFilter_MT.sharpenInner4(input, output, 0, 255);
 			ImplEnhanceFilter_MT.sharpenBorder4(input, output, 0, 255);
 		} else {
@@ -314,7 +314,7 @@ public class EnhanceImageOps {
 	public static void sharpen4( GrayF32 input, GrayF32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplEnhanceFilter_MT.sharpenInner4(input, output, 0, 255);
 			ImplEnhanceFilter_MT.sharpenBorder4(input, output, 0, 255);
 		} else {
@@ -332,7 +332,7 @@ public class EnhanceImageOps {
 	public static void sharpen8( GrayU8 input, GrayU8 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplEnhanceFilter_MT.sharpenInner8(input, output, 0, 255);
 			ImplEnhanceFilter_MT.sharpenBorder8(input, output, 0, 255);
 		} else {
@@ -350,7 +350,7 @@ public class EnhanceImageOps {
 	public static void sharpen8( GrayF32 input, GrayF32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplEnhanceFilter_MT.sharpenInner8(input, output, 0, 255);
 			ImplEnhanceFilter_MT.sharpenBorder8(input, output, 0, 255);
 		} else {
@@ -71,7 +71,7 @@ public class BinaryImageOps {
 		InputSanityCheck.checkSameShape(inputA, inputB);
 		output = InputSanityCheck.declareOrReshape(inputA, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplBinaryImageOps_MT.logicAnd(inputA, inputB, output);
 		} else {
 			ImplBinaryImageOps.logicAnd(inputA, inputB, output);
@@ -92,7 +92,7 @@ public class BinaryImageOps {
 		InputSanityCheck.checkSameShape(inputA, inputB);
 		output = InputSanityCheck.declareOrReshape(inputA, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplBinaryImageOps_MT.logicOr(inputA, inputB, output);
 		} else {
 			ImplBinaryImageOps.logicOr(inputA, inputB, output);
@@ -113,7 +113,7 @@ public class BinaryImageOps {
 		InputSanityCheck.checkSameShape(inputA, inputB);
 		output = InputSanityCheck.declareOrReshape(inputA, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplBinaryImageOps_MT.logicXor(inputA, inputB, output);
 		} else {
 			ImplBinaryImageOps.logicXor(inputA, inputB, output);
@@ -132,7 +132,7 @@ public class BinaryImageOps {
 	public static GrayU8 invert( GrayU8 input, @Nullable GrayU8 output ) {
 		output = InputSanityCheck.declareOrReshape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplBinaryImageOps_MT.invert(input, output);
 		} else {
 			ImplBinaryImageOps.invert(input, output);
@@ -158,7 +158,7 @@ public class BinaryImageOps {
 		if (numTimes <= 0)
 			throw new IllegalArgumentException("numTimes must be >= 1");
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplBinaryInnerOps_MT.erode4(input, output);
 		} else {
 			ImplBinaryInnerOps.erode4(input, output);
@@ -171,7 +171,7 @@ public class BinaryImageOps {
 			GrayU8 tmp2 = output;
 
 			for (int i = 1; i < numTimes; i++) {
-				if (BoofConcurrency.USE_CONCURRENT) {
+				if (BoofConcurrency.isUseConcurrent()) {
 					ImplBinaryInnerOps_MT.erode4(tmp2, tmp1);
 				} else {
 					ImplBinaryInnerOps.erode4(tmp2, tmp1);
@@ -205,7 +205,7 @@ public class BinaryImageOps {
 	public static GrayU8 dilate4( GrayU8 input, int numTimes, @Nullable GrayU8 output ) {
 		output = InputSanityCheck.declareOrReshape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplBinaryInnerOps_MT.dilate4(input, output);
 		} else {
 			ImplBinaryInnerOps.dilate4(input, output);
@@ -217,7 +217,7 @@ public class BinaryImageOps {
 			GrayU8 tmp2 = output;
 
 			for (int i = 1; i < numTimes; i++) {
-				if (BoofConcurrency.USE_CONCURRENT) {
+				if (BoofConcurrency.isUseConcurrent()) {
 					ImplBinaryInnerOps_MT.dilate4(tmp2, tmp1);
 				} else {
 					ImplBinaryInnerOps.dilate4(tmp2, tmp1);
@@ -255,7 +255,7 @@ public class BinaryImageOps {
 	public static GrayU8 edge4( GrayU8 input, GrayU8 output, boolean outsideZero ) {
 		output = InputSanityCheck.declareOrReshape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplBinaryInnerOps_MT.edge4(input, output);
 		} else {
 			ImplBinaryInnerOps.edge4(input, output);
@@ -279,7 +279,7 @@ public class BinaryImageOps {
 	public static GrayU8 erode8( GrayU8 input, int numTimes, @Nullable GrayU8 output ) {
 		output = InputSanityCheck.declareOrReshape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplBinaryInnerOps_MT.erode8(input, output);
 		} else {
 			ImplBinaryInnerOps.erode8(input, output);
@@ -291,7 +291,7 @@ public class BinaryImageOps {
 			GrayU8 tmp2 = output;
 
 			for (int i = 1; i < numTimes; i++) {
-				if (BoofConcurrency.USE_CONCURRENT) {
+				if (BoofConcurrency.isUseConcurrent()) {
 					ImplBinaryInnerOps_MT.erode8(tmp2, tmp1);
 				} else {
 					ImplBinaryInnerOps.erode8(tmp2, tmp1);
@@ -325,7 +325,7 @@ public class BinaryImageOps {
 	public static GrayU8 dilate8( GrayU8 input, int numTimes, @Nullable GrayU8 output ) {
 		output = InputSanityCheck.declareOrReshape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplBinaryInnerOps_MT.dilate8(input, output);
 		} else {
 			ImplBinaryInnerOps.dilate8(input, output);
@@ -337,7 +337,7 @@ public class BinaryImageOps {
 			GrayU8 tmp2 = output;
 
 			for (int i = 1; i < numTimes; i++) {
-				if (BoofConcurrency.USE_CONCURRENT) {
+				if (BoofConcurrency.isUseConcurrent()) {
 					ImplBinaryInnerOps_MT.dilate8(tmp2, tmp1);
 				} else {
 					ImplBinaryInnerOps.dilate8(tmp2, tmp1);
@@ -375,7 +375,7 @@ public class BinaryImageOps {
 	public static GrayU8 edge8( GrayU8 input, GrayU8 output, boolean outsideZero ) {
 		output = InputSanityCheck.declareOrReshape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplBinaryInnerOps_MT.edge8(input, output);
 		} else {
 			ImplBinaryInnerOps.edge8(input, output);
@@ -397,7 +397,7 @@ public class BinaryImageOps {
 	public static GrayU8 removePointNoise( GrayU8 input, @Nullable GrayU8 output ) {
 		output = InputSanityCheck.declareOrReshape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplBinaryInnerOps_MT.removePointNoise(input, output);
 		} else {
 			ImplBinaryInnerOps.removePointNoise(input, output);
@@ -503,7 +503,7 @@ public class BinaryImageOps {
 	 * @param labels Look up table where the indexes are the current label and the value are its new value.
 	 */
 	public static void relabel( GrayS32 input, int[] labels ) {
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplBinaryImageOps_MT.relabel(input, labels);
 		} else {
 			ImplBinaryImageOps.relabel(input, labels);
@@ -520,7 +520,7 @@ public class BinaryImageOps {
 	public static GrayU8 labelToBinary( GrayS32 labelImage, GrayU8 binaryImage ) {
 		binaryImage = InputSanityCheck.declareOrReshape(labelImage, binaryImage, GrayU8.class);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplBinaryImageOps_MT.labelToBinary(labelImage, binaryImage);
 		} else {
 			ImplBinaryImageOps.labelToBinary(labelImage, binaryImage);
@@ -542,7 +542,7 @@ public class BinaryImageOps {
 										boolean[] selectedBlobs ) {
 		binaryImage = InputSanityCheck.declareOrReshape(labelImage, binaryImage, GrayU8.class);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplBinaryImageOps_MT.labelToBinary(labelImage, binaryImage, selectedBlobs);
 		} else {
 			ImplBinaryImageOps.labelToBinary(labelImage, binaryImage, selectedBlobs);
@@ -22,6 +22,8 @@ import boofcv.struct.ConnectRule;
 import boofcv.struct.PackedSetsPoint2D_I32;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
+import org.ddogleg.struct.DogArray_I32;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Used to trace the external and internal contours around objects for {@link LinearContourLabelChang2004}. As it
@@ -64,6 +66,9 @@ public class ContourTracer {
 	// lookup table for which direction it should search next given the direction it traveled into the current pixel
 	private final int[] nextDirection;
 
+	// If not null, pixels which have been searched are saved here instead of being marked in the binary image
+	private @Nullable DogArray_I32 markedPixels;
+
 	/**
 	 * Specifies connectivity rule
 	 *
@@ -247,10 +252,13 @@ public class ContourTracer {
 	private boolean checkOne( int index ) {
 		if (binary.data[index] == 1) {
 			return true;
-		} else {
+		} else if (markedPixels == null) {
 			// mark this pixel with a not one value so that it isn't searched again in the future
 			binary.data[index] = -1;
 			return false;
+		} else {
+			markedPixels.add(index);
+			return false;
 		}
 	}
 
@@ -274,6 +282,15 @@ public class ContourTracer {
 		}
 	}
 
+	/**
+	 * Specifies where the index of pixels which have been searched should be saved. If null, then the
+	 * pixels are marked in the binary image, which is the default behavior. Saving them instead allows multiple
+	 * contours to be traced at the same time.
+	 */
+	public void setMarkedPixels( @Nullable DogArray_I32 markedPixels ) {
+		this.markedPixels = markedPixels;
+	}
+
 	public void setMaxContourSize( int maxContourSize ) {
 		this.maxContourSize = maxContourSize;
 	}
@@ -678,7 +678,7 @@ public class GThresholdImageOps {
 						  ThresholdNiblackFamily.Variant variant) {
 		InputToBinary<GrayF32> alg;
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			alg = new ThresholdNiblackFamily_MT(width, k, down, variant);
 		} else {
 			alg = new ThresholdNiblackFamily(width, k, down, variant);
@@ -713,7 +713,7 @@ public class GThresholdImageOps {
 	public static <T extends ImageGray<T>>
 	GrayU8 localNick( T input, @Nullable GrayU8 output, ConfigLength width, float k, boolean down ) {
 		InputToBinary<GrayF32> alg =
-				BoofConcurrency.USE_CONCURRENT ?
+				BoofConcurrency.isUseConcurrent() ?
 						new ThresholdNick_MT(width, k, down) : new ThresholdNick(width, k, down);
 
 		if (output == null)
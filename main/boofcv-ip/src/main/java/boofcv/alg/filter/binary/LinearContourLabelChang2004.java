@@ -68,17 +68,17 @@ public class LinearContourLabelChang2004 {
 	private @Getter @Setter boolean saveInternalContours = true;
 
 	// traces edge pixels
-	private ContourTracer tracer;
+	protected ContourTracer tracer;
 
 	// binary image with a border of zero.
-	private final GrayU8 border = new GrayU8(1, 1);
+	protected final GrayU8 border = new GrayU8(1, 1);
 
 	// predeclared/recycled data structures
 	@Getter PackedSetsPoint2D_I32 packedPoints = new PackedSetsPoint2D_I32(2000);
-	private final DogArray<ContourPacked> contours = new DogArray<>(ContourPacked::new);
+	protected final DogArray<ContourPacked> contours = new DogArray<>(ContourPacked::new);
 
 	// internal book keeping variables
-	private int x, y, indexIn, indexOut;
+	protected int x, y, indexIn, indexOut;
 
 	/**
 	 * Configures the algorithm.
@@ -96,23 +96,8 @@ public class LinearContourLabelChang2004 {
 	 * @param labeled Output. Labeled image. Modified.
 	 */
 	public void process( GrayU8 binary, GrayS32 labeled ) {
-		// initialize data structures
-		labeled.reshape(binary.width, binary.height);
-
-		// ensure that the image border pixels are filled with zero by enlarging the image
-		if (border.width != binary.width + 2 || border.height != binary.height + 2) {
-			border.reshape(binary.width + 2, binary.height + 2);
-			ImageMiscOps.fillBorder(border, 0, 1);
-		}
-		border.subimage(1, 1, border.width - 1, border.height - 1, null).setTo(binary);
-
-		// labeled image must initially be filled with zeros
-		ImageMiscOps.fill(labeled, 0);
-
+		initialize(binary, labeled);
 		binary = border;
-		packedPoints.reset();
-		contours.reset();
-		tracer.setInputs(binary, labeled, packedPoints);
 
 		// Outside border is all zeros so it can be ignored
 		int endY = binary.height - 1, enxX = binary.width - 1;
@@ -153,10 +138,31 @@ public class LinearContourLabelChang2004 {
 		}
 	}
 
+	/**
+	 * Initializes data structures and copies the binary image into an image with a border of zeros
+	 */
+	protected void initialize( GrayU8 binary, GrayS32 labeled ) {
+		labeled.reshape(binary.width, binary.height);
+
+		// ensure that the image border pixels are filled with zero by enlarging the image
+		if (border.width != binary.width + 2 || border.height != binary.height + 2) {
+			border.reshape(binary.width + 2, binary.height + 2);
+			ImageMiscOps.fillBorder(border, 0, 1);
+		}
+		border.subimage(1, 1, border.width - 1, border.height - 1, null).setTo(binary);
+
+		// labeled image must initially be filled with zeros
+		ImageMiscOps.fill(labeled, 0);
+
+		packedPoints.reset();
+		contours.reset();
+		tracer.setInputs(border, labeled, packedPoints);
+	}
+
 	/**
 	 * Faster when there's a specialized function which searches for one pixels
 	 */
-	private int scanForOne( byte[] data, int index, int end ) {
+	protected int scanForOne( byte[] data, int index, int end ) {
 		while (index < end && data[index] != 1) {
 			index++;
 		}
@@ -193,7 +199,7 @@ public class LinearContourLabelChang2004 {
 	 * Step 2: If the pixel below is unmarked and white then it must be an internal contour
 	 * Same behavior it the pixel in question has been labeled or not already
 	 */
-	private void handleStep2( GrayS32 labeled, int label ) {
+	protected void handleStep2( GrayS32 labeled, int label ) {
 		// if the blob is not labeled and in this state it cannot be against the left side of the image
 		if (label == 0)
 			label = labeled.data[indexOut - 1];
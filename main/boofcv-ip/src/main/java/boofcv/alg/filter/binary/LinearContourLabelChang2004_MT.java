@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.PackedSetsPoint2D_I32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import org.ddogleg.struct.DogArray_I32;
+import pabeles.concurrency.GrowArray;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link LinearContourLabelChang2004}. The output is identical to the single threaded
+ * algorithm, including the order of contours and their points.
+ * </p>
+ *
+ * <ol>
+ *     <li>The image is broken up into horizontal strips which are labeled concurrently using union-find. Labels are
+ *     merged across strip boundaries and each blob is assigned the ID of its first pixel in raster order.</li>
+ *     <li>External contours are traced concurrently. The pixels which a trace would have marked in the binary
+ *     image are saved instead.</li>
+ *     <li>A single raster pass, identical to the one in the single threaded algorithm, marks the saved pixels
+ *     when a blob is first encountered and traces internal contours as they are encountered.</li>
+ * </ol>
+ *
+ * <p>Internal contours are traced in the last step since where they start depends on the order the pixels
+ * were marked in.</p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearContourLabelChang2004_MT extends LinearContourLabelChang2004 {
+
+	/** Images with fewer rows than this in each strip will be processed using the single threaded algorithm */
+	public int minimumStripHeight = 20;
+
+	// Union-find parent for each pixel in the labeled image. Root is the first pixel of the blob in raster order.
+	protected final DogArray_I32 parent = new DogArray_I32();
+	// Number of blobs found in each strip
+	protected final DogArray_I32 stripBlobCounts = new DogArray_I32();
+	// Pixel index of the first pixel in each blob
+	protected final DogArray_I32 blobFirstPixel = new DogArray_I32();
+
+	// Which thread traced the blob's external contour and the index of the contour in that thread
+	protected final DogArray_I32 blobThread = new DogArray_I32();
+	protected final DogArray_I32 blobIndex = new DogArray_I32();
+
+	// Workspace for each thread
+	protected final GrowArray<TraceWork> traceWork = new GrowArray<>(TraceWork::new);
+
+	public LinearContourLabelChang2004_MT( ConnectRule rule ) {
+		super(rule);
+	}
+
+	@Override public void process( GrayU8 binary, GrayS32 labeled ) {
+		int numStrips = Math.min(BoofConcurrency.getThreadPool().getParallelism(), binary.height/minimumStripHeight);
+		if (numStrips <= 1) {
+			super.process(binary, labeled);
+			return;
+		}
+
+		initialize(binary, labeled);
+
+		labelBlobs(labeled, numStrips);
+		traceExternalContours(labeled);
+		scanImage(labeled);
+	}
+
+	/**
+	 * Labels blobs in the image by processing strips concurrently then merging labels across the strip boundaries
+	 */
+	protected void labelBlobs( GrayS32 labeled, int numStrips ) {
+		final boolean eight = getConnectRule() == ConnectRule.EIGHT;
+		final int width = labeled.width;
+		final int height = labeled.height;
+
+		parent.resize(width*height);
+		stripBlobCounts.resize(numStrips);
+
+		// Label each strip independently
+		BoofConcurrency.loopFor(0, numStrips, stripIdx -> {
+			int y0 = stripIdx*height/numStrips;
+			int y1 = (stripIdx + 1)*height/numStrips;
+
+			for (int y = y0; y < y1; y++) {
+				int indexIn = border.startIndex + (y + 1)*border.stride + 1;
+				int indexPixel = y*width;
+				for (int x = 0; x < width; x++, indexIn++, indexPixel++) {
+					if (border.data[indexIn] != 1)
+						continue;
+					parent.data[indexPixel] = indexPixel;
+					if (border.data[indexIn - 1] == 1)
+						union(indexPixel, indexPixel - 1);
+					if (y > y0)
+						connectToRowAbove(eight, indexIn, indexPixel, width);
+				}
+			}
+		});
+
+		// Merge labels across strip boundaries
+		for (int stripIdx = 1; stripIdx < numStrips; stripIdx++) {
+			int y = stripIdx*height/numStrips;
+			int indexIn = border.startIndex + (y + 1)*border.stride + 1;
+			int indexPixel = y*width;
+			for (int x = 0; x < width; x++, indexIn++, indexPixel++) {
+				if (border.data[indexIn] == 1)
+					connectToRowAbove(eight, indexIn, indexPixel, width);
+			}
+		}
+
+		// The root of each blob is its first pixel, so counting roots gives the order blobs were encountered in
+		BoofConcurrency.loopFor(0, numStrips, stripIdx -> {
+			int y0 = stripIdx*height/numStrips;
+			int y1 = (stripIdx + 1)*height/numStrips;
+
+			int count = 0;
+			for (int y = y0; y < y1; y++) {
+				int indexIn = border.startIndex + (y + 1)*border.stride + 1;
+				int indexPixel = y*width;
+				for (int x = 0; x < width; x++, indexIn++, indexPixel++) {
+					if (border.data[indexIn] == 1 && parent.data[indexPixel] == indexPixel)
+						count++;
+				}
+			}
+			stripBlobCounts.data[stripIdx] = count;
+		});
+
+		int totalBlobs = 0;
+		for (int stripIdx = 0; stripIdx < numStrips; stripIdx++) {
+			int count = stripBlobCounts.data[stripIdx];
+			stripBlobCounts.data[stripIdx] = totalBlobs;
+			totalBlobs += count;
+		}
+		blobFirstPixel.resize(totalBlobs);
+
+		// Assign labels to the roots and then every other pixel in the blob
+		BoofConcurrency.loopFor(0, numStrips, stripIdx -> {
+			int y0 = stripIdx*height/numStrips;
+			int y1 = (stripIdx + 1)*height/numStrips;
+
+			int blobID = stripBlobCounts.data[stripIdx];
+			for (int y = y0; y < y1; y++) {
+				int indexIn = border.startIndex + (y + 1)*border.stride + 1;
+				int indexPixel = y*width;
+				int indexOut = labeled.startIndex + y*labeled.stride;
+				for (int x = 0; x < width; x++, indexIn++, indexPixel++, indexOut++) {
+					if (border.data[indexIn] != 1 || parent.data[indexPixel] != indexPixel)
+						continue;
+					blobFirstPixel.data[blobID++] = indexPixel;
+					labeled.data[indexOut] = blobID;
+				}
+			}
+		});
+
+		BoofConcurrency.loopFor(0, numStrips, stripIdx -> {
+			int y0 = stripIdx*height/numStrips;
+			int y1 = (stripIdx + 1)*height/numStrips;
+
+			for (int y = y0; y < y1; y++) {
+				int indexIn = border.startIndex + (y + 1)*border.stride + 1;
+				int indexPixel = y*width;
+				int indexOut = labeled.startIndex + y*labeled.stride;
+				for (int x = 0; x < width; x++, indexIn++, indexPixel++, indexOut++) {
+					if (border.data[indexIn] != 1)
+						continue;
+					// Pixels next to each other are always in the same blob. This avoids most searches for the root
+					if (border.data[indexIn - 1] == 1) {
+						labeled.data[indexOut] = labeled.data[indexOut - 1];
+					} else {
+						int root = find(indexPixel);
+						labeled.data[indexOut] = labeled.data[labeled.startIndex + (root/width)*labeled.stride + root%width];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Connects the pixel to its neighbors in the row above it
+	 */
+	private void connectToRowAbove( boolean eight, int indexIn, int indexPixel, int width ) {
+		if (border.data[indexIn - border.stride] == 1) {
+			union(indexPixel, indexPixel - width);
+		} else if (eight) {
+			// If the pixel directly above is one then these would already be connected to it
+			if (border.data[indexIn - border.stride - 1] == 1)
+				union(indexPixel, indexPixel - width - 1);
+			if (border.data[indexIn - border.stride + 1] == 1)
+				union(indexPixel, indexPixel - width + 1);
+		}
+	}
+
+	/**
+	 * Finds the root without modifying the tree so that it can be called concurrently
+	 */
+	private int find( int index ) {
+		while (parent.data[index] != index) {
+			index = parent.data[index];
+		}
+		return index;
+	}
+
+	/**
+	 * Merges the two sets. The root with the smaller index becomes the root of the merged set, ensuring that
+	 * the root is always the first pixel in raster order.
+	 */
+	private void union( int a, int b ) {
+		int rootA = findCompress(a);
+		int rootB = findCompress(b);
+		if (rootA == rootB)
+			return;
+		if (rootA < rootB)
+			parent.data[rootB] = rootA;
+		else
+			parent.data[rootA] = rootB;
+	}
+
+	/**
+	 * Finds the root using path halving. Only call when the tree isn't being modified by other threads
+	 */
+	private int findCompress( int index ) {
+		while (parent.data[index] != index) {
+			parent.data[index] = parent.data[parent.data[index]];
+			index = parent.data[index];
+		}
+		return index;
+	}
+
+	/**
+	 * Traces the external contour of each blob concurrently
+	 */
+	protected void traceExternalContours( GrayS32 labeled ) {
+		final int width = labeled.width;
+		final ConnectRule rule = getConnectRule();
+		final int maxContourSize = getMaxContourSize();
+
+		if (blobFirstPixel.size == 0)
+			return;
+
+		BoofConcurrency.loopBlocks(0, blobFirstPixel.size, traceWork, ( work, idx0, idx1 ) -> {
+			work.reset(rule);
+			work.tracer.setInputs(border, labeled, work.points);
+			work.tracer.setMarkedPixels(work.marked);
+			work.tracer.setMaxContourSize(maxContourSize);
+
+			for (int blobIdx = idx0; blobIdx < idx1; blobIdx++) {
+				int indexPixel = blobFirstPixel.data[blobIdx];
+
+				work.blobs.add(blobIdx);
+				work.points.grow();
+				work.tracer.trace(blobIdx + 1, indexPixel%width + 1, indexPixel/width + 1, true);
+				work.markedEnd.add(work.marked.size);
+			}
+		});
+
+		// Create a look up table to find each blob's contour
+		blobThread.resize(blobFirstPixel.size);
+		blobIndex.resize(blobFirstPixel.size);
+		for (int threadIdx = 0; threadIdx < traceWork.size(); threadIdx++) {
+			TraceWork work = traceWork.get(threadIdx);
+			for (int i = 0; i < work.blobs.size; i++) {
+				blobThread.data[work.blobs.data[i]] = threadIdx;
+				blobIndex.data[work.blobs.data[i]] = i;
+			}
+		}
+	}
+
+	/**
+	 * Scans through the image in the same order as the single threaded algorithm. When a new blob is encountered
+	 * its external contour is added and the pixels it would have marked are marked. Internal contours are
+	 * traced when encountered.
+	 */
+	protected void scanImage( GrayS32 labeled ) {
+		final GrayU8 binary = border;
+		final int width = labeled.width;
+
+		int endY = binary.height - 1, enxX = binary.width - 1;
+		for (y = 1; y < endY; y++) {
+			indexIn = binary.startIndex + y*binary.stride + 1;
+			indexOut = labeled.startIndex + (y - 1)*labeled.stride;
+
+			x = 1;
+			int delta = scanForOne(binary.data, indexIn, indexIn + enxX - x) - indexIn;
+			x += delta;
+			indexIn += delta;
+			indexOut += delta;
+			while (x < enxX) {
+				int label = labeled.data[indexOut];
+				if (blobFirstPixel.data[label - 1] == (y - 1)*width + x - 1) {
+					addExternalContour(label);
+				}
+				// could be an external and internal contour
+				if (binary.data[indexIn + binary.stride] == 0) {
+					handleStep2(labeled, label);
+				}
+
+				delta = scanForOne(binary.data, indexIn + 1, indexIn + enxX - x) - indexIn;
+				x += delta;
+				indexIn += delta;
+				indexOut += delta;
+			}
+		}
+	}
+
+	/**
+	 * Adds the previously traced external contour and marks the pixels the trace searched
+	 */
+	private void addExternalContour( int label ) {
+		TraceWork work = traceWork.get(blobThread.data[label - 1]);
+		int which = blobIndex.data[label - 1];
+
+		ContourPacked c = contours.grow();
+		c.reset();
+		c.id = label;
+		c.externalIndex = packedPoints.size();
+		c.internalIndexes.reset();
+		packedPoints.grow();
+
+		// Only copy the points if the contour is within the allowed size
+		int length = work.points.sizeOfSet(which);
+		if (length < getMaxContourSize() && length >= getMinContourSize()) {
+			PackedSetsPoint2D_I32.SetIterator iterator = work.iterator;
+			iterator.setup(which);
+			while (iterator.hasNext()) {
+				var p = iterator.next();
+				packedPoints.addPointToTail(p.x, p.y);
+			}
+		}
+
+		byte[] data = border.data;
+		int marked0 = which == 0 ? 0 : work.markedEnd.data[which - 1];
+		int marked1 = work.markedEnd.data[which];
+		for (int i = marked0; i < marked1; i++) {
+			data[work.marked.data[i]] = -1;
+		}
+	}
+
+	/**
+	 * Storage used by each thread when tracing contours
+	 */
+	protected static class TraceWork {
+		public ContourTracer tracer = new ContourTracer(ConnectRule.FOUR);
+		// Contour points for each blob
+		public final PackedSetsPoint2D_I32 points = new PackedSetsPoint2D_I32();
+		public final PackedSetsPoint2D_I32.SetIterator iterator = points.createIterator();
+		// Which blobs were traced
+		public final DogArray_I32 blobs = new DogArray_I32();
+		// Pixels which would have been marked in the binary image
+		public final DogArray_I32 marked = new DogArray_I32();
+		// Index of the last marked pixel for each blob, exclusive
+		public final DogArray_I32 markedEnd = new DogArray_I32();
+
+		public void reset( ConnectRule rule ) {
+			if (tracer.getConnectRule() != rule)
+				tracer = new ContourTracer(rule);
+			points.reset();
+			blobs.reset();
+			marked.reset();
+			markedEnd.reset();
+		}
+	}
+}
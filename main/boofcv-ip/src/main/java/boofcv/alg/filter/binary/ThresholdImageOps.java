@@ -54,7 +54,7 @@ public class ThresholdImageOps {
 									float threshold, boolean down ) {
 		output = InputSanityCheck.declareOrReshape(input, output, GrayU8.class);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplThresholdImageOps_MT.threshold(input, output, threshold, down);
 		} else {
 			ImplThresholdImageOps.threshold(input, output, threshold, down);
@@ -78,7 +78,7 @@ public class ThresholdImageOps {
 									double threshold, boolean down ) {
 		output = InputSanityCheck.declareOrReshape(input, output, GrayU8.class);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplThresholdImageOps_MT.threshold(input, output, threshold, down);
 		} else {
 			ImplThresholdImageOps.threshold(input, output, threshold, down);
@@ -102,7 +102,7 @@ public class ThresholdImageOps {
 									int threshold, boolean down ) {
 		output = InputSanityCheck.declareOrReshape(input, output, GrayU8.class);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplThresholdImageOps_MT.threshold(input, output, threshold, down);
 		} else {
 			ImplThresholdImageOps.threshold(input, output, threshold, down);
@@ -126,7 +126,7 @@ public class ThresholdImageOps {
 									int threshold, boolean down ) {
 		output = InputSanityCheck.declareOrReshape(input, output, GrayU8.class);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplThresholdImageOps_MT.threshold(input, output, threshold, down);
 		} else {
 			ImplThresholdImageOps.threshold(input, output, threshold, down);
@@ -150,7 +150,7 @@ public class ThresholdImageOps {
 									int threshold, boolean down ) {
 		output = InputSanityCheck.declareOrReshape(input, output, GrayU8.class);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplThresholdImageOps_MT.threshold(input, output, threshold, down);
 		} else {
 			ImplThresholdImageOps.threshold(input, output, threshold, down);
@@ -174,7 +174,7 @@ public class ThresholdImageOps {
 									int threshold, boolean down ) {
 		output = InputSanityCheck.declareOrReshape(input, output, GrayU8.class);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplThresholdImageOps_MT.threshold(input, output, threshold, down);
 		} else {
 			ImplThresholdImageOps.threshold(input, output, threshold, down);
@@ -207,7 +207,7 @@ public class ThresholdImageOps {
 		storage1 = InputSanityCheck.declareOrReshape(input, storage1, GrayU8.class);
 		storage2 = InputSanityCheck.declareOrReshape(input, storage2, GrayU8.class);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplThresholdImageOps_MT.localMean(input, output, width, scale, down, storage1, storage2, storage3);
 		} else {
 			ImplThresholdImageOps.localMean(input, output, width, scale, down, storage1, storage2, storage3);
@@ -239,7 +239,7 @@ public class ThresholdImageOps {
 		storage1 = InputSanityCheck.declareOrReshape(input, storage1, GrayU8.class);
 		storage2 = InputSanityCheck.declareOrReshape(input, storage2, GrayU8.class);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplThresholdImageOps_MT.localGaussian(input, output, width, scale, down, storage1, storage2);
 		} else {
 			ImplThresholdImageOps.localGaussian(input, output, width, scale, down, storage1, storage2);
@@ -272,7 +272,7 @@ public class ThresholdImageOps {
 		storage1 = InputSanityCheck.declareOrReshape(input, storage1, GrayU16.class);
 		storage2 = InputSanityCheck.declareOrReshape(input, storage2, GrayU16.class);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplThresholdImageOps_MT.localMean(input, output, width, scale, down, storage1, storage2, storage3);
 		} else {
 			ImplThresholdImageOps.localMean(input, output, width, scale, down, storage1, storage2, storage3);
@@ -304,7 +304,7 @@ public class ThresholdImageOps {
 		storage1 = InputSanityCheck.declareOrReshape(input, storage1, GrayU16.class);
 		storage2 = InputSanityCheck.declareOrReshape(input, storage2, GrayU16.class);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplThresholdImageOps_MT.localGaussian(input, output, width, scale, down, storage1, storage2);
 		} else {
 			ImplThresholdImageOps.localGaussian(input, output, width, scale, down, storage1, storage2);
@@ -337,7 +337,7 @@ public class ThresholdImageOps {
 		storage1 = InputSanityCheck.declareOrReshape(input, storage1, GrayF32.class);
 		storage2 = InputSanityCheck.declareOrReshape(input, storage2, GrayF32.class);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplThresholdImageOps_MT.localMean(input, output, width, scale, down, storage1, storage2, storage3);
 		} else {
 			ImplThresholdImageOps.localMean(input, output, width, scale, down, storage1, storage2, storage3);
@@ -369,7 +369,7 @@ public class ThresholdImageOps {
 		storage1 = InputSanityCheck.declareOrReshape(input, storage1, GrayF32.class);
 		storage2 = InputSanityCheck.declareOrReshape(input, storage2, GrayF32.class);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplThresholdImageOps_MT.localGaussian(input, output, width, scale, down, storage1, storage2);
 		} else {
 			ImplThresholdImageOps.localGaussian(input, output, width, scale, down, storage1, storage2);
@@ -863,7 +863,7 @@ public class BlurImageOps {
 
 		if (!processed) {
 			work = BoofMiscOps.checkDeclare(work, DogArray_I32::new);
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplMedianHistogramInner_MT.process(input, output, radiusX, radiusY, work);
 			} else {
 				ImplMedianHistogramInner.process(input, output, radiusX, radiusY, work);
@@ -895,7 +895,7 @@ public class BlurImageOps {
 		boolean processed = BOverrideBlurImageOps.invokeNativeMedian(input, output, radiusX, radiusY);
 
 		if (!processed) {
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplMedianSortNaive_MT.process(input, output, radiusX, radiusY, work);
 			} else {
 				ImplMedianSortNaive.process(input, output, radiusX, radiusY, work);
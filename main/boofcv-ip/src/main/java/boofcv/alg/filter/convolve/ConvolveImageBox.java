@@ -53,7 +53,7 @@ public class ConvolveImageBox {
 
 		Kernel1D_F32 kernel = FactoryKernel.table1D_F32(radius, false);
 		ConvolveJustBorder_General_SB.horizontal(kernel, ImageBorderValue.wrap(input, 0), output);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplConvolveBox_MT.horizontal(input, output, radius);
 		} else {
 			ImplConvolveBox.horizontal(input, output, radius);
@@ -72,7 +72,7 @@ public class ConvolveImageBox {
 
 		Kernel1D_S32 kernel = FactoryKernel.table1D_S32(radius);
 		ConvolveJustBorder_General_SB.horizontal(kernel, ImageBorderValue.wrap(input, 0), output);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplConvolveBox_MT.horizontal(input, output, radius);
 		} else {
 			ImplConvolveBox.horizontal(input, output, radius);
@@ -91,7 +91,7 @@ public class ConvolveImageBox {
 
 		Kernel1D_S32 kernel = FactoryKernel.table1D_S32(radius);
 		ConvolveJustBorder_General_SB.horizontal(kernel, ImageBorderValue.wrap(input, 0), output);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplConvolveBox_MT.horizontal(input, output, radius);
 		} else {
 			ImplConvolveBox.horizontal(input, output, radius);
@@ -110,7 +110,7 @@ public class ConvolveImageBox {
 
 		Kernel1D_S32 kernel = FactoryKernel.table1D_S32(radius);
 		ConvolveJustBorder_General_SB.horizontal(kernel, ImageBorderValue.wrap(input, 0), output);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplConvolveBox_MT.horizontal(input, output, radius);
 		} else {
 			ImplConvolveBox.horizontal(input, output, radius);
@@ -129,7 +129,7 @@ public class ConvolveImageBox {
 
 		Kernel1D_F32 kernel = FactoryKernel.table1D_F32(radius, false);
 		ConvolveJustBorder_General_SB.vertical(kernel, ImageBorderValue.wrap(input, 0), output);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplConvolveBox_MT.vertical(input, output, radius, work);
 		} else {
 			ImplConvolveBox.vertical(input, output, radius, work);
@@ -148,7 +148,7 @@ public class ConvolveImageBox {
 
 		Kernel1D_S32 kernel = FactoryKernel.table1D_S32(radius);
 		ConvolveJustBorder_General_SB.vertical(kernel, ImageBorderValue.wrap(input, 0), output);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplConvolveBox_MT.vertical(input, output, radius, work);
 		} else {
 			ImplConvolveBox.vertical(input, output, radius, work);
@@ -167,7 +167,7 @@ public class ConvolveImageBox {
 
 		Kernel1D_S32 kernel = FactoryKernel.table1D_S32(radius);
 		ConvolveJustBorder_General_SB.vertical(kernel, ImageBorderValue.wrap(input, 0), output);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplConvolveBox_MT.vertical(input, output, radius, work);
 		} else {
 			ImplConvolveBox.vertical(input, output, radius, work);
@@ -186,7 +186,7 @@ public class ConvolveImageBox {
 
 		Kernel1D_S32 kernel = FactoryKernel.table1D_S32(radius);
 		ConvolveJustBorder_General_SB.vertical(kernel, ImageBorderValue.wrap(input, 0), output);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplConvolveBox_MT.vertical(input, output, radius, work);
 		} else {
 			ImplConvolveBox.vertical(input, output, radius, work);
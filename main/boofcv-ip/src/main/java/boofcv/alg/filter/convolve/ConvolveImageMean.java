@@ -68,7 +68,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.horizontal(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -96,7 +96,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.vertical(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, workspaces);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, workspaces);
@@ -122,7 +122,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.horizontal(kernel, binput, output, kernel.computeSum());
 		}
 		if (length <= input.width) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -148,7 +148,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.vertical(kernel, binput, output, kernel.computeSum());
 		}
 		if (length <= input.height) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, workspaces);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, workspaces);
@@ -175,7 +175,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.horizontal(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -203,7 +203,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.vertical(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, workspaces);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, workspaces);
@@ -229,7 +229,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.horizontal(kernel, binput, output, kernel.computeSum());
 		}
 		if (length <= input.width) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -255,7 +255,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.vertical(kernel, binput, output, kernel.computeSum());
 		}
 		if (length <= input.height) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, workspaces);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, workspaces);
@@ -282,7 +282,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.horizontal(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -310,7 +310,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.vertical(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, workspaces);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, workspaces);
@@ -336,7 +336,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.horizontal(kernel, binput, output, kernel.computeSum());
 		}
 		if (length <= input.width) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -362,7 +362,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.vertical(kernel, binput, output, kernel.computeSum());
 		}
 		if (length <= input.height) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, workspaces);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, workspaces);
@@ -389,7 +389,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.horizontal(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -417,7 +417,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.vertical(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, workspaces);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, workspaces);
@@ -443,7 +443,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.horizontal(kernel, binput, output);
 		}
 		if (length <= input.width) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -469,7 +469,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.vertical(kernel, binput, output);
 		}
 		if (length <= input.height) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, workspaces);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, workspaces);
@@ -496,7 +496,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.horizontal(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.horizontal(kernel, input, output);
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -524,7 +524,7 @@ public class ConvolveImageMean {
 			ConvolveImageNormalized.vertical(kernel, input, output);
 		} else {
 			ConvolveNormalized_JustBorder_SB.vertical(kernel, input, output);
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, workspaces);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, workspaces);
@@ -550,7 +550,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.horizontal(kernel, binput, output);
 		}
 		if (length <= input.width) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.horizontal(input, output, offset, length);
 			} else {
 				ImplConvolveMean.horizontal(input, output, offset, length);
@@ -576,7 +576,7 @@ public class ConvolveImageMean {
 			ConvolveJustBorder_General_SB.vertical(kernel, binput, output);
 		}
 		if (length <= input.height) {
-			if(BoofConcurrency.USE_CONCURRENT) {
+			if(BoofConcurrency.isUseConcurrent()) {
 				ImplConvolveMean_MT.vertical(input, output, offset, length, workspaces);
 			} else {
 				ImplConvolveMean.vertical(input, output, offset, length, workspaces);
@@ -57,7 +57,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_F32 kernel, GrayF32 input, GrayF32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_F32_F32.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -69,7 +69,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_F32 kernel, GrayF32 input, GrayF32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_F32_F32.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -81,7 +81,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_F32 kernel, GrayF32 input, GrayF32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_F32_F32.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -93,7 +93,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_F32 kernel, InterleavedF32 input, InterleavedF32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -103,7 +103,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_F32 kernel, InterleavedF32 input, InterleavedF32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -113,7 +113,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_F32 kernel, InterleavedF32 input, InterleavedF32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -123,7 +123,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_F64 kernel, GrayF64 input, GrayF64 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_F64_F64.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -135,7 +135,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_F64 kernel, GrayF64 input, GrayF64 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_F64_F64.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -147,7 +147,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_F64 kernel, GrayF64 input, GrayF64 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_F64_F64.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -159,7 +159,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_F64 kernel, InterleavedF64 input, InterleavedF64 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -169,7 +169,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_F64 kernel, InterleavedF64 input, InterleavedF64 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -179,7 +179,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_F64 kernel, InterleavedF64 input, InterleavedF64 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -189,7 +189,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, GrayU8 input, GrayI16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I16.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -201,7 +201,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_S32 kernel, GrayU8 input, GrayI16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I16.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -213,7 +213,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_S32 kernel, GrayU8 input, GrayI16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I16.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -225,7 +225,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, InterleavedU8 input, InterleavedI16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -235,7 +235,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_S32 kernel, InterleavedU8 input, InterleavedI16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -245,7 +245,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_S32 kernel, InterleavedU8 input, InterleavedI16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -255,7 +255,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, GrayU8 input, GrayS32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_SB.horizontal(kernel, input, output);
@@ -265,7 +265,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_S32 kernel, GrayU8 input, GrayS32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_SB.vertical(kernel, input, output);
@@ -275,7 +275,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_S32 kernel, GrayU8 input, GrayS32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_SB.convolve(kernel, input, output);
@@ -285,7 +285,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, InterleavedU8 input, InterleavedS32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -295,7 +295,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_S32 kernel, InterleavedU8 input, InterleavedS32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -305,7 +305,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_S32 kernel, InterleavedU8 input, InterleavedS32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -316,7 +316,7 @@ public class ConvolveImageNoBorder {
 								 @Nullable GrowArray<DogArray_I32> work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor, work);
 		} else {
 			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor, work);
@@ -326,7 +326,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_S32 kernel, InterleavedU16 input, InterleavedI8 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -336,7 +336,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, GrayS16 input, GrayI16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -348,7 +348,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_S32 kernel, GrayS16 input, GrayI16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -360,7 +360,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_S32 kernel, GrayS16 input, GrayI16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -372,7 +372,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, InterleavedS16 input, InterleavedI16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -382,7 +382,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_S32 kernel, InterleavedS16 input, InterleavedI16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -392,7 +392,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_S32 kernel, InterleavedS16 input, InterleavedI16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -402,7 +402,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, GrayU8 input, GrayI8 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I8_Div.horizontal(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
 		} else {
@@ -415,7 +415,7 @@ public class ConvolveImageNoBorder {
 								 @Nullable GrowArray<DogArray_I32> work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I8_Div.vertical(kernel, input, output, divisor, work))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor, work);
 		} else {
@@ -428,7 +428,7 @@ public class ConvolveImageNoBorder {
 								 @Nullable GrowArray<DogArray_I32> work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U8_I8_Div.convolve(kernel, input, output, divisor, work))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor, work);
 		} else {
@@ -440,7 +440,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, InterleavedU8 input, InterleavedI8 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
@@ -450,7 +450,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_S32 kernel, InterleavedU8 input, InterleavedI8 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -460,7 +460,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_S32 kernel, InterleavedU8 input, InterleavedI8 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
@@ -470,7 +470,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, GrayS16 input, GrayI16 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16_Div.horizontal(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
 		} else {
@@ -483,7 +483,7 @@ public class ConvolveImageNoBorder {
 								 @Nullable GrowArray<DogArray_I32> work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16_Div.vertical(kernel, input, output, divisor, work))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor, work);
 		} else {
@@ -496,7 +496,7 @@ public class ConvolveImageNoBorder {
 								 @Nullable GrowArray<DogArray_I32> work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S16_I16_Div.convolve(kernel, input, output, divisor, work))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor, work);
 		} else {
@@ -508,7 +508,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, InterleavedS16 input, InterleavedI16 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
@@ -518,7 +518,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_S32 kernel, InterleavedS16 input, InterleavedI16 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -528,7 +528,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_S32 kernel, InterleavedS16 input, InterleavedI16 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
@@ -538,7 +538,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, GrayU16 input, GrayI16 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U16_I16_Div.horizontal(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
 		} else {
@@ -551,7 +551,7 @@ public class ConvolveImageNoBorder {
 								 @Nullable GrowArray<DogArray_I32> work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U16_I16_Div.vertical(kernel, input, output, divisor, work))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor, work);
 		} else {
@@ -564,7 +564,7 @@ public class ConvolveImageNoBorder {
 								 @Nullable GrowArray<DogArray_I32> work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_U16_I16_Div.convolve(kernel, input, output, divisor, work))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor, work);
 		} else {
@@ -576,7 +576,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, InterleavedU16 input, InterleavedI16 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
@@ -586,7 +586,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_S32 kernel, InterleavedU16 input, InterleavedI16 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -596,7 +596,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_S32 kernel, InterleavedU16 input, InterleavedI16 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
@@ -607,7 +607,7 @@ public class ConvolveImageNoBorder {
 								 @Nullable GrowArray<DogArray_I32> work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor, work);
 		} else {
 			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor, work);
@@ -617,7 +617,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_S32 kernel, InterleavedS32 input, InterleavedI16 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -627,7 +627,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, GrayS32 input, GrayS32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32.horizontal(kernel, input, output))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
 		} else {
@@ -639,7 +639,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_S32 kernel, GrayS32 input, GrayS32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32.vertical(kernel, input, output))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
 		} else {
@@ -651,7 +651,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_S32 kernel, GrayS32 input, GrayS32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32.convolve(kernel, input, output))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
 		} else {
@@ -663,7 +663,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, InterleavedS32 input, InterleavedS32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output);
@@ -673,7 +673,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_S32 kernel, InterleavedS32 input, InterleavedS32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output);
@@ -683,7 +683,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_S32 kernel, InterleavedS32 input, InterleavedS32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output);
@@ -693,7 +693,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, GrayS32 input, GrayS32 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32_Div.horizontal(kernel, input, output, divisor))
 				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
 		} else {
@@ -706,7 +706,7 @@ public class ConvolveImageNoBorder {
 								 @Nullable GrowArray<DogArray_I32> work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32_Div.vertical(kernel, input, output, divisor, work))
 				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor, work);
 		} else {
@@ -719,7 +719,7 @@ public class ConvolveImageNoBorder {
 								 @Nullable GrowArray<DogArray_I32> work ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			if (!ConvolveImageUnrolled_SB_MT_S32_S32_Div.convolve(kernel, input, output, divisor, work))
 				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor, work);
 		} else {
@@ -731,7 +731,7 @@ public class ConvolveImageNoBorder {
 	public static void horizontal( Kernel1D_S32 kernel, InterleavedS32 input, InterleavedS32 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.horizontal(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
@@ -741,7 +741,7 @@ public class ConvolveImageNoBorder {
 	public static void vertical( Kernel1D_S32 kernel, InterleavedS32 input, InterleavedS32 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.vertical(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
@@ -751,7 +751,7 @@ public class ConvolveImageNoBorder {
 	public static void convolve( Kernel2D_S32 kernel, InterleavedS32 input, InterleavedS32 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ConvolveImageStandard_IL_MT.convolve(kernel, input, output, divisor);
 		} else {
 			ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
@@ -73,7 +73,7 @@ public class DerivativeLaplacian {
 	public static void process(GrayU8 orig, GrayS16 deriv, @Nullable ImageBorder_S32<GrayU8> border ) {
 		deriv.reshape(orig.width,orig.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			DerivativeLaplacian_Inner_MT.process(orig,deriv);
 		} else {
 			DerivativeLaplacian_Inner.process(orig,deriv);
@@ -92,7 +92,7 @@ public class DerivativeLaplacian {
 	public static void process(GrayU8 orig, GrayF32 deriv) {
 		deriv.reshape(orig.width,orig.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			DerivativeLaplacian_Inner_MT.process(orig,deriv);
 		} else {
 			DerivativeLaplacian_Inner.process(orig,deriv);
@@ -113,7 +113,7 @@ public class DerivativeLaplacian {
 	public static void process(GrayF32 orig, GrayF32 deriv, @Nullable ImageBorder_F32 border) {
 		deriv.reshape(orig.width,orig.height);
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			DerivativeLaplacian_Inner_MT.process(orig,deriv);
 		} else {
 			DerivativeLaplacian_Inner.process(orig,deriv);
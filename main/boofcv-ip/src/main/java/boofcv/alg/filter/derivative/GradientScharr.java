@@ -86,7 +86,7 @@ public class GradientScharr {
 	public static void process( GrayU8 orig, GrayS16 derivX, GrayS16 derivY, @Nullable ImageBorder_S32<GrayU8> border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			GradientFamilyAB_MT.process(orig, 3, 10, derivX, derivY);
 		} else {
 			GradientFamilyAB.process(orig, 3, 10, derivX, derivY);
@@ -110,7 +110,7 @@ public class GradientScharr {
 	public static void process( GrayS16 orig, GrayS16 derivX, GrayS16 derivY, @Nullable ImageBorder_S32<GrayS16> border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			GradientFamilyAB_MT.process(orig, 3, 10, derivX, derivY);
 		} else {
 			GradientFamilyAB.process(orig, 3, 10, derivX, derivY);
@@ -135,7 +135,7 @@ public class GradientScharr {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
 //		GradientSobel_Outer.process_F32(orig, derivX, derivY);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			GradientFamilyAB_MT.process(orig, 0.093750f, 0.31250f, derivX, derivY);
 		} else {
 			GradientFamilyAB.process(orig, 0.093750f, 0.31250f, derivX, derivY);
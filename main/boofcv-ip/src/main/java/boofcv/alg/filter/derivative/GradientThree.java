@@ -84,7 +84,7 @@ public class GradientThree {
 								GrayS16 derivY, @Nullable ImageBorder_S32 border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			GradientThree_Standard_MT.process(orig, derivX, derivY);
 		} else {
 			GradientThree_Standard.process(orig, derivX, derivY);
@@ -109,7 +109,7 @@ public class GradientThree {
 								GrayS32 derivY, @Nullable ImageBorder_S32 border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			GradientThree_Standard_MT.process(orig, derivX, derivY);
 		} else {
 			GradientThree_Standard.process(orig, derivX, derivY);
@@ -134,7 +134,7 @@ public class GradientThree {
 								GrayS16 derivY, @Nullable ImageBorder_S32 border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			GradientThree_Standard_MT.process(orig, derivX, derivY);
 		} else {
 			GradientThree_Standard.process(orig, derivX, derivY);
@@ -159,7 +159,7 @@ public class GradientThree {
 								GrayF32 derivY, @Nullable ImageBorder_F32 border ) {
 		InputSanityCheck.reshapeOneIn(orig, derivX, derivY);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			GradientThree_Standard_MT.process(orig, derivX, derivY);
 		} else {
 			GradientThree_Standard.process(orig, derivX, derivY);
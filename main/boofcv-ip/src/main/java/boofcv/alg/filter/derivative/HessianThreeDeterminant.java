@@ -52,7 +52,7 @@ public class HessianThreeDeterminant {
 	public static void process( GrayU8 orig, GrayS16 deriv, @Nullable ImageBorder_S32<GrayU8> border ) {
 		deriv.reshape(orig.width, orig.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			HessianThreeDeterminant_Inner_MT.process(orig, deriv);
 		} else {
 			HessianThreeDeterminant_Inner.process(orig, deriv);
@@ -70,7 +70,7 @@ public class HessianThreeDeterminant {
 	public static void process( GrayU8 orig, GrayF32 deriv, @Nullable ImageBorder_S32<GrayU8> border ) {
 		deriv.reshape(orig.width, orig.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			HessianThreeDeterminant_Inner_MT.process(orig, deriv);
 		} else {
 			HessianThreeDeterminant_Inner.process(orig, deriv);
@@ -90,7 +90,7 @@ public class HessianThreeDeterminant {
 	public static void process( GrayF32 orig, GrayF32 deriv, @Nullable ImageBorder_F32 border ) {
 		deriv.reshape(orig.width, orig.height);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			HessianThreeDeterminant_Inner_MT.process(orig, deriv);
 		} else {
 			HessianThreeDeterminant_Inner.process(orig, deriv);
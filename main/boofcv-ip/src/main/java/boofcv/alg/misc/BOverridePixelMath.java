@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.override.BOverrideClass;
+import boofcv.override.BOverrideManager;
+import boofcv.struct.image.ImageBase;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Override for {@link PixelMath}. An implementation should throw a RuntimeException if it can't
+ * handle the image types, then the default implementation will be used.
+ *
+ * @author Peter Abeles
+ */
+public class BOverridePixelMath extends BOverrideClass {
+
+	static {
+		BOverrideManager.register(BOverridePixelMath.class);
+	}
+
+	public static @Nullable Scalar scalar;
+	public static @Nullable TwoImages twoImages;
+
+	/** Arithmetic operations that can be overridden */
+	public enum Operation {
+		ADD, SUBTRACT, MULTIPLY, DIVIDE
+	}
+
+	/**
+	 * Operation between an image and a scalar. output = input (op) value
+	 */
+	public interface Scalar {
+		void scalar( Operation op, ImageBase input, double value, ImageBase output );
+	}
+
+	/**
+	 * Operation between two images. output = imgA (op) imgB
+	 */
+	public interface TwoImages {
+		void twoImages( Operation op, ImageBase imgA, ImageBase imgB, ImageBase output );
+	}
+
+	public static boolean invokeScalar( Operation op, ImageBase input, double value, ImageBase output ) {
+		boolean processed = false;
+		if (scalar != null) {
+			try {
+				scalar.scalar(op, input, value, output);
+				processed = true;
+			} catch (RuntimeException ignore) {}
+		}
+		return processed;
+	}
+
+	public static boolean invokeTwoImages( Operation op, ImageBase imgA, ImageBase imgB, ImageBase output ) {
+		boolean processed = false;
+		if (twoImages != null) {
+			try {
+				twoImages.twoImages(op, imgA, imgB, output);
+				processed = true;
+			} catch (RuntimeException ignore) {}
+		}
+		return processed;
+	}
+}
@@ -60,7 +60,7 @@ public class ImageBandMath {
 	 */
 	public static void minimum( Planar<GrayU8> input, GrayU8 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.minimum(input, output, 0, input.getNumBands() - 1);
@@ -78,7 +78,7 @@ public class ImageBandMath {
 	public static void minimum( Planar<GrayU8> input, GrayU8 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.minimum(input, output, startBand, lastBand);
@@ -93,7 +93,7 @@ public class ImageBandMath {
 	 */
 	public static void maximum( Planar<GrayU8> input, GrayU8 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.maximum(input, output, 0, input.getNumBands() - 1);
@@ -111,7 +111,7 @@ public class ImageBandMath {
 	public static void maximum( Planar<GrayU8> input, GrayU8 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.maximum(input, output, startBand, lastBand);
@@ -126,7 +126,7 @@ public class ImageBandMath {
 	 */
 	public static void average( Planar<GrayU8> input, GrayU8 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.average(input, output, 0, input.getNumBands() - 1);
@@ -144,7 +144,7 @@ public class ImageBandMath {
 	public static void average( Planar<GrayU8> input, GrayU8 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.average(input, output, startBand, lastBand);
@@ -159,7 +159,7 @@ public class ImageBandMath {
 	 */
 	public static void median( Planar<GrayU8> input, GrayU8 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.median(input, output, 0, input.getNumBands() - 1);
@@ -177,7 +177,7 @@ public class ImageBandMath {
 	public static void median( Planar<GrayU8> input, GrayU8 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.median(input, output, startBand, lastBand);
@@ -213,7 +213,7 @@ public class ImageBandMath {
 			avg = new GrayU8(input.width, input.height);
 			average(input, avg, startBand, lastBand);
 		}
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.stdDev(input, output, avg, startBand, lastBand);
 		} else {
 			ImplImageBandMath.stdDev(input, output, avg, startBand, lastBand);
@@ -228,7 +228,7 @@ public class ImageBandMath {
 	 */
 	public static void minimum( Planar<GrayS16> input, GrayS16 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.minimum(input, output, 0, input.getNumBands() - 1);
@@ -246,7 +246,7 @@ public class ImageBandMath {
 	public static void minimum( Planar<GrayS16> input, GrayS16 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.minimum(input, output, startBand, lastBand);
@@ -261,7 +261,7 @@ public class ImageBandMath {
 	 */
 	public static void maximum( Planar<GrayS16> input, GrayS16 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.maximum(input, output, 0, input.getNumBands() - 1);
@@ -279,7 +279,7 @@ public class ImageBandMath {
 	public static void maximum( Planar<GrayS16> input, GrayS16 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.maximum(input, output, startBand, lastBand);
@@ -294,7 +294,7 @@ public class ImageBandMath {
 	 */
 	public static void average( Planar<GrayS16> input, GrayS16 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.average(input, output, 0, input.getNumBands() - 1);
@@ -312,7 +312,7 @@ public class ImageBandMath {
 	public static void average( Planar<GrayS16> input, GrayS16 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.average(input, output, startBand, lastBand);
@@ -327,7 +327,7 @@ public class ImageBandMath {
 	 */
 	public static void median( Planar<GrayS16> input, GrayS16 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.median(input, output, 0, input.getNumBands() - 1);
@@ -345,7 +345,7 @@ public class ImageBandMath {
 	public static void median( Planar<GrayS16> input, GrayS16 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.median(input, output, startBand, lastBand);
@@ -381,7 +381,7 @@ public class ImageBandMath {
 			avg = new GrayS16(input.width, input.height);
 			average(input, avg, startBand, lastBand);
 		}
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.stdDev(input, output, avg, startBand, lastBand);
 		} else {
 			ImplImageBandMath.stdDev(input, output, avg, startBand, lastBand);
@@ -396,7 +396,7 @@ public class ImageBandMath {
 	 */
 	public static void minimum( Planar<GrayU16> input, GrayU16 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.minimum(input, output, 0, input.getNumBands() - 1);
@@ -414,7 +414,7 @@ public class ImageBandMath {
 	public static void minimum( Planar<GrayU16> input, GrayU16 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.minimum(input, output, startBand, lastBand);
@@ -429,7 +429,7 @@ public class ImageBandMath {
 	 */
 	public static void maximum( Planar<GrayU16> input, GrayU16 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.maximum(input, output, 0, input.getNumBands() - 1);
@@ -447,7 +447,7 @@ public class ImageBandMath {
 	public static void maximum( Planar<GrayU16> input, GrayU16 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.maximum(input, output, startBand, lastBand);
@@ -462,7 +462,7 @@ public class ImageBandMath {
 	 */
 	public static void average( Planar<GrayU16> input, GrayU16 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.average(input, output, 0, input.getNumBands() - 1);
@@ -480,7 +480,7 @@ public class ImageBandMath {
 	public static void average( Planar<GrayU16> input, GrayU16 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.average(input, output, startBand, lastBand);
@@ -495,7 +495,7 @@ public class ImageBandMath {
 	 */
 	public static void median( Planar<GrayU16> input, GrayU16 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.median(input, output, 0, input.getNumBands() - 1);
@@ -513,7 +513,7 @@ public class ImageBandMath {
 	public static void median( Planar<GrayU16> input, GrayU16 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.median(input, output, startBand, lastBand);
@@ -549,7 +549,7 @@ public class ImageBandMath {
 			avg = new GrayU16(input.width, input.height);
 			average(input, avg, startBand, lastBand);
 		}
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.stdDev(input, output, avg, startBand, lastBand);
 		} else {
 			ImplImageBandMath.stdDev(input, output, avg, startBand, lastBand);
@@ -564,7 +564,7 @@ public class ImageBandMath {
 	 */
 	public static void minimum( Planar<GrayS32> input, GrayS32 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.minimum(input, output, 0, input.getNumBands() - 1);
@@ -582,7 +582,7 @@ public class ImageBandMath {
 	public static void minimum( Planar<GrayS32> input, GrayS32 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.minimum(input, output, startBand, lastBand);
@@ -597,7 +597,7 @@ public class ImageBandMath {
 	 */
 	public static void maximum( Planar<GrayS32> input, GrayS32 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.maximum(input, output, 0, input.getNumBands() - 1);
@@ -615,7 +615,7 @@ public class ImageBandMath {
 	public static void maximum( Planar<GrayS32> input, GrayS32 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.maximum(input, output, startBand, lastBand);
@@ -630,7 +630,7 @@ public class ImageBandMath {
 	 */
 	public static void average( Planar<GrayS32> input, GrayS32 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.average(input, output, 0, input.getNumBands() - 1);
@@ -648,7 +648,7 @@ public class ImageBandMath {
 	public static void average( Planar<GrayS32> input, GrayS32 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.average(input, output, startBand, lastBand);
@@ -663,7 +663,7 @@ public class ImageBandMath {
 	 */
 	public static void median( Planar<GrayS32> input, GrayS32 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.median(input, output, 0, input.getNumBands() - 1);
@@ -681,7 +681,7 @@ public class ImageBandMath {
 	public static void median( Planar<GrayS32> input, GrayS32 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.median(input, output, startBand, lastBand);
@@ -717,7 +717,7 @@ public class ImageBandMath {
 			avg = new GrayS32(input.width, input.height);
 			average(input, avg, startBand, lastBand);
 		}
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.stdDev(input, output, avg, startBand, lastBand);
 		} else {
 			ImplImageBandMath.stdDev(input, output, avg, startBand, lastBand);
@@ -732,7 +732,7 @@ public class ImageBandMath {
 	 */
 	public static void minimum( Planar<GrayS64> input, GrayS64 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.minimum(input, output, 0, input.getNumBands() - 1);
@@ -750,7 +750,7 @@ public class ImageBandMath {
 	public static void minimum( Planar<GrayS64> input, GrayS64 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.minimum(input, output, startBand, lastBand);
@@ -765,7 +765,7 @@ public class ImageBandMath {
 	 */
 	public static void maximum( Planar<GrayS64> input, GrayS64 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.maximum(input, output, 0, input.getNumBands() - 1);
@@ -783,7 +783,7 @@ public class ImageBandMath {
 	public static void maximum( Planar<GrayS64> input, GrayS64 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.maximum(input, output, startBand, lastBand);
@@ -798,7 +798,7 @@ public class ImageBandMath {
 	 */
 	public static void average( Planar<GrayS64> input, GrayS64 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.average(input, output, 0, input.getNumBands() - 1);
@@ -816,7 +816,7 @@ public class ImageBandMath {
 	public static void average( Planar<GrayS64> input, GrayS64 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.average(input, output, startBand, lastBand);
@@ -831,7 +831,7 @@ public class ImageBandMath {
 	 */
 	public static void median( Planar<GrayS64> input, GrayS64 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.median(input, output, 0, input.getNumBands() - 1);
@@ -849,7 +849,7 @@ public class ImageBandMath {
 	public static void median( Planar<GrayS64> input, GrayS64 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.median(input, output, startBand, lastBand);
@@ -885,7 +885,7 @@ public class ImageBandMath {
 			avg = new GrayS64(input.width, input.height);
 			average(input, avg, startBand, lastBand);
 		}
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.stdDev(input, output, avg, startBand, lastBand);
 		} else {
 			ImplImageBandMath.stdDev(input, output, avg, startBand, lastBand);
@@ -900,7 +900,7 @@ public class ImageBandMath {
 	 */
 	public static void minimum( Planar<GrayF32> input, GrayF32 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.minimum(input, output, 0, input.getNumBands() - 1);
@@ -918,7 +918,7 @@ public class ImageBandMath {
 	public static void minimum( Planar<GrayF32> input, GrayF32 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.minimum(input, output, startBand, lastBand);
@@ -933,7 +933,7 @@ public class ImageBandMath {
 	 */
 	public static void maximum( Planar<GrayF32> input, GrayF32 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.maximum(input, output, 0, input.getNumBands() - 1);
@@ -951,7 +951,7 @@ public class ImageBandMath {
 	public static void maximum( Planar<GrayF32> input, GrayF32 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.maximum(input, output, startBand, lastBand);
@@ -966,7 +966,7 @@ public class ImageBandMath {
 	 */
 	public static void average( Planar<GrayF32> input, GrayF32 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.average(input, output, 0, input.getNumBands() - 1);
@@ -984,7 +984,7 @@ public class ImageBandMath {
 	public static void average( Planar<GrayF32> input, GrayF32 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.average(input, output, startBand, lastBand);
@@ -999,7 +999,7 @@ public class ImageBandMath {
 	 */
 	public static void median( Planar<GrayF32> input, GrayF32 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.median(input, output, 0, input.getNumBands() - 1);
@@ -1017,7 +1017,7 @@ public class ImageBandMath {
 	public static void median( Planar<GrayF32> input, GrayF32 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.median(input, output, startBand, lastBand);
@@ -1053,7 +1053,7 @@ public class ImageBandMath {
 			avg = new GrayF32(input.width, input.height);
 			average(input, avg, startBand, lastBand);
 		}
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.stdDev(input, output, avg, startBand, lastBand);
 		} else {
 			ImplImageBandMath.stdDev(input, output, avg, startBand, lastBand);
@@ -1068,7 +1068,7 @@ public class ImageBandMath {
 	 */
 	public static void minimum( Planar<GrayF64> input, GrayF64 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.minimum(input, output, 0, input.getNumBands() - 1);
@@ -1086,7 +1086,7 @@ public class ImageBandMath {
 	public static void minimum( Planar<GrayF64> input, GrayF64 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.minimum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.minimum(input, output, startBand, lastBand);
@@ -1101,7 +1101,7 @@ public class ImageBandMath {
 	 */
 	public static void maximum( Planar<GrayF64> input, GrayF64 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.maximum(input, output, 0, input.getNumBands() - 1);
@@ -1119,7 +1119,7 @@ public class ImageBandMath {
 	public static void maximum( Planar<GrayF64> input, GrayF64 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.maximum(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.maximum(input, output, startBand, lastBand);
@@ -1134,7 +1134,7 @@ public class ImageBandMath {
 	 */
 	public static void average( Planar<GrayF64> input, GrayF64 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.average(input, output, 0, input.getNumBands() - 1);
@@ -1152,7 +1152,7 @@ public class ImageBandMath {
 	public static void average( Planar<GrayF64> input, GrayF64 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.average(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.average(input, output, startBand, lastBand);
@@ -1167,7 +1167,7 @@ public class ImageBandMath {
 	 */
 	public static void median( Planar<GrayF64> input, GrayF64 output ) {
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, 0, input.getNumBands() - 1);
 		} else {
 			ImplImageBandMath.median(input, output, 0, input.getNumBands() - 1);
@@ -1185,7 +1185,7 @@ public class ImageBandMath {
 	public static void median( Planar<GrayF64> input, GrayF64 output, int startBand, int lastBand ) {
 		checkInput(input, startBand, lastBand);
 		output.reshape(input.width, input.height);
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.median(input, output, startBand, lastBand);
 		} else {
 			ImplImageBandMath.median(input, output, startBand, lastBand);
@@ -1221,7 +1221,7 @@ public class ImageBandMath {
 			avg = new GrayF64(input.width, input.height);
 			average(input, avg, startBand, lastBand);
 		}
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplImageBandMath_MT.stdDev(input, output, avg, startBand, lastBand);
 		} else {
 			ImplImageBandMath.stdDev(input, output, avg, startBand, lastBand);
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.MappedImageGray;
+import boofcv.struct.image.MappedPlanar;
+import boofcv.struct.image.Planar;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * Functions for applying regular image processing operations to images stored off the heap, i.e.
+ * {@link MappedImageGray} and {@link MappedPlanar}. The image is processed in blocks of rows. Each block is
+ * copied onto the heap, processed, then written back. This allows functions in {@link ImageMiscOps},
+ * {@link PixelMath}, {@link boofcv.core.image.ConvertImage}, {@link boofcv.alg.filter.blur.BlurImageOps}, and
+ * pretty much anything else which takes in a gray scale image to be used.
+ * </p>
+ *
+ * <p>
+ * Operations which look at neighboring pixels, e.g. blur, need to be given a halo. The halo is the number of
+ * extra rows above and below each block which are read in but not written out. If the halo is at least as large
+ * as the operation's radius then the results will be identical to processing the whole image at once.
+ * </p>
+ *
+ * <pre>
+ * MappedImageOps.process(input, output, 0, ( a, b ) -> PixelMath.multiply(a, 2.0f, b));
+ * MappedImageOps.process(input, output, radius, ( a, b ) -> BlurImageOps.gaussian(a, b, -1, radius, null));
+ * </pre>
+ *
+ * @author Peter Abeles
+ */
+public class MappedImageOps {
+	/** Default number of pixels in each block which is copied onto the heap */
+	public static final int DEFAULT_BLOCK_PIXELS = 4_000_000;
+
+	/**
+	 * Applies the operation to the input image and writes the results into the output image.
+	 *
+	 * @param input (Input) Image being processed
+	 * @param output (Output) Image the results are written to. Must be the same shape as the input.
+	 * @param halo Number of extra rows above and below each block which are needed by the operation
+	 * @param op The operation
+	 */
+	public static <I extends ImageGray<I>, O extends ImageGray<O>>
+	void process( MappedImageGray<I> input, MappedImageGray<O> output, int halo, BiConsumer<I, O> op ) {
+		process(input, output, halo, selectBlockRows(input.width), op);
+	}
+
+	/**
+	 * Same as {@link #process(MappedImageGray, MappedImageGray, int, BiConsumer)} but the number of rows in each
+	 * block is specified.
+	 *
+	 * @param blockRows Number of rows written out in each block
+	 */
+	public static <I extends ImageGray<I>, O extends ImageGray<O>>
+	void process( MappedImageGray<I> input, MappedImageGray<O> output, int halo, int blockRows,
+				  BiConsumer<I, O> op ) {
+		checkInputs(input.width, input.height, output.width, output.height, halo, blockRows);
+		// If the output is written to the same memory then the halo of the next block would be modified
+		if (halo > 0 && input.isSameStorage(output))
+			throw new IllegalArgumentException("Input and output can't share storage when the halo is not zero");
+
+		final int width = input.width;
+		final int height = input.height;
+		I blockIn = input.createHeapImage(width, Math.min(height, blockRows + 2*halo));
+		O blockOut = output.createHeapImage(width, blockIn.height);
+
+		for (int y0 = 0; y0 < height; y0 += blockRows) {
+			int y1 = Math.min(height, y0 + blockRows);
+			int row0 = Math.max(0, y0 - halo);
+			int row1 = Math.min(height, y1 + halo);
+
+			blockIn.reshape(width, row1 - row0);
+			blockOut.reshape(width, row1 - row0);
+			input.read(0, row0, blockIn);
+			op.accept(blockIn, blockOut);
+			output.write(0, y0, blockOut.subimage(0, y0 - row0, width, y1 - row0));
+		}
+	}
+
+	/**
+	 * Applies an operation to the image and saves the results in the same image. Since pixels are modified
+	 * in place no halo is possible.
+	 *
+	 * @param image (Input, Output) Image being processed
+	 * @param op The operation
+	 */
+	public static <T extends ImageGray<T>> void process( MappedImageGray<T> image, Consumer<T> op ) {
+		final int width = image.width;
+		final int height = image.height;
+		final int blockRows = selectBlockRows(width);
+		T block = image.createHeapImage(width, Math.min(height, blockRows));
+
+		for (int y0 = 0; y0 < height; y0 += blockRows) {
+			int y1 = Math.min(height, y0 + blockRows);
+			block.reshape(width, y1 - y0);
+			image.read(0, y0, block);
+			op.accept(block);
+			image.write(0, y0, block);
+		}
+	}
+
+	/**
+	 * Planar version of {@link #process(MappedImageGray, MappedImageGray, int, BiConsumer)}
+	 */
+	public static <I extends ImageGray<I>, O extends ImageGray<O>>
+	void process( MappedPlanar<I> input, MappedPlanar<O> output, int halo, BiConsumer<Planar<I>, Planar<O>> op ) {
+		process(input, output, halo, selectBlockRows(input.width*input.getNumBands()), op);
+	}
+
+	/**
+	 * Planar version of {@link #process(MappedImageGray, MappedImageGray, int, int, BiConsumer)}
+	 */
+	public static <I extends ImageGray<I>, O extends ImageGray<O>>
+	void process( MappedPlanar<I> input, MappedPlanar<O> output, int halo, int blockRows,
+				  BiConsumer<Planar<I>, Planar<O>> op ) {
+		checkInputs(input.width, input.height, output.width, output.height, halo, blockRows);
+		if (halo > 0) {
+			for (int i = 0; i < input.getNumBands(); i++) {
+				for (int j = 0; j < output.getNumBands(); j++) {
+					if (input.getBand(i).isSameStorage(output.getBand(j)))
+						throw new IllegalArgumentException("Input and output can't share storage when the halo is not zero");
+				}
+			}
+		}
+
+		final int width = input.width;
+		final int height = input.height;
+		Planar<I> blockIn = input.createHeapImage(width, Math.min(height, blockRows + 2*halo));
+		Planar<O> blockOut = output.createHeapImage(width, blockIn.height);
+
+		for (int y0 = 0; y0 < height; y0 += blockRows) {
+			int y1 = Math.min(height, y0 + blockRows);
+			int row0 = Math.max(0, y0 - halo);
+			int row1 = Math.min(height, y1 + halo);
+
+			blockIn.reshape(width, row1 - row0);
+			blockOut.reshape(width, row1 - row0);
+			input.read(0, row0, blockIn);
+			op.accept(blockIn, blockOut);
+			output.write(0, y0, blockOut.subimage(0, y0 - row0, width, y1 - row0));
+		}
+	}
+
+	/**
+	 * Planar version of {@link #process(MappedImageGray, Consumer)}
+	 */
+	public static <T extends ImageGray<T>> void process( MappedPlanar<T> image, Consumer<Planar<T>> op ) {
+		final int width = image.width;
+		final int height = image.height;
+		final int blockRows = selectBlockRows(width*image.getNumBands());
+		Planar<T> block = image.createHeapImage(width, Math.min(height, blockRows));
+
+		for (int y0 = 0; y0 < height; y0 += blockRows) {
+			int y1 = Math.min(height, y0 + blockRows);
+			block.reshape(width, y1 - y0);
+			image.read(0, y0, block);
+			op.accept(block);
+			image.write(0, y0, block);
+		}
+	}
+
+	private static int selectBlockRows( int rowPixels ) {
+		return Math.max(1, DEFAULT_BLOCK_PIXELS/Math.max(1, rowPixels));
+	}
+
+	private static void checkInputs( int inWidth, int inHeight, int outWidth, int outHeight, int halo, int blockRows ) {
+		if (inWidth != outWidth || inHeight != outHeight)
+			throw new IllegalArgumentException("Input and output must have the same shape");
+		if (halo < 0)
+			throw new IllegalArgumentException("Halo can't be negative");
+		if (blockRows <= 0)
+			throw new IllegalArgumentException("blockRows must be more than zero");
+	}
+}
@@ -0,0 +1,541 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+import org.jetbrains.annotations.Nullable;
+import pabeles.concurrency.GrowArray;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Lazily evaluated sequence of per-pixel operations. Operations are recorded when functions like {@link #multiply}
+ * and {@link #plus} are called, but nothing is computed until {@link #process} is called. Then the image is
+ * processed one row at a time. Each row is read into a small buffer, every operation is applied to the buffer,
+ * and the results are written to the output image. This makes a single pass through the image and no
+ * intermediate images are needed. When a chain of functions in {@link PixelMath}, {@link ImageBandMath} and
+ * {@link boofcv.core.image.ConvertImage} is memory bound this can be much faster.
+ * </p>
+ *
+ * <pre>
+ * // same as PixelMath.multiply(), PixelMath.plus(), PixelMath.boundImage(), ConvertImage.convert()
+ * PixelExpression.of(input).multiply(1.5).plus(10).bound(0, 255).process(outputU8);
+ * </pre>
+ *
+ * <p>
+ * Computations are done using floats, unless one of the images is {@link GrayS32}, {@link GrayS64}, or
+ * {@link GrayF64}, then they are done using doubles so that precision isn't lost. GrayS64 values larger than
+ * 2<sup>53</sup> can't be exactly represented by a double. When writing to an integer image the value is cast,
+ * just like in {@link boofcv.core.image.ConvertImage}, so you probably want to bound the value first.
+ * An expression can be processed multiple times but is not thread safe.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PixelExpression {
+	// Where pixel values come from
+	final ImageBase<?> source;
+	final Source sourceType;
+
+	// Sequence of operations which are applied to each pixel
+	final List<Operation> operations = new ArrayList<>();
+
+	// Storage for each thread
+	final GrowArray<Workspace> workspaces = new GrowArray<>(Workspace::new);
+
+	PixelExpression( ImageBase<?> source, Source sourceType ) {
+		this.source = source;
+		this.sourceType = sourceType;
+	}
+
+	/**
+	 * Creates an expression with a gray scale image as the input
+	 */
+	public static PixelExpression of( ImageGray<?> input ) {
+		return new PixelExpression(input, Source.GRAY);
+	}
+
+	/**
+	 * Creates an expression where the input is the average value across all bands.
+	 * See {@link ImageBandMath#average}.
+	 */
+	public static PixelExpression bandAverage( Planar<?> input ) {
+		return new PixelExpression(input, Source.BAND_AVERAGE);
+	}
+
+	/**
+	 * Creates an expression where the input is the minimum value across all bands.
+	 * See {@link ImageBandMath#minimum}.
+	 */
+	public static PixelExpression bandMinimum( Planar<?> input ) {
+		return new PixelExpression(input, Source.BAND_MINIMUM);
+	}
+
+	/**
+	 * Creates an expression where the input is the maximum value across all bands.
+	 * See {@link ImageBandMath#maximum}.
+	 */
+	public static PixelExpression bandMaximum( Planar<?> input ) {
+		return new PixelExpression(input, Source.BAND_MAXIMUM);
+	}
+
+	// @formatter:off
+	/** value = value + scalar */
+	public PixelExpression plus( double scalar ) {return add(Type.PLUS, scalar, 0, null);}
+	/** value = value - scalar */
+	public PixelExpression minus( double scalar ) {return add(Type.MINUS, scalar, 0, null);}
+	/** value = scalar - value */
+	public PixelExpression minusFrom( double scalar ) {return add(Type.MINUS_FROM, scalar, 0, null);}
+	/** value = value * scalar */
+	public PixelExpression multiply( double scalar ) {return add(Type.MULTIPLY, scalar, 0, null);}
+	/** value = value / scalar */
+	public PixelExpression divide( double scalar ) {return add(Type.DIVIDE, scalar, 0, null);}
+	/** value = |value| */
+	public PixelExpression abs() {return add(Type.ABS, 0, 0, null);}
+	/** value = -value */
+	public PixelExpression negative() {return add(Type.NEGATIVE, 0, 0, null);}
+	/** value = value*value */
+	public PixelExpression pow2() {return add(Type.POW2, 0, 0, null);}
+	/** value = sqrt(value) */
+	public PixelExpression sqrt() {return add(Type.SQRT, 0, 0, null);}
+	/** value = log(scalar + value) */
+	public PixelExpression log( double scalar ) {return add(Type.LOG, scalar, 0, null);}
+	/** value = min(max(value, lower), upper) */
+	public PixelExpression bound( double lower, double upper ) {return add(Type.BOUND, lower, upper, null);}
+	/** value = value + image(x,y) */
+	public PixelExpression add( ImageGray<?> image ) {return add(Type.ADD_IMAGE, 0, 0, image);}
+	/** value = value - image(x,y) */
+	public PixelExpression subtract( ImageGray<?> image ) {return add(Type.SUBTRACT_IMAGE, 0, 0, image);}
+	/** value = value * image(x,y) */
+	public PixelExpression multiply( ImageGray<?> image ) {return add(Type.MULTIPLY_IMAGE, 0, 0, image);}
+	/** value = value / image(x,y) */
+	public PixelExpression divide( ImageGray<?> image ) {return add(Type.DIVIDE_IMAGE, 0, 0, image);}
+	// @formatter:on
+
+	private PixelExpression add( Type type, double a, double b, @Nullable ImageGray<?> image ) {
+		if (image != null && (image.width != source.width || image.height != source.height))
+			throw new IllegalArgumentException("Image must be the same shape as the input");
+		operations.add(new Operation(type, a, b, image));
+		return this;
+	}
+
+	/**
+	 * Evaluates the expression and writes the results into a new {@link GrayF32}
+	 */
+	public GrayF32 process() {
+		return process(new GrayF32(source.width, source.height));
+	}
+
+	/**
+	 * Evaluates the expression and writes the results into the output image
+	 *
+	 * @param output (Output) Storage for the results. Is reshaped.
+	 * @return The output image
+	 */
+	public <T extends ImageGray<T>> T process( T output ) {
+		output.reshape(source.width, source.height);
+
+		final int width = source.width;
+		final int height = source.height;
+
+		// Only use doubles when needed since floats are faster
+		boolean useDouble = isHighPrecision(source) || isHighPrecision(output);
+		for (int opIdx = 0; opIdx < operations.size(); opIdx++) {
+			ImageGray<?> image = operations.get(opIdx).image;
+			if (image != null && isHighPrecision(image))
+				useDouble = true;
+		}
+
+		if (useDouble) {
+			if (BoofConcurrency.isUseConcurrent() && width*height > BoofConcurrency.getSmallImage()) {
+				BoofConcurrency.loopBlocks(0, height, workspaces, ( work, y0, y1 ) -> processRowsD(work, output, y0, y1));
+			} else {
+				workspaces.reset();
+				processRowsD(workspaces.grow(), output, 0, height);
+			}
+		} else {
+			if (BoofConcurrency.isUseConcurrent() && width*height > BoofConcurrency.getSmallImage()) {
+				BoofConcurrency.loopBlocks(0, height, workspaces, ( work, y0, y1 ) -> processRows(work, output, y0, y1));
+			} else {
+				workspaces.reset();
+				processRows(workspaces.grow(), output, 0, height);
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * True if the image's values can't be stored in a float without losing precision
+	 */
+	static boolean isHighPrecision( ImageBase<?> image ) {
+		ImageDataType type = image.getImageType().getDataType();
+		return type == ImageDataType.S32 || type == ImageDataType.S64 || type == ImageDataType.F64;
+	}
+
+	void processRows( Workspace work, ImageGray<?> output, int y0, int y1 ) {
+		final int width = source.width;
+		work.resize(width);
+		final float[] row = work.row;
+
+		for (int y = y0; y < y1; y++) {
+			readSource(y, work);
+
+			for (int opIdx = 0; opIdx < operations.size(); opIdx++) {
+				Operation op = operations.get(opIdx);
+				if (op.image != null)
+					readRow(op.image, y, work.other);
+				apply(op, row, work.other, width);
+			}
+
+			writeRow(row, output, y);
+		}
+	}
+
+	/**
+	 * Same as {@link #processRows} but computes using doubles
+	 */
+	void processRowsD( Workspace work, ImageGray<?> output, int y0, int y1 ) {
+		final int width = source.width;
+		work.resizeD(width);
+		final double[] row = work.rowD;
+
+		for (int y = y0; y < y1; y++) {
+			readSourceD(y, work);
+
+			for (int opIdx = 0; opIdx < operations.size(); opIdx++) {
+				Operation op = operations.get(opIdx);
+				if (op.image != null)
+					readRow(op.image, y, work.otherD);
+				apply(op, row, work.otherD, width);
+			}
+
+			writeRow(row, output, y);
+		}
+	}
+
+	/**
+	 * Reads the source's row into the work space
+	 */
+	void readSource( int y, Workspace work ) {
+		if (sourceType == Source.GRAY) {
+			readRow((ImageGray<?>)source, y, work.row);
+			return;
+		}
+
+		final Planar<?> planar = (Planar<?>)source;
+		final float[] row = work.row;
+		final float[] band = work.other;
+		final int width = planar.width;
+		final int numBands = planar.getNumBands();
+
+		readRow(planar.getBand(0), y, row);
+		for (int bandIdx = 1; bandIdx < numBands; bandIdx++) {
+			readRow(planar.getBand(bandIdx), y, band);
+			switch (sourceType) {
+				case BAND_AVERAGE -> {
+					for (int x = 0; x < width; x++) row[x] += band[x];
+				}
+				case BAND_MINIMUM -> {
+					for (int x = 0; x < width; x++) row[x] = Math.min(row[x], band[x]);
+				}
+				case BAND_MAXIMUM -> {
+					for (int x = 0; x < width; x++) row[x] = Math.max(row[x], band[x]);
+				}
+				default -> throw new RuntimeException("BUG");
+			}
+		}
+		if (sourceType == Source.BAND_AVERAGE) {
+			for (int x = 0; x < width; x++) row[x] /= numBands;
+		}
+	}
+
+	/**
+	 * Same as {@link #readSource} but for doubles
+	 */
+	void readSourceD( int y, Workspace work ) {
+		if (sourceType == Source.GRAY) {
+			readRow((ImageGray<?>)source, y, work.rowD);
+			return;
+		}
+
+		final Planar<?> planar = (Planar<?>)source;
+		final double[] row = work.rowD;
+		final double[] band = work.otherD;
+		final int width = planar.width;
+		final int numBands = planar.getNumBands();
+
+		readRow(planar.getBand(0), y, row);
+		for (int bandIdx = 1; bandIdx < numBands; bandIdx++) {
+			readRow(planar.getBand(bandIdx), y, band);
+			switch (sourceType) {
+				case BAND_AVERAGE -> {
+					for (int x = 0; x < width; x++) row[x] += band[x];
+				}
+				case BAND_MINIMUM -> {
+					for (int x = 0; x < width; x++) row[x] = Math.min(row[x], band[x]);
+				}
+				case BAND_MAXIMUM -> {
+					for (int x = 0; x < width; x++) row[x] = Math.max(row[x], band[x]);
+				}
+				default -> throw new RuntimeException("BUG");
+			}
+		}
+		if (sourceType == Source.BAND_AVERAGE) {
+			for (int x = 0; x < width; x++) row[x] /= numBands;
+		}
+	}
+
+	/**
+	 * Applies the operation to every element in the row. Each operation has its own loop so that the JIT can
+	 * optimize it.
+	 */
+	static void apply( Operation op, float[] row, float[] other, int width ) {
+		final float a = op.af;
+		final float b = op.bf;
+		// @formatter:off
+		switch (op.type) {
+			case PLUS -> {for (int x = 0; x < width; x++) row[x] += a;}
+			case MINUS -> {for (int x = 0; x < width; x++) row[x] -= a;}
+			case MINUS_FROM -> {for (int x = 0; x < width; x++) row[x] = a - row[x];}
+			case MULTIPLY -> {for (int x = 0; x < width; x++) row[x] *= a;}
+			case DIVIDE -> {for (int x = 0; x < width; x++) row[x] /= a;}
+			case ABS -> {for (int x = 0; x < width; x++) row[x] = Math.abs(row[x]);}
+			case NEGATIVE -> {for (int x = 0; x < width; x++) row[x] = -row[x];}
+			case POW2 -> {for (int x = 0; x < width; x++) row[x] *= row[x];}
+			case SQRT -> {for (int x = 0; x < width; x++) row[x] = (float)Math.sqrt(row[x]);}
+			case LOG -> {for (int x = 0; x < width; x++) row[x] = (float)Math.log(a + row[x]);}
+			case BOUND -> {for (int x = 0; x < width; x++) row[x] = Math.min(Math.max(row[x], a), b);}
+			case ADD_IMAGE -> {for (int x = 0; x < width; x++) row[x] += other[x];}
+			case SUBTRACT_IMAGE -> {for (int x = 0; x < width; x++) row[x] -= other[x];}
+			case MULTIPLY_IMAGE -> {for (int x = 0; x < width; x++) row[x] *= other[x];}
+			case DIVIDE_IMAGE -> {for (int x = 0; x < width; x++) row[x] /= other[x];}
+			default -> throw new RuntimeException("Unknown operation " + op.type);
+		}
+		// @formatter:on
+	}
+
+	/**
+	 * Same as {@link #apply(Operation, float[], float[], int)} but for doubles
+	 */
+	static void apply( Operation op, double[] row, double[] other, int width ) {
+		final double a = op.a;
+		final double b = op.b;
+		// @formatter:off
+		switch (op.type) {
+			case PLUS -> {for (int x = 0; x < width; x++) row[x] += a;}
+			case MINUS -> {for (int x = 0; x < width; x++) row[x] -= a;}
+			case MINUS_FROM -> {for (int x = 0; x < width; x++) row[x] = a - row[x];}
+			case MULTIPLY -> {for (int x = 0; x < width; x++) row[x] *= a;}
+			case DIVIDE -> {for (int x = 0; x < width; x++) row[x] /= a;}
+			case ABS -> {for (int x = 0; x < width; x++) row[x] = Math.abs(row[x]);}
+			case NEGATIVE -> {for (int x = 0; x < width; x++) row[x] = -row[x];}
+			case POW2 -> {for (int x = 0; x < width; x++) row[x] *= row[x];}
+			case SQRT -> {for (int x = 0; x < width; x++) row[x] = Math.sqrt(row[x]);}
+			case LOG -> {for (int x = 0; x < width; x++) row[x] = Math.log(a + row[x]);}
+			case BOUND -> {for (int x = 0; x < width; x++) row[x] = Math.min(Math.max(row[x], a), b);}
+			case ADD_IMAGE -> {for (int x = 0; x < width; x++) row[x] += other[x];}
+			case SUBTRACT_IMAGE -> {for (int x = 0; x < width; x++) row[x] -= other[x];}
+			case MULTIPLY_IMAGE -> {for (int x = 0; x < width; x++) row[x] *= other[x];}
+			case DIVIDE_IMAGE -> {for (int x = 0; x < width; x++) row[x] /= other[x];}
+			default -> throw new RuntimeException("Unknown operation " + op.type);
+		}
+		// @formatter:on
+	}
+
+	/**
+	 * Reads a row from the image and converts it into floats
+	 */
+	static void readRow( ImageGray<?> image, int y, float[] row ) {
+		final int width = image.width;
+		final int index = image.startIndex + y*image.stride;
+
+		if (image instanceof GrayF32) {
+			System.arraycopy(((GrayF32)image).data, index, row, 0, width);
+		} else if (image instanceof GrayU8) {
+			byte[] data = ((GrayU8)image).data;
+			for (int x = 0; x < width; x++) row[x] = data[index + x] & 0xFF;
+		} else if (image instanceof GrayS8) {
+			byte[] data = ((GrayS8)image).data;
+			for (int x = 0; x < width; x++) row[x] = data[index + x];
+		} else if (image instanceof GrayU16) {
+			short[] data = ((GrayU16)image).data;
+			for (int x = 0; x < width; x++) row[x] = data[index + x] & 0xFFFF;
+		} else if (image instanceof GrayS16) {
+			short[] data = ((GrayS16)image).data;
+			for (int x = 0; x < width; x++) row[x] = data[index + x];
+		} else if (image instanceof GrayS32) {
+			int[] data = ((GrayS32)image).data;
+			for (int x = 0; x < width; x++) row[x] = data[index + x];
+		} else if (image instanceof GrayS64) {
+			long[] data = ((GrayS64)image).data;
+			for (int x = 0; x < width; x++) row[x] = data[index + x];
+		} else if (image instanceof GrayF64) {
+			double[] data = ((GrayF64)image).data;
+			for (int x = 0; x < width; x++) row[x] = (float)data[index + x];
+		} else {
+			throw new IllegalArgumentException("Unknown image type " + image.getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * Writes the row into the image. Values are cast into the image's type.
+	 */
+	static void writeRow( float[] row, ImageGray<?> image, int y ) {
+		final int width = image.width;
+		final int index = image.startIndex + y*image.stride;
+
+		if (image instanceof GrayF32) {
+			System.arraycopy(row, 0, ((GrayF32)image).data, index, width);
+		} else if (image instanceof GrayI8) {
+			byte[] data = ((GrayI8<?>)image).data;
+			for (int x = 0; x < width; x++) data[index + x] = (byte)row[x];
+		} else if (image instanceof GrayI16) {
+			short[] data = ((GrayI16<?>)image).data;
+			for (int x = 0; x < width; x++) data[index + x] = (short)row[x];
+		} else if (image instanceof GrayS32) {
+			int[] data = ((GrayS32)image).data;
+			for (int x = 0; x < width; x++) data[index + x] = (int)row[x];
+		} else if (image instanceof GrayS64) {
+			long[] data = ((GrayS64)image).data;
+			for (int x = 0; x < width; x++) data[index + x] = (long)row[x];
+		} else if (image instanceof GrayF64) {
+			double[] data = ((GrayF64)image).data;
+			for (int x = 0; x < width; x++) data[index + x] = row[x];
+		} else {
+			throw new IllegalArgumentException("Unknown image type " + image.getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * Reads a row from the image and converts it into doubles
+	 */
+	static void readRow( ImageGray<?> image, int y, double[] row ) {
+		final int width = image.width;
+		final int index = image.startIndex + y*image.stride;
+
+		if (image instanceof GrayF64) {
+			System.arraycopy(((GrayF64)image).data, index, row, 0, width);
+		} else if (image instanceof GrayF32) {
+			float[] data = ((GrayF32)image).data;
+			for (int x = 0; x < width; x++) row[x] = data[index + x];
+		} else if (image instanceof GrayU8) {
+			byte[] data = ((GrayU8)image).data;
+			for (int x = 0; x < width; x++) row[x] = data[index + x] & 0xFF;
+		} else if (image instanceof GrayS8) {
+			byte[] data = ((GrayS8)image).data;
+			for (int x = 0; x < width; x++) row[x] = data[index + x];
+		} else if (image instanceof GrayU16) {
+			short[] data = ((GrayU16)image).data;
+			for (int x = 0; x < width; x++) row[x] = data[index + x] & 0xFFFF;
+		} else if (image instanceof GrayS16) {
+			short[] data = ((GrayS16)image).data;
+			for (int x = 0; x < width; x++) row[x] = data[index + x];
+		} else if (image instanceof GrayS32) {
+			int[] data = ((GrayS32)image).data;
+			for (int x = 0; x < width; x++) row[x] = data[index + x];
+		} else if (image instanceof GrayS64) {
+			long[] data = ((GrayS64)image).data;
+			for (int x = 0; x < width; x++) row[x] = data[index + x];
+		} else {
+			throw new IllegalArgumentException("Unknown image type " + image.getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * Writes the row of doubles into the image. Values are cast into the image's type.
+	 */
+	static void writeRow( double[] row, ImageGray<?> image, int y ) {
+		final int width = image.width;
+		final int index = image.startIndex + y*image.stride;
+
+		if (image instanceof GrayF64) {
+			System.arraycopy(row, 0, ((GrayF64)image).data, index, width);
+		} else if (image instanceof GrayF32) {
+			float[] data = ((GrayF32)image).data;
+			for (int x = 0; x < width; x++) data[index + x] = (float)row[x];
+		} else if (image instanceof GrayI8) {
+			byte[] data = ((GrayI8<?>)image).data;
+			for (int x = 0; x < width; x++) data[index + x] = (byte)row[x];
+		} else if (image instanceof GrayI16) {
+			short[] data = ((GrayI16<?>)image).data;
+			for (int x = 0; x < width; x++) data[index + x] = (short)row[x];
+		} else if (image instanceof GrayS32) {
+			int[] data = ((GrayS32)image).data;
+			for (int x = 0; x < width; x++) data[index + x] = (int)row[x];
+		} else if (image instanceof GrayS64) {
+			long[] data = ((GrayS64)image).data;
+			for (int x = 0; x < width; x++) data[index + x] = (long)row[x];
+		} else {
+			throw new IllegalArgumentException("Unknown image type " + image.getClass().getSimpleName());
+		}
+	}
+
+	/** Number of operations in the expression */
+	public int size() {
+		return operations.size();
+	}
+
+	enum Source {GRAY, BAND_AVERAGE, BAND_MINIMUM, BAND_MAXIMUM}
+
+	enum Type {
+		PLUS, MINUS, MINUS_FROM, MULTIPLY, DIVIDE, ABS, NEGATIVE, POW2, SQRT, LOG, BOUND,
+		ADD_IMAGE, SUBTRACT_IMAGE, MULTIPLY_IMAGE, DIVIDE_IMAGE
+	}
+
+	static class Operation {
+		final Type type;
+		final double a, b;
+		// a and b as floats for when it's computed using floats
+		final float af, bf;
+		final @Nullable ImageGray<?> image;
+
+		Operation( Type type, double a, double b, @Nullable ImageGray<?> image ) {
+			this.type = type;
+			this.a = a;
+			this.b = b;
+			this.af = (float)a;
+			this.bf = (float)b;
+			this.image = image;
+		}
+	}
+
+	static class Workspace {
+		float[] row = new float[0];
+		float[] other = new float[0];
+		double[] rowD = new double[0];
+		double[] otherD = new double[0];
+
+		void resize( int width ) {
+			if (row.length < width) {
+				row = new float[width];
+				other = new float[width];
+			}
+		}
+
+		void resizeD( int width ) {
+			if (rowD.length < width) {
+				rowD = new double[width];
+				otherD = new double[width];
+			}
+		}
+	}
+}
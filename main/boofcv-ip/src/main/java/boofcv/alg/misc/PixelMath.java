@@ -54,7 +54,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator1(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns, function);
@@ -78,7 +78,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator1(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns, function);
@@ -102,7 +102,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator1(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns, function);
@@ -126,7 +126,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator1(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns, function);
@@ -150,7 +150,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator1(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns, function);
@@ -174,7 +174,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator1(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns, function);
@@ -198,7 +198,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator1(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns, function);
@@ -222,7 +222,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator1(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns, function);
@@ -246,7 +246,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator1(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns, function);
@@ -270,7 +270,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator1(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns, function);
@@ -294,7 +294,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator1(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns, function);
@@ -318,7 +318,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator1(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns, function);
@@ -344,7 +344,7 @@ public class PixelMath {
 
 		int columns = imgA.width;
 		int N = imgA.width*imgA.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator2(imgA.data, imgA.startIndex, imgA.stride,
 					imgB.data, imgB.startIndex, imgB.stride,
 					output.data, output.startIndex, output.stride,
@@ -372,7 +372,7 @@ public class PixelMath {
 
 		int columns = imgA.width*imgA.numBands;
 		int N = imgA.width*imgA.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator2(imgA.data, imgA.startIndex, imgA.stride,
 					imgB.data, imgB.startIndex, imgB.stride,
 					output.data, output.startIndex, output.stride,
@@ -400,7 +400,7 @@ public class PixelMath {
 
 		int columns = imgA.width;
 		int N = imgA.width*imgA.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator2(imgA.data, imgA.startIndex, imgA.stride,
 					imgB.data, imgB.startIndex, imgB.stride,
 					output.data, output.startIndex, output.stride,
@@ -428,7 +428,7 @@ public class PixelMath {
 
 		int columns = imgA.width*imgA.numBands;
 		int N = imgA.width*imgA.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator2(imgA.data, imgA.startIndex, imgA.stride,
 					imgB.data, imgB.startIndex, imgB.stride,
 					output.data, output.startIndex, output.stride,
@@ -456,7 +456,7 @@ public class PixelMath {
 
 		int columns = imgA.width;
 		int N = imgA.width*imgA.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator2(imgA.data, imgA.startIndex, imgA.stride,
 					imgB.data, imgB.startIndex, imgB.stride,
 					output.data, output.startIndex, output.stride,
@@ -484,7 +484,7 @@ public class PixelMath {
 
 		int columns = imgA.width*imgA.numBands;
 		int N = imgA.width*imgA.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator2(imgA.data, imgA.startIndex, imgA.stride,
 					imgB.data, imgB.startIndex, imgB.stride,
 					output.data, output.startIndex, output.stride,
@@ -512,7 +512,7 @@ public class PixelMath {
 
 		int columns = imgA.width;
 		int N = imgA.width*imgA.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator2(imgA.data, imgA.startIndex, imgA.stride,
 					imgB.data, imgB.startIndex, imgB.stride,
 					output.data, output.startIndex, output.stride,
@@ -540,7 +540,7 @@ public class PixelMath {
 
 		int columns = imgA.width*imgA.numBands;
 		int N = imgA.width*imgA.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator2(imgA.data, imgA.startIndex, imgA.stride,
 					imgB.data, imgB.startIndex, imgB.stride,
 					output.data, output.startIndex, output.stride,
@@ -568,7 +568,7 @@ public class PixelMath {
 
 		int columns = imgA.width;
 		int N = imgA.width*imgA.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator2(imgA.data, imgA.startIndex, imgA.stride,
 					imgB.data, imgB.startIndex, imgB.stride,
 					output.data, output.startIndex, output.stride,
@@ -596,7 +596,7 @@ public class PixelMath {
 
 		int columns = imgA.width*imgA.numBands;
 		int N = imgA.width*imgA.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator2(imgA.data, imgA.startIndex, imgA.stride,
 					imgB.data, imgB.startIndex, imgB.stride,
 					output.data, output.startIndex, output.stride,
@@ -624,7 +624,7 @@ public class PixelMath {
 
 		int columns = imgA.width;
 		int N = imgA.width*imgA.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator2(imgA.data, imgA.startIndex, imgA.stride,
 					imgB.data, imgB.startIndex, imgB.stride,
 					output.data, output.startIndex, output.stride,
@@ -652,7 +652,7 @@ public class PixelMath {
 
 		int columns = imgA.width*imgA.numBands;
 		int N = imgA.width*imgA.height;
-		if (BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if (BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.operator2(imgA.data, imgA.startIndex, imgA.stride,
 					imgB.data, imgB.startIndex, imgB.stride,
 					output.data, output.startIndex, output.stride,
@@ -678,7 +678,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -702,7 +702,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -726,7 +726,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -750,7 +750,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -774,7 +774,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -798,7 +798,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -822,7 +822,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -846,7 +846,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -870,7 +870,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -894,7 +894,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -918,7 +918,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -942,7 +942,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.abs(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -965,7 +965,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -988,7 +988,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -1011,7 +1011,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -1034,7 +1034,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -1057,7 +1057,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -1080,7 +1080,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -1103,7 +1103,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -1126,7 +1126,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -1149,7 +1149,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -1172,7 +1172,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -1195,7 +1195,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -1218,7 +1218,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.negative(input.data, input.startIndex, input.stride,
 					output.data, output.startIndex, output.stride,
 					input.height, columns);
@@ -1241,9 +1241,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1266,9 +1269,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1291,9 +1297,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1316,9 +1325,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1341,9 +1353,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1366,9 +1381,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1391,9 +1409,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1416,9 +1437,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1441,9 +1465,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1466,9 +1493,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1491,9 +1521,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1516,9 +1549,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1541,9 +1577,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1566,9 +1605,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1591,9 +1633,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1616,9 +1661,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1643,7 +1691,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1668,7 +1716,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1693,7 +1741,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1718,7 +1766,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1743,7 +1791,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1768,7 +1816,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1793,7 +1841,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1818,7 +1866,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1843,7 +1891,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1868,7 +1916,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1893,7 +1941,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1918,7 +1966,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1943,7 +1991,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1968,7 +2016,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -1993,7 +2041,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2018,7 +2066,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2041,9 +2089,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2066,9 +2117,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2091,9 +2145,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2116,9 +2173,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2141,9 +2201,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2166,9 +2229,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2191,9 +2257,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2216,9 +2285,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2241,9 +2313,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2266,9 +2341,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2291,9 +2369,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2316,9 +2397,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.MULTIPLY, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2340,9 +2424,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2364,9 +2451,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2388,9 +2478,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2412,9 +2505,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2436,9 +2532,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2460,9 +2559,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2484,9 +2586,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2508,9 +2613,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2532,9 +2640,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2556,9 +2667,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2580,9 +2694,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2604,9 +2721,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2628,9 +2748,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2652,9 +2775,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2676,9 +2802,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2700,9 +2829,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2726,7 +2858,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2750,7 +2882,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2774,7 +2906,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2798,7 +2930,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2822,7 +2954,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2846,7 +2978,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2870,7 +3002,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2894,7 +3026,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2918,7 +3050,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2942,7 +3074,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2966,7 +3098,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -2990,7 +3122,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3014,7 +3146,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3038,7 +3170,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3062,7 +3194,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3086,7 +3218,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3108,9 +3240,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3132,9 +3267,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3156,9 +3294,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3180,9 +3321,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3204,9 +3348,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3228,9 +3375,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3252,9 +3402,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3276,9 +3429,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3300,9 +3456,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3324,9 +3483,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3348,9 +3510,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3372,9 +3537,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.DIVIDE, input, denominator, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3396,9 +3564,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3420,9 +3591,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3444,9 +3618,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3468,9 +3645,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3492,9 +3672,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3516,9 +3699,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3540,9 +3726,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3564,9 +3753,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3588,9 +3780,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3612,9 +3807,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3636,9 +3834,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3660,9 +3861,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3684,9 +3888,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3708,9 +3915,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3732,9 +3942,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3756,9 +3969,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3782,7 +3998,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3806,7 +4022,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3830,7 +4046,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3854,7 +4070,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3878,7 +4094,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3902,7 +4118,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3926,7 +4142,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3950,7 +4166,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3974,7 +4190,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -3998,7 +4214,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4022,7 +4238,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4046,7 +4262,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4070,7 +4286,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4094,7 +4310,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4118,7 +4334,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4142,7 +4358,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4164,9 +4380,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4188,9 +4407,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4212,9 +4434,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4236,9 +4461,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4260,9 +4488,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4284,9 +4515,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4308,9 +4542,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4332,9 +4569,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4356,9 +4596,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4380,9 +4623,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4404,9 +4650,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4428,9 +4677,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.ADD, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.plus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4452,9 +4704,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4476,9 +4731,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4500,9 +4758,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4524,9 +4785,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4548,9 +4812,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4572,9 +4839,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4596,9 +4866,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4620,9 +4893,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4644,9 +4920,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4668,9 +4947,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4692,9 +4974,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4716,9 +5001,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4740,9 +5028,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4764,9 +5055,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4788,9 +5082,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4812,9 +5109,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4838,7 +5138,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4862,7 +5162,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4886,7 +5186,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4910,7 +5210,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4934,7 +5234,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4958,7 +5258,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -4982,7 +5282,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5006,7 +5306,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5030,7 +5330,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5054,7 +5354,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5078,7 +5378,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5102,7 +5402,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5126,7 +5426,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5150,7 +5450,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5174,7 +5474,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5198,7 +5498,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5220,9 +5520,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5244,9 +5547,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5268,9 +5574,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5292,9 +5601,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5316,9 +5628,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5340,9 +5655,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5364,9 +5682,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5388,9 +5709,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5412,9 +5736,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5436,9 +5763,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5460,9 +5790,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5484,9 +5817,12 @@ public class PixelMath {
 
 		output.reshape(input.width,input.height,input.numBands);
 
+		if (BOverridePixelMath.invokeScalar(BOverridePixelMath.Operation.SUBTRACT, input, value, output))
+			return;
+
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_A(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5510,7 +5846,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5534,7 +5870,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5558,7 +5894,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5582,7 +5918,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5606,7 +5942,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5630,7 +5966,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5654,7 +5990,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5678,7 +6014,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5702,7 +6038,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5726,7 +6062,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5750,7 +6086,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5774,7 +6110,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5798,7 +6134,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5822,7 +6158,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5846,7 +6182,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5870,7 +6206,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5894,7 +6230,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5918,7 +6254,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5942,7 +6278,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5966,7 +6302,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -5990,7 +6326,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6014,7 +6350,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6038,7 +6374,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6062,7 +6398,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6086,7 +6422,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6110,7 +6446,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6134,7 +6470,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6158,7 +6494,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6182,7 +6518,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6206,7 +6542,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6230,7 +6566,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6254,7 +6590,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6278,7 +6614,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6302,7 +6638,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6326,7 +6662,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6350,7 +6686,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6374,7 +6710,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6398,7 +6734,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minusU_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6422,7 +6758,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6446,7 +6782,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6470,7 +6806,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6494,7 +6830,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6518,7 +6854,7 @@ public class PixelMath {
 
 		int columns = input.width;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6542,7 +6878,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.minus_B(input.data,input.startIndex,input.stride,value , 
 					output.data,output.startIndex,output.stride,
 					input.height,columns);
@@ -6578,7 +6914,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6610,7 +6946,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6642,7 +6978,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6674,7 +7010,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6706,7 +7042,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6738,7 +7074,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6770,7 +7106,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6802,7 +7138,7 @@ public class PixelMath {
 		output.reshape(imgA.width,imgA.height);
 
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.diffAbs(imgA, imgB, output);
 		} else {
 			ImplPixelMath.diffAbs(imgA, imgB, output);
@@ -6822,8 +7158,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.ADD, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -6843,8 +7182,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.SUBTRACT, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -6864,8 +7206,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.ADD, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -6885,8 +7230,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.SUBTRACT, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -6906,8 +7254,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.ADD, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -6927,8 +7278,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.SUBTRACT, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -6948,8 +7302,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.ADD, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -6969,8 +7326,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.SUBTRACT, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -6990,8 +7350,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.ADD, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -7011,8 +7374,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.SUBTRACT, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -7032,8 +7398,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.ADD, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -7053,8 +7422,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.SUBTRACT, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -7074,8 +7446,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.ADD, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -7095,8 +7470,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.SUBTRACT, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -7116,8 +7494,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.MULTIPLY, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply(imgA, imgB, output);
 		} else {
 			ImplPixelMath.multiply(imgA, imgB, output);
@@ -7137,8 +7518,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.DIVIDE, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide(imgA,imgB,output);
 		} else {
 			ImplPixelMath.divide(imgA,imgB,output);
@@ -7157,7 +7541,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.log(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -7183,7 +7567,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.logSign(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -7208,7 +7592,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.sqrt(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7234,7 +7618,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.log(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -7261,7 +7645,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.logSign(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -7287,7 +7671,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.sqrt(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7313,8 +7697,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.ADD, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.add(imgA, imgB, output);
 		} else {
 			ImplPixelMath.add(imgA, imgB, output);
@@ -7334,8 +7721,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.SUBTRACT, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.subtract(imgA, imgB, output);
 		} else {
 			ImplPixelMath.subtract(imgA, imgB, output);
@@ -7355,8 +7745,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.MULTIPLY, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.multiply(imgA, imgB, output);
 		} else {
 			ImplPixelMath.multiply(imgA, imgB, output);
@@ -7376,8 +7769,11 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(imgA,imgB);
 		output.reshape(imgA.width,imgA.height);
 
+		if (BOverridePixelMath.invokeTwoImages(BOverridePixelMath.Operation.DIVIDE, imgA, imgB, output))
+			return;
+
 		int N = imgA.width*imgA.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.divide(imgA,imgB,output);
 		} else {
 			ImplPixelMath.divide(imgA,imgB,output);
@@ -7396,7 +7792,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.log(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -7422,7 +7818,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.logSign(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -7447,7 +7843,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.sqrt(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7473,7 +7869,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.log(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -7500,7 +7896,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.logSign(
 					input.data,input.startIndex,input.stride,val,
 					output.data,output.startIndex,output.stride,
@@ -7526,7 +7922,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.sqrt(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7551,7 +7947,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7577,7 +7973,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7603,7 +7999,7 @@ public class PixelMath {
 		stdev.reshape(mean.width,mean.height);
 
 		int N = mean.width*mean.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.stdev(mean,pow2,stdev);
 		} else {
 			ImplPixelMath.stdev(mean,pow2,stdev);
@@ -7622,7 +8018,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7648,7 +8044,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7674,7 +8070,7 @@ public class PixelMath {
 		stdev.reshape(mean.width,mean.height);
 
 		int N = mean.width*mean.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.stdev(mean,pow2,stdev);
 		} else {
 			ImplPixelMath.stdev(mean,pow2,stdev);
@@ -7693,7 +8089,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7719,7 +8115,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7745,7 +8141,7 @@ public class PixelMath {
 		stdev.reshape(mean.width,mean.height);
 
 		int N = mean.width*mean.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.stdev(mean,pow2,stdev);
 		} else {
 			ImplPixelMath.stdev(mean,pow2,stdev);
@@ -7764,7 +8160,7 @@ public class PixelMath {
 		output.reshape(input.width,input.height);
 
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7790,7 +8186,7 @@ public class PixelMath {
 
 		int columns = input.width*input.numBands;
 		int N = input.width*input.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.pow2(
 					input.data,input.startIndex,input.stride,
 					output.data,output.startIndex,output.stride,
@@ -7816,7 +8212,7 @@ public class PixelMath {
 		stdev.reshape(mean.width,mean.height);
 
 		int N = mean.width*mean.height;
-		if( BoofConcurrency.USE_CONCURRENT && N > SMALL_IMAGE) {
+		if( BoofConcurrency.isUseConcurrent() && N > SMALL_IMAGE) {
 			ImplPixelMath_MT.stdev(mean,pow2,stdev);
 		} else {
 			ImplPixelMath.stdev(mean,pow2,stdev);
@@ -108,7 +108,7 @@ public class CensusTransform {
 	public static void dense3x3( final GrayU8 input, final GrayU8 output, @Nullable ImageBorder_S32<GrayU8> border ) {
 		InputSanityCheck.checkReshape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplCensusTransformInner_MT.dense3x3(input, output);
 		} else {
 			ImplCensusTransformInner.dense3x3(input, output);
@@ -130,7 +130,7 @@ public class CensusTransform {
 	public static void dense3x3( final GrayU16 input, final GrayU8 output, @Nullable ImageBorder_S32<GrayU16> border ) {
 		InputSanityCheck.checkReshape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplCensusTransformInner_MT.dense3x3(input, output);
 		} else {
 			ImplCensusTransformInner.dense3x3(input, output);
@@ -152,7 +152,7 @@ public class CensusTransform {
 	public static void dense3x3( final GrayF32 input, final GrayU8 output, @Nullable ImageBorder_F32 border ) {
 		InputSanityCheck.checkReshape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplCensusTransformInner_MT.dense3x3(input, output);
 		} else {
 			ImplCensusTransformInner.dense3x3(input, output);
@@ -174,7 +174,7 @@ public class CensusTransform {
 	public static void dense5x5( final GrayU8 input, final GrayS32 output, @Nullable ImageBorder_S32<GrayU8> border ) {
 		InputSanityCheck.checkReshape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplCensusTransformInner_MT.dense5x5(input, output);
 		} else {
 			ImplCensusTransformInner.dense5x5(input, output);
@@ -196,7 +196,7 @@ public class CensusTransform {
 	public static void dense5x5( final GrayU16 input, final GrayS32 output, @Nullable ImageBorder_S32<GrayU16> border ) {
 		InputSanityCheck.checkReshape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplCensusTransformInner_MT.dense5x5(input, output);
 		} else {
 			ImplCensusTransformInner.dense5x5(input, output);
@@ -218,7 +218,7 @@ public class CensusTransform {
 	public static void dense5x5( final GrayF32 input, final GrayS32 output, @Nullable ImageBorder_F32 border ) {
 		InputSanityCheck.checkReshape(input, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplCensusTransformInner_MT.dense5x5(input, output);
 		} else {
 			ImplCensusTransformInner.dense5x5(input, output);
@@ -249,7 +249,7 @@ public class CensusTransform {
 
 		int borderRadius = computeRadiusWorkspace(input, sample, workSpace);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplCensusTransformInner_MT.sample_S64(input, borderRadius, workSpace, output);
 		} else {
 			ImplCensusTransformInner.sample_S64(input, borderRadius, workSpace, output);
@@ -280,7 +280,7 @@ public class CensusTransform {
 
 		int borderRadius = computeRadiusWorkspace(input, sample, workSpace);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplCensusTransformInner_MT.sample_S64(input, borderRadius, workSpace, output);
 		} else {
 			ImplCensusTransformInner.sample_S64(input, borderRadius, workSpace, output);
@@ -311,7 +311,7 @@ public class CensusTransform {
 
 		int borderRadius = computeRadiusWorkspace(input, sample, workSpace);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplCensusTransformInner_MT.sample_S64(input, borderRadius, workSpace, output);
 		} else {
 			ImplCensusTransformInner.sample_S64(input, borderRadius, workSpace, output);
@@ -344,7 +344,7 @@ public class CensusTransform {
 
 		int borderRadius = computeRadiusWorkspace(input, sample, workSpace);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplCensusTransformInner_MT.sample_IU16(input, borderRadius, workSpace, output);
 		} else {
 			ImplCensusTransformInner.sample_IU16(input, borderRadius, workSpace, output);
@@ -377,7 +377,7 @@ public class CensusTransform {
 
 		int borderRadius = computeRadiusWorkspace(input, sample, workSpace);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplCensusTransformInner_MT.sample_IU16(input, borderRadius, workSpace, output);
 		} else {
 			ImplCensusTransformInner.sample_IU16(input, borderRadius, workSpace, output);
@@ -410,7 +410,7 @@ public class CensusTransform {
 
 		int borderRadius = computeRadiusWorkspace(input, sample, workSpace);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplCensusTransformInner_MT.sample_IU16(input, borderRadius, workSpace, output);
 		} else {
 			ImplCensusTransformInner.sample_IU16(input, borderRadius, workSpace, output);
@@ -125,7 +125,7 @@ public class IntegralImageOps {
 									@Nullable GrayF32 output ) {
 		output = InputSanityCheck.declareOrReshape(integral, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolve(integral, kernel, output);
 		} else {
 			ImplIntegralImageConvolve.convolve(integral, kernel, output);
@@ -147,7 +147,7 @@ public class IntegralImageOps {
 									@Nullable GrayF64 output ) {
 		output = InputSanityCheck.declareOrReshape(integral, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolve(integral, kernel, output);
 		} else {
 			ImplIntegralImageConvolve.convolve(integral, kernel, output);
@@ -169,7 +169,7 @@ public class IntegralImageOps {
 									@Nullable GrayS32 output ) {
 		output = InputSanityCheck.declareOrReshape(integral, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolve(integral, kernel, output);
 		} else {
 			ImplIntegralImageConvolve.convolve(integral, kernel, output);
@@ -191,7 +191,7 @@ public class IntegralImageOps {
 									@Nullable GrayS64 output ) {
 		output = InputSanityCheck.declareOrReshape(integral, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolve(integral, kernel, output);
 		} else {
 			ImplIntegralImageConvolve.convolve(integral, kernel, output);
@@ -214,7 +214,7 @@ public class IntegralImageOps {
 										  @Nullable GrayF32 output, int borderX, int borderY ) {
 		output = InputSanityCheck.declareOrReshape(integral, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolveBorder(integral, kernel, output, borderX, borderY);
 		} else {
 			ImplIntegralImageConvolve.convolveBorder(integral, kernel, output, borderX, borderY);
@@ -237,7 +237,7 @@ public class IntegralImageOps {
 										  @Nullable GrayF64 output, int borderX, int borderY ) {
 		output = InputSanityCheck.declareOrReshape(integral, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolveBorder(integral, kernel, output, borderX, borderY);
 		} else {
 			ImplIntegralImageConvolve.convolveBorder(integral, kernel, output, borderX, borderY);
@@ -260,7 +260,7 @@ public class IntegralImageOps {
 										  @Nullable GrayS32 output, int borderX, int borderY ) {
 		output = InputSanityCheck.declareOrReshape(integral, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolveBorder(integral, kernel, output, borderX, borderY);
 		} else {
 			ImplIntegralImageConvolve.convolveBorder(integral, kernel, output, borderX, borderY);
@@ -283,7 +283,7 @@ public class IntegralImageOps {
 										  @Nullable GrayS64 output, int borderX, int borderY ) {
 		output = InputSanityCheck.declareOrReshape(integral, output);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplIntegralImageConvolve_MT.convolveBorder(integral, kernel, output, borderX, borderY);
 		} else {
 			ImplIntegralImageConvolve.convolveBorder(integral, kernel, output, borderX, borderY);
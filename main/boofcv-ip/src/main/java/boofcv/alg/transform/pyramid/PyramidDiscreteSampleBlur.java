@@ -23,6 +23,7 @@ import boofcv.factory.filter.convolve.FactoryConvolveDown;
 import boofcv.struct.border.BorderType;
 import boofcv.struct.convolve.Kernel1D;
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.ConfigDiscreteLevels;
 import boofcv.struct.pyramid.ImagePyramid;
@@ -50,7 +51,7 @@ import org.jetbrains.annotations.Nullable;
 @SuppressWarnings({"unchecked", "NullAway.Init"})
 public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDiscrete<T> {
 
-	// stores the results from the first convolution
+	// stores the results from the first convolution. Recycled through the ImagePool when it needs to grow
 	private T temp;
 	ConvolveDown<T,T> horizontal;
 	ConvolveDown<T,T> vertical;
@@ -125,7 +126,7 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 			horizontal.setSkip(skip);
 			vertical.setSkip(skip);
 
-			temp.reshape(input.width/skip,input.height);
+			temp = ImagePool.reshapeGlobal(temp, input.width/skip, input.height);
 			horizontal.process(input,temp);
 			vertical.process(temp,getLayer(0));
 		}
@@ -133,7 +134,7 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 		for (int index = 1; index < getNumLayers(); index++) {
 			int skip = levelScales[index]/ levelScales[index-1];
 			T prev = getLayer(index-1);
-			temp.reshape(prev.width/skip,prev.height);
+			temp = ImagePool.reshapeGlobal(temp, prev.width/skip, prev.height);
 
 			horizontal.setSkip(skip);
 			vertical.setSkip(skip);
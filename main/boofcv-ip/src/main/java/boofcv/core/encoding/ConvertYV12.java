@@ -47,7 +47,7 @@ public class ConvertYV12 {
 			Planar pl = (Planar)output;
 			pl.reshape(width, height, 3);
 
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				if (pl.getBandType() == GrayU8.class) {
 					ImplConvertYV12_MT.yv12ToPlanarRgb_U8(data, pl);
 				} else if (pl.getBandType() == GrayF32.class) {
@@ -75,7 +75,7 @@ public class ConvertYV12 {
 		} else if (output instanceof ImageInterleaved) {
 			((ImageMultiBand)output).reshape(width, height, 3);
 
-			if (BoofConcurrency.USE_CONCURRENT) {
+			if (BoofConcurrency.isUseConcurrent()) {
 				if (output.getClass() == InterleavedU8.class) {
 					ImplConvertYV12_MT.yv12ToInterleaved(data, (InterleavedU8)output);
 				} else if (output.getClass() == InterleavedF32.class) {
@@ -113,7 +113,7 @@ public class ConvertYV12 {
 			output = new GrayU8(width, height);
 		}
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplConvertNV21_MT.nv21ToGray(data, output);
 		} else {
 			ImplConvertNV21.nv21ToGray(data, output);
@@ -138,7 +138,7 @@ public class ConvertYV12 {
 			output = new GrayF32(width, height);
 		}
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			ImplConvertNV21_MT.nv21ToGray(data, output);
 		} else {
 			ImplConvertNV21.nv21ToGray(data, output);
@@ -49,7 +49,7 @@ public class ConvertYuyv {
 			Planar pl = (Planar) output;
 			pl.reshape(width,height,3);
 
-			if( BoofConcurrency.USE_CONCURRENT ) {
+			if( BoofConcurrency.isUseConcurrent() ) {
 				if (pl.getBandType() == GrayU8.class) {
 					ImplConvertYuyv_MT.yuyvToPlanarRgb_U8(data, pl);
 				} else if (pl.getBandType() == GrayF32.class) {
@@ -77,7 +77,7 @@ public class ConvertYuyv {
 		} else if( output instanceof ImageInterleaved ) {
 			((ImageMultiBand)output).reshape(width,height,3);
 
-			if( BoofConcurrency.USE_CONCURRENT ) {
+			if( BoofConcurrency.isUseConcurrent() ) {
 				if (output.getClass() == InterleavedU8.class) {
 					ImplConvertYuyv_MT.yuyvToInterleaved(data, (InterleavedU8) output);
 				} else if (output.getClass() == InterleavedF32.class) {
@@ -115,7 +115,7 @@ public class ConvertYuyv {
 			output = new GrayU8(width,height);
 		}
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertYuyv_MT.yuyvToGray(data, output);
 		} else {
 			ImplConvertYuyv.yuyvToGray(data, output);
@@ -140,7 +140,7 @@ public class ConvertYuyv {
 			output = new GrayF32(width,height);
 		}
 
-		if(BoofConcurrency.USE_CONCURRENT ) {
+		if(BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertYuyv_MT.yuyvToGray(data, output);
 		} else {
 			ImplConvertYuyv.yuyvToGray(data, output);
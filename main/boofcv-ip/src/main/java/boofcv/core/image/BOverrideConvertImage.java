@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.override.BOverrideClass;
+import boofcv.override.BOverrideManager;
+import boofcv.struct.image.ImageBase;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Override for {@link ConvertImage}. An implementation should throw a RuntimeException if it can't
+ * handle the image types, then the default implementation will be used.
+ *
+ * @author Peter Abeles
+ */
+public class BOverrideConvertImage extends BOverrideClass {
+
+	static {
+		BOverrideManager.register(BOverrideConvertImage.class);
+	}
+
+	public static @Nullable Convert convert;
+
+	public interface Convert {
+		void convert( ImageBase input, ImageBase output );
+	}
+
+	public static boolean invokeConvert( ImageBase input, ImageBase output ) {
+		boolean processed = false;
+		if (convert != null) {
+			try {
+				convert.convert(input, output);
+				processed = true;
+			} catch (RuntimeException ignore) {}
+		}
+		return processed;
+	}
+}
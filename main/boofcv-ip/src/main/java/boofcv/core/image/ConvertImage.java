@@ -56,6 +56,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -78,6 +81,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -100,6 +106,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -122,6 +131,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -144,6 +156,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -166,6 +181,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -188,6 +206,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -210,6 +231,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -232,6 +256,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -254,6 +281,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -276,6 +306,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -298,6 +331,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -320,6 +356,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -342,6 +381,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -363,7 +405,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -386,7 +428,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -410,7 +452,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -433,7 +475,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -492,6 +534,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -514,6 +559,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -536,6 +584,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -558,6 +609,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -580,6 +634,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -602,6 +659,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -624,6 +684,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -646,6 +709,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -668,6 +734,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -690,6 +759,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -712,6 +784,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -734,6 +809,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -756,6 +834,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -778,6 +859,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -799,7 +883,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -822,7 +906,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -846,7 +930,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -869,7 +953,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -928,6 +1012,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -950,6 +1037,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -972,6 +1062,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -994,6 +1087,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1016,6 +1112,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1038,6 +1137,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1060,6 +1162,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1082,6 +1187,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1104,6 +1212,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1126,6 +1237,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1148,6 +1262,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1170,6 +1287,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1192,6 +1312,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1214,6 +1337,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1235,7 +1361,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -1258,7 +1384,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -1282,7 +1408,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -1305,7 +1431,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -1364,6 +1490,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1386,6 +1515,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1408,6 +1540,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1430,6 +1565,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1452,6 +1590,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1474,6 +1615,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1496,6 +1640,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1518,6 +1665,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1540,6 +1690,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1562,6 +1715,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1584,6 +1740,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1606,6 +1765,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1628,6 +1790,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1650,6 +1815,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1671,7 +1839,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -1694,7 +1862,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -1718,7 +1886,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -1741,7 +1909,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -1800,6 +1968,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1822,6 +1993,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1844,6 +2018,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1866,6 +2043,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1888,6 +2068,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1910,6 +2093,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1932,6 +2118,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1954,6 +2143,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1976,6 +2168,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -1998,6 +2193,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2020,6 +2218,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2042,6 +2243,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2064,6 +2268,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2086,6 +2293,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2107,7 +2317,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -2130,7 +2340,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -2154,7 +2364,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -2177,7 +2387,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -2236,6 +2446,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2258,6 +2471,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2280,6 +2496,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2302,6 +2521,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2324,6 +2546,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2346,6 +2571,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2368,6 +2596,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2390,6 +2621,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2412,6 +2646,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2434,6 +2671,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2456,6 +2696,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2478,6 +2721,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2500,6 +2746,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2522,6 +2771,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2543,7 +2795,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -2566,7 +2818,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -2590,7 +2842,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -2613,7 +2865,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -2672,6 +2924,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2694,6 +2949,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2716,6 +2974,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2738,6 +2999,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2760,6 +3024,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2782,6 +3049,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2804,6 +3074,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2826,6 +3099,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2848,6 +3124,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2870,6 +3149,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2892,6 +3174,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2914,6 +3199,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2936,6 +3224,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2958,6 +3249,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -2979,7 +3273,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -3002,7 +3296,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -3026,7 +3320,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -3049,7 +3343,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -3108,6 +3402,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -3130,6 +3427,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -3152,6 +3452,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -3174,6 +3477,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -3196,6 +3502,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -3218,6 +3527,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -3240,6 +3552,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -3262,6 +3577,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -3284,6 +3602,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -3306,6 +3627,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -3328,6 +3652,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -3350,6 +3677,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -3372,6 +3702,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -3394,6 +3727,9 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
+		if (BOverrideConvertImage.invokeConvert(input, output))
+			return output;
+
 		// threaded code is not significantly faster here
 		ImplConvertImage.convert(input, output);
 
@@ -3415,7 +3751,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertPlanarToGray_MT.average(input,output);
 		} else {
 			ImplConvertPlanarToGray.average(input,output);
@@ -3438,7 +3774,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -3462,7 +3798,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ConvertInterleavedToSingle_MT.average(input,output);
 		} else {
 			ConvertInterleavedToSingle.average(input,output);
@@ -3485,7 +3821,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convert(input,output);
 		} else {
 			ImplConvertImage.convert(input,output);
@@ -3542,7 +3878,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convertU8F32(input,output);
 		} else {
 			ImplConvertImage.convertU8F32(input,output);
@@ -3565,7 +3901,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.numBands);
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convertF32U8(input,output);
 		} else {
 			ImplConvertImage.convertF32U8(input,output);
@@ -3588,7 +3924,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convertU8F32(input,output);
 		} else {
 			ImplConvertImage.convertU8F32(input,output);
@@ -3611,7 +3947,7 @@ public class ConvertImage {
 			output.reshape(input.width,input.height,input.getNumBands());
 		}
 
-		if( BoofConcurrency.USE_CONCURRENT ) {
+		if( BoofConcurrency.isUseConcurrent() ) {
 			ImplConvertImage_MT.convertF32U8(input,output);
 		} else {
 			ImplConvertImage.convertF32U8(input,output);
@@ -21,6 +21,9 @@ package boofcv.factory.filter.binary;
 import boofcv.abst.filter.binary.BinaryContourFinderLinearExternal;
 import boofcv.abst.filter.binary.BinaryLabelContourFinder;
 import boofcv.abst.filter.binary.BinaryLabelContourFinderChang2004;
+import boofcv.alg.filter.binary.LinearContourLabelChang2004_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.ConnectRule;
 
 /**
  * Creates instances of {@link BinaryLabelContourFinder}
@@ -36,6 +39,8 @@ public class FactoryBinaryContourFinder {
 	public static BinaryLabelContourFinder linearChang2004() {
 		if (BOverrideFactoryBinaryContourFinder.chang2004 != null) {
 			return BOverrideFactoryBinaryContourFinder.chang2004.createChang2004();
+		} else if (BoofConcurrency.isUseConcurrent()) {
+			return new BinaryLabelContourFinderChang2004(new LinearContourLabelChang2004_MT(ConnectRule.FOUR));
 		} else {
 			return new BinaryLabelContourFinderChang2004();
 		}
@@ -115,7 +115,7 @@ public class FactoryThresholdBinary {
 			throw new RuntimeException("Update how overrides are handled for Niblack family");
 
 		InputToBinary<GrayF32> sauvola;
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			sauvola = new ThresholdNiblackFamily_MT(width, k, down, variant);
 		} else {
 			sauvola = new ThresholdNiblackFamily(width, k, down, variant);
@@ -171,7 +171,7 @@ public class FactoryThresholdBinary {
 			return BOverrideFactoryThresholdBinary.localOtsu.handle(otsu2, regionWidth, tuning, scale, down, inputType);
 
 		ThresholdLocalOtsu otsu;
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			otsu = new ThresholdLocalOtsu_MT(otsu2, regionWidth, tuning, scale, down);
 		} else {
 			otsu = new ThresholdLocalOtsu(otsu2, regionWidth, tuning, scale, down);
@@ -204,7 +204,7 @@ public class FactoryThresholdBinary {
 		else
 			processor = new ThresholdBlockMinMax_F32((float)minimumSpread, (float)scale, down);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			return new ThresholdBlock_MT(processor, regionWidth, thresholdFromLocalBlocks, inputType);
 		} else {
 			return new ThresholdBlock(processor, regionWidth, thresholdFromLocalBlocks, inputType);
@@ -234,7 +234,7 @@ public class FactoryThresholdBinary {
 		else
 			processor = new ThresholdBlockMean_F32((float)scale, down);
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			return new ThresholdBlock_MT(processor, regionWidth, thresholdFromLocalBlocks, inputType);
 		} else {
 			return new ThresholdBlock(processor, regionWidth, thresholdFromLocalBlocks, inputType);
@@ -260,7 +260,7 @@ public class FactoryThresholdBinary {
 		BlockProcessor processor = new ThresholdBlockOtsu(otsu2, tuning, scale, down);
 		InputToBinary<GrayU8> otsu;
 
-		if (BoofConcurrency.USE_CONCURRENT) {
+		if (BoofConcurrency.isUseConcurrent()) {
 			otsu = new ThresholdBlock_MT<>(processor, regionWidth, thresholdFromLocalBlocks, GrayU8.class);
 		} else {
 			otsu = new ThresholdBlock<>(processor, regionWidth, thresholdFromLocalBlocks, GrayU8.class);
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.filter.tiled;
+
+import boofcv.abst.filter.FilterImageInterface;
+import boofcv.abst.filter.blur.BlurFilter;
+import boofcv.abst.filter.convolve.ConvolveInterface;
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.abst.filter.tiled.TileOperator;
+import boofcv.factory.filter.convolve.FactoryConvolve;
+import boofcv.struct.border.BorderType;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImageType;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Factory for creating {@link TileOperator}. When possible, the radius is found from the operation's kernel.
+ *
+ * @author Peter Abeles
+ */
+public class FactoryTileOperator {
+	/**
+	 * Creates an operator from a lambda. The radius must be specified by the user.
+	 *
+	 * @param inputType Type of input image
+	 * @param outputType Type of output image
+	 * @param radiusX How far away pixels along the x-axis are used to compute the output
+	 * @param radiusY How far away pixels along the y-axis are used to compute the output
+	 * @param op The operation
+	 */
+	public static <A extends ImageBase<A>, B extends ImageBase<B>>
+	TileOperator<A, B> create( ImageType<A> inputType, ImageType<B> outputType, int radiusX, int radiusY,
+							   BiConsumer<A, B> op ) {
+		return new TileOperator<>() {
+			@Override public void process( A input, B output ) {op.accept(input, output);}
+
+			@Override public int getRadiusX() {return radiusX;}
+
+			@Override public int getRadiusY() {return radiusY;}
+
+			@Override public ImageType<A> getInputType() {return inputType;}
+
+			@Override public ImageType<B> getOutputType() {return outputType;}
+		};
+	}
+
+	/**
+	 * Operator for a per-pixel operation, which has a radius of zero.
+	 */
+	public static <A extends ImageBase<A>, B extends ImageBase<B>>
+	TileOperator<A, B> pixel( ImageType<A> inputType, ImageType<B> outputType, BiConsumer<A, B> op ) {
+		return create(inputType, outputType, 0, 0, op);
+	}
+
+	/**
+	 * Wraps a generic filter. The filter's border, if any, is added to the radius.
+	 */
+	public static <A extends ImageBase<A>, B extends ImageBase<B>>
+	TileOperator<A, B> filter( FilterImageInterface<A, B> filter, int radiusX, int radiusY ) {
+		return create(filter.getInputType(), filter.getOutputType(),
+				radiusX + filter.getBorderX(), radiusY + filter.getBorderY(), filter::process);
+	}
+
+	/**
+	 * Wraps a blur filter. The radius is found from the filter.
+	 */
+	public static <T extends ImageBase<T>> TileOperator<T, T> blur( BlurFilter<T> filter ) {
+		return filter(filter, filter.getRadius(), filter.getRadius());
+	}
+
+	/**
+	 * Convolves a 1D kernel along one of the image axes. The radius is found from the kernel.
+	 *
+	 * @param kernel The kernel
+	 * @param inputType Type of input image
+	 * @param outputType Type of output image
+	 * @param border How the image border is handled
+	 * @param horizontal true for horizontal convolution and false for vertical
+	 */
+	public static <A extends ImageBase<A>, B extends ImageBase<B>>
+	TileOperator<A, B> convolve( Kernel1D kernel, ImageType<A> inputType, ImageType<B> outputType,
+								 BorderType border, boolean horizontal ) {
+		ConvolveInterface<A, B> conv = FactoryConvolve.convolve(kernel, inputType, outputType, border, horizontal);
+		int radius = Math.max(kernel.getOffset(), kernel.getWidth() - kernel.getOffset() - 1);
+		return create(inputType, outputType, horizontal ? radius : 0, horizontal ? 0 : radius, conv::process);
+	}
+
+	/**
+	 * Computes the Euclidean norm of the image gradient, i.e. sqrt(dx<sup>2</sup> + dy<sup>2</sup>).
+	 *
+	 * @param gradient Computes the image gradient
+	 * @param radius Radius of the gradient's kernel. E.g. 1 for Sobel
+	 */
+	public static <A extends ImageGray<A>>
+	TileOperator<A, GrayF32> gradientNorm( ImageGradient<A, GrayF32> gradient, int radius ) {
+		final var derivX = new GrayF32(1, 1);
+		final var derivY = new GrayF32(1, 1);
+		int r = radius + gradient.getBorder();
+		return create(gradient.getInputType(), ImageType.SB_F32, r, r, ( input, output ) -> {
+			derivX.reshape(input.width, input.height);
+			derivY.reshape(input.width, input.height);
+			gradient.process(input, derivX, derivY);
+			for (int y = 0; y < input.height; y++) {
+				int indexD = y*derivX.stride;
+				int indexOut = output.startIndex + y*output.stride;
+				for (int x = 0; x < input.width; x++, indexD++) {
+					float dx = derivX.data[indexD];
+					float dy = derivY.data[indexD];
+					output.data[indexOut++] = (float)Math.sqrt(dx*dx + dy*dy);
+				}
+			}
+		});
+	}
+}
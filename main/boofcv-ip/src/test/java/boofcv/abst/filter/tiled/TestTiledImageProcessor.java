@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.tiled;
+
+import boofcv.BoofTesting;
+import boofcv.abst.filter.blur.BlurFilter;
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.factory.filter.derivative.FactoryDerivative;
+import boofcv.factory.filter.tiled.FactoryTileOperator;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.MappedImageGray;
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestTiledImageProcessor extends BoofStandardJUnit {
+	int width = 71;
+	int height = 53;
+	float threshold = 15.0f;
+
+	@AfterEach void after() {BoofConcurrency.USE_CONCURRENT = true;}
+
+	/**
+	 * Blur -> Gradient -> Threshold should produce the same results as processing the whole image
+	 */
+	@Test void process_chain() {
+		GrayF32 input = new GrayF32(width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		// Process the entire image at once
+		var blurred = new GrayF32(width, height);
+		var norm = new GrayF32(width, height);
+		FactoryBlurFilter.gaussian(ImageType.SB_F32, -1, 2).process(input, blurred);
+		FactoryTileOperator.gradientNorm(FactoryDerivative.sobel(GrayF32.class, GrayF32.class), 1).process(blurred, norm);
+		GrayU8 expected = ThresholdImageOps.threshold(norm, null, threshold, false);
+
+		for (boolean concurrent : new boolean[]{false, true}) {
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			var alg = new TiledImageProcessor<>(this::createChain);
+			alg.setTileWidth(13);
+			alg.setTileHeight(9);
+
+			var found = new GrayU8(1, 1);
+			alg.process(input, found);
+			BoofTesting.assertEquals(expected, found, 0);
+
+			// Process it again to see if the work space is recycled correctly
+			GImageMiscOps.fill(found, 0);
+			alg.process(input, found);
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
+	/**
+	 * Process an image which is stored off the heap
+	 */
+	@Test void process_mapped() {
+		GrayF32 input = new GrayF32(width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		var alg = new TiledImageProcessor<>(this::createChain);
+		alg.setTileWidth(20);
+		alg.setTileHeight(15);
+		var expected = new GrayU8(width, height);
+		alg.process(input, expected);
+
+		MappedImageGray<GrayF32> mappedIn = MappedImageGray.allocate(width, height, GrayF32.class);
+		MappedImageGray<GrayU8> mappedOut = MappedImageGray.allocate(width, height, GrayU8.class);
+		mappedIn.write(0, 0, input);
+		alg.process(mappedIn, mappedOut);
+
+		var found = new GrayU8(width, height);
+		mappedOut.read(0, 0, found);
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	/**
+	 * Tile is larger than the image
+	 */
+	@Test void singleTile() {
+		GrayF32 input = new GrayF32(width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		BlurFilter<GrayF32> blur = FactoryBlurFilter.mean(ImageType.SB_F32, 3);
+		var expected = new GrayF32(width, height);
+		blur.process(input, expected);
+
+		var alg = new TiledImageProcessor<GrayF32, GrayF32>(() ->
+				FactoryTileOperator.blur(FactoryBlurFilter.mean(ImageType.SB_F32, 3)));
+		var found = new GrayF32(1, 1);
+		alg.process(input, found);
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	/**
+	 * The radius of the chain should be the sum of its operators
+	 */
+	@Test void chainRadius() {
+		TileOperator<GrayF32, GrayU8> chain = createChain();
+		assertEquals(3, chain.getRadiusX());
+		assertEquals(3, chain.getRadiusY());
+	}
+
+	TileOperator<GrayF32, GrayU8> createChain() {
+		ImageGradient<GrayF32, GrayF32> sobel = FactoryDerivative.sobel(GrayF32.class, GrayF32.class);
+		return TileOperatorChain.
+				start(FactoryTileOperator.blur(FactoryBlurFilter.gaussian(ImageType.SB_F32, -1, 2))).
+				then(FactoryTileOperator.gradientNorm(sobel, 1)).
+				then(FactoryTileOperator.pixel(ImageType.SB_F32, ImageType.SB_U8,
+						( a, b ) -> ThresholdImageOps.threshold(a, b, threshold, false)));
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.BoofTesting;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.PackedSetsPoint2D_I32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofStandardJUnit;
+import georegression.struct.point.Point2D_I32;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+class TestLinearContourLabelChang2004_MT extends BoofStandardJUnit {
+	/**
+	 * Random images with blobs that cross strip boundaries. Results must be identical to the single threaded version
+	 */
+	@Test void compareToSingleThread() {
+		for (ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR, ConnectRule.EIGHT}) {
+			for (int trial = 0; trial < 20; trial++) {
+				GrayU8 binary = new GrayU8(30 + rand.nextInt(60), 40 + rand.nextInt(60));
+				double fill = 0.2 + 0.6*rand.nextDouble();
+				for (int i = 0; i < binary.data.length; i++) {
+					binary.data[i] = (byte)(rand.nextDouble() < fill ? 1 : 0);
+				}
+
+				var single = new LinearContourLabelChang2004(rule);
+				var multi = new LinearContourLabelChang2004_MT(rule);
+				multi.minimumStripHeight = 5;
+
+				// exercise the contour filtering
+				if (trial%3 == 0) {
+					single.setMaxContourSize(20);
+					multi.setMaxContourSize(20);
+				}
+				if (trial%4 == 0) {
+					single.setMinContourSize(6);
+					multi.setMinContourSize(6);
+				}
+				if (trial%5 == 0) {
+					single.setSaveInternalContours(false);
+					multi.setSaveInternalContours(false);
+				}
+
+				// process twice to make sure the state is reset correctly
+				for (int repeat = 0; repeat < 2; repeat++) {
+					var expected = new GrayS32(binary.width, binary.height);
+					var found = new GrayS32(binary.width, binary.height);
+					single.process(binary, expected);
+					multi.process(binary, found);
+
+					BoofTesting.assertEquals(expected, found, 0);
+					compareContours(single, multi);
+				}
+			}
+		}
+	}
+
+	/**
+	 * When the image is too small to split up it should fall back on the single threaded code
+	 */
+	@Test void smallImage() {
+		GrayU8 binary = TestLinearContourLabelChang2004.TEST1.clone();
+
+		var single = new LinearContourLabelChang2004(ConnectRule.FOUR);
+		var multi = new LinearContourLabelChang2004_MT(ConnectRule.FOUR);
+
+		var expected = new GrayS32(binary.width, binary.height);
+		var found = new GrayS32(binary.width, binary.height);
+		single.process(binary, expected);
+		multi.process(binary, found);
+
+		BoofTesting.assertEquals(expected, found, 0);
+		compareContours(single, multi);
+	}
+
+	private void compareContours( LinearContourLabelChang2004 expected, LinearContourLabelChang2004 found ) {
+		assertEquals(expected.getContours().size, found.getContours().size);
+		for (int i = 0; i < expected.getContours().size; i++) {
+			ContourPacked a = expected.getContours().get(i);
+			ContourPacked b = found.getContours().get(i);
+			assertEquals(a.id, b.id);
+			assertEquals(a.externalIndex, b.externalIndex);
+			assertEquals(a.internalIndexes.size, b.internalIndexes.size);
+			for (int j = 0; j < a.internalIndexes.size; j++) {
+				assertEquals(a.internalIndexes.get(j), b.internalIndexes.get(j));
+			}
+		}
+
+		PackedSetsPoint2D_I32 pointsA = expected.getPackedPoints();
+		PackedSetsPoint2D_I32 pointsB = found.getPackedPoints();
+		assertEquals(pointsA.size(), pointsB.size());
+		for (int i = 0; i < pointsA.size(); i++) {
+			List<Point2D_I32> setA = pointsA.getSet(i);
+			List<Point2D_I32> setB = pointsB.getSet(i);
+			assertEquals(setA.size(), setB.size());
+			for (int j = 0; j < setA.size(); j++) {
+				assertEquals(setA.get(j).x, setB.get(j).x);
+				assertEquals(setA.get(j).y, setB.get(j).y);
+			}
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.BoofTesting;
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Peter Abeles
+ */
+class TestMappedImageOps extends BoofStandardJUnit {
+	int width = 31;
+	int height = 47;
+
+	/**
+	 * Results should be identical to processing the heap image when the halo is large enough
+	 */
+	@Test void process_blur() {
+		int radius = 3;
+		var heap = new GrayF32(width, height);
+		GImageMiscOps.fillUniform(heap, rand, 0, 100);
+		GrayF32 expected = BlurImageOps.gaussian(heap, null, -1, radius, null);
+
+		MappedImageGray<GrayF32> input = MappedImageGray.allocate(width, height, GrayF32.class);
+		MappedImageGray<GrayF32> output = MappedImageGray.allocate(width, height, GrayF32.class);
+		input.write(0, 0, heap);
+
+		// small blocks to make sure there are a lot of them
+		for (int blockRows : new int[]{1, 5, 100}) {
+			MappedImageOps.process(input, output, radius, blockRows,
+					( a, b ) -> BlurImageOps.gaussian(a, b, -1, radius, null));
+
+			var found = new GrayF32(width, height);
+			output.read(0, 0, found);
+			BoofTesting.assertEquals(expected, found, 1e-4);
+		}
+	}
+
+	/**
+	 * Convert between two different image types
+	 */
+	@Test void process_convert() {
+		var heap = new GrayU8(width, height);
+		GImageMiscOps.fillUniform(heap, rand, 0, 255);
+
+		MappedImageGray<GrayU8> input = MappedImageGray.allocate(width, height, GrayU8.class);
+		MappedImageGray<GrayF32> output = MappedImageGray.allocate(width, height, GrayF32.class);
+		input.write(0, 0, heap);
+
+		MappedImageOps.process(input, output, 0, ConvertImage::convert);
+
+		var found = new GrayF32(width, height);
+		output.read(0, 0, found);
+		BoofTesting.assertEquals(heap, found, 0.0);
+	}
+
+	@Test void process_inplace() {
+		var heap = new GrayF32(width, height);
+		GImageMiscOps.fillUniform(heap, rand, 0, 100);
+
+		MappedImageGray<GrayF32> image = MappedImageGray.allocate(width, height, GrayF32.class);
+		image.write(0, 0, heap);
+
+		// only process part of the image
+		MappedImageOps.process(image.subimage(2, 3, 20, 30), a -> PixelMath.multiply(a, 2.0f, a));
+
+		var found = new GrayF32(width, height);
+		image.read(0, 0, found);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				float scale = x >= 2 && x < 20 && y >= 3 && y < 30 ? 2.0f : 1.0f;
+				assertEquals(heap.get(x, y)*scale, found.get(x, y), 1e-4f);
+			}
+		}
+	}
+
+	@Test void process_planar() {
+		int radius = 2;
+		var heap = new Planar<>(GrayF32.class, width, height, 3);
+		GImageMiscOps.fillUniform(heap, rand, 0, 100);
+		Planar<GrayF32> expected = BlurImageOps.mean(heap, null, radius, null, null);
+
+		MappedPlanar<GrayF32> input = MappedPlanar.allocate(width, height, GrayF32.class, 3);
+		MappedPlanar<GrayF32> output = MappedPlanar.allocate(width, height, GrayF32.class, 3);
+		input.write(0, 0, heap);
+
+		MappedImageOps.process(input, output, radius, 7, ( a, b ) -> BlurImageOps.mean(a, b, radius, null, null));
+
+		var found = new Planar<>(GrayF32.class, width, height, 3);
+		output.read(0, 0, found);
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	/**
+	 * The halo would be corrupted if the input and output are the same
+	 */
+	@Test void process_sharedStorage() {
+		MappedImageGray<GrayF32> image = MappedImageGray.allocate(width, height, GrayF32.class);
+		assertThrows(IllegalArgumentException.class, () -> MappedImageOps.process(image, image, 2, ( a, b ) -> {}));
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.BoofTesting;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImage;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayF64;
+import boofcv.struct.image.GrayS64;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.Planar;
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Peter Abeles
+ */
+class TestPixelExpression extends BoofStandardJUnit {
+	int width = 120;
+	int height = 100;
+
+	@AfterEach void after() {BoofConcurrency.USE_CONCURRENT = true;}
+
+	/**
+	 * Compare against calling each function in PixelMath one at a time
+	 */
+	@Test void compareToPixelMath() {
+		for (boolean concurrent : new boolean[]{false, true}) {
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			var input = new GrayF32(width, height);
+			var other = BoofTesting.createSubImageOf(new GrayF32(width, height));
+			GImageMiscOps.fillUniform(input, rand, -10, 10);
+			GImageMiscOps.fillUniform(other, rand, 1, 10);
+
+			var expected = new GrayF32(width, height);
+			PixelMath.multiply(input, 1.5f, expected);
+			PixelMath.plus(expected, 2.0f, expected);
+			PixelMath.abs(expected, expected);
+			PixelMath.divide(expected, other, expected);
+			PixelMath.sqrt(expected, expected);
+			PixelMath.boundImage(expected, 0.5f, 2.0f);
+
+			GrayF32 found = PixelExpression.of(input).multiply(1.5).plus(2.0).abs().
+					divide(other).sqrt().bound(0.5, 2.0).process();
+
+			BoofTesting.assertEquals(expected, found, 1e-5);
+		}
+	}
+
+	/**
+	 * 64-bit images should be computed with doubles and give the same results as PixelMath
+	 */
+	@Test void compareToPixelMath_64() {
+		var inputS64 = new GrayS64(width, height);
+		GImageMiscOps.fillUniform(inputS64, rand, 100_000_000, 1_000_000_000_000.0);
+
+		var expectedS64 = new GrayS64(width, height);
+		PixelMath.multiply(inputS64, 3.0, expectedS64);
+		PixelMath.plus(expectedS64, 7L, expectedS64);
+
+		GrayS64 foundS64 = PixelExpression.of(inputS64).multiply(3).plus(7).process(new GrayS64(1, 1));
+		BoofTesting.assertEquals(expectedS64, foundS64, 0);
+
+		var inputF64 = new GrayF64(width, height);
+		GImageMiscOps.fillUniform(inputF64, rand, -10, 10);
+
+		var expectedF64 = new GrayF64(width, height);
+		PixelMath.multiply(inputF64, 1.123456789, expectedF64);
+		PixelMath.plus(expectedF64, 0.000123456789, expectedF64);
+
+		GrayF64 foundF64 = PixelExpression.of(inputF64).multiply(1.123456789).plus(0.000123456789).
+				process(new GrayF64(1, 1));
+		BoofTesting.assertEquals(expectedF64, foundF64, 1e-14);
+	}
+
+	/**
+	 * The input and output are different types
+	 */
+	@Test void convertTypes() {
+		var input = new GrayU8(width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		var expectedF = new GrayF32(width, height);
+		PixelMath.multiply(input, 2.0f, expectedF);
+		PixelMath.minus(expectedF, 100.0f, expectedF);
+		PixelMath.boundImage(expectedF, 0, 255);
+		GrayU8 expected = ConvertImage.convert(expectedF, (GrayU8)null);
+
+		GrayU8 found = PixelExpression.of(input).multiply(2).minus(100).bound(0, 255).
+				process(BoofTesting.createSubImageOf(new GrayU8(width, height)));
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	@Test void bandAverage() {
+		var input = new Planar<>(GrayF32.class, width, height, 3);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		var expected = new GrayF32(width, height);
+		ImageBandMath.average(input, expected);
+		PixelMath.multiply(expected, 2.0f, expected);
+
+		GrayF32 found = PixelExpression.bandAverage(input).multiply(2).process();
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	@Test void bandMinMax() {
+		var input = new Planar<>(GrayF32.class, width, height, 3);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		var expected = new GrayF32(width, height);
+		ImageBandMath.minimum(input, expected);
+		BoofTesting.assertEquals(expected, PixelExpression.bandMinimum(input).process(), 0);
+
+		ImageBandMath.maximum(input, expected);
+		BoofTesting.assertEquals(expected, PixelExpression.bandMaximum(input).process(), 0);
+	}
+
+	/**
+	 * The expression should be reusable and see changes to the input image
+	 */
+	@Test void reuse() {
+		var input = new GrayF32(width, height);
+		PixelExpression expression = PixelExpression.of(input).plus(1).pow2();
+		assertEquals(2, expression.size());
+
+		GImageMiscOps.fill(input, 2);
+		assertEquals(9.0f, expression.process().get(5, 6));
+		GImageMiscOps.fill(input, 3);
+		assertEquals(16.0f, expression.process().get(5, 6));
+	}
+
+	@Test void imageShapeMustMatch() {
+		var input = new GrayF32(width, height);
+		assertThrows(IllegalArgumentException.class, () -> PixelExpression.of(input).add(new GrayF32(width, height + 1)));
+	}
+}
@@ -22,6 +22,7 @@ import boofcv.BoofTesting;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 import boofcv.testing.BoofStandardJUnit;
 import org.junit.jupiter.api.Test;
@@ -101,6 +102,38 @@ import static org.junit.jupiter.api.Assertions.*;
 		assertNotNull(pyramid.layers[0]);
 	}
 
+	/**
+	 * Layers should only be returned to the pool when explicitly released, since other code might still be
+	 * referencing them
+	 */
+	@Test
+	void releaseLayers() {
+		var pool = new ImagePool(10_000_000);
+		ImagePool.setGlobal(pool);
+		try {
+			Dummy pyramid = new Dummy(GrayU8.class, true);
+			pyramid.setScaleFactors(1, 2, 4);
+			pyramid.initialize(100, 120);
+
+			// changing the shape must not release the old layers
+			pyramid.initialize(50, 60);
+			assertEquals(0, pool.size());
+			ImageBase layer1 = pyramid.getLayer(1);
+
+			pyramid.releaseLayers();
+			assertFalse(pyramid.isInitialized());
+			// the first layer is the input image and isn't owned by the pyramid
+			assertEquals(2, pool.size());
+
+			// The released layers should be recycled
+			pyramid.initialize(50, 60);
+			assertEquals(0, pool.size());
+			assertSame(layer1, pyramid.getLayer(1));
+		} finally {
+			ImagePool.setGlobal(null);
+		}
+	}
+
 	@Test
 	void isInitialized() {
 		Dummy pyramid = new Dummy(GrayU8.class, false);
@@ -32,7 +32,7 @@ public class ConfigRecognitionNearestNeighbor implements Configuration {
 	/** Clustering algorithm used when learning the words */
 	public final ConfigKMeans kmeans = new ConfigKMeans();
 
-	/** Which Nearest Neighbor Algorithm will be used. */
+	/** Which Nearest Neighbor Algorithm will be used. Ignored for binary descriptors, which always use Multi-Index Hashing */
 	public final ConfigNearestNeighborSearch nearestNeighbor = new ConfigNearestNeighborSearch();
 
 	/** Number of words in the dictionary */
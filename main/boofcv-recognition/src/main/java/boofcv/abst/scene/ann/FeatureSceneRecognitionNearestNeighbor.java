@@ -20,6 +20,7 @@ package boofcv.abst.scene.ann;
 
 import boofcv.abst.scene.FeatureSceneRecognition;
 import boofcv.abst.scene.SceneRecognition;
+import boofcv.alg.descriptor.MultiIndexHashing_B;
 import boofcv.alg.scene.ann.RecognitionNearestNeighborInvertedFile;
 import boofcv.alg.scene.bow.BowMatch;
 import boofcv.factory.feature.associate.FactoryAssociation;
@@ -28,6 +29,7 @@ import boofcv.misc.BoofLambdas;
 import boofcv.misc.BoofMiscOps;
 import boofcv.struct.PackedArray;
 import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.kmeans.FactoryTupleCluster;
 import lombok.Getter;
 import lombok.Setter;
@@ -211,8 +213,14 @@ public class FeatureSceneRecognitionNearestNeighbor<TD extends TupleDesc<TD>> im
 	public void setDictionary( List<TD> dictionary ) {
 		clearDatabase();
 		this.dictionary = dictionary;
-		NearestNeighbor<TD> nearestNeighbor = FactoryNearestNeighbor.generic(config.nearestNeighbor,
-				FactoryAssociation.kdtreeDistance(tupleDOF, tupleType));
+		NearestNeighbor<TD> nearestNeighbor;
+		if (tupleType == TupleDesc_B.class) {
+			// K-D trees don't work in Hamming space so an exact binary index is used instead
+			nearestNeighbor = (NearestNeighbor)new MultiIndexHashing_B(tupleDOF, 0);
+		} else {
+			nearestNeighbor = FactoryNearestNeighbor.generic(config.nearestNeighbor,
+					FactoryAssociation.kdtreeDistance(tupleDOF, tupleType));
+		}
 		nearestNeighbor.setPoints(dictionary, true);
 
 		database.initialize(nearestNeighbor, dictionary.size());
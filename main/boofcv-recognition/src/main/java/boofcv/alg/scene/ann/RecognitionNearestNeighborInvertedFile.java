@@ -22,6 +22,7 @@ import boofcv.alg.scene.bow.BowDistanceTypes;
 import boofcv.alg.scene.bow.BowMatch;
 import boofcv.alg.scene.bow.BowUtils;
 import boofcv.alg.scene.bow.InvertedFile;
+import boofcv.alg.scene.bow.InvertedFileReader;
 import boofcv.alg.scene.nister2006.TupleMapDistanceNorm;
 import boofcv.misc.BoofLambdas;
 import lombok.Getter;
@@ -32,6 +33,7 @@ import org.ddogleg.struct.*;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.PrintStream;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
 
@@ -77,6 +79,11 @@ public class RecognitionNearestNeighborInvertedFile<Point> implements VerbosePri
 	/** List of images in the DB that are observed by each word. One element per word. */
 	@Getter DogArray<InvertedFile> invertedFiles = new DogArray<>(InvertedFile::new, InvertedFile::reset);
 
+	/** If not null then inverted files are read from here the first time they are accessed */
+	protected @Getter @Nullable InvertedFileReader lazyInvertedFiles;
+	// Which inverted files have already been read from lazyInvertedFiles
+	protected final BitSet lazyLoaded = new BitSet();
+
 	//--------------------------- Internal Work Space
 
 	// Used to search for matching words
@@ -113,6 +120,44 @@ public class RecognitionNearestNeighborInvertedFile<Point> implements VerbosePri
 		wordHistogram.resetResize(numWords, 0);
 
 		this.search = nearestNeighbor.createSearch();
+		this.lazyInvertedFiles = null;
+		this.lazyLoaded.clear();
+	}
+
+	/**
+	 * Specifies a source of inverted files which will be read the first time they are accessed. This allows
+	 * a large database to be used without loading all of it into memory first. All previous inverted
+	 * files are discarded.
+	 *
+	 * @param reader Source of inverted files. Must have one for each word. If null then lazy loading is turned off.
+	 */
+	public void setLazyInvertedFiles( @Nullable InvertedFileReader reader ) {
+		this.lazyInvertedFiles = reader;
+		this.lazyLoaded.clear();
+		if (reader == null)
+			return;
+		invertedFiles.reset();
+		invertedFiles.resize(reader.size());
+	}
+
+	/**
+	 * Returns the inverted file for the specified word. If lazy loading is turned on and this word hasn't been
+	 * accessed yet then it's read first. Lazy loading is synchronized so that it's safe to call from multiple threads.
+	 */
+	public InvertedFile getInvertedFile( int word ) {
+		InvertedFile invertedFile = invertedFiles.get(word);
+		InvertedFileReader reader = lazyInvertedFiles;
+		if (reader == null)
+			return invertedFile;
+
+		// Reading modifies the inverted file and the BitSet, both of which are shared between threads
+		synchronized (lazyLoaded) {
+			if (!lazyLoaded.get(word)) {
+				reader.read(word, invertedFile);
+				lazyLoaded.set(word);
+			}
+		}
+		return invertedFile;
 	}
 
 	/**
@@ -125,6 +170,8 @@ public class RecognitionNearestNeighborInvertedFile<Point> implements VerbosePri
 		int numWords = invertedFiles.size;
 		invertedFiles.reset();
 		invertedFiles.resize(numWords);
+		lazyInvertedFiles = null;
+		lazyLoaded.clear();
 	}
 
 	/**
@@ -146,7 +193,7 @@ public class RecognitionNearestNeighborInvertedFile<Point> implements VerbosePri
 		// Add this image to the inverted file for each word
 		for (int i = 0; i < observedWords.size; i++) {
 			int word = observedWords.get(i);
-			invertedFiles.get(word).addImage(imageIdx, tmpDescWeights.get(i));
+			getInvertedFile(word).addImage(imageIdx, tmpDescWeights.get(i));
 		}
 	}
 
@@ -245,7 +292,7 @@ public class RecognitionNearestNeighborInvertedFile<Point> implements VerbosePri
 		for (int wordIdx = 0; wordIdx < observedWords.size; wordIdx++) {
 			float queryWordWeight = tmpDescWeights.get(wordIdx);
 			int word = observedWords.get(wordIdx);
-			InvertedFile invertedFile = invertedFiles.get(word);
+			InvertedFile invertedFile = getInvertedFile(word);
 
 			// Go through the inverted file list
 			final int N = invertedFile.weights.size;
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.scene.bow;
+
+/**
+ * Provides read access to a set of {@link InvertedFile} which are not stored in memory, e.g. a memory mapped file.
+ * Used to load inverted files lazily the first time they are accessed.
+ *
+ * @author Peter Abeles
+ */
+public interface InvertedFileReader {
+	/**
+	 * Number of inverted files
+	 */
+	int size();
+
+	/**
+	 * Reads the specified inverted file
+	 *
+	 * @param index Which inverted file is to be read
+	 * @param dst (Output) Storage for the inverted file. Previous contents are discarded.
+	 */
+	void read( int index, InvertedFile dst );
+}
@@ -22,6 +22,7 @@ import boofcv.alg.scene.bow.BowDistanceTypes;
 import boofcv.alg.scene.bow.BowMatch;
 import boofcv.alg.scene.bow.BowUtils;
 import boofcv.alg.scene.bow.InvertedFile;
+import boofcv.alg.scene.bow.InvertedFileReader;
 import boofcv.alg.scene.vocabtree.HierarchicalVocabularyTree;
 import boofcv.alg.scene.vocabtree.HierarchicalVocabularyTree.Node;
 import boofcv.misc.BoofLambdas;
@@ -33,6 +34,7 @@ import org.jetbrains.annotations.Nullable;
 import pabeles.concurrency.GrowArray;
 
 import java.io.PrintStream;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
 
@@ -82,6 +84,11 @@ public class RecognitionVocabularyTreeNister2006<Point> implements VerbosePrint
 	/** User data associated with each node */
 	public final GrowArray<InvertedFile> invertedFiles = new GrowArray<>(InvertedFile::new, InvertedFile::reset);
 
+	/** If not null then inverted files are read from here the first time they are accessed */
+	protected @Getter @Nullable InvertedFileReader lazyInvertedFiles;
+	// Which inverted files have already been read from lazyInvertedFiles
+	protected final BitSet lazyLoaded = new BitSet();
+
 	/** List of images added to the database */
 	protected @Getter final BigDogArray_I32 imagesDB = new BigDogArray_I32(100, 10000, BigDogGrowth.GROW_FIRST);
 
@@ -128,6 +135,44 @@ public class RecognitionVocabularyTreeNister2006<Point> implements VerbosePrint
 		// Removes the old leaf data and replaces it with empty structures
 		invertedFiles.reset();
 		invertedFiles.resize(tree.nodes.size);
+		lazyInvertedFiles = null;
+		lazyLoaded.clear();
+	}
+
+	/**
+	 * Specifies a source of inverted files which will be read the first time they are accessed. This allows
+	 * a large database to be used without loading all of it into memory first. All previous inverted
+	 * files are discarded.
+	 *
+	 * @param reader Source of inverted files. Must have one for each node. If null then lazy loading is turned off.
+	 */
+	public void setLazyInvertedFiles( @Nullable InvertedFileReader reader ) {
+		this.lazyInvertedFiles = reader;
+		this.lazyLoaded.clear();
+		if (reader == null)
+			return;
+		invertedFiles.reset();
+		invertedFiles.resize(reader.size());
+	}
+
+	/**
+	 * Returns the inverted file for the specified node. If lazy loading is turned on and this node hasn't been
+	 * accessed yet then it's read first. Lazy loading is synchronized so that it's safe to call from multiple threads.
+	 */
+	public InvertedFile getInvertedFile( int nodeIdx ) {
+		InvertedFile invertedFile = invertedFiles.get(nodeIdx);
+		InvertedFileReader reader = lazyInvertedFiles;
+		if (reader == null)
+			return invertedFile;
+
+		// Reading modifies the inverted file and the BitSet, both of which are shared between threads
+		synchronized (lazyLoaded) {
+			if (!lazyLoaded.get(nodeIdx)) {
+				reader.read(nodeIdx, invertedFile);
+				lazyLoaded.set(nodeIdx);
+			}
+		}
+		return invertedFile;
 	}
 
 	/**
@@ -148,7 +193,7 @@ public class RecognitionVocabularyTreeNister2006<Point> implements VerbosePrint
 
 		for (int wordIdx = 0; wordIdx < tmpDescWords.size; wordIdx++) {
 			int word = tmpDescWords.get(wordIdx);
-			invertedFiles.get(word).addImage(imageIdx, tmpDescWeights.get(wordIdx));
+			getInvertedFile(word).addImage(imageIdx, tmpDescWeights.get(wordIdx));
 		}
 	}
 
@@ -211,7 +256,7 @@ public class RecognitionVocabularyTreeNister2006<Point> implements VerbosePrint
 			float queryWordWeight = tmpDescWeights.get(wordIdx);
 			HierarchicalVocabularyTree.Node node = tree.nodes.get(tmpDescWords.get(wordIdx));
 
-			InvertedFile invertedFile = invertedFiles.get(node.index);
+			InvertedFile invertedFile = getInvertedFile(node.index);
 
 			// See above
 			if (invertedFile.size > maximumInvertedFileLength)
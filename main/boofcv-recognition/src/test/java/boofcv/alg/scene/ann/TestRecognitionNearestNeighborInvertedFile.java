@@ -19,6 +19,8 @@
 package boofcv.alg.scene.ann;
 
 import boofcv.alg.scene.bow.BowDistanceTypes;
+import boofcv.alg.scene.bow.InvertedFile;
+import boofcv.alg.scene.bow.InvertedFileReader;
 import boofcv.testing.BoofStandardJUnit;
 import georegression.helper.KdTreePoint2D_F64;
 import georegression.struct.point.Point2D_F64;
@@ -75,6 +77,66 @@ class TestRecognitionNearestNeighborInvertedFile extends BoofStandardJUnit {
 		assertFalse(alg.query(images.get(5), null, 3));
 	}
 
+	/**
+	 * Adds images and queries the database with inverted files in memory, then queries a database which
+	 * lazily reads the same inverted files. The results should be identical.
+	 */
+	@Test void lazyInvertedFiles() {
+		List<Point2D_F64> words = new ArrayList<>();
+		for (int i = 0; i < 60; i++) {
+			words.add(new Point2D_F64(rand.nextDouble()*2, rand.nextDouble()*2));
+		}
+		var nn = FactoryNearestNeighbor.exhaustive(new KdTreePoint2D_F64());
+		nn.setPoints(words, true);
+
+		var expected = new RecognitionNearestNeighborInvertedFile<Point2D_F64>();
+		expected.initialize(nn, words.size());
+
+		List<List<Point2D_F64>> images = new ArrayList<>();
+		for (int i = 0; i < 15; i++) {
+			var image = new ArrayList<Point2D_F64>();
+			int N = rand.nextInt(20) + 20;
+			for (int j = 0; j < N; j++) {
+				image.add(words.get(rand.nextInt(words.size())));
+			}
+			expected.addImage(i*2, image);
+			images.add(image);
+		}
+
+		var lazy = new RecognitionNearestNeighborInvertedFile<Point2D_F64>();
+		lazy.initialize(nn, words.size());
+		for (int i = 0; i < expected.getImagesDB().size; i++) {
+			lazy.getImagesDB().append(expected.getImagesDB().get(i));
+		}
+		var numRead = new int[1];
+		lazy.setLazyInvertedFiles(new InvertedFileReader() {
+			@Override public int size() {return expected.getInvertedFiles().size;}
+
+			@Override public void read( int index, InvertedFile dst ) {
+				numRead[0]++;
+				InvertedFile src = expected.getInvertedFile(index);
+				dst.reset();
+				for (int i = 0; i < src.size; i++) {
+					dst.addImage(src.get(i), src.weights.get(i));
+				}
+			}
+		});
+
+		for (int imageIdx = 0; imageIdx < images.size(); imageIdx++) {
+			assertTrue(expected.query(images.get(imageIdx), null, 4));
+			assertTrue(lazy.query(images.get(imageIdx), null, 4));
+			assertEquals(expected.getMatches().size, lazy.getMatches().size);
+			assertEquals(imageIdx*2, lazy.getMatches().get(0).identification);
+			for (int i = 0; i < expected.getMatches().size; i++) {
+				assertEquals(expected.getMatches().get(i).identification, lazy.getMatches().get(i).identification);
+				assertEquals(expected.getMatches().get(i).error, lazy.getMatches().get(i).error);
+			}
+		}
+
+		// Each inverted file should only be read once
+		assertTrue(numRead[0] > 0 && numRead[0] <= words.size());
+	}
+
 	@Test void computeWordHistogram() {
 		List<Point2D_F64> words = new ArrayList<>();
 		words.add(new Point2D_F64(10, 20));
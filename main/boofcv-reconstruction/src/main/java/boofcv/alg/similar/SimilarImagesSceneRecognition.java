@@ -55,6 +55,10 @@ import java.util.*;
  * really are related using the logic specified by {@link #similarityTest}. If they are related their
  * pairwise information is saved for later fast retrieval.
  *
+ * Images can also be added after {@link #fixate()} has been called with {@link #addImageIncremental}. They are
+ * added to the recognizer's database using the existing model and can be looked up right away. This is intended for
+ * when images arrive continuously and the reconstruction is updated one view at a time.
+ *
  * While building there is significant cost in building the retrieval system, this is in general much faster than
  * considering every possible image pair and trying to match them. The main down side is that it will not be
  * 100% reliable.
@@ -105,6 +109,9 @@ public class SimilarImagesSceneRecognition<Image extends ImageBase<Image>, TD ex
 	/** Time {@link #fixate()} took to add images to the database. Milliseconds. */
 	public @Getter double timeFixateAddMS;
 
+	// true if fixate() has been called and images can be added incrementally
+	boolean fixated = false;
+
 	//========================= Internal Workspace
 	// Storage for results when looking up matches
 	final DogArray<SceneRecognition.Match> sceneMatches = new DogArray<>(SceneRecognition.Match::new);
@@ -193,6 +200,24 @@ public class SimilarImagesSceneRecognition<Image extends ImageBase<Image>, TD ex
 		long time2 = System.nanoTime();
 		timeFixateAddMS = (time2 - time1)*1e-6;
 		if (verbose != null) verbose.printf("fixate learning add: %.1f (ms)\n", timeFixateAddMS);
+		fixated = true;
+	}
+
+	/**
+	 * Adds a new image after {@link #fixate()} has been called. Image features are detected and added to the
+	 * recognizer's database using the existing model, so the image can be used by {@link #findSimilar} immediately.
+	 * The model isn't relearned. If the new images look very different from the ones the model was learned from
+	 * then {@link #fixate()} should be called again at some point.
+	 *
+	 * @param id Unique ID for this image
+	 * @param image The image
+	 */
+	public void addImageIncremental( String id, Image image ) {
+		BoofMiscOps.checkTrue(fixated, "Must call fixate() first");
+		BoofMiscOps.checkTrue(imageToIndex.get(id) == -1, "Image already added. id=" + id);
+
+		addImage(id, image);
+		recognizer.addImage(id, createFeaturesLambda(imageIDs.size() - 1));
 	}
 
 	/**
@@ -18,6 +18,8 @@
 
 package boofcv.alg.structure;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.misc.BoofLambdas;
 import boofcv.misc.BoofMiscOps;
 import boofcv.struct.calib.CameraPinholeBrown;
 import boofcv.struct.feature.AssociatedIndex;
@@ -40,6 +42,14 @@ import java.util.*;
  *
  * If there is a geometric relationship or not is determined using the passed in {@link EpipolarScore3D}.
  *
+ * If created with a factory for {@link EpipolarScore3D} and concurrency is turned on, then pairs are scored in
+ * parallel. Since {@link LookUpSimilarImages} is not thread safe, a batch of pairs is first read from it by a single
+ * thread. The batch is then split into a fixed number of contiguous blocks, each scored by its own
+ * {@link EpipolarScore3D}, and edges are added to the graph in the same order as the single threaded algorithm.
+ * Blocks don't depend on the number of threads, so the results are deterministic. Scores will only be identical to
+ * the single threaded results if the scorer is not affected by the pairs it has already processed, e.g. the state
+ * of RANSAC's random number generator.
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"NullAway.Init"})
@@ -50,6 +60,15 @@ public class GeneratePairwiseImageGraph implements VerbosePrint {
 	/** Used to score if the two views have a 3D relationship or not */
 	public final @Getter EpipolarScore3D epipolarScore;
 
+	/** If not null then this is used to create a scorer for each block when processing pairs concurrently */
+	final @Nullable BoofLambdas.Factory<EpipolarScore3D> factoryScore;
+
+	/** Maximum number of pairs which are read into memory at once when concurrent */
+	public int concurrentBatchPairs = 2000;
+
+	/** Number of blocks a batch is split into when concurrent. Each block has its own scorer. */
+	public int concurrentBlocks = 32;
+
 	private @Nullable PrintStream verbose;
 
 	//--------- Internal Workspace
@@ -63,11 +82,25 @@ public class GeneratePairwiseImageGraph implements VerbosePrint {
 	DogArray<Point2D_F64> srcFeats = new DogArray<>(Point2D_F64::new);
 	DogArray<Point2D_F64> dstFeats = new DogArray<>(Point2D_F64::new);
 
+	// Pairs which have been read but not yet scored when concurrent
+	final DogArray<PairWork> batch = new DogArray<>(PairWork::new, PairWork::reset);
+	// Scorer for each block
+	final List<EpipolarScore3D> blockScorers = new ArrayList<>();
+
 	/**
 	 * Specifies consensus matching algorithms
 	 */
 	public GeneratePairwiseImageGraph( EpipolarScore3D epipolarScore ) {
 		this.epipolarScore = epipolarScore;
+		this.factoryScore = null;
+	}
+
+	/**
+	 * Specifies a factory for the scorer, which allows pairs to be scored concurrently.
+	 */
+	public GeneratePairwiseImageGraph( BoofLambdas.Factory<EpipolarScore3D> factoryScore ) {
+		this.epipolarScore = factoryScore.newInstance();
+		this.factoryScore = factoryScore;
 	}
 
 	/**
@@ -97,6 +130,11 @@ public class GeneratePairwiseImageGraph implements VerbosePrint {
 
 		if (verbose != null) verbose.println("total images = " + imageIds.size());
 
+		if (factoryScore != null && BoofConcurrency.isUseConcurrent()) {
+			processConcurrent(dbSimilar, dbCams, imageToIndex);
+			return;
+		}
+
 		// For each image examine all related images for a true geometric relationship
 		// if one exists then add an edge to the graph describing their relationship
 		for (int idxTgt = 0; idxTgt < imageIds.size(); idxTgt++) {
@@ -137,6 +175,134 @@ public class GeneratePairwiseImageGraph implements VerbosePrint {
 		}
 	}
 
+	/**
+	 * Adds a single view to an existing graph. Only pairs between the new view and views which are already in the
+	 * graph are considered, so the cost depends on the number of similar images and not the total number of views.
+	 * The view must already be known by 'dbSimilar', e.g. by adding it with
+	 * {@link boofcv.alg.similar.SimilarImagesSceneRecognition#addImageIncremental}. Call {@link #process} or reset
+	 * the graph before the first view is added.
+	 *
+	 * @param dbSimilar Images with feature associations
+	 * @param viewID ID of the view which is to be added
+	 * @return The new view in the graph
+	 */
+	public PairwiseImageGraph.View addView( LookUpSimilarImages dbSimilar, LookUpCameraInfo dbCams, String viewID ) {
+		if (graph.mapNodes.containsKey(viewID))
+			throw new IllegalArgumentException("View is already in the graph. id='" + viewID + "'");
+
+		List<String> similar = new ArrayList<>();
+		PairwiseImageGraph.View node = graph.createNode(viewID);
+
+		// Only consider views which are already in the graph
+		dbSimilar.findSimilar(viewID, ( id ) -> !id.equals(viewID) && graph.mapNodes.containsKey(id), similar);
+		dbSimilar.lookupPixelFeats(viewID, srcFeats);
+		node.totalObservations = srcFeats.size;
+
+		if (verbose != null) verbose.println("Adding view='" + viewID + "' similar.size=" + similar.size() +
+				" feats.size=" + srcFeats.size);
+
+		for (int idxSimilar = 0; idxSimilar < similar.size(); idxSimilar++) {
+			String dst = similar.get(idxSimilar);
+			if (dst.equals(viewID) || !graph.mapNodes.containsKey(dst))
+				throw new RuntimeException("BUG! should have been filtered by find similar");
+
+			// get information on the features and association
+			dbSimilar.lookupPixelFeats(dst, dstFeats);
+			dbSimilar.lookupAssociated(dst, matches);
+
+			pairs.reset();
+			for (int i = 0; i < matches.size; i++) {
+				AssociatedIndex m = matches.get(i);
+				pairs.grow().setTo(srcFeats.get(m.src), dstFeats.get(m.dst));
+			}
+
+			createEdge(dbCams, viewID, dst, pairs, matches);
+		}
+
+		return node;
+	}
+
+	/**
+	 * Reads pairs in batches from the single threaded lookup then scores them in parallel
+	 */
+	void processConcurrent( LookUpSimilarImages dbSimilar, LookUpCameraInfo dbCams, Map<String, Integer> imageToIndex ) {
+		List<String> similar = new ArrayList<>();
+		batch.reset();
+
+		for (int idxTgt = 0; idxTgt < imageIds.size(); idxTgt++) {
+			String src = imageIds.get(idxTgt);
+
+			int _idxTgt = idxTgt;
+			dbSimilar.findSimilar(src, ( id ) -> Objects.requireNonNull(imageToIndex.get(id)) > _idxTgt, similar);
+			dbSimilar.lookupPixelFeats(src, srcFeats);
+
+			if (verbose != null) verbose.println("Target view='" + src + "' similar.size=" + similar.size() +
+					" feats.size=" + srcFeats.size);
+
+			graph.nodes.get(idxTgt).totalObservations = srcFeats.size;
+
+			for (int idxSimilar = 0; idxSimilar < similar.size(); idxSimilar++) {
+				String dst = similar.get(idxSimilar);
+				int dstIdx = Objects.requireNonNull(imageToIndex.get(dst));
+				if (dstIdx <= idxTgt)
+					throw new RuntimeException("BUG! should have been filtered by find similar");
+
+				PairWork work = batch.grow();
+				work.src = src;
+				work.dst = dst;
+				dbSimilar.lookupPixelFeats(dst, dstFeats);
+				dbSimilar.lookupAssociated(dst, work.matches);
+				work.featuresSrc = srcFeats.size;
+				work.featuresDst = dstFeats.size;
+				for (int i = 0; i < work.matches.size; i++) {
+					AssociatedIndex m = work.matches.get(i);
+					work.pairs.grow().setTo(srcFeats.get(m.src), dstFeats.get(m.dst));
+				}
+				dbCams.lookupCalibration(src, work.priorA);
+				dbCams.lookupCalibration(dst, work.priorB);
+				work.sameCamera = dbCams.viewToCamera(src) == dbCams.viewToCamera(dst);
+
+				if (batch.size >= concurrentBatchPairs)
+					scoreAndMergeBatch();
+			}
+		}
+		scoreAndMergeBatch();
+	}
+
+	/**
+	 * Scores all the pairs in the batch in parallel then adds them to the graph in order
+	 */
+	void scoreAndMergeBatch() {
+		if (batch.size == 0)
+			return;
+
+		while (blockScorers.size() < concurrentBlocks) {
+			blockScorers.add(Objects.requireNonNull(factoryScore).newInstance());
+		}
+
+		// The block a pair belongs to only depends on the batch
+		int numBlocks = Math.min(concurrentBlocks, batch.size);
+		BoofConcurrency.loopFor(0, numBlocks, ( blockIdx ) -> {
+			EpipolarScore3D scorer = blockScorers.get(blockIdx);
+			int idx0 = (int)((long)batch.size*blockIdx/numBlocks);
+			int idx1 = (int)((long)batch.size*(blockIdx + 1)/numBlocks);
+			for (int i = idx0; i < idx1; i++) {
+				PairWork work = batch.get(i);
+				scorer.process(work.priorA, work.sameCamera ? null : work.priorB,
+						work.featuresSrc, work.featuresDst,
+						work.pairs.toList(), work.fundamental, work.inlierIdx);
+				work.is3D = scorer.is3D();
+				work.score3D = scorer.getScore();
+			}
+		});
+
+		for (int i = 0; i < batch.size; i++) {
+			PairWork work = batch.get(i);
+			addEdge(work.src, work.dst, work.is3D, work.score3D, work.inlierIdx, work.matches);
+		}
+		batch.reset();
+	}
+
 	/**
 	 * Connects two views together if they meet a minimal set of geometric requirements. Determines if there
 	 * is strong evidence that there is 3D information present and not just a homography
@@ -167,9 +333,17 @@ public class GeneratePairwiseImageGraph implements VerbosePrint {
 				srcFeats.size, dstFeats.size,
 				pairs.toList(), fundamental, inlierIdx);
 
+		addEdge(src, dst, epipolarScore.is3D(), epipolarScore.getScore(), inlierIdx, matches);
+	}
+
+	/**
+	 * Adds an edge to the graph between the two views
+	 */
+	void addEdge( String src, String dst, boolean is3D, double score3D,
+				  DogArray_I32 inlierIdx, DogArray<AssociatedIndex> matches ) {
 		PairwiseImageGraph.Motion edge = graph.edges.grow();
-		edge.is3D = epipolarScore.is3D();
-		edge.score3D = epipolarScore.getScore();
+		edge.is3D = is3D;
+		edge.score3D = score3D;
 		edge.index = graph.edges.size - 1;
 		edge.src = graph.lookupNode(src);
 		edge.dst = graph.lookupNode(dst);
@@ -183,6 +357,36 @@ public class GeneratePairwiseImageGraph implements VerbosePrint {
 		}
 	}
 
+	/**
+	 * Everything needed to score a pair of views, copied from the lookup, and the results
+	 */
+	static class PairWork {
+		String src = "", dst = "";
+		int featuresSrc, featuresDst;
+		boolean sameCamera;
+		final CameraPinholeBrown priorA = new CameraPinholeBrown(2);
+		final CameraPinholeBrown priorB = new CameraPinholeBrown(2);
+		final DogArray<AssociatedIndex> matches = new DogArray<>(AssociatedIndex::new);
+		final DogArray<AssociatedPair> pairs = new DogArray<>(AssociatedPair::new);
+
+		// Results
+		boolean is3D;
+		double score3D;
+		final DMatrixRMaj fundamental = new DMatrixRMaj(3, 3);
+		final DogArray_I32 inlierIdx = new DogArray_I32();
+
+		public void reset() {
+			src = dst = "";
+			featuresSrc = featuresDst = 0;
+			sameCamera = false;
+			matches.reset();
+			pairs.reset();
+			is3D = false;
+			score3D = 0;
+			inlierIdx.reset();
+		}
+	}
+
 	@Override
 	public void setVerbose( @Nullable PrintStream out, @Nullable Set<String> configuration ) {
 		this.verbose = BoofMiscOps.addPrefix(this, out);
@@ -29,6 +29,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -52,6 +53,13 @@ import java.util.Set;
  * It's advisable to perform bundle adjustment and outlier rejection and the scene as a whole.
  *
  * <p>
+ * Views can also be added one at a time with {@link #processIncremental}, e.g. when images arrive continuously.
+ * After a view has been appended to the {@link PairwiseImageGraph} only scenes it's connected to are expanded into it
+ * and its neighborhood, then bundle adjustment is applied to a local subset of views around it. The cost of adding
+ * a view is then independent of the total number of views. Scenes are not merged incrementally.
+ * </p>
+ *
+ * <p>
  * <b>Important Note:</b> It's automatically assumed that the image center is the principle point and all
  * pixels are shifted by this amount. This means that the found intrinsic parameters will have (cx,cy) = (0,0).
  * </p>
@@ -77,6 +85,12 @@ public class MetricFromUncalibratedPairwiseGraph extends ReconstructionFromPairw
 
 	private final @Getter MetricMergeScenes mergeScenes = new MetricMergeScenes();
 
+	/** Selects the views around a new view which are optimized when processing incrementally */
+	private final @Getter SelectNeighborsAroundView selectLocal = new SelectNeighborsAroundView();
+
+	/** Refines the local views around a new view when processing incrementally */
+	private final @Getter RefineMetricGraphSubset refineLocal = new RefineMetricGraphSubset();
+
 	/** List of all the scenes. There can be multiple at the end if not everything is connected */
 	final @Getter DogArray<SceneWorkingGraph> scenes =
 			new DogArray<>(SceneWorkingGraph::new, SceneWorkingGraph::reset);
@@ -86,6 +100,10 @@ public class MetricFromUncalibratedPairwiseGraph extends ReconstructionFromPairw
 	/** Which scenes are include which views */
 	PairwiseViewScenes scenesInEachView = new PairwiseViewScenes();
 
+	// Workspace for incremental processing
+	final List<SceneWorkingGraph> incrementalScenes = new ArrayList<>();
+	final List<SceneWorkingGraph.View> localViews = new ArrayList<>();
+
 	public MetricFromUncalibratedPairwiseGraph( PairwiseGraphUtils utils ) {
 		super(utils);
 		expandMetric.utils = utils;
@@ -158,6 +176,173 @@ public class MetricFromUncalibratedPairwiseGraph extends ReconstructionFromPairw
 		return true;
 	}
 
+	/**
+	 * Updates the reconstruction after a single view has been appended to the pairwise graph. Scenes which contain a
+	 * view connected to the new view will expand into it, then into any newly reachable views around it. After each
+	 * expansion a local bundle adjustment is performed around the expanded view. If no scene exists yet then only
+	 * the new view and the views connected to it are considered as seeds for the first scene, instead of rerunning
+	 * {@link #process} on the entire graph.
+	 *
+	 * @param dbSimilar (input) Contains information on each image
+	 * @param dbCams (input) Information on each camera
+	 * @param pairwise (input) Relationship between the images. The new view has already been added to it.
+	 * @param added (input) The view which was just added to 'pairwise'
+	 * @return true if the new view is part of at least one scene
+	 */
+	public boolean processIncremental( LookUpSimilarImages dbSimilar, LookUpCameraInfo dbCams,
+									   PairwiseImageGraph pairwise, PairwiseImageGraph.View added ) {
+		// Add book keeping for the new views
+		scenesInEachView.addNewViews(pairwise);
+
+		// Until there is a scene to expand it attempts to spawn one. Only seeds around the new view are considered
+		// since they are the only ones whose score could have changed
+		if (scenes.isEmpty()) {
+			if (!spawnSeedsAroundView(dbSimilar, dbCams, pairwise, added))
+				return false;
+
+			// Expand the first scenes into all the views which have been added so far
+			expandScenes(dbSimilar, dbCams);
+			refineScenes(dbSimilar);
+			return scenesInEachView.getView(added).viewedBy.size > 0;
+		}
+
+		// Find all the scenes which contain a view with a 3D connection to the new view
+		incrementalScenes.clear();
+		for (int connIdx = 0; connIdx < added.connections.size; connIdx++) {
+			PairwiseImageGraph.Motion m = added.connections.get(connIdx);
+			if (!m.is3D)
+				continue;
+
+			DogArray_I32 viewedBy = scenesInEachView.getView(m.other(added)).viewedBy;
+			for (int i = 0; i < viewedBy.size; i++) {
+				SceneWorkingGraph scene = scenes.get(viewedBy.get(i));
+				if (!incrementalScenes.contains(scene))
+					incrementalScenes.add(scene);
+			}
+		}
+
+		if (verbose != null)
+			verbose.println("Incremental view='" + added.id + "' scenes.size=" + incrementalScenes.size());
+
+		// Expand each scene into the new view and the views around it which it can now reach
+		for (int i = 0; i < incrementalScenes.size(); i++) {
+			SceneWorkingGraph scene = incrementalScenes.get(i);
+			if (scene.exploredViews.contains(added.id))
+				continue;
+			scene.exploredViews.add(added.id);
+			scene.open.add(added);
+
+			expandSceneLocally(dbSimilar, dbCams, scene);
+		}
+
+		return scenesInEachView.getView(added).viewedBy.size > 0;
+	}
+
+	/**
+	 * Attempts to spawn a scene using the new view or one of the views it's connected to as a seed. The number of
+	 * seeds considered only depends on the number of connections the new view has and not the size of the graph.
+	 *
+	 * @return true if at least one scene was spawned
+	 */
+	boolean spawnSeedsAroundView( LookUpSimilarImages dbSimilar, LookUpCameraInfo dbCams,
+								  PairwiseImageGraph pairwise, PairwiseImageGraph.View added ) {
+		seedScores.reset();
+		Map<String, SeedInfo> mapScores = new HashMap<>();
+
+		// Score the new view and its neighbors as seeds
+		mapScores.put(added.id, scoreSeedAndSelectSet(added, 2, seedScores.grow()));
+		for (int connIdx = 0; connIdx < added.connections.size; connIdx++) {
+			PairwiseImageGraph.View v = added.connections.get(connIdx).other(added);
+			if (!mapScores.containsKey(v.id))
+				mapScores.put(v.id, scoreSeedAndSelectSet(v, 2, seedScores.grow()));
+		}
+
+		// Views connected to a candidate are needed when suppressing seeds next to each other, but are not candidates
+		for (int candIdx = 0; candIdx < seedScores.size; candIdx++) {
+			PairwiseImageGraph.View seed = seedScores.get(candIdx).seed;
+			for (int connIdx = 0; connIdx < seed.connections.size; connIdx++) {
+				PairwiseImageGraph.View v = seed.connections.get(connIdx).other(seed);
+				if (mapScores.containsKey(v.id))
+					continue;
+				var info = new SeedInfo();
+				info.seed = v;
+				mapScores.put(v.id, info);
+			}
+		}
+
+		if (verbose != null)
+			verbose.println("Incremental seeds around view='" + added.id + "' candidates=" + seedScores.size);
+
+		selectAndSpawnSeeds(dbSimilar, dbCams, pairwise, seedScores, mapScores);
+		return !scenes.isEmpty();
+	}
+
+	/**
+	 * Expands the scene into its open views until there are no more valid views. Each time it expands into a view
+	 * the views around it are refined.
+	 */
+	void expandSceneLocally( LookUpSimilarImages dbSimilar, LookUpCameraInfo dbCams, SceneWorkingGraph scene ) {
+		Expansion selection = new Expansion();
+		while (!scene.open.isEmpty() && selectNextToProcess(scene, selection)) {
+			PairwiseImageGraph.View view = scene.open.removeSwap(selection.openIdx);
+
+			if (verbose != null)
+				verbose.printf("Expanding scene[%d].view='%s' score=%.2f\n", scene.index, view.id, selection.score);
+
+			if (!expandIntoView(dbSimilar, dbCams, scene, view))
+				continue;
+
+			refineLocalViews(dbSimilar, scene, scene.lookupView(view.id));
+		}
+	}
+
+	/**
+	 * Refines the views around the target view. Small scenes are refined in their entirety, just like when
+	 * expanding in batch mode. For larger scenes only a subset is optimized, with views that are not directly
+	 * connected to the target being held fixed.
+	 */
+	void refineLocalViews( LookUpSimilarImages dbSimilar, SceneWorkingGraph scene, SceneWorkingGraph.View target ) {
+		if (scene.listViews.size() <= refineSceneWhileExpandingMaxViews) {
+			refineWorking.process(dbSimilar, scene);
+			return;
+		}
+
+		// Select the subset of views which are optimized
+		selectLocal.process(target, scene);
+		localViews.clear();
+		List<SceneWorkingGraph.View> selected = selectLocal.getLocalWorking().listViews;
+		for (int i = 0; i < selected.size(); i++) {
+			localViews.add(scene.lookupView(selected.get(i).pview.id));
+		}
+
+		refineLocal.setSubset(scene, localViews);
+
+		// Only the target and its direct neighbors are allowed to move. This prevents the local scene from
+		// drifting away from the rest of the scene
+		int totalFixed = 0;
+		for (int i = 0; i < localViews.size(); i++) {
+			SceneWorkingGraph.View v = localViews.get(i);
+			if (v == target || target.pview.findMotion(v.pview) != null)
+				continue;
+			refineLocal.setViewKnown(v.pview.id);
+			totalFixed++;
+		}
+
+		// If everything is connected to the target then fix the oldest view
+		if (totalFixed == 0) {
+			for (int i = 0; i < localViews.size(); i++) {
+				SceneWorkingGraph.View v = localViews.get(i);
+				if (v == target)
+					continue;
+				refineLocal.setViewKnown(v.pview.id);
+				break;
+			}
+		}
+
+		if (!refineLocal.process(dbSimilar) && verbose != null)
+			verbose.println("FAILED: local refinement around view='" + target.pview.id + "'");
+	}
+
 	/**
 	 * It will attempt to find a metric scene around the specified scene.
 	 *
@@ -541,6 +726,15 @@ public class MetricFromUncalibratedPairwiseGraph extends ReconstructionFromPairw
 			views.resize(pairwise.nodes.size, ( idx, o ) -> o.id = pairwise.nodes.get(idx).id);
 		}
 
+		/**
+		 * Adds views which were appended to the pairwise graph since it was last initialized
+		 */
+		public void addNewViews( PairwiseImageGraph pairwise ) {
+			while (views.size < pairwise.nodes.size) {
+				views.grow().id = pairwise.nodes.get(views.size - 1).id;
+			}
+		}
+
 		public ViewScenes getView( PairwiseImageGraph.View view ) {
 			return views.get(view.index);
 		}
@@ -550,6 +744,6 @@ public class MetricFromUncalibratedPairwiseGraph extends ReconstructionFromPairw
 	public void setVerbose( @Nullable PrintStream out, @Nullable Set<String> configuration ) {
 		this.verbose = BoofMiscOps.addPrefix(this, out);
 		BoofMiscOps.verboseChildren(verbose, configuration,
-				spawnScene, expandMetric, refineWorking, mergeOps, mergeScenes);
+				spawnScene, expandMetric, refineWorking, mergeOps, mergeScenes, selectLocal, refineLocal);
 	}
 }
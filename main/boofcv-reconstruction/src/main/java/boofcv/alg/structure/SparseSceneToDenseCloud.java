@@ -56,7 +56,12 @@ public class SparseSceneToDenseCloud<T extends ImageGray<T>> {
 	@Getter Class<T> grayType;
 
 	public SparseSceneToDenseCloud( Class<T> imageType ) {
-		mvs = new MultiViewStereoFromKnownSceneStructure<>(ImageType.single(imageType));
+		this(new MultiViewStereoFromKnownSceneStructure<>(ImageType.single(imageType)), imageType);
+	}
+
+	public SparseSceneToDenseCloud( MultiViewStereoFromKnownSceneStructure<T> mvs, Class<T> imageType ) {
+		this.mvs = mvs;
+		this.grayType = imageType;
 	}
 
 	/**
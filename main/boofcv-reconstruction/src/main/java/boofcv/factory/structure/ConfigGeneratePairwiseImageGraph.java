@@ -18,6 +18,7 @@
 
 package boofcv.factory.structure;
 
+import boofcv.misc.BoofMiscOps;
 import boofcv.struct.Configuration;
 
 /**
@@ -29,12 +30,25 @@ public class ConfigGeneratePairwiseImageGraph implements Configuration {
 	/** Configuration for how quality of 3D information between two views is scored */
 	public final ConfigEpipolarScore3D score = new ConfigEpipolarScore3D();
 
+	/** When concurrent, the maximum number of pairs which are read into memory at once */
+	public int concurrentBatchPairs = 2000;
+
+	/**
+	 * When concurrent, the number of blocks each batch is split into. Each block has its own scorer. This is fixed
+	 * and not the number of threads so that results don't depend on the number of threads.
+	 */
+	public int concurrentBlocks = 32;
+
 	@Override public void checkValidity() {
 		score.checkValidity();
+		BoofMiscOps.checkTrue(concurrentBatchPairs >= 1, "concurrentBatchPairs must be at least one");
+		BoofMiscOps.checkTrue(concurrentBlocks >= 1, "concurrentBlocks must be at least one");
 	}
 
 	public ConfigGeneratePairwiseImageGraph setTo( ConfigGeneratePairwiseImageGraph src ) {
 		this.score.setTo(src.score);
+		this.concurrentBatchPairs = src.concurrentBatchPairs;
+		this.concurrentBlocks = src.concurrentBlocks;
 		return this;
 	}
 }
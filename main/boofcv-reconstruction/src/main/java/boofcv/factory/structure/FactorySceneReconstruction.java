@@ -18,6 +18,8 @@
 
 package boofcv.factory.structure;
 
+import boofcv.abst.disparity.DisparitySmoother;
+import boofcv.abst.disparity.StereoDisparity;
 import boofcv.abst.feature.associate.AssociateDescriptionHashSets;
 import boofcv.abst.feature.describe.DescribePoint;
 import boofcv.abst.feature.describe.DescribePointRadiusAngle;
@@ -25,6 +27,7 @@ import boofcv.abst.feature.detdesc.DetectDescribePoint;
 import boofcv.abst.geo.bundle.MetricBundleAdjustmentUtils;
 import boofcv.abst.scene.FeatureSceneRecognition;
 import boofcv.alg.mvs.MultiViewStereoFromKnownSceneStructure;
+import boofcv.alg.mvs.MultiViewStereoFromKnownSceneStructure_MT;
 import boofcv.alg.similar.*;
 import boofcv.alg.structure.EpipolarScore3D;
 import boofcv.alg.structure.GeneratePairwiseImageGraph;
@@ -34,6 +37,7 @@ import boofcv.alg.structure.score3d.ScoreFundamentalHomographyCompatibility;
 import boofcv.alg.structure.score3d.ScoreFundamentalVsRotation;
 import boofcv.alg.structure.score3d.ScoreRatioFundamentalHomography;
 import boofcv.alg.video.SelectFramesForReconstruction3D;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.disparity.FactoryStereoDisparity;
 import boofcv.factory.feature.associate.FactoryAssociation;
 import boofcv.factory.feature.describe.FactoryDescribePoint;
@@ -44,6 +48,7 @@ import boofcv.factory.scene.FactorySceneRecognition;
 import boofcv.factory.sfm.ConfigBundleUtils;
 import boofcv.factory.struct.FactoryTupleDesc;
 import boofcv.factory.tracker.FactoryPointTracker;
+import boofcv.misc.BoofLambdas;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.feature.TupleDesc_F64;
 import boofcv.struct.geo.AssociatedPair;
@@ -79,15 +84,18 @@ public class FactorySceneReconstruction {
 	}
 
 	/**
-	 * Creates {@link GeneratePairwiseImageGraph}
+	 * Creates {@link GeneratePairwiseImageGraph}. If concurrency is turned on when it's processing then pairs
+	 * will be scored in parallel.
 	 */
 	public static GeneratePairwiseImageGraph generatePairwise( @Nullable ConfigGeneratePairwiseImageGraph config ) {
 		if (config == null)
 			config = new ConfigGeneratePairwiseImageGraph();
 
-		EpipolarScore3D scorer = epipolarScore3D(config.score);
-
-		return new GeneratePairwiseImageGraph(scorer);
+		ConfigEpipolarScore3D configScore = config.score;
+		var alg = new GeneratePairwiseImageGraph(() -> epipolarScore3D(configScore));
+		alg.concurrentBatchPairs = config.concurrentBatchPairs;
+		alg.concurrentBlocks = config.concurrentBlocks;
+		return alg;
 	}
 
 	/**
@@ -142,17 +150,30 @@ public class FactorySceneReconstruction {
 
 		Class<T> grayType = imageType.getImageClass();
 
-		SparseSceneToDenseCloud<T> s2c = new SparseSceneToDenseCloud<>(grayType);
-		MultiViewStereoFromKnownSceneStructure<T> mvs = s2c.getMultiViewStereo();
+		final ConfigSparseToDenseCloud _config = config;
+		BoofLambdas.Factory<StereoDisparity<T, GrayF32>> factoryStereo =
+				() -> FactoryStereoDisparity.generic(_config.disparity, grayType, GrayF32.class);
+		BoofLambdas.Factory<DisparitySmoother<T, GrayF32>> factorySmoother =
+				() -> FactoryStereoDisparity.removeSpeckle(_config.smoother, GrayF32.class);
+
+		MultiViewStereoFromKnownSceneStructure<T> mvs;
+		if (BoofConcurrency.isUseConcurrent()) {
+			var mvs_mt = new MultiViewStereoFromKnownSceneStructure_MT<>(imageType, factoryStereo);
+			mvs_mt.setFactorySmoother(factorySmoother);
+			mvs_mt.maxMemoryBytes = config.mvs.maxMemoryBytes;
+			mvs_mt.maxConcurrentCenters = config.mvs.maxConcurrentCenters;
+			mvs = mvs_mt;
+		} else {
+			mvs = new MultiViewStereoFromKnownSceneStructure<>(imageType);
+			mvs.setStereoDisparity(factoryStereo.newInstance());
+		}
+		SparseSceneToDenseCloud<T> s2c = new SparseSceneToDenseCloud<>(mvs, grayType);
 
 		mvs.minimumQuality3D = config.mvs.minimumQuality3D;
 		mvs.maximumCenterOverlap = config.mvs.maximumCenterOverlap;
 		mvs.maxCombinePairs = config.mvs.maxCombinePairs;
 
-		mvs.setStereoDisparity(FactoryStereoDisparity.generic(
-				config.disparity, grayType, GrayF32.class));
-		mvs.getComputeFused().setDisparitySmoother(
-				FactoryStereoDisparity.removeSpeckle(config.smoother, GrayF32.class));
+		mvs.getComputeFused().setDisparitySmoother(factorySmoother.newInstance());
 
 		GenerateStereoPairGraphFromScene generateGraph = s2c.getGenerateGraph();
 
@@ -22,10 +22,11 @@ import boofcv.abst.feature.associate.AssociateDescriptionAbstract;
 import boofcv.abst.feature.associate.AssociateDescriptionHashSets;
 import boofcv.abst.feature.detdesc.DetectDescribePointAbstract;
 import boofcv.abst.scene.SceneRecognition;
-import boofcv.alg.structure.GenericLookUpSimilarImagesChecks;
-import boofcv.alg.structure.LookUpSimilarImages;
+import boofcv.alg.structure.*;
+import boofcv.errors.BoofCheckFailure;
 import boofcv.factory.structure.FactorySceneReconstruction;
 import boofcv.misc.BoofLambdas;
+import boofcv.struct.calib.CameraPinhole;
 import boofcv.struct.feature.AssociatedIndex;
 import boofcv.struct.feature.TupleDesc_F32;
 import boofcv.struct.image.GrayU8;
@@ -40,8 +41,7 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Peter Abeles
@@ -123,6 +123,94 @@ public class TestSimilarImagesSceneRecognition extends GenericLookUpSimilarImage
 		assertTrue(features.size > 0);
 	}
 
+	/**
+	 * Images added after fixate() should be added to the recognizer and be found immediately
+	 */
+	@Test void addImageIncremental() {
+		var config = new ConfigSimilarImagesSceneRecognition();
+		config.minimumSimilar.setRelative(0.1, 0.0);
+		SimilarImagesSceneRecognition<GrayU8, TupleDesc_F32> alg =
+				FactorySceneReconstruction.createSimilarImages(config, ImageType.SB_U8);
+		alg.detector = new HelperDetector();
+		var recognizer = new DatabaseRecognizer();
+		alg.recognizer = recognizer;
+
+		// Must be fixated first
+		assertThrows(BoofCheckFailure.class, () -> alg.addImageIncremental("0", new GrayU8(50, 10)));
+
+		for (int i = 0; i < 3; i++) {
+			alg.addImage("" + i, new GrayU8(50, 10));
+		}
+		alg.fixate();
+		assertEquals(3, recognizer.imageIDs.size());
+
+		alg.addImageIncremental("3", new GrayU8(50, 10));
+		assertEquals(4, recognizer.imageIDs.size());
+		assertEquals(4, alg.getImageIDs().size());
+
+		// The new image can be looked up right away
+		List<String> similarImages = new ArrayList<>();
+		alg.findSimilar("3", null, similarImages);
+		assertEquals(3, similarImages.size());
+		alg.findSimilar("0", null, similarImages);
+		assertTrue(similarImages.contains("3"));
+
+		// IDs must be unique
+		assertThrows(BoofCheckFailure.class, () -> alg.addImageIncremental("3", new GrayU8(50, 10)));
+	}
+
+	/**
+	 * Images are added one at a time after fixate(), appended to the pairwise graph, and the metric reconstruction is
+	 * updated incrementally. In the end all the views should be in a single scene.
+	 */
+	@Test void addImageIncremental_reconstruction() {
+		int numViews = 8;
+		var mock = new MockLookupSimilarImagesRealistic().setLoop(false).
+				setIntrinsic(new CameraPinhole(410, 410, 0, 400, 400, 800, 800)).
+				setSeed(numViews).setFeatures(500).pathLine(numViews, 0.30, 6.0, 2);
+		var dbCams = new MockLookUpCameraInfo(mock.intrinsic);
+
+		var config = new ConfigSimilarImagesSceneRecognition();
+		config.minimumSimilar.setRelative(0.1, 0.0);
+		// Descriptors of the same feature are identical and different features are far apart
+		config.associate.greedy.maxErrorThreshold = 0.5;
+		SimilarImagesSceneRecognition<GrayU8, TupleDesc_F32> dbSimilar =
+				FactorySceneReconstruction.createSimilarImages(config, ImageType.SB_U8);
+		var detector = new MockViewDetector();
+		dbSimilar.detector = detector;
+		dbSimilar.recognizer = new DatabaseRecognizer();
+
+		GeneratePairwiseImageGraph pairwise = FactorySceneReconstruction.generatePairwise(null);
+
+		// Reduce the amount of work since the input is perfect
+		var configMetric = new ConfigProjectiveReconstruction();
+		configMetric.ransac.iterations = 1;
+		configMetric.sbaConverge.maxIterations = 0;
+		configMetric.ransacTrifocal.converge.maxIterations = 0;
+		var metric = new MetricFromUncalibratedPairwiseGraph(configMetric);
+		metric.getRefineWorking().metricSba.configConverge.maxIterations = 4;
+		metric.getRefineLocal().getRefiner().metricSba.configConverge.maxIterations = 4;
+		metric.getExpandMetric().expandUnknown.estimateUtils.metricSba.configConverge.maxIterations = 4;
+
+		// Only the first image is used to learn the model
+		detector.view = mock.views.get(0);
+		dbSimilar.addImage(detector.view.id, new GrayU8(1, 1));
+		dbSimilar.fixate();
+
+		boolean success = false;
+		for (int viewIdx = 0; viewIdx < numViews; viewIdx++) {
+			detector.view = mock.views.get(viewIdx);
+			if (viewIdx > 0)
+				dbSimilar.addImageIncremental(detector.view.id, new GrayU8(1, 1));
+
+			PairwiseImageGraph.View added = pairwise.addView(dbSimilar, dbCams, detector.view.id);
+			success = metric.processIncremental(dbSimilar, dbCams, pairwise.getGraph(), added);
+		}
+
+		assertTrue(success);
+		assertEquals(numViews, metric.getLargestScene().listViews.size());
+	}
+
 	@Test void lookupImageWords() {
 		SimilarImagesSceneRecognition<GrayU8, TupleDesc_F32> alg = createFullyLoaded();
 
@@ -169,6 +257,53 @@ public class TestSimilarImagesSceneRecognition extends GenericLookUpSimilarImage
 		@Override public int getNumberOfFeatures() {return 10 + imageCount;}
 	}
 
+	/**
+	 * Returns the features observed in a view from {@link MockLookupSimilarImagesRealistic}. The descriptor encodes
+	 * which feature was observed.
+	 */
+	static class MockViewDetector extends DetectDescribePointAbstract<GrayU8, TupleDesc_F32> {
+		MockLookupSimilarImagesRealistic.View view;
+
+		@Override public TupleDesc_F32 getDescription( int index ) {
+			var desc = new TupleDesc_F32(64);
+			desc.data[0] = view.observations.get(index).feature.featureIdx;
+			return desc;
+		}
+
+		@Override public Point2D_F64 getLocation( int featureIndex ) {
+			return view.observations.get(featureIndex).pixel;
+		}
+
+		@Override public TupleDesc_F32 createDescription() {return new TupleDesc_F32(64);}
+
+		@Override public int getNumberOfFeatures() {return view.observations.size();}
+	}
+
+	/**
+	 * Matches the query to every image in the database
+	 */
+	static class DatabaseRecognizer extends FeatureSceneRecognitionAbstract<TupleDesc_F32> {
+		List<String> imageIDs = new ArrayList<>();
+
+		@Override public void clearDatabase() {imageIDs.clear();}
+
+		@Override public void addImage( String id, Features<TupleDesc_F32> features ) {imageIDs.add(id);}
+
+		@Override
+		public boolean query( Features<TupleDesc_F32> query,
+							  @Nullable BoofLambdas.Filter<String> filter,
+							  int limit, DogArray<SceneRecognition.Match> matches ) {
+			matches.reset();
+			for (int i = 0; i < imageIDs.size() && matches.size < limit; i++) {
+				String id = imageIDs.get(i);
+				if (filter != null && !filter.keep(id))
+					continue;
+				matches.grow().id = id;
+			}
+			return true;
+		}
+	}
+
 	/**
 	 * All images are matched to every other image, including itself.
 	 */
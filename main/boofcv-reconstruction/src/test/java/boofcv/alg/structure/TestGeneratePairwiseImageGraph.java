@@ -18,10 +18,20 @@
 
 package boofcv.alg.structure;
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.structure.FactorySceneReconstruction;
+import boofcv.struct.calib.CameraPinholeBrown;
+import boofcv.struct.geo.AssociatedPair;
 import boofcv.testing.BoofStandardJUnit;
+import org.ddogleg.struct.DogArray_I32;
+import org.ejml.data.DMatrixRMaj;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -81,4 +91,128 @@ class TestGeneratePairwiseImageGraph extends BoofStandardJUnit {
 			}
 		}
 	}
+
+	/**
+	 * Concurrent results should be identical to the single thread results when the scorer is deterministic
+	 */
+	@Test void process_concurrent() {
+		var dbSimilar = new MockLookupSimilarImages(6, 123123);
+		var dbCams = new MockLookUpCameraInfo(400, 300);
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			var expected = new GeneratePairwiseImageGraph(new DeterministicScore());
+			expected.process(dbSimilar, dbCams);
+
+			BoofConcurrency.USE_CONCURRENT = true;
+			var found = new GeneratePairwiseImageGraph(DeterministicScore::new);
+			// Small values to force multiple batches and blocks
+			found.concurrentBatchPairs = 4;
+			found.concurrentBlocks = 3;
+			found.process(dbSimilar, dbCams);
+
+			PairwiseImageGraph a = expected.getGraph();
+			PairwiseImageGraph b = found.getGraph();
+			assertEquals(a.nodes.size, b.nodes.size);
+			for (int i = 0; i < a.nodes.size; i++) {
+				assertEquals(a.nodes.get(i).id, b.nodes.get(i).id);
+				assertEquals(a.nodes.get(i).totalObservations, b.nodes.get(i).totalObservations);
+				assertEquals(a.nodes.get(i).connections.size, b.nodes.get(i).connections.size);
+			}
+			assertEquals(15, b.edges.size);
+			assertEquals(a.edges.size, b.edges.size);
+			for (int i = 0; i < a.edges.size; i++) {
+				PairwiseImageGraph.Motion ea = a.edges.get(i);
+				PairwiseImageGraph.Motion eb = b.edges.get(i);
+				assertEquals(ea.index, eb.index);
+				assertEquals(ea.src.id, eb.src.id);
+				assertEquals(ea.dst.id, eb.dst.id);
+				assertEquals(ea.is3D, eb.is3D);
+				assertEquals(ea.score3D, eb.score3D);
+				assertEquals(ea.inliers.size, eb.inliers.size);
+				for (int j = 0; j < ea.inliers.size; j++) {
+					assertEquals(ea.inliers.get(j).src, eb.inliers.get(j).src);
+					assertEquals(ea.inliers.get(j).dst, eb.inliers.get(j).dst);
+				}
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+		}
+	}
+
+	/**
+	 * Adding views one at a time should produce the same connections as processing all the views at once
+	 */
+	@Test void addView() {
+		var dbSimilar = new MockLookupSimilarImages(5, 123123);
+		var dbCams = new MockLookUpCameraInfo(400, 300);
+
+		var expected = new GeneratePairwiseImageGraph(new DeterministicScore());
+		expected.process(dbSimilar, dbCams);
+
+		var alg = new GeneratePairwiseImageGraph(new DeterministicScore());
+		List<String> ids = dbSimilar.getImageIDs();
+		for (int i = 0; i < ids.size(); i++) {
+			PairwiseImageGraph.View v = alg.addView(dbSimilar, dbCams, ids.get(i));
+			assertEquals(ids.get(i), v.id);
+			assertEquals(i, v.index);
+			// Only views which have already been added can be connected to
+			assertEquals(i, v.connections.size);
+		}
+
+		PairwiseImageGraph a = expected.getGraph();
+		PairwiseImageGraph b = alg.getGraph();
+		assertEquals(a.nodes.size, b.nodes.size);
+		assertEquals(a.edges.size, b.edges.size);
+		for (int i = 0; i < a.nodes.size; i++) {
+			PairwiseImageGraph.View va = a.nodes.get(i);
+			PairwiseImageGraph.View vb = b.lookupNode(va.id);
+			assertEquals(va.totalObservations, vb.totalObservations);
+			assertEquals(va.connections.size, vb.connections.size);
+
+			// The direction of an edge can be different, but the relationship between the views should be the same
+			for (int connIdx = 0; connIdx < va.connections.size; connIdx++) {
+				PairwiseImageGraph.Motion ma = va.connections.get(connIdx);
+				PairwiseImageGraph.Motion mb = vb.findMotion(b.lookupNode(ma.other(va).id));
+				assertNotNull(mb);
+				assertEquals(ma.is3D, mb.is3D);
+				assertEquals(ma.score3D, mb.score3D);
+				assertEquals(ma.inliers.size, mb.inliers.size);
+			}
+		}
+
+		// Adding the same view twice is not allowed
+		assertThrows(IllegalArgumentException.class, () -> alg.addView(dbSimilar, dbCams, ids.get(0)));
+	}
+
+	/**
+	 * Score which only depends on the input
+	 */
+	static class DeterministicScore implements EpipolarScore3D {
+		boolean is3D;
+		double score;
+
+		@Override
+		public void process( CameraPinholeBrown cameraA, @Nullable CameraPinholeBrown cameraB,
+							 int featuresA, int featuresB,
+							 List<AssociatedPair> pairs, DMatrixRMaj fundamental, DogArray_I32 inliersIdx ) {
+			inliersIdx.reset();
+			for (int i = 0; i < pairs.size(); i += 2) {
+				inliersIdx.add(i);
+			}
+			score = pairs.size()/(double)(featuresA + featuresB);
+			is3D = cameraB == null && pairs.size()%2 == 0;
+		}
+
+		@Override public double getScore() {
+			return score;
+		}
+
+		@Override public boolean is3D() {
+			return is3D;
+		}
+
+		@Override public void setVerbose( @Nullable PrintStream out, @Nullable Set<String> configuration ) {}
+	}
 }
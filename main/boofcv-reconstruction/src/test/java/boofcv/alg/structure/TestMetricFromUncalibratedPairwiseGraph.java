@@ -99,6 +99,76 @@ class TestMetricFromUncalibratedPairwiseGraph extends BoofStandardJUnit {
 		}
 	}
 
+	/**
+	 * Views are added one at a time. The final reconstruction should contain all the views.
+	 */
+	@Test void processIncremental() {
+		var config = new ConfigProjectiveReconstruction();
+		config.ransac.iterations = 1;
+		config.sbaConverge.maxIterations = 0;
+		config.ransacTrifocal.converge.maxIterations = 0;
+
+		var alg = new MetricFromUncalibratedPairwiseGraph(config) {
+			@Override
+			boolean expandIntoView( LookUpSimilarImages dbSimilar, LookUpCameraInfo dbCams,
+									SceneWorkingGraph scene, PairwiseImageGraph.View selected ) {
+				if (!super.expandIntoView(dbSimilar, dbCams, scene, selected))
+					return false;
+				sanityCheckScenesInEachView();
+				return true;
+			}
+		};
+		alg.getRefineWorking().metricSba.configConverge.maxIterations = 4;
+		alg.getRefineLocal().getRefiner().metricSba.configConverge.maxIterations = 4;
+		alg.getExpandMetric().expandUnknown.estimateUtils.metricSba.configConverge.maxIterations = 4;
+		alg.getMergeScenes().refiner.metricSba.configConverge.maxIterations = 4;
+		// Make sure local refinement is used
+		alg.refineSceneWhileExpandingMaxViews = 4;
+		alg.getSelectLocal().maxViews = 5;
+
+		int numViews = 12;
+		var dbSimilar = new MockLookupSimilarImagesRealistic().setLoop(false).
+				setIntrinsic(new CameraPinhole(410, 410, 0, 400, 400, 800, 800)).
+				setSeed(numViews).setFeatures(600).pathLine(numViews, 0.30, 6.0, 2);
+		var dbCams = new MockLookUpCameraInfo(dbSimilar.intrinsic);
+
+		// Views are appended to the graph in the same order they were observed
+		PairwiseImageGraph full = dbSimilar.createPairwise();
+		var graph = new PairwiseImageGraph();
+		for (int viewIdx = 0; viewIdx < numViews; viewIdx++) {
+			PairwiseImageGraph.View added = appendView(full, graph, viewIdx);
+			boolean success = alg.processIncremental(dbSimilar, dbCams, graph, added);
+			// It needs at least 3 views to spawn a scene
+			assertEquals(viewIdx >= 2, success);
+		}
+
+		assertEquals(1, alg.getScenes().size);
+		checkReconstruction(alg, dbSimilar);
+	}
+
+	/**
+	 * Copies a view and its connections to views which have already been copied
+	 */
+	private PairwiseImageGraph.View appendView( PairwiseImageGraph src, PairwiseImageGraph dst, int viewIdx ) {
+		PairwiseImageGraph.View srcView = src.nodes.get(viewIdx);
+		PairwiseImageGraph.View dstView = dst.createNode(srcView.id);
+		dstView.totalObservations = srcView.totalObservations;
+
+		for (int connIdx = 0; connIdx < srcView.connections.size; connIdx++) {
+			PairwiseImageGraph.Motion srcMotion = srcView.connections.get(connIdx);
+			PairwiseImageGraph.View other = dst.mapNodes.get(srcMotion.other(srcView).id);
+			if (other == null || other == dstView)
+				continue;
+
+			boolean viewIsSrc = srcMotion.src == srcView;
+			PairwiseImageGraph.Motion m = dst.connect(viewIsSrc ? dstView : other, viewIsSrc ? other : dstView);
+			m.is3D = srcMotion.is3D;
+			m.score3D = srcMotion.score3D;
+			m.inliers.copyAll(srcMotion.inliers.toList(), ( a, b ) -> b.setTo(a));
+		}
+		return dstView;
+	}
+
 	/**
 	 * Compare found camera matrices against truth by converting them into the same projective scale
 	 */
@@ -178,7 +178,15 @@ public class MultiViewStereoFromKnownSceneStructure<T extends ImageGray<T>> impl
 		// Prune centers with redundant information
 		pruneViewsThatAreSimilarByNeighbors(scene);
 
-		// Go through the list of views and use unused views as center views when computing the overall 3D cloud
+		// Compute a fused disparity image for each selected center and add it to the cloud
+		computeCenters(scene, pairs);
+	}
+
+	/**
+	 * Goes through the list of views and uses unused views as center views when computing the overall 3D cloud.
+	 * Views are processed in order of their score, one at a time.
+	 */
+	protected void computeCenters( SceneStructureMetric scene, StereoPairGraph pairs ) {
 		for (int index = 0; index < arrayScores.size; index++) {
 			ViewInfo center = arrayScores.get(index);
 			// if already processed skip over
@@ -400,15 +408,28 @@ public class MultiViewStereoFromKnownSceneStructure<T extends ImageGray<T>> impl
 			return false;
 		}
 
+		addFusedToCloud(scene, center, computeFused);
+
+		return true;
+	}
+
+	/**
+	 * Adds the fused disparity image that was computed for the center view to the point cloud. Points which are
+	 * already in the cloud are not added again.
+	 *
+	 * @param fused The algorithm which computed the fused disparity image for this center
+	 */
+	protected void addFusedToCloud( SceneStructureMetric scene, ViewInfo center,
+									MultiBaselineStereoIndependent<T> fused ) {
 		// The fused disparity doesn't compute a mask since all invalid pixels are marked as invalid using
 		// the disparity value
-		GrayF32 disparity = computeFused.fusedDisparity;
+		GrayF32 disparity = fused.fusedDisparity;
 		dummyMask.reshape(disparity);
 		ImageMiscOps.fill(dummyMask, 0);
 
 		// Pass along results to the listener
 		if (listener != null) {
-			listener.handleFusedDisparity(center.relations.id, disparity, dummyMask, computeFused.fusedParam);
+			listener.handleFusedDisparity(center.relations.id, disparity, dummyMask, fused.fusedParam);
 		}
 
 		// Convert data structures into a format which is understood by disparity to cloud
@@ -422,10 +443,8 @@ public class MultiViewStereoFromKnownSceneStructure<T extends ImageGray<T>> impl
 
 		// Use the computed disparity to add to the common point cloud while not adding points already in
 		// the cloud
-		disparityCloud.addDisparity(disparity, dummyMask, world_to_view1, computeFused.fusedParam,
+		disparityCloud.addDisparity(disparity, dummyMask, world_to_view1, fused.fusedParam,
 				norm_to_pixel, new PointToPixelTransform_F64(pixel_to_norm));
-
-		return true;
 	}
 
 	/**
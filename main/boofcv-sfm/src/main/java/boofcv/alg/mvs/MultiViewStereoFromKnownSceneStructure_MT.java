@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.mvs;
+
+import boofcv.abst.disparity.DisparitySmoother;
+import boofcv.abst.disparity.StereoDisparity;
+import boofcv.abst.geo.bundle.SceneStructureMetric;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.misc.BoofLambdas;
+import boofcv.misc.BoofMiscOps;
+import boofcv.misc.LookUpImages;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImageType;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import lombok.Getter;
+import lombok.Setter;
+import org.ddogleg.struct.DogArray;
+import org.ddogleg.struct.DogArray_I32;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Concurrent version of {@link MultiViewStereoFromKnownSceneStructure}. The center views and their stereo pairs are
+ * selected up front, then rectification, stereo disparity, and fusion into a single disparity image are done for
+ * several centers at once. Each center being processed has its own {@link MultiBaselineStereoIndependent} and stereo
+ * disparity algorithm. Fused disparity images are added to the point cloud in the same order as the single threaded
+ * version, which makes the output identical.
+ *
+ * The number of centers being processed at the same time is bounded by {@link #maxConcurrentCenters} and by a memory
+ * budget, {@link #maxMemoryBytes}. The memory a center needs is estimated from its image shape, the disparity range,
+ * and the number of stereo pairs. A center holds onto its memory until its disparity has been added to the cloud.
+ * One center is always allowed to run even if it's estimated to exceed the budget.
+ *
+ * NOTE: The {@link LookUpImages} and the {@link Listener} pair disparity callback can be invoked from multiple
+ * threads. The look up must be thread safe while calls to the listener are synchronized.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"NullAway.Init"})
+public class MultiViewStereoFromKnownSceneStructure_MT<T extends ImageGray<T>>
+		extends MultiViewStereoFromKnownSceneStructure<T> {
+
+	/** Maximum number of bytes which can be used by centers that are being processed at the same time */
+	public @Getter @Setter long maxMemoryBytes = 2_000_000_000L;
+
+	/** Maximum number of centers processed at the same time. If &le; 0 then the number of threads is used. */
+	public @Getter @Setter int maxConcurrentCenters = 0;
+
+	/** Creates a new stereo disparity algorithm for each center that's processed at the same time */
+	@Getter @Setter BoofLambdas.Factory<StereoDisparity<T, GrayF32>> factoryStereo;
+
+	/** Creates the disparity smoother. Must be set if {@link MultiBaselineStereoIndependent} has a smoother. */
+	@Getter @Setter @Nullable BoofLambdas.Factory<DisparitySmoother<T, GrayF32>> factorySmoother;
+
+	/** The largest number of centers which were being processed at the same time */
+	@Getter int peakInFlight;
+	/** The largest estimated memory used by centers which were being processed at the same time */
+	@Getter long peakMemoryBytes;
+
+	// Every worker which has been created. The first one is always computeFused
+	final List<MultiBaselineStereoIndependent<T>> workers = new ArrayList<>();
+	// Workers which are not currently processing a center
+	final ArrayDeque<MultiBaselineStereoIndependent<T>> idle = new ArrayDeque<>();
+	// Centers which will be processed and the views they are paired with
+	final DogArray<CenterJob> jobs = new DogArray<>(CenterJob::new, CenterJob::reset);
+
+	// Used to ensure only one thread calls the listener at a time
+	final Object lockListener = new Object();
+
+	public MultiViewStereoFromKnownSceneStructure_MT( LookUpImages imageLookUp, ImageType<T> imageType,
+													  BoofLambdas.Factory<StereoDisparity<T, GrayF32>> factoryStereo ) {
+		super(imageLookUp, imageType);
+		this.factoryStereo = factoryStereo;
+		setStereoDisparity(factoryStereo.newInstance());
+	}
+
+	public MultiViewStereoFromKnownSceneStructure_MT( ImageType<T> imageType,
+													  BoofLambdas.Factory<StereoDisparity<T, GrayF32>> factoryStereo ) {
+		super(imageType);
+		this.factoryStereo = factoryStereo;
+		setStereoDisparity(factoryStereo.newInstance());
+	}
+
+	@Override protected void computeCenters( SceneStructureMetric scene, StereoPairGraph pairs ) {
+		BoofMiscOps.checkTrue(computeFused.getDisparitySmoother() == null || factorySmoother != null,
+				"factorySmoother must be set when a disparity smoother is used");
+
+		// Selecting the centers does not depend on the computed disparity so it can be done before hand
+		selectCenters(pairs);
+
+		// All workers are available and might need to be updated if the look up changed
+		idle.clear();
+		for (int i = 0; i < workers.size(); i++) {
+			workers.get(i).setLookUpImages(imageLookUp);
+			idle.add(workers.get(i));
+		}
+
+		int maxInFlight = maxConcurrentCenters > 0 ?
+				maxConcurrentCenters : BoofConcurrency.getEffectiveActiveThreads();
+		ForkJoinPool pool = BoofConcurrency.getThreadPool();
+
+		peakInFlight = 0;
+		peakMemoryBytes = 0;
+
+		final ArrayDeque<CenterJob> inFlight = new ArrayDeque<>();
+		long bytesInFlight = 0;
+		int nextJob = 0;
+
+		while (nextJob < jobs.size || !inFlight.isEmpty()) {
+			// Start processing as many centers as the budget allows. At least one is always allowed to run
+			while (nextJob < jobs.size && inFlight.size() < maxInFlight) {
+				CenterJob job = jobs.get(nextJob);
+				if (!inFlight.isEmpty() && bytesInFlight + job.estimatedBytes > maxMemoryBytes)
+					break;
+
+				job.worker = acquireWorker(job);
+				job.task = pool.submit(() -> requireNonNull(job.worker).process(
+						scene, job.center.relations.indexSba, job.pairIndexes, job.sbaIndexToViewID::get));
+
+				inFlight.add(job);
+				bytesInFlight += job.estimatedBytes;
+				nextJob++;
+
+				peakInFlight = Math.max(peakInFlight, inFlight.size());
+				peakMemoryBytes = Math.max(peakMemoryBytes, bytesInFlight);
+			}
+
+			// Wait for the oldest center so that the cloud is created in the same order as the serial version
+			CenterJob job = inFlight.removeFirst();
+			MultiBaselineStereoIndependent<T> worker = requireNonNull(job.worker);
+			if (waitForResults(requireNonNull(job.task))) {
+				listCenters.add(job.center);
+				addFusedToCloud(scene, job.center, worker);
+			} else if (verbose != null) {
+				verbose.println("FAILED: fused disparity. center.index=" + job.center.index);
+			}
+
+			// The fused disparity is no longer needed so the worker can be used again
+			bytesInFlight -= job.estimatedBytes;
+			job.worker = null;
+			job.task = null;
+			idle.add(worker);
+		}
+	}
+
+	/**
+	 * Goes through the list of views in order of their score and decides which ones will be centers and the views
+	 * they will be paired with. The same selection as the serial version is used.
+	 */
+	void selectCenters( StereoPairGraph pairs ) {
+		jobs.reset();
+		for (int index = 0; index < arrayScores.size; index++) {
+			ViewInfo center = arrayScores.get(index);
+			// if already processed skip over
+			if (center.used)
+				continue;
+
+			if (verbose != null) verbose.println("Center[" + index + "] View='" + center.relations.id + "'");
+
+			selectAndLoadConnectedImages(pairs, center.relations);
+
+			// If none of the connected views had enough quality abort
+			if (imagePairIndexesSba.size() < 1) {
+				if (verbose != null) verbose.println("_ too few connections to use as a center");
+				continue;
+			}
+
+			// Save the selection since the workspace will be overwritten by the next center
+			CenterJob job = jobs.grow();
+			job.center = center;
+			job.pairIndexes.setTo(imagePairIndexesSba);
+			job.sbaIndexToViewID.putAll(indexSbaToViewID);
+			job.sbaIndexToViewID.put(center.relations.indexSba, center.relations.id);
+			job.estimatedBytes = estimateCenterBytes(
+					center.dimension.width, center.dimension.height, imagePairIndexesSba.size);
+		}
+	}
+
+	/**
+	 * Estimates how many bytes are needed to compute the fused disparity image for a center. This is dominated by
+	 * the stereo cost volume and the disparity image from each pair which is saved until they are fused together.
+	 * Rectified images are assumed to be about the same size as the input image.
+	 *
+	 * @param width Width of the center image
+	 * @param height Height of the center image
+	 * @param numPairs Number of views the center is paired with
+	 * @return Estimated number of bytes
+	 */
+	protected long estimateCenterBytes( int width, int height, int numPairs ) {
+		long pixels = (long)width*height;
+		int disparityRange = requireNonNull(computeFused.getStereoDisparity()).getDisparityRange();
+
+		// 16-bit cost for each disparity, two input and two rectified images, for each pair the disparity and
+		// mask plus a sample in the fusion, then the fused disparity image
+		return pixels*(2L*disparityRange + 4*4 + numPairs*(4 + 1 + 4) + 4);
+	}
+
+	/**
+	 * Returns a worker which is not being used and configures the listener for the specified center.
+	 */
+	MultiBaselineStereoIndependent<T> acquireWorker( CenterJob job ) {
+		MultiBaselineStereoIndependent<T> worker;
+		if (!idle.isEmpty()) {
+			worker = idle.removeLast();
+		} else if (workers.isEmpty()) {
+			worker = computeFused;
+			workers.add(worker);
+		} else {
+			worker = new MultiBaselineStereoIndependent<>(imageType);
+			worker.setLookUpImages(imageLookUp);
+			worker.setStereoDisparity(factoryStereo.newInstance());
+			if (factorySmoother != null)
+				worker.setDisparitySmoother(factorySmoother.newInstance());
+			workers.add(worker);
+		}
+
+		if (listener != null) {
+			Listener<T> _listener = this.listener;
+			TIntObjectMap<String> sbaIndexToViewID = job.sbaIndexToViewID;
+			worker.setListener(( left, right, rectLeft, rectRight, disparity, mask, parameters, rect ) -> {
+				synchronized (lockListener) {
+					_listener.handlePairDisparity(sbaIndexToViewID.get(left), sbaIndexToViewID.get(right),
+							rectLeft, rectRight, disparity, mask, parameters);
+				}
+			});
+		} else {
+			worker.setListener(null);
+		}
+
+		return worker;
+	}
+
+	/**
+	 * Blocks until the center has been processed and passes along any exceptions
+	 */
+	private static boolean waitForResults( ForkJoinTask<Boolean> task ) {
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException)e.getCause();
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	/** A center view, the views it's paired with, and the worker which is processing it */
+	@SuppressWarnings({"NullAway.Init"})
+	class CenterJob {
+		ViewInfo center;
+		// Views which are paired with the center
+		final DogArray_I32 pairIndexes = new DogArray_I32();
+		// Look up table from view index to view ID for the center and its pairs
+		final TIntObjectMap<String> sbaIndexToViewID = new TIntObjectHashMap<>();
+		// Estimated number of bytes needed to process this center
+		long estimatedBytes;
+
+		@Nullable MultiBaselineStereoIndependent<T> worker;
+		@Nullable ForkJoinTask<Boolean> task;
+
+		@SuppressWarnings({"NullAway"})
+		void reset() {
+			center = null;
+			pairIndexes.reset();
+			sbaIndexToViewID.clear();
+			estimatedBytes = 0;
+			worker = null;
+			task = null;
+		}
+	}
+}
@@ -36,15 +36,24 @@ public class ConfigMultiviewStereo implements Configuration {
 	/** {@link boofcv.alg.mvs.MultiViewStereoFromKnownSceneStructure#maxCombinePairs} */
 	public int maxCombinePairs = 10;
 
+	/** {@link boofcv.alg.mvs.MultiViewStereoFromKnownSceneStructure_MT#maxMemoryBytes} */
+	public long maxMemoryBytes = 2_000_000_000L;
+
+	/** {@link boofcv.alg.mvs.MultiViewStereoFromKnownSceneStructure_MT#maxConcurrentCenters} */
+	public int maxConcurrentCenters = 0;
+
 	@Override public void checkValidity() {
 		BoofMiscOps.checkTrue(minimumQuality3D >= 0.0);
 		BoofMiscOps.checkTrue(maximumCenterOverlap >= 0.0 && maximumCenterOverlap <= 1.0);
+		BoofMiscOps.checkTrue(maxMemoryBytes > 0);
 	}
 
 	public ConfigMultiviewStereo setTo( ConfigMultiviewStereo src ) {
 		this.minimumQuality3D = src.minimumQuality3D;
 		this.maximumCenterOverlap = src.maximumCenterOverlap;
 		this.maxCombinePairs = src.maxCombinePairs;
+		this.maxMemoryBytes = src.maxMemoryBytes;
+		this.maxConcurrentCenters = src.maxConcurrentCenters;
 		return this;
 	}
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.mvs;
+
+import boofcv.abst.disparity.StereoDisparity;
+import boofcv.abst.geo.bundle.SceneStructureMetric;
+import boofcv.alg.geo.bundle.BundleAdjustmentOps;
+import boofcv.alg.geo.bundle.cameras.BundlePinhole;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.GConvertImage;
+import boofcv.factory.disparity.ConfigDisparityBM;
+import boofcv.factory.disparity.DisparityError;
+import boofcv.factory.disparity.FactoryStereoDisparity;
+import boofcv.misc.LookUpImages;
+import boofcv.simulation.SimulatePlanarWorld;
+import boofcv.struct.border.BorderType;
+import boofcv.struct.calib.CameraPinhole;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageDimension;
+import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofStandardJUnit;
+import georegression.struct.point.Point3D_F64;
+import georegression.struct.se.SpecialEuclideanOps_F64;
+import org.ddogleg.struct.DogArray_I32;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static georegression.struct.se.SpecialEuclideanOps_F64.eulerXyz;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+@SuppressWarnings("ConstantConditions")
+public class TestMultiViewStereoFromKnownSceneStructure_MT extends BoofStandardJUnit {
+
+	int width = 120, height = 100;
+
+	double planeZ = 3.0;
+	double planeWidth = 3.0;
+
+	SceneStructureMetric scene;
+	StereoPairGraph pairs;
+
+	/**
+	 * Compare the results against the single threaded version. They should be identical
+	 */
+	@Test void compareToSingleThread() {
+		createScene();
+		var lookUp = new SimulatedLookUp();
+
+		var expected = new MultiViewStereoFromKnownSceneStructure<>(lookUp, ImageType.SB_F32);
+		expected.setStereoDisparity(createDisparity());
+		expected.process(scene, pairs);
+
+		var alg = new MultiViewStereoFromKnownSceneStructure_MT<>(lookUp, ImageType.SB_F32, this::createDisparity);
+		alg.maxConcurrentCenters = 2;
+
+		// Call it multiple times to make sure the workers are correctly recycled
+		for (int trial = 0; trial < 2; trial++) {
+			alg.process(scene, pairs);
+
+			assertEquals(2, alg.getPeakInFlight());
+			assertIdentical(expected, alg);
+		}
+	}
+
+	/**
+	 * If the memory budget is too small to process more than one center it should still work, just not
+	 * concurrently
+	 */
+	@Test void memoryBudget() {
+		createScene();
+		var lookUp = new SimulatedLookUp();
+
+		var expected = new MultiViewStereoFromKnownSceneStructure<>(lookUp, ImageType.SB_F32);
+		expected.setStereoDisparity(createDisparity());
+		expected.process(scene, pairs);
+
+		var alg = new MultiViewStereoFromKnownSceneStructure_MT<>(lookUp, ImageType.SB_F32, this::createDisparity);
+		alg.maxConcurrentCenters = 2;
+		alg.maxMemoryBytes = 1;
+		alg.process(scene, pairs);
+
+		assertEquals(1, alg.getPeakInFlight());
+		assertTrue(alg.getPeakMemoryBytes() > alg.maxMemoryBytes);
+		assertIdentical(expected, alg);
+
+		// A budget which is large enough for both centers
+		alg.maxMemoryBytes = 2*alg.getPeakMemoryBytes();
+		alg.process(scene, pairs);
+		assertEquals(2, alg.getPeakInFlight());
+		assertIdentical(expected, alg);
+	}
+
+	/**
+	 * The listener should be called for every pair and fused disparity image, just like the single threaded version
+	 */
+	@Test void listener() {
+		createScene();
+
+		var alg = new MultiViewStereoFromKnownSceneStructure_MT<>(
+				new SimulatedLookUp(), ImageType.SB_F32, this::createDisparity);
+		alg.maxConcurrentCenters = 2;
+
+		List<String> foundPairs = new ArrayList<>();
+		List<String> foundFused = new ArrayList<>();
+		alg.setListener(new MultiViewStereoFromKnownSceneStructure.Listener<>() {
+			@Override
+			public void handlePairDisparity( String left, String right, GrayF32 rectLeft, GrayF32 rectRight,
+											 GrayF32 disparity, GrayU8 mask, DisparityParameters parameters ) {
+				foundPairs.add(left + " " + right);
+			}
+
+			@Override public void handleFusedDisparity( String centerViewName, GrayF32 disparity, GrayU8 mask,
+														DisparityParameters parameters ) {
+				foundFused.add(centerViewName);
+			}
+		});
+		alg.process(scene, pairs);
+
+		// Each cluster has one center with a single pair
+		assertEquals(2, foundFused.size());
+		assertEquals(2, foundPairs.size());
+		for (int i = 0; i < foundFused.size(); i++) {
+			assertEquals(alg.getListCenters().get(i).relations.id, foundFused.get(i));
+		}
+		for (String s : foundPairs) {
+			assertFalse(s.contains("null"));
+		}
+	}
+
+	private void assertIdentical( MultiViewStereoFromKnownSceneStructure<GrayF32> expected,
+								  MultiViewStereoFromKnownSceneStructure<GrayF32> found ) {
+		assertEquals(expected.getListCenters().size(), found.getListCenters().size());
+		for (int i = 0; i < expected.getListCenters().size(); i++) {
+			assertEquals(expected.getListCenters().get(i).relations.id, found.getListCenters().get(i).relations.id);
+		}
+
+		List<Point3D_F64> cloudA = expected.getCloud();
+		List<Point3D_F64> cloudB = found.getCloud();
+		assertTrue(cloudA.size() > 100);
+		assertEquals(cloudA.size(), cloudB.size());
+		for (int i = 0; i < cloudA.size(); i++) {
+			assertEquals(0.0, cloudA.get(i).distance(cloudB.get(i)));
+		}
+
+		DogArray_I32 idxA = expected.getDisparityCloud().viewPointIdx;
+		DogArray_I32 idxB = found.getDisparityCloud().viewPointIdx;
+		assertEquals(idxA.size, idxB.size);
+		for (int i = 0; i < idxA.size; i++) {
+			assertEquals(idxA.get(i), idxB.get(i));
+		}
+	}
+
+	/**
+	 * Creates a scene with two clusters of views that are not connected to each other. This ensures there
+	 * are at least two centers.
+	 */
+	private void createScene() {
+		int numViews = 4;
+		scene = new SceneStructureMetric(true);
+		scene.initialize(numViews, numViews, 0);
+		pairs = new StereoPairGraph();
+
+		for (int i = 0; i < numViews; i++) {
+			double cx = width/2.0;
+			double cy = height/2.0;
+			scene.setCamera(i, true, new CameraPinhole(cx, cx, 0, cx, cy, width, height));
+			scene.setView(i, i, true, SpecialEuclideanOps_F64.eulerXyz((i - 1)*0.3, 0, 0, 0, 0, 0, null));
+			pairs.addVertex("id=" + i, i);
+		}
+
+		pairs.connect("id=0", "id=1", 1.0);
+		pairs.connect("id=2", "id=3", 1.0);
+	}
+
+	private StereoDisparity<GrayF32, GrayF32> createDisparity() {
+		var configDisp = new ConfigDisparityBM();
+		configDisp.errorType = DisparityError.CENSUS;
+		configDisp.texture = 1.0;
+		configDisp.validateRtoL = 0;
+		configDisp.disparityMin = 0;
+		configDisp.disparityRange = 100;
+		configDisp.regionRadiusX = 3;
+		configDisp.regionRadiusY = 3;
+		configDisp.border = BorderType.EXTENDED;
+		return FactoryStereoDisparity.blockMatch(configDisp, GrayF32.class, GrayF32.class);
+	}
+
+	/**
+	 * Renders images as requested with a simulated target. Rendering is synchronized since it's called by
+	 * multiple threads at once.
+	 */
+	private class SimulatedLookUp implements LookUpImages {
+		SimulatePlanarWorld sim = new SimulatePlanarWorld();
+
+		public SimulatedLookUp() {
+			// Textured target that stereo will work well on
+			var texture = new GrayF32(50, 50);
+			ImageMiscOps.fillUniform(texture, rand, 50, 255);
+
+			sim.addSurface(eulerXyz(0, 0, planeZ, 0, Math.PI, 0, null), planeWidth, texture);
+		}
+
+		@Override public boolean loadShape( String name, ImageDimension shape ) {
+			shape.setTo(width, height);
+			return true;
+		}
+
+		@Override public synchronized <LT extends ImageBase<LT>> boolean loadImage( String name, LT output ) {
+			int indexSba = Integer.parseInt(name.substring(3));
+			var pinhole = new CameraPinhole();
+			BundleAdjustmentOps.convert((BundlePinhole)scene.cameras.get(indexSba).model, 0, 0, pinhole);
+			pinhole.width = width;
+			pinhole.height = height;
+
+			sim.setCamera(pinhole);
+			sim.setWorldToCamera(scene.motions.get(indexSba).motion);
+			GConvertImage.convert(sim.render(), output);
+			return true;
+		}
+	}
+}
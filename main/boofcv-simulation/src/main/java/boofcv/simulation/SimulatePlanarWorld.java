@@ -203,7 +203,7 @@ public class SimulatePlanarWorld {
 			scene.get(i).rectInCamera();
 		}
 
-		if (BoofConcurrency.USE_CONCURRENT && output.width*output.height > 100*100) {
+		if (BoofConcurrency.isUseConcurrent() && output.width*output.height > 100*100) {
 			renderMultiThread();
 		} else {
 			renderSingleThread(0, output.height, renderPixel, ray);
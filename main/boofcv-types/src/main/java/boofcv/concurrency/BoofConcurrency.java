@@ -18,11 +18,27 @@
 
 package boofcv.concurrency;
 
+import org.jetbrains.annotations.Nullable;
 import pabeles.concurrency.ConcurrencyOps;
+import pabeles.concurrency.GrowArray;
+import pabeles.concurrency.IntRangeConsumer;
+import pabeles.concurrency.IntRangeObjectConsumer;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * Central class for controlling concurrency in BoofCV.
  *
+ * By default all concurrent code is run inside a single global thread pool and is controlled by
+ * {@link #USE_CONCURRENT} and {@link #SMALL_IMAGE}. A {@link ConcurrencyContext} can be bound to a pipeline or
+ * thread to override those settings and have the code run inside of its own thread pool. Code should query
+ * {@link #isUseConcurrent()} and {@link #getSmallImage()} instead of the static fields so that the context
+ * is respected.
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"CatchAndPrintStackTrace"})
@@ -32,6 +48,9 @@ public class BoofConcurrency extends ConcurrencyOps {
 	/** f set to true it will use a concurrent algorithm */
 	public static boolean USE_CONCURRENT = true;
 
+	// Context which has been explicitly bound to a thread
+	private static final ThreadLocal<ConcurrencyContext> threadContext = new ThreadLocal<>();
+
 	/**
 	 * Sets the maximum number of threads available in the thread pool and adjusts USE_CONCURRENT. If
 	 * the number of threads is less than 2 then USE_CONCURRENT will be set to false and the single thread
@@ -45,16 +64,281 @@ public class BoofConcurrency extends ConcurrencyOps {
 		USE_CONCURRENT = maxThreads > 1;
 	}
 
+	/**
+	 * Returns true if concurrent algorithms should be used. If a {@link ConcurrencyContext} is bound to the
+	 * current thread then it's settings are used, otherwise {@link #USE_CONCURRENT} is returned.
+	 */
 	public static boolean isUseConcurrent() {
+		ConcurrencyContext context = getContext();
+		if (context != null)
+			return context.isConcurrent();
 		return USE_CONCURRENT;
 	}
 
+	/**
+	 * Returns the number of pixels in an image below which a single threaded algorithm should be used.
+	 */
+	public static int getSmallImage() {
+		ConcurrencyContext context = getContext();
+		if (context != null)
+			return context.smallImage;
+		return SMALL_IMAGE;
+	}
+
 	/**
 	 * Either returns the number of threads in the thread pool or one if threading is disabled
 	 */
 	public static int getEffectiveActiveThreads() {
-		if (USE_CONCURRENT)
+		if (isUseConcurrent())
 			return getThreadPool().getActiveThreadCount();
 		return 1;
 	}
+
+	/**
+	 * Returns the thread pool that concurrent code will be run inside of for the current thread
+	 */
+	public static ForkJoinPool getThreadPool() {
+		ConcurrencyContext context = getContext();
+		if (context != null)
+			return context.pool;
+		return ConcurrencyOps.getThreadPool();
+	}
+
+	/**
+	 * Returns the context which is bound to the current thread or null if the global settings are being used.
+	 * Worker threads inside of a pool created by a context are always bound to that context.
+	 */
+	public static @Nullable ConcurrencyContext getContext() {
+		ConcurrencyContext context = threadContext.get();
+		if (context != null)
+			return context;
+		Thread thread = Thread.currentThread();
+		if (thread instanceof ConcurrencyContext.Worker)
+			return ((ConcurrencyContext.Worker)thread).owner;
+		return null;
+	}
+
+	/**
+	 * Binds the context to the current thread. All concurrent code invoked from this thread will use it until
+	 * it's changed. Pass in null to go back to the global settings.
+	 */
+	public static void setThreadContext( @Nullable ConcurrencyContext context ) {
+		if (context == null)
+			threadContext.remove();
+		else
+			threadContext.set(context);
+	}
+
+	/**
+	 * Runs the pipeline with the specified context bound to the current thread. Once finished the
+	 * previously bound context is restored.
+	 */
+	public static void runWith( ConcurrencyContext context, Runnable pipeline ) {
+		ConcurrencyContext previous = threadContext.get();
+		threadContext.set(context);
+		try {
+			pipeline.run();
+		} finally {
+			setThreadContext(previous);
+		}
+	}
+
+	/**
+	 * Same as {@link #runWith} but returns the pipeline's results
+	 */
+	public static <T> T callWith( ConcurrencyContext context, Supplier<T> pipeline ) {
+		ConcurrencyContext previous = threadContext.get();
+		threadContext.set(context);
+		try {
+			return pipeline.get();
+		} finally {
+			setThreadContext(previous);
+		}
+	}
+
+	/**
+	 * Concurrent for loop. Each loop will spawn as a thread up to the maximum number of threads.
+	 *
+	 * @param start starting value, inclusive
+	 * @param endExclusive ending value, exclusive
+	 * @param consumer The consumer
+	 */
+	public static void loopFor( int start, int endExclusive, IntConsumer consumer ) {
+		ConcurrencyContext context = getContext();
+		if (context == null) {
+			ConcurrencyOps.loopFor(start, endExclusive, consumer);
+		} else if (!context.isConcurrent()) {
+			for (int i = start; i < endExclusive; i++) {
+				consumer.accept(i);
+			}
+		} else {
+			submit(context.pool, () -> IntStream.range(start, endExclusive).parallel().forEach(consumer));
+		}
+	}
+
+	/**
+	 * Concurrent for loop. Each loop will spawn as a thread up to the maximum number of threads.
+	 *
+	 * @param start starting value, inclusive
+	 * @param endExclusive ending value, exclusive
+	 * @param step fixed sized step for each iteration
+	 * @param consumer The consumer
+	 */
+	public static void loopFor( int start, int endExclusive, int step, IntConsumer consumer ) {
+		ConcurrencyContext context = getContext();
+		if (context == null) {
+			ConcurrencyOps.loopFor(start, endExclusive, step, consumer);
+			return;
+		}
+		if (step <= 0)
+			throw new IllegalArgumentException("Step must be a positive number.");
+		if (start >= endExclusive)
+			return;
+
+		if (!context.isConcurrent()) {
+			for (int i = start; i < endExclusive; i += step) {
+				consumer.accept(i);
+			}
+		} else {
+			int range = endExclusive - start;
+			int iterations = range/step + ((range%step == 0) ? 0 : 1);
+			submit(context.pool, () -> IntStream.range(0, iterations).parallel().forEach(i -> consumer.accept(start + i*step)));
+		}
+	}
+
+	/**
+	 * Splits the range of values up into blocks and processes each block in a different thread.
+	 *
+	 * @param start starting value, inclusive
+	 * @param endExclusive ending value, exclusive
+	 * @param minBlock Minimum size of a block
+	 * @param consumer The consumer
+	 */
+	public static void loopBlocks( int start, int endExclusive, int minBlock, IntRangeConsumer consumer ) {
+		ConcurrencyContext context = getContext();
+		if (context == null) {
+			ConcurrencyOps.loopBlocks(start, endExclusive, minBlock, consumer);
+			return;
+		}
+		int numBlocks = selectNumberOfBlocks(context, start, endExclusive, minBlock);
+		if (numBlocks == 0)
+			return;
+		if (numBlocks == 1) {
+			consumer.accept(start, endExclusive);
+			return;
+		}
+		submit(context.pool, () -> IntStream.range(0, numBlocks).parallel().forEach(block ->
+				consumer.accept(blockStart(start, endExclusive, numBlocks, block),
+						blockStart(start, endExclusive, numBlocks, block + 1))));
+	}
+
+	/**
+	 * Splits the range of values up into blocks and processes each block in a different thread.
+	 *
+	 * @param start starting value, inclusive
+	 * @param endExclusive ending value, exclusive
+	 * @param consumer The consumer
+	 */
+	public static void loopBlocks( int start, int endExclusive, IntRangeConsumer consumer ) {
+		ConcurrencyContext context = getContext();
+		if (context == null) {
+			ConcurrencyOps.loopBlocks(start, endExclusive, consumer);
+			return;
+		}
+		loopBlocks(start, endExclusive, 1, consumer);
+	}
+
+	/**
+	 * Splits the range of values up into blocks and processes each block in a different thread. Each block
+	 * is given its own element in the workspace. The workspace is reset and grown once for each block.
+	 *
+	 * @param start starting value, inclusive
+	 * @param endExclusive ending value, exclusive
+	 * @param minBlock Minimum size of a block
+	 * @param workspace Workspace for each block
+	 * @param consumer The consumer
+	 */
+	public static <T> void loopBlocks( int start, int endExclusive, int minBlock,
+									   GrowArray<T> workspace, IntRangeObjectConsumer<T> consumer ) {
+		ConcurrencyContext context = getContext();
+		if (context == null) {
+			ConcurrencyOps.loopBlocks(start, endExclusive, minBlock, workspace, consumer);
+			return;
+		}
+		int numBlocks = selectNumberOfBlocks(context, start, endExclusive, minBlock);
+		if (numBlocks == 0)
+			return;
+
+		// The workspace is grown in the calling thread since GrowArray is not thread safe
+		workspace.reset();
+		for (int block = 0; block < numBlocks; block++) {
+			workspace.grow();
+		}
+
+		if (numBlocks == 1) {
+			consumer.accept(workspace.get(0), start, endExclusive);
+			return;
+		}
+		submit(context.pool, () -> IntStream.range(0, numBlocks).parallel().forEach(block ->
+				consumer.accept(workspace.get(block), blockStart(start, endExclusive, numBlocks, block),
+						blockStart(start, endExclusive, numBlocks, block + 1))));
+	}
+
+	/**
+	 * Splits the range of values up into blocks and processes each block in a different thread. Each block
+	 * is given its own element in the workspace.
+	 *
+	 * @param start starting value, inclusive
+	 * @param endExclusive ending value, exclusive
+	 * @param workspace Workspace for each block
+	 * @param consumer The consumer
+	 */
+	public static <T> void loopBlocks( int start, int endExclusive,
+									   GrowArray<T> workspace, IntRangeObjectConsumer<T> consumer ) {
+		ConcurrencyContext context = getContext();
+		if (context == null) {
+			ConcurrencyOps.loopBlocks(start, endExclusive, workspace, consumer);
+			return;
+		}
+		loopBlocks(start, endExclusive, 1, workspace, consumer);
+	}
+
+	/**
+	 * Selects the number of blocks the range will be split into. Zero is returned if the range is empty.
+	 */
+	static int selectNumberOfBlocks( ConcurrencyContext context, int start, int endExclusive, int minBlock ) {
+		int range = endExclusive - start;
+		if (range == 0)
+			return 0;
+		if (range < 0)
+			throw new IllegalArgumentException("end must be more than start. " + start + " -> " + endExclusive);
+		if (!context.isConcurrent())
+			return 1;
+
+		int blockSize = Math.max(Math.max(1, minBlock), range/context.getMaxThreads());
+		return Math.max(1, range/blockSize);
+	}
+
+	/**
+	 * Returns the first index in the block. Blocks are evenly distributed across the range.
+	 */
+	static int blockStart( int start, int endExclusive, int numBlocks, int block ) {
+		return start + (int)((endExclusive - start)*(long)block/numBlocks);
+	}
+
+	/**
+	 * Runs the task inside the pool and blocks until it's finished
+	 */
+	private static void submit( ForkJoinPool pool, Runnable task ) {
+		try {
+			pool.submit(task).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException)e.getCause();
+			throw new RuntimeException(e.getCause());
+		}
+	}
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Closeable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Execution context for concurrent code. Each context has its own thread pool, its own cap on the number of
+ * threads, and its own threshold for what is considered a small image. A context is bound to a pipeline or thread
+ * using {@link BoofConcurrency#runWith} or {@link BoofConcurrency#setThreadContext}. While bound, all calls
+ * to {@link BoofConcurrency#loopFor} and {@link BoofConcurrency#loopBlocks} will run inside of this context's pool
+ * instead of the global one. This allows multiple pipelines in the same JVM to be throttled independently.
+ *
+ * Threads inside a pool created by this context are automatically bound to it, so nested concurrent
+ * calls stay inside the same pool.
+ *
+ * @author Peter Abeles
+ */
+public class ConcurrencyContext implements Closeable {
+	/** The thread pool that concurrent code will be run inside of */
+	@Getter final ForkJoinPool pool;
+
+	/** If false then code will run inside the calling thread and single threaded algorithms will be selected */
+	@Getter @Setter boolean useConcurrent;
+
+	/** If an image has fewer pixels than this it will not run a concurrent algorithm */
+	@Getter @Setter int smallImage = 100*100;
+
+	// true if this context created the pool and is responsible for shutting it down
+	final boolean ownsPool;
+
+	/**
+	 * Creates a new context with its own thread pool.
+	 *
+	 * @param maxThreads Maximum number of threads in the pool. &le; 1 means it will not be threaded.
+	 */
+	public ConcurrencyContext( int maxThreads ) {
+		this.pool = new ForkJoinPool(Math.max(1, maxThreads), p -> new Worker(p, this), null, false);
+		this.useConcurrent = maxThreads > 1;
+		this.ownsPool = true;
+	}
+
+	/**
+	 * Creates a context which uses an existing thread pool. The pool will not be shutdown when this context is
+	 * closed. Threads in this pool are not automatically bound to the context.
+	 *
+	 * @param pool The thread pool
+	 */
+	public ConcurrencyContext( ForkJoinPool pool ) {
+		this.pool = pool;
+		this.useConcurrent = pool.getParallelism() > 1;
+		this.ownsPool = false;
+	}
+
+	/**
+	 * Returns the maximum number of threads that will be used
+	 */
+	public int getMaxThreads() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Returns true if concurrent code should be run with this context
+	 */
+	public boolean isConcurrent() {
+		return useConcurrent && pool.getParallelism() > 1;
+	}
+
+	/**
+	 * Shuts down the thread pool if it was created by this context
+	 */
+	@Override
+	public void close() {
+		if (ownsPool)
+			pool.shutdown();
+	}
+
+	/**
+	 * Worker thread which remembers which context it belongs to
+	 */
+	static class Worker extends ForkJoinWorkerThread {
+		final ConcurrencyContext owner;
+
+		protected Worker( ForkJoinPool pool, ConcurrencyContext owner ) {
+			super(pool);
+			this.owner = owner;
+		}
+	}
+}
@@ -21,7 +21,10 @@ package boofcv.misc;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageDimension;
 
-/** Used to look up images as needed for disparity calculation. */
+/**
+ * Used to look up images as needed for disparity calculation. Concurrent algorithms can call it from multiple
+ * threads at once, in which case the implementation must be thread safe.
+ */
 public interface LookUpImages {
 	/**
 	 * Loads the shape for an image
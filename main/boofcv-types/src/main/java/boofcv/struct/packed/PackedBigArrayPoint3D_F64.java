@@ -75,6 +75,29 @@ public class PackedBigArrayPoint3D_F64 implements PackedArray<Point3D_F64> {
 		dog.reserve(numPoints*DOF);
 	}
 
+	/**
+	 * Changes the number of points in the array. New points have undefined values. After resizing, different
+	 * points can be assigned with {@link #set} from different threads.
+	 *
+	 * @param numPoints The new number of points
+	 */
+	public void resize( int numPoints ) {
+		dog.resize(numPoints*DOF);
+		size = numPoints;
+	}
+
+	/**
+	 * Assigns the value of an existing point
+	 */
+	public void set( int index, double x, double y, double z ) {
+		index *= DOF;
+		double[] block = dog.getBlocks().get(index/dog.getBlockSize());
+		int element = index%dog.getBlockSize();
+		block[element] = x;
+		block[element + 1] = y;
+		block[element + 2] = z;
+	}
+
 	public void append( double x, double y, double z ) {
 		dog.add(x);
 		dog.add(y);
@@ -19,6 +19,7 @@
 package boofcv.struct.pyramid;
 
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 
 /**
@@ -108,6 +109,26 @@ public abstract class ImagePyramidBase<T extends ImageBase<T>>
 		}
 	}
 
+	/**
+	 * Returns the layers to the global {@link ImagePool}, if there is one, and discards them. The pyramid will
+	 * need to be initialized again before it's used. Only call this when no other code references the
+	 * layers, e.g. a previous pyramid saved by a tracker, since the pool will give them to someone else.
+	 */
+	@SuppressWarnings("NullAway")
+	public void releaseLayers() {
+		if (layers == null)
+			return;
+
+		// The first layer might be a reference to the input image, which isn't owned by the pyramid
+		boolean firstIsInput = saveOriginalReference && getScale(0) == 1;
+		for (int i = firstIsInput ? 1 : 0; i < layers.length; i++) {
+			ImagePool.releaseGlobal(layers[i]);
+		}
+		layers = null;
+		bottomWidth = 0;
+		bottomHeight = 0;
+	}
+
 	@Override
 	public boolean isInitialized() {
 		return layers != null;
@@ -134,6 +134,9 @@ public class GrayF32 extends GrayF<GrayF32> {
 	public GrayF32 createNew( int imgWidth, int imgHeight ) {
 		if (imgWidth == -1 || imgHeight == -1)
 			return new GrayF32();
+		GrayF32 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new GrayF32(imgWidth, imgHeight);
 	}
 
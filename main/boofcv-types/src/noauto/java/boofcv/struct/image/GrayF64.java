@@ -131,6 +131,9 @@ public class GrayF64 extends GrayF<GrayF64> {
 	public GrayF64 createNew( int imgWidth, int imgHeight ) {
 		if (imgWidth == -1 || imgHeight == -1)
 			return new GrayF64();
+		GrayF64 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new GrayF64(imgWidth, imgHeight);
 	}
 
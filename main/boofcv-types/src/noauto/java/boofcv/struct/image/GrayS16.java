@@ -53,6 +53,9 @@ public class GrayS16 extends GrayI16<GrayS16> {
 	public GrayS16 createNew( int imgWidth, int imgHeight ) {
 		if (imgWidth == -1 || imgHeight == -1)
 			return new GrayS16();
+		GrayS16 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new GrayS16(imgWidth, imgHeight);
 	}
 }
@@ -86,6 +86,9 @@ public class GrayS32 extends GrayI<GrayS32> {
 	public GrayS32 createNew( int imgWidth, int imgHeight ) {
 		if (imgWidth == -1 || imgHeight == -1)
 			return new GrayS32();
+		GrayS32 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new GrayS32(imgWidth, imgHeight);
 	}
 
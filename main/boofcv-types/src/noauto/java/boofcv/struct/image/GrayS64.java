@@ -111,6 +111,9 @@ public class GrayS64 extends ImageGray<GrayS64> {
 	public GrayS64 createNew( int imgWidth, int imgHeight ) {
 		if (imgWidth == -1 || imgHeight == -1)
 			return new GrayS64();
+		GrayS64 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new GrayS64(imgWidth, imgHeight);
 	}
 
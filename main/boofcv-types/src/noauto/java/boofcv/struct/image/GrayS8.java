@@ -53,6 +53,9 @@ public class GrayS8 extends GrayI8<GrayS8> {
 		if (imgWidth == -1 || imgHeight == -1) {
 			return new GrayS8();
 		}
+		GrayS8 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new GrayS8(imgWidth, imgHeight);
 	}
 }
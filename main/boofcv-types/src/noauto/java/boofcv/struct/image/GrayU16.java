@@ -53,6 +53,9 @@ public class GrayU16 extends GrayI16<GrayU16> {
 	public GrayU16 createNew( int imgWidth, int imgHeight ) {
 		if (imgWidth == -1 || imgHeight == -1)
 			return new GrayU16();
+		GrayU16 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new GrayU16(imgWidth, imgHeight);
 	}
 }
@@ -58,6 +58,9 @@ public class GrayU8 extends GrayI8<GrayU8> {
 		if (imgWidth == -1 || imgHeight == -1) {
 			return new GrayU8();
 		}
+		GrayU8 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new GrayU8(imgWidth, imgHeight);
 	}
 }
@@ -197,7 +197,23 @@ public abstract class ImageGray<T extends ImageGray<T>> extends ImageBase<T> {
 		return create(type, width, height);
 	}
 
+	/**
+	 * Creates a new image of the specified type. If there is a global {@link ImagePool} then the image will be
+	 * drawn from it when possible.
+	 */
 	public static <B extends ImageGray<B>> B create( Class<B> type, int width, int height ) {
+		if (ImagePool.getGlobal() != null) {
+			B found = ImagePool.acquireGlobal(ImageType.single(type), width, height);
+			if (found != null)
+				return found;
+		}
+		return declare(type, width, height);
+	}
+
+	/**
+	 * Declares a new image of the specified type without checking the image pool
+	 */
+	static <B extends ImageGray<B>> B declare( Class<B> type, int width, int height ) {
 		if (type == GrayU8.class) {
 			return (B)new GrayU8(width, height);
 		} else if (type == GrayS8.class) {
@@ -214,7 +214,23 @@ public abstract class ImageInterleaved<T extends ImageInterleaved<T>> extends Im
 		return create(type, width, height, numBands);
 	}
 
+	/**
+	 * Creates a new image of the specified type. If there is a global {@link ImagePool} then the image will be
+	 * drawn from it when possible.
+	 */
 	public static <B extends ImageInterleaved<B>> B create( Class<B> type, int width, int height, int numBands ) {
+		if (ImagePool.getGlobal() != null) {
+			B found = ImagePool.acquireGlobal(ImageType.il(numBands, type), width, height);
+			if (found != null)
+				return found;
+		}
+		return declare(type, width, height, numBands);
+	}
+
+	/**
+	 * Declares a new image of the specified type without checking the image pool
+	 */
+	static <B extends ImageInterleaved<B>> B declare( Class<B> type, int width, int height, int numBands ) {
 		if (type == InterleavedU8.class) {
 			return (B)new InterleavedU8(width, height, numBands);
 		} else if (type == InterleavedS8.class) {
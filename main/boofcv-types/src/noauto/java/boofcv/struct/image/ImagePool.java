@@ -0,0 +1,447 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Pool of images which are no longer in use and can be recycled. Images are looked up by their {@link ImageType}
+ * and shape. When the total amount of memory stored in the pool exceeds its budget, the least recently returned
+ * images are discarded. Hit and miss statistics are kept so that allocation pressure can be monitored.
+ * </p>
+ *
+ * <p>
+ * A pool can be used directly through {@link #acquire} and {@link #release}. If a pool is assigned to
+ * {@link #setGlobal global} then {@link ImageBase#createNew}, {@link ImageType#createImage},
+ * {@link ImageGray#create}, {@link ImageInterleaved#create}, and all the code which calls them, such as
+ * {@link boofcv.core.image.GeneralizedImageOps#createImage}, will first attempt to draw an image from it.
+ * By default there is no global pool and images are always allocated. Images drawn from the pool have
+ * all their pixels set to zero, just like a newly declared image.
+ * </p>
+ *
+ * <p>
+ * It's up to the user to ensure that an image is no longer referenced when it's returned to the pool. This
+ * class is thread safe.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImagePool {
+	/** The pool used by image constructors. If null then the pool is not used. */
+	private static volatile @Nullable ImagePool global = null;
+
+	/** Maximum number of bytes worth of images which can be stored in the pool */
+	@Getter final long maxBytes;
+
+	// Number of times an image was requested and a stored image was returned
+	long hits;
+	// Number of times an image was requested and a new image needed to be declared
+	long misses;
+	// Number of images which have been discarded to stay inside the budget
+	long evictions;
+	// Number of bytes used by images currently in the pool
+	long storedBytes;
+
+	// Images which are available, grouped by shape. Oldest first.
+	final Map<Key, ArrayDeque<Entry>> available = new HashMap<>();
+	// Every available image in the order they were returned. Used to find which image to evict
+	final LinkedHashSet<Entry> leastRecent = new LinkedHashSet<>();
+	// Used to look up images without declaring new memory
+	final Key workKey = new Key();
+
+	/**
+	 * Creates a new pool
+	 *
+	 * @param maxBytes Maximum number of bytes of image data which can be stored in the pool.
+	 */
+	public ImagePool( long maxBytes ) {
+		if (maxBytes < 0)
+			throw new IllegalArgumentException("maxBytes can't be negative");
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Returns the global pool or null if there is none
+	 */
+	public static @Nullable ImagePool getGlobal() {
+		return global;
+	}
+
+	/**
+	 * Specifies the pool which is used when images are created. Set to null to disable pooling.
+	 */
+	public static void setGlobal( @Nullable ImagePool pool ) {
+		global = pool;
+	}
+
+	/**
+	 * Attempts to draw an image from the global pool. If there is no global pool or the pool doesn't have a
+	 * matching image then null is returned.
+	 */
+	public static <T extends ImageBase<T>> @Nullable T acquireGlobal( ImageType<T> type, int width, int height ) {
+		ImagePool pool = global;
+		if (pool == null)
+			return null;
+		return pool.acquireOrNull(type, width, height);
+	}
+
+	/**
+	 * Returns the image to the global pool. If there is no global pool then nothing happens.
+	 */
+	public static void releaseGlobal( @Nullable ImageBase<?> image ) {
+		ImagePool pool = global;
+		if (pool != null && image != null)
+			pool.release(image);
+	}
+
+	/**
+	 * Changes the shape of an image which is owned by the caller, e.g. an internal work space. If there's a global
+	 * pool and the image's data is too small for the new shape, then the image is given to the pool and a
+	 * replacement is drawn from the pool, or declared if none is available. Otherwise the image is reshaped, so
+	 * this never declares more memory than {@link ImageBase#reshape} would. Pixel values are undefined afterwards.
+	 *
+	 * @param image Image owned by the caller. Nothing else can reference it since it might be recycled.
+	 * @param width New image width
+	 * @param height New image height
+	 * @return Image with the requested shape. Might not be the same instance which was passed in.
+	 */
+	public static <T extends ImageBase<T>> T reshapeGlobal( T image, int width, int height ) {
+		if (image.width == width && image.height == height)
+			return image;
+
+		if (image instanceof Planar) {
+			Planar planar = (Planar)image;
+			reshapeGlobal(planar, width, height, planar.getNumBands());
+			return image;
+		}
+
+		ImagePool pool = global;
+		if (pool == null || image.isSubimage() || isLargeEnough(image, width, height)) {
+			image.reshape(width, height);
+			return image;
+		}
+
+		pool.release(image);
+		return image.createNew(width, height);
+	}
+
+	/**
+	 * Changes the shape and number of bands in a planar image which is owned by the caller. Bands which are too
+	 * small or no longer needed are given to the global pool and replaced with bands from the pool. See
+	 * {@link #reshapeGlobal(ImageBase, int, int)}.
+	 *
+	 * @param image Image owned by the caller. Nothing else can reference its bands since they might be recycled.
+	 * @param width New image width
+	 * @param height New image height
+	 * @param numBands New number of bands
+	 */
+	public static <T extends ImageGray<T>> void reshapeGlobal( Planar<T> image, int width, int height, int numBands ) {
+		ImagePool pool = global;
+		if (pool != null && !image.isSubimage()) {
+			// Bands which will be discarded by reshape
+			for (int i = numBands; i < image.bands.length; i++) {
+				pool.release(image.bands[i]);
+			}
+			// Replace bands which would need to declare a larger array
+			int N = Math.min(numBands, image.bands.length);
+			for (int i = 0; i < N; i++) {
+				image.bands[i] = reshapeGlobal(image.bands[i], width, height);
+			}
+		}
+		// Any new bands are drawn from the pool by the planar image
+		image.reshape(width, height, numBands);
+	}
+
+	/**
+	 * Returns an image with the specified type and shape. If one is available in the pool it will be returned,
+	 * otherwise a new image is declared.
+	 *
+	 * @param type Type of image
+	 * @param width Image width
+	 * @param height Image height
+	 * @return An image with every pixel set to zero
+	 */
+	public <T extends ImageBase<T>> T acquire( ImageType<T> type, int width, int height ) {
+		if (type.getFamily() == ImageType.Family.PLANAR)
+			return (T)createPlanar(type, width, height);
+
+		T image = acquireOrNull(type, width, height);
+		if (image != null)
+			return image;
+
+		if (type.getFamily() == ImageType.Family.GRAY)
+			return (T)ImageGray.declare(type.getImageClass(), width, height);
+		else
+			return (T)ImageInterleaved.declare(type.getImageClass(), width, height, type.getNumBands());
+	}
+
+	/**
+	 * Returns an image from the pool if one which matches is available or null if there is none. A request
+	 * which returns null is counted as a miss. Planar images are stored as individual bands, so if any of the
+	 * bands are available a planar image is returned and bands which are not available are declared.
+	 */
+	public synchronized <T extends ImageBase<T>> @Nullable T acquireOrNull( ImageType<T> type, int width, int height ) {
+		if (type.getFamily() == ImageType.Family.PLANAR) {
+			workKey.setTo(ImageType.Family.GRAY, type.getDataType(), 1, width, height);
+			ArrayDeque<Entry> list = available.get(workKey);
+			if (list != null && !list.isEmpty())
+				return (T)createPlanar(type, width, height);
+			misses += type.getNumBands();
+			return null;
+		}
+
+		workKey.setTo(type.getFamily(), type.getDataType(), type.getNumBands(), width, height);
+		ArrayDeque<Entry> list = available.get(workKey);
+		if (list == null || list.isEmpty()) {
+			misses++;
+			return null;
+		}
+		// Most recently returned image is the most likely to still be in the CPU cache
+		Entry entry = list.removeLast();
+		if (list.isEmpty())
+			available.remove(entry.key);
+		leastRecent.remove(entry);
+		storedBytes -= entry.bytes;
+		hits++;
+
+		T image = (T)entry.image;
+		zero(image);
+		return image;
+	}
+
+	/**
+	 * Creates a planar image where each band is drawn from the pool if possible
+	 */
+	private synchronized Planar createPlanar( ImageType<?> type, int width, int height ) {
+		Class bandClass = ImageType.getImageClass(ImageType.Family.GRAY, type.getDataType());
+		ImageType bandType = ImageType.single(bandClass);
+		var planar = new Planar(bandClass, type.getNumBands());
+		planar.width = width;
+		planar.height = height;
+		planar.stride = width;
+		for (int i = 0; i < type.getNumBands(); i++) {
+			ImageGray band = (ImageGray)acquireOrNull(bandType, width, height);
+			planar.bands[i] = band != null ? band : ImageGray.declare(bandClass, width, height);
+		}
+		return planar;
+	}
+
+	/**
+	 * Gives the image to the pool so that it can be recycled. Sub-images are ignored since they don't own
+	 * their data. Planar images are stored as individual bands. If the image by itself exceeds the budget
+	 * it's discarded.
+	 *
+	 * @param image Image which is no longer being used
+	 */
+	public synchronized void release( ImageBase<?> image ) {
+		if (image.isSubimage() || image.width <= 0 || image.height <= 0)
+			return;
+
+		if (image instanceof Planar) {
+			for (ImageGray<?> band : ((Planar<?>)image).bands) {
+				release(band);
+			}
+			return;
+		}
+
+		var entry = new Entry(image, new Key(), computeBytes(image));
+		entry.key.setTo(image.getImageType().getFamily(), image.getImageType().getDataType(),
+				image.getImageType().getNumBands(), image.width, image.height);
+
+		if (entry.bytes > maxBytes) {
+			evictions++;
+			return;
+		}
+
+		available.computeIfAbsent(entry.key, k -> new ArrayDeque<>()).add(entry);
+		leastRecent.add(entry);
+		storedBytes += entry.bytes;
+
+		// Discard the least recently returned images until it's inside the budget
+		Iterator<Entry> iter = leastRecent.iterator();
+		while (storedBytes > maxBytes) {
+			Entry oldest = iter.next();
+			iter.remove();
+			// Images with the same shape are ordered the same way, so the oldest is at the front
+			ArrayDeque<Entry> list = available.get(oldest.key);
+			list.removeFirst();
+			if (list.isEmpty())
+				available.remove(oldest.key);
+			storedBytes -= oldest.bytes;
+			evictions++;
+		}
+	}
+
+	/**
+	 * Discards all images in the pool. Statistics are not modified.
+	 */
+	public synchronized void clear() {
+		available.clear();
+		leastRecent.clear();
+		storedBytes = 0;
+	}
+
+	/**
+	 * Resets hit, miss, and eviction counters back to zero
+	 */
+	public synchronized void resetStatistics() {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	/** Number of times an image was requested and a stored image was returned */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/** Number of times an image was requested and a new image needed to be declared */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/** Number of images which have been discarded to stay inside the budget */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/** Number of bytes used by images currently in the pool */
+	public synchronized long getStoredBytes() {
+		return storedBytes;
+	}
+
+	/**
+	 * Number of images currently stored in the pool
+	 */
+	public synchronized int size() {
+		return leastRecent.size();
+	}
+
+	/**
+	 * Fraction of requests which were filled by an image in the pool. 0 if there have been no requests.
+	 */
+	public synchronized double getHitRatio() {
+		long total = hits + misses;
+		return total == 0 ? 0.0 : hits/(double)total;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "ImagePool{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions +
+				", size=" + leastRecent.size() + ", storedBytes=" + storedBytes + ", maxBytes=" + maxBytes + "}";
+	}
+
+	/**
+	 * True if the image's data array can store an image with the specified shape
+	 */
+	static boolean isLargeEnough( ImageBase<?> image, int width, int height ) {
+		Object data = image instanceof ImageGray ? ((ImageGray<?>)image)._getData() :
+				((ImageInterleaved<?>)image)._getData();
+		int numBands = image instanceof ImageInterleaved ? ((ImageInterleaved<?>)image).numBands : 1;
+		return Array.getLength(data) >= (long)width*height*numBands;
+	}
+
+	static long computeBytes( ImageBase<?> image ) {
+		Object data = image instanceof ImageGray ? ((ImageGray<?>)image)._getData() :
+				((ImageInterleaved<?>)image)._getData();
+		int bits = image.getImageType().getDataType().getNumBits();
+		return (long)Array.getLength(data)*Math.max(8, bits)/8;
+	}
+
+	/**
+	 * Sets every element in the image's data array to zero
+	 */
+	static void zero( ImageBase<?> image ) {
+		Object data = image instanceof ImageGray ? ((ImageGray<?>)image)._getData() :
+				((ImageInterleaved<?>)image)._getData();
+		if (data instanceof byte[])
+			Arrays.fill((byte[])data, (byte)0);
+		else if (data instanceof short[])
+			Arrays.fill((short[])data, (short)0);
+		else if (data instanceof int[])
+			Arrays.fill((int[])data, 0);
+		else if (data instanceof long[])
+			Arrays.fill((long[])data, 0L);
+		else if (data instanceof float[])
+			Arrays.fill((float[])data, 0.0f);
+		else if (data instanceof double[])
+			Arrays.fill((double[])data, 0.0);
+		else
+			throw new IllegalArgumentException("Unknown data type " + data.getClass().getSimpleName());
+	}
+
+	/**
+	 * Describes the type and shape of an image
+	 */
+	static class Key {
+		ImageType.Family family;
+		ImageDataType dataType;
+		int numBands;
+		int width, height;
+
+		void setTo( ImageType.Family family, ImageDataType dataType, int numBands, int width, int height ) {
+			this.family = family;
+			this.dataType = dataType;
+			// The number of bands is ignored for gray images
+			this.numBands = family == ImageType.Family.GRAY ? 1 : numBands;
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public boolean equals( Object o ) {
+			if (!(o instanceof Key))
+				return false;
+			Key k = (Key)o;
+			return family == k.family && dataType == k.dataType && numBands == k.numBands &&
+					width == k.width && height == k.height;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(family, dataType, numBands, width, height);
+		}
+	}
+
+	/**
+	 * Image which is stored in the pool. Identity is used for equality.
+	 */
+	static class Entry {
+		final ImageBase<?> image;
+		final Key key;
+		final long bytes;
+
+		Entry( ImageBase<?> image, Key key, long bytes ) {
+			this.image = image;
+			this.key = key;
+			this.bytes = bytes;
+		}
+	}
+}
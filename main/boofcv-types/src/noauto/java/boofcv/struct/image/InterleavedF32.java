@@ -177,6 +177,9 @@ public class InterleavedF32 extends ImageInterleaved<InterleavedF32> {
 	public InterleavedF32 createNew( int imgWidth, int imgHeight ) {
 		if (imgWidth == -1 || imgHeight == -1)
 			return new InterleavedF32();
+		InterleavedF32 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new InterleavedF32(imgWidth, imgHeight, numBands);
 	}
 
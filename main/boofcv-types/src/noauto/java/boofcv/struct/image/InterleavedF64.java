@@ -171,6 +171,9 @@ public class InterleavedF64 extends ImageInterleaved<InterleavedF64> {
 	public InterleavedF64 createNew( int imgWidth, int imgHeight ) {
 		if (imgWidth == -1 || imgHeight == -1)
 			return new InterleavedF64();
+		InterleavedF64 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new InterleavedF64(imgWidth, imgHeight, numBands);
 	}
 }
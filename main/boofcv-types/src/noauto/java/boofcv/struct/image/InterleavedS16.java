@@ -75,6 +75,9 @@ public class InterleavedS16 extends InterleavedI16<InterleavedS16> {
 	public InterleavedS16 createNew( int imgWidth, int imgHeight ) {
 		if (imgWidth == -1 || imgHeight == -1)
 			return new InterleavedS16();
+		InterleavedS16 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new InterleavedS16(imgWidth, imgHeight, numBands);
 	}
 }
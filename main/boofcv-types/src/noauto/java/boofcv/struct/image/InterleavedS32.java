@@ -145,6 +145,9 @@ public class InterleavedS32 extends InterleavedInteger<InterleavedS32> {
 	public InterleavedS32 createNew( int imgWidth, int imgHeight ) {
 		if (imgWidth == -1 || imgHeight == -1)
 			return new InterleavedS32();
+		InterleavedS32 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new InterleavedS32(imgWidth, imgHeight, numBands);
 	}
 }
@@ -171,6 +171,9 @@ public class InterleavedS64 extends ImageInterleaved<InterleavedS64> {
 	public InterleavedS64 createNew( int imgWidth, int imgHeight ) {
 		if (imgWidth == -1 || imgHeight == -1)
 			return new InterleavedS64();
+		InterleavedS64 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new InterleavedS64(imgWidth, imgHeight, numBands);
 	}
 }
@@ -75,6 +75,9 @@ public class InterleavedS8 extends InterleavedI8<InterleavedS8> {
 	public InterleavedS8 createNew( int imgWidth, int imgHeight ) {
 		if (imgWidth == -1 || imgHeight == -1)
 			return new InterleavedS8();
+		InterleavedS8 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new InterleavedS8(imgWidth, imgHeight, numBands);
 	}
 }
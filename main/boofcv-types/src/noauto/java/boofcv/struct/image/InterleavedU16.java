@@ -75,6 +75,9 @@ public class InterleavedU16 extends InterleavedI16<InterleavedU16> {
 	public InterleavedU16 createNew( int imgWidth, int imgHeight ) {
 		if (imgWidth == -1 || imgHeight == -1)
 			return new InterleavedU16();
+		InterleavedU16 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new InterleavedU16(imgWidth, imgHeight, numBands);
 	}
 }
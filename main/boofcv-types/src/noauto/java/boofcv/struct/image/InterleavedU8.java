@@ -114,6 +114,9 @@ public class InterleavedU8 extends InterleavedI8<InterleavedU8> {
 	public InterleavedU8 createNew( int imgWidth, int imgHeight ) {
 		if (imgWidth == -1 || imgHeight == -1)
 			return new InterleavedU8();
+		InterleavedU8 found = ImagePool.acquireGlobal(getImageType(), imgWidth, imgHeight);
+		if (found != null)
+			return found;
 		return new InterleavedU8(imgWidth, imgHeight, numBands);
 	}
 }
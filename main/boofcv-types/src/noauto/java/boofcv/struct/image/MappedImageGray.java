@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>
+ * Gray scale image which stores its pixels outside of the Java heap, either in direct memory or in a memory mapped
+ * file. This allows images which are much larger than the heap, or which have more than 2<sup>31</sup> pixels,
+ * to be processed without putting pressure on the garbage collector. Pixels are stored row by row in a sequence of
+ * {@link ByteBuffer} chunks, where each chunk contains a whole number of rows.
+ * </p>
+ *
+ * <p>
+ * Algorithms in BoofCV operate on heap images. To process a mapped image, regions are copied into a regular image
+ * with {@link #read} and written back with {@link #write}. See boofcv.alg.misc.MappedImageOps for functions which
+ * do this automatically in blocks.
+ * </p>
+ *
+ * <p>
+ * Sub-images can be created with {@link #subimage}. Just like with heap images, sub-images share the same storage
+ * as the original image.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MappedImageGray<T extends ImageGray<T>> {
+	/** Number of columns in the image. */
+	public @Getter final int width;
+	/** Number of rows in the image. */
+	public @Getter final int height;
+
+	/** Type of heap image that is equivalent to this image */
+	@Getter final Class<T> imageType;
+	/** Data type of each pixel */
+	@Getter final ImageDataType dataType;
+	/** Byte order pixels are stored in */
+	@Getter final ByteOrder order;
+
+	/** Indicates if it is a sub-image or not */
+	public boolean subImage = false;
+
+	// Storage for the pixels. Shared with sub-images
+	final ByteBuffer[] chunks;
+	// Number of rows in each chunk
+	final int rowsPerChunk;
+	// Number of pixels between the start of each row
+	final int stride;
+	// Number of bytes in a single pixel
+	final int pixelBytes;
+	// Location of this image's top left corner in the storage
+	final int offsetX, offsetY;
+
+	MappedImageGray( Class<T> imageType, ByteOrder order, ByteBuffer[] chunks, int rowsPerChunk, int stride,
+					 int offsetX, int offsetY, int width, int height ) {
+		this.imageType = imageType;
+		this.dataType = ImageDataType.classToType(imageType);
+		if (dataType.isAbstract())
+			throw new IllegalArgumentException("Image type must be concrete. " + imageType.getSimpleName());
+		this.pixelBytes = dataType.getNumBits()/8;
+		this.order = order;
+		this.chunks = chunks;
+		this.rowsPerChunk = rowsPerChunk;
+		this.stride = stride;
+		this.offsetX = offsetX;
+		this.offsetY = offsetY;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Creates an image which is stored in direct memory, outside of the Java heap.
+	 *
+	 * @param width Image width
+	 * @param height Image height
+	 * @param imageType Type of gray scale image
+	 */
+	public static <T extends ImageGray<T>> MappedImageGray<T>
+	allocate( int width, int height, Class<T> imageType ) {
+		int rowBytes = rowBytes(width, imageType);
+		int rowsPerChunk = rowsPerChunk(rowBytes, height);
+		var chunks = new ByteBuffer[numChunks(height, rowsPerChunk)];
+		for (int i = 0; i < chunks.length; i++) {
+			int rows = Math.min(rowsPerChunk, height - i*rowsPerChunk);
+			chunks[i] = ByteBuffer.allocateDirect(rows*rowBytes).order(ByteOrder.nativeOrder());
+		}
+		return new MappedImageGray<>(imageType, ByteOrder.nativeOrder(), chunks, rowsPerChunk, width, 0, 0, width, height);
+	}
+
+	/**
+	 * Memory maps a raw image stored in a file. Pixels are assumed to be stored row by row without any padding.
+	 * If the file is opened as writable and is too small, then it will be enlarged.
+	 *
+	 * @param file The file which contains the image
+	 * @param writable If true then changes to the image will be written to the file
+	 * @param offset Location in bytes of the first pixel in the file
+	 * @param width Image width
+	 * @param height Image height
+	 * @param imageType Type of gray scale image
+	 * @param order Byte order of pixels in the file
+	 */
+	public static <T extends ImageGray<T>> MappedImageGray<T>
+	map( Path file, boolean writable, long offset, int width, int height, Class<T> imageType, ByteOrder order ) {
+		var options = writable ?
+				new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE} :
+				new StandardOpenOption[]{StandardOpenOption.READ};
+
+		// The mapping remains valid after the channel has been closed
+		try (FileChannel channel = FileChannel.open(file, options)) {
+			return map(channel, writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+					offset, width, height, imageType, order);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Memory maps a raw image from a file channel. See {@link #map(Path, boolean, long, int, int, Class, ByteOrder)}.
+	 */
+	public static <T extends ImageGray<T>> MappedImageGray<T>
+	map( FileChannel channel, FileChannel.MapMode mode, long offset,
+		 int width, int height, Class<T> imageType, ByteOrder order ) throws IOException {
+		int rowBytes = rowBytes(width, imageType);
+		int rowsPerChunk = rowsPerChunk(rowBytes, height);
+		var chunks = new ByteBuffer[numChunks(height, rowsPerChunk)];
+		for (int i = 0; i < chunks.length; i++) {
+			int rows = Math.min(rowsPerChunk, height - i*rowsPerChunk);
+			long location = offset + (long)i*rowsPerChunk*rowBytes;
+			chunks[i] = channel.map(mode, location, (long)rows*rowBytes).order(order);
+		}
+		return new MappedImageGray<>(imageType, order, chunks, rowsPerChunk, width, 0, 0, width, height);
+	}
+
+	/**
+	 * Creates a sub-image which shares the same storage as this image.
+	 *
+	 * @param x0 x-coordinate of top-left corner of the sub-image, inclusive.
+	 * @param y0 y-coordinate of top-left corner of the sub-image, inclusive.
+	 * @param x1 x-coordinate of bottom-right corner of the sub-image, exclusive.
+	 * @param y1 y-coordinate of bottom-right corner of the sub-image, exclusive.
+	 * @return A sub-image of 'this' image.
+	 */
+	public MappedImageGray<T> subimage( int x0, int y0, int x1, int y1 ) {
+		if (x0 < 0 || y0 < 0)
+			throw new IllegalArgumentException("x0 or y0 is less than zero");
+		if (x1 < x0 || y1 < y0)
+			throw new IllegalArgumentException("x1 or y1 is less than x0 or y0 respectively");
+		if (x1 > width || y1 > height)
+			throw new IllegalArgumentException("x1 or y1 is more than the width or height respectively");
+
+		var sub = new MappedImageGray<>(imageType, order, chunks, rowsPerChunk, stride,
+				offsetX + x0, offsetY + y0, x1 - x0, y1 - y0);
+		sub.subImage = true;
+		return sub;
+	}
+
+	/**
+	 * Returns true if both images are stored in the same memory. E.g. one is a sub-image of the other.
+	 */
+	public boolean isSameStorage( MappedImageGray<?> image ) {
+		return chunks == image.chunks;
+	}
+
+	/**
+	 * Creates a heap image with the same type as this image
+	 */
+	public T createHeapImage( int width, int height ) {
+		return ImageGray.create(imageType, width, height);
+	}
+
+	/**
+	 * Returns true if the pixel coordinate is inside the image
+	 */
+	public boolean isInBounds( int x, int y ) {
+		return x >= 0 && x < width && y >= 0 && y < height;
+	}
+
+	/**
+	 * Returns the value of the specified pixel. Unsigned integer types are converted into positive numbers.
+	 */
+	public double get( int x, int y ) {
+		checkInBounds(x, y);
+		ByteBuffer chunk = chunk(y);
+		int index = index(x, y);
+		return switch (dataType) {
+			case U8 -> chunk.get(index) & 0xFF;
+			case S8 -> chunk.get(index);
+			case U16 -> chunk.getShort(index) & 0xFFFF;
+			case S16 -> chunk.getShort(index);
+			case S32 -> chunk.getInt(index);
+			case S64 -> chunk.getLong(index);
+			case F32 -> chunk.getFloat(index);
+			case F64 -> chunk.getDouble(index);
+			default -> throw new IllegalArgumentException("Unsupported data type " + dataType);
+		};
+	}
+
+	/**
+	 * Sets the value of the specified pixel. Integer types are truncated.
+	 */
+	public void set( int x, int y, double value ) {
+		checkInBounds(x, y);
+		ByteBuffer chunk = chunk(y);
+		int index = index(x, y);
+		switch (dataType) {
+			case U8, S8 -> chunk.put(index, (byte)value);
+			case U16, S16 -> chunk.putShort(index, (short)value);
+			case S32 -> chunk.putInt(index, (int)value);
+			case S64 -> chunk.putLong(index, (long)value);
+			case F32 -> chunk.putFloat(index, (float)value);
+			case F64 -> chunk.putDouble(index, value);
+			default -> throw new IllegalArgumentException("Unsupported data type " + dataType);
+		}
+	}
+
+	/**
+	 * Copies a region of this image into a heap image. The region's top left corner is at (x0,y0) and has the
+	 * same width and height as 'dst'.
+	 *
+	 * @param x0 x-coordinate of the region's top left corner
+	 * @param y0 y-coordinate of the region's top left corner
+	 * @param dst (Output) Heap image the region is written into. Can be a sub-image.
+	 */
+	public void read( int x0, int y0, T dst ) {
+		checkRegion(x0, y0, dst);
+		Object data = dataArray(dst);
+		for (int y = 0; y < dst.height; y++) {
+			ByteBuffer row = row(x0, y0 + y);
+			int index = dst.startIndex + y*dst.stride;
+			switch (dataType) {
+				case U8, S8 -> row.get((byte[])data, index, dst.width);
+				case U16, S16 -> row.asShortBuffer().get((short[])data, index, dst.width);
+				case S32 -> row.asIntBuffer().get((int[])data, index, dst.width);
+				case S64 -> row.asLongBuffer().get((long[])data, index, dst.width);
+				case F32 -> row.asFloatBuffer().get((float[])data, index, dst.width);
+				case F64 -> row.asDoubleBuffer().get((double[])data, index, dst.width);
+				default -> throw new IllegalArgumentException("Unsupported data type " + dataType);
+			}
+		}
+	}
+
+	/**
+	 * Copies a heap image into this image. The region's top left corner is at (x0,y0) and has the same width and
+	 * height as 'src'.
+	 *
+	 * @param x0 x-coordinate of the region's top left corner
+	 * @param y0 y-coordinate of the region's top left corner
+	 * @param src (Input) Heap image which is copied. Can be a sub-image.
+	 */
+	public void write( int x0, int y0, T src ) {
+		checkRegion(x0, y0, src);
+		Object data = dataArray(src);
+		for (int y = 0; y < src.height; y++) {
+			ByteBuffer row = row(x0, y0 + y);
+			int index = src.startIndex + y*src.stride;
+			switch (dataType) {
+				case U8, S8 -> row.put((byte[])data, index, src.width);
+				case U16, S16 -> row.asShortBuffer().put((short[])data, index, src.width);
+				case S32 -> row.asIntBuffer().put((int[])data, index, src.width);
+				case S64 -> row.asLongBuffer().put((long[])data, index, src.width);
+				case F32 -> row.asFloatBuffer().put((float[])data, index, src.width);
+				case F64 -> row.asDoubleBuffer().put((double[])data, index, src.width);
+				default -> throw new IllegalArgumentException("Unsupported data type " + dataType);
+			}
+		}
+	}
+
+	/**
+	 * Returns a view of the storage that starts at the specified pixel. A new view is created each time so that
+	 * different threads can access the image at the same time.
+	 */
+	ByteBuffer row( int x, int y ) {
+		ByteBuffer view = chunk(y).duplicate().order(order);
+		view.position(index(x, y));
+		return view;
+	}
+
+	ByteBuffer chunk( int y ) {
+		return chunks[(offsetY + y)/rowsPerChunk];
+	}
+
+	/** Byte index of the pixel inside its chunk */
+	int index( int x, int y ) {
+		return (((offsetY + y)%rowsPerChunk)*stride + offsetX + x)*pixelBytes;
+	}
+
+	private void checkInBounds( int x, int y ) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds: ( " + x + " , " + y + " )");
+	}
+
+	private void checkRegion( int x0, int y0, ImageGray<?> image ) {
+		if (image.getDataType() != dataType)
+			throw new IllegalArgumentException("Heap image has a different data type. " + image.getDataType());
+		if (x0 < 0 || y0 < 0 || x0 + image.width > width || y0 + image.height > height)
+			throw new IllegalArgumentException("Region is outside of the image");
+	}
+
+	private static Object dataArray( ImageGray<?> image ) {
+		if (image instanceof GrayI8)
+			return ((GrayI8<?>)image).data;
+		else if (image instanceof GrayI16)
+			return ((GrayI16<?>)image).data;
+		else if (image instanceof GrayS32)
+			return ((GrayS32)image).data;
+		else if (image instanceof GrayS64)
+			return ((GrayS64)image).data;
+		else if (image instanceof GrayF32)
+			return ((GrayF32)image).data;
+		else if (image instanceof GrayF64)
+			return ((GrayF64)image).data;
+		throw new IllegalArgumentException("Unknown image type " + image.getClass().getSimpleName());
+	}
+
+	private static int rowBytes( int width, Class<?> imageType ) {
+		long rowBytes = (long)width*ImageDataType.classToType(imageType).getNumBits()/8;
+		if (rowBytes > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Image is too wide");
+		return (int)rowBytes;
+	}
+
+	private static int rowsPerChunk( int rowBytes, int height ) {
+		return Math.max(1, Math.min(height, Integer.MAX_VALUE/Math.max(1, rowBytes)));
+	}
+
+	private static int numChunks( int height, int rowsPerChunk ) {
+		return Math.max(1, (height + rowsPerChunk - 1)/rowsPerChunk);
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Multi-band image where each band is a {@link MappedImageGray}. This is the off heap equivalent of {@link Planar}.
+ *
+ * @author Peter Abeles
+ */
+public class MappedPlanar<T extends ImageGray<T>> {
+	/** Number of columns in the image. */
+	public @Getter final int width;
+	/** Number of rows in the image. */
+	public @Getter final int height;
+
+	/** Type of image in each band */
+	@Getter final Class<T> type;
+
+	/** Storage for each band */
+	public final MappedImageGray<T>[] bands;
+
+	MappedPlanar( Class<T> type, MappedImageGray<T>[] bands, int width, int height ) {
+		this.type = type;
+		this.bands = bands;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Creates an image which is stored in direct memory, outside of the Java heap.
+	 *
+	 * @param width Image width
+	 * @param height Image height
+	 * @param type Type of image in each band
+	 * @param numBands Number of bands
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends ImageGray<T>> MappedPlanar<T>
+	allocate( int width, int height, Class<T> type, int numBands ) {
+		var bands = (MappedImageGray<T>[])new MappedImageGray[numBands];
+		for (int i = 0; i < numBands; i++) {
+			bands[i] = MappedImageGray.allocate(width, height, type);
+		}
+		return new MappedPlanar<>(type, bands, width, height);
+	}
+
+	/**
+	 * Memory maps a raw planar image stored in a file. Each band is stored one after the other and pixels in each
+	 * band are stored row by row without any padding.
+	 *
+	 * @param file The file which contains the image
+	 * @param writable If true then changes to the image will be written to the file
+	 * @param offset Location in bytes of the first pixel in the file
+	 * @param width Image width
+	 * @param height Image height
+	 * @param type Type of image in each band
+	 * @param numBands Number of bands
+	 * @param order Byte order of pixels in the file
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends ImageGray<T>> MappedPlanar<T>
+	map( Path file, boolean writable, long offset, int width, int height, Class<T> type, int numBands, ByteOrder order ) {
+		var options = writable ?
+				new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE} :
+				new StandardOpenOption[]{StandardOpenOption.READ};
+		FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+		long bandBytes = (long)width*height*ImageDataType.classToType(type).getNumBits()/8;
+
+		var bands = (MappedImageGray<T>[])new MappedImageGray[numBands];
+		try (FileChannel channel = FileChannel.open(file, options)) {
+			for (int i = 0; i < numBands; i++) {
+				bands[i] = MappedImageGray.map(channel, mode, offset + i*bandBytes, width, height, type, order);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return new MappedPlanar<>(type, bands, width, height);
+	}
+
+	/**
+	 * Creates a sub-image which shares the same storage as this image.
+	 *
+	 * @see MappedImageGray#subimage
+	 */
+	@SuppressWarnings("unchecked")
+	public MappedPlanar<T> subimage( int x0, int y0, int x1, int y1 ) {
+		var subBands = (MappedImageGray<T>[])new MappedImageGray[bands.length];
+		for (int i = 0; i < bands.length; i++) {
+			subBands[i] = bands[i].subimage(x0, y0, x1, y1);
+		}
+		return new MappedPlanar<>(type, subBands, x1 - x0, y1 - y0);
+	}
+
+	/**
+	 * Returns the specified band
+	 */
+	public MappedImageGray<T> getBand( int band ) {
+		return bands[band];
+	}
+
+	public int getNumBands() {
+		return bands.length;
+	}
+
+	/**
+	 * Creates a heap image with the same type and number of bands as this image
+	 */
+	public Planar<T> createHeapImage( int width, int height ) {
+		return new Planar<>(type, width, height, bands.length);
+	}
+
+	/**
+	 * Copies a region of this image into a heap image. See {@link MappedImageGray#read}.
+	 */
+	public void read( int x0, int y0, Planar<T> dst ) {
+		if (dst.getNumBands() != bands.length)
+			throw new IllegalArgumentException("Number of bands do not match");
+		for (int i = 0; i < bands.length; i++) {
+			bands[i].read(x0, y0, dst.getBand(i));
+		}
+	}
+
+	/**
+	 * Copies a heap image into this image. See {@link MappedImageGray#write}.
+	 */
+	public void write( int x0, int y0, Planar<T> src ) {
+		if (src.getNumBands() != bands.length)
+			throw new IllegalArgumentException("Number of bands do not match");
+		for (int i = 0; i < bands.length; i++) {
+			bands[i].write(x0, y0, src.getBand(i));
+		}
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import boofcv.testing.BoofStandardJUnit;
+import org.ddogleg.struct.DogArray_I32;
+import org.junit.jupiter.api.Test;
+import pabeles.concurrency.GrowArray;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestBoofConcurrency extends BoofStandardJUnit {
+	/**
+	 * Makes sure the context is bound and then released
+	 */
+	@Test
+	void runWith_bindAndRestore() {
+		try (var context = new ConcurrencyContext(3)) {
+			context.setSmallImage(12);
+			assertNull(BoofConcurrency.getContext());
+
+			BoofConcurrency.runWith(context, () -> {
+				assertSame(context, BoofConcurrency.getContext());
+				assertSame(context.getPool(), BoofConcurrency.getThreadPool());
+				assertEquals(12, BoofConcurrency.getSmallImage());
+				assertTrue(BoofConcurrency.isUseConcurrent());
+			});
+
+			assertNull(BoofConcurrency.getContext());
+			assertEquals(BoofConcurrency.SMALL_IMAGE, BoofConcurrency.getSmallImage());
+		}
+	}
+
+	/**
+	 * Nested contexts should restore the outer context
+	 */
+	@Test
+	void runWith_nested() {
+		try (var outer = new ConcurrencyContext(2); var inner = new ConcurrencyContext(1)) {
+			BoofConcurrency.runWith(outer, () -> {
+				BoofConcurrency.runWith(inner, () -> {
+					assertSame(inner, BoofConcurrency.getContext());
+					assertFalse(BoofConcurrency.isUseConcurrent());
+				});
+				assertSame(outer, BoofConcurrency.getContext());
+			});
+		}
+	}
+
+	/**
+	 * All the work should be done inside the context's pool and every index visited once
+	 */
+	@Test
+	void loopFor_insidePool() {
+		try (var context = new ConcurrencyContext(3)) {
+			Set<ConcurrencyContext> seen = Collections.synchronizedSet(new HashSet<>());
+			int[] counts = new int[200];
+			BoofConcurrency.runWith(context, () -> BoofConcurrency.loopFor(0, counts.length, i -> {
+				counts[i]++;
+				seen.add(BoofConcurrency.getContext());
+			}));
+
+			for (int i = 0; i < counts.length; i++) {
+				assertEquals(1, counts[i]);
+			}
+			assertEquals(1, seen.size());
+			assertTrue(seen.contains(context));
+		}
+	}
+
+	@Test
+	void loopFor_step() {
+		try (var context = new ConcurrencyContext(3)) {
+			int[] counts = new int[50];
+			BoofConcurrency.runWith(context, () -> BoofConcurrency.loopFor(1, counts.length, 3, i -> counts[i]++));
+
+			for (int i = 0; i < counts.length; i++) {
+				assertEquals((i - 1)%3 == 0 ? 1 : 0, counts[i]);
+			}
+		}
+	}
+
+	/**
+	 * If concurrency is disabled in the context then the calling thread should do all the work
+	 */
+	@Test
+	void loopFor_disabled() {
+		try (var context = new ConcurrencyContext(4)) {
+			context.setUseConcurrent(false);
+			Thread caller = Thread.currentThread();
+			AtomicInteger total = new AtomicInteger();
+			BoofConcurrency.runWith(context, () -> BoofConcurrency.loopFor(0, 100, i -> {
+				assertSame(caller, Thread.currentThread());
+				total.incrementAndGet();
+			}));
+			assertEquals(100, total.get());
+		}
+	}
+
+	/**
+	 * Blocks should cover the entire range without overlap and respect the minimum size
+	 */
+	@Test
+	void loopBlocks_coverage() {
+		try (var context = new ConcurrencyContext(4)) {
+			int[] counts = new int[103];
+			AtomicInteger numBlocks = new AtomicInteger();
+			BoofConcurrency.runWith(context, () -> BoofConcurrency.loopBlocks(3, counts.length, 10, ( i0, i1 ) -> {
+				assertTrue(i1 - i0 >= 10);
+				numBlocks.incrementAndGet();
+				for (int i = i0; i < i1; i++) {
+					counts[i]++;
+				}
+			}));
+
+			for (int i = 0; i < counts.length; i++) {
+				assertEquals(i < 3 ? 0 : 1, counts[i]);
+			}
+			assertEquals(4, numBlocks.get());
+		}
+	}
+
+	/**
+	 * Each block should be given its own workspace
+	 */
+	@Test
+	void loopBlocks_workspace() {
+		try (var context = new ConcurrencyContext(3)) {
+			var workspace = new GrowArray<>(DogArray_I32::new);
+			BoofConcurrency.runWith(context, () -> BoofConcurrency.loopBlocks(0, 90, workspace, ( work, i0, i1 ) -> {
+				for (int i = i0; i < i1; i++) {
+					work.add(i);
+				}
+			}));
+
+			assertEquals(3, workspace.size());
+			int total = 0;
+			for (int i = 0; i < workspace.size(); i++) {
+				total += workspace.get(i).size;
+			}
+			assertEquals(90, total);
+		}
+	}
+
+	@Test
+	void loopBlocks_emptyRange() {
+		try (var context = new ConcurrencyContext(3)) {
+			BoofConcurrency.runWith(context, () -> BoofConcurrency.loopBlocks(5, 5, ( i0, i1 ) -> fail("Nothing to do")));
+		}
+	}
+
+	/**
+	 * Exceptions thrown inside the pool should be passed to the caller
+	 */
+	@Test
+	void exceptionPropagated() {
+		try (var context = new ConcurrencyContext(2)) {
+			assertThrows(IllegalStateException.class, () -> BoofConcurrency.runWith(context,
+					() -> BoofConcurrency.loopFor(0, 10, i -> {
+						throw new IllegalStateException("bad");
+					})));
+		}
+	}
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImagePool extends BoofStandardJUnit {
+	@Test void acquire_release() {
+		var alg = new ImagePool(10_000);
+
+		GrayF32 a = alg.acquire(ImageType.SB_F32, 10, 20);
+		assertEquals(10, a.width);
+		assertEquals(20, a.height);
+		assertEquals(0, alg.getHits());
+		assertEquals(1, alg.getMisses());
+
+		a.set(2, 3, 5.0f);
+		alg.release(a);
+		assertEquals(1, alg.size());
+		assertEquals(10*20*4, alg.getStoredBytes());
+
+		// Different shape or type should miss
+		assertNotSame(a, alg.acquire(ImageType.SB_F32, 20, 10));
+		assertNotSame(a, alg.acquire(ImageType.SB_U8, 10, 20));
+		assertEquals(3, alg.getMisses());
+
+		// Same shape should be recycled and the pixels zeroed
+		GrayF32 b = alg.acquire(ImageType.SB_F32, 10, 20);
+		assertSame(a, b);
+		assertEquals(0.0f, b.get(2, 3));
+		assertEquals(1, alg.getHits());
+		assertEquals(0, alg.size());
+		assertEquals(0, alg.getStoredBytes());
+	}
+
+	@Test void interleaved_numBands() {
+		var alg = new ImagePool(10_000);
+		var a = new InterleavedU8(10, 12, 3);
+		alg.release(a);
+
+		assertNull(alg.acquireOrNull(ImageType.il(2, InterleavedU8.class), 10, 12));
+		assertSame(a, alg.acquireOrNull(ImageType.il(3, InterleavedU8.class), 10, 12));
+	}
+
+	@Test void planar() {
+		var alg = new ImagePool(10_000);
+		var a = new Planar<>(GrayU8.class, 10, 12, 2);
+		GrayU8 band0 = a.getBand(0);
+		alg.release(a);
+		assertEquals(2, alg.size());
+
+		Planar<GrayU8> b = alg.acquire(ImageType.pl(3, GrayU8.class), 10, 12);
+		assertEquals(3, b.getNumBands());
+		assertEquals(10, b.width);
+		assertEquals(12, b.height);
+		assertEquals(2, alg.getHits());
+		assertEquals(1, alg.getMisses());
+		assertTrue(b.getBand(0) == band0 || b.getBand(1) == band0);
+	}
+
+	@Test void subimagesIgnored() {
+		var alg = new ImagePool(10_000);
+		alg.release(new GrayU8(10, 10).subimage(0, 0, 5, 5));
+		assertEquals(0, alg.size());
+	}
+
+	@Test void evictLeastRecent() {
+		var alg = new ImagePool(3*100);
+
+		var a = new GrayU8(10, 10);
+		var b = new GrayU8(10, 10);
+		var c = new GrayU8(5, 20);
+		var d = new GrayU8(10, 10);
+
+		alg.release(a);
+		alg.release(b);
+		alg.release(c);
+		assertEquals(0, alg.getEvictions());
+		alg.release(d);
+		assertEquals(1, alg.getEvictions());
+		assertEquals(3, alg.size());
+		assertEquals(300, alg.getStoredBytes());
+
+		// 'a' was the oldest and should have been discarded. Most recent is returned first
+		assertSame(d, alg.acquire(ImageType.SB_U8, 10, 10));
+		assertSame(b, alg.acquire(ImageType.SB_U8, 10, 10));
+		assertNotSame(a, alg.acquire(ImageType.SB_U8, 10, 10));
+		assertSame(c, alg.acquire(ImageType.SB_U8, 5, 20));
+
+		// An image which is too large by itself is not stored
+		alg.release(new GrayU8(20, 20));
+		assertEquals(0, alg.size());
+		assertEquals(2, alg.getEvictions());
+	}
+
+	@Test void global() {
+		var alg = new ImagePool(10_000);
+		try {
+			ImagePool.setGlobal(alg);
+
+			var a = new GrayS16(4, 5);
+			ImagePool.releaseGlobal(a);
+			assertSame(a, a.createNew(4, 5));
+			ImagePool.releaseGlobal(a);
+			assertSame(a, ImageGray.create(GrayS16.class, 4, 5));
+			ImagePool.releaseGlobal(a);
+			assertSame(a, ImageType.SB_S16.createImage(4, 5));
+
+			var b = new InterleavedF64(4, 5, 2);
+			ImagePool.releaseGlobal(b);
+			assertSame(b, b.createSameShape());
+
+			assertEquals(4, alg.getHits());
+			assertEquals(0, alg.getMisses());
+
+			// Planar images are constructed from pooled bands
+			ImagePool.releaseGlobal(a);
+			Planar<GrayS16> c = new Planar<>(GrayS16.class, 4, 5, 2);
+			assertSame(a, c.getBand(0));
+			assertEquals(1, alg.getMisses());
+		} finally {
+			ImagePool.setGlobal(null);
+		}
+
+		// Should have no effect when there is no global pool
+		var a = new GrayU8(3, 3);
+		ImagePool.releaseGlobal(a);
+		assertNotSame(a, a.createNew(3, 3));
+	}
+
+	@Test void reshapeGlobal() {
+		// No global pool so it should behave like reshape
+		var a = new GrayU8(10, 12);
+		assertSame(a, ImagePool.reshapeGlobal(a, 20, 30));
+		assertEquals(20, a.width);
+		assertEquals(30, a.height);
+
+		var alg = new ImagePool(10_000);
+		try {
+			ImagePool.setGlobal(alg);
+
+			// It can shrink without declaring new memory so nothing should change
+			assertSame(a, ImagePool.reshapeGlobal(a, 5, 6));
+			assertEquals(5, a.width);
+			assertEquals(6, a.height);
+			assertEquals(0, alg.size());
+			assertEquals(0, alg.getMisses());
+
+			// Too large. It should be given to the pool and replaced
+			GrayU8 b = ImagePool.reshapeGlobal(a, 40, 30);
+			assertNotSame(a, b);
+			assertEquals(40, b.width);
+			assertEquals(30, b.height);
+			assertEquals(1, alg.size());
+			assertEquals(1, alg.getMisses());
+
+			// The old image should now be recycled
+			assertSame(a, ImageGray.create(GrayU8.class, 5, 6));
+			assertEquals(1, alg.getHits());
+		} finally {
+			ImagePool.setGlobal(null);
+		}
+	}
+
+	@Test void reshapeGlobal_planar() {
+		var alg = new ImagePool(10_000);
+		try {
+			ImagePool.setGlobal(alg);
+
+			var a = new Planar<>(GrayU8.class, 10, 12, 3);
+			GrayU8 band0 = a.getBand(0);
+			GrayU8 band2 = a.getBand(2);
+
+			// Fewer bands. The extra band should go to the pool
+			ImagePool.reshapeGlobal(a, 10, 12, 2);
+			assertEquals(2, a.getNumBands());
+			assertSame(band0, a.getBand(0));
+			assertEquals(1, alg.size());
+
+			// More bands. The discarded band should be recycled
+			ImagePool.reshapeGlobal(a, 10, 12, 3);
+			assertSame(band2, a.getBand(2));
+			assertEquals(0, alg.size());
+
+			// Larger bands. The old ones should be in the pool
+			ImagePool.reshapeGlobal(a, 20, 12);
+			assertEquals(20, a.width);
+			assertEquals(20, a.getBand(2).width);
+			assertNotSame(band0, a.getBand(0));
+			assertEquals(3, alg.size());
+		} finally {
+			ImagePool.setGlobal(null);
+		}
+	}
+
+	@Test void resetStatistics() {
+		var alg = new ImagePool(10_000);
+		alg.release(new GrayU8(2, 2));
+		alg.acquire(ImageType.SB_U8, 2, 2);
+		alg.acquire(ImageType.SB_U8, 2, 2);
+		assertEquals(0.5, alg.getHitRatio(), 1e-8);
+		alg.resetStatistics();
+		assertEquals(0, alg.getHits());
+		assertEquals(0, alg.getMisses());
+		assertEquals(0.0, alg.getHitRatio());
+	}
+}
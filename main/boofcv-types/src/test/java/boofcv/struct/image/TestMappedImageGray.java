@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2021, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import boofcv.testing.BoofStandardJUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Peter Abeles
+ */
+class TestMappedImageGray extends BoofStandardJUnit {
+	@TempDir Path tempDir;
+
+	/**
+	 * Writes a heap image then reads it back for every supported data type
+	 */
+	@Test void readWrite_allTypes() {
+		Class[] types = {GrayU8.class, GrayS8.class, GrayU16.class, GrayS16.class,
+				GrayS32.class, GrayS64.class, GrayF32.class, GrayF64.class};
+
+		for (Class type : types) {
+			readWrite(type);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends ImageGray<T>> void readWrite( Class<T> type ) {
+		MappedImageGray<T> mapped = MappedImageGray.allocate(30, 25, type);
+		T src = ImageGray.create(type, 12, 7);
+		fillRandom(src);
+
+		mapped.write(5, 6, src);
+
+		T found = ImageGray.create(type, 12, 7);
+		mapped.read(5, 6, found);
+		assertImagesEqual(src, found);
+
+		// Check individual pixel access
+		assertEquals(getF(src, 3, 2), mapped.get(5 + 3, 6 + 2), 1e-8);
+		mapped.set(0, 0, 7);
+		assertEquals(7, mapped.get(0, 0), 1e-8);
+	}
+
+	/**
+	 * Read and write using sub-images for both the mapped and heap images
+	 */
+	@Test void subimage() {
+		MappedImageGray<GrayF32> mapped = MappedImageGray.allocate(30, 25, GrayF32.class);
+		MappedImageGray<GrayF32> sub = mapped.subimage(4, 5, 20, 22);
+		assertTrue(sub.subImage);
+		assertFalse(mapped.subImage);
+		assertTrue(sub.isSameStorage(mapped));
+		assertEquals(16, sub.width);
+		assertEquals(17, sub.height);
+
+		GrayF32 src = new GrayF32(20, 20).subimage(2, 3, 12, 13);
+		fillRandom(src);
+		sub.write(1, 2, src);
+
+		// should be visible in the original image
+		assertEquals(src.get(0, 0), mapped.get(5, 7));
+		assertEquals(src.get(9, 9), mapped.get(14, 16));
+
+		GrayF32 found = new GrayF32(10, 10);
+		sub.read(1, 2, found);
+		assertImagesEqual(src, found);
+
+		assertThrows(IllegalArgumentException.class, () -> sub.read(10, 10, new GrayF32(10, 10)));
+		assertThrows(ImageAccessException.class, () -> sub.get(16, 0));
+	}
+
+	/**
+	 * Map a file which was written with a known byte order and see if it's read correctly. Then modify it.
+	 */
+	@Test void map_file() throws IOException {
+		Path file = tempDir.resolve("image.raw");
+		int width = 7, height = 5;
+		long offset = 16;
+
+		ByteBuffer buffer = ByteBuffer.allocate((int)offset + width*height*2).order(ByteOrder.BIG_ENDIAN);
+		for (int i = 0; i < width*height; i++) {
+			buffer.putShort((int)offset + i*2, (short)(i*1000));
+		}
+		Files.write(file, buffer.array());
+
+		MappedImageGray<GrayU16> mapped = MappedImageGray.map(file, true, offset, width, height,
+				GrayU16.class, ByteOrder.BIG_ENDIAN);
+		assertEquals(ByteOrder.BIG_ENDIAN, mapped.getOrder());
+
+		GrayU16 found = new GrayU16(width, height);
+		mapped.read(0, 0, found);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(((y*width + x)*1000) & 0xFFFF, found.get(x, y));
+			}
+		}
+
+		mapped.set(2, 3, 60000);
+
+		// Read it again from a new mapping
+		MappedImageGray<GrayU16> again = MappedImageGray.map(file, false, offset, width, height,
+				GrayU16.class, ByteOrder.BIG_ENDIAN);
+		assertEquals(60000, again.get(2, 3));
+	}
+
+	/**
+	 * Force the image to be split across multiple chunks and make sure rows on the boundary are handled
+	 */
+	@Test void multipleChunks() {
+		var storage = new ByteBuffer[3];
+		int width = 6;
+		for (int i = 0; i < storage.length; i++) {
+			storage[i] = ByteBuffer.allocateDirect(2*width*4).order(ByteOrder.nativeOrder());
+		}
+		var mapped = new MappedImageGray<>(GrayF32.class, ByteOrder.nativeOrder(), storage, 2, width, 0, 0, width, 6);
+
+		var src = new GrayF32(width, 6);
+		fillRandom(src);
+		mapped.write(0, 0, src);
+
+		var found = new GrayF32(width, 4);
+		mapped.read(0, 1, found);
+		assertImagesEqual(src.subimage(0, 1, width, 5), found);
+	}
+
+	private void fillRandom( ImageGray<?> image ) {
+		for (int y = 0; y < image.height; y++) {
+			for (int x = 0; x < image.width; x++) {
+				double value = image.getDataType().isInteger() ?
+						rand.nextInt(100) - (image.getDataType().isSigned() ? 50 : 0) : rand.nextDouble();
+				setF(image, x, y, value);
+			}
+		}
+	}
+
+	private static void setF( ImageGray<?> image, int x, int y, double value ) {
+		if (image instanceof GrayI)
+			((GrayI<?>)image).set(x, y, (int)value);
+		else if (image instanceof GrayS64)
+			((GrayS64)image).set(x, y, (long)value);
+		else if (image instanceof GrayF32)
+			((GrayF32)image).set(x, y, (float)value);
+		else
+			((GrayF64)image).set(x, y, value);
+	}
+
+	private static double getF( ImageGray<?> image, int x, int y ) {
+		if (image instanceof GrayI)
+			return ((GrayI<?>)image).get(x, y);
+		else if (image instanceof GrayS64)
+			return ((GrayS64)image).get(x, y);
+		else if (image instanceof GrayF32)
+			return ((GrayF32)image).get(x, y);
+		else
+			return ((GrayF64)image).get(x, y);
+	}
+
+	private static void assertImagesEqual( ImageGray<?> expected, ImageGray<?> found ) {
+		assertEquals(expected.width, found.width);
+		assertEquals(expected.height, found.height);
+		for (int y = 0; y < expected.height; y++) {
+			for (int x = 0; x < expected.width; x++) {
+				assertEquals(getF(expected, x, y), getF(found, x, y));
+			}
+		}
+	}
+}
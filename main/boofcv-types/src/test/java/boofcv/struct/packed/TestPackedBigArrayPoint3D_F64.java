@@ -22,6 +22,7 @@ import boofcv.struct.PackedArray;
 import georegression.struct.point.Point3D_F64;
 import org.ddogleg.struct.BigDogGrowth;
 import org.ejml.UtilEjml;
+import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -31,6 +32,18 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
  */
 public class TestPackedBigArrayPoint3D_F64 extends GenericPackedArrayChecks<Point3D_F64> {
 
+	@Test void resize_set() {
+		var alg = new PackedBigArrayPoint3D_F64(3, 11, BigDogGrowth.GROW_FIRST);
+		alg.resize(40);
+		assertEquals(40, alg.size());
+		for (int i = 0; i < 40; i++) {
+			alg.set(i, i, i + 1, i + 2);
+		}
+		for (int i = 0; i < 40; i++) {
+			checkEquals(new Point3D_F64(i, i + 1, i + 2), alg.getTemp(i));
+		}
+	}
+
 	@Override protected PackedArray<Point3D_F64> createAlg() {
 		return new PackedBigArrayPoint3D_F64(3, 11, BigDogGrowth.GROW_FIRST);
 	}